@@ -0,0 +1,132 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworkservices.omf.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponseBase;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.OpenMetadataLineageGraph;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * The response structure used on the Open Metadata Framework REST API calls
+ * that returns an OpenMetadataLineageGraph object as a response.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class OpenMetadataLineageGraphResponse extends FFDCResponseBase
+{
+    private OpenMetadataLineageGraph element = null;
+
+    /**
+     * Default constructor
+     */
+    public OpenMetadataLineageGraphResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public OpenMetadataLineageGraphResponse(OpenMetadataLineageGraphResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.element = template.getElement();
+        }
+    }
+
+
+    /**
+     * Return the graph object.
+     *
+     * @return graph object
+     */
+    public OpenMetadataLineageGraph getElement()
+    {
+        return element;
+    }
+
+
+    /**
+     * Set up the graph object.
+     *
+     * @param element - graph object
+     */
+    public void setElement(OpenMetadataLineageGraph element)
+    {
+        this.element = element;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "OpenMetadataLineageGraphResponse{" +
+                "lineageGraph=" + element +
+                "} " + super.toString();
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof OpenMetadataLineageGraphResponse that))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        return Objects.equals(getElement(), that.getElement());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        if (element == null)
+        {
+            return super.hashCode();
+        }
+        else
+        {
+            return element.hashCode();
+        }
+    }
+}
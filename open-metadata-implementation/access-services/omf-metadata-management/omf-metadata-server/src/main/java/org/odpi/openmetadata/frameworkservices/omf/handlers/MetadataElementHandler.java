@@ -16,6 +16,7 @@ import org.odpi.openmetadata.frameworks.openmetadata.search.ElementStatus;
 import org.odpi.openmetadata.frameworks.openmetadata.search.SequencingOrder;
 import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataProperty;
 import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
+import org.odpi.openmetadata.frameworkservices.omf.converters.MetadataElementConverter;
 import org.odpi.openmetadata.frameworkservices.omf.converters.RelatedElementConverter;
 import org.odpi.openmetadata.frameworkservices.omf.converters.OpenMetadataRelationshipConverter;
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
@@ -27,6 +28,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MetadataElementHandler manages MetadataElement objects from the Open Metadata Framework (OMF).
@@ -38,6 +46,14 @@ public class MetadataElementHandler<B> extends ReferenceableHandler<B>
 
     private final OpenMetadataRelationshipConverter<OpenMetadataRelationship> openMetadataRelationshipsConverter;
     private final RelatedElementConverter<RelatedMetadataElement>             relatedElementConverter;
+    private final MetadataElementConverter<OpenMetadataLineageNode>           lineageNodeConverter;
+    private final RelatedElementConverter<OpenMetadataLineageLink>            lineageLinkConverter;
+
+    /*
+     * Lineage traversals that request parallel expansion share this pool.
+     */
+    private static final int                lineageExpansionThreads = 8;
+    private static volatile ExecutorService lineageExpansionPool    = null;
 
     private static final Logger log = LoggerFactory.getLogger(MetadataElementHandler.class);
 
@@ -79,6 +95,8 @@ public class MetadataElementHandler<B> extends ReferenceableHandler<B>
 
         openMetadataRelationshipsConverter = new OpenMetadataRelationshipConverter<>(repositoryHelper, serviceName, serverName);
         relatedElementConverter            = new RelatedElementConverter<>(repositoryHelper, serviceName, serverName);
+        lineageNodeConverter               = new MetadataElementConverter<>(repositoryHelper, serviceName, serverName);
+        lineageLinkConverter               = new RelatedElementConverter<>(repositoryHelper, serviceName, serverName);
     }
 
 
@@ -2690,6 +2708,950 @@ public class MetadataElementHandler<B> extends ReferenceableHandler<B>
     }
 
 
+    /**
+     * Return the elements that are linked to a starting element through lineage relationships.  The graph is
+     * retrieved breadth-first: each level of the traversal is expanded together, so the entities at the other end
+     * of the lineage relationships, and the schema elements anchored to the elements, are retrieved with a small
+     * number of batched queries rather than one query per element.  Upstream elements are only followed upstream and
+     * downstream elements are only followed downstream.  The traversal stops when the graph is complete or when one of
+     * the traversal budgets is used up.  In this case, the graph found so far is returned and flagged as truncated.
+     *
+     * @param userId caller's userId
+     * @param elementGUID unique identifier of the starting element
+     * @param lineageRelationshipTypeNames names of the relationship types to follow (null means all subtypes of LineageRelationship)
+     * @param limitToISCQualifiedName only follow relationships that belong to this information supply chain (null for all)
+     * @param allAnchors also follow the lineage relationships attached to the schema elements anchored to each element
+     * @param maxDepth maximum number of relationships between the starting element and the returned elements (0 for no limit)
+     * @param maxElementCount maximum number of elements to return (0 for no limit)
+     * @param maxTraversalTime time allowed for the traversal in milliseconds (0 for no limit)
+     * @param parallelExpansion expand the elements of each level in parallel
+     * @param limitResultsByStatus By default, relationships in all statuses (other than DELETE) are returned.  However, it is possible
+     *                             to specify a list of statuses (for example ACTIVE) to restrict the results to.  Null means all status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param forLineage the retrieved elements are for lineage processing so include archived elements
+     * @param forDuplicateProcessing the retrieved elements are for duplicate processing so do not combine results from known duplicates.
+     * @param effectiveTime only return an element if it is effective at this time. Null means anytime. Use "new Date()" for now.
+     * @param methodName calling method
+     *
+     * @return lineage graph
+     *
+     * @throws InvalidParameterException the unique identifier is null or not known; a relationship type is invalid
+     * @throws UserNotAuthorizedException the caller is not able to access the starting element
+     * @throws PropertyServerException a problem accessing the metadata store
+     */
+    public OpenMetadataLineageGraph getLineageGraph(String              userId,
+                                                    String              elementGUID,
+                                                    List<String>        lineageRelationshipTypeNames,
+                                                    String              limitToISCQualifiedName,
+                                                    boolean             allAnchors,
+                                                    int                 maxDepth,
+                                                    int                 maxElementCount,
+                                                    long                maxTraversalTime,
+                                                    boolean             parallelExpansion,
+                                                    List<ElementStatus> limitResultsByStatus,
+                                                    Date                asOfTime,
+                                                    boolean             forLineage,
+                                                    boolean             forDuplicateProcessing,
+                                                    Date                effectiveTime,
+                                                    String              methodName) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        final String guidParameterName = "elementGUID";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(elementGUID, guidParameterName, methodName);
+
+        long deadline = Long.MAX_VALUE;
+
+        if (maxTraversalTime > 0)
+        {
+            deadline = System.currentTimeMillis() + maxTraversalTime;
+        }
+
+        LineageTraversalScope scope = this.getLineageTraversalScope(lineageRelationshipTypeNames,
+                                                                    limitToISCQualifiedName,
+                                                                    this.getInstanceStatuses(limitResultsByStatus),
+                                                                    asOfTime,
+                                                                    forLineage,
+                                                                    forDuplicateProcessing,
+                                                                    effectiveTime,
+                                                                    methodName);
+
+        EntityDetail startingEntity = this.getEntityFromRepository(userId,
+                                                                   elementGUID,
+                                                                   guidParameterName,
+                                                                   OpenMetadataType.OPEN_METADATA_ROOT.typeName,
+                                                                   null,
+                                                                   null,
+                                                                   forLineage,
+                                                                   forDuplicateProcessing,
+                                                                   asOfTime,
+                                                                   effectiveTime,
+                                                                   methodName);
+
+        Map<String, OpenMetadataLineageNode> lineageNodes      = new LinkedHashMap<>();
+        Set<String>                          upstreamVisited   = new HashSet<>();
+        Set<String>                          downstreamVisited = new HashSet<>();
+        boolean                              truncated         = false;
+
+        OpenMetadataLineageNode startingNode = lineageNodeConverter.getNewBean(OpenMetadataLineageNode.class, startingEntity, methodName);
+
+        lineageNodes.put(startingEntity.getGUID(), startingNode);
+        upstreamVisited.add(startingEntity.getGUID());
+        downstreamVisited.add(startingEntity.getGUID());
+
+        List<LineageFrontierElement> frontier = new ArrayList<>();
+        int                          depth    = 0;
+
+        frontier.add(new LineageFrontierElement(startingEntity, 0));
+
+        while (! frontier.isEmpty())
+        {
+            if (((maxDepth > 0) && (depth >= maxDepth)) || (System.currentTimeMillis() >= deadline))
+            {
+                truncated = true;
+                break;
+            }
+
+            /*
+             * Retrieve the lineage relationships for each element in this level of the traversal.  A null entry
+             * means the element was not expanded because the time budget ran out.
+             */
+            List<List<LineageTraversalRelationship>> levelRelationships = this.expandLineageFrontier(userId,
+                                                                                                     frontier,
+                                                                                                     allAnchors,
+                                                                                                     parallelExpansion,
+                                                                                                     deadline,
+                                                                                                     scope,
+                                                                                                     methodName);
+
+            /*
+             * Retrieve the entities at the other end of all the relationships found at this level together.
+             */
+            Map<String, EntityDetail> relatedEntities = this.getLineageRelatedEntities(userId, levelRelationships, scope, methodName);
+
+            List<LineageFrontierElement> nextFrontier = new ArrayList<>();
+
+            for (int index = 0; index < frontier.size(); index++)
+            {
+                List<LineageTraversalRelationship> elementRelationships = levelRelationships.get(index);
+
+                if (elementRelationships == null)
+                {
+                    truncated = true;
+                    continue;
+                }
+
+                String                  nodeGUID = frontier.get(index).entity().getGUID();
+                OpenMetadataLineageNode node     = lineageNodes.get(nodeGUID);
+                boolean                 complete = true;
+
+                for (LineageTraversalRelationship lineageRelationship : elementRelationships)
+                {
+                    EntityDetail relatedEntity = relatedEntities.get(lineageRelationship.relatedEntityGUID());
+
+                    if (relatedEntity == null)
+                    {
+                        /*
+                         * Not visible to the caller.
+                         */
+                        continue;
+                    }
+
+                    OpenMetadataLineageLink lineageLink = lineageLinkConverter.getNewBean(OpenMetadataLineageLink.class,
+                                                                                          relatedEntity,
+                                                                                          lineageRelationship.relationship(),
+                                                                                          methodName);
+
+                    if (this.isPartOfLineageNode(nodeGUID, relatedEntity, methodName))
+                    {
+                        /*
+                         * The relationship links two parts of the same element.
+                         */
+                        lineageLink.setLinkedElementGUID(nodeGUID);
+                    }
+                    else
+                    {
+                        String linkedElementGUID = relatedEntity.getGUID();
+
+                        if (! lineageNodes.containsKey(linkedElementGUID))
+                        {
+                            if ((maxElementCount > 0) && (lineageNodes.size() >= maxElementCount))
+                            {
+                                /*
+                                 * The node is left unexpanded so the caller knows some of its links are missing.
+                                 */
+                                truncated = true;
+                                complete  = false;
+                                continue;
+                            }
+
+                            OpenMetadataLineageNode linkedNode = lineageNodeConverter.getNewBean(OpenMetadataLineageNode.class, relatedEntity, methodName);
+
+                            linkedNode.setDepth(depth + 1);
+                            lineageNodes.put(linkedElementGUID, linkedNode);
+                        }
+
+                        lineageLink.setLinkedElementGUID(linkedElementGUID);
+
+                        if (lineageRelationship.relatedAtEnd1())
+                        {
+                            if (upstreamVisited.add(linkedElementGUID))
+                            {
+                                nextFrontier.add(new LineageFrontierElement(relatedEntity, 2));
+                            }
+                        }
+                        else if (downstreamVisited.add(linkedElementGUID))
+                        {
+                            nextFrontier.add(new LineageFrontierElement(relatedEntity, 1));
+                        }
+                    }
+
+                    List<OpenMetadataLineageLink> lineageLinks = node.getLineageLinks();
+
+                    if (lineageLinks == null)
+                    {
+                        lineageLinks = new ArrayList<>();
+                        node.setLineageLinks(lineageLinks);
+                    }
+
+                    lineageLinks.add(lineageLink);
+                }
+
+                node.setExpanded(complete);
+            }
+
+            frontier = nextFrontier;
+            depth    = depth + 1;
+        }
+
+        OpenMetadataLineageGraph lineageGraph = new OpenMetadataLineageGraph();
+
+        lineageGraph.setLineageNodes(new ArrayList<>(lineageNodes.values()));
+        lineageGraph.setTruncated(truncated);
+
+        return lineageGraph;
+    }
+
+
+    /**
+     * The settings that control which relationships are followed during a lineage traversal.
+     *
+     * @param relationshipTypeName type of relationships to retrieve from the repository (null for all)
+     * @param relationshipTypeGUID unique identifier of relationshipTypeName
+     * @param lineageRelationshipTypeNames names of the relationship types to keep (null for all retrieved)
+     * @param limitToISCQualifiedName only keep relationships that belong to this information supply chain (null for all)
+     * @param limitResultsByStatus only return instances with these statuses (null for all)
+     * @param asOfTime historical query time (null for now)
+     * @param forLineage include archived elements
+     * @param forDuplicateProcessing do not combine results from known duplicates
+     * @param effectiveTime only return elements that are effective at this time (null for any time)
+     */
+    private record LineageTraversalScope(String               relationshipTypeName,
+                                         String               relationshipTypeGUID,
+                                         List<String>         lineageRelationshipTypeNames,
+                                         String               limitToISCQualifiedName,
+                                         List<InstanceStatus> limitResultsByStatus,
+                                         Date                 asOfTime,
+                                         boolean              forLineage,
+                                         boolean              forDuplicateProcessing,
+                                         Date                 effectiveTime)
+    {}
+
+
+    /**
+     * An element waiting to be expanded during a lineage traversal.
+     *
+     * @param entity element retrieved from the repository
+     * @param direction 0 for the starting element, 1 for an element downstream of it and 2 for an element upstream of it
+     */
+    private record LineageFrontierElement(EntityDetail entity,
+                                          int          direction)
+    {}
+
+
+    /**
+     * A lineage relationship found while expanding an element.
+     *
+     * @param relationship relationship retrieved from the repository
+     * @param relatedEntityGUID unique identifier of the entity at the other end of the relationship
+     * @param relatedAtEnd1 is the entity at the other end of the relationship at end 1 (that is, upstream)
+     */
+    private record LineageTraversalRelationship(Relationship relationship,
+                                                String       relatedEntityGUID,
+                                                boolean      relatedAtEnd1)
+    {}
+
+
+    /**
+     * Work out which relationship type to retrieve from the repository.  If all the requested types are subtypes of
+     * LineageRelationship, the repository is asked for LineageRelationship, and the results are filtered by the
+     * requested type names.  Otherwise, all relationships are retrieved and filtered.
+     *
+     * @param lineageRelationshipTypeNames names of the relationship types to follow (null for all subtypes of LineageRelationship)
+     * @param limitToISCQualifiedName only follow relationships that belong to this information supply chain (null for all)
+     * @param limitResultsByStatus only return instances with these statuses (null for all)
+     * @param asOfTime historical query time (null for now)
+     * @param forLineage include archived elements
+     * @param forDuplicateProcessing do not combine results from known duplicates
+     * @param effectiveTime only return elements that are effective at this time (null for any time)
+     * @param methodName calling method
+     * @return traversal scope
+     * @throws InvalidParameterException one of the relationship type names is not known
+     */
+    private LineageTraversalScope getLineageTraversalScope(List<String>         lineageRelationshipTypeNames,
+                                                           String               limitToISCQualifiedName,
+                                                           List<InstanceStatus> limitResultsByStatus,
+                                                           Date                 asOfTime,
+                                                           boolean              forLineage,
+                                                           boolean              forDuplicateProcessing,
+                                                           Date                 effectiveTime,
+                                                           String               methodName) throws InvalidParameterException
+    {
+        String       relationshipTypeName = OpenMetadataType.LINEAGE_RELATIONSHIP.typeName;
+        List<String> requestedTypeNames   = null;
+
+        if ((lineageRelationshipTypeNames != null) && (! lineageRelationshipTypeNames.isEmpty()))
+        {
+            requestedTypeNames = new ArrayList<>();
+
+            for (String lineageRelationshipTypeName : lineageRelationshipTypeNames)
+            {
+                if (lineageRelationshipTypeName != null)
+                {
+                    invalidParameterHandler.validateTypeName(lineageRelationshipTypeName,
+                                                             null,
+                                                             serviceName,
+                                                             methodName,
+                                                             repositoryHelper);
+
+                    if (! repositoryHelper.isTypeOf(serviceName, lineageRelationshipTypeName, OpenMetadataType.LINEAGE_RELATIONSHIP.typeName))
+                    {
+                        relationshipTypeName = null;
+                    }
+
+                    requestedTypeNames.add(lineageRelationshipTypeName);
+                }
+            }
+
+            if (requestedTypeNames.isEmpty())
+            {
+                requestedTypeNames = null;
+            }
+        }
+
+        String relationshipTypeGUID = null;
+
+        if (relationshipTypeName != null)
+        {
+            relationshipTypeGUID = OpenMetadataType.LINEAGE_RELATIONSHIP.typeGUID;
+        }
+
+        return new LineageTraversalScope(relationshipTypeName,
+                                         relationshipTypeGUID,
+                                         requestedTypeNames,
+                                         limitToISCQualifiedName,
+                                         limitResultsByStatus,
+                                         asOfTime,
+                                         forLineage,
+                                         forDuplicateProcessing,
+                                         effectiveTime);
+    }
+
+
+    /**
+     * Retrieve the lineage relationships for each element in a level of the traversal.  The schema elements
+     * anchored to the elements are retrieved for the whole level in one batch.
+     *
+     * @param userId caller's userId
+     * @param frontier elements to expand
+     * @param allAnchors also follow the lineage relationships attached to the schema elements anchored to each element
+     * @param parallelExpansion expand the elements in parallel
+     * @param deadline time that the traversal must finish by
+     * @param scope relationships to follow
+     * @param methodName calling method
+     * @return list of relationships for each element in the frontier (in the same order) - null for an element that was not expanded
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException security problem
+     * @throws PropertyServerException problem accessing the repositories
+     */
+    private List<List<LineageTraversalRelationship>> expandLineageFrontier(String                       userId,
+                                                                            List<LineageFrontierElement> frontier,
+                                                                            boolean                      allAnchors,
+                                                                            boolean                      parallelExpansion,
+                                                                            long                         deadline,
+                                                                            LineageTraversalScope        scope,
+                                                                            String                       methodName) throws InvalidParameterException,
+                                                                                                                            UserNotAuthorizedException,
+                                                                                                                            PropertyServerException
+    {
+        Map<String, List<EntityDetail>> anchoredElements = new HashMap<>();
+
+        if (allAnchors)
+        {
+            anchoredElements = this.getAnchoredSchemaElements(userId, frontier, scope, methodName);
+        }
+
+        List<List<LineageTraversalRelationship>> levelRelationships = new ArrayList<>();
+
+        if ((parallelExpansion) && (frontier.size() > 1))
+        {
+            List<Callable<List<LineageTraversalRelationship>>> expansionTasks = new ArrayList<>();
+
+            for (LineageFrontierElement frontierElement : frontier)
+            {
+                List<EntityDetail> elementAnchoredElements = anchoredElements.get(frontierElement.entity().getGUID());
+
+                expansionTasks.add(() -> this.getLineageRelationships(userId,
+                                                                      frontierElement,
+                                                                      elementAnchoredElements,
+                                                                      scope,
+                                                                      methodName));
+            }
+
+            List<Future<List<LineageTraversalRelationship>>> expansionResults;
+
+            try
+            {
+                if (deadline == Long.MAX_VALUE)
+                {
+                    expansionResults = getLineageExpansionPool().invokeAll(expansionTasks);
+                }
+                else
+                {
+                    expansionResults = getLineageExpansionPool().invokeAll(expansionTasks,
+                                                                           Math.max(0L, deadline - System.currentTimeMillis()),
+                                                                           TimeUnit.MILLISECONDS);
+                }
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+
+                for (int index = 0; index < frontier.size(); index++)
+                {
+                    levelRelationships.add(null);
+                }
+
+                return levelRelationships;
+            }
+
+            for (Future<List<LineageTraversalRelationship>> expansionResult : expansionResults)
+            {
+                if (expansionResult.isCancelled())
+                {
+                    levelRelationships.add(null);
+                }
+                else
+                {
+                    try
+                    {
+                        levelRelationships.add(expansionResult.get());
+                    }
+                    catch (InterruptedException interrupted)
+                    {
+                        Thread.currentThread().interrupt();
+                        levelRelationships.add(null);
+                    }
+                    catch (ExecutionException error)
+                    {
+                        this.rethrowLineageExpansionError(error.getCause());
+                    }
+                }
+            }
+        }
+        else
+        {
+            for (LineageFrontierElement frontierElement : frontier)
+            {
+                if (System.currentTimeMillis() >= deadline)
+                {
+                    levelRelationships.add(null);
+                }
+                else
+                {
+                    levelRelationships.add(this.getLineageRelationships(userId,
+                                                                        frontierElement,
+                                                                        anchoredElements.get(frontierElement.entity().getGUID()),
+                                                                        scope,
+                                                                        methodName));
+                }
+            }
+        }
+
+        return levelRelationships;
+    }
+
+
+    /**
+     * Pass on an exception from a parallel expansion task to the caller.
+     *
+     * @param cause exception thrown by the task
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException security problem
+     * @throws PropertyServerException problem accessing the repositories
+     */
+    private void rethrowLineageExpansionError(Throwable cause) throws InvalidParameterException,
+                                                                      UserNotAuthorizedException,
+                                                                      PropertyServerException
+    {
+        if (cause instanceof InvalidParameterException invalidParameterException)
+        {
+            throw invalidParameterException;
+        }
+        else if (cause instanceof UserNotAuthorizedException userNotAuthorizedException)
+        {
+            throw userNotAuthorizedException;
+        }
+        else if (cause instanceof PropertyServerException propertyServerException)
+        {
+            throw propertyServerException;
+        }
+        else if (cause instanceof RuntimeException runtimeException)
+        {
+            throw runtimeException;
+        }
+        else if (cause instanceof Error error)
+        {
+            throw error;
+        }
+
+        throw new IllegalStateException(cause);
+    }
+
+
+    /**
+     * Retrieve the lineage relationships attached to an element and its anchored schema elements.
+     * Upstream elements only return the relationships that lead further upstream, and downstream elements
+     * only return the relationships that lead further downstream.
+     *
+     * @param userId caller's userId
+     * @param frontierElement element to expand
+     * @param anchoredElements schema elements anchored to the element (may be null)
+     * @param scope relationships to follow
+     * @param methodName calling method
+     * @return list of relationships - may be empty
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException security problem
+     * @throws PropertyServerException problem accessing the repositories
+     */
+    private List<LineageTraversalRelationship> getLineageRelationships(String                 userId,
+                                                                       LineageFrontierElement frontierElement,
+                                                                       List<EntityDetail>     anchoredElements,
+                                                                       LineageTraversalScope  scope,
+                                                                       String                 methodName) throws InvalidParameterException,
+                                                                                                                 UserNotAuthorizedException,
+                                                                                                                 PropertyServerException
+    {
+        List<EntityDetail> lineageElements = new ArrayList<>();
+
+        lineageElements.add(frontierElement.entity());
+
+        if (anchoredElements != null)
+        {
+            lineageElements.addAll(anchoredElements);
+        }
+
+        /*
+         * selectionEnd is the attachmentEntityEnd of the repository handler: the end where the related elements
+         * are located (0 means either end).  A downstream element (direction 1) continues downstream, so its related
+         * elements are at end 2; an upstream element (direction 2) continues upstream, so its related elements are
+         * at end 1.  This is the same mapping as startingAtEnd in getRelatedMetadataElements.
+         */
+        int selectionEnd = 0;
+
+        if (frontierElement.direction() == 1)
+        {
+            selectionEnd = 2;
+        }
+        else if (frontierElement.direction() == 2)
+        {
+            selectionEnd = 1;
+        }
+
+        List<LineageTraversalRelationship> lineageRelationships = new ArrayList<>();
+
+        for (EntityDetail lineageElement : lineageElements)
+        {
+            List<Relationship> relationships = repositoryHandler.getRelationshipsByType(userId,
+                                                                                        lineageElement,
+                                                                                        lineageElement.getType().getTypeDefName(),
+                                                                                        scope.relationshipTypeGUID(),
+                                                                                        scope.relationshipTypeName(),
+                                                                                        selectionEnd,
+                                                                                        scope.limitResultsByStatus(),
+                                                                                        scope.asOfTime(),
+                                                                                        null,
+                                                                                        null,
+                                                                                        scope.forLineage(),
+                                                                                        scope.forDuplicateProcessing(),
+                                                                                        0,
+                                                                                        0,
+                                                                                        scope.effectiveTime(),
+                                                                                        methodName);
+
+            if (relationships != null)
+            {
+                for (Relationship relationship : relationships)
+                {
+                    if ((relationship != null) && (this.isLineageRelationshipInScope(relationship, scope, methodName)))
+                    {
+                        EntityProxy end1 = relationship.getEntityOneProxy();
+                        EntityProxy end2 = relationship.getEntityTwoProxy();
+
+                        if ((end1 != null) && (end2 != null))
+                        {
+                            if (lineageElement.getGUID().equals(end2.getGUID()))
+                            {
+                                lineageRelationships.add(new LineageTraversalRelationship(relationship, end1.getGUID(), true));
+                            }
+                            else
+                            {
+                                lineageRelationships.add(new LineageTraversalRelationship(relationship, end2.getGUID(), false));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return lineageRelationships;
+    }
+
+
+    /**
+     * Check that a relationship is one of the requested lineage relationship types, and, if requested,
+     * that it belongs to the requested information supply chain.
+     *
+     * @param relationship relationship to test
+     * @param scope relationships to follow
+     * @param methodName calling method
+     * @return boolean flag
+     */
+    private boolean isLineageRelationshipInScope(Relationship          relationship,
+                                                 LineageTraversalScope scope,
+                                                 String                methodName)
+    {
+        if ((scope.lineageRelationshipTypeNames() != null) &&
+                ((relationship.getType() == null) || (! scope.lineageRelationshipTypeNames().contains(relationship.getType().getTypeDefName()))))
+        {
+            return false;
+        }
+
+        if (scope.limitToISCQualifiedName() != null)
+        {
+            String relationshipSupplyChain = repositoryHelper.getStringProperty(serviceName,
+                                                                                OpenMetadataProperty.ISC_QUALIFIED_NAME.name,
+                                                                                relationship.getProperties(),
+                                                                                methodName);
+
+            return scope.limitToISCQualifiedName().equals(relationshipSupplyChain);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Retrieve the schema elements anchored to the elements in a level of the traversal.  This is done in
+     * batches of anchor identifiers rather than one query per element.
+     *
+     * @param userId caller's userId
+     * @param frontier elements in the level
+     * @param scope relationships to follow
+     * @param methodName calling method
+     * @return map of anchor GUID to the schema elements anchored to it
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException security problem
+     * @throws PropertyServerException problem accessing the repositories
+     */
+    private Map<String, List<EntityDetail>> getAnchoredSchemaElements(String                       userId,
+                                                                      List<LineageFrontierElement> frontier,
+                                                                      LineageTraversalScope        scope,
+                                                                      String                       methodName) throws InvalidParameterException,
+                                                                                                                  UserNotAuthorizedException,
+                                                                                                                  PropertyServerException
+    {
+        Map<String, List<EntityDetail>> anchoredElements = new HashMap<>();
+        List<String>                    anchorGUIDs      = new ArrayList<>();
+
+        for (LineageFrontierElement frontierElement : frontier)
+        {
+            if (! anchorGUIDs.contains(frontierElement.entity().getGUID()))
+            {
+                anchorGUIDs.add(frontierElement.entity().getGUID());
+            }
+        }
+
+        int batchSize = this.getLineageBatchSize(anchorGUIDs.size());
+
+        for (int batchStart = 0; batchStart < anchorGUIDs.size(); batchStart = batchStart + batchSize)
+        {
+            List<PropertyCondition> propertyConditions = new ArrayList<>();
+
+            for (String anchorGUID : anchorGUIDs.subList(batchStart, Math.min(batchStart + batchSize, anchorGUIDs.size())))
+            {
+                PropertyCondition          propertyCondition      = new PropertyCondition();
+                PrimitiveTypePropertyValue primitivePropertyValue = new PrimitiveTypePropertyValue();
+
+                primitivePropertyValue.setPrimitiveTypeCategory(PrimitiveTypeCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(anchorGUID);
+                primitivePropertyValue.setTypeName(PrimitiveTypeCategory.OM_PRIMITIVE_TYPE_STRING.getDisplayName());
+
+                propertyCondition.setProperty(OpenMetadataProperty.ANCHOR_GUID.name);
+                propertyCondition.setOperator(PropertyComparisonOperator.EQ);
+                propertyCondition.setValue(primitivePropertyValue);
+                propertyConditions.add(propertyCondition);
+            }
+
+            SearchProperties              searchProperties         = new SearchProperties();
+            ClassificationCondition       classificationCondition  = new ClassificationCondition();
+            List<ClassificationCondition> classificationConditions = new ArrayList<>();
+            SearchClassifications         searchClassifications    = new SearchClassifications();
+
+            searchProperties.setMatchCriteria(MatchCriteria.ANY);
+            searchProperties.setConditions(propertyConditions);
+
+            classificationCondition.setName(OpenMetadataType.ANCHORS_CLASSIFICATION.typeName);
+            classificationCondition.setSearchProperties(searchProperties);
+            classificationConditions.add(classificationCondition);
+            searchClassifications.setMatchCriteria(MatchCriteria.ALL);
+            searchClassifications.setConditions(classificationConditions);
+
+            int                pageSize       = invalidParameterHandler.getMaxPagingSize();
+            int                startFrom      = 0;
+            List<EntityDetail> schemaElements = super.findEntities(userId,
+                                                                   OpenMetadataType.SCHEMA_ELEMENT.typeName,
+                                                                   null,
+                                                                   null,
+                                                                   scope.limitResultsByStatus(),
+                                                                   this.getSearchClassifications(searchClassifications),
+                                                                   scope.asOfTime(),
+                                                                   null,
+                                                                   null,
+                                                                   scope.forLineage(),
+                                                                   scope.forDuplicateProcessing(),
+                                                                   startFrom,
+                                                                   pageSize,
+                                                                   scope.effectiveTime(),
+                                                                   methodName);
+
+            while (schemaElements != null)
+            {
+                for (EntityDetail schemaElement : schemaElements)
+                {
+                    AnchorIdentifiers anchorIdentifiers = this.getAnchorsFromAnchorsClassification(schemaElement, methodName);
+
+                    if ((anchorIdentifiers != null) && (anchorIdentifiers.anchorGUID != null))
+                    {
+                        List<EntityDetail> elementAnchoredElements = anchoredElements.computeIfAbsent(anchorIdentifiers.anchorGUID, k -> new ArrayList<>());
+
+                        elementAnchoredElements.add(schemaElement);
+                    }
+                }
+
+                if ((pageSize == 0) || (schemaElements.size() < pageSize))
+                {
+                    break;
+                }
+
+                startFrom      = startFrom + pageSize;
+                schemaElements = super.findEntities(userId,
+                                                    OpenMetadataType.SCHEMA_ELEMENT.typeName,
+                                                    null,
+                                                    null,
+                                                    scope.limitResultsByStatus(),
+                                                    this.getSearchClassifications(searchClassifications),
+                                                    scope.asOfTime(),
+                                                    null,
+                                                    null,
+                                                    scope.forLineage(),
+                                                    scope.forDuplicateProcessing(),
+                                                    startFrom,
+                                                    pageSize,
+                                                    scope.effectiveTime(),
+                                                    methodName);
+            }
+        }
+
+        return anchoredElements;
+    }
+
+
+    /**
+     * Retrieve the entities at the other end of the relationships found in a level of the traversal.
+     * The entities are retrieved in batches, which also performs the security checks.
+     *
+     * @param userId caller's userId
+     * @param levelRelationships relationships found for each element in the level
+     * @param scope relationships to follow
+     * @param methodName calling method
+     * @return map of entity GUID to entity for the entities visible to the caller
+     * @throws InvalidParameterException invalid parameter
+     */
+    private Map<String, EntityDetail> getLineageRelatedEntities(String                                   userId,
+                                                                List<List<LineageTraversalRelationship>> levelRelationships,
+                                                                LineageTraversalScope                    scope,
+                                                                String                                   methodName) throws InvalidParameterException
+    {
+        List<Relationship> end1Relationships = new ArrayList<>();
+        List<Relationship> end2Relationships = new ArrayList<>();
+
+        for (List<LineageTraversalRelationship> elementRelationships : levelRelationships)
+        {
+            if (elementRelationships != null)
+            {
+                for (LineageTraversalRelationship lineageRelationship : elementRelationships)
+                {
+                    if (lineageRelationship.relatedAtEnd1())
+                    {
+                        end1Relationships.add(lineageRelationship.relationship());
+                    }
+                    else
+                    {
+                        end2Relationships.add(lineageRelationship.relationship());
+                    }
+                }
+            }
+        }
+
+        Map<String, EntityDetail> relatedEntities = new HashMap<>();
+
+        this.addLineageRelatedEntities(userId, end1Relationships, 1, scope, relatedEntities, methodName);
+        this.addLineageRelatedEntities(userId, end2Relationships, 2, scope, relatedEntities, methodName);
+
+        return relatedEntities;
+    }
+
+
+    /**
+     * Retrieve the entities from one end of a list of relationships in batches.
+     *
+     * @param userId caller's userId
+     * @param relationships relationships to process
+     * @param selectionEnd end of the relationships to retrieve the entities from
+     * @param scope relationships to follow
+     * @param relatedEntities map of retrieved entities to add to
+     * @param methodName calling method
+     * @throws InvalidParameterException invalid parameter
+     */
+    private void addLineageRelatedEntities(String                    userId,
+                                           List<Relationship>        relationships,
+                                           int                       selectionEnd,
+                                           LineageTraversalScope     scope,
+                                           Map<String, EntityDetail> relatedEntities,
+                                           String                    methodName) throws InvalidParameterException
+    {
+        int batchSize = this.getLineageBatchSize(relationships.size());
+
+        for (int batchStart = 0; batchStart < relationships.size(); batchStart = batchStart + batchSize)
+        {
+            Map<String, EntityDetail> retrievedEntities = this.getValidatedEntities(userId,
+                                                                                    null,
+                                                                                    null,
+                                                                                    relationships.subList(batchStart, Math.min(batchStart + batchSize, relationships.size())),
+                                                                                    null,
+                                                                                    null,
+                                                                                    null,
+                                                                                    selectionEnd,
+                                                                                    scope.forLineage(),
+                                                                                    scope.forDuplicateProcessing(),
+                                                                                    scope.effectiveTime(),
+                                                                                    methodName);
+
+            if (retrievedEntities != null)
+            {
+                relatedEntities.putAll(retrievedEntities);
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of identifiers to include in a single batched query.
+     *
+     * @param requestedSize number of identifiers to process
+     * @return batch size
+     */
+    private int getLineageBatchSize(int requestedSize)
+    {
+        int maxPagingSize = invalidParameterHandler.getMaxPagingSize();
+
+        if ((maxPagingSize > 0) && (maxPagingSize < requestedSize))
+        {
+            return maxPagingSize;
+        }
+
+        return Math.max(1, requestedSize);
+    }
+
+
+    /**
+     * Determine whether a related entity is part of the element being expanded - either it is the element itself,
+     * or it is anchored to it.  Relationships to these entities are internal to the element.
+     *
+     * @param nodeGUID unique identifier of the element being expanded
+     * @param relatedEntity entity at the other end of a lineage relationship
+     * @param methodName calling method
+     * @return boolean flag
+     */
+    private boolean isPartOfLineageNode(String       nodeGUID,
+                                        EntityDetail relatedEntity,
+                                        String       methodName)
+    {
+        if (nodeGUID.equals(relatedEntity.getGUID()))
+        {
+            return true;
+        }
+
+        AnchorIdentifiers anchorIdentifiers = this.getAnchorsFromAnchorsClassification(relatedEntity, methodName);
+
+        return (anchorIdentifiers != null) && (nodeGUID.equals(anchorIdentifiers.anchorGUID));
+    }
+
+
+    /**
+     * Return the thread pool used to expand the elements of a lineage traversal level in parallel.  It is shared by
+     * all the servers in the JVM.  Its threads are daemon threads that end when the pool is idle.
+     *
+     * @return executor service
+     */
+    private static ExecutorService getLineageExpansionPool()
+    {
+        ExecutorService expansionPool = lineageExpansionPool;
+
+        if (expansionPool == null)
+        {
+            synchronized (MetadataElementHandler.class)
+            {
+                if (lineageExpansionPool == null)
+                {
+                    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(lineageExpansionThreads,
+                                                                           lineageExpansionThreads,
+                                                                           60L,
+                                                                           TimeUnit.SECONDS,
+                                                                           new LinkedBlockingQueue<>(),
+                                                                           runnable ->
+                                                                           {
+                                                                               Thread thread = new Thread(runnable, "LineageExpansion");
+
+                                                                               thread.setDaemon(true);
+                                                                               return thread;
+                                                                           });
+
+                    threadPool.allowCoreThreadTimeOut(true);
+                    lineageExpansionPool = threadPool;
+                }
+
+                expansionPool = lineageExpansionPool;
+            }
+        }
+
+        return expansionPool;
+    }
+
+
     /**
      * Archive a specific metadata element.
      *
@@ -2315,6 +2315,86 @@ public class OpenMetadataStoreRESTServices
     }
 
 
+    /**
+     * Return the elements that are linked to a requested element through lineage relationships.  The graph is
+     * retrieved level by level from the starting element, following upstream elements upstream and downstream
+     * elements downstream, until the graph is complete or one of the traversal budgets is used up.
+     *
+     * @param serverName name of the server instances for this request
+     * @param userId the userId of the requesting user
+     * @param elementGUID  unique identifier for the starting element
+     * @param requestBody lineage relationships to follow, traversal budgets and other options to control the query
+     *
+     * @return graph of elements or
+     * InvalidParameterException - one of the parameters is null or invalid or
+     * PropertyServerException - a problem retrieving the elements from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public OpenMetadataLineageGraphResponse getLineageGraph(String                      serverName,
+                                                            String                      userId,
+                                                            String                      elementGUID,
+                                                            LineageTraversalRequestBody requestBody)
+    {
+        final String methodName = "getLineageGraph";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName, requestBody);
+
+        OpenMetadataLineageGraphResponse response = new OpenMetadataLineageGraphResponse();
+        AuditLog                         auditLog = null;
+
+        try
+        {
+            MetadataElementHandler<OpenMetadataElement> handler = instanceHandler.getMetadataElementHandler(userId, serverName, methodName);
+
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            if (requestBody != null)
+            {
+                response.setElement(handler.getLineageGraph(userId,
+                                                            elementGUID,
+                                                            requestBody.getIncludeOnlyRelationships(),
+                                                            requestBody.getLimitToISCQualifiedName(),
+                                                            requestBody.getAllAnchors(),
+                                                            requestBody.getMaxDepth(),
+                                                            requestBody.getMaxElementCount(),
+                                                            requestBody.getMaxTraversalTime(),
+                                                            requestBody.getParallelExpansion(),
+                                                            requestBody.getLimitResultsByStatus(),
+                                                            requestBody.getAsOfTime(),
+                                                            requestBody.getForLineage(),
+                                                            requestBody.getForDuplicateProcessing(),
+                                                            requestBody.getEffectiveTime(),
+                                                            methodName));
+            }
+            else
+            {
+                response.setElement(handler.getLineageGraph(userId,
+                                                            elementGUID,
+                                                            null,
+                                                            null,
+                                                            false,
+                                                            0,
+                                                            0,
+                                                            0L,
+                                                            false,
+                                                            null,
+                                                            null,
+                                                            false,
+                                                            false,
+                                                            new Date(),
+                                                            methodName));
+            }
+        }
+        catch (Throwable error)
+        {
+            restExceptionHandler.captureRuntimeExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response);
+        return response;
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of pages.
      *
@@ -0,0 +1,888 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworkservices.omf.handlers;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.openmetadata.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.OpenMetadataLineageGraph;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.OpenMetadataLineageLink;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.OpenMetadataLineageNode;
+import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataProperty;
+import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
+import org.odpi.openmetadata.frameworkservices.omf.converters.MetadataElementConverter;
+import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.ClassificationCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+/**
+ * Tests for the lineage traversal performed by {@link MetadataElementHandler#getLineageGraph}.  The handler runs
+ * against an in-memory set of entities and relationships so the tests can check the shape of the returned graph.
+ * In each test graph, data flows from end 1 to end 2 of the relationships.
+ */
+public class MetadataElementHandlerTest
+{
+    private static final String serviceName       = "TestService";
+    private static final String serverName        = "TestServer";
+    private static final String userId            = "TestUser";
+    private static final String assetTypeName     = "DataSet";
+    private static final String schemaTypeName    = "SchemaAttribute";
+    private static final String lineageTypeName   = "DataFlow";
+    private static final String methodName        = "MetadataElementHandlerTest";
+
+
+    /**
+     * Return a repository helper that does not need a content manager.  Every type name is known, and is treated
+     * as a subtype of every other type.
+     *
+     * @return repository helper
+     */
+    private OMRSRepositoryContentHelper getRepositoryHelper()
+    {
+        return new OMRSRepositoryContentHelper(null)
+        {
+            @Override
+            public TypeDef getTypeDefByName(String sourceName,
+                                            String typeDefName)
+            {
+                EntityDef typeDef = new EntityDef();
+
+                typeDef.setGUID(typeDefName + "GUID");
+                typeDef.setName(typeDefName);
+                typeDef.setDescription(typeDefName);
+
+                return typeDef;
+            }
+
+
+            @Override
+            public AttributeTypeDef getAttributeTypeDefByName(String sourceName,
+                                                              String attributeTypeDefName)
+            {
+                PrimitiveDef attributeTypeDef = new PrimitiveDef(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+
+                attributeTypeDef.setGUID(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getGUID());
+                attributeTypeDef.setName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+
+                return attributeTypeDef;
+            }
+
+
+            @Override
+            public List<TypeDefLink> getSuperTypes(String sourceName,
+                                                   String typeDefName)
+            {
+                return null;
+            }
+
+
+            @Override
+            public boolean isTypeOf(String sourceName,
+                                    String actualTypeName,
+                                    String expectedTypeName)
+            {
+                return true;
+            }
+        };
+    }
+
+
+    /**
+     * Return a handler that retrieves its elements from the test repository handler.
+     *
+     * @param repositoryHandler test repository handler
+     * @return handler
+     */
+    private TestMetadataElementHandler getHandler(TestRepositoryHandler repositoryHandler)
+    {
+        OMRSRepositoryContentHelper repositoryHelper        = repositoryHandler.getTestRepositoryHelper();
+        InvalidParameterHandler     invalidParameterHandler = new InvalidParameterHandler();
+
+        invalidParameterHandler.setMaxPagingSize(2);
+
+        return new TestMetadataElementHandler(new MetadataElementConverter<>(repositoryHelper, serviceName, serverName),
+                                              OpenMetadataElement.class,
+                                              serviceName,
+                                              serverName,
+                                              invalidParameterHandler,
+                                              repositoryHandler,
+                                              repositoryHelper,
+                                              userId,
+                                              new OpenMetadataServerSecurityVerifier(),
+                                              null);
+    }
+
+
+    /**
+     * Retrieve the lineage graph for an element.
+     *
+     * @param handler handler to call
+     * @param elementGUID starting element
+     * @param allAnchors follow the lineage relationships of anchored schema elements
+     * @param maxDepth maximum depth (0 for no limit)
+     * @param maxElementCount maximum number of elements (0 for no limit)
+     * @param maxTraversalTime maximum traversal time in milliseconds (0 for no limit)
+     * @param parallelExpansion expand each level in parallel
+     * @return lineage graph
+     * @throws Exception unexpected error
+     */
+    private OpenMetadataLineageGraph getLineageGraph(TestMetadataElementHandler handler,
+                                                     String                     elementGUID,
+                                                     boolean                    allAnchors,
+                                                     int                        maxDepth,
+                                                     int                        maxElementCount,
+                                                     long                       maxTraversalTime,
+                                                     boolean                    parallelExpansion) throws Exception
+    {
+        return handler.getLineageGraph(userId,
+                                       elementGUID,
+                                       null,
+                                       null,
+                                       allAnchors,
+                                       maxDepth,
+                                       maxElementCount,
+                                       maxTraversalTime,
+                                       parallelExpansion,
+                                       null,
+                                       null,
+                                       false,
+                                       false,
+                                       null,
+                                       methodName);
+    }
+
+
+    /**
+     * Return the nodes of a lineage graph mapped by element GUID.
+     *
+     * @param lineageGraph graph to process
+     * @return map of element GUID to node
+     */
+    private Map<String, OpenMetadataLineageNode> getNodes(OpenMetadataLineageGraph lineageGraph)
+    {
+        Map<String, OpenMetadataLineageNode> nodes = new LinkedHashMap<>();
+
+        for (OpenMetadataLineageNode node : lineageGraph.getLineageNodes())
+        {
+            nodes.put(node.getElementGUID(), node);
+        }
+
+        return nodes;
+    }
+
+
+    /**
+     * Return a description of a lineage graph that can be compared with the description of another graph.
+     *
+     * @param lineageGraph graph to describe
+     * @return list of node descriptions in the order the nodes were found
+     */
+    private List<String> describeGraph(OpenMetadataLineageGraph lineageGraph)
+    {
+        List<String> nodeDescriptions = new ArrayList<>();
+
+        for (OpenMetadataLineageNode node : lineageGraph.getLineageNodes())
+        {
+            StringBuilder nodeDescription = new StringBuilder(node.getElementGUID() + ":" + node.getDepth() + ":" + node.getExpanded());
+
+            if (node.getLineageLinks() != null)
+            {
+                for (OpenMetadataLineageLink lineageLink : node.getLineageLinks())
+                {
+                    nodeDescription.append(" ").append(lineageLink.getRelationshipGUID()).append("->").append(lineageLink.getLinkedElementGUID());
+                }
+            }
+
+            nodeDescriptions.add(nodeDescription.toString());
+        }
+
+        return nodeDescriptions;
+    }
+
+
+    @Test
+    public void testUpstreamAndDownstreamDirections() throws Exception
+    {
+        TestRepositoryHandler repositoryHandler = new TestRepositoryHandler(getRepositoryHelper());
+
+        /*
+         * W -> U -> S -> D
+         *      U -> Y       Y is a sibling output of an upstream element
+         *      X -> D       X is a sibling input of a downstream element
+         */
+        repositoryHandler.addAsset("W");
+        repositoryHandler.addAsset("U");
+        repositoryHandler.addAsset("S");
+        repositoryHandler.addAsset("D");
+        repositoryHandler.addAsset("X");
+        repositoryHandler.addAsset("Y");
+        repositoryHandler.addLineage("WU", "W", "U");
+        repositoryHandler.addLineage("US", "U", "S");
+        repositoryHandler.addLineage("SD", "S", "D");
+        repositoryHandler.addLineage("UY", "U", "Y");
+        repositoryHandler.addLineage("XD", "X", "D");
+
+        OpenMetadataLineageGraph             lineageGraph = getLineageGraph(getHandler(repositoryHandler), "S", false, 0, 0, 0, false);
+        Map<String, OpenMetadataLineageNode> nodes        = getNodes(lineageGraph);
+
+        Assert.assertFalse(lineageGraph.getTruncated());
+        Assert.assertEquals(nodes.keySet(), new HashSet<>(Arrays.asList("S", "U", "D", "W")));
+        Assert.assertEquals(nodes.get("S").getDepth(), 0);
+        Assert.assertEquals(nodes.get("U").getDepth(), 1);
+        Assert.assertEquals(nodes.get("D").getDepth(), 1);
+        Assert.assertEquals(nodes.get("W").getDepth(), 2);
+
+        for (OpenMetadataLineageNode node : nodes.values())
+        {
+            Assert.assertTrue(node.getExpanded(), node.getElementGUID());
+        }
+    }
+
+
+    @Test
+    public void testCycle() throws Exception
+    {
+        TestRepositoryHandler repositoryHandler = new TestRepositoryHandler(getRepositoryHelper());
+
+        /*
+         * A -> B -> C -> A
+         */
+        repositoryHandler.addAsset("A");
+        repositoryHandler.addAsset("B");
+        repositoryHandler.addAsset("C");
+        repositoryHandler.addLineage("AB", "A", "B");
+        repositoryHandler.addLineage("BC", "B", "C");
+        repositoryHandler.addLineage("CA", "C", "A");
+
+        OpenMetadataLineageGraph             lineageGraph = getLineageGraph(getHandler(repositoryHandler), "B", false, 0, 0, 0, false);
+        Map<String, OpenMetadataLineageNode> nodes        = getNodes(lineageGraph);
+
+        Assert.assertFalse(lineageGraph.getTruncated());
+        Assert.assertEquals(nodes.keySet(), new HashSet<>(Arrays.asList("A", "B", "C")));
+        Assert.assertEquals(nodes.get("A").getDepth(), 1);
+        Assert.assertEquals(nodes.get("C").getDepth(), 1);
+    }
+
+
+    @Test
+    public void testMaxDepth() throws Exception
+    {
+        TestRepositoryHandler repositoryHandler = new TestRepositoryHandler(getRepositoryHelper());
+
+        /*
+         * A -> B -> C -> D
+         */
+        repositoryHandler.addAsset("A");
+        repositoryHandler.addAsset("B");
+        repositoryHandler.addAsset("C");
+        repositoryHandler.addAsset("D");
+        repositoryHandler.addLineage("AB", "A", "B");
+        repositoryHandler.addLineage("BC", "B", "C");
+        repositoryHandler.addLineage("CD", "C", "D");
+
+        OpenMetadataLineageGraph             lineageGraph = getLineageGraph(getHandler(repositoryHandler), "A", false, 2, 0, 0, false);
+        Map<String, OpenMetadataLineageNode> nodes        = getNodes(lineageGraph);
+
+        Assert.assertTrue(lineageGraph.getTruncated());
+        Assert.assertEquals(nodes.keySet(), new HashSet<>(Arrays.asList("A", "B", "C")));
+        Assert.assertTrue(nodes.get("A").getExpanded());
+        Assert.assertTrue(nodes.get("B").getExpanded());
+        Assert.assertFalse(nodes.get("C").getExpanded());
+        Assert.assertNull(nodes.get("C").getLineageLinks());
+    }
+
+
+    @Test
+    public void testMaxElementCount() throws Exception
+    {
+        TestRepositoryHandler repositoryHandler = new TestRepositoryHandler(getRepositoryHelper());
+
+        /*
+         * A -> B, A -> C, A -> D
+         */
+        repositoryHandler.addAsset("A");
+        repositoryHandler.addAsset("B");
+        repositoryHandler.addAsset("C");
+        repositoryHandler.addAsset("D");
+        repositoryHandler.addLineage("AB", "A", "B");
+        repositoryHandler.addLineage("AC", "A", "C");
+        repositoryHandler.addLineage("AD", "A", "D");
+
+        OpenMetadataLineageGraph             lineageGraph = getLineageGraph(getHandler(repositoryHandler), "A", false, 0, 3, 0, false);
+        Map<String, OpenMetadataLineageNode> nodes        = getNodes(lineageGraph);
+
+        Assert.assertTrue(lineageGraph.getTruncated());
+        Assert.assertEquals(nodes.size(), 3);
+        Assert.assertTrue(nodes.containsKey("A"));
+
+        /*
+         * One of A's links was dropped, so A is not fully expanded.  The nodes that were kept have no
+         * further lineage so they are fully expanded.
+         */
+        Assert.assertFalse(nodes.get("A").getExpanded());
+        Assert.assertEquals(nodes.get("A").getLineageLinks().size(), 2);
+
+        for (OpenMetadataLineageLink lineageLink : nodes.get("A").getLineageLinks())
+        {
+            Assert.assertTrue(nodes.containsKey(lineageLink.getLinkedElementGUID()));
+            Assert.assertTrue(nodes.get(lineageLink.getLinkedElementGUID()).getExpanded());
+        }
+    }
+
+
+    @Test
+    public void testMaxTraversalTime() throws Exception
+    {
+        TestRepositoryHandler repositoryHandler = new TestRepositoryHandler(getRepositoryHelper());
+
+        /*
+         * A -> B -> C -> D -> E -> F, where each retrieval of relationships takes 100ms
+         */
+        repositoryHandler.addAsset("A");
+        repositoryHandler.addAsset("B");
+        repositoryHandler.addAsset("C");
+        repositoryHandler.addAsset("D");
+        repositoryHandler.addAsset("E");
+        repositoryHandler.addAsset("F");
+        repositoryHandler.addLineage("AB", "A", "B");
+        repositoryHandler.addLineage("BC", "B", "C");
+        repositoryHandler.addLineage("CD", "C", "D");
+        repositoryHandler.addLineage("DE", "D", "E");
+        repositoryHandler.addLineage("EF", "E", "F");
+        repositoryHandler.setRetrievalDelay(100L);
+
+        OpenMetadataLineageGraph             lineageGraph = getLineageGraph(getHandler(repositoryHandler), "A", false, 0, 0, 250L, false);
+        Map<String, OpenMetadataLineageNode> nodes        = getNodes(lineageGraph);
+
+        Assert.assertTrue(lineageGraph.getTruncated());
+        Assert.assertTrue(nodes.containsKey("A"));
+        Assert.assertFalse(nodes.containsKey("F"));
+
+        boolean unexpandedNode = false;
+
+        for (OpenMetadataLineageNode node : nodes.values())
+        {
+            if (! node.getExpanded())
+            {
+                unexpandedNode = true;
+            }
+        }
+
+        Assert.assertTrue(unexpandedNode);
+    }
+
+
+    @Test
+    public void testAllAnchors() throws Exception
+    {
+        TestRepositoryHandler repositoryHandler = new TestRepositoryHandler(getRepositoryHelper());
+
+        /*
+         * Schema element A1 of asset A feeds schema element A2 of the same asset, and schema element B1 of asset B.
+         */
+        repositoryHandler.addAsset("A");
+        repositoryHandler.addAsset("B");
+        repositoryHandler.addSchemaElement("A1", "A");
+        repositoryHandler.addSchemaElement("A2", "A");
+        repositoryHandler.addSchemaElement("B1", "B");
+        repositoryHandler.addLineage("A1A2", "A1", "A2");
+        repositoryHandler.addLineage("A1B1", "A1", "B1");
+
+        TestMetadataElementHandler handler = getHandler(repositoryHandler);
+
+        Map<String, OpenMetadataLineageNode> nodes = getNodes(getLineageGraph(handler, "A", false, 0, 0, 0, false));
+
+        Assert.assertEquals(nodes.keySet(), Collections.singleton("A"));
+        Assert.assertNull(nodes.get("A").getLineageLinks());
+
+        OpenMetadataLineageGraph lineageGraph = getLineageGraph(handler, "A", true, 0, 0, 0, false);
+
+        nodes = getNodes(lineageGraph);
+
+        Assert.assertFalse(lineageGraph.getTruncated());
+        Assert.assertEquals(nodes.keySet(), new HashSet<>(Arrays.asList("A", "B1")));
+
+        /*
+         * The relationship between the two schema elements of A is seen from both ends, and both links are
+         * internal to A.
+         */
+        int internalLinks = 0;
+
+        for (OpenMetadataLineageLink lineageLink : nodes.get("A").getLineageLinks())
+        {
+            if ("A1A2".equals(lineageLink.getRelationshipGUID()))
+            {
+                Assert.assertEquals(lineageLink.getLinkedElementGUID(), "A");
+                internalLinks++;
+            }
+            else
+            {
+                Assert.assertEquals(lineageLink.getRelationshipGUID(), "A1B1");
+                Assert.assertEquals(lineageLink.getLinkedElementGUID(), "B1");
+            }
+        }
+
+        Assert.assertEquals(internalLinks, 2);
+        Assert.assertEquals(nodes.get("B1").getDepth(), 1);
+    }
+
+
+    @Test
+    public void testParallelExpansionMatchesSerialExpansion() throws Exception
+    {
+        TestRepositoryHandler repositoryHandler = new TestRepositoryHandler(getRepositoryHelper());
+
+        /*
+         * Two upstream and two downstream branches around S, with the asset schema elements linked as well.
+         */
+        for (String assetGUID : Arrays.asList("P1", "P2", "P3", "S", "C1", "C2", "C3", "C4"))
+        {
+            repositoryHandler.addAsset(assetGUID);
+        }
+
+        repositoryHandler.addSchemaElement("S-1", "S");
+        repositoryHandler.addSchemaElement("C1-1", "C1");
+        repositoryHandler.addLineage("P1S", "P1", "S");
+        repositoryHandler.addLineage("P2S", "P2", "S");
+        repositoryHandler.addLineage("P3P1", "P3", "P1");
+        repositoryHandler.addLineage("P3P2", "P3", "P2");
+        repositoryHandler.addLineage("SC1", "S", "C1");
+        repositoryHandler.addLineage("SC2", "S", "C2");
+        repositoryHandler.addLineage("C1C3", "C1", "C3");
+        repositoryHandler.addLineage("C2C3", "C2", "C3");
+        repositoryHandler.addLineage("C3C4", "C3", "C4");
+        repositoryHandler.addLineage("S-1C1-1", "S-1", "C1-1");
+
+        TestMetadataElementHandler handler = getHandler(repositoryHandler);
+
+        for (boolean allAnchors : new boolean[]{false, true})
+        {
+            OpenMetadataLineageGraph serialGraph   = getLineageGraph(handler, "S", allAnchors, 0, 0, 0, false);
+            OpenMetadataLineageGraph parallelGraph = getLineageGraph(handler, "S", allAnchors, 0, 0, 0, true);
+
+            Assert.assertFalse(serialGraph.getTruncated());
+            Assert.assertFalse(parallelGraph.getTruncated());
+            Assert.assertEquals(describeGraph(parallelGraph), describeGraph(serialGraph));
+        }
+
+        Assert.assertEquals(getNodes(getLineageGraph(handler, "S", false, 0, 0, 0, true)).size(), 8);
+    }
+
+
+    /**
+     * Repository handler that serves lineage relationships and anchored schema elements from memory.
+     */
+    private static class TestRepositoryHandler extends RepositoryHandler
+    {
+        private final OMRSRepositoryContentHelper repositoryHelper;
+        private final Map<String, EntityDetail>   entities       = new HashMap<>();
+        private final List<Relationship>          relationships  = new ArrayList<>();
+        private volatile long                     retrievalDelay = 0L;
+
+
+        /**
+         * Constructor.
+         *
+         * @param repositoryHelper repository helper
+         */
+        TestRepositoryHandler(OMRSRepositoryContentHelper repositoryHelper)
+        {
+            super(null, repositoryHelper, null, null, 0);
+
+            this.repositoryHelper = repositoryHelper;
+        }
+
+
+        /**
+         * Return the repository helper used by this handler.
+         *
+         * @return repository helper
+         */
+        OMRSRepositoryContentHelper getTestRepositoryHelper()
+        {
+            return repositoryHelper;
+        }
+
+
+        /**
+         * Set the time that each retrieval of relationships takes.
+         *
+         * @param retrievalDelay delay in milliseconds
+         */
+        void setRetrievalDelay(long retrievalDelay)
+        {
+            this.retrievalDelay = retrievalDelay;
+        }
+
+
+        /**
+         * Return the entity with the requested GUID.
+         *
+         * @param guid unique identifier
+         * @return entity or null
+         */
+        EntityDetail getEntity(String guid)
+        {
+            return entities.get(guid);
+        }
+
+
+        /**
+         * Add an asset.
+         *
+         * @param guid unique identifier of the asset
+         */
+        void addAsset(String guid)
+        {
+            this.addEntity(guid, assetTypeName, null);
+        }
+
+
+        /**
+         * Add a schema element that is anchored to an asset.
+         *
+         * @param guid unique identifier of the schema element
+         * @param anchorGUID unique identifier of the asset
+         */
+        void addSchemaElement(String guid,
+                              String anchorGUID)
+        {
+            this.addEntity(guid, schemaTypeName, anchorGUID);
+        }
+
+
+        /**
+         * Add an entity.
+         *
+         * @param guid unique identifier
+         * @param typeName type of the entity
+         * @param anchorGUID unique identifier of the anchor (null for none)
+         */
+        private void addEntity(String guid,
+                               String typeName,
+                               String anchorGUID)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entity.setType(new InstanceType(TypeDefCategory.ENTITY_DEF, typeName + "GUID", typeName, 1L));
+            entity.setStatus(InstanceStatus.ACTIVE);
+            entity.setVersion(1L);
+
+            if (anchorGUID != null)
+            {
+                Classification         anchors     = new Classification();
+                InstanceProperties     properties  = new InstanceProperties();
+                PrimitivePropertyValue anchorValue = new PrimitivePropertyValue();
+
+                anchorValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                anchorValue.setPrimitiveValue(anchorGUID);
+                properties.setProperty(OpenMetadataProperty.ANCHOR_GUID.name, anchorValue);
+
+                anchors.setName(OpenMetadataType.ANCHORS_CLASSIFICATION.typeName);
+                anchors.setType(new InstanceType(TypeDefCategory.CLASSIFICATION_DEF,
+                                                 OpenMetadataType.ANCHORS_CLASSIFICATION.typeGUID,
+                                                 OpenMetadataType.ANCHORS_CLASSIFICATION.typeName,
+                                                 1L));
+                anchors.setProperties(properties);
+
+                entity.setClassifications(Collections.singletonList(anchors));
+            }
+
+            entities.put(guid, entity);
+        }
+
+
+        /**
+         * Add a lineage relationship where data flows from end 1 to end 2.
+         *
+         * @param guid unique identifier of the relationship
+         * @param end1GUID unique identifier of the upstream entity
+         * @param end2GUID unique identifier of the downstream entity
+         */
+        void addLineage(String guid,
+                        String end1GUID,
+                        String end2GUID)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID(guid);
+            relationship.setType(new InstanceType(TypeDefCategory.RELATIONSHIP_DEF, lineageTypeName + "GUID", lineageTypeName, 1L));
+            relationship.setStatus(InstanceStatus.ACTIVE);
+            relationship.setVersion(1L);
+            relationship.setEntityOneProxy(new EntityProxy(entities.get(end1GUID)));
+            relationship.setEntityTwoProxy(new EntityProxy(entities.get(end2GUID)));
+
+            relationships.add(relationship);
+        }
+
+
+        /**
+         * Return the lineage relationships attached to an entity.
+         *
+         * @param attachmentEntityEnd 0 means either end, 1 means only take from end 1, 2 means only take from end 2
+         * @return list of relationships
+         */
+        @Override
+        public List<Relationship> getRelationshipsByType(String               userId,
+                                                         EntityDetail         startingEntity,
+                                                         String               startingEntityTypeName,
+                                                         String               relationshipTypeGUID,
+                                                         String               relationshipTypeName,
+                                                         int                  attachmentEntityEnd,
+                                                         List<InstanceStatus> limitResultsByStatus,
+                                                         Date                 asOfTime,
+                                                         SequencingOrder      callersSequencingOrder,
+                                                         String               sequencingPropertyName,
+                                                         boolean              forLineage,
+                                                         boolean              forDuplicateProcessing,
+                                                         int                  startingFrom,
+                                                         int                  pageSize,
+                                                         Date                 effectiveTime,
+                                                         String               methodName)
+        {
+            if (retrievalDelay > 0)
+            {
+                try
+                {
+                    Thread.sleep(retrievalDelay);
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            List<Relationship> results = new ArrayList<>();
+
+            for (Relationship relationship : relationships)
+            {
+                boolean atEnd1 = startingEntity.getGUID().equals(relationship.getEntityOneProxy().getGUID());
+                boolean atEnd2 = startingEntity.getGUID().equals(relationship.getEntityTwoProxy().getGUID());
+
+                if (((attachmentEntityEnd == 0) && (atEnd1 || atEnd2)) ||
+                    ((attachmentEntityEnd == 1) && (atEnd2)) ||
+                    ((attachmentEntityEnd == 2) && (atEnd1)))
+                {
+                    results.add(relationship);
+                }
+            }
+
+            return results;
+        }
+
+
+        /**
+         * Return the schema elements whose Anchors classification names one of the requested anchors.
+         *
+         * @param searchClassifications Anchors classification condition
+         * @param startingFrom paging start point
+         * @param pageSize maximum results that can be returned
+         * @return list of entities or null
+         */
+        @Override
+        public List<EntityDetail> findEntities(String                userId,
+                                               String                entityTypeGUID,
+                                               List<String>          entitySubtypeGUIDs,
+                                               boolean               skipSubtypes,
+                                               SearchProperties      searchProperties,
+                                               List<InstanceStatus>  limitResultsByStatus,
+                                               SearchClassifications searchClassifications,
+                                               Date                  asOfTime,
+                                               String                sequencingProperty,
+                                               SequencingOrder       sequencingOrder,
+                                               boolean               forLineage,
+                                               boolean               forDuplicateProcessing,
+                                               int                   startingFrom,
+                                               int                   pageSize,
+                                               Date                  effectiveTime,
+                                               String                methodName)
+        {
+            Set<String> anchorGUIDs = new HashSet<>();
+
+            for (ClassificationCondition classificationCondition : searchClassifications.getConditions())
+            {
+                for (PropertyCondition propertyCondition : classificationCondition.getMatchProperties().getConditions())
+                {
+                    anchorGUIDs.add(((PrimitivePropertyValue)propertyCondition.getValue()).getPrimitiveValue().toString());
+                }
+            }
+
+            List<EntityDetail> matchingEntities = new ArrayList<>();
+
+            for (EntityDetail entity : entities.values())
+            {
+                if (entity.getClassifications() != null)
+                {
+                    String anchorGUID = repositoryHelper.getStringProperty(serviceName,
+                                                                           OpenMetadataProperty.ANCHOR_GUID.name,
+                                                                           entity.getClassifications().get(0).getProperties(),
+                                                                           methodName);
+
+                    if (anchorGUIDs.contains(anchorGUID))
+                    {
+                        matchingEntities.add(entity);
+                    }
+                }
+            }
+
+            matchingEntities.sort(Comparator.comparing(EntityDetail::getGUID));
+
+            if (startingFrom >= matchingEntities.size())
+            {
+                return null;
+            }
+
+            return new ArrayList<>(matchingEntities.subList(startingFrom, Math.min(startingFrom + pageSize, matchingEntities.size())));
+        }
+    }
+
+
+    /**
+     * Metadata element handler that skips the security and anchor validation of the retrieved entities.
+     */
+    private static class TestMetadataElementHandler extends MetadataElementHandler<OpenMetadataElement>
+    {
+        private final TestRepositoryHandler repositoryHandler;
+
+
+        /**
+         * Construct the handler.
+         *
+         * @param converter converter for the bean class
+         * @param beanClass bean class
+         * @param serviceName name of this service
+         * @param serverName name of the local server
+         * @param invalidParameterHandler handler for managing parameter errors
+         * @param repositoryHandler test repository handler
+         * @param repositoryHelper repository helper
+         * @param localServerUserId userId for this server
+         * @param securityVerifier security verifier
+         * @param auditLog audit log (null for no logging)
+         */
+        TestMetadataElementHandler(MetadataElementConverter<OpenMetadataElement> converter,
+                                   Class<OpenMetadataElement>                    beanClass,
+                                   String                                        serviceName,
+                                   String                                        serverName,
+                                   InvalidParameterHandler                       invalidParameterHandler,
+                                   TestRepositoryHandler                         repositoryHandler,
+                                   OMRSRepositoryContentHelper                   repositoryHelper,
+                                   String                                        localServerUserId,
+                                   OpenMetadataServerSecurityVerifier            securityVerifier,
+                                   AuditLog                                      auditLog)
+        {
+            super(converter,
+                  beanClass,
+                  serviceName,
+                  serverName,
+                  invalidParameterHandler,
+                  repositoryHandler,
+                  repositoryHelper,
+                  localServerUserId,
+                  securityVerifier,
+                  auditLog);
+
+            this.repositoryHandler = repositoryHandler;
+        }
+
+
+        /**
+         * Return the requested entity from the test repository handler.
+         *
+         * @return entity
+         * @throws InvalidParameterException the entity is not known
+         */
+        @Override
+        public EntityDetail getEntityFromRepository(String  userId,
+                                                    String  requestedEntityGUID,
+                                                    String  requestedEntityGUIDParameterName,
+                                                    String  requestedEntityTypeName,
+                                                    String  requiredClassificationName,
+                                                    String  omittedClassificationName,
+                                                    boolean forLineage,
+                                                    boolean forDuplicateProcessing,
+                                                    Date    asOfTime,
+                                                    Date    effectiveTime,
+                                                    String  methodName) throws InvalidParameterException
+        {
+            EntityDetail entity = repositoryHandler.getEntity(requestedEntityGUID);
+
+            if (entity == null)
+            {
+                throw new InvalidParameterException(OMRSErrorCode.NULL_REFERENCE_INSTANCE.getMessageDefinition(serviceName, methodName, requestedEntityGUID),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    requestedEntityGUIDParameterName);
+            }
+
+            return entity;
+        }
+
+
+        /**
+         * Return the entities at the requested end of the relationships.
+         *
+         * @return map of entity GUID to entity
+         */
+        @Override
+        public Map<String, EntityDetail> getValidatedEntities(String             userId,
+                                                              String             startingGUID,
+                                                              String             startingTypeName,
+                                                              List<Relationship> retrievedRelationships,
+                                                              String             attachmentEntityTypeName,
+                                                              String             requiredClassificationName,
+                                                              String             omittedClassificationName,
+                                                              int                selectionEnd,
+                                                              boolean            forLineage,
+                                                              boolean            forDuplicateProcessing,
+                                                              Date               effectiveTime,
+                                                              String             methodName)
+        {
+            Map<String, EntityDetail> validatedEntities = new HashMap<>();
+
+            for (Relationship relationship : retrievedRelationships)
+            {
+                EntityProxy  entityProxy = (selectionEnd == 1) ? relationship.getEntityOneProxy() : relationship.getEntityTwoProxy();
+                EntityDetail entity      = repositoryHandler.getEntity(entityProxy.getGUID());
+
+                if (entity != null)
+                {
+                    validatedEntities.put(entity.getGUID(), entity);
+                }
+            }
+
+            return validatedEntities;
+        }
+
+
+        /**
+         * Return the retrieved entities without further validation.
+         *
+         * @return the retrieved entities
+         */
+        @Override
+        public List<EntityDetail> getValidatedEntities(String             userId,
+                                                       List<EntityDetail> retrievedEntities,
+                                                       String             omittedClassificationName,
+                                                       boolean            forLineage,
+                                                       boolean            forDuplicateProcessing,
+                                                       Date               effectiveTime,
+                                                       String             methodName)
+        {
+            return retrievedEntities;
+        }
+    }
+}
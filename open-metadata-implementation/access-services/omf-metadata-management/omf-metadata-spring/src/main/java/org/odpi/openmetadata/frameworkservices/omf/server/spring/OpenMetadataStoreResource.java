@@ -921,6 +921,34 @@ public class OpenMetadataStoreResource
     }
 
 
+    /**
+     * Return the elements that are linked to a requested element through lineage relationships.  The graph is
+     * retrieved level by level from the starting element, following upstream elements upstream and downstream
+     * elements downstream, until the graph is complete or one of the traversal budgets is used up.
+     *
+     * @param serverName name of the server instances for this request
+     * @param userId the userId of the requesting user
+     * @param elementGUID  unique identifier for the starting element
+     * @param requestBody lineage relationships to follow, traversal budgets and other options to control the query
+     *
+     * @return graph of elements or
+     * InvalidParameterException - one of the parameters is null or invalid or
+     * PropertyServerException - a problem retrieving the elements from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    @PostMapping(path = "/metadata-elements/{elementGUID}/lineage-graph")
+    @SecurityRequirement(name = "BearerAuthorization")
+
+    public OpenMetadataLineageGraphResponse getLineageGraph(@PathVariable String                      serverName,
+                                                            @PathVariable String                      userId,
+                                                            @PathVariable String                      elementGUID,
+                                                            @RequestBody (required = false)
+                                                                          LineageTraversalRequestBody requestBody)
+    {
+        return restAPI.getLineageGraph(serverName, userId, elementGUID, requestBody);
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of pages.
      *
@@ -19,8 +19,7 @@ import java.util.List;
 public interface CSVFileStore extends BasicFileStore
 {
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.
      *
      * @return count
      * @throws FileException a problem accessing the file
@@ -51,4 +50,26 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(long  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Open a cursor that returns each data record in turn, starting with record 0.  This is the efficient way to
+     * process every record in the file.
+     *
+     * @return cursor positioned at the first data record - it must be closed by the caller
+     * @throws FileException a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file
+     */
+    CSVRecordCursor openRecordCursor() throws FileException, FileReadException;
+
+
+    /**
+     * Open a cursor that returns each data record in turn, starting with the requested record.
+     *
+     * @param startingRecordNumber number of the first data record to return
+     * @return cursor positioned at the requested data record - it must be closed by the caller
+     * @throws FileException a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
+     */
+    CSVRecordCursor openRecordCursor(long startingRecordNumber) throws FileException, FileReadException;
 }
@@ -18,11 +18,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
 
 
 /**
  * CSVFileStoreConnector works with structured files to retrieve simple tables of data.
+ * <br><br>
+ * The connector keeps a sparse index of the lines in the file so that it can count the records and locate
+ * a requested record without reading the file from the start each time.  The index is rebuilt whenever the file
+ * changes, and can optionally be saved in a sidecar file next to the CSV file.  Callers that process every record
+ * should use a record cursor rather than calling readRecord() for each record.
  */
 public class CSVFileStoreConnector extends BasicFileStoreConnector implements CSVFileStore
 {
@@ -33,6 +37,16 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private char           delimiterChar       = ',';
     private char           quoteChar         = '"';
 
+    /*
+     * Variables used in managing the record index.
+     */
+    private static final int    defaultRecordIndexInterval = 1000;
+    private static final String recordIndexFileSuffix      = ".idx";
+
+    private int            recordIndexInterval = defaultRecordIndexInterval;
+    private boolean        persistRecordIndex  = false;
+    private CSVRecordIndex recordIndex         = null;
+
 
     /*
      * Variables used for logging and debug.
@@ -83,10 +97,36 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             {
                 quoteChar = (char)quoteCharProperty;
             }
+
+            int configuredInterval = super.getIntConfigurationProperty(CSVFileConfigurationProperty.RECORD_INDEX_INTERVAL.getName(),
+                                                                       configurationProperties);
+
+            if (configuredInterval > 0)
+            {
+                recordIndexInterval = configuredInterval;
+            }
+
+            persistRecordIndex = super.getBooleanConfigurationProperty(CSVFileConfigurationProperty.PERSIST_RECORD_INDEX.getName(),
+                                                                       configurationProperties);
         }
     }
 
 
+    /**
+     * Set up the file name to use.  The record index of any previous file is discarded.
+     *
+     * @param fileStoreName path name of the desired file
+     * @throws FileException problem using the name as a file name
+     */
+    @Override
+    public void setFileStoreName(String fileStoreName) throws FileException
+    {
+        super.setFileStoreName(fileStoreName);
+
+        this.resetRecordIndex();
+    }
+
+
     /**
      * Return any fixed column names defined by the connector
      * @return list of configured column names
@@ -120,8 +160,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The file is only scanned if it has changed since it was last
+     * indexed.
      *
      * @return count
      * @throws FileException problem accessing the file
@@ -132,31 +172,11 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
+        long rowCount = this.getRecordIndex(methodName).getLineCount();
 
-        File fileStore = getFile(methodName);
-
-        try (Scanner scanner  = new Scanner(fileStore))
+        if ((rowCount > 0) && (suppliedColumnNames == null))
         {
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
-
-            if ((rowCount > 0) && (suppliedColumnNames == null))
-            {
-                rowCount = rowCount - 1;
-            }
-        }
-        catch (IOException  error)
-        {
-            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
-                                                                                                               error.getMessage()),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        error,
-                                        fileStoreName);
+            rowCount = rowCount - 1;
         }
 
         return rowCount;
@@ -215,6 +235,76 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Open a cursor that returns each data record in turn, starting with record 0.
+     *
+     * @return cursor positioned at the first data record - it must be closed by the caller
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file
+     */
+    @Override
+    public CSVRecordCursor openRecordCursor() throws FileException, FileReadException
+    {
+        final String  methodName = "openRecordCursor";
+
+        return this.openCursor(this.getFirstRecordLine(), 0L, methodName);
+    }
+
+
+    /**
+     * Open a cursor that returns each data record in turn, starting with the requested record.
+     *
+     * @param startingRecordNumber number of the first data record to return
+     * @return cursor positioned at the requested data record - it must be closed by the caller
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
+     */
+    @Override
+    public CSVRecordCursor openRecordCursor(long startingRecordNumber) throws FileException, FileReadException
+    {
+        final String  methodName = "openRecordCursor";
+
+        long startingLine = this.getFirstRecordLine() + startingRecordNumber;
+
+        if (startingLine >= this.getRecordIndex(methodName).getLineCount())
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
+                                                                                                      Long.toString(startingLine)),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        fileStoreName);
+        }
+
+        return this.openCursor(startingLine, startingRecordNumber, methodName);
+    }
+
+
+    /**
+     * Discard the record index so that it is rebuilt the next time it is needed.  This is called when the file is
+     * changed through this connector.  Other changes to the file are detected from its length and last modified time.
+     */
+    public synchronized void resetRecordIndex()
+    {
+        recordIndex = null;
+    }
+
+
+    /**
+     * Return the line number of data record 0.
+     *
+     * @return line number
+     */
+    private long getFirstRecordLine()
+    {
+        if (suppliedColumnNames == null)
+        {
+            return 1L;
+        }
+
+        return 0L;
+    }
+
+
     /**
      * Return the requested row in the file.  The first record is record 0.
      *
@@ -227,31 +317,135 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String> readRow(long    recordLocation,
                                  String  methodName) throws FileException, FileReadException
     {
-        File fileStore = super.getFile(methodName);
+        if (recordLocation >= this.getRecordIndex(methodName).getLineCount())
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
+                                                                                                      Long.toString(recordLocation)),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        fileStoreName);
+        }
 
-        try (Scanner scanner = new Scanner(fileStore))
+        try (CSVRecordCursor cursor = this.openCursor(recordLocation, recordLocation, methodName))
         {
+            return cursor.nextRecord();
+        }
+    }
+
+
+    /**
+     * Open a cursor positioned at the requested line.  The line reader starts from the nearest indexed line and
+     * skips forward to the requested line.
+     *
+     * @param lineNumber line number of the first record to return
+     * @param recordNumber record number of the first record to return
+     * @param methodName name of calling method
+     * @return cursor
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file
+     */
+    private CSVRecordCursor openCursor(long    lineNumber,
+                                       long    recordNumber,
+                                       String  methodName) throws FileException, FileReadException
+    {
+        File           fileStore    = super.getFile(methodName);
+        CSVRecordIndex currentIndex = this.getRecordIndex(methodName);
+        long           startingLine = 0L;
+        long           startOffset  = 0L;
 
-            int rowCounter = 0;
-            while (scanner.hasNext())
+        if (lineNumber < currentIndex.getLineCount())
+        {
+            startingLine = currentIndex.getIndexedLineNumber(lineNumber);
+            startOffset  = currentIndex.getIndexedLineOffset(lineNumber);
+        }
+        else
+        {
+            /*
+             * The cursor will be at the end of the file.
+             */
+            startingLine = lineNumber;
+            startOffset  = fileStore.length();
+        }
+
+        CSVLineReader lineReader = null;
+
+        try
+        {
+            lineReader = new CSVLineReader(fileStore, startOffset);
+
+            for (long line = startingLine; line < lineNumber; line++)
             {
-                if (rowCounter == recordLocation)
+                lineReader.skipLine();
+            }
+
+            return new CSVRecordCursor(this, lineReader, fileStoreName, recordNumber);
+        }
+        catch (IOException  error)
+        {
+            if (lineReader != null)
+            {
+                try
                 {
-                    return parseRecord(scanner.nextLine());
+                    lineReader.close();
                 }
-                else
+                catch (IOException closeError)
                 {
-                    scanner.nextLine();
+                    log.debug("Ignoring unexpected exception " + closeError.getClass().getSimpleName() + " with message " + closeError.getMessage());
                 }
-                rowCounter ++;
             }
 
-            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
-                                                                                                      Long.toString(recordLocation)),
+            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                               error.getMessage()),
                                         this.getClass().getName(),
                                         methodName,
+                                        error,
                                         fileStoreName);
+        }
+    }
+
+
+    /**
+     * Return the record index for the file, building it if the file has changed since it was last indexed.
+     * If the index is persisted, a saved index is used if it is still current, and a newly built index is saved.
+     *
+     * @param methodName name of calling method
+     * @return record index
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or scan the file
+     */
+    private synchronized CSVRecordIndex getRecordIndex(String methodName) throws FileException, FileReadException
+    {
+        File fileStore = super.getFile(methodName);
+
+        if ((recordIndex != null) && (recordIndex.isCurrent(fileStore, recordIndexInterval)))
+        {
+            return recordIndex;
+        }
+
+        File sidecarFile = new File(fileStore.getPath() + recordIndexFileSuffix);
+
+        if (persistRecordIndex)
+        {
+            try
+            {
+                CSVRecordIndex savedIndex = CSVRecordIndex.load(sidecarFile);
+
+                if ((savedIndex != null) && (savedIndex.isCurrent(fileStore, recordIndexInterval)))
+                {
+                    recordIndex = savedIndex;
 
+                    return recordIndex;
+                }
+            }
+            catch (IOException error)
+            {
+                log.debug("Rebuilding record index for " + fileStoreName + " after " + error.getClass().getSimpleName() + " with message " + error.getMessage());
+            }
+        }
+
+        try
+        {
+            recordIndex = CSVRecordIndex.build(fileStore, recordIndexInterval);
         }
         catch (IOException  error)
         {
@@ -262,6 +456,23 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
                                         error,
                                         fileStoreName);
         }
+
+        if (persistRecordIndex)
+        {
+            try
+            {
+                recordIndex.save(sidecarFile);
+            }
+            catch (IOException error)
+            {
+                /*
+                 * The index is still usable - it will be rebuilt after a restart.
+                 */
+                log.debug("Unable to save record index for " + fileStoreName + " after " + error.getClass().getSimpleName() + " with message " + error.getMessage());
+            }
+        }
+
+        return recordIndex;
     }
 
 
@@ -272,7 +483,7 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
      * @param fileRecord a single record from the CSV file store
      * @return a list of column values extracted from the record
      */
-    private  List<String> parseRecord(String fileRecord)
+    public List<String> parseRecord(String fileRecord)
     {
         if ((fileRecord == null) || (fileRecord.isEmpty()))
         {
@@ -0,0 +1,276 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * CSVLineReader reads the lines of a CSV file from a given byte offset, keeping track of the offset of each line
+ * so that it can be recorded in the record index.  Lines end with "\n", "\r\n" or "\r".  Like Scanner (which the
+ * connector originally used), the whitespace-only lines at the end of the file are not returned.
+ */
+class CSVLineReader implements AutoCloseable
+{
+    private static final int bufferSize = 64 * 1024;
+
+    private final InputStream           inputStream;
+    private final Charset               charset        = Charset.defaultCharset();
+    private final ByteArrayOutputStream lineBuffer     = new ByteArrayOutputStream(256);
+
+    private long    offset         = 0L;
+    private int     pendingByte    = -1;
+    private boolean endOfFile      = false;
+    private long    lineOffset     = 0L;
+    private boolean lineHasContent = false;
+
+    /*
+     * Whitespace-only lines are held back until a line with content is found after them.
+     */
+    private final Deque<Long>   heldLineOffsets = new ArrayDeque<>();
+    private final Deque<String> heldLines       = new ArrayDeque<>();
+
+
+    /**
+     * Open the file at the requested offset.  The offset must be the start of a line.
+     *
+     * @param file file to read
+     * @param startingOffset byte offset of the first line to read
+     * @throws IOException unable to open the file
+     */
+    CSVLineReader(File file,
+                  long startingOffset) throws IOException
+    {
+        FileInputStream fileInputStream = new FileInputStream(file);
+
+        try
+        {
+            fileInputStream.getChannel().position(startingOffset);
+        }
+        catch (IOException error)
+        {
+            fileInputStream.close();
+            throw error;
+        }
+
+        this.inputStream = new BufferedInputStream(fileInputStream, bufferSize);
+        this.offset      = startingOffset;
+    }
+
+
+    /**
+     * Move past the next line without decoding it.
+     *
+     * @return byte offset of the start of the line or -1 if there are no more lines
+     * @throws IOException problem reading the file
+     */
+    long skipLine() throws IOException
+    {
+        if (! heldLineOffsets.isEmpty())
+        {
+            heldLines.removeFirst();
+            return heldLineOffsets.removeFirst();
+        }
+
+        if (! this.scanLine())
+        {
+            return -1L;
+        }
+
+        if (lineHasContent)
+        {
+            return lineOffset;
+        }
+
+        if (this.holdWhitespaceLines())
+        {
+            heldLines.removeFirst();
+            return heldLineOffsets.removeFirst();
+        }
+
+        return -1L;
+    }
+
+
+    /**
+     * Return the next line, without its line terminator.
+     *
+     * @return line or null if there are no more lines
+     * @throws IOException problem reading the file
+     */
+    String readLine() throws IOException
+    {
+        if (! heldLineOffsets.isEmpty())
+        {
+            heldLineOffsets.removeFirst();
+            return heldLines.removeFirst();
+        }
+
+        if (! this.scanLine())
+        {
+            return null;
+        }
+
+        if (lineHasContent)
+        {
+            return lineBuffer.toString(charset);
+        }
+
+        if (this.holdWhitespaceLines())
+        {
+            heldLineOffsets.removeFirst();
+            return heldLines.removeFirst();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Having read a whitespace-only line, read ahead to find out whether a line with content follows it.
+     * If it does, the lines that were read are held back to be returned in order.
+     *
+     * @return true if a line with content was found
+     * @throws IOException problem reading the file
+     */
+    private boolean holdWhitespaceLines() throws IOException
+    {
+        do
+        {
+            heldLineOffsets.addLast(lineOffset);
+            heldLines.addLast(lineBuffer.toString(charset));
+
+            if (lineHasContent)
+            {
+                return true;
+            }
+        }
+        while (this.scanLine());
+
+        heldLineOffsets.clear();
+        heldLines.clear();
+
+        return false;
+    }
+
+
+    /**
+     * Read the next line into the line buffer.
+     *
+     * @return false if there are no more lines
+     * @throws IOException problem reading the file
+     */
+    private boolean scanLine() throws IOException
+    {
+        if (endOfFile)
+        {
+            return false;
+        }
+
+        lineBuffer.reset();
+        lineOffset     = offset;
+        lineHasContent = false;
+
+        boolean lineHasBytes = false;
+
+        while (true)
+        {
+            int nextByte = this.read();
+
+            if (nextByte == -1)
+            {
+                endOfFile = true;
+                return lineHasBytes;
+            }
+
+            lineHasBytes = true;
+
+            if (nextByte == '\n')
+            {
+                return true;
+            }
+
+            if (nextByte == '\r')
+            {
+                int followingByte = this.read();
+
+                if ((followingByte != '\n') && (followingByte != -1))
+                {
+                    pendingByte = followingByte;
+                    offset--;
+                }
+
+                return true;
+            }
+
+            if (! isWhitespace(nextByte))
+            {
+                lineHasContent = true;
+            }
+
+            lineBuffer.write(nextByte);
+        }
+    }
+
+
+    /**
+     * Return whether the byte is a whitespace character as understood by Scanner.  Only ASCII whitespace is
+     * recognized.
+     *
+     * @param nextByte byte from the file
+     * @return boolean result
+     */
+    private static boolean isWhitespace(int nextByte)
+    {
+        return (nextByte == ' ') || ((nextByte >= 0x09) && (nextByte <= 0x0D)) || ((nextByte >= 0x1C) && (nextByte <= 0x1F));
+    }
+
+
+    /**
+     * Read the next byte from the file.
+     *
+     * @return byte or -1 at the end of the file
+     * @throws IOException problem reading the file
+     */
+    private int read() throws IOException
+    {
+        int nextByte;
+
+        if (pendingByte != -1)
+        {
+            nextByte    = pendingByte;
+            pendingByte = -1;
+        }
+        else
+        {
+            nextByte = inputStream.read();
+        }
+
+        if (nextByte != -1)
+        {
+            offset++;
+        }
+
+        return nextByte;
+    }
+
+
+    /**
+     * Close the file.
+     *
+     * @throws IOException problem closing the file
+     */
+    @Override
+    public void close() throws IOException
+    {
+        inputStream.close();
+    }
+}
@@ -0,0 +1,143 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.exception.FileReadException;
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.ffdc.CSVFileConnectorErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * CSVRecordCursor steps through the data records of a CSV file in order, keeping the file open between records.
+ * This is the efficient way to process every record in a file - each call to readRecord() has to locate
+ * the record in the file.  The cursor must be closed when it is no longer needed; it is designed to be used in a
+ * try-with-resources block.
+ * <br><br>
+ * The records returned are the same as those returned by readRecord().
+ */
+public class CSVRecordCursor implements AutoCloseable
+{
+    private final CSVFileStoreConnector fileStoreConnector;
+    private final CSVLineReader         lineReader;
+    private final String                fileStoreName;
+
+    private long    recordNumber;
+    private String  nextLine     = null;
+    private boolean endOfRecords = false;
+
+    private static final Logger log = LoggerFactory.getLogger(CSVRecordCursor.class);
+
+
+    /**
+     * Constructor is called by the CSV file store connector once the line reader is positioned at the first
+     * record to return.
+     *
+     * @param fileStoreConnector connector that parses the records
+     * @param lineReader reader positioned at the first record to return
+     * @param fileStoreName name of the file (for error messages)
+     * @param recordNumber number of the first record to return
+     */
+    CSVRecordCursor(CSVFileStoreConnector fileStoreConnector,
+                    CSVLineReader         lineReader,
+                    String                fileStoreName,
+                    long                  recordNumber)
+    {
+        this.fileStoreConnector = fileStoreConnector;
+        this.lineReader         = lineReader;
+        this.fileStoreName      = fileStoreName;
+        this.recordNumber       = recordNumber;
+    }
+
+
+    /**
+     * Return whether there is another record to read.
+     *
+     * @return boolean result
+     * @throws FileReadException unable to read the file
+     */
+    public boolean hasNextRecord() throws FileReadException
+    {
+        final String methodName = "hasNextRecord";
+
+        if ((nextLine == null) && (! endOfRecords))
+        {
+            try
+            {
+                nextLine = lineReader.readLine();
+            }
+            catch (IOException error)
+            {
+                throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                                   error.getMessage()),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            error,
+                                            fileStoreName);
+            }
+
+            endOfRecords = (nextLine == null);
+        }
+
+        return ! endOfRecords;
+    }
+
+
+    /**
+     * Return the number of the record that the next call to nextRecord() returns.  The first record is record 0.
+     *
+     * @return record number
+     */
+    public long getRecordNumber()
+    {
+        return recordNumber;
+    }
+
+
+    /**
+     * Return the next record.
+     *
+     * @return List of strings, each string is the value from the column.  Null is returned for a blank line.
+     * @throws FileReadException unable to read the file, or there are no more records
+     */
+    public List<String> nextRecord() throws FileReadException
+    {
+        final String methodName = "nextRecord";
+
+        if (! this.hasNextRecord())
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
+                                                                                                      Long.toString(recordNumber)),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        fileStoreName);
+        }
+
+        String fileRecord = nextLine;
+
+        nextLine = null;
+        recordNumber++;
+
+        return fileStoreConnector.parseRecord(fileRecord);
+    }
+
+
+    /**
+     * Close the file.
+     */
+    @Override
+    public void close()
+    {
+        try
+        {
+            lineReader.close();
+        }
+        catch (IOException error)
+        {
+            log.debug("Ignoring unexpected exception " + error.getClass().getSimpleName() + " with message " + error.getMessage());
+        }
+    }
+}
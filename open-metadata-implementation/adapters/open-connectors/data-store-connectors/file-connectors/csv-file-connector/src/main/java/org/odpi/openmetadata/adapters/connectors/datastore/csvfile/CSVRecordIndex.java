@@ -0,0 +1,230 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * CSVRecordIndex is a sparse index of the lines in a CSV file.  It records the number of lines in the file and the
+ * byte offset of every n-th line (the index interval), so reading any line only needs a seek to the nearest
+ * indexed line and a skip over fewer than n lines.  The index is built in a single pass over the file.
+ * <br><br>
+ * The index records the length and last modified time of the file it was built from, so the connector can detect
+ * that the file has changed and the index must be rebuilt.  It can be saved to, and loaded from, a sidecar file
+ * so that it survives a restart.
+ */
+class CSVRecordIndex
+{
+    private static final int  sidecarFormatIdentifier = 0x43535649; // "CSVI"
+    private static final int  sidecarFormatVersion    = 1;
+
+    private final long   fileLength;
+    private final long   lastModified;
+    private final int    indexInterval;
+    private final long   lineCount;
+    private final long[] lineOffsets;
+
+
+    /**
+     * Constructor used when the index is built or loaded.
+     *
+     * @param fileLength length of the file when the index was built
+     * @param lastModified last modified time of the file when the index was built
+     * @param indexInterval number of lines between each indexed line
+     * @param lineCount number of lines in the file
+     * @param lineOffsets byte offset of line 0, n, 2n, ...
+     */
+    private CSVRecordIndex(long   fileLength,
+                           long   lastModified,
+                           int    indexInterval,
+                           long   lineCount,
+                           long[] lineOffsets)
+    {
+        this.fileLength    = fileLength;
+        this.lastModified  = lastModified;
+        this.indexInterval = indexInterval;
+        this.lineCount     = lineCount;
+        this.lineOffsets   = lineOffsets;
+    }
+
+
+    /**
+     * Scan the file and build its index.
+     *
+     * @param file file to index
+     * @param indexInterval number of lines between each indexed line
+     * @return new index
+     * @throws IOException problem reading the file
+     */
+    static CSVRecordIndex build(File file,
+                                int  indexInterval) throws IOException
+    {
+        long   fileLength   = file.length();
+        long   lastModified = file.lastModified();
+        long   lineCount    = 0L;
+        long[] lineOffsets  = new long[16];
+        int    indexedLines = 0;
+
+        try (CSVLineReader lineReader = new CSVLineReader(file, 0L))
+        {
+            long lineOffset = lineReader.skipLine();
+
+            while (lineOffset != -1L)
+            {
+                if (lineCount % indexInterval == 0)
+                {
+                    if (indexedLines == lineOffsets.length)
+                    {
+                        lineOffsets = Arrays.copyOf(lineOffsets, indexedLines * 2);
+                    }
+
+                    lineOffsets[indexedLines] = lineOffset;
+                    indexedLines++;
+                }
+
+                lineCount++;
+                lineOffset = lineReader.skipLine();
+            }
+        }
+
+        return new CSVRecordIndex(fileLength, lastModified, indexInterval, lineCount, Arrays.copyOf(lineOffsets, indexedLines));
+    }
+
+
+    /**
+     * Load an index from its sidecar file.
+     *
+     * @param sidecarFile file where the index was saved
+     * @return loaded index or null if the sidecar file does not exist or is not in the expected format
+     * @throws IOException problem reading the sidecar file
+     */
+    static CSVRecordIndex load(File sidecarFile) throws IOException
+    {
+        if (! sidecarFile.isFile())
+        {
+            return null;
+        }
+
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(sidecarFile))))
+        {
+            if ((inputStream.readInt() != sidecarFormatIdentifier) || (inputStream.readInt() != sidecarFormatVersion))
+            {
+                return null;
+            }
+
+            long   fileLength    = inputStream.readLong();
+            long   lastModified  = inputStream.readLong();
+            int    indexInterval = inputStream.readInt();
+            long   lineCount     = inputStream.readLong();
+            int    indexedLines  = inputStream.readInt();
+
+            if ((indexInterval <= 0) || (indexedLines < 0) || (indexedLines != (lineCount + indexInterval - 1) / indexInterval))
+            {
+                return null;
+            }
+
+            long[] lineOffsets = new long[indexedLines];
+
+            for (int lineIndex = 0; lineIndex < indexedLines; lineIndex++)
+            {
+                lineOffsets[lineIndex] = inputStream.readLong();
+            }
+
+            return new CSVRecordIndex(fileLength, lastModified, indexInterval, lineCount, lineOffsets);
+        }
+    }
+
+
+    /**
+     * Save the index to its sidecar file.  It is written to a temporary file first, so a partially written index
+     * is never loaded.
+     *
+     * @param sidecarFile file to save the index in
+     * @throws IOException problem writing the sidecar file
+     */
+    void save(File sidecarFile) throws IOException
+    {
+        File temporaryFile = new File(sidecarFile.getPath() + ".tmp");
+
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile))))
+        {
+            outputStream.writeInt(sidecarFormatIdentifier);
+            outputStream.writeInt(sidecarFormatVersion);
+            outputStream.writeLong(fileLength);
+            outputStream.writeLong(lastModified);
+            outputStream.writeInt(indexInterval);
+            outputStream.writeLong(lineCount);
+            outputStream.writeInt(lineOffsets.length);
+
+            for (long lineOffset : lineOffsets)
+            {
+                outputStream.writeLong(lineOffset);
+            }
+        }
+
+        if ((sidecarFile.exists() && (! sidecarFile.delete())) || (! temporaryFile.renameTo(sidecarFile)))
+        {
+            temporaryFile.delete();
+
+            throw new IOException("Unable to replace " + sidecarFile.getPath());
+        }
+    }
+
+
+    /**
+     * Return whether the index still describes the file.
+     *
+     * @param file file that was indexed
+     * @param requestedInterval index interval that the connector is configured to use
+     * @return boolean result
+     */
+    boolean isCurrent(File file,
+                      int  requestedInterval)
+    {
+        return (indexInterval == requestedInterval) && (file.length() == fileLength) && (file.lastModified() == lastModified);
+    }
+
+
+    /**
+     * Return the number of lines in the file.
+     *
+     * @return count
+     */
+    long getLineCount()
+    {
+        return lineCount;
+    }
+
+
+    /**
+     * Return the number of the nearest indexed line at or before the requested line.
+     *
+     * @param lineNumber requested line (must be less than the line count)
+     * @return line number
+     */
+    long getIndexedLineNumber(long lineNumber)
+    {
+        return (lineNumber / indexInterval) * indexInterval;
+    }
+
+
+    /**
+     * Return the byte offset of the nearest indexed line at or before the requested line.
+     *
+     * @param lineNumber requested line (must be less than the line count)
+     * @return byte offset
+     */
+    long getIndexedLineOffset(long lineNumber)
+    {
+        return lineOffsets[(int)(lineNumber / indexInterval)];
+    }
+}
@@ -173,8 +173,8 @@ public class CSVTabularDataSetConnector extends ConnectorBase implements Readabl
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The file is only scanned if it has changed since it was last
+     * indexed.
      *
      * @return count
      * @throws FileException problem accessing the file
@@ -183,38 +183,7 @@ public class CSVTabularDataSetConnector extends ConnectorBase implements Readabl
     @Override
     public long getRecordCount() throws FileException, FileReadException
     {
-        final String  methodName = "getRecordCount";
-
-        String fileStoreName = fileStoreConnector.getFileName();
-
-        long    rowCount = 0;
-
-        File fileStore = fileStoreConnector.getFile();
-
-        try (Scanner scanner  = new Scanner(fileStore))
-        {
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
-
-            if ((rowCount > 0) && (fileStoreConnector.getSuppliedColumnNames() == null))
-            {
-                rowCount = rowCount - 1;
-            }
-        }
-        catch (IOException  error)
-        {
-            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
-                                                                                                               error.getMessage()),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        error,
-                                        fileStoreName);
-        }
-
-        return rowCount;
+        return fileStoreConnector.getRecordCount();
     }
 
 
@@ -349,6 +318,10 @@ public class CSVTabularDataSetConnector extends ConnectorBase implements Readabl
                                             error,
                                             fileStoreName);
             }
+            finally
+            {
+                fileStoreConnector.resetRecordIndex();
+            }
         }
         catch (IOException  error)
         {
@@ -427,6 +400,10 @@ public class CSVTabularDataSetConnector extends ConnectorBase implements Readabl
                                         error,
                                         fileStoreName);
         }
+        finally
+        {
+            fileStoreConnector.resetRecordIndex();
+        }
     }
 
 
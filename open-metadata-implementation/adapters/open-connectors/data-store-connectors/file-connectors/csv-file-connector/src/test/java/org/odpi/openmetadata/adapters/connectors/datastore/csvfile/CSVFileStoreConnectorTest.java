@@ -12,6 +12,7 @@ import org.testng.annotations.Test;
 
 import java.util.*;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -203,6 +204,64 @@ public class CSVFileStoreConnectorTest
         }
     }
 
+    @Test public void testRecordCursor()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            Connection          connectionBean          = getConnection(resourcesDirectory + simpleColumnsWithColumnNamesFile);
+            Map<String, Object> configurationProperties = new HashMap<>();
+
+            configurationProperties.put(CSVFileConfigurationProperty.RECORD_INDEX_INTERVAL.getName(), 4);
+
+            connectionBean.setConfigurationProperties(configurationProperties);
+            Connection connectionDetails = new Connection(connectionBean);
+
+            connector.initialize(UUID.randomUUID().toString(), connectionDetails);
+            connector.start();
+
+            long recordCount = connector.getRecordCount();
+            long cursorCount = 0;
+
+            try (CSVRecordCursor cursor = connector.openRecordCursor())
+            {
+                while (cursor.hasNextRecord())
+                {
+                    assertTrue(cursor.getRecordNumber() == cursorCount);
+                    assertEquals(cursor.nextRecord(), connector.readRecord(cursorCount));
+                    cursorCount++;
+                }
+            }
+
+            assertTrue(cursorCount == recordCount);
+
+            try (CSVRecordCursor cursor = connector.openRecordCursor(recordCount - 3))
+            {
+                assertEquals(cursor.nextRecord(), connector.readRecord(recordCount - 3));
+                assertEquals(cursor.nextRecord(), connector.readRecord(recordCount - 2));
+                assertEquals(cursor.nextRecord(), connector.readRecord(recordCount - 1));
+                assertFalse(cursor.hasNextRecord());
+            }
+
+            try
+            {
+                connector.openRecordCursor(recordCount);
+                assertTrue(false);
+            }
+            catch (FileReadException error)
+            {
+                assertTrue("The connector cannot retrieve the requested record because the file is too short.".equals(error.getReportedSystemAction()));
+            }
+
+            connector.disconnect();
+        }
+        catch (Exception  error)
+        {
+            assertTrue(false);
+        }
+    }
+
     @Test public void testNullFileName()
     {
         CSVFileStoreConnector connector = new CSVFileStoreConnector();
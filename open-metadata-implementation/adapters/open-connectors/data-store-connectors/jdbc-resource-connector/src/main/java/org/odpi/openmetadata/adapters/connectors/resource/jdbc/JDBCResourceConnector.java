@@ -25,6 +25,7 @@ import java.io.PrintWriter;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -259,6 +260,16 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
          */
         this.addKeepAliveProperty(poolConfig.getDataSourceProperties());
 
+        /*
+         * Queries that bind their values as parameters produce the same SQL text each time they are issued, so the
+         * driver can keep the statement prepared on the connection, and the database only parses and plans it once.
+         * Like keepalive, this is set before the caller's own properties so that these take precedence.
+         */
+        this.addStatementCacheProperty(poolConfig.getDataSourceProperties(),
+                                       (int) this.getLongConfigurationProperty(configurationProperties,
+                                                                               JDBCConfigurationProperty.JDBC_PREPARED_STATEMENT_CACHE_SIZE.getName(),
+                                                                               256L));
+
         /*
          * Any additional driver properties are passed straight through on every connection the pool opens.
          */
@@ -352,6 +363,52 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
     }
 
 
+    /**
+     * Ask the JDBC driver to keep prepared statements on each connection, where the property name for this driver is
+     * known.  The statements are cached by their SQL text, so a query that binds its values as parameters is parsed
+     * and planned once per connection rather than every time it is issued.
+     * <br><br>
+     * As with keepalive, nothing is set for a database whose spelling of the property is not known here.
+     *
+     * @param dataSourceProperties driver properties being assembled for the pool
+     * @param cacheSize number of statements to keep on each connection - zero disables the cache
+     */
+    private void addStatementCacheProperty(Properties dataSourceProperties,
+                                           int        cacheSize)
+    {
+        final String methodName = "addStatementCacheProperty";
+
+        if ((jdbcDatabaseURL == null) || (cacheSize < 0))
+        {
+            return;
+        }
+
+        String statementCachePropertyName = null;
+
+        if (jdbcDatabaseURL.startsWith("jdbc:postgresql:"))
+        {
+            statementCachePropertyName = "preparedStatementCacheQueries";
+        }
+        else if (jdbcDatabaseURL.startsWith("jdbc:oracle:"))
+        {
+            statementCachePropertyName = "oracle.jdbc.implicitStatementCacheSize";
+        }
+
+        if (statementCachePropertyName != null)
+        {
+            dataSourceProperties.setProperty(statementCachePropertyName, Integer.toString(cacheSize));
+
+            if ((auditLog != null) && (cacheSize > 0))
+            {
+                auditLog.logMessage(methodName,
+                                    JDBCAuditCode.STATEMENT_CACHE_ENABLED.getMessageDefinition(jdbcDatabaseName,
+                                                                                               Integer.toString(cacheSize),
+                                                                                               statementCachePropertyName));
+            }
+        }
+    }
+
+
     /**
      * Retrieve a numeric configuration property, falling back to the supplied default if it is absent or unreadable.
      *
@@ -451,6 +508,23 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
      */
     public void issueSQLCommand(java.sql.Connection jdbcConnection,
                                 String              sqlCommand) throws PropertyServerException
+    {
+        this.issueSQLCommand(jdbcConnection, sqlCommand, null);
+    }
+
+
+    /**
+     * Issue a SQL command that expects no results.  The values for the command's "?" placeholders are bound
+     * as parameters in the order they are listed.
+     *
+     * @param jdbcConnection connection to use
+     * @param sqlCommand command to issue
+     * @param parameters values for the placeholders in the command (may be null)
+     * @throws PropertyServerException something went wrong
+     */
+    public void issueSQLCommand(java.sql.Connection jdbcConnection,
+                                String              sqlCommand,
+                                List<JDBCDataValue> parameters) throws PropertyServerException
     {
         final String methodName = "issueSQLCommand";
 
@@ -458,6 +532,8 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
         {
             log.debug(sqlCommand);
 
+            this.setParameters(jdbcConnection, preparedStatement, parameters);
+
             preparedStatement.execute();
         }
         catch (SQLException sqlException)
@@ -474,6 +550,53 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
     }
 
 
+    /**
+     * Bind the values for a statement's "?" placeholders.  Values are bound in the same way as the columns of an
+     * inserted row.  A Java array bound as {@link Types#ARRAY} is converted into a SQL array (of bigints for a
+     * Long array and of strings otherwise) so that a variable-length list of values can be passed through a
+     * single placeholder, for example "column = any(?)".  This keeps the SQL text the same however many values are in the list.
+     *
+     * @param jdbcConnection connection that the statement belongs to
+     * @param preparedStatement statement to bind the values to
+     * @param parameters values for the placeholders in the order they appear in the SQL (may be null)
+     * @throws SQLException the driver rejected one of the values
+     */
+    private void setParameters(java.sql.Connection jdbcConnection,
+                               PreparedStatement   preparedStatement,
+                               List<JDBCDataValue> parameters) throws SQLException
+    {
+        if (parameters != null)
+        {
+            int parameterIndex = 1;
+
+            for (JDBCDataValue jdbcDataValue : parameters)
+            {
+                if ((jdbcDataValue.getTargetSQLType() == Types.ARRAY) && (jdbcDataValue.getDataValue() instanceof Object[] arrayValue))
+                {
+                    String elementType = (arrayValue instanceof Long[]) ? "bigint" : "varchar";
+
+                    preparedStatement.setArray(parameterIndex, jdbcConnection.createArrayOf(elementType, arrayValue));
+                }
+                else if (jdbcDataValue.getScaleOrLength() == 0)
+                {
+                    preparedStatement.setObject(parameterIndex,
+                                                jdbcDataValue.getDataValue(),
+                                                jdbcDataValue.getTargetSQLType());
+                }
+                else
+                {
+                    preparedStatement.setObject(parameterIndex,
+                                                jdbcDataValue.getDataValue(),
+                                                jdbcDataValue.getTargetSQLType(),
+                                                jdbcDataValue.getScaleOrLength());
+                }
+
+                parameterIndex++;
+            }
+        }
+    }
+
+
     /**
      * Issue a rollback on the connection when a SQL error occurs.
      *
@@ -579,25 +702,43 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
                                                      String               tableName,
                                                      String               whereClause,
                                                      Map<String, Integer> columnNameTypeMap) throws PropertyServerException
+    {
+        return this.getMatchingRow(jdbcConnection, tableName, whereClause, null, columnNameTypeMap);
+    }
+
+
+    /**
+     * Retrieve the row that matches the where clause.  The values for the where clause's "?" placeholders are
+     * bound as parameters in the order they are listed.
+     *
+     * @param jdbcConnection connection to use
+     * @param tableName name of the table to query
+     * @param whereClause condition describing how to match the desired columns
+     * @param parameters values for the placeholders in the where clause (may be null)
+     * @param columnNameTypeMap map of resulting column names and values to include in the results
+     * @return row consisting of column names to data values that represent the requested row
+     * @throws PropertyServerException there was a problem calling the database
+     */
+    public Map<String, JDBCDataValue> getMatchingRow(java.sql.Connection  jdbcConnection,
+                                                     String               tableName,
+                                                     String               whereClause,
+                                                     List<JDBCDataValue>  parameters,
+                                                     Map<String, Integer> columnNameTypeMap) throws PropertyServerException
     {
         final String methodName = "getMatchingRow";
 
         String sqlCommand = "SELECT * FROM " + tableName + " WHERE " + whereClause;
 
-        try
+        try (PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand))
         {
             log.debug(sqlCommand);
 
-            PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand);
-
-            ResultSet resultSet = preparedStatement.executeQuery();
-
-            Map<String, JDBCDataValue> results = this.getRowFromResultSet(resultSet, columnNameTypeMap);
-
-            resultSet.close();
-            preparedStatement.close();
+            this.setParameters(jdbcConnection, preparedStatement, parameters);
 
-            return results;
+            try (ResultSet resultSet = preparedStatement.executeQuery())
+            {
+                return this.getRowFromResultSet(resultSet, columnNameTypeMap);
+            }
         }
         catch (SQLException sqlException)
         {
@@ -628,36 +769,32 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
                                                             String               whereClause,
                                                             Map<String, Integer> columnNameTypeMap) throws PropertyServerException
     {
-        final String methodName = "getMatchingRows";
-
-        String sqlCommand = "SELECT * FROM " + tableName + " WHERE " + whereClause;
-
-        try
-        {
-            log.debug(sqlCommand);
-
-            PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand);
-
-            ResultSet resultSet = preparedStatement.executeQuery();
+        return this.getMatchingRows(jdbcConnection, tableName, whereClause, null, columnNameTypeMap);
+    }
 
-            List<Map<String, JDBCDataValue>> results = this.getRowsFromResultSet(resultSet, columnNameTypeMap);
 
-            resultSet.close();
-            preparedStatement.close();
-
-            return results;
-        }
-        catch (SQLException sqlException)
-        {
-            this.rollbackAfterException(jdbcConnection, sqlException);
-            throw new PropertyServerException(JDBCErrorCode.UNEXPECTED_SQL_EXCEPTION.getMessageDefinition(jdbcDatabaseName,
-                                                                                                          sqlCommand,
-                                                                                                          methodName,
-                                                                                                          sqlException.getMessage()),
-                                              this.getClass().getName(),
-                                              methodName,
-                                              sqlException);
-        }
+    /**
+     * Retrieve the rows that match the where clause.  The values for the where clause's "?" placeholders are
+     * bound as parameters in the order they are listed.
+     *
+     * @param jdbcConnection connection to use
+     * @param tableName name of the table to query
+     * @param whereClause condition describing how to match the desired columns
+     * @param parameters values for the placeholders in the where clause (may be null)
+     * @param columnNameTypeMap map of resulting column names and values to include in the results
+     * @return list of rows consisting of column names to data values that represent the requested row
+     * @throws PropertyServerException there was a problem calling the database
+     */
+    public List<Map<String, JDBCDataValue>> getMatchingRows(java.sql.Connection  jdbcConnection,
+                                                            String               tableName,
+                                                            String               whereClause,
+                                                            List<JDBCDataValue>  parameters,
+                                                            Map<String, Integer> columnNameTypeMap) throws PropertyServerException
+    {
+        return this.getMatchingRows(jdbcConnection,
+                                    "SELECT * FROM " + tableName + " WHERE " + whereClause,
+                                    parameters,
+                                    columnNameTypeMap);
     }
 
 
@@ -673,23 +810,39 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
     public List<Map<String, JDBCDataValue>> getMatchingRows(java.sql.Connection  jdbcConnection,
                                                             String               sqlCommand,
                                                             Map<String, Integer> columnNameTypeMap) throws PropertyServerException
+    {
+        return this.getMatchingRows(jdbcConnection, sqlCommand, (List<JDBCDataValue>) null, columnNameTypeMap);
+    }
+
+
+    /**
+     * Retrieve the rows returned by the supplied query.  The values for the query's "?" placeholders are
+     * bound as parameters in the order they are listed.
+     *
+     * @param jdbcConnection connection to use
+     * @param sqlCommand query to issue
+     * @param parameters values for the placeholders in the query (may be null)
+     * @param columnNameTypeMap map of resulting column names and values to include in the results
+     * @return list of rows consisting of column names to data values that represent the requested row
+     * @throws PropertyServerException there was a problem calling the database
+     */
+    public List<Map<String, JDBCDataValue>> getMatchingRows(java.sql.Connection  jdbcConnection,
+                                                            String               sqlCommand,
+                                                            List<JDBCDataValue>  parameters,
+                                                            Map<String, Integer> columnNameTypeMap) throws PropertyServerException
     {
         final String methodName = "getMatchingRows";
 
-        try
+        try (PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand))
         {
             log.debug(sqlCommand);
 
-            PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand);
-
-            ResultSet resultSet = preparedStatement.executeQuery();
-
-            List<Map<String, JDBCDataValue>> results = this.getRowsFromResultSet(resultSet, columnNameTypeMap);
+            this.setParameters(jdbcConnection, preparedStatement, parameters);
 
-            resultSet.close();
-            preparedStatement.close();
-
-            return results;
+            try (ResultSet resultSet = preparedStatement.executeQuery())
+            {
+                return this.getRowsFromResultSet(resultSet, columnNameTypeMap);
+            }
         }
         catch (SQLException sqlException)
         {
@@ -766,6 +919,25 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
      */
     public long countMatchingRows(java.sql.Connection  jdbcConnection,
                                   String               sqlCommand) throws PropertyServerException
+    {
+        return this.countMatchingRows(jdbcConnection, sqlCommand, null);
+    }
+
+
+    /**
+     * Retrieve the number of rows that would be returned by the supplied SQL query (which should be a
+     * "SELECT COUNT(...) FROM ... WHERE ..." style command).  The values for the query's "?" placeholders are
+     * bound as parameters in the order they are listed.
+     *
+     * @param jdbcConnection connection to use
+     * @param sqlCommand the full "SELECT COUNT(...)" SQL command to execute
+     * @param parameters values for the placeholders in the query (may be null)
+     * @return number of rows matching the supplied SQL command
+     * @throws PropertyServerException there was a problem calling the database
+     */
+    public long countMatchingRows(java.sql.Connection  jdbcConnection,
+                                  String               sqlCommand,
+                                  List<JDBCDataValue>  parameters) throws PropertyServerException
     {
         final String methodName = "countMatchingRows";
 
@@ -773,19 +945,17 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
 
         long rowCount = 0L;
 
-        try
+        try (PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand))
         {
-            PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand);
-
-            ResultSet resultSet = preparedStatement.executeQuery();
+            this.setParameters(jdbcConnection, preparedStatement, parameters);
 
-            if (resultSet.next())
+            try (ResultSet resultSet = preparedStatement.executeQuery())
             {
-                rowCount = resultSet.getLong(1); // Get the count from the first column
+                if (resultSet.next())
+                {
+                    rowCount = resultSet.getLong(1); // Get the count from the first column
+                }
             }
-
-            resultSet.close();
-            preparedStatement.close();
         }
         catch (SQLException sqlException)
         {
@@ -1083,27 +1253,7 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
 
             PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand);
 
-            int parameterIndex = 1;
-            for (String columnName : columnNameValueMap.keySet())
-            {
-                JDBCDataValue jdbcDataValue = columnNameValueMap.get(columnName);
-
-                if (jdbcDataValue.getScaleOrLength() == 0)
-                {
-                    preparedStatement.setObject(parameterIndex,
-                                                jdbcDataValue.getDataValue(),
-                                                jdbcDataValue.getTargetSQLType());
-                }
-                else
-                {
-                    preparedStatement.setObject(parameterIndex,
-                                                jdbcDataValue.getDataValue(),
-                                                jdbcDataValue.getTargetSQLType(),
-                                                jdbcDataValue.getScaleOrLength());
-                }
-
-                parameterIndex++;
-            }
+            this.setInsertParameters(preparedStatement, new ArrayList<>(columnNameValueMap.keySet()), columnNameValueMap);
 
             int rowsInserted = preparedStatement.executeUpdate();
 
@@ -1132,7 +1282,9 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
 
 
     /**
-     * Prepare an INSERT SQL statement with all the columns for each of the new rows filled out.
+     * Prepare an INSERT SQL statement with all the columns for each of the new rows filled out.  Rows with the same
+     * columns share a prepared statement and are sent to the database as a single JDBC batch, so a list of rows
+     * costs one round trip for each distinct set of columns rather than one for each row.
      *
      * @param jdbcConnection connection to use
      * @param tableName name of the table where the row is to be added
@@ -1143,12 +1295,103 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
                                     String                           tableName,
                                     List<Map<String, JDBCDataValue>> rows) throws PropertyServerException
     {
-        if (rows != null)
+        final String methodName = "insertRowsIntoTable";
+
+        if ((rows == null) || (rows.isEmpty()))
+        {
+            return;
+        }
+
+        Map<String, List<Map<String, JDBCDataValue>>> rowsByColumnNames = new LinkedHashMap<>();
+
+        for (Map<String, JDBCDataValue> row : rows)
+        {
+            rowsByColumnNames.computeIfAbsent(this.getColumnNames(row), columnNames -> new ArrayList<>()).add(row);
+        }
+
+        String sqlCommand = null;
+
+        try
+        {
+            for (List<Map<String, JDBCDataValue>> matchingRows : rowsByColumnNames.values())
+            {
+                Map<String, JDBCDataValue> firstRow    = matchingRows.get(0);
+                List<String>               columnNames = new ArrayList<>(firstRow.keySet());
+
+                sqlCommand = "INSERT INTO " + tableName + this.getInsertColumnList(firstRow) + " ON CONFLICT DO NOTHING";
+
+                log.debug(sqlCommand + " (" + matchingRows.size() + " rows)");
+
+                try (PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand))
+                {
+                    for (Map<String, JDBCDataValue> row : matchingRows)
+                    {
+                        this.setInsertParameters(preparedStatement, columnNames, row);
+                        preparedStatement.addBatch();
+                    }
+
+                    int[] rowsInserted = preparedStatement.executeBatch();
+
+                    for (int rowCount : rowsInserted)
+                    {
+                        if ((rowCount > 1) && (auditLog != null))
+                        {
+                            auditLog.logMessage(methodName,
+                                                JDBCAuditCode.UNEXPECTED_ROW_COUNT_FROM_DATABASE.getMessageDefinition(jdbcDatabaseName,
+                                                                                                                      Integer.toString(rowCount),
+                                                                                                                      sqlCommand));
+                        }
+                    }
+                }
+            }
+        }
+        catch (SQLException sqlException)
+        {
+            this.rollbackAfterException(jdbcConnection, sqlException);
+            throw new PropertyServerException(JDBCErrorCode.UNEXPECTED_SQL_EXCEPTION.getMessageDefinition(jdbcDatabaseName,
+                                                                                                          sqlCommand,
+                                                                                                          methodName,
+                                                                                                          sqlException.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              sqlException);
+        }
+    }
+
+
+    /**
+     * Set the values of a row into the placeholders of an INSERT statement.
+     *
+     * @param preparedStatement INSERT statement
+     * @param columnNames names of the columns in the order of the placeholders
+     * @param columnNameValueMap column names, values and types
+     * @throws SQLException problem setting a value
+     */
+    private void setInsertParameters(PreparedStatement          preparedStatement,
+                                     List<String>               columnNames,
+                                     Map<String, JDBCDataValue> columnNameValueMap) throws SQLException
+    {
+        int parameterIndex = 1;
+
+        for (String columnName : columnNames)
         {
-            for (Map<String, JDBCDataValue> row : rows)
+            JDBCDataValue jdbcDataValue = columnNameValueMap.get(columnName);
+
+            if (jdbcDataValue.getScaleOrLength() == 0)
             {
-                insertRowIntoTable(jdbcConnection, tableName, row);
+                preparedStatement.setObject(parameterIndex,
+                                            jdbcDataValue.getDataValue(),
+                                            jdbcDataValue.getTargetSQLType());
             }
+            else
+            {
+                preparedStatement.setObject(parameterIndex,
+                                            jdbcDataValue.getDataValue(),
+                                            jdbcDataValue.getTargetSQLType(),
+                                            jdbcDataValue.getScaleOrLength());
+            }
+
+            parameterIndex++;
         }
     }
 
@@ -107,6 +107,14 @@ public enum JDBCConfigurationProperty
      */
     JDBC_CONNECTION_LEAK_THRESHOLD("jdbcConnectionLeakThreshold", "How long, in milliseconds, a connection may be held by a caller before the connector logs a stack trace of whoever took it out. Zero disables the check. This is a diagnostic aid for finding code that fails to close the connections it obtains; it does not itself reclaim the connection.", DataType.LONG.getDisplayName(), "0"),
 
+    /**
+     * The number of prepared statements that each connection in the pool keeps ready for reuse.  Statements are
+     * cached by their SQL text, so callers that bind their values as parameters, rather than embedding them in the
+     * SQL, have each query shape parsed and planned once per connection.  Zero disables the cache.  The setting is
+     * passed to the drivers whose property name for it is known.
+     */
+    JDBC_PREPARED_STATEMENT_CACHE_SIZE("jdbcPreparedStatementCacheSize", "The number of prepared statements that each connection in the pool keeps ready for reuse. Statements are cached by their SQL text, so callers that bind their values as parameters, rather than embedding them in the SQL, have each query shape parsed and planned once per connection. Zero disables the cache. The setting is passed to the drivers whose property name for it is known.", DataType.INT.getDisplayName(), "256"),
+
 
     ;
 
@@ -75,6 +75,15 @@ public enum JDBCAuditCode implements AuditLogMessageSet
                                  "The connector has switched on socket level keepalive for the connections in its pool.  This stops the pool from filling up with connections whose network peer has disappeared silently, which would otherwise drain the pool to zero without it recovering.",
                                  "No action is required.  If the database is reached through a firewall or load balancer that drops idle connections, check that its idle timeout is longer than the keepalive interval configured in the operating system."),
 
+    /**
+     * JDBC-RESOURCE-CONNECTOR-0011 - The JDBC resource connector for database {0} is caching up to {1} prepared statements on each connection using driver property {2}
+     */
+    STATEMENT_CACHE_ENABLED("JDBC-RESOURCE-CONNECTOR-0011",
+                            AuditLogRecordSeverityLevel.INFO,
+                            "The JDBC resource connector for database {0} is caching up to {1} prepared statements on each connection using driver property {2}",
+                            "The connector has asked the driver to keep prepared statements on each pooled connection so that a query that is issued repeatedly with different parameter values is only parsed and planned once by the database.",
+                            "No action is required.  If the database server reports memory pressure from prepared statements, reduce the jdbcPreparedStatementCacheSize configuration property."),
+
 
 
 
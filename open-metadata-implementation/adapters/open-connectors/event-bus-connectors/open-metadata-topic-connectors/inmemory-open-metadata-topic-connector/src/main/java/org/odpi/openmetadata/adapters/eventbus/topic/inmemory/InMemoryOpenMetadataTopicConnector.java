@@ -4,21 +4,19 @@ package org.odpi.openmetadata.adapters.eventbus.topic.inmemory;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.openmetadata.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.IncomingEvent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 
-import java.util.ArrayList;
-import java.util.List;
-
 
 /**
  * InMemoryOpenMetadataTopicConnector provides a concrete implementation of the OpenMetadataTopicConnector that
- * uses an in-memory list as the event/messaging infrastructure.  This connector is used internally
- * in the OMRS to pass events received on the OMRS Topic to the OMAS Topic Listeners.
+ * uses an in-memory queue as the event/messaging infrastructure.  This connector is used internally
+ * in the OMRS to pass events received on the OMRS Topic to the OMAS Topic Listeners.  Events are pushed
+ * straight onto the listener thread's queue so they are distributed as soon as they are sent rather than
+ * waiting for the next poll.  If the listeners fall behind, the sender waits for space in the queue.
  */
 public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 {
-    private volatile List<String> inMemoryOMRSTopic = new ArrayList<>();
-
     /**
      * Constructor
      */
@@ -27,30 +25,6 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
         super();
     }
 
-    /**
-     * Supports putting events to the in memory OMRS Topic
-     *
-     * @param newEvent  event to publish
-     */
-    private synchronized void putEvent(String  newEvent)
-    {
-        inMemoryOMRSTopic.add(newEvent);
-    }
-
-
-    /**
-     * Returns all the events found on the in memory OMRS Topic.
-     *
-     * @return list of received events.
-     */
-    private synchronized List<String> getEvents()
-    {
-        List<String>   receivedEvents = inMemoryOMRSTopic;
-        inMemoryOMRSTopic = new ArrayList<>();
-
-        return receivedEvents;
-    }
-
 
     /**
      * Sends the supplied event to the topic.
@@ -60,21 +34,10 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
     @Override
     public void sendEvent(String event)
     {
-        this.putEvent(event);
-
-    }
-
-
-    /**
-     * Look to see if there is one of more new events to process.
-     *
-     * @return a list of received events or null
-     */
-    @SuppressWarnings(value = "deprecation")
-    @Override
-    protected List<String> checkForEvents()
-    {
-        return this.getEvents();
+        if (event != null)
+        {
+            super.queueIncomingEvent(new IncomingEvent(event, String.valueOf(event.hashCode())));
+        }
     }
 
 
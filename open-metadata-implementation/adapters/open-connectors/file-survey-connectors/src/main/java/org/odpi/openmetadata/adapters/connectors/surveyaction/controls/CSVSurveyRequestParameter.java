@@ -0,0 +1,169 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.surveyaction.controls;
+
+
+import org.odpi.openmetadata.frameworks.openmetadata.specificationproperties.RequestParameterType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSVSurveyRequestParameter details the request parameters supported by the CSV File Surveyor.  They control how
+ * the data in the file is profiled.
+ */
+public enum CSVSurveyRequestParameter
+{
+    /**
+     * Number of threads used to profile the file.
+     */
+    PROFILE_PARALLELISM ("profileParallelism",
+                         "Number of threads used to profile the data in the file.  The default is the number of processors available to the server.",
+                         "int",
+                         "4"),
+
+    /**
+     * Size of each chunk of the file that is profiled by a single thread.
+     */
+    PROFILE_CHUNK_SIZE ("profileChunkSize",
+                        "Number of bytes in each chunk of the file that is profiled by a single thread.  The default is 67108864 (64MB).",
+                        "long",
+                        "67108864"),
+
+    /**
+     * Maximum number of distinct values counted exactly for each column.
+     */
+    MAX_EXACT_VALUE_COUNT ("maxExactValueCount",
+                           "Maximum number of distinct values that are counted exactly for each column.  A column with more distinct values is profiled with estimates of its distinct value count and the counts of its most common values, and no value list.  The default is 10000; a value of 0 means the values are always counted exactly.",
+                           "int",
+                           "10000"),
+
+    /**
+     * Number of most common values reported for a column whose values are not counted exactly.
+     */
+    TOP_VALUE_COUNT ("topValueCount",
+                     "Number of most common values reported for a column whose values are not counted exactly.  The default is 20.",
+                     "int",
+                     "20"),
+    ;
+
+
+
+    public final String           name;
+    public final String           description;
+    public final String           dataType;
+    public final String           example;
+
+
+    /**
+     * Create a specific Enum constant.
+     *
+     * @param name name of the request parameter
+     * @param description description of the request parameter
+     * @param dataType type of value of the request parameter
+     * @param example example of the request parameter
+     */
+    CSVSurveyRequestParameter(String name,
+                              String description,
+                              String dataType,
+                              String example)
+    {
+        this.name        = name;
+        this.description = description;
+        this.dataType    = dataType;
+        this.example     = example;
+    }
+
+
+    /**
+     * Return the name of the request parameter.
+     *
+     * @return string name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the description of the request parameter.
+     *
+     * @return text
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the data type for the request parameter.
+     *
+     * @return data type name
+     */
+    public String getDataType()
+    {
+        return dataType;
+    }
+
+
+    /**
+     * Return an example of the request parameter to help users understand how to set it up.
+     *
+     * @return example
+     */
+    public String getExample()
+    {
+        return example;
+    }
+
+
+    /**
+     * Retrieve all the defined request parameters
+     *
+     * @return list of request parameter types
+     */
+    public static List<RequestParameterType> getRequestParameterTypes()
+    {
+        List<RequestParameterType> requestParameterTypes = new ArrayList<>();
+
+        for (CSVSurveyRequestParameter requestParameter : CSVSurveyRequestParameter.values())
+        {
+            requestParameterTypes.add(requestParameter.getRequestParameterType());
+        }
+
+        return requestParameterTypes;
+    }
+
+
+
+    /**
+     * Return a summary of this enum to use in a service provider.
+     *
+     * @return request parameter type
+     */
+    public RequestParameterType getRequestParameterType()
+    {
+        RequestParameterType requestParameterType = new RequestParameterType();
+
+        requestParameterType.setName(name);
+        requestParameterType.setDescription(description);
+        requestParameterType.setDataType(dataType);
+        requestParameterType.setExample(example);
+
+        return requestParameterType;
+    }
+
+    /**
+     * Output of this enum class and main value.
+     *
+     * @return string showing enum value
+     */
+    @Override
+    public String toString()
+    {
+        return "RequestParameter{ name=" + name + "}";
+    }
+}
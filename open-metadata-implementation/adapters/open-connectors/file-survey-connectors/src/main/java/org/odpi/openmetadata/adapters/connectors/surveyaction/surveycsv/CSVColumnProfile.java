@@ -0,0 +1,288 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.surveyaction.surveycsv;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSVColumnProfile accumulates the profile of the values in a single column of a CSV file.  One profile is built for
+ * each column in each chunk of the file, and then the profiles of the chunks are merged in file order.
+ * <br><br>
+ * The values are counted exactly until the column has more than the maximum number of distinct values.  Then the
+ * exact counts are discarded and the column switches to a frequency sketch that estimates the counts of its most
+ * common values, so a high-cardinality column does not exhaust the heap.  The number of distinct values is always
+ * estimated, so it is available whichever way the values are counted.
+ */
+class CSVColumnProfile
+{
+    private static final String BOOLEAN_UC_TRUE   = "TRUE";
+    private static final String BOOLEAN_LC_TRUE   = "true";
+    private static final String BOOLEAN_UC_FALSE  = "FALSE";
+    private static final String BOOLEAN_LC_FALSE  = "false";
+
+    private final int maxExactValueCount;
+    private final int topValueCount;
+
+    private long                   valueCount      = 0L;
+    private long                   emptyValueCount = 0L;
+    private int                    minimumLength   = Integer.MAX_VALUE;
+    private int                    maximumLength   = 0;
+    private boolean                allBoolean      = true;
+    private Map<String, Integer>   exactCounts     = new LinkedHashMap<>();
+    private ValueFrequencySketch   frequencySketch = null;
+
+    private final DistinctValueEstimator distinctValueEstimator = new DistinctValueEstimator();
+
+
+    /**
+     * Constructor sets the limits on the exact counts.
+     *
+     * @param maxExactValueCount maximum number of distinct values to count exactly (0 means no limit)
+     * @param topValueCount number of most common values to keep when the values are not counted exactly
+     */
+    CSVColumnProfile(int maxExactValueCount,
+                     int topValueCount)
+    {
+        this.maxExactValueCount = maxExactValueCount;
+        this.topValueCount      = topValueCount;
+    }
+
+
+    /**
+     * Add a value from the column.
+     *
+     * @param fieldValue value
+     */
+    void addValue(String fieldValue)
+    {
+        long valueHash = DistinctValueEstimator.hash(fieldValue);
+
+        valueCount++;
+
+        if (fieldValue.isEmpty())
+        {
+            emptyValueCount++;
+        }
+
+        minimumLength = Math.min(minimumLength, fieldValue.length());
+        maximumLength = Math.max(maximumLength, fieldValue.length());
+
+        if ((allBoolean) &&
+            (! BOOLEAN_LC_TRUE.equals(fieldValue)) &&
+            (! BOOLEAN_UC_TRUE.equals(fieldValue)) &&
+            (! BOOLEAN_LC_FALSE.equals(fieldValue)) &&
+            (! BOOLEAN_UC_FALSE.equals(fieldValue)))
+        {
+            allBoolean = false;
+        }
+
+        distinctValueEstimator.add(valueHash);
+
+        if (exactCounts != null)
+        {
+            exactCounts.merge(fieldValue, 1, Integer::sum);
+
+            this.checkExactCountLimit();
+        }
+        else
+        {
+            frequencySketch.add(fieldValue, valueHash, 1L);
+        }
+    }
+
+
+    /**
+     * Add the profile of the following chunk of the file to this one.
+     *
+     * @param other profile of the same column in the following chunk
+     */
+    void merge(CSVColumnProfile other)
+    {
+        valueCount      = valueCount + other.valueCount;
+        emptyValueCount = emptyValueCount + other.emptyValueCount;
+        minimumLength   = Math.min(minimumLength, other.minimumLength);
+        maximumLength   = Math.max(maximumLength, other.maximumLength);
+        allBoolean      = allBoolean && other.allBoolean;
+
+        distinctValueEstimator.merge(other.distinctValueEstimator);
+
+        if ((exactCounts != null) && (other.exactCounts != null))
+        {
+            /*
+             * Values are added in the order they appear in the following chunk, so the value list stays in
+             * the order that the values first appear in the file.
+             */
+            for (Map.Entry<String, Integer> otherCount : other.exactCounts.entrySet())
+            {
+                exactCounts.merge(otherCount.getKey(), otherCount.getValue(), Integer::sum);
+            }
+
+            this.checkExactCountLimit();
+        }
+        else
+        {
+            if (exactCounts != null)
+            {
+                this.switchToSketch();
+            }
+
+            if (other.exactCounts != null)
+            {
+                for (Map.Entry<String, Integer> otherCount : other.exactCounts.entrySet())
+                {
+                    frequencySketch.add(otherCount.getKey(), DistinctValueEstimator.hash(otherCount.getKey()), otherCount.getValue());
+                }
+            }
+            else
+            {
+                frequencySketch.merge(other.frequencySketch);
+            }
+        }
+    }
+
+
+    /**
+     * Switch to the frequency sketch if there are too many distinct values to count exactly.
+     */
+    private void checkExactCountLimit()
+    {
+        if ((maxExactValueCount > 0) && (exactCounts.size() > maxExactValueCount))
+        {
+            this.switchToSketch();
+        }
+    }
+
+
+    /**
+     * Move the exact counts into a frequency sketch and discard them.
+     */
+    private void switchToSketch()
+    {
+        frequencySketch = new ValueFrequencySketch(topValueCount);
+
+        for (Map.Entry<String, Integer> exactCount : exactCounts.entrySet())
+        {
+            frequencySketch.add(exactCount.getKey(), DistinctValueEstimator.hash(exactCount.getKey()), exactCount.getValue());
+        }
+
+        exactCounts = null;
+    }
+
+
+    /**
+     * Return the inferred type of the column - boolean if all the values are boolean literals, otherwise string.
+     *
+     * @param booleanTypeName name of the boolean type
+     * @param stringTypeName name of the string type
+     * @return type name or null if the column has no values
+     */
+    String getDataFieldType(String booleanTypeName,
+                            String stringTypeName)
+    {
+        if (valueCount == 0)
+        {
+            return null;
+        }
+
+        if (allBoolean)
+        {
+            return booleanTypeName;
+        }
+
+        return stringTypeName;
+    }
+
+
+    /**
+     * Return whether the value counts are exact.
+     *
+     * @return boolean flag
+     */
+    boolean hasExactValueCounts()
+    {
+        return (exactCounts != null);
+    }
+
+
+    /**
+     * Return the count of each value.  If the counts are not exact, this is the estimated count of the most
+     * common values.
+     *
+     * @return map of values to counts or null if the column has no values
+     */
+    Map<String, Integer> getValueCounts()
+    {
+        if (valueCount == 0)
+        {
+            return null;
+        }
+
+        if (exactCounts != null)
+        {
+            return exactCounts;
+        }
+
+        return frequencySketch.getTopValues();
+    }
+
+
+    /**
+     * Return the distinct values in the order they first appear in the file.
+     *
+     * @return list of values or null if the column has no values or has too many distinct values to list
+     */
+    List<String> getValueList()
+    {
+        if ((valueCount == 0) || (exactCounts == null))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(exactCounts.keySet());
+    }
+
+
+    /**
+     * Return the summary counts for the column.
+     *
+     * @return map of count names to counts
+     */
+    Map<String, Long> getProfileCounts()
+    {
+        Map<String, Long> profileCounts = new LinkedHashMap<>();
+
+        profileCounts.put("Value Count", valueCount);
+        profileCounts.put("Empty Value Count", emptyValueCount);
+
+        if (valueCount > 0)
+        {
+            profileCounts.put("Minimum Length", (long)minimumLength);
+            profileCounts.put("Maximum Length", (long)maximumLength);
+        }
+
+        if (exactCounts != null)
+        {
+            profileCounts.put("Distinct Value Count", (long)exactCounts.size());
+        }
+        else
+        {
+            profileCounts.put("Estimated Distinct Value Count", distinctValueEstimator.getEstimate());
+        }
+
+        return profileCounts;
+    }
+
+
+    /**
+     * Return the length of the longest value.
+     *
+     * @return length
+     */
+    int getMaximumLength()
+    {
+        return maximumLength;
+    }
+}
@@ -0,0 +1,415 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.surveyaction.surveycsv;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStoreConnector;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * CSVProfilingEngine profiles the columns of a CSV file in parallel.  The file is divided into chunks of roughly
+ * equal size and each chunk is memory-mapped and profiled by a fork-join worker.  A chunk starts at the first line
+ * that begins within it, so every line is profiled by exactly one worker.  The profiles of neighbouring chunks are
+ * merged in file order as the workers finish.
+ * <br><br>
+ * Each mapping covers its chunk and a small overrun for the line that starts in the chunk and ends after it.  If
+ * that line is longer than the overrun, a larger region is mapped from the start of the line.
+ * <br><br>
+ * The lines are split and parsed in the same way as the CSV file store connector, so the results are the same as
+ * reading every record through the connector.
+ */
+class CSVProfilingEngine
+{
+    private static final int readBlockSize     = 64 * 1024;
+    private static final int recordOverrunSize = 64 * 1024;
+
+    private final File                  file;
+    private final CSVFileStoreConnector fileStoreConnector;
+    private final boolean               skipColumnNamesLine;
+    private final int                   columnCount;
+    private final int                   parallelism;
+    private final long                  chunkSize;
+    private final int                   maxExactValueCount;
+    private final int                   topValueCount;
+    private final Charset               charset = Charset.defaultCharset();
+
+
+    /**
+     * Constructor supplies the file and the profiling options.
+     *
+     * @param file file to profile
+     * @param fileStoreConnector connector for the file - used to parse each line
+     * @param skipColumnNamesLine is the first line of the file the column names?
+     * @param columnCount number of columns to profile
+     * @param parallelism number of worker threads
+     * @param chunkSize number of bytes in each chunk
+     * @param maxExactValueCount maximum number of distinct values to count exactly for each column (0 means no limit)
+     * @param topValueCount number of most common values to keep for a column whose values are not counted exactly
+     */
+    CSVProfilingEngine(File                  file,
+                       CSVFileStoreConnector fileStoreConnector,
+                       boolean               skipColumnNamesLine,
+                       int                   columnCount,
+                       int                   parallelism,
+                       long                  chunkSize,
+                       int                   maxExactValueCount,
+                       int                   topValueCount)
+    {
+        this.file                = file;
+        this.fileStoreConnector  = fileStoreConnector;
+        this.skipColumnNamesLine = skipColumnNamesLine;
+        this.columnCount         = columnCount;
+        this.parallelism         = parallelism;
+        this.chunkSize           = chunkSize;
+        this.maxExactValueCount  = maxExactValueCount;
+        this.topValueCount       = topValueCount;
+    }
+
+
+    /**
+     * Profile the file.
+     *
+     * @return one profile for each column
+     * @throws IOException problem reading the file
+     */
+    List<CSVColumnProfile> profile() throws IOException
+    {
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            long lastContentOffset = this.getLastContentOffset(fileChannel);
+
+            if (lastContentOffset < 0)
+            {
+                return this.getEmptyProfiles();
+            }
+
+            int          chunkCount = (int)Math.max(1L, (lastContentOffset + chunkSize) / chunkSize);
+            ForkJoinPool pool       = new ForkJoinPool(parallelism);
+
+            try
+            {
+                return pool.invoke(new ChunkTask(fileChannel, lastContentOffset, 0, chunkCount));
+            }
+            catch (UncheckedIOException error)
+            {
+                throw error.getCause();
+            }
+            finally
+            {
+                pool.shutdown();
+            }
+        }
+    }
+
+
+    /**
+     * Return an empty profile for each column.
+     *
+     * @return list of profiles
+     */
+    private List<CSVColumnProfile> getEmptyProfiles()
+    {
+        List<CSVColumnProfile> columnProfiles = new ArrayList<>(columnCount);
+
+        for (int column = 0; column < columnCount; column++)
+        {
+            columnProfiles.add(new CSVColumnProfile(maxExactValueCount, topValueCount));
+        }
+
+        return columnProfiles;
+    }
+
+
+    /**
+     * Locate the last byte in the file that is not whitespace.  As with the connector, the lines after the last line
+     * with content are ignored.
+     *
+     * @param fileChannel open file
+     * @return byte offset or -1 if the file is empty or only contains whitespace
+     * @throws IOException problem reading the file
+     */
+    private long getLastContentOffset(FileChannel fileChannel) throws IOException
+    {
+        long blockEnd = fileChannel.size();
+
+        while (blockEnd > 0)
+        {
+            long             blockStart = Math.max(0L, blockEnd - readBlockSize);
+            MappedByteBuffer block      = fileChannel.map(FileChannel.MapMode.READ_ONLY, blockStart, blockEnd - blockStart);
+
+            for (int index = (int)(blockEnd - blockStart) - 1; index >= 0; index--)
+            {
+                if (! isWhitespace(block.get(index)))
+                {
+                    return blockStart + index;
+                }
+            }
+
+            blockEnd = blockStart;
+        }
+
+        return -1L;
+    }
+
+
+    /**
+     * Profile the lines that start within one chunk of the file.
+     *
+     * @param fileChannel open file
+     * @param lastContentOffset offset of the last byte of content in the file
+     * @param chunkNumber number of the chunk
+     * @return one profile for each column
+     * @throws IOException problem reading the file
+     */
+    private List<CSVColumnProfile> profileChunk(FileChannel fileChannel,
+                                                long        lastContentOffset,
+                                                int         chunkNumber) throws IOException
+    {
+        List<CSVColumnProfile> columnProfiles = this.getEmptyProfiles();
+
+        long chunkStart = chunkNumber * chunkSize;
+        long chunkEnd   = Math.min(chunkStart + chunkSize, lastContentOffset + 1);
+        long fileSize   = fileChannel.size();
+
+        /*
+         * The mapping starts one byte early so that the byte before the chunk can be checked for a line terminator.
+         * It extends a little beyond the chunk so the last line in the chunk can usually be read to its end.
+         */
+        long             mappingStart = Math.max(0L, chunkStart - 1);
+        int              mappingLimit = (int)Math.min(Math.min(fileSize, chunkEnd + recordOverrunSize) - mappingStart, Integer.MAX_VALUE);
+        MappedByteBuffer mapping      = fileChannel.map(FileChannel.MapMode.READ_ONLY, mappingStart, mappingLimit);
+
+        int    position  = this.getFirstLineStart(mapping, (int)(chunkStart - mappingStart), mappingLimit);
+        byte[] lineBytes = new byte[1024];
+
+        while ((mappingStart + position < chunkEnd) && (position < mappingLimit))
+        {
+            int lineEnd = position;
+
+            while ((lineEnd < mappingLimit) && (mapping.get(lineEnd) != '\n') && (mapping.get(lineEnd) != '\r'))
+            {
+                lineEnd++;
+            }
+
+            if ((lineEnd == mappingLimit) && (mappingStart + mappingLimit < fileSize))
+            {
+                /*
+                 * The line continues beyond the mapping, so a larger region is mapped from the start of the line.
+                 */
+                long lineMappingSize = mappingLimit - position;
+
+                if (lineMappingSize >= Integer.MAX_VALUE)
+                {
+                    throw new IOException("Line at offset " + (mappingStart + position) + " of " + file.getName() + " is too long to profile");
+                }
+
+                mappingStart = mappingStart + position;
+                mappingLimit = (int)Math.min(Math.min(fileSize - mappingStart, lineMappingSize * 2 + recordOverrunSize), Integer.MAX_VALUE);
+                mapping      = fileChannel.map(FileChannel.MapMode.READ_ONLY, mappingStart, mappingLimit);
+                position     = 0;
+
+                continue;
+            }
+
+            if ((! skipColumnNamesLine) || (mappingStart + position != 0))
+            {
+                int lineLength = lineEnd - position;
+
+                if (lineLength > lineBytes.length)
+                {
+                    lineBytes = new byte[Math.max(lineLength, lineBytes.length * 2)];
+                }
+
+                mapping.get(position, lineBytes, 0, lineLength);
+
+                this.profileRecord(fileStoreConnector.parseRecord(new String(lineBytes, 0, lineLength, charset)), columnProfiles);
+            }
+
+            position = lineEnd;
+
+            if (position < mappingLimit)
+            {
+                if ((mapping.get(position) == '\r') && (position + 1 < mappingLimit) && (mapping.get(position + 1) == '\n'))
+                {
+                    position++;
+                }
+
+                position++;
+            }
+        }
+
+        return columnProfiles;
+    }
+
+
+    /**
+     * Find the first line that starts at or after the start of the chunk.
+     *
+     * @param mapping mapped region of the file
+     * @param chunkStart position of the start of the chunk in the mapping
+     * @param mappingLimit size of the mapping
+     * @return position of the start of the line in the mapping
+     */
+    private int getFirstLineStart(MappedByteBuffer mapping,
+                                  int              chunkStart,
+                                  int              mappingLimit)
+    {
+        if (chunkStart == 0)
+        {
+            return 0;
+        }
+
+        byte previousByte = mapping.get(chunkStart - 1);
+
+        if ((previousByte == '\n') || ((previousByte == '\r') && ((chunkStart >= mappingLimit) || (mapping.get(chunkStart) != '\n'))))
+        {
+            return chunkStart;
+        }
+
+        int position = chunkStart;
+
+        while (position < mappingLimit)
+        {
+            byte nextByte = mapping.get(position);
+
+            if (nextByte == '\n')
+            {
+                return position + 1;
+            }
+
+            if (nextByte == '\r')
+            {
+                if ((position + 1 < mappingLimit) && (mapping.get(position + 1) == '\n'))
+                {
+                    return position + 2;
+                }
+
+                return position + 1;
+            }
+
+            position++;
+        }
+
+        return mappingLimit;
+    }
+
+
+    /**
+     * Add the values from a record to the column profiles.  Values beyond the known columns are ignored.
+     *
+     * @param recordValues parsed record (null for a blank line)
+     * @param columnProfiles profiles to update
+     */
+    private void profileRecord(List<String>           recordValues,
+                               List<CSVColumnProfile> columnProfiles)
+    {
+        if (recordValues != null)
+        {
+            int columnPosition = 0;
+
+            for (String fieldValue : recordValues)
+            {
+                if (columnPosition >= columnCount)
+                {
+                    break;
+                }
+
+                columnProfiles.get(columnPosition).addValue(fieldValue);
+                columnPosition++;
+            }
+        }
+    }
+
+
+    /**
+     * Return whether the byte is a whitespace character as understood by the connector.
+     *
+     * @param nextByte byte from the file
+     * @return boolean result
+     */
+    private static boolean isWhitespace(byte nextByte)
+    {
+        return (nextByte == ' ') || ((nextByte >= 0x09) && (nextByte <= 0x0D)) || ((nextByte >= 0x1C) && (nextByte <= 0x1F));
+    }
+
+
+    /**
+     * ChunkTask profiles a range of chunks.  A range of more than one chunk is split in two, and the profiles of the
+     * two halves are merged.
+     */
+    private class ChunkTask extends RecursiveTask<List<CSVColumnProfile>>
+    {
+        private final FileChannel fileChannel;
+        private final long        lastContentOffset;
+        private final int         firstChunk;
+        private final int         lastChunk;
+
+
+        /**
+         * Constructor sets the range of chunks.
+         *
+         * @param fileChannel open file
+         * @param lastContentOffset offset of the last byte of content in the file
+         * @param firstChunk first chunk in the range
+         * @param lastChunk chunk after the end of the range
+         */
+        ChunkTask(FileChannel fileChannel,
+                  long        lastContentOffset,
+                  int         firstChunk,
+                  int         lastChunk)
+        {
+            this.fileChannel       = fileChannel;
+            this.lastContentOffset = lastContentOffset;
+            this.firstChunk        = firstChunk;
+            this.lastChunk         = lastChunk;
+        }
+
+
+        /**
+         * Profile the chunks in the range.
+         *
+         * @return one profile for each column
+         */
+        @Override
+        protected List<CSVColumnProfile> compute()
+        {
+            if (lastChunk - firstChunk == 1)
+            {
+                try
+                {
+                    return profileChunk(fileChannel, lastContentOffset, firstChunk);
+                }
+                catch (IOException error)
+                {
+                    throw new UncheckedIOException(error);
+                }
+            }
+
+            int       middleChunk = (firstChunk + lastChunk) >>> 1;
+            ChunkTask firstHalf   = new ChunkTask(fileChannel, lastContentOffset, firstChunk, middleChunk);
+            ChunkTask secondHalf  = new ChunkTask(fileChannel, lastContentOffset, middleChunk, lastChunk);
+
+            firstHalf.fork();
+
+            List<CSVColumnProfile> secondProfiles = secondHalf.compute();
+            List<CSVColumnProfile> firstProfiles  = firstHalf.join();
+
+            for (int column = 0; column < columnCount; column++)
+            {
+                firstProfiles.get(column).merge(secondProfiles.get(column));
+            }
+
+            return firstProfiles;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.odpi.openmetadata.frameworks.openmetadata.properties.surveyreports.An
 import org.odpi.openmetadata.frameworks.openmetadata.properties.surveyreports.ResourceProfileAnnotationProperties;
 import org.odpi.openmetadata.frameworks.openmetadata.search.*;
 import org.odpi.openmetadata.frameworks.opensurvey.controls.SurveyFileAnnotationType;
+import org.odpi.openmetadata.adapters.connectors.surveyaction.controls.CSVSurveyRequestParameter;
 import org.odpi.openmetadata.adapters.connectors.surveyaction.extractors.FileStatsExtractor;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
@@ -44,114 +45,44 @@ public class CSVSurveyService extends SurveyActionServiceConnector
     private final static String LONG_TYPE_NAME    = "long";
     private final static String BOOLEAN_TYPE_NAME = "boolean";
     private final static String FLOAT_TYPE_NAME   = "float";
-    private final static String BOOLEAN_UC_TRUE   = "TRUE";
-    private final static String BOOLEAN_LC_TRUE   = "true";
-    private final static String BOOLEAN_UC_FALSE  = "FALSE";
-    private final static String BOOLEAN_LC_FALSE  = "false";
     private final static String schemaType  = OpenMetadataType.TABULAR_SCHEMA_TYPE.typeName;
     private final static String schemaName  = "CSV";
 
+    private final static long   defaultChunkSize          = 64L * 1024L * 1024L;
+    private final static int    defaultMaxExactValueCount = 10000;
+    private final static int    defaultTopValueCount      = 20;
+
     private final PropertyHelper propertyHelper = new PropertyHelper();
 
     private Connector connector = null;
 
 
     /**
-     * Return the best guess for the data field type.
+     * Return the value of a numeric request parameter.
      *
-     * @param existingType current type guess
-     * @param newFieldValue next field value to process
-     * @return new best guess
+     * @param requestParameter request parameter
+     * @param defaultValue value to use if the request parameter is not set or is not a number
+     * @return value
+     * @throws UserNotAuthorizedException the service was disconnected
      */
-    private String getDataFieldType(String  existingType, String newFieldValue)
+    private long getNumericRequestParameter(CSVSurveyRequestParameter requestParameter,
+                                            long                      defaultValue) throws UserNotAuthorizedException
     {
-        if (STRING_TYPE_NAME.equals(existingType))
-        {
-            return STRING_TYPE_NAME;
-        }
-
-        if (newFieldValue == null)
-        {
-            return existingType;
-        }
-
-        if ((BOOLEAN_LC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_LC_FALSE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_FALSE.equals(newFieldValue)))
+        Map<String, String> requestParameters = surveyContext.getRequestParameters();
 
+        if ((requestParameters != null) && (requestParameters.get(requestParameter.getName()) != null))
         {
-            if ((existingType == null) || (existingType.equals(BOOLEAN_TYPE_NAME)))
+            try
             {
-                return BOOLEAN_TYPE_NAME;
+                return Long.parseLong(requestParameters.get(requestParameter.getName()).trim());
             }
-            else
+            catch (NumberFormatException error)
             {
-                return STRING_TYPE_NAME;
+                return defaultValue;
             }
         }
 
-        return STRING_TYPE_NAME;
-    }
-
-
-    /**
-     * Return the updated value count for this column.
-     *
-     * @param existingValueCount current value count
-     * @param newFieldValue next field value to process
-     * @return new value count
-     */
-    private Map<String, Integer> getValueCount(Map<String, Integer> existingValueCount, String newFieldValue)
-    {
-        if (existingValueCount == null)
-        {
-            Map<String, Integer> newValueCount = new HashMap<>();
-
-            newValueCount.put(newFieldValue, 1);
-
-            return newValueCount;
-        }
-
-        Integer   countForValue = existingValueCount.get(newFieldValue);
-
-        if (countForValue == null)
-        {
-            existingValueCount.put(newFieldValue, 1);
-        }
-        else
-        {
-            existingValueCount.put(newFieldValue, countForValue + 1);
-        }
-
-        return existingValueCount;
-    }
-
-
-    /**
-     * Return the updated value list.
-     *
-     * @param existingValueList existing value list
-     * @param newFieldValue next field value to process
-     * @return updated value list
-     */
-    private List<String> getValueList(List<String> existingValueList, String newFieldValue)
-    {
-        if (existingValueList == null)
-        {
-            List<String> newValueList = new ArrayList<>();
-
-            newValueList.add(newFieldValue);
-
-            return newValueList;
-        }
-
-        if (! existingValueList.contains(newFieldValue))
-        {
-            existingValueList.add(newFieldValue);
-        }
-
-        return existingValueList;
+        return defaultValue;
     }
 
 
@@ -183,7 +114,6 @@ public class CSVSurveyService extends SurveyActionServiceConnector
 
             OpenMetadataRootElement          assetElement   = assetStore.getAssetProperties();
             CSVFileStoreConnector assetConnector = (CSVFileStoreConnector)connector;
-            long                  recordCount    = assetConnector.getRecordCount();
 
             File file = assetConnector.getFile();
 
@@ -286,30 +216,42 @@ public class CSVSurveyService extends SurveyActionServiceConnector
                     }
                 }
 
-                for (long recordNumber=0; recordNumber < recordCount ; recordNumber++)
+                /*
+                 * The file is profiled in chunks on parallel threads.
+                 */
+                long parallelism        = this.getNumericRequestParameter(CSVSurveyRequestParameter.PROFILE_PARALLELISM,
+                                                                          Runtime.getRuntime().availableProcessors());
+                long chunkSize          = this.getNumericRequestParameter(CSVSurveyRequestParameter.PROFILE_CHUNK_SIZE,
+                                                                          defaultChunkSize);
+                long maxExactValueCount = this.getNumericRequestParameter(CSVSurveyRequestParameter.MAX_EXACT_VALUE_COUNT,
+                                                                          defaultMaxExactValueCount);
+                long topValueCount      = this.getNumericRequestParameter(CSVSurveyRequestParameter.TOP_VALUE_COUNT,
+                                                                          defaultTopValueCount);
+
+                CSVProfilingEngine profilingEngine = new CSVProfilingEngine(file,
+                                                                            assetConnector,
+                                                                            assetConnector.getSuppliedColumnNames() == null,
+                                                                            dataFields.size(),
+                                                                            (int)Math.max(1L, Math.min(parallelism, 256L)),
+                                                                            Math.max(1024L, chunkSize),
+                                                                            (int)Math.max(0L, Math.min(maxExactValueCount, Integer.MAX_VALUE)),
+                                                                            (int)Math.max(1L, Math.min(topValueCount, 10000L)));
+
+                List<CSVColumnProfile> columnProfiles = profilingEngine.profile();
+
+                for (int columnPosition = 0; columnPosition < dataFields.size(); columnPosition++)
                 {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
-
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
-                    {
-                        int columnPosition = 0;
-                        int recordLength = 0;
+                    DataField                           dataField     = dataFields.get(columnPosition);
+                    ResourceProfileAnnotationProperties dataProfile   = dataField.getDataProfileAnnotation();
+                    CSVColumnProfile                    columnProfile = columnProfiles.get(columnPosition);
 
-                        for (String fieldValue : recordValues)
-                        {
-                            DataField                           dataField   = dataFields.get(columnPosition);
-                            ResourceProfileAnnotationProperties dataProfile = dataField.getDataProfileAnnotation();
-
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
-
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
+                    dataField.setDataFieldType(columnProfile.getDataFieldType(BOOLEAN_TYPE_NAME, STRING_TYPE_NAME));
 
-                            recordLength = recordLength + fieldValue.length();
-
-                            columnPosition++;
-                        }
-                    }
+                    dataProfile.setValueCount(columnProfile.getValueCounts());
+                    dataProfile.setValueList(columnProfile.getValueList());
+                    dataProfile.setProfileCounts(columnProfile.getProfileCounts());
+                    dataProfile.setProfileFlags(Collections.singletonMap("Exact Value Counts", columnProfile.hasExactValueCounts()));
+                    dataProfile.setInferredLength(columnProfile.getMaximumLength());
                 }
 
                 /*
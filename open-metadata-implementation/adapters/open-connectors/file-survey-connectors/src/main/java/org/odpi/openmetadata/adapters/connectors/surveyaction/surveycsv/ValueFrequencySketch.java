@@ -0,0 +1,193 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.surveyaction.surveycsv;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ValueFrequencySketch estimates how often the most common values appear in a column that has too many distinct
+ * values to count exactly.  It uses a count-min sketch, which never underestimates a count, and keeps the values
+ * with the highest estimated counts as candidates for the top values.  The memory used is fixed by the size of the
+ * sketch and the number of top values requested.  Sketches from different parts of a file can be merged.
+ */
+class ValueFrequencySketch
+{
+    private static final int depth = 4;
+    private static final int width = 2048;
+
+    private final long[][]          counters = new long[depth][width];
+    private final int               topValueCount;
+    private final Map<String, Long> topValues = new HashMap<>();
+
+    private String minimumTopValue = null;
+    private long   minimumTopCount = 0L;
+
+
+    /**
+     * Constructor sets the number of top values to keep.
+     *
+     * @param topValueCount number of top values
+     */
+    ValueFrequencySketch(int topValueCount)
+    {
+        this.topValueCount = topValueCount;
+    }
+
+
+    /**
+     * Record occurrences of a value.
+     *
+     * @param value value
+     * @param valueHash hash of the value (from DistinctValueEstimator.hash())
+     * @param occurrences number of times the value appeared
+     */
+    void add(String value,
+             long   valueHash,
+             long   occurrences)
+    {
+        long estimate    = Long.MAX_VALUE;
+        long secondHash  = DistinctValueEstimator.mix(valueHash ^ 0x9e3779b97f4a7c15L);
+
+        for (int row = 0; row < depth; row++)
+        {
+            int column = (int)Long.remainderUnsigned(valueHash + row * secondHash, width);
+
+            counters[row][column] = counters[row][column] + occurrences;
+            estimate = Math.min(estimate, counters[row][column]);
+        }
+
+        this.offerTopValue(value, estimate);
+    }
+
+
+    /**
+     * Return the estimated number of times that a value appeared.
+     *
+     * @param valueHash hash of the value
+     * @return estimated count - this may be higher than the true count, but never lower
+     */
+    private long getEstimate(long valueHash)
+    {
+        long estimate   = Long.MAX_VALUE;
+        long secondHash = DistinctValueEstimator.mix(valueHash ^ 0x9e3779b97f4a7c15L);
+
+        for (int row = 0; row < depth; row++)
+        {
+            int column = (int)Long.remainderUnsigned(valueHash + row * secondHash, width);
+
+            estimate = Math.min(estimate, counters[row][column]);
+        }
+
+        return estimate;
+    }
+
+
+    /**
+     * Consider a value for the list of top values.
+     *
+     * @param value value
+     * @param estimate latest estimated count for the value
+     */
+    private void offerTopValue(String value,
+                               long   estimate)
+    {
+        if (topValues.containsKey(value))
+        {
+            topValues.put(value, estimate);
+
+            if (value.equals(minimumTopValue))
+            {
+                this.findMinimumTopValue();
+            }
+        }
+        else if (topValues.size() < topValueCount)
+        {
+            topValues.put(value, estimate);
+            this.findMinimumTopValue();
+        }
+        else if (estimate > minimumTopCount)
+        {
+            topValues.remove(minimumTopValue);
+            topValues.put(value, estimate);
+            this.findMinimumTopValue();
+        }
+    }
+
+
+    /**
+     * Locate the top value with the lowest count, which is the one replaced by a more common value.
+     */
+    private void findMinimumTopValue()
+    {
+        minimumTopValue = null;
+        minimumTopCount = Long.MAX_VALUE;
+
+        for (Map.Entry<String, Long> topValue : topValues.entrySet())
+        {
+            if (topValue.getValue() < minimumTopCount)
+            {
+                minimumTopValue = topValue.getKey();
+                minimumTopCount = topValue.getValue();
+            }
+        }
+    }
+
+
+    /**
+     * Add the occurrences recorded by another sketch to this one.
+     *
+     * @param other sketch for another part of the file
+     */
+    void merge(ValueFrequencySketch other)
+    {
+        for (int row = 0; row < depth; row++)
+        {
+            for (int column = 0; column < width; column++)
+            {
+                counters[row][column] = counters[row][column] + other.counters[row][column];
+            }
+        }
+
+        /*
+         * The candidates from both sketches are re-estimated from the merged counters.
+         */
+        List<String> candidates = new ArrayList<>(topValues.keySet());
+
+        candidates.addAll(other.topValues.keySet());
+        topValues.clear();
+
+        for (String candidate : candidates)
+        {
+            if (! topValues.containsKey(candidate))
+            {
+                this.offerTopValue(candidate, this.getEstimate(DistinctValueEstimator.hash(candidate)));
+            }
+        }
+    }
+
+
+    /**
+     * Return the top values with their estimated counts, most common first.
+     *
+     * @return map of values to estimated counts
+     */
+    Map<String, Integer> getTopValues()
+    {
+        List<Map.Entry<String, Long>> sortedValues = new ArrayList<>(topValues.entrySet());
+
+        sortedValues.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        Map<String, Integer> results = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Long> topValue : sortedValues)
+        {
+            results.put(topValue.getKey(), (int)Math.min(Integer.MAX_VALUE, topValue.getValue()));
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,175 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.surveyaction.surveycsv;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStoreConnector;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for {@link CSVProfilingEngine}
+ */
+public class CSVProfilingEngineTest
+{
+    private static final int  columnCount     = 3;
+    private static final long singleChunkSize = 64L * 1024 * 1024;
+
+
+    /**
+     * Write a CSV file with a column names line followed by the requested records.
+     *
+     * @param lineTerminator characters at the end of each line
+     * @param records records to write
+     * @return file
+     * @throws IOException problem writing the file
+     */
+    private File getCSVFile(String    lineTerminator,
+                            String... records) throws IOException
+    {
+        File          file     = File.createTempFile("CSVProfilingEngineTest", ".csv");
+        StringBuilder contents = new StringBuilder("name,colour,size").append(lineTerminator);
+
+        for (String record : records)
+        {
+            contents.append(record).append(lineTerminator);
+        }
+
+        file.deleteOnExit();
+        Files.writeString(file.toPath(), contents.toString(), Charset.defaultCharset());
+
+        return file;
+    }
+
+
+    /**
+     * Return many short records.
+     *
+     * @param recordCount number of records
+     * @return records
+     */
+    private String[] getRecords(int recordCount)
+    {
+        String[] records = new String[recordCount];
+
+        for (int recordNumber = 0; recordNumber < recordCount; recordNumber++)
+        {
+            records[recordNumber] = "name" + recordNumber + ",colour" + (recordNumber % 7) + "," + (recordNumber % 3);
+        }
+
+        return records;
+    }
+
+
+    /**
+     * Profile a file.
+     *
+     * @param file file to profile
+     * @param chunkSize number of bytes in each chunk
+     * @return one profile for each column
+     * @throws IOException problem reading the file
+     */
+    private List<CSVColumnProfile> profile(File file,
+                                           long chunkSize) throws IOException
+    {
+        CSVProfilingEngine profilingEngine = new CSVProfilingEngine(file,
+                                                                    new CSVFileStoreConnector(),
+                                                                    true,
+                                                                    columnCount,
+                                                                    4,
+                                                                    chunkSize,
+                                                                    0,
+                                                                    10);
+
+        return profilingEngine.profile();
+    }
+
+
+    /**
+     * Check that the profiles built from small chunks match the profiles built from a single chunk, and that every
+     * record was profiled once.
+     *
+     * @param file file to profile
+     * @param chunkSize number of bytes in each small chunk
+     * @param recordCount number of records in the file
+     * @throws IOException problem reading the file
+     */
+    private void assertSameAsSingleChunk(File file,
+                                         long chunkSize,
+                                         int  recordCount) throws IOException
+    {
+        List<CSVColumnProfile> chunkedProfiles = this.profile(file, chunkSize);
+        List<CSVColumnProfile> singleProfiles  = this.profile(file, singleChunkSize);
+
+        for (int column = 0; column < columnCount; column++)
+        {
+            Map<String, Long> profileCounts = chunkedProfiles.get(column).getProfileCounts();
+
+            Assert.assertEquals(profileCounts.get("Value Count"), Long.valueOf(recordCount));
+            Assert.assertEquals(profileCounts, singleProfiles.get(column).getProfileCounts());
+            Assert.assertEquals(chunkedProfiles.get(column).getValueCounts(), singleProfiles.get(column).getValueCounts());
+        }
+    }
+
+
+    @Test
+    public void testRecordsSpanChunkBoundaries() throws IOException
+    {
+        /*
+         * Each record is around 20 bytes so most records cross the boundary between two 64 byte chunks.
+         */
+        String[] records = this.getRecords(1000);
+
+        this.assertSameAsSingleChunk(this.getCSVFile("\n", records), 64L, records.length);
+        this.assertSameAsSingleChunk(this.getCSVFile("\n", records), 67L, records.length);
+    }
+
+
+    @Test
+    public void testCarriageReturnLineFeedAtChunkBoundaries() throws IOException
+    {
+        String[] records = this.getRecords(1000);
+
+        for (long chunkSize = 60L; chunkSize < 70L; chunkSize++)
+        {
+            this.assertSameAsSingleChunk(this.getCSVFile("\r\n", records), chunkSize, records.length);
+        }
+    }
+
+
+    @Test
+    public void testRecordLongerThanMapping() throws IOException
+    {
+        /*
+         * The long record is much longer than a chunk and the overrun that is mapped after it.
+         */
+        String[] records = this.getRecords(200);
+
+        records[100] = "long," + "x".repeat(300 * 1024) + ",last";
+
+        File                   file           = this.getCSVFile("\n", records);
+        List<CSVColumnProfile> columnProfiles = this.profile(file, 1024L);
+
+        this.assertSameAsSingleChunk(file, 1024L, records.length);
+
+        Assert.assertEquals(columnProfiles.get(1).getMaximumLength(), 300 * 1024);
+        Assert.assertEquals(columnProfiles.get(2).getValueCounts().get("last"), Integer.valueOf(1));
+    }
+
+
+    @Test
+    public void testColumnNamesLineIsSkipped() throws IOException
+    {
+        List<CSVColumnProfile> columnProfiles = this.profile(this.getCSVFile("\n", "a,b,c"), 2L);
+
+        Assert.assertEquals(columnProfiles.get(0).getValueCounts(), Map.of("a", 1));
+        Assert.assertEquals(columnProfiles.get(1).getValueCounts(), Map.of("b", 1));
+        Assert.assertEquals(columnProfiles.get(2).getValueCounts(), Map.of("c", 1));
+    }
+}
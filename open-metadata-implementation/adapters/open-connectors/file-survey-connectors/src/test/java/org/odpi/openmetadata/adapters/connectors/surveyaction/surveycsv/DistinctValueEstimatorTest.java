@@ -0,0 +1,105 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.surveyaction.surveycsv;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link DistinctValueEstimator}
+ */
+public class DistinctValueEstimatorTest
+{
+    /*
+     * The typical error is around 1.6% so an estimate more than three times that far out is a failure.
+     */
+    private static final double maxRelativeError = 0.05;
+
+
+    /**
+     * Return an estimator that has been given a range of distinct values.
+     *
+     * @param firstValue number of the first value
+     * @param valueCount number of values
+     * @return estimator
+     */
+    private DistinctValueEstimator getEstimator(int firstValue,
+                                                int valueCount)
+    {
+        DistinctValueEstimator estimator = new DistinctValueEstimator();
+
+        for (int value = firstValue; value < firstValue + valueCount; value++)
+        {
+            estimator.add(DistinctValueEstimator.hash("value" + value));
+        }
+
+        return estimator;
+    }
+
+
+    /**
+     * Check that an estimate is within the error bounds.
+     *
+     * @param estimate estimated number of distinct values
+     * @param actual actual number of distinct values
+     */
+    private void assertWithinErrorBounds(long estimate,
+                                         long actual)
+    {
+        Assert.assertTrue(Math.abs(estimate - actual) <= actual * maxRelativeError,
+                          "Estimate " + estimate + " for " + actual + " distinct values");
+    }
+
+
+    @Test
+    public void testSmallCounts()
+    {
+        Assert.assertEquals(new DistinctValueEstimator().getEstimate(), 0L);
+        Assert.assertEquals(this.getEstimator(0, 1).getEstimate(), 1L);
+        Assert.assertEquals(this.getEstimator(0, 10).getEstimate(), 10L);
+    }
+
+
+    @Test
+    public void testErrorBounds()
+    {
+        for (int valueCount : new int[]{100, 1000, 10000, 100000, 1000000})
+        {
+            this.assertWithinErrorBounds(this.getEstimator(0, valueCount).getEstimate(), valueCount);
+        }
+    }
+
+
+    @Test
+    public void testRepeatedValues()
+    {
+        DistinctValueEstimator estimator = this.getEstimator(0, 5000);
+        long                   estimate  = estimator.getEstimate();
+
+        for (int repeat = 0; repeat < 3; repeat++)
+        {
+            for (int value = 0; value < 5000; value++)
+            {
+                estimator.add(DistinctValueEstimator.hash("value" + value));
+            }
+        }
+
+        Assert.assertEquals(estimator.getEstimate(), estimate);
+    }
+
+
+    @Test
+    public void testMerge()
+    {
+        /*
+         * The two halves of the file share 20000 values.
+         */
+        DistinctValueEstimator firstHalf  = this.getEstimator(0, 60000);
+        DistinctValueEstimator secondHalf = this.getEstimator(40000, 60000);
+
+        firstHalf.merge(secondHalf);
+
+        Assert.assertEquals(firstHalf.getEstimate(), this.getEstimator(0, 100000).getEstimate());
+        this.assertWithinErrorBounds(firstHalf.getEstimate(), 100000);
+    }
+}
@@ -0,0 +1,153 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.surveyaction.surveycsv;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for {@link ValueFrequencySketch}
+ */
+public class ValueFrequencySketchTest
+{
+    private static final int topValueCount  = 5;
+    private static final int commonValues   = 10;
+    private static final int uncommonValues = 50000;
+
+
+    /**
+     * Return the values of a column in a random (but repeatable) order.  Value "common0" appears 1000 times,
+     * "common1" 900 times and so on down to "common9" which appears 100 times.  There are also many values
+     * that appear once.
+     *
+     * @return list of values
+     */
+    private List<String> getColumnValues()
+    {
+        List<String> columnValues = new ArrayList<>();
+
+        for (int commonValue = 0; commonValue < commonValues; commonValue++)
+        {
+            for (int occurrence = 0; occurrence < this.getCommonValueCount(commonValue); occurrence++)
+            {
+                columnValues.add("common" + commonValue);
+            }
+        }
+
+        for (int uncommonValue = 0; uncommonValue < uncommonValues; uncommonValue++)
+        {
+            columnValues.add("uncommon" + uncommonValue);
+        }
+
+        Collections.shuffle(columnValues, new Random(42));
+
+        return columnValues;
+    }
+
+
+    /**
+     * Return the number of times that a common value appears.
+     *
+     * @param commonValue number of the common value
+     * @return count
+     */
+    private int getCommonValueCount(int commonValue)
+    {
+        return (commonValues - commonValue) * 100;
+    }
+
+
+    /**
+     * Add values to a sketch.
+     *
+     * @param sketch sketch to update
+     * @param values values to add
+     */
+    private void addValues(ValueFrequencySketch sketch,
+                           List<String>         values)
+    {
+        for (String value : values)
+        {
+            sketch.add(value, DistinctValueEstimator.hash(value), 1L);
+        }
+    }
+
+
+    /**
+     * Check that the top values are the most common values, most common first, and that their counts are never
+     * underestimated and only overestimated by a small amount.
+     *
+     * @param topValues top values from the sketch
+     * @param totalCount number of values added to the sketch
+     */
+    private void assertTopValues(Map<String, Integer> topValues,
+                                 int                  totalCount)
+    {
+        List<String> expectedValues = new ArrayList<>();
+
+        for (int commonValue = 0; commonValue < topValueCount; commonValue++)
+        {
+            expectedValues.add("common" + commonValue);
+        }
+
+        Assert.assertEquals(new ArrayList<>(topValues.keySet()), expectedValues);
+
+        for (int commonValue = 0; commonValue < topValueCount; commonValue++)
+        {
+            int estimate = topValues.get("common" + commonValue);
+            int actual   = this.getCommonValueCount(commonValue);
+
+            Assert.assertTrue(estimate >= actual, "Estimate " + estimate + " for count " + actual);
+            Assert.assertTrue(estimate <= actual + totalCount / 500, "Estimate " + estimate + " for count " + actual);
+        }
+    }
+
+
+    @Test
+    public void testTopValues()
+    {
+        ValueFrequencySketch sketch       = new ValueFrequencySketch(topValueCount);
+        List<String>         columnValues = this.getColumnValues();
+
+        this.addValues(sketch, columnValues);
+
+        this.assertTopValues(sketch.getTopValues(), columnValues.size());
+    }
+
+
+    @Test
+    public void testMerge()
+    {
+        ValueFrequencySketch firstHalf    = new ValueFrequencySketch(topValueCount);
+        ValueFrequencySketch secondHalf   = new ValueFrequencySketch(topValueCount);
+        List<String>         columnValues = this.getColumnValues();
+        int                  middle       = columnValues.size() / 2;
+
+        this.addValues(firstHalf, columnValues.subList(0, middle));
+        this.addValues(secondHalf, columnValues.subList(middle, columnValues.size()));
+
+        firstHalf.merge(secondHalf);
+
+        this.assertTopValues(firstHalf.getTopValues(), columnValues.size());
+    }
+
+
+    @Test
+    public void testOccurrences()
+    {
+        ValueFrequencySketch sketch = new ValueFrequencySketch(2);
+
+        sketch.add("one", DistinctValueEstimator.hash("one"), 10L);
+        sketch.add("two", DistinctValueEstimator.hash("two"), 20L);
+        sketch.add("three", DistinctValueEstimator.hash("three"), 30L);
+
+        Assert.assertEquals(sketch.getTopValues(), Map.of("three", 30, "two", 20));
+        Assert.assertEquals(new ArrayList<>(sketch.getTopValues().keySet()), List.of("three", "two"));
+    }
+}
@@ -0,0 +1,752 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AuditLogSegment manages one segment file of the segmented audit log.  A segment file holds one JSON log record
+ * on each line, in the order that they were written.  Alongside the file, the segment keeps a small index that
+ * divides the file into blocks of log records and notes the range of timestamps and the severities of the records
+ * in each block.  Queries use the index to skip the blocks that cannot contain matching records.
+ * <br><br>
+ * Only the newest segment is written to.  When it is full, it is sealed: the file is closed and its index is saved
+ * to a sidecar file so that it does not need to be rebuilt when the server restarts.  A segment whose sidecar is
+ * missing or out of date has its index rebuilt by reading the segment file.  When the server restarts, the newest
+ * segment may be reopened and written to again.
+ */
+class AuditLogSegment
+{
+    private static final Logger log = LoggerFactory.getLogger(AuditLogSegment.class);
+
+    private static final ObjectReader OBJECT_READER = new ObjectMapper().readerFor(AuditLogRecord.class);
+
+    static final String segmentFilePrefix    = "segment-";
+    static final String segmentFileExtension = ".jsonl";
+    static final String indexFileExtension   = ".idx";
+
+    private static final int indexFileVersion = 1;
+    private static final int scanBlockSize    = 64 * 1024;
+
+    private final long sequenceNumber;
+    private final File segmentFile;
+    private final File indexFile;
+    private final int  indexInterval;
+
+    private final List<IndexBlock> indexBlocks = new ArrayList<>();
+
+    private FileChannel   writeChannel      = null;
+    private volatile long committedLength   = 0L;
+    private volatile long earliestTimestamp = Long.MAX_VALUE;
+    private volatile long lastTimestamp     = 0L;
+
+
+    /**
+     * Constructor used by the factory methods.
+     *
+     * @param directory directory holding the segment files
+     * @param sequenceNumber position of the segment in the log
+     * @param indexInterval number of log records in each index block
+     */
+    private AuditLogSegment(File directory,
+                            long sequenceNumber,
+                            int  indexInterval)
+    {
+        String baseName = segmentFilePrefix + String.format("%020d", sequenceNumber);
+
+        this.sequenceNumber = sequenceNumber;
+        this.segmentFile    = new File(directory, baseName + segmentFileExtension);
+        this.indexFile      = new File(directory, baseName + indexFileExtension);
+        this.indexInterval  = indexInterval;
+    }
+
+
+    /**
+     * Create a new, empty segment ready to receive log records.
+     *
+     * @param directory directory holding the segment files
+     * @param sequenceNumber position of the segment in the log
+     * @param indexInterval number of log records in each index block
+     * @return new segment
+     * @throws IOException unable to create the file
+     */
+    static AuditLogSegment createSegment(File directory,
+                                         long sequenceNumber,
+                                         int  indexInterval) throws IOException
+    {
+        AuditLogSegment segment = new AuditLogSegment(directory, sequenceNumber, indexInterval);
+
+        segment.writeChannel = FileChannel.open(segment.segmentFile.toPath(),
+                                                StandardOpenOption.CREATE_NEW,
+                                                StandardOpenOption.WRITE);
+
+        return segment;
+    }
+
+
+    /**
+     * Open an existing segment that was written by an earlier run of the connector.  The segment is opened for
+     * reading only.  Its index is loaded from the sidecar file if it matches the segment file, otherwise it is
+     * rebuilt and saved.
+     *
+     * @param directory directory holding the segment files
+     * @param sequenceNumber position of the segment in the log
+     * @param indexInterval number of log records in each index block (used when the index is rebuilt)
+     * @return segment
+     * @throws IOException unable to read the segment
+     */
+    static AuditLogSegment openSegment(File directory,
+                                       long sequenceNumber,
+                                       int  indexInterval) throws IOException
+    {
+        AuditLogSegment segment = new AuditLogSegment(directory, sequenceNumber, indexInterval);
+
+        if (! segment.loadIndex())
+        {
+            segment.rebuildIndex();
+            segment.saveIndex();
+        }
+
+        return segment;
+    }
+
+
+    /**
+     * Extract the sequence number from the name of a segment file.
+     *
+     * @param fileName name of a file in the log directory
+     * @return sequence number, or -1 if this is not a segment file
+     */
+    static long getSequenceNumber(String fileName)
+    {
+        if ((fileName.startsWith(segmentFilePrefix)) && (fileName.endsWith(segmentFileExtension)))
+        {
+            String sequence = fileName.substring(segmentFilePrefix.length(), fileName.length() - segmentFileExtension.length());
+
+            try
+            {
+                return Long.parseLong(sequence);
+            }
+            catch (NumberFormatException notSegment)
+            {
+                return -1L;
+            }
+        }
+
+        return -1L;
+    }
+
+
+    /**
+     * Return the position of the segment in the log.
+     *
+     * @return sequence number
+     */
+    long getSequenceNumber()
+    {
+        return sequenceNumber;
+    }
+
+
+    /**
+     * Return the number of bytes of complete log records in the segment.
+     *
+     * @return length
+     */
+    long getLength()
+    {
+        return committedLength;
+    }
+
+
+    /**
+     * Return the earliest timestamp of the log records in the segment.
+     *
+     * @return milliseconds since the epoch, or 0 if the segment is empty
+     */
+    long getEarliestTimestamp()
+    {
+        long timestamp = earliestTimestamp;
+
+        if (timestamp == Long.MAX_VALUE)
+        {
+            return 0L;
+        }
+
+        return timestamp;
+    }
+
+
+    /**
+     * Return the latest timestamp of the log records in the segment.
+     *
+     * @return milliseconds since the epoch, or 0 if the segment is empty
+     */
+    long getLastTimestamp()
+    {
+        return lastTimestamp;
+    }
+
+
+    /**
+     * Continue writing to a segment opened by openSegment.  Any partly written log record at the end of the segment
+     * file is removed first.  The sidecar is out of date as soon as a log record is added, so the index is rebuilt
+     * if the server stops without sealing the segment.
+     *
+     * @throws IOException unable to write to the segment file
+     */
+    void reopenForWriting() throws IOException
+    {
+        writeChannel = FileChannel.open(segmentFile.toPath(), StandardOpenOption.WRITE);
+        writeChannel.truncate(committedLength);
+    }
+
+
+    /**
+     * Write a batch of log records to the end of the segment with a single write, and add them to the index.
+     *
+     * @param logRecordEntries log records to write
+     * @param forceWrite should the records be forced to the storage device before returning?
+     * @throws IOException unable to write the records
+     */
+    void appendLogRecords(List<LogRecordEntry> logRecordEntries,
+                          boolean              forceWrite) throws IOException
+    {
+        int batchLength = 0;
+
+        for (LogRecordEntry logRecordEntry : logRecordEntries)
+        {
+            batchLength = batchLength + logRecordEntry.jsonLine.length;
+        }
+
+        ByteBuffer batchBuffer = ByteBuffer.allocate(batchLength);
+
+        for (LogRecordEntry logRecordEntry : logRecordEntries)
+        {
+            batchBuffer.put(logRecordEntry.jsonLine);
+        }
+
+        batchBuffer.flip();
+
+        long batchStart = committedLength;
+
+        while (batchBuffer.hasRemaining())
+        {
+            writeChannel.write(batchBuffer, batchStart + batchBuffer.position());
+        }
+
+        if (forceWrite)
+        {
+            writeChannel.force(false);
+        }
+
+        synchronized (this)
+        {
+            long recordOffset = batchStart;
+
+            for (LogRecordEntry logRecordEntry : logRecordEntries)
+            {
+                this.addToIndex(recordOffset, logRecordEntry.timestamp, logRecordEntry.severity);
+                recordOffset = recordOffset + logRecordEntry.jsonLine.length;
+            }
+
+            committedLength = recordOffset;
+        }
+    }
+
+
+    /**
+     * Add a log record to the index.  A new block is started when the current one is full.
+     *
+     * @param recordOffset offset of the log record in the segment file
+     * @param timestamp time that the log record was created
+     * @param severity severity of the log record
+     */
+    private void addToIndex(long   recordOffset,
+                            long   timestamp,
+                            String severity)
+    {
+        IndexBlock currentBlock = null;
+
+        if (! indexBlocks.isEmpty())
+        {
+            currentBlock = indexBlocks.get(indexBlocks.size() - 1);
+        }
+
+        if ((currentBlock == null) || (currentBlock.recordCount >= indexInterval))
+        {
+            currentBlock = new IndexBlock(recordOffset);
+            indexBlocks.add(currentBlock);
+        }
+
+        currentBlock.addLogRecord(timestamp, severity);
+
+        if (timestamp < earliestTimestamp)
+        {
+            earliestTimestamp = timestamp;
+        }
+
+        if (timestamp > lastTimestamp)
+        {
+            lastTimestamp = timestamp;
+        }
+    }
+
+
+    /**
+     * Stop writing to the segment and save its index.
+     *
+     * @throws IOException unable to close the file or save the index
+     */
+    void seal() throws IOException
+    {
+        if (writeChannel != null)
+        {
+            writeChannel.close();
+            writeChannel = null;
+
+            this.saveIndex();
+        }
+    }
+
+
+    /**
+     * Remove the segment and its index from the file system.
+     */
+    void delete()
+    {
+        if (writeChannel != null)
+        {
+            try
+            {
+                writeChannel.close();
+            }
+            catch (IOException error)
+            {
+                log.debug("Ignoring unexpected exception " + error.getClass().getSimpleName() + " with message " + error.getMessage());
+            }
+
+            writeChannel = null;
+        }
+
+        if ((! segmentFile.delete()) && (segmentFile.exists()))
+        {
+            log.warn("Unable to delete audit log segment " + segmentFile.getAbsolutePath());
+        }
+
+        if ((! indexFile.delete()) && (indexFile.exists()))
+        {
+            log.warn("Unable to delete audit log segment index " + indexFile.getAbsolutePath());
+        }
+    }
+
+
+    /**
+     * Return the byte ranges of the index blocks that could hold log records from the requested time period
+     * with the requested severity.
+     *
+     * @param startTime start of the time period (milliseconds since the epoch)
+     * @param endTime end of the time period (milliseconds since the epoch)
+     * @param severity severity of the log records, or null for any severity
+     * @return list of ranges, each holding the start and end offset of a block
+     */
+    synchronized List<long[]> getMatchingBlocks(long   startTime,
+                                                long   endTime,
+                                                String severity)
+    {
+        List<long[]> blockRanges = new ArrayList<>();
+
+        for (int blockNumber = 0; blockNumber < indexBlocks.size(); blockNumber++)
+        {
+            IndexBlock indexBlock = indexBlocks.get(blockNumber);
+
+            if (indexBlock.matches(startTime, endTime, severity))
+            {
+                long blockEnd = committedLength;
+
+                if (blockNumber + 1 < indexBlocks.size())
+                {
+                    blockEnd = indexBlocks.get(blockNumber + 1).startOffset;
+                }
+
+                blockRanges.add(new long[]{indexBlock.startOffset, blockEnd});
+            }
+        }
+
+        return blockRanges;
+    }
+
+
+    /**
+     * Read the log records stored in a range of the segment file.
+     *
+     * @param blockRange start and end offset of the range
+     * @return list of JSON log records - empty if the segment has been deleted by the retention policy
+     * @throws IOException unable to read the file
+     */
+    List<String> readLogRecords(long[] blockRange) throws IOException
+    {
+        List<String> jsonLogRecords = new ArrayList<>();
+
+        if (blockRange[1] <= blockRange[0])
+        {
+            return jsonLogRecords;
+        }
+
+        ByteBuffer blockBuffer = ByteBuffer.allocate((int)(blockRange[1] - blockRange[0]));
+
+        try (FileChannel readChannel = FileChannel.open(segmentFile.toPath(), StandardOpenOption.READ))
+        {
+            while (blockBuffer.hasRemaining())
+            {
+                if (readChannel.read(blockBuffer, blockRange[0] + blockBuffer.position()) < 0)
+                {
+                    break;
+                }
+            }
+        }
+        catch (NoSuchFileException deleted)
+        {
+            return jsonLogRecords;
+        }
+
+        byte[] blockBytes = blockBuffer.array();
+        int    lineStart  = 0;
+
+        for (int position = 0; position < blockBuffer.position(); position++)
+        {
+            if (blockBytes[position] == '\n')
+            {
+                if (position > lineStart)
+                {
+                    jsonLogRecords.add(new String(blockBytes, lineStart, position - lineStart, StandardCharsets.UTF_8));
+                }
+
+                lineStart = position + 1;
+            }
+        }
+
+        return jsonLogRecords;
+    }
+
+
+    /**
+     * Rebuild the index by reading every log record in the segment file.  A partly written record at the end of
+     * the file (from a server that stopped while writing) is not included in the segment.
+     *
+     * @throws IOException unable to read the file
+     */
+    private void rebuildIndex() throws IOException
+    {
+        indexBlocks.clear();
+        earliestTimestamp = Long.MAX_VALUE;
+        lastTimestamp     = 0L;
+
+        try (BufferedInputStream inputStream = new BufferedInputStream(new FileInputStream(segmentFile), scanBlockSize))
+        {
+            byte[] lineBuffer = new byte[1024];
+            int    lineLength = 0;
+            long   lineStart  = 0L;
+            long   position   = 0L;
+            int    nextByte;
+
+            while ((nextByte = inputStream.read()) >= 0)
+            {
+                position++;
+
+                if (nextByte == '\n')
+                {
+                    if (lineLength > 0)
+                    {
+                        this.indexLogRecord(lineStart, new String(lineBuffer, 0, lineLength, StandardCharsets.UTF_8));
+                    }
+
+                    lineStart  = position;
+                    lineLength = 0;
+                }
+                else
+                {
+                    if (lineLength == lineBuffer.length)
+                    {
+                        byte[] largerBuffer = new byte[lineBuffer.length * 2];
+
+                        System.arraycopy(lineBuffer, 0, largerBuffer, 0, lineLength);
+                        lineBuffer = largerBuffer;
+                    }
+
+                    lineBuffer[lineLength] = (byte)nextByte;
+                    lineLength++;
+                }
+            }
+
+            committedLength = lineStart;
+        }
+    }
+
+
+    /**
+     * Add a log record read from the segment file to the index.  A record that can not be parsed is skipped.
+     *
+     * @param recordOffset offset of the log record in the segment file
+     * @param jsonLogRecord JSON log record
+     */
+    private void indexLogRecord(long   recordOffset,
+                                String jsonLogRecord)
+    {
+        try
+        {
+            AuditLogRecord logRecord = OBJECT_READER.readValue(jsonLogRecord);
+            long           timestamp = 0L;
+
+            if (logRecord.getTimeStamp() != null)
+            {
+                timestamp = logRecord.getTimeStamp().getTime();
+            }
+
+            this.addToIndex(recordOffset, timestamp, logRecord.getSeverity());
+        }
+        catch (IOException error)
+        {
+            log.debug("Skipping unreadable log record at offset " + recordOffset + " of " + segmentFile.getName() + ": " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * Load the index from the sidecar file.
+     *
+     * @return true if the index was loaded; false if the sidecar is missing, unreadable or out of date.
+     *         The sidecar is out of date if the segment file has changed length since it was saved.
+     */
+    private boolean loadIndex()
+    {
+        if (! indexFile.exists())
+        {
+            return false;
+        }
+
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile))))
+        {
+            if (inputStream.readInt() != indexFileVersion)
+            {
+                return false;
+            }
+
+            long indexedLength = inputStream.readLong();
+
+            if (indexedLength != segmentFile.length())
+            {
+                return false;
+            }
+
+            long latestTimestamp  = inputStream.readLong();
+            int  blockCount       = inputStream.readInt();
+            long minimumTimestamp = Long.MAX_VALUE;
+
+            List<IndexBlock> loadedBlocks = new ArrayList<>(blockCount);
+
+            for (int blockNumber = 0; blockNumber < blockCount; blockNumber++)
+            {
+                IndexBlock indexBlock = new IndexBlock(inputStream.readLong());
+
+                indexBlock.recordCount  = inputStream.readInt();
+                indexBlock.minTimestamp = inputStream.readLong();
+                indexBlock.maxTimestamp = inputStream.readLong();
+
+                int severityCount = inputStream.readInt();
+
+                for (int severityNumber = 0; severityNumber < severityCount; severityNumber++)
+                {
+                    indexBlock.severities.add(inputStream.readUTF());
+                }
+
+                loadedBlocks.add(indexBlock);
+                minimumTimestamp = Math.min(minimumTimestamp, indexBlock.minTimestamp);
+            }
+
+            indexBlocks.clear();
+            indexBlocks.addAll(loadedBlocks);
+            committedLength   = indexedLength;
+            earliestTimestamp = minimumTimestamp;
+            lastTimestamp     = latestTimestamp;
+
+            return true;
+        }
+        catch (IOException error)
+        {
+            log.debug("Rebuilding index for " + segmentFile.getName() + " because the sidecar could not be read: " + error.getMessage());
+
+            return false;
+        }
+    }
+
+
+    /**
+     * Save the index to the sidecar file.
+     *
+     * @throws IOException unable to write the file
+     */
+    private synchronized void saveIndex() throws IOException
+    {
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile))))
+        {
+            outputStream.writeInt(indexFileVersion);
+            outputStream.writeLong(committedLength);
+            outputStream.writeLong(lastTimestamp);
+            outputStream.writeInt(indexBlocks.size());
+
+            for (IndexBlock indexBlock : indexBlocks)
+            {
+                outputStream.writeLong(indexBlock.startOffset);
+                outputStream.writeInt(indexBlock.recordCount);
+                outputStream.writeLong(indexBlock.minTimestamp);
+                outputStream.writeLong(indexBlock.maxTimestamp);
+                outputStream.writeInt(indexBlock.severities.size());
+
+                for (String severity : indexBlock.severities)
+                {
+                    outputStream.writeUTF(severity);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * LogRecordEntry is a log record that is waiting to be written to the log.
+     */
+    static class LogRecordEntry
+    {
+        private final byte[] jsonLine;
+        private final long   timestamp;
+        private final String severity;
+
+        private volatile IOException writeError = null;
+
+
+        /**
+         * Constructor supplies the formatted log record and the values used in the index.
+         *
+         * @param jsonLine JSON log record, terminated by a new line
+         * @param timestamp time that the log record was created
+         * @param severity severity of the log record
+         */
+        LogRecordEntry(byte[] jsonLine,
+                       long   timestamp,
+                       String severity)
+        {
+            this.jsonLine  = jsonLine;
+            this.timestamp = timestamp;
+            this.severity  = severity;
+        }
+
+
+        /**
+         * Record that the batch holding this log record could not be written.
+         *
+         * @param writeError exception from the write
+         */
+        void setWriteError(IOException writeError)
+        {
+            this.writeError = writeError;
+        }
+
+
+        /**
+         * Return the exception from writing the batch holding this log record.
+         *
+         * @return exception or null if the record was written
+         */
+        IOException getWriteError()
+        {
+            return writeError;
+        }
+    }
+
+
+    /**
+     * IndexBlock summarizes a run of consecutive log records in the segment file.
+     */
+    private static class IndexBlock
+    {
+        private final long        startOffset;
+        private final Set<String> severities   = new HashSet<>();
+        private int               recordCount  = 0;
+        private long              minTimestamp = Long.MAX_VALUE;
+        private long              maxTimestamp = Long.MIN_VALUE;
+
+
+        /**
+         * Constructor sets the offset of the first log record in the block.
+         *
+         * @param startOffset offset in the segment file
+         */
+        IndexBlock(long startOffset)
+        {
+            this.startOffset = startOffset;
+        }
+
+
+        /**
+         * Add a log record to the block.
+         *
+         * @param timestamp time that the log record was created
+         * @param severity severity of the log record
+         */
+        void addLogRecord(long   timestamp,
+                          String severity)
+        {
+            recordCount++;
+            minTimestamp = Math.min(minTimestamp, timestamp);
+            maxTimestamp = Math.max(maxTimestamp, timestamp);
+
+            if (severity != null)
+            {
+                severities.add(severity);
+            }
+        }
+
+
+        /**
+         * Could the block hold log records from the time period with the severity?
+         *
+         * @param startTime start of the time period
+         * @param endTime end of the time period
+         * @param severity severity of the log records, or null for any severity
+         * @return boolean result
+         */
+        boolean matches(long   startTime,
+                        long   endTime,
+                        String severity)
+        {
+            if ((maxTimestamp < startTime) || (minTimestamp > endTime))
+            {
+                return false;
+            }
+
+            return (severity == null) || (severities.contains(severity));
+        }
+    }
+}
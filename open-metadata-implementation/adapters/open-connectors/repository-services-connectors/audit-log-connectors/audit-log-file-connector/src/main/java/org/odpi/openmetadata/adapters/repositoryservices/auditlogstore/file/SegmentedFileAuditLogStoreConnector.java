@@ -0,0 +1,851 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file.controls.SegmentedFileAuditLogConfigurationProperty;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.frameworks.openmetadata.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.openmetadata.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SegmentedFileAuditLogStoreConnector provides a connector implementation for a file based audit log that
+ * appends the log records to a series of segment files rather than creating a file for each log record.
+ * Each segment file holds one JSON log record per line.  When the newest segment reaches its maximum size it is
+ * sealed and a new segment is started.  Old segments are deleted according to the retention settings, which are
+ * checked after each batch of log records is written.  If a retention period is set, the newest segment is also
+ * sealed once its oldest log record passes the retention period, so log records on a quiet server are deleted
+ * between one and two retention periods after they were written.
+ * <br><br>
+ * Log records from concurrent callers are written together.  Each caller adds its log record to a queue; whichever
+ * caller gets the writer lock writes everything in the queue with a single write to the segment file (and forces it
+ * to the storage device if syncWrites is set) and the other callers return as soon as their log records are in a
+ * written batch.
+ * <br><br>
+ * Each segment keeps an index of the time range and severities of each block of log records, so the queries only
+ * read the blocks that could hold matching log records.
+ */
+public class SegmentedFileAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBase
+{
+    private static final String defaultDirectoryName  = "omag.server.segmented.auditlog";
+    private static final long   defaultMaxSegmentSize = 64L * 1024L * 1024L;
+    private static final int    defaultIndexInterval  = 256;
+    private static final long   millisecondsPerHour   = 60L * 60L * 1000L;
+
+    private static final ObjectReader OBJECT_READER = new ObjectMapper().readerFor(AuditLogRecord.class);
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentedFileAuditLogStoreConnector.class);
+
+    private File    logStoreDirectory = null;
+    private long    maxSegmentSize    = defaultMaxSegmentSize;
+    private int     maxSegmentCount   = 0;
+    private long    retentionPeriod   = 0L;
+    private int     indexInterval     = defaultIndexInterval;
+    private boolean syncWrites        = false;
+
+    /*
+     * The segments are listed oldest first.  The last segment is the one being written to.
+     */
+    private final List<AuditLogSegment> segments      = new CopyOnWriteArrayList<>();
+    private AuditLogSegment             activeSegment = null;
+
+    /*
+     * Log records waiting to be written.  The pending list is guarded by queueLock; the segments are only
+     * changed by the holder of the writer lock.
+     */
+    private final Object                               queueLock      = new Object();
+    private final ReentrantLock                        writerLock     = new ReentrantLock();
+    private List<AuditLogSegment.LogRecordEntry>       pendingEntries = new ArrayList<>();
+    private long                                       queuedCount    = 0L;
+    private volatile long                              writtenCount   = 0L;
+
+
+    /**
+     * Default constructor used by the connector provider.
+     */
+    public SegmentedFileAuditLogStoreConnector()
+    {
+    }
+
+
+    /**
+     * Set up the directory of segment files, load the indexes of the existing segments and open the segment to write to.
+     *
+     * @throws ConnectorCheckedException something went wrong
+     * @throws UserNotAuthorizedException the connector was disconnected before/during start
+     */
+    @Override
+    public void start() throws ConnectorCheckedException, UserNotAuthorizedException
+    {
+        final String methodName = "start";
+
+        super.start();
+
+        String directoryName = null;
+        Endpoint endpoint = connectionBean.getEndpoint();
+
+        if (endpoint != null)
+        {
+            directoryName = endpoint.getNetworkAddress();
+        }
+
+        if (directoryName == null)
+        {
+            directoryName = defaultDirectoryName;
+        }
+
+        logStoreDirectory = new File(directoryName);
+
+        if (connectionBean.getConfigurationProperties() != null)
+        {
+            long configuredSegmentSize = super.getLongConfigurationProperty(SegmentedFileAuditLogConfigurationProperty.MAX_SEGMENT_SIZE.getName(),
+                                                                            connectionBean.getConfigurationProperties());
+            int  configuredInterval    = super.getIntConfigurationProperty(SegmentedFileAuditLogConfigurationProperty.INDEX_INTERVAL.getName(),
+                                                                           connectionBean.getConfigurationProperties());
+
+            if (configuredSegmentSize > 0)
+            {
+                maxSegmentSize = configuredSegmentSize;
+            }
+
+            if (configuredInterval > 0)
+            {
+                indexInterval = configuredInterval;
+            }
+
+            maxSegmentCount = Math.max(0, super.getIntConfigurationProperty(SegmentedFileAuditLogConfigurationProperty.MAX_SEGMENT_COUNT.getName(),
+                                                                            connectionBean.getConfigurationProperties()));
+            retentionPeriod = Math.max(0, super.getIntConfigurationProperty(SegmentedFileAuditLogConfigurationProperty.RETENTION_HOURS.getName(),
+                                                                            connectionBean.getConfigurationProperties())) * millisecondsPerHour;
+            syncWrites      = super.getBooleanConfigurationProperty(SegmentedFileAuditLogConfigurationProperty.SYNC_WRITES.getName(),
+                                                                    connectionBean.getConfigurationProperties());
+        }
+
+        try
+        {
+            FileUtils.forceMkdir(logStoreDirectory);
+
+            this.openSegments();
+        }
+        catch (IOException ioException)
+        {
+            throw new ConnectorCheckedException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(super.getDestinationName(),
+                                                                                                              ioException.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                ioException);
+        }
+    }
+
+
+    /**
+     * Load the segments left by earlier runs of the connector.  The newest segment continues to be written to if it
+     * is not full and has not passed the retention period; otherwise a new segment is started after it.  A server
+     * that stopped without disconnecting the connector may have left the newest segment unsealed, so its index is
+     * rebuilt.
+     *
+     * @throws IOException unable to read the existing segments or open the segment to write to
+     */
+    private void openSegments() throws IOException
+    {
+        List<Long> sequenceNumbers = new ArrayList<>();
+        String[]   fileNames       = logStoreDirectory.list();
+
+        if (fileNames != null)
+        {
+            for (String fileName : fileNames)
+            {
+                long sequenceNumber = AuditLogSegment.getSequenceNumber(fileName);
+
+                if (sequenceNumber >= 0)
+                {
+                    sequenceNumbers.add(sequenceNumber);
+                }
+            }
+        }
+
+        Collections.sort(sequenceNumbers);
+
+        writerLock.lock();
+
+        try
+        {
+            long nextSequenceNumber = 0L;
+
+            segments.clear();
+            activeSegment = null;
+
+            for (int segmentNumber = 0; segmentNumber < sequenceNumbers.size() - 1; segmentNumber++)
+            {
+                segments.add(AuditLogSegment.openSegment(logStoreDirectory, sequenceNumbers.get(segmentNumber), indexInterval));
+            }
+
+            if (! sequenceNumbers.isEmpty())
+            {
+                long            newestSequenceNumber = sequenceNumbers.get(sequenceNumbers.size() - 1);
+                AuditLogSegment newestSegment        = AuditLogSegment.openSegment(logStoreDirectory, newestSequenceNumber, indexInterval);
+
+                if ((newestSegment.getLength() < maxSegmentSize) && (! this.isPastRetentionPeriod(newestSegment)))
+                {
+                    newestSegment.reopenForWriting();
+                    activeSegment = newestSegment;
+                }
+                else
+                {
+                    segments.add(newestSegment);
+                }
+
+                nextSequenceNumber = newestSequenceNumber + 1;
+            }
+
+            if (activeSegment == null)
+            {
+                activeSegment = AuditLogSegment.createSegment(logStoreDirectory, nextSequenceNumber, indexInterval);
+            }
+
+            segments.add(activeSegment);
+
+            this.applyRetention();
+        }
+        finally
+        {
+            writerLock.unlock();
+        }
+    }
+
+
+    /**
+     * Store the audit log record in the audit log store.  The call returns once the log record has been written
+     * to the newest segment.
+     *
+     * @param logRecord  log record to store
+     * @return unique identifier assigned to the log record
+     * @throws InvalidParameterException indicates that the logRecord parameter is invalid.
+     * @throws RepositoryErrorException indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public String storeLogRecord(OMRSAuditLogRecord logRecord) throws InvalidParameterException,
+                                                                      RepositoryErrorException
+    {
+        final String   methodName = "storeLogRecord";
+
+        super.validateLogRecord(logRecord, methodName);
+
+        if (isSupportedSeverity(logRecord))
+        {
+            long timestamp = 0L;
+
+            if (logRecord.getTimeStamp() != null)
+            {
+                timestamp = logRecord.getTimeStamp().getTime();
+            }
+
+            byte[] jsonLine = (super.getJSONLogRecord(logRecord, methodName) + "\n").getBytes(StandardCharsets.UTF_8);
+
+            AuditLogSegment.LogRecordEntry logRecordEntry = new AuditLogSegment.LogRecordEntry(jsonLine, timestamp, logRecord.getSeverity());
+            long                           entryNumber;
+
+            synchronized (queueLock)
+            {
+                pendingEntries.add(logRecordEntry);
+                queuedCount++;
+                entryNumber = queuedCount;
+            }
+
+            writerLock.lock();
+
+            try
+            {
+                /*
+                 * Another caller may have written this log record while this caller waited for the lock.
+                 */
+                if (writtenCount < entryNumber)
+                {
+                    this.writePendingEntries();
+                }
+            }
+            finally
+            {
+                writerLock.unlock();
+            }
+
+            if (logRecordEntry.getWriteError() != null)
+            {
+                throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(super.getDestinationName(),
+                                                                                                                 logRecordEntry.getWriteError().getMessage()),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   logRecordEntry.getWriteError());
+            }
+        }
+
+        return logRecord.getGUID();
+    }
+
+
+    /**
+     * Write all the queued log records to the newest segment in a single batch.  The caller must hold the
+     * writer lock.  If the write fails, the error is recorded against each log record in the batch so
+     * that all of their callers receive it.  Once the batch is written, the log records are safe, so a
+     * failure to start the next segment is only logged and the roll is tried again after the next batch.
+     * The retention settings are checked after every batch so that old segments are deleted on time even
+     * when the segments roll rarely.
+     */
+    private void writePendingEntries()
+    {
+        List<AuditLogSegment.LogRecordEntry> batch;
+        long                                 batchEnd;
+
+        synchronized (queueLock)
+        {
+            batch          = pendingEntries;
+            batchEnd       = queuedCount;
+            pendingEntries = new ArrayList<>();
+        }
+
+        if (! batch.isEmpty())
+        {
+            boolean batchWritten = false;
+
+            try
+            {
+                if (activeSegment == null)
+                {
+                    throw new IOException("The audit log store is not started");
+                }
+
+                activeSegment.appendLogRecords(batch, syncWrites);
+                batchWritten = true;
+            }
+            catch (IOException ioException)
+            {
+                log.error("Unusable Server Audit Log Store :(", ioException);
+
+                for (AuditLogSegment.LogRecordEntry logRecordEntry : batch)
+                {
+                    logRecordEntry.setWriteError(ioException);
+                }
+            }
+
+            if (batchWritten)
+            {
+                if ((activeSegment.getLength() >= maxSegmentSize) || (this.isPastRetentionPeriod(activeSegment)))
+                {
+                    try
+                    {
+                        this.rollSegment();
+                    }
+                    catch (IOException ioException)
+                    {
+                        log.error("Unable to start a new audit log segment; continuing with the current segment", ioException);
+                    }
+                }
+
+                this.applyRetention();
+            }
+        }
+
+        writtenCount = batchEnd;
+    }
+
+
+    /**
+     * Start a new segment and seal the old one.
+     * The new segment is created first so that the old segment stays in use if it can not be created.
+     * If the old segment's index can not be saved, it is rebuilt from the segment file when the
+     * connector next starts.  The caller must hold the writer lock.
+     *
+     * @throws IOException unable to create the new segment
+     */
+    private void rollSegment() throws IOException
+    {
+        AuditLogSegment sealedSegment = activeSegment;
+
+        activeSegment = AuditLogSegment.createSegment(logStoreDirectory, sealedSegment.getSequenceNumber() + 1, indexInterval);
+        segments.add(activeSegment);
+
+        try
+        {
+            sealedSegment.seal();
+        }
+        catch (IOException ioException)
+        {
+            log.warn("Unable to save the index of audit log segment " + sealedSegment.getSequenceNumber() + ": " + ioException.getMessage());
+        }
+    }
+
+
+    /**
+     * Has the oldest log record in a segment passed the retention period?
+     *
+     * @param segment segment to test
+     * @return boolean result - always false if there is no retention period or the segment is empty
+     */
+    private boolean isPastRetentionPeriod(AuditLogSegment segment)
+    {
+        return (retentionPeriod > 0) &&
+               (segment.getLength() > 0) &&
+               (segment.getEarliestTimestamp() < System.currentTimeMillis() - retentionPeriod);
+    }
+
+
+    /**
+     * Delete the oldest sealed segments if there are more than the maximum number of segments, or if their
+     * log records are older than the retention period.  The segment being written to is never deleted.
+     * The caller must hold the writer lock.
+     */
+    private void applyRetention()
+    {
+        long retainedFrom = 0L;
+
+        if (retentionPeriod > 0)
+        {
+            retainedFrom = System.currentTimeMillis() - retentionPeriod;
+        }
+
+        while (segments.size() > 1)
+        {
+            AuditLogSegment oldestSegment = segments.get(0);
+
+            if (((maxSegmentCount > 0) && (segments.size() > maxSegmentCount)) ||
+                (oldestSegment.getLastTimestamp() < retainedFrom))
+            {
+                segments.remove(0);
+                oldestSegment.delete();
+            }
+            else
+            {
+                break;
+            }
+        }
+    }
+
+
+    /**
+     * Retrieve a specific audit log record.  The segments are searched newest first.
+     *
+     * @param logRecordId unique identifier for the log record
+     * @return requested audit log record or null if it is not in the retained segments
+     * @throws InvalidParameterException     indicates that the logRecordId parameter is invalid.
+     * @throws RepositoryErrorException      indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public OMRSAuditLogRecord getAuditLogRecord(String logRecordId) throws InvalidParameterException,
+                                                                           RepositoryErrorException
+    {
+        final String methodName    = "getAuditLogRecord";
+        final String parameterName = "logRecordId";
+
+        if (logRecordId == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_AUDIT_LOG_QUERY_PARAMETER.getMessageDefinition(parameterName,
+                                                                                                              methodName,
+                                                                                                              super.getDestinationName()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+
+        String guidProperty = "\"guid\":\"" + logRecordId + "\"";
+
+        List<AuditLogSegment> segmentSnapshot = new ArrayList<>(segments);
+
+        try
+        {
+            for (int segmentNumber = segmentSnapshot.size() - 1; segmentNumber >= 0; segmentNumber--)
+            {
+                for (long[] blockRange : segmentSnapshot.get(segmentNumber).getMatchingBlocks(Long.MIN_VALUE, Long.MAX_VALUE, null))
+                {
+                    for (String jsonLogRecord : segmentSnapshot.get(segmentNumber).readLogRecords(blockRange))
+                    {
+                        if (jsonLogRecord.contains(guidProperty))
+                        {
+                            AuditLogRecord logRecord = this.parseLogRecord(jsonLogRecord);
+
+                            if ((logRecord != null) && (logRecordId.equals(logRecord.getGUID())))
+                            {
+                                return new OMRSAuditLogRecord(logRecord);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            this.throwStoreNotAvailable(ioException, methodName);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve a list of log records written in a specified time period.  The offset and maximumRecords
+     * parameters support a paging
+     *
+     * @param startDate      start of time period
+     * @param endDate        end of time period
+     * @param offset         offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return
+     * @return list of log records from the specified time period
+     * @throws InvalidParameterException     indicates that the start and/or end date parameters are invalid.
+     * @throws PagingErrorException          indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException      indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public List<OMRSAuditLogRecord> getAuditLogRecordsByTimeStamp(Date startDate,
+                                                                  Date endDate,
+                                                                  int  offset,
+                                                                  int  maximumRecords) throws InvalidParameterException,
+                                                                                              PagingErrorException,
+                                                                                              RepositoryErrorException
+    {
+        final String methodName = "getAuditLogRecordsByTimeStamp";
+
+        return this.findLogRecords(null, null, startDate, endDate, offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Retrieve a list of log records that have specific severity.  The offset and maximumRecords
+     * parameters support a paging model.
+     *
+     * @param severity       the severity value of messages to return
+     * @param startDate      start of time period
+     * @param endDate        end of time period
+     * @param offset         offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return
+     * @return list of log records from the specified time period
+     * @throws InvalidParameterException     indicates that the severity, start and/or end date parameters are invalid.
+     * @throws PagingErrorException          indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException      indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public List<OMRSAuditLogRecord> getAuditLogRecordsBySeverity(String severity,
+                                                                 Date   startDate,
+                                                                 Date   endDate,
+                                                                 int    offset,
+                                                                 int    maximumRecords) throws InvalidParameterException,
+                                                                                               PagingErrorException,
+                                                                                               RepositoryErrorException
+    {
+        final String methodName    = "getAuditLogRecordsBySeverity";
+        final String parameterName = "severity";
+
+        if (severity == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_AUDIT_LOG_QUERY_PARAMETER.getMessageDefinition(parameterName,
+                                                                                                              methodName,
+                                                                                                              super.getDestinationName()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+
+        return this.findLogRecords(severity, null, startDate, endDate, offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Retrieve a list of log records written by a specific component.  The offset and maximumRecords
+     * parameters support a paging model.
+     *
+     * @param component  name of the component to retrieve events from
+     * @param startDate  start of time period
+     * @param endDate  end of time period
+     * @param offset  offset of full collection to begin the return results
+     * @param maximumRecords  maximum number of log records to return
+     * @return list of log records from the specified time period
+     * @throws InvalidParameterException indicates that the component, start and/or end date parameters are invalid.
+     * @throws PagingErrorException indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public List<OMRSAuditLogRecord> getAuditLogRecordsByComponent(String component,
+                                                                  Date   startDate,
+                                                                  Date   endDate,
+                                                                  int    offset,
+                                                                  int    maximumRecords) throws InvalidParameterException,
+                                                                                                PagingErrorException,
+                                                                                                RepositoryErrorException
+    {
+        final String methodName    = "getAuditLogRecordsByComponent";
+        final String parameterName = "component";
+
+        if (component == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_AUDIT_LOG_QUERY_PARAMETER.getMessageDefinition(parameterName,
+                                                                                                              methodName,
+                                                                                                              super.getDestinationName()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+
+        return this.findLogRecords(null, component, startDate, endDate, offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Stream through the segments in the order the log records were written, reading only the index blocks that
+     * could hold matching log records, until the requested page of results is complete.
+     *
+     * @param severity severity of the log records to return, or null for any severity
+     * @param component name of the component that wrote the log records, or null for any component
+     * @param startDate start of time period, or null for no lower limit
+     * @param endDate end of time period, or null for no upper limit
+     * @param offset number of matching log records to skip
+     * @param maximumRecords maximum number of log records to return (0 means no limit)
+     * @param methodName calling method
+     * @return list of log records or null if there are none
+     * @throws InvalidParameterException the time period is invalid
+     * @throws PagingErrorException the offset or maximumRecords is invalid
+     * @throws RepositoryErrorException the segment files can not be read
+     */
+    private List<OMRSAuditLogRecord> findLogRecords(String severity,
+                                                    String component,
+                                                    Date   startDate,
+                                                    Date   endDate,
+                                                    int    offset,
+                                                    int    maximumRecords,
+                                                    String methodName) throws InvalidParameterException,
+                                                                              PagingErrorException,
+                                                                              RepositoryErrorException
+    {
+        this.validatePaging(offset, "offset", methodName);
+        this.validatePaging(maximumRecords, "maximumRecords", methodName);
+
+        long startTime = Long.MIN_VALUE;
+        long endTime   = Long.MAX_VALUE;
+
+        if (startDate != null)
+        {
+            startTime = startDate.getTime();
+        }
+
+        if (endDate != null)
+        {
+            endTime = endDate.getTime();
+        }
+
+        if (startTime > endTime)
+        {
+            final String parameterName = "startDate";
+
+            throw new InvalidParameterException(OMRSErrorCode.INVALID_AUDIT_LOG_TIME_PERIOD.getMessageDefinition(startDate.toString(),
+                                                                                                             endDate.toString(),
+                                                                                                             methodName,
+                                                                                                             super.getDestinationName()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+
+        List<OMRSAuditLogRecord> results      = new ArrayList<>();
+        int                      skippedCount = 0;
+
+        try
+        {
+            for (AuditLogSegment segment : segments)
+            {
+                for (long[] blockRange : segment.getMatchingBlocks(startTime, endTime, severity))
+                {
+                    for (String jsonLogRecord : segment.readLogRecords(blockRange))
+                    {
+                        AuditLogRecord logRecord = this.parseLogRecord(jsonLogRecord);
+
+                        if ((logRecord != null) && (this.matchesQuery(logRecord, severity, component, startTime, endTime)))
+                        {
+                            if (skippedCount < offset)
+                            {
+                                skippedCount++;
+                            }
+                            else
+                            {
+                                results.add(new OMRSAuditLogRecord(logRecord));
+
+                                if ((maximumRecords > 0) && (results.size() >= maximumRecords))
+                                {
+                                    return results;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            this.throwStoreNotAvailable(ioException, methodName);
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Does the log record match the query?
+     *
+     * @param logRecord log record read from a segment
+     * @param severity severity of the log records to return, or null for any severity
+     * @param component name of the component that wrote the log records, or null for any component
+     * @param startTime start of time period
+     * @param endTime end of time period
+     * @return boolean result
+     */
+    private boolean matchesQuery(AuditLogRecord logRecord,
+                                 String         severity,
+                                 String         component,
+                                 long           startTime,
+                                 long           endTime)
+    {
+        if (logRecord.getTimeStamp() == null)
+        {
+            return false;
+        }
+
+        long timestamp = logRecord.getTimeStamp().getTime();
+
+        if ((timestamp < startTime) || (timestamp > endTime))
+        {
+            return false;
+        }
+
+        if ((severity != null) && (! severity.equals(logRecord.getSeverity())))
+        {
+            return false;
+        }
+
+        if (component != null)
+        {
+            return (logRecord.getOriginatorComponent() != null) &&
+                   (component.equals(logRecord.getOriginatorComponent().getComponentName()));
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Convert a line from a segment file back into a log record.
+     *
+     * @param jsonLogRecord JSON log record
+     * @return log record or null if the line can not be parsed
+     */
+    private AuditLogRecord parseLogRecord(String jsonLogRecord)
+    {
+        try
+        {
+            return OBJECT_READER.readValue(jsonLogRecord);
+        }
+        catch (IOException error)
+        {
+            log.debug("Skipping unreadable audit log record: " + error.getMessage());
+
+            return null;
+        }
+    }
+
+
+    /**
+     * Validate a paging parameter.
+     *
+     * @param parameterValue value supplied by the caller
+     * @param parameterName name of the parameter
+     * @param methodName calling method
+     * @throws PagingErrorException the value is negative
+     */
+    private void validatePaging(int    parameterValue,
+                                String parameterName,
+                                String methodName) throws PagingErrorException
+    {
+        if (parameterValue < 0)
+        {
+            throw new PagingErrorException(OMRSErrorCode.NEGATIVE_AUDIT_LOG_PAGING_PARAMETER.getMessageDefinition(Integer.toString(parameterValue),
+                                                                                                              parameterName,
+                                                                                                              methodName,
+                                                                                                              super.getDestinationName()),
+                                           this.getClass().getName(),
+                                           methodName);
+        }
+    }
+
+
+    /**
+     * Throw an exception to report that the segment files could not be read.
+     *
+     * @param ioException exception from the file system
+     * @param methodName calling method
+     * @throws RepositoryErrorException the exception
+     */
+    private void throwStoreNotAvailable(IOException ioException,
+                                        String      methodName) throws RepositoryErrorException
+    {
+        throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(super.getDestinationName(),
+                                                                                                         ioException.getMessage()),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           ioException);
+    }
+
+
+    /**
+     * Write any queued log records, seal the newest segment and free up any resources held since the connector
+     * is no longer needed.
+     *
+     * @throws ConnectorCheckedException the connector detected a problem.
+     */
+    @Override
+    public  void disconnect() throws ConnectorCheckedException
+    {
+        writerLock.lock();
+
+        try
+        {
+            this.writePendingEntries();
+
+            if (activeSegment != null)
+            {
+                activeSegment.seal();
+                activeSegment = null;
+            }
+        }
+        catch (IOException ioException)
+        {
+            log.error("Unable to seal the audit log segment", ioException);
+        }
+        finally
+        {
+            writerLock.unlock();
+        }
+
+        super.disconnect();
+    }
+}
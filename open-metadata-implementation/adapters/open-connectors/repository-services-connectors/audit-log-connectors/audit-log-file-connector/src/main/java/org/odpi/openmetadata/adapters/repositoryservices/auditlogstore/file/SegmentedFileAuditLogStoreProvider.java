@@ -0,0 +1,26 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.adapters.connectors.EgeriaOpenConnectorDefinition;
+import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file.controls.SegmentedFileAuditLogConfigurationProperty;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
+
+/**
+ * SegmentedFileAuditLogStoreProvider is the OCF connector provider for the segmented file audit log store.
+ */
+public class SegmentedFileAuditLogStoreProvider extends OMRSAuditLogStoreProviderBase
+{
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * audit log store implementation.
+     */
+    public SegmentedFileAuditLogStoreProvider()
+    {
+        super(EgeriaOpenConnectorDefinition.SEGMENTED_FILE_AUDIT_LOG_DESTINATION_CONNECTOR,
+              SegmentedFileAuditLogStoreConnector.class.getName(),
+              SegmentedFileAuditLogConfigurationProperty.getRecognizedConfigurationProperties());
+
+        super.supportedConfigurationProperties = SegmentedFileAuditLogConfigurationProperty.getConfigurationPropertyTypes();
+    }
+}
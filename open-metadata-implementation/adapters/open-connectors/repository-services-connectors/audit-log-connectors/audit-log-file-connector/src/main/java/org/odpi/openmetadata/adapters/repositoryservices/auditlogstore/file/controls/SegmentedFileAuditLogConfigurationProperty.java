@@ -0,0 +1,202 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file.controls;
+
+
+import org.odpi.openmetadata.frameworks.openmetadata.specificationproperties.ConfigurationPropertyType;
+import org.odpi.openmetadata.frameworks.openmetadata.types.DataType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SegmentedFileAuditLogConfigurationProperty provides definitions for the configuration properties used to
+ * control how the segmented file audit log destination writes, indexes and retains its segment files.
+ */
+public enum SegmentedFileAuditLogConfigurationProperty
+{
+    /**
+     * Provide a list of supported severities that should be logged to this destination. An empty list means all severities.
+     */
+    SUPPORTED_SEVERITIES("supportedSeverities",
+                         "Provide a list of supported severities that should be logged to this destination. An empty list means all severities.",
+                         DataType.ARRAY_STRING.getDisplayName(),
+                         "[\"Error\", \"Exception\", \"Activity\", \"Action\", \"Decision\"]"),
+
+    /**
+     * Size in bytes that a segment file may reach before a new segment is started.
+     */
+    MAX_SEGMENT_SIZE("maxSegmentSize",
+                     "Size in bytes that a segment file may reach before a new segment is started.  The default is 64MB.",
+                     DataType.LONG.getDisplayName(),
+                     "67108864"),
+
+    /**
+     * Maximum number of segment files to keep.  The oldest segments are deleted when a new segment is started.
+     */
+    MAX_SEGMENT_COUNT("maxSegmentCount",
+                      "Maximum number of segment files to keep.  The oldest segments are deleted when a new segment is started.  Zero (the default) means no limit.",
+                      DataType.INT.getDisplayName(),
+                      "100"),
+
+    /**
+     * Number of hours to keep a segment after its last log record was written.
+     */
+    RETENTION_HOURS("retentionHours",
+                    "Number of hours to keep a segment after its last log record was written.  The segment being written to is started again once its oldest log record is this old.  Zero (the default) means the segments are kept whatever their age.",
+                    DataType.INT.getDisplayName(),
+                    "168"),
+
+    /**
+     * Number of log records covered by each entry in a segment's index.
+     */
+    INDEX_INTERVAL("indexInterval",
+                   "Number of log records covered by each entry in a segment's time and severity index.  The default is 256.",
+                   DataType.INT.getDisplayName(),
+                   "256"),
+
+    /**
+     * Should each batch of log records be forced to the storage device before the writers return?
+     */
+    SYNC_WRITES("syncWrites",
+                "Should each batch of log records be forced to the storage device before the writers return?  The default is false.",
+                DataType.BOOLEAN.getDisplayName(),
+                "true"),
+
+    ;
+
+    public final String           name;
+    public final String           description;
+    public final String           dataType;
+    public final String           example;
+
+
+    /**
+     * Create a specific Enum constant.
+     *
+     * @param name name of the request parameter
+     * @param description description of the request parameter
+     * @param dataType type of value of the request parameter
+     * @param example example of the request parameter
+     */
+    SegmentedFileAuditLogConfigurationProperty(String name,
+                                               String description,
+                                               String dataType,
+                                               String example)
+    {
+        this.name        = name;
+        this.description = description;
+        this.dataType    = dataType;
+        this.example     = example;
+    }
+
+
+    /**
+     * Return the name of the request parameter.
+     *
+     * @return string name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the description of the request parameter.
+     *
+     * @return text
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the data type for the request parameter.
+     *
+     * @return data type name
+     */
+    public String getDataType()
+    {
+        return dataType;
+    }
+
+
+    /**
+     * Return an example of the request parameter to help users understand how to set it up.
+     *
+     * @return example
+     */
+    public String getExample()
+    {
+        return example;
+    }
+
+
+    /**
+     * Get recognizedConfigurationProperties for the connector.
+     *
+     * @return list of property names
+     */
+    public static List<String> getRecognizedConfigurationProperties()
+    {
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+
+        for (SegmentedFileAuditLogConfigurationProperty configurationProperty : SegmentedFileAuditLogConfigurationProperty.values())
+        {
+            recognizedConfigurationProperties.add(configurationProperty.getName());
+        }
+        return recognizedConfigurationProperties;
+    }
+
+
+    /**
+     * Retrieve all the defined configuration properties
+     *
+     * @return list
+     */
+    public static List<ConfigurationPropertyType> getConfigurationPropertyTypes()
+    {
+        List<ConfigurationPropertyType> configurationPropertyTypes = new ArrayList<>();
+
+        for (SegmentedFileAuditLogConfigurationProperty configurationProperty : SegmentedFileAuditLogConfigurationProperty.values())
+        {
+            configurationPropertyTypes.add(configurationProperty.getConfigurationPropertyType());
+        }
+
+        return configurationPropertyTypes;
+    }
+
+
+    /**
+     * Return a summary of this enum to use in a service provider.
+     *
+     * @return request parameter type
+     */
+    public ConfigurationPropertyType getConfigurationPropertyType()
+    {
+        ConfigurationPropertyType requestParameterType = new ConfigurationPropertyType();
+
+        requestParameterType.setName(name);
+        requestParameterType.setDescription(description);
+        requestParameterType.setDataType(dataType);
+        requestParameterType.setExample(example);
+
+        return requestParameterType;
+    }
+
+
+    /**
+     * Output of this enum class and main value.
+     *
+     * @return string showing enum value
+     */
+    @Override
+    public String toString()
+    {
+        return "SegmentedFileAuditLogConfigurationProperty{ name=" + name + "}";
+    }
+}
@@ -0,0 +1,7 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+/**
+ * Provides the control objects (configuration properties) used to configure the Segmented File Audit Log Connector.
+ */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file.controls;
@@ -0,0 +1,607 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file.controls.SegmentedFileAuditLogConfigurationProperty;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.frameworks.openmetadata.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tests for {@link SegmentedFileAuditLogStoreConnector}
+ */
+public class SegmentedFileAuditLogStoreConnectorTest
+{
+    private static final long   baseTime            = 1700000000000L;
+    private static final long   millisecondsPerHour = 60L * 60L * 1000L;
+    private static final long   millisecondsPerDay  = 24L * millisecondsPerHour;
+    private static final String informationSeverity = "Information";
+    private static final String errorSeverity       = "Error";
+
+    private File logStoreDirectory = null;
+
+
+    /**
+     * Create an empty directory for the segment files.
+     *
+     * @throws Exception unable to create the directory
+     */
+    @BeforeMethod
+    public void createLogStoreDirectory() throws Exception
+    {
+        logStoreDirectory = Files.createTempDirectory("SegmentedFileAuditLogStoreConnectorTest").toFile();
+    }
+
+
+    /**
+     * Remove the segment files.
+     *
+     * @throws Exception unable to remove the directory
+     */
+    @AfterMethod
+    public void deleteLogStoreDirectory() throws Exception
+    {
+        FileUtils.deleteDirectory(logStoreDirectory);
+    }
+
+
+    /**
+     * Create and start a connector that writes to the test directory.
+     *
+     * @param configurationProperties configuration properties for the connector
+     * @return started connector
+     * @throws Exception unable to start the connector
+     */
+    private SegmentedFileAuditLogStoreConnector getConnector(Map<String, Object> configurationProperties) throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setNetworkAddress(logStoreDirectory.getAbsolutePath());
+
+        Connection connection = new Connection();
+
+        connection.setDisplayName("SegmentedFileAuditLogStoreConnectorTest");
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        SegmentedFileAuditLogStoreConnector connector = new SegmentedFileAuditLogStoreConnector();
+
+        connector.initialize(UUID.randomUUID().toString(), connection);
+        connector.start();
+
+        return connector;
+    }
+
+
+    /**
+     * Return configuration properties for a connector.
+     *
+     * @param maxSegmentSize size in bytes that a segment may reach before a new segment is started
+     * @param maxSegmentCount maximum number of segments to keep (0 for no limit)
+     * @param retentionHours number of hours to keep a segment (0 for no limit)
+     * @param indexInterval number of log records in each index block
+     * @return configuration properties
+     */
+    private Map<String, Object> getConfigurationProperties(long maxSegmentSize,
+                                                           int  maxSegmentCount,
+                                                           int  retentionHours,
+                                                           int  indexInterval)
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogConfigurationProperty.MAX_SEGMENT_SIZE.getName(), Long.toString(maxSegmentSize));
+        configurationProperties.put(SegmentedFileAuditLogConfigurationProperty.MAX_SEGMENT_COUNT.getName(), Integer.toString(maxSegmentCount));
+        configurationProperties.put(SegmentedFileAuditLogConfigurationProperty.RETENTION_HOURS.getName(), Integer.toString(retentionHours));
+        configurationProperties.put(SegmentedFileAuditLogConfigurationProperty.INDEX_INTERVAL.getName(), Integer.toString(indexInterval));
+
+        return configurationProperties;
+    }
+
+
+    /**
+     * Return a log record.
+     *
+     * @param recordNumber number of the log record - used in its message and its timestamp
+     * @param timestamp time that the log record was created
+     * @param severity severity of the log record
+     * @return log record
+     */
+    private AuditLogRecord getLogRecord(int    recordNumber,
+                                        long   timestamp,
+                                        String severity)
+    {
+        AuditLogRecord             logRecord          = new AuditLogRecord();
+        AuditLogReportingComponent reportingComponent = new AuditLogReportingComponent();
+
+        reportingComponent.setComponentName("component" + (recordNumber % 2));
+
+        logRecord.setGUID(UUID.randomUUID().toString());
+        logRecord.setTimeStamp(new Date(timestamp));
+        logRecord.setOriginatorProperties(new HashMap<>());
+        logRecord.setOriginatorComponent(reportingComponent);
+        logRecord.setSeverity(severity);
+        logRecord.setMessageId("TEST-" + recordNumber);
+        logRecord.setMessageText("Test log record " + recordNumber);
+
+        return logRecord;
+    }
+
+
+    /**
+     * Store a series of log records, one second apart, starting from the base time.
+     *
+     * @param connector connector to store them in
+     * @param firstRecordNumber number of the first log record
+     * @param recordCount number of log records to store
+     * @return unique identifiers of the log records
+     * @throws Exception unable to store the log records
+     */
+    private List<String> storeLogRecords(SegmentedFileAuditLogStoreConnector connector,
+                                         int                                 firstRecordNumber,
+                                         int                                 recordCount) throws Exception
+    {
+        List<String> logRecordGUIDs = new ArrayList<>();
+
+        for (int recordNumber = firstRecordNumber; recordNumber < firstRecordNumber + recordCount; recordNumber++)
+        {
+            String severity = informationSeverity;
+
+            if (recordNumber % 10 == 0)
+            {
+                severity = errorSeverity;
+            }
+
+            logRecordGUIDs.add(connector.storeLogRecord(this.getLogRecord(recordNumber, baseTime + recordNumber * 1000L, severity)));
+        }
+
+        return logRecordGUIDs;
+    }
+
+
+    /**
+     * Return the names of the segment files in the test directory.
+     *
+     * @return sorted list of file names
+     */
+    private List<String> getSegmentFileNames()
+    {
+        List<String> segmentFileNames = new ArrayList<>();
+        String[]     fileNames        = logStoreDirectory.list();
+
+        if (fileNames != null)
+        {
+            for (String fileName : fileNames)
+            {
+                if (AuditLogSegment.getSequenceNumber(fileName) >= 0)
+                {
+                    segmentFileNames.add(fileName);
+                }
+            }
+        }
+
+        segmentFileNames.sort(null);
+
+        return segmentFileNames;
+    }
+
+
+    /**
+     * Return the file that holds a segment.
+     *
+     * @param sequenceNumber position of the segment in the log
+     * @param fileExtension extension for the segment file or its index
+     * @return file
+     */
+    private File getSegmentFile(long   sequenceNumber,
+                                String fileExtension)
+    {
+        return new File(logStoreDirectory, AuditLogSegment.segmentFilePrefix + String.format("%020d", sequenceNumber) + fileExtension);
+    }
+
+
+    /**
+     * Return the message identifiers of a list of log records.
+     *
+     * @param logRecords log records returned by a query
+     * @return list of message identifiers
+     */
+    private List<String> getMessageIds(List<OMRSAuditLogRecord> logRecords)
+    {
+        List<String> messageIds = new ArrayList<>();
+
+        if (logRecords != null)
+        {
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                messageIds.add(logRecord.getMessageId());
+            }
+        }
+
+        return messageIds;
+    }
+
+
+    /**
+     * Return the message identifiers for a range of log records.
+     *
+     * @param firstRecordNumber number of the first log record
+     * @param lastRecordNumber number of the last log record
+     * @param step gap between the numbers of the log records
+     * @return list of message identifiers
+     */
+    private List<String> getExpectedMessageIds(int firstRecordNumber,
+                                               int lastRecordNumber,
+                                               int step)
+    {
+        List<String> messageIds = new ArrayList<>();
+
+        for (int recordNumber = firstRecordNumber; recordNumber <= lastRecordNumber; recordNumber = recordNumber + step)
+        {
+            messageIds.add("TEST-" + recordNumber);
+        }
+
+        return messageIds;
+    }
+
+
+    @Test
+    public void testSegmentRoll() throws Exception
+    {
+        SegmentedFileAuditLogStoreConnector connector = this.getConnector(this.getConfigurationProperties(2000L, 0, 0, 4));
+
+        try
+        {
+            List<String> logRecordGUIDs = this.storeLogRecords(connector, 0, 100);
+
+            /*
+             * Each log record is a few hundred bytes so the log records are spread over many segments.
+             */
+            Assert.assertTrue(this.getSegmentFileNames().size() > 5, "Segments: " + this.getSegmentFileNames());
+            Assert.assertTrue(this.getSegmentFile(0L, AuditLogSegment.indexFileExtension).exists());
+
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)),
+                                this.getExpectedMessageIds(0, 99, 1));
+            Assert.assertEquals(connector.getAuditLogRecord(logRecordGUIDs.get(0)).getMessageId(), "TEST-0");
+            Assert.assertEquals(connector.getAuditLogRecord(logRecordGUIDs.get(99)).getMessageId(), "TEST-99");
+            Assert.assertNull(connector.getAuditLogRecord(UUID.randomUUID().toString()));
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testFailedRollDoesNotFailWrite() throws Exception
+    {
+        SegmentedFileAuditLogStoreConnector connector = this.getConnector(this.getConfigurationProperties(2000L, 0, 0, 4));
+
+        try
+        {
+            /*
+             * A directory with the name of the next segment file stops the next segment being created.
+             */
+            File blocker = this.getSegmentFile(1L, AuditLogSegment.segmentFileExtension);
+
+            Assert.assertTrue(blocker.mkdir());
+
+            this.storeLogRecords(connector, 0, 20);
+
+            Assert.assertFalse(this.getSegmentFile(2L, AuditLogSegment.segmentFileExtension).exists());
+            Assert.assertTrue(this.getSegmentFile(0L, AuditLogSegment.segmentFileExtension).length() > 2000L);
+
+            /*
+             * Once the problem is fixed, the roll succeeds after the next write.
+             */
+            Assert.assertTrue(blocker.delete());
+
+            this.storeLogRecords(connector, 20, 1);
+
+            Assert.assertTrue(this.getSegmentFile(1L, AuditLogSegment.segmentFileExtension).isFile());
+            Assert.assertTrue(this.getSegmentFile(0L, AuditLogSegment.indexFileExtension).exists());
+
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)),
+                                this.getExpectedMessageIds(0, 20, 1));
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testMaxSegmentCount() throws Exception
+    {
+        SegmentedFileAuditLogStoreConnector connector = this.getConnector(this.getConfigurationProperties(2000L, 3, 0, 4));
+
+        try
+        {
+            List<String> logRecordGUIDs = this.storeLogRecords(connector, 0, 100);
+
+            Assert.assertEquals(this.getSegmentFileNames().size(), 3);
+            Assert.assertFalse(this.getSegmentFile(0L, AuditLogSegment.segmentFileExtension).exists());
+            Assert.assertFalse(this.getSegmentFile(0L, AuditLogSegment.indexFileExtension).exists());
+
+            /*
+             * Only the newest log records are retained.
+             */
+            List<String> retainedMessageIds = this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0));
+
+            Assert.assertFalse(retainedMessageIds.isEmpty());
+            Assert.assertEquals(retainedMessageIds, this.getExpectedMessageIds(100 - retainedMessageIds.size(), 99, 1));
+            Assert.assertNull(connector.getAuditLogRecord(logRecordGUIDs.get(0)));
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testRetentionPeriod() throws Exception
+    {
+        SegmentedFileAuditLogStoreConnector connector = this.getConnector(this.getConfigurationProperties(2000L, 0, 1, 4));
+
+        try
+        {
+            long now = System.currentTimeMillis();
+
+            /*
+             * The old log records fill several segments.  They are deleted as soon as a new segment is started.
+             */
+            for (int recordNumber = 0; recordNumber < 20; recordNumber++)
+            {
+                connector.storeLogRecord(this.getLogRecord(recordNumber, now - millisecondsPerDay, informationSeverity));
+            }
+
+            for (int recordNumber = 20; recordNumber < 40; recordNumber++)
+            {
+                connector.storeLogRecord(this.getLogRecord(recordNumber, now, informationSeverity));
+            }
+
+            List<String> retainedMessageIds = this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0));
+
+            Assert.assertFalse(this.getSegmentFile(0L, AuditLogSegment.segmentFileExtension).exists());
+            Assert.assertFalse(retainedMessageIds.contains("TEST-0"));
+            Assert.assertTrue(retainedMessageIds.containsAll(this.getExpectedMessageIds(20, 39, 1)));
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testIndexRebuild() throws Exception
+    {
+        Map<String, Object> configurationProperties = this.getConfigurationProperties(4000L, 0, 0, 4);
+
+        SegmentedFileAuditLogStoreConnector connector = this.getConnector(configurationProperties);
+
+        this.storeLogRecords(connector, 0, 50);
+        connector.disconnect();
+
+        List<String> segmentFileNames = this.getSegmentFileNames();
+        File         newestSegment    = new File(logStoreDirectory, segmentFileNames.get(segmentFileNames.size() - 1));
+        long         newestLength     = newestSegment.length();
+
+        /*
+         * One segment loses its index and the next run of the connector stops without disconnecting, so its
+         * last segment is not sealed.
+         */
+        Assert.assertTrue(this.getSegmentFile(1L, AuditLogSegment.indexFileExtension).delete());
+
+        connector = this.getConnector(configurationProperties);
+        this.storeLogRecords(connector, 50, 5);
+
+        /*
+         * The newest segment was not full, so the new log records are added to it.
+         */
+        Assert.assertTrue(newestSegment.length() > newestLength);
+
+        segmentFileNames = this.getSegmentFileNames();
+
+        long lastSegment = AuditLogSegment.getSequenceNumber(segmentFileNames.get(segmentFileNames.size() - 1));
+
+        /*
+         * A partly written log record at the end of the unsealed segment is ignored.
+         */
+        Files.write(this.getSegmentFile(lastSegment, AuditLogSegment.segmentFileExtension).toPath(),
+                    "{\"guid\":\"partial".getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+
+        SegmentedFileAuditLogStoreConnector restartedConnector = this.getConnector(configurationProperties);
+
+        try
+        {
+            Assert.assertTrue(this.getSegmentFile(1L, AuditLogSegment.indexFileExtension).exists());
+            Assert.assertTrue(this.getSegmentFile(lastSegment, AuditLogSegment.indexFileExtension).exists());
+
+            Assert.assertEquals(this.getMessageIds(restartedConnector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)),
+                                this.getExpectedMessageIds(0, 54, 1));
+            Assert.assertEquals(this.getMessageIds(restartedConnector.getAuditLogRecordsBySeverity(errorSeverity, null, null, 0, 0)),
+                                this.getExpectedMessageIds(0, 50, 10));
+
+            /*
+             * New log records follow the ones written before the restart.
+             */
+            this.storeLogRecords(restartedConnector, 55, 1);
+
+            Assert.assertEquals(this.getMessageIds(restartedConnector.getAuditLogRecordsByTimeStamp(new Date(baseTime + 54000L), null, 0, 0)),
+                                List.of("TEST-54", "TEST-55"));
+        }
+        finally
+        {
+            restartedConnector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testNewestSegmentReused() throws Exception
+    {
+        Map<String, Object> configurationProperties = this.getConfigurationProperties(100000L, 0, 0, 4);
+
+        SegmentedFileAuditLogStoreConnector connector = this.getConnector(configurationProperties);
+
+        this.storeLogRecords(connector, 0, 5);
+        connector.disconnect();
+
+        /*
+         * A restart without any new log records does not leave an empty segment behind.
+         */
+        connector = this.getConnector(configurationProperties);
+        connector.disconnect();
+
+        connector = this.getConnector(configurationProperties);
+
+        try
+        {
+            this.storeLogRecords(connector, 5, 5);
+
+            Assert.assertEquals(this.getSegmentFileNames(), List.of(this.getSegmentFile(0L, AuditLogSegment.segmentFileExtension).getName()));
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)),
+                                this.getExpectedMessageIds(0, 9, 1));
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+
+        /*
+         * A full segment is not reused.
+         */
+        connector = this.getConnector(this.getConfigurationProperties(1000L, 0, 0, 4));
+
+        try
+        {
+            this.storeLogRecords(connector, 10, 1);
+
+            Assert.assertTrue(this.getSegmentFile(1L, AuditLogSegment.segmentFileExtension).exists());
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)),
+                                this.getExpectedMessageIds(0, 10, 1));
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testRetentionPeriodOnQuietServer() throws Exception
+    {
+        long now = System.currentTimeMillis();
+
+        /*
+         * The segment is far from full, so it is only sealed because its log records pass the retention period.
+         */
+        SegmentedFileAuditLogStoreConnector connector = this.getConnector(this.getConfigurationProperties(100000L, 0, 1, 4));
+
+        try
+        {
+            connector.storeLogRecord(this.getLogRecord(0, now - 2 * millisecondsPerHour, informationSeverity));
+            connector.storeLogRecord(this.getLogRecord(1, now, informationSeverity));
+
+            Assert.assertFalse(this.getSegmentFile(0L, AuditLogSegment.segmentFileExtension).exists());
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), List.of("TEST-1"));
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+
+        /*
+         * A segment that passed the retention period while the server was stopped is deleted when it restarts.
+         */
+        FileUtils.cleanDirectory(logStoreDirectory);
+
+        connector = this.getConnector(this.getConfigurationProperties(100000L, 0, 0, 4));
+        connector.storeLogRecord(this.getLogRecord(2, now - 2 * millisecondsPerHour, informationSeverity));
+        connector.disconnect();
+
+        List<String> expiredSegmentFileNames = this.getSegmentFileNames();
+
+        connector = this.getConnector(this.getConfigurationProperties(100000L, 0, 1, 4));
+
+        try
+        {
+            Assert.assertTrue(this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)).isEmpty());
+
+            for (String segmentFileName : expiredSegmentFileNames)
+            {
+                Assert.assertFalse(new File(logStoreDirectory, segmentFileName).exists(), segmentFileName);
+            }
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testTimeRangeQueries() throws Exception
+    {
+        SegmentedFileAuditLogStoreConnector connector = this.getConnector(this.getConfigurationProperties(3000L, 0, 0, 4));
+
+        try
+        {
+            this.storeLogRecords(connector, 0, 100);
+
+            Date startDate = new Date(baseTime + 25000L);
+            Date endDate   = new Date(baseTime + 64000L);
+
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(startDate, endDate, 0, 0)),
+                                this.getExpectedMessageIds(25, 64, 1));
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(startDate, endDate, 10, 5)),
+                                this.getExpectedMessageIds(35, 39, 1));
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsByTimeStamp(startDate, startDate, 0, 0)),
+                                List.of("TEST-25"));
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsBySeverity(errorSeverity, startDate, endDate, 0, 0)),
+                                this.getExpectedMessageIds(30, 60, 10));
+            Assert.assertEquals(this.getMessageIds(connector.getAuditLogRecordsByComponent("component1", startDate, endDate, 0, 3)),
+                                this.getExpectedMessageIds(25, 29, 2));
+
+            Assert.assertNull(connector.getAuditLogRecordsByTimeStamp(new Date(baseTime + 200000L), null, 0, 0));
+            Assert.assertNull(connector.getAuditLogRecordsByTimeStamp(startDate, endDate, 40, 0));
+
+            try
+            {
+                connector.getAuditLogRecordsByTimeStamp(endDate, startDate, 0, 0);
+                Assert.fail("Expected an exception for an invalid time period");
+            }
+            catch (InvalidParameterException expected)
+            {
+                // The end of the time period is before the start.
+            }
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+}
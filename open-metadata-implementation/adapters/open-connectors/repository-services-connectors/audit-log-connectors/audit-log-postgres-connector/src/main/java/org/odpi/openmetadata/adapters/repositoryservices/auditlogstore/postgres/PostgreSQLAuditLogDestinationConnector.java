@@ -6,6 +6,8 @@ import org.odpi.openmetadata.adapters.connectors.resource.jdbc.JDBCResourceConne
 import org.odpi.openmetadata.adapters.connectors.resource.jdbc.controls.JDBCConfigurationProperty;
 import org.odpi.openmetadata.adapters.connectors.resource.jdbc.ddl.postgres.PostgreSQLSchemaDDL;
 import org.odpi.openmetadata.adapters.connectors.resource.jdbc.properties.JDBCDataValue;
+import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.postgres.controls.PostgreSQLAuditLogConfigurationProperty;
+import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.postgres.controls.PostgreSQLAuditLogOverflowPolicy;
 import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.postgres.ffdc.PostgreSQLAuditLogErrorCode;
 import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.postgres.schema.AuditLogColumn;
 import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.postgres.schema.AuditLogTable;
@@ -46,8 +48,28 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
     private static final String USER_REQUEST_ACTIVITY            = OpenMetadataObservabilityAuditCode.USER_REQUEST_ACTIVITY.getMessageDefinition().getMessageId();
 
 
-     private String                connectorName      = null;
-     private JDBCResourceConnector databaseClient     = null;
+    private static final String defaultSpillFileName = "omag.server.auditlog.spill.jsonl";
+    private static final int    defaultQueueCapacity = 10000;
+    private static final int    defaultBatchSize     = 500;
+    private static final int    defaultFlushInterval = 1000;
+
+    private static final int databaseValidationTimeout = 5;
+
+    /*
+     * The reference tables are filled before the tables whose rows refer to them.
+     */
+    private static final AuditLogTable[] insertOrder = new AuditLogTable[]{
+            AuditLogTable.EGERIA_COMPONENTS,
+            AuditLogTable.OMAG_SERVERS,
+            AuditLogTable.API_CALLS,
+            AuditLogTable.ASSET_ACTIVITY,
+            AuditLogTable.AUDIT_EVENTS,
+            AuditLogTable.EGERIA_EXCEPTIONS};
+
+
+     private          String                   connectorName   = null;
+     private          JDBCResourceConnector    databaseClient  = null;
+     private volatile PostgreSQLAuditLogWriter logRecordWriter = null;
 
 
 
@@ -103,6 +125,13 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
 
                         loadDDL(databaseClient, schemaName);
 
+                        if (super.getBooleanConfigurationProperty(PostgreSQLAuditLogConfigurationProperty.ASYNCHRONOUS_WRITES.getName(),
+                                                                  connectionBean.getConfigurationProperties()))
+                        {
+                            logRecordWriter = this.getLogRecordWriter();
+                            logRecordWriter.start();
+                        }
+
                         break;
                     }
                     catch (Exception exception)
@@ -121,6 +150,64 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
     }
 
 
+    /**
+     * Create the writer for asynchronous mode from the configuration properties.
+     *
+     * @return writer (not started)
+     */
+    private PostgreSQLAuditLogWriter getLogRecordWriter()
+    {
+        Map<String, Object> configurationProperties = connectionBean.getConfigurationProperties();
+
+        int queueCapacity = super.getIntConfigurationProperty(PostgreSQLAuditLogConfigurationProperty.QUEUE_CAPACITY.getName(), configurationProperties);
+        int batchSize     = super.getIntConfigurationProperty(PostgreSQLAuditLogConfigurationProperty.BATCH_SIZE.getName(), configurationProperties);
+        int flushInterval = super.getIntConfigurationProperty(PostgreSQLAuditLogConfigurationProperty.FLUSH_INTERVAL.getName(), configurationProperties);
+
+        return new PostgreSQLAuditLogWriter(this,
+                                            connectorName,
+                                            (queueCapacity > 0) ? queueCapacity : defaultQueueCapacity,
+                                            (batchSize > 0) ? batchSize : defaultBatchSize,
+                                            (flushInterval > 0) ? flushInterval : defaultFlushInterval,
+                                            PostgreSQLAuditLogOverflowPolicy.getPolicy(super.getStringConfigurationProperty(PostgreSQLAuditLogConfigurationProperty.OVERFLOW_POLICY.getName(),
+                                                                                                                            configurationProperties)),
+                                            super.getStringConfigurationProperty(PostgreSQLAuditLogConfigurationProperty.SPILL_FILE_NAME.getName(),
+                                                                                 configurationProperties,
+                                                                                 defaultSpillFileName));
+    }
+
+
+    /**
+     * Return the number of log records discarded in asynchronous mode because the queue was full.
+     *
+     * @return count
+     */
+    public long getDroppedLogRecordCount()
+    {
+        if (logRecordWriter != null)
+        {
+            return logRecordWriter.getDroppedRecordCount();
+        }
+
+        return 0L;
+    }
+
+
+    /**
+     * Return the number of log records written to the spill file in asynchronous mode because the queue was full.
+     *
+     * @return count
+     */
+    public long getSpilledLogRecordCount()
+    {
+        if (logRecordWriter != null)
+        {
+            return logRecordWriter.getSpilledRecordCount();
+        }
+
+        return 0L;
+    }
+
+
     /**
      * Check that the tables for the repository are defined.
      *
@@ -159,7 +246,8 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
 
 
     /**
-     * Store the audit log record in the audit log store.
+     * Store the audit log record in the audit log store.  In asynchronous mode, the log record is added to the queue
+     * of the writer thread and this method returns without waiting for the database.
      *
      * @param logRecord  log record to store
      * @return unique identifier assigned to the log record
@@ -174,226 +262,340 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
 
         if (super.isSupportedSeverity(logRecord))
         {
-            /*
-             * The connection is returned to the pool when this block exits.  Because the connector runs with
-             * auto-commit disabled, the pool rolls back the transaction if the commit at the end is not reached.
-             */
-            try (java.sql.Connection databaseConnection = databaseClient.getDataSource().getConnection())
+            PostgreSQLAuditLogWriter currentWriter = logRecordWriter;
+
+            if (currentWriter != null)
             {
-                String messageParameters = "";
-                String additionalInformation = "";
+                currentWriter.addLogRecord(logRecord);
+            }
+            else
+            {
+                this.writeLogRecords(Collections.singletonList(logRecord));
+            }
+        }
+
+        return logRecord.getGUID();
+    }
+
+
+    /**
+     * Write a list of log records to the database in a single transaction.  The rows for each table are
+     * inserted as a batch.  If the rows for any table are rejected, the whole transaction is rolled back
+     * so that none of the log records are written.
+     *
+     * @param logRecords log records to write
+     * @return true if the transaction was committed; false if the database could not be used or rejected a row
+     */
+    boolean writeLogRecords(List<OMRSAuditLogRecord> logRecords)
+    {
+        final String methodName = "writeLogRecords";
+
+        Map<AuditLogTable, List<Map<String, JDBCDataValue>>> tableRows = new EnumMap<>(AuditLogTable.class);
 
-                if (logRecord.getMessageParameters() != null)
+        for (AuditLogTable auditLogTable : AuditLogTable.values())
+        {
+            tableRows.put(auditLogTable, new ArrayList<>());
+        }
+
+        for (OMRSAuditLogRecord logRecord : logRecords)
+        {
+            try
+            {
+                this.addLogRecordRows(tableRows, logRecord);
+            }
+            catch (Exception error)
+            {
+                log.error("Unable to convert log record " + logRecord.getGUID() + " for JDBC Audit Log Store: " + connectorName, error);
+            }
+        }
+
+        /*
+         * The connection is returned to the pool when this block exits.  Because the connector runs with
+         * auto-commit disabled, the pool rolls back the transaction if the commit at the end is not reached.
+         */
+        try (java.sql.Connection databaseConnection = databaseClient.getDataSource().getConnection())
+        {
+            for (AuditLogTable auditLogTable : insertOrder)
+            {
+                try
                 {
-                    messageParameters = Arrays.toString(logRecord.getMessageParameters());
+                    databaseClient.insertRowsIntoTable(databaseConnection, auditLogTable.getTableName(), tableRows.get(auditLogTable));
                 }
-                if (logRecord.getAdditionalInformation() != null)
+                catch (Exception error)
                 {
-                    additionalInformation = logRecord.getAdditionalInformation().toString();
+                    /*
+                     * The rows already inserted for the earlier tables have been rolled back too.
+                     */
+                    log.error(methodName + ": unable to insert " + logRecords.size() + " log records into " +
+                                      auditLogTable.getTableName() + " for JDBC Audit Log Store: " + connectorName, error);
+
+                    return false;
                 }
+            }
 
-                syncEgeriaComponent(databaseConnection, logRecord.getOriginatorComponent());
+            databaseConnection.commit();
 
-                syncOMAGServer(databaseConnection,
-                               logRecord.getOriginatorProperties().get("serverName"),
-                               logRecord.getOriginatorProperties().get("serverType"),
-                               logRecord.getOriginatorProperties().get("organizationName"),
-                               logRecord.getOriginatorProperties().get("metadataCollectionId"));
+            return true;
+        }
+        catch (Exception error)
+        {
+            log.error("Unusable JDBC Audit Log Store: " + connectorName, error);
 
-                if (logRecord.getSeverityCode() == AuditLogRecordSeverityLevel.ACTIVITY.getOrdinal())
-                {
-                    if (ASSET_ACTIVITY_CREATE.equals(logRecord.getMessageId()))
-                    {
-                        syncAssetActivity(databaseConnection,
-                                          logRecord.getThreadId(),
-                                          logRecord.getRequestId(),
-                                          logRecord.getOriginatorProperties().get("serverName"),
-                                          logRecord.getTimeStamp(),
-                                          "Asset Create",
-                                          logRecord.getMessageParameters()[2],
-                                          logRecord.getMessageParameters()[1],
-                                          logRecord.getMessageParameters()[3],
-                                          logRecord.getMessageParameters()[4],
-                                          logRecord.getMessageParameters()[0]);
-                    }
-                    else if (ASSET_ACTIVITY_READ.equals(logRecord.getMessageId()))
-                    {
-                        syncAssetActivity(databaseConnection,
-                                          logRecord.getThreadId(),
-                                          logRecord.getRequestId(),
-                                          logRecord.getOriginatorProperties().get("serverName"),
-                                          logRecord.getTimeStamp(),
-                                          "Asset Read",
-                                          logRecord.getMessageParameters()[2],
-                                          logRecord.getMessageParameters()[1],
-                                          logRecord.getMessageParameters()[3],
-                                          logRecord.getMessageParameters()[4],
-                                          logRecord.getMessageParameters()[0]);
-                    }
-                    else if (ASSET_ACTIVITY_READ_ATTACHMENT.equals(logRecord.getMessageId()))
-                    {
-                        syncAssetActivity(databaseConnection,
-                                          logRecord.getThreadId(),
-                                          logRecord.getRequestId(),
-                                          logRecord.getOriginatorProperties().get("serverName"),
-                                          logRecord.getTimeStamp(),
-                                          "Asset Read Attachment",
-                                          logRecord.getMessageParameters()[2],
-                                          logRecord.getMessageParameters()[1],
-                                          logRecord.getMessageParameters()[3],
-                                          logRecord.getMessageParameters()[4],
-                                          logRecord.getMessageParameters()[0]);
-                    }
-                    else if (ASSET_ACTIVITY_UPDATE_ATTACHMENT.equals(logRecord.getMessageId()))
-                    {
-                        syncAssetActivity(databaseConnection,
-                                          logRecord.getThreadId(),
-                                          logRecord.getRequestId(),
-                                          logRecord.getOriginatorProperties().get("serverName"),
-                                          logRecord.getTimeStamp(),
-                                          "Asset Update Attachment",
-                                          logRecord.getMessageParameters()[2],
-                                          logRecord.getMessageParameters()[1],
-                                          logRecord.getMessageParameters()[3],
-                                          logRecord.getMessageParameters()[4],
-                                          logRecord.getMessageParameters()[0]);
-                    }
-                    else if (ASSET_ACTIVITY_UPDATE_FEEDBACK.equals(logRecord.getMessageId()))
-                    {
-                        syncAssetActivity(databaseConnection,
-                                          logRecord.getThreadId(),
-                                          logRecord.getRequestId(),
-                                          logRecord.getOriginatorProperties().get("serverName"),
-                                          logRecord.getTimeStamp(),
-                                          "Asset Feedback",
-                                          logRecord.getMessageParameters()[2],
-                                          logRecord.getMessageParameters()[1],
-                                          logRecord.getMessageParameters()[3],
-                                          logRecord.getMessageParameters()[4],
-                                          logRecord.getMessageParameters()[0]);
-                    }
-                    else if (ASSET_ACTIVITY_UPDATE.equals(logRecord.getMessageId()))
-                    {
-                        syncAssetActivity(databaseConnection,
-                                          logRecord.getThreadId(),
-                                          logRecord.getRequestId(),
-                                          logRecord.getOriginatorProperties().get("serverName"),
-                                          logRecord.getTimeStamp(),
-                                          "Asset Update",
-                                          logRecord.getMessageParameters()[2],
-                                          logRecord.getMessageParameters()[1],
-                                          logRecord.getMessageParameters()[3],
-                                          logRecord.getMessageParameters()[4],
-                                          logRecord.getMessageParameters()[0]);
-                    }
-                    else if (ASSET_ACTIVITY_DELETE.equals(logRecord.getMessageId()))
-                    {
-                        syncAssetActivity(databaseConnection,
-                                          logRecord.getThreadId(),
-                                          logRecord.getRequestId(),
-                                          logRecord.getOriginatorProperties().get("serverName"),
-                                          logRecord.getTimeStamp(),
-                                          "Asset Delete",
-                                          logRecord.getMessageParameters()[2],
-                                          logRecord.getMessageParameters()[1],
-                                          logRecord.getMessageParameters()[3],
-                                          logRecord.getMessageParameters()[4],
-                                          logRecord.getMessageParameters()[0]);
-                    }
-                    else if (ASSET_ACTIVITY_SEARCH.equals(logRecord.getMessageId()))
-                    {
-                        syncAssetActivity(databaseConnection,
-                                          logRecord.getThreadId(),
-                                          logRecord.getRequestId(),
-                                          logRecord.getOriginatorProperties().get("serverName"),
-                                          logRecord.getTimeStamp(),
-                                          "Asset Search",
-                                          logRecord.getMessageParameters()[2],
-                                          logRecord.getMessageParameters()[1],
-                                          logRecord.getMessageParameters()[3],
-                                          logRecord.getMessageParameters()[4],
-                                          logRecord.getMessageParameters()[0]);
-                    }
-                    else if (ASSET_ACTIVITY_SEARCH_ATTACHMENT.equals(logRecord.getMessageId()))
-                    {
-                        syncAssetActivity(databaseConnection,
-                                          logRecord.getThreadId(),
-                                          logRecord.getRequestId(),
-                                          logRecord.getOriginatorProperties().get("serverName"),
-                                          logRecord.getTimeStamp(),
-                                          "Asset Search Attachment",
-                                          logRecord.getMessageParameters()[2],
-                                          logRecord.getMessageParameters()[1],
-                                          logRecord.getMessageParameters()[3],
-                                          logRecord.getMessageParameters()[4],
-                                          logRecord.getMessageParameters()[0]);
-                    }
-                    else if (USER_REQUEST_ACTIVITY.equals(logRecord.getMessageId()))
-                    {
-                        syncAPICall(databaseConnection,
+            return false;
+        }
+    }
+
+
+    /**
+     * Check whether the database can be reached.  This is used to tell a log record that the database rejected
+     * from one that could not be written because the database is unavailable.
+     *
+     * @return true if a valid connection can be obtained
+     */
+    boolean isDatabaseAvailable()
+    {
+        try (java.sql.Connection databaseConnection = databaseClient.getDataSource().getConnection())
+        {
+            return databaseConnection.isValid(databaseValidationTimeout);
+        }
+        catch (Exception error)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Convert an audit log record into the rows to insert into each table.
+     *
+     * @param tableRows rows waiting to be inserted into each table
+     * @param logRecord log record to convert
+     */
+    private void addLogRecordRows(Map<AuditLogTable, List<Map<String, JDBCDataValue>>> tableRows,
+                                  OMRSAuditLogRecord                                   logRecord)
+    {
+        String messageParameters = "";
+        String additionalInformation = "";
+
+        if (logRecord.getMessageParameters() != null)
+        {
+            messageParameters = Arrays.toString(logRecord.getMessageParameters());
+        }
+        if (logRecord.getAdditionalInformation() != null)
+        {
+            additionalInformation = logRecord.getAdditionalInformation().toString();
+        }
+
+        addEgeriaComponentRow(tableRows, logRecord.getOriginatorComponent());
+
+        addOMAGServerRow(tableRows,
+                         logRecord.getOriginatorProperties().get("serverName"),
+                         logRecord.getOriginatorProperties().get("serverType"),
+                         logRecord.getOriginatorProperties().get("organizationName"),
+                         logRecord.getOriginatorProperties().get("metadataCollectionId"));
+
+        if (logRecord.getSeverityCode() == AuditLogRecordSeverityLevel.ACTIVITY.getOrdinal())
+        {
+            if (ASSET_ACTIVITY_CREATE.equals(logRecord.getMessageId()))
+            {
+                addAssetActivityRow(tableRows,
                                     logRecord.getThreadId(),
                                     logRecord.getRequestId(),
+                                    logRecord.getOriginatorProperties().get("serverName"),
+                                    logRecord.getTimeStamp(),
+                                    "Asset Create",
+                                    logRecord.getMessageParameters()[2],
+                                    logRecord.getMessageParameters()[1],
                                     logRecord.getMessageParameters()[3],
-                                    logRecord.getMessageParameters()[0],
+                                    logRecord.getMessageParameters()[4],
+                                    logRecord.getMessageParameters()[0]);
+            }
+            else if (ASSET_ACTIVITY_READ.equals(logRecord.getMessageId()))
+            {
+                addAssetActivityRow(tableRows,
+                                    logRecord.getThreadId(),
+                                    logRecord.getRequestId(),
+                                    logRecord.getOriginatorProperties().get("serverName"),
+                                    logRecord.getTimeStamp(),
+                                    "Asset Read",
+                                    logRecord.getMessageParameters()[2],
                                     logRecord.getMessageParameters()[1],
+                                    logRecord.getMessageParameters()[3],
+                                    logRecord.getMessageParameters()[4],
+                                    logRecord.getMessageParameters()[0]);
+            }
+            else if (ASSET_ACTIVITY_READ_ATTACHMENT.equals(logRecord.getMessageId()))
+            {
+                addAssetActivityRow(tableRows,
+                                    logRecord.getThreadId(),
+                                    logRecord.getRequestId(),
+                                    logRecord.getOriginatorProperties().get("serverName"),
+                                    logRecord.getTimeStamp(),
+                                    "Asset Read Attachment",
                                     logRecord.getMessageParameters()[2],
-                                    logRecord.getTimeStamp());
-                    }
-                }
-                else
-                {
-                    syncAuditEvent(databaseConnection,
-                                   logRecord.getTimeStamp(),
-                                   logRecord.getOriginatorProperties().get("serverName"),
-                                   logRecord.getActionDescription(),
-                                   Integer.toString(logRecord.getSeverityCode()),
-                                   logRecord.getSeverity(),
-                                   logRecord.getMessageId(),
-                                   logRecord.getMessageText(),
-                                   messageParameters,
-                                   logRecord.getSystemAction(),
-                                   logRecord.getUserAction(),
-                                   logRecord.getExceptionClassName(),
-                                   logRecord.getExceptionMessage(),
-                                   logRecord.getExceptionStackTrace(),
-                                   logRecord.getOriginatorProperties().get("organizationName"),
-                                   logRecord.getOriginatorComponent().getComponentName(),
-                                   additionalInformation,
-                                   logRecord.getGUID(),
-                                   logRecord.getThreadId(),
-                                   logRecord.getRequestId());
-
-                    if (logRecord.getSeverityCode() == AuditLogRecordSeverityLevel.EXCEPTION.getOrdinal())
-                    {
-                        syncEgeriaException(databaseConnection,
-                                            logRecord.getGUID(),
-                                            logRecord.getThreadId(),
-                                            logRecord.getRequestId(),
-                                            logRecord.getTimeStamp(),
-                                            logRecord.getExceptionClassName(),
-                                            logRecord.getExceptionMessage(),
-                                            logRecord.getExceptionStackTrace(),
-                                            logRecord.getSystemAction(),
-                                            logRecord.getUserAction());
-                    }
-                }
-
-                databaseConnection.commit();
+                                    logRecord.getMessageParameters()[1],
+                                    logRecord.getMessageParameters()[3],
+                                    logRecord.getMessageParameters()[4],
+                                    logRecord.getMessageParameters()[0]);
             }
-            catch (Exception error)
+            else if (ASSET_ACTIVITY_UPDATE_ATTACHMENT.equals(logRecord.getMessageId()))
             {
-                log.error("Unusable JDBC Audit Log Store: " + connectorName, error);
+                addAssetActivityRow(tableRows,
+                                    logRecord.getThreadId(),
+                                    logRecord.getRequestId(),
+                                    logRecord.getOriginatorProperties().get("serverName"),
+                                    logRecord.getTimeStamp(),
+                                    "Asset Update Attachment",
+                                    logRecord.getMessageParameters()[2],
+                                    logRecord.getMessageParameters()[1],
+                                    logRecord.getMessageParameters()[3],
+                                    logRecord.getMessageParameters()[4],
+                                    logRecord.getMessageParameters()[0]);
+            }
+            else if (ASSET_ACTIVITY_UPDATE_FEEDBACK.equals(logRecord.getMessageId()))
+            {
+                addAssetActivityRow(tableRows,
+                                    logRecord.getThreadId(),
+                                    logRecord.getRequestId(),
+                                    logRecord.getOriginatorProperties().get("serverName"),
+                                    logRecord.getTimeStamp(),
+                                    "Asset Feedback",
+                                    logRecord.getMessageParameters()[2],
+                                    logRecord.getMessageParameters()[1],
+                                    logRecord.getMessageParameters()[3],
+                                    logRecord.getMessageParameters()[4],
+                                    logRecord.getMessageParameters()[0]);
+            }
+            else if (ASSET_ACTIVITY_UPDATE.equals(logRecord.getMessageId()))
+            {
+                addAssetActivityRow(tableRows,
+                                    logRecord.getThreadId(),
+                                    logRecord.getRequestId(),
+                                    logRecord.getOriginatorProperties().get("serverName"),
+                                    logRecord.getTimeStamp(),
+                                    "Asset Update",
+                                    logRecord.getMessageParameters()[2],
+                                    logRecord.getMessageParameters()[1],
+                                    logRecord.getMessageParameters()[3],
+                                    logRecord.getMessageParameters()[4],
+                                    logRecord.getMessageParameters()[0]);
+            }
+            else if (ASSET_ACTIVITY_DELETE.equals(logRecord.getMessageId()))
+            {
+                addAssetActivityRow(tableRows,
+                                    logRecord.getThreadId(),
+                                    logRecord.getRequestId(),
+                                    logRecord.getOriginatorProperties().get("serverName"),
+                                    logRecord.getTimeStamp(),
+                                    "Asset Delete",
+                                    logRecord.getMessageParameters()[2],
+                                    logRecord.getMessageParameters()[1],
+                                    logRecord.getMessageParameters()[3],
+                                    logRecord.getMessageParameters()[4],
+                                    logRecord.getMessageParameters()[0]);
+            }
+            else if (ASSET_ACTIVITY_SEARCH.equals(logRecord.getMessageId()))
+            {
+                addAssetActivityRow(tableRows,
+                                    logRecord.getThreadId(),
+                                    logRecord.getRequestId(),
+                                    logRecord.getOriginatorProperties().get("serverName"),
+                                    logRecord.getTimeStamp(),
+                                    "Asset Search",
+                                    logRecord.getMessageParameters()[2],
+                                    logRecord.getMessageParameters()[1],
+                                    logRecord.getMessageParameters()[3],
+                                    logRecord.getMessageParameters()[4],
+                                    logRecord.getMessageParameters()[0]);
+            }
+            else if (ASSET_ACTIVITY_SEARCH_ATTACHMENT.equals(logRecord.getMessageId()))
+            {
+                addAssetActivityRow(tableRows,
+                                    logRecord.getThreadId(),
+                                    logRecord.getRequestId(),
+                                    logRecord.getOriginatorProperties().get("serverName"),
+                                    logRecord.getTimeStamp(),
+                                    "Asset Search Attachment",
+                                    logRecord.getMessageParameters()[2],
+                                    logRecord.getMessageParameters()[1],
+                                    logRecord.getMessageParameters()[3],
+                                    logRecord.getMessageParameters()[4],
+                                    logRecord.getMessageParameters()[0]);
+            }
+            else if (USER_REQUEST_ACTIVITY.equals(logRecord.getMessageId()))
+            {
+                addAPICallRow(tableRows,
+                              logRecord.getThreadId(),
+                              logRecord.getRequestId(),
+                              logRecord.getMessageParameters()[3],
+                              logRecord.getMessageParameters()[0],
+                              logRecord.getMessageParameters()[1],
+                              logRecord.getMessageParameters()[2],
+                              logRecord.getTimeStamp());
+            }
+        }
+        else
+        {
+            addAuditEventRow(tableRows,
+                             logRecord.getTimeStamp(),
+                             logRecord.getOriginatorProperties().get("serverName"),
+                             logRecord.getActionDescription(),
+                             Integer.toString(logRecord.getSeverityCode()),
+                             logRecord.getSeverity(),
+                             logRecord.getMessageId(),
+                             logRecord.getMessageText(),
+                             messageParameters,
+                             logRecord.getSystemAction(),
+                             logRecord.getUserAction(),
+                             logRecord.getExceptionClassName(),
+                             logRecord.getExceptionMessage(),
+                             logRecord.getExceptionStackTrace(),
+                             logRecord.getOriginatorProperties().get("organizationName"),
+                             logRecord.getOriginatorComponent().getComponentName(),
+                             additionalInformation,
+                             logRecord.getGUID(),
+                             logRecord.getThreadId(),
+                             logRecord.getRequestId());
+
+            if (logRecord.getSeverityCode() == AuditLogRecordSeverityLevel.EXCEPTION.getOrdinal())
+            {
+                addEgeriaExceptionRow(tableRows,
+                                      logRecord.getGUID(),
+                                      logRecord.getThreadId(),
+                                      logRecord.getRequestId(),
+                                      logRecord.getTimeStamp(),
+                                      logRecord.getExceptionClassName(),
+                                      logRecord.getExceptionMessage(),
+                                      logRecord.getExceptionStackTrace(),
+                                      logRecord.getSystemAction(),
+                                      logRecord.getUserAction());
             }
         }
 
-        return logRecord.getGUID();
     }
 
 
     /**
-     * Process information about a specific API call.  They are just inserted into the database.  Duplicates are ignored.
+     * Add a row for one of the reference tables (components and servers) unless the same row is already waiting
+     * to be inserted.  Every log record refers to its component and server, so a batch holds many copies.
      *
-     * @param databaseConnection connection to the database
+     * @param rows rows waiting to be inserted into the reference table
+     * @param openMetadataRecord new row
+     */
+    private void addReferenceRow(List<Map<String, JDBCDataValue>> rows,
+                                 Map<String, JDBCDataValue>       openMetadataRecord)
+    {
+        if (! rows.contains(openMetadataRecord))
+        {
+            rows.add(openMetadataRecord);
+        }
+    }
+
+
+    /**
+     * Process information about a specific API call.  The row is added to the rows waiting to be inserted into the database.
+     *
+     * @param tableRows rows waiting to be inserted into each table
      * @param threadId           unique identifier of the running thread
      * @param requestId          unique identifier of the request
      * @param serverName         name of the server
@@ -402,16 +604,16 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
      * @param serviceName        name of the service
      * @param callTime           time of the call
      */
-    private void syncAPICall(java.sql.Connection databaseConnection,
-                             long                threadId,
-                             String              requestId,
-                             String              serverName,
-                             String              userName,
-                             String              operationName,
-                             String              serviceName,
-                             Date                callTime)
+    private void addAPICallRow(Map<AuditLogTable, List<Map<String, JDBCDataValue>>> tableRows,
+                               long                                                 threadId,
+                               String                                               requestId,
+                               String                                               serverName,
+                               String                                               userName,
+                               String                                               operationName,
+                               String                                               serviceName,
+                               Date                                                 callTime)
     {
-        final String methodName = "syncAPICall";
+        final String methodName = "addAPICallRow";
 
         try
         {
@@ -423,9 +625,7 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
                                                                                       serviceName,
                                                                                       callTime);
 
-            databaseClient.insertRowIntoTable(databaseConnection,
-                                              AuditLogTable.API_CALLS.getTableName(),
-                                              openMetadataRecord);
+            tableRows.get(AuditLogTable.API_CALLS).add(openMetadataRecord);
         }
         catch (Exception error)
         {
@@ -468,9 +668,9 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
 
 
     /**
-     * Process information about a specific API call.  They are just inserted into the database.  Duplicates are ignored.
+     * Process information about a specific API call.  The row is added to the rows waiting to be inserted into the database.
      *
-     * @param databaseConnection connection to the database
+     * @param tableRows rows waiting to be inserted into each table
      * @param threadId unique identifier of the running thread
      * @param requestId      unique identifier of the request
      * @param serverName name of the server
@@ -482,19 +682,19 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
      * @param serviceName name of the service
      * @param userName name of the user
      */
-    private void syncAssetActivity(java.sql.Connection databaseConnection,
-                                   long                threadId,
-                                   String              requestId,
-                                   String              serverName,
-                                   Date                callTime,
-                                   String              assetOperation,
-                                   String              assetGUID,
-                                   String              assetType,
-                                   String              operationName,
-                                   String              serviceName,
-                                   String              userName)
+    private void addAssetActivityRow(Map<AuditLogTable, List<Map<String, JDBCDataValue>>> tableRows,
+                                     long                                                 threadId,
+                                     String                                               requestId,
+                                     String                                               serverName,
+                                     Date                                                 callTime,
+                                     String                                               assetOperation,
+                                     String                                               assetGUID,
+                                     String                                               assetType,
+                                     String                                               operationName,
+                                     String                                               serviceName,
+                                     String                                               userName)
     {
-        final String methodName = "syncAssetActivity";
+        final String methodName = "addAssetActivityRow";
 
         try
         {
@@ -509,7 +709,7 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
                                                                                             serviceName,
                                                                                             userName);
 
-            databaseClient.insertRowIntoTable(databaseConnection, AuditLogTable.ASSET_ACTIVITY.getTableName(), openMetadataRecord);
+            tableRows.get(AuditLogTable.ASSET_ACTIVITY).add(openMetadataRecord);
         }
         catch (Exception error)
         {
@@ -564,9 +764,9 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
 
 
     /**
-     * Process information about a specific component.  They are just inserted into the database.  Duplicates are ignored.
+     * Process information about a specific component.  The row is added to the rows waiting to be inserted into the database.
      *
-     * @param databaseConnection connection to the database
+     * @param tableRows rows waiting to be inserted into each table
      * @param messageTimestamp time record generated
      * @param serverName name of server
      * @param actionDescription name of the method
@@ -587,28 +787,28 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
      * @param threadId thread where the request ran
      * @param requestId      unique identifier of the request
      */
-    private void syncAuditEvent(java.sql.Connection databaseConnection,
-                                Date                messageTimestamp,
-                                String              serverName,
-                                String              actionDescription,
-                                String              severityCode,
-                                String              severity,
-                                String              messageId,
-                                String              messageText,
-                                String              messageParameters,
-                                String              systemAction,
-                                String              userAction,
-                                String              exceptionClassName,
-                                String              exceptionMessage,
-                                String              exceptionStacktrace,
-                                String              organization,
-                                String              componentName,
-                                String              additionalInfo,
-                                String              logRecordId,
-                                long                threadId,
-                                String              requestId)
+    private void addAuditEventRow(Map<AuditLogTable, List<Map<String, JDBCDataValue>>> tableRows,
+                                  Date                                                 messageTimestamp,
+                                  String                                               serverName,
+                                  String                                               actionDescription,
+                                  String                                               severityCode,
+                                  String                                               severity,
+                                  String                                               messageId,
+                                  String                                               messageText,
+                                  String                                               messageParameters,
+                                  String                                               systemAction,
+                                  String                                               userAction,
+                                  String                                               exceptionClassName,
+                                  String                                               exceptionMessage,
+                                  String                                               exceptionStacktrace,
+                                  String                                               organization,
+                                  String                                               componentName,
+                                  String                                               additionalInfo,
+                                  String                                               logRecordId,
+                                  long                                                 threadId,
+                                  String                                               requestId)
     {
-        final String methodName = "syncAuditEvent";
+        final String methodName = "addAuditEventRow";
 
         try
         {
@@ -632,7 +832,7 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
                                                                                          threadId,
                                                                                          requestId);
 
-            databaseClient.insertRowIntoTable(databaseConnection, AuditLogTable.AUDIT_EVENTS.getTableName(), openMetadataRecord);
+            tableRows.get(AuditLogTable.AUDIT_EVENTS).add(openMetadataRecord);
         }
         catch (Exception error)
         {
@@ -714,15 +914,15 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
 
 
     /**
-     * Process information about a specific component.  They are just inserted into the database.  Duplicates are ignored.
+     * Process information about a specific component.  The row is added to the rows waiting to be inserted into the database.
      *
-     * @param databaseConnection connection to the database
+     * @param tableRows rows waiting to be inserted into each table
      * @param component description of the component
      */
-    private void syncEgeriaComponent(java.sql.Connection        databaseConnection,
-                                     AuditLogReportingComponent component)
+    private void addEgeriaComponentRow(Map<AuditLogTable, List<Map<String, JDBCDataValue>>> tableRows,
+                                       AuditLogReportingComponent                           component)
     {
-        final String methodName = "syncEgeriaComponent";
+        final String methodName = "addEgeriaComponentRow";
 
         try
         {
@@ -732,7 +932,7 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
                                                                                               component.getComponentDescription(),
                                                                                               component.getComponentWikiURL());
 
-            databaseClient.insertRowIntoTable(databaseConnection, AuditLogTable.EGERIA_COMPONENTS.getTableName(), openMetadataRecord);
+            this.addReferenceRow(tableRows.get(AuditLogTable.EGERIA_COMPONENTS), openMetadataRecord);
         }
         catch (Exception error)
         {
@@ -771,9 +971,9 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
 
 
     /**
-     * Process information about a specific exception.  They are just inserted into the database.  Duplicates are ignored.
+     * Process information about a specific exception.  The row is added to the rows waiting to be inserted into the database.
      *
-     * @param databaseConnection connection to the database
+     * @param tableRows rows waiting to be inserted into each table
      * @param logRecordId unique identifier of the audit log record
      * @param threadId            thread where the request ran
      * @param requestId           unique identifier of the request
@@ -784,18 +984,18 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
      * @param systemAction running organization
      * @param userAction unique identifier of owned metadata collection (optional)
      */
-    private void syncEgeriaException(java.sql.Connection databaseConnection,
-                                     String              logRecordId,
-                                     long                threadId,
-                                     String              requestId,
-                                     Date                messageTimestamp,
-                                     String              exceptionClassName,
-                                     String              exceptionMessage,
-                                     String              exceptionStacktrace,
-                                     String              systemAction,
-                                     String              userAction)
+    private void addEgeriaExceptionRow(Map<AuditLogTable, List<Map<String, JDBCDataValue>>> tableRows,
+                                       String                                               logRecordId,
+                                       long                                                 threadId,
+                                       String                                               requestId,
+                                       Date                                                 messageTimestamp,
+                                       String                                               exceptionClassName,
+                                       String                                               exceptionMessage,
+                                       String                                               exceptionStacktrace,
+                                       String                                               systemAction,
+                                       String                                               userAction)
     {
-        final String methodName = "syncEgeriaException";
+        final String methodName = "addEgeriaExceptionRow";
 
         try
         {
@@ -809,7 +1009,7 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
                                                                                               systemAction,
                                                                                               userAction);
 
-            databaseClient.insertRowIntoTable(databaseConnection, AuditLogTable.EGERIA_EXCEPTIONS.getTableName(), openMetadataRecord);
+            tableRows.get(AuditLogTable.EGERIA_EXCEPTIONS).add(openMetadataRecord);
         }
         catch (Exception error)
         {
@@ -860,21 +1060,21 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
 
 
     /**
-     * Process information about a specific OMAG Server.  They are just inserted into the database.  Duplicates are ignored.
+     * Process information about a specific OMAG Server.  The row is added to the rows waiting to be inserted into the database.
      *
-     * @param databaseConnection connection to the database
+     * @param tableRows rows waiting to be inserted into each table
      * @param serverName name of the server
      * @param serverType type of the server
      * @param organization running organization
      * @param metadataCollectionId unique identifier of owned metadata collection (optional)
      */
-    private void syncOMAGServer(java.sql.Connection databaseConnection,
-                                String              serverName,
-                                String              serverType,
-                                String              organization,
-                                String              metadataCollectionId)
+    private void addOMAGServerRow(Map<AuditLogTable, List<Map<String, JDBCDataValue>>> tableRows,
+                                  String                                               serverName,
+                                  String                                               serverType,
+                                  String                                               organization,
+                                  String                                               metadataCollectionId)
     {
-        final String methodName = "syncOMAGServer";
+        final String methodName = "addOMAGServerRow";
 
         try
         {
@@ -883,7 +1083,7 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
                                                                                          organization,
                                                                                          metadataCollectionId);
 
-            databaseClient.insertRowIntoTable(databaseConnection, AuditLogTable.OMAG_SERVERS.getTableName(), openMetadataRecord);
+            this.addReferenceRow(tableRows.get(AuditLogTable.OMAG_SERVERS), openMetadataRecord);
         }
         catch (Exception error)
         {
@@ -1028,6 +1228,12 @@ public class PostgreSQLAuditLogDestinationConnector extends OMRSAuditLogStoreCon
     @Override
     public  void disconnect() throws ConnectorCheckedException
     {
+        if (logRecordWriter != null)
+        {
+            logRecordWriter.stop();
+            logRecordWriter = null;
+        }
+
         if (databaseClient != null)
         {
             databaseClient.disconnect();
@@ -9,8 +9,6 @@ import org.odpi.openmetadata.frameworks.openmetadata.refdata.DeployedImplementat
 import org.odpi.openmetadata.frameworks.openmetadata.definitions.DeployedImplementationTypeDefinition;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
 
-import java.util.Collections;
-
 /**
  * PostgreSQLAuditLogDestinationProvider is the factory class for the JDBC Audit log Destination.
  */
@@ -25,7 +23,7 @@ public class PostgreSQLAuditLogDestinationProvider extends OMRSAuditLogStoreProv
     {
         super(EgeriaOpenConnectorDefinition.POSTGRES_AUDIT_LOG_DESTINATION_CONNECTOR,
               PostgreSQLAuditLogDestinationConnector.class.getName(),
-              Collections.singletonList(supportedSeveritiesProperty));
+              PostgreSQLAuditLogConfigurationProperty.getRecognizedConfigurationProperties());
 
         super.supportedTechnologyTypes = SupportedTechnologyType.getSupportedTechnologyTypes(new DeployedImplementationTypeDefinition[]{DeployedImplementationType.JDBC_RELATIONAL_DATABASE_SCHEMA});
         super.supportedConfigurationProperties = PostgreSQLAuditLogConfigurationProperty.getConfigurationPropertyTypes();
@@ -0,0 +1,463 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.postgres;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.postgres.controls.PostgreSQLAuditLogOverflowPolicy;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PostgreSQLAuditLogWriter writes log records to the database on a background thread so that the callers of the
+ * audit log do not wait for the database.  The log records are held in a bounded queue.  The writer thread takes
+ * them from the queue in batches, and writes each batch in a single transaction, using JDBC batch inserts for each
+ * table.  A batch is written when it is full or when its first log record has waited for the flush interval.
+ * <br><br>
+ * When the queue is full, the overflow policy decides what happens to a new log record.  It either waits for room
+ * in the queue, is dropped (and counted), or is appended to a spill file.  The writer thread writes the spilled
+ * log records to the database once the queue is empty.  The spill file survives a restart of the server.
+ * <br><br>
+ * If the database rejects a batch, its log records are written one at a time so that a single bad log record
+ * does not lose the rest of the batch.  Log records that still can not be written are handled like those that
+ * overflow the queue: they are spilled with the spill policy and dropped (and counted) otherwise.
+ */
+class PostgreSQLAuditLogWriter implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(PostgreSQLAuditLogWriter.class);
+
+    private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer();
+    private static final ObjectReader OBJECT_READER = new ObjectMapper().readerFor(AuditLogRecord.class);
+
+    private static final String replayFileExtension = ".replay";
+    private static final long   dropReportInterval  = 1000L;
+    private static final long   stopTimeout         = 30000L;
+
+    private final PostgreSQLAuditLogDestinationConnector     destination;
+    private final String                                     destinationName;
+    private final ArrayBlockingQueue<OMRSAuditLogRecord>     logRecordQueue;
+    private final int                                        batchSize;
+    private final long                                       flushInterval;
+    private final PostgreSQLAuditLogOverflowPolicy           overflowPolicy;
+    private final File                                       spillFile;
+    private final File                                       replayFile;
+
+    private final Object     spillLock           = new Object();
+    private final AtomicLong droppedRecordCount  = new AtomicLong(0L);
+    private final AtomicLong spilledRecordCount  = new AtomicLong(0L);
+
+    private volatile boolean running      = false;
+    private Thread           writerThread = null;
+
+
+    /**
+     * Constructor supplies the destination and the queue settings.
+     *
+     * @param destination connector that writes the batches to the database
+     * @param destinationName name of the destination (for messages and the thread name)
+     * @param queueCapacity maximum number of log records waiting to be written
+     * @param batchSize maximum number of log records in a transaction
+     * @param flushInterval longest time in milliseconds that a log record waits for its batch to fill
+     * @param overflowPolicy what happens to a log record when the queue is full
+     * @param spillFileName name of the file holding log records that overflowed the queue
+     */
+    PostgreSQLAuditLogWriter(PostgreSQLAuditLogDestinationConnector destination,
+                             String                                 destinationName,
+                             int                                    queueCapacity,
+                             int                                    batchSize,
+                             long                                   flushInterval,
+                             PostgreSQLAuditLogOverflowPolicy       overflowPolicy,
+                             String                                 spillFileName)
+    {
+        this.destination     = destination;
+        this.destinationName = destinationName;
+        this.logRecordQueue  = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize       = batchSize;
+        this.flushInterval   = flushInterval;
+        this.overflowPolicy  = overflowPolicy;
+        this.spillFile       = new File(spillFileName);
+        this.replayFile      = new File(spillFileName + replayFileExtension);
+    }
+
+
+    /**
+     * Start the writer thread.
+     */
+    synchronized void start()
+    {
+        if (writerThread == null)
+        {
+            running = true;
+
+            writerThread = new Thread(this, "PostgreSQL Audit Log Writer: " + destinationName);
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+    }
+
+
+    /**
+     * Stop the writer thread once it has written the log records in the queue.  Any spilled log records that have
+     * not been written stay in the spill file for the next time the destination starts.
+     */
+    synchronized void stop()
+    {
+        if (writerThread != null)
+        {
+            running = false;
+
+            try
+            {
+                writerThread.join(stopTimeout);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (writerThread.isAlive())
+            {
+                log.warn("The audit log writer for " + destinationName + " did not finish within " + stopTimeout + "ms; " +
+                                 logRecordQueue.size() + " log records have not been written");
+            }
+
+            writerThread = null;
+        }
+    }
+
+
+    /**
+     * Add a log record to the queue, applying the overflow policy if the queue is full.
+     *
+     * @param logRecord log record to write
+     */
+    void addLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        if (logRecordQueue.offer(logRecord))
+        {
+            return;
+        }
+
+        switch (overflowPolicy)
+        {
+            case DROP -> this.dropLogRecord(logRecord);
+
+            case SPILL -> this.spillLogRecord(logRecord);
+
+            default ->
+            {
+                try
+                {
+                    logRecordQueue.put(logRecord);
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                    this.dropLogRecord(logRecord);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of log records that have been discarded because the queue was full.
+     *
+     * @return count
+     */
+    long getDroppedRecordCount()
+    {
+        return droppedRecordCount.get();
+    }
+
+
+    /**
+     * Return the number of log records that have been written to the spill file because the queue was full.
+     *
+     * @return count
+     */
+    long getSpilledRecordCount()
+    {
+        return spilledRecordCount.get();
+    }
+
+
+    /**
+     * Count a discarded log record.  A warning is logged for the first one and then periodically.
+     *
+     * @param logRecord discarded log record
+     */
+    private void dropLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        long droppedCount = droppedRecordCount.incrementAndGet();
+
+        if (droppedCount % dropReportInterval == 1)
+        {
+            log.warn("The audit log queue for " + destinationName + " is full or the database is failing; " + droppedCount +
+                             " log records have been dropped, including " + logRecord.getGUID());
+        }
+    }
+
+
+    /**
+     * Handle a log record that could not be written to the database.  It is spilled if the overflow policy
+     * is to spill and spilling is allowed, otherwise it is dropped.
+     *
+     * @param logRecord log record that was not written
+     * @param spillAllowed false if the log record came from the spill file, so spilling it again would
+     *                     retry it forever
+     */
+    private void handleUnwrittenLogRecord(OMRSAuditLogRecord logRecord,
+                                          boolean            spillAllowed)
+    {
+        if ((spillAllowed) && (overflowPolicy == PostgreSQLAuditLogOverflowPolicy.SPILL))
+        {
+            this.spillLogRecord(logRecord);
+        }
+        else
+        {
+            this.dropLogRecord(logRecord);
+        }
+    }
+
+
+    /**
+     * Write a batch of log records to the database.  If the batch is rejected, each log record is written in its
+     * own transaction.  A log record that is rejected on its own is passed to handleUnwrittenLogRecord().
+     * If the database is unavailable, the log records that have not been written are returned.
+     *
+     * @param batch log records to write
+     * @param spillAllowed can the rejected log records be spilled
+     * @return log records not written because the database is unavailable (empty if they were all handled)
+     */
+    private List<OMRSAuditLogRecord> writeBatch(List<OMRSAuditLogRecord> batch,
+                                                boolean                  spillAllowed)
+    {
+        if (destination.writeLogRecords(batch))
+        {
+            return new ArrayList<>();
+        }
+
+        if (! destination.isDatabaseAvailable())
+        {
+            return new ArrayList<>(batch);
+        }
+
+        if (batch.size() == 1)
+        {
+            this.handleUnwrittenLogRecord(batch.get(0), spillAllowed);
+
+            return new ArrayList<>();
+        }
+
+        log.warn("The database rejected a batch of " + batch.size() + " audit log records for " + destinationName +
+                         "; writing them one at a time");
+
+        for (int index = 0; index < batch.size(); index++)
+        {
+            OMRSAuditLogRecord logRecord = batch.get(index);
+
+            if (! destination.writeLogRecords(Collections.singletonList(logRecord)))
+            {
+                if (! destination.isDatabaseAvailable())
+                {
+                    return new ArrayList<>(batch.subList(index, batch.size()));
+                }
+
+                this.handleUnwrittenLogRecord(logRecord, spillAllowed);
+            }
+        }
+
+        return new ArrayList<>();
+    }
+
+
+    /**
+     * Append a log record to the spill file.  If the spill file can not be written, the log record is dropped.
+     *
+     * @param logRecord log record that overflowed the queue
+     */
+    private void spillLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        synchronized (spillLock)
+        {
+            try (BufferedWriter spillWriter = new BufferedWriter(new FileWriter(spillFile, StandardCharsets.UTF_8, true)))
+            {
+                spillWriter.write(OBJECT_WRITER.writeValueAsString(new AuditLogRecord(logRecord)));
+                spillWriter.newLine();
+
+                spilledRecordCount.incrementAndGet();
+            }
+            catch (IOException error)
+            {
+                log.error("Unable to spill audit log record to " + spillFile.getAbsolutePath(), error);
+                this.dropLogRecord(logRecord);
+            }
+        }
+    }
+
+
+    /**
+     * Take batches of log records from the queue and write them to the database until the writer is stopped
+     * and the queue is empty.  When the queue is empty, any spilled log records are written.
+     */
+    @Override
+    public void run()
+    {
+        List<OMRSAuditLogRecord> batch = new ArrayList<>(batchSize);
+
+        while ((running) || (! logRecordQueue.isEmpty()))
+        {
+            try
+            {
+                OMRSAuditLogRecord firstLogRecord = logRecordQueue.poll(flushInterval, TimeUnit.MILLISECONDS);
+
+                if (firstLogRecord != null)
+                {
+                    batch.add(firstLogRecord);
+                    this.fillBatch(batch, System.currentTimeMillis() + flushInterval);
+
+                    for (OMRSAuditLogRecord unwrittenLogRecord : this.writeBatch(batch, true))
+                    {
+                        this.handleUnwrittenLogRecord(unwrittenLogRecord, true);
+                    }
+
+                    batch.clear();
+                }
+                else if (running)
+                {
+                    this.replaySpilledLogRecords();
+                }
+            }
+            catch (InterruptedException interrupted)
+            {
+                log.debug("Audit log writer for " + destinationName + " interrupted");
+            }
+            catch (Exception error)
+            {
+                log.error("Unexpected error in the audit log writer for " + destinationName, error);
+                batch.clear();
+            }
+        }
+    }
+
+
+    /**
+     * Add log records from the queue to the batch until it is full, or the flush deadline has passed.
+     *
+     * @param batch batch holding at least one log record
+     * @param flushDeadline time that the batch must be written
+     * @throws InterruptedException the thread was interrupted while waiting
+     */
+    private void fillBatch(List<OMRSAuditLogRecord> batch,
+                           long                     flushDeadline) throws InterruptedException
+    {
+        while (batch.size() < batchSize)
+        {
+            logRecordQueue.drainTo(batch, batchSize - batch.size());
+
+            long waitTime = flushDeadline - System.currentTimeMillis();
+
+            if ((batch.size() >= batchSize) || (waitTime <= 0) || (! running))
+            {
+                return;
+            }
+
+            OMRSAuditLogRecord nextLogRecord = logRecordQueue.poll(waitTime, TimeUnit.MILLISECONDS);
+
+            if (nextLogRecord == null)
+            {
+                return;
+            }
+
+            batch.add(nextLogRecord);
+        }
+    }
+
+
+    /**
+     * Write the spilled log records to the database.  The spill file is renamed before it is read so that new
+     * log records can be spilled while it is replayed.  If the database fails part way through, the replay file
+     * is kept and replayed again later; the inserts ignore rows that are already in the database.  Log records
+     * that the database rejects are dropped so that they are not replayed forever.
+     */
+    private void replaySpilledLogRecords()
+    {
+        if (! replayFile.exists())
+        {
+            synchronized (spillLock)
+            {
+                if ((! spillFile.exists()) || (! spillFile.renameTo(replayFile)))
+                {
+                    return;
+                }
+            }
+        }
+
+        List<OMRSAuditLogRecord> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader replayReader = new BufferedReader(new FileReader(replayFile, StandardCharsets.UTF_8)))
+        {
+            String jsonLogRecord;
+
+            while ((jsonLogRecord = replayReader.readLine()) != null)
+            {
+                if (! jsonLogRecord.isBlank())
+                {
+                    try
+                    {
+                        AuditLogRecord logRecord = OBJECT_READER.readValue(jsonLogRecord);
+
+                        batch.add(new OMRSAuditLogRecord(logRecord));
+                    }
+                    catch (IOException error)
+                    {
+                        log.debug("Skipping unreadable spilled audit log record: " + error.getMessage());
+                    }
+                }
+
+                if (batch.size() >= batchSize)
+                {
+                    if (! this.writeBatch(batch, false).isEmpty())
+                    {
+                        return;
+                    }
+
+                    batch.clear();
+                }
+            }
+
+            if ((! batch.isEmpty()) && (! this.writeBatch(batch, false).isEmpty()))
+            {
+                return;
+            }
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to read spilled audit log records from " + replayFile.getAbsolutePath(), error);
+            return;
+        }
+
+        if (! replayFile.delete())
+        {
+            log.warn("Unable to delete replayed audit log records in " + replayFile.getAbsolutePath());
+        }
+    }
+}
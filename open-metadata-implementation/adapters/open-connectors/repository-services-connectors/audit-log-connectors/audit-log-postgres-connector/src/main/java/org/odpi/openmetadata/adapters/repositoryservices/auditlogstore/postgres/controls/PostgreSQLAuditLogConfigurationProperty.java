@@ -22,6 +22,36 @@ public enum PostgreSQLAuditLogConfigurationProperty
      */
     SUPPORTED_SEVERITIES("supportedSeverities", "Provide a list of supported severities that should be logged to this destination. An empty list means all severities.", DataType.ARRAY_STRING.getDisplayName(), "[\"Error\", \"Exception\", \"Activity\", \"Action\", \"Decision\"]"),
 
+    /**
+     * Should the log records be written to the database by a background thread?
+     */
+    ASYNCHRONOUS_WRITES("asynchronousWrites", "Should the log records be queued and written to the database in batches by a background thread?  The default is false, which writes each log record on the caller's thread.", DataType.BOOLEAN.getDisplayName(), "true"),
+
+    /**
+     * Maximum number of log records waiting to be written in asynchronous mode.
+     */
+    QUEUE_CAPACITY("queueCapacity", "Maximum number of log records waiting to be written when asynchronousWrites is set.  The default is 10000.", DataType.INT.getDisplayName(), "10000"),
+
+    /**
+     * Maximum number of log records written in a single transaction in asynchronous mode.
+     */
+    BATCH_SIZE("batchSize", "Maximum number of log records written to the database in a single transaction when asynchronousWrites is set.  The default is 500.", DataType.INT.getDisplayName(), "500"),
+
+    /**
+     * Longest time in milliseconds that a log record waits for its batch to fill in asynchronous mode.
+     */
+    FLUSH_INTERVAL("flushInterval", "Longest time in milliseconds that a log record waits for its batch to fill before the batch is written when asynchronousWrites is set.  The default is 1000.", DataType.INT.getDisplayName(), "1000"),
+
+    /**
+     * What happens to a log record that arrives when the queue is full in asynchronous mode.
+     */
+    OVERFLOW_POLICY("overflowPolicy", "What happens to a log record that arrives when the queue is full: block (the caller waits - this is the default), drop (the log record is discarded and counted) or spill (the log record is appended to the spill file and written to the database when the queue has drained).", DataType.STRING.getDisplayName(), "spill"),
+
+    /**
+     * Name of the file used to hold log records that overflow the queue.
+     */
+    SPILL_FILE_NAME("spillFileName", "Name of the file used to hold log records that overflow the queue when the overflowPolicy is spill.  The default is omag.server.auditlog.spill.jsonl.", DataType.STRING.getDisplayName(), "data/servers/myserver/auditlog.spill.jsonl"),
+
     ;
 
     public final String           name;
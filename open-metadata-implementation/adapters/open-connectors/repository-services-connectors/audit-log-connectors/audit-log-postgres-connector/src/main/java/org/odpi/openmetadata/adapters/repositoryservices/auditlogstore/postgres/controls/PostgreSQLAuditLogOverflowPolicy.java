@@ -0,0 +1,87 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.postgres.controls;
+
+/**
+ * PostgreSQLAuditLogOverflowPolicy defines what happens to a log record that arrives when the queue of the
+ * asynchronous writer is full.
+ */
+public enum PostgreSQLAuditLogOverflowPolicy
+{
+    /**
+     * The caller waits until there is room in the queue.
+     */
+    BLOCK("block"),
+
+    /**
+     * The log record is discarded and counted.
+     */
+    DROP("drop"),
+
+    /**
+     * The log record is appended to the spill file, and written to the database when the queue has drained.
+     */
+    SPILL("spill"),
+
+    ;
+
+    private final String name;
+
+
+    /**
+     * Create a specific Enum constant.
+     *
+     * @param name value used in the overflowPolicy configuration property
+     */
+    PostgreSQLAuditLogOverflowPolicy(String name)
+    {
+        this.name = name;
+    }
+
+
+    /**
+     * Return the value used in the overflowPolicy configuration property.
+     *
+     * @return string name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the policy for a value of the overflowPolicy configuration property.
+     *
+     * @param name configured value (case is ignored)
+     * @return matching policy, or BLOCK if the value is null or not recognized
+     */
+    public static PostgreSQLAuditLogOverflowPolicy getPolicy(String name)
+    {
+        if (name != null)
+        {
+            for (PostgreSQLAuditLogOverflowPolicy policy : PostgreSQLAuditLogOverflowPolicy.values())
+            {
+                if (policy.getName().equalsIgnoreCase(name))
+                {
+                    return policy;
+                }
+            }
+        }
+
+        return BLOCK;
+    }
+
+
+    /**
+     * Output of this enum class and main value.
+     *
+     * @return string showing enum value
+     */
+    @Override
+    public String toString()
+    {
+        return "PostgreSQLAuditLogOverflowPolicy{ name=" + name + "}";
+    }
+}
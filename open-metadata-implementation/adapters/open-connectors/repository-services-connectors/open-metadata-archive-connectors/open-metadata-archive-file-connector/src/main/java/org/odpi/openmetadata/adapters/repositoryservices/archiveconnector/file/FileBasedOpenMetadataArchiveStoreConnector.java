@@ -2,47 +2,77 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
-import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.ffdc.FileBasedOpenMetadataArchiveStoreConnectorAuditCode;
 import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.ffdc.FileBasedOpenMetadataArchiveStoreConnectorErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
-import org.apache.commons.io.FileUtils;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.odpi.openmetadata.frameworks.openmetadata.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStreamingStore;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * FileBasedOpenMetadataArchiveStoreConnector provides a connector that can read an Open Metadata Archive file coded in JSON.
+ * The file may also be coded in Smile (a binary form of JSON) and may be compressed with gzip.  The format of the file
+ * is detected from its first few bytes when it is read, and is set by the connection's configuration properties when
+ * it is written.
+ * <br><br>
+ * The connector is able to stream the archive's instances to the archive manager as they are read from the file,
+ * so the whole archive does not need to be held in memory while it is loaded.
  */
-public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
+public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector implements OpenMetadataArchiveStreamingStore
 {
     /**
      * This is the default name of the open metadata archive file that is used if there is no file name in the connection.
      */
     private static final String defaultFilename = "open.metadata.omarchive";
 
+    /**
+     * This is the number of instances passed to the archive manager at once when the archive is streamed.
+     */
+    private static final int instanceSegmentSize = 1000;
+
+    /**
+     * Leading bytes that identify a gzip file and a Smile document.
+     */
+    private static final int gzipMagicByte1  = 0x1f;
+    private static final int gzipMagicByte2  = 0x8b;
+    private static final int smileHeaderByte1 = ':';
+    private static final int smileHeaderByte2 = ')';
+    private static final int smileHeaderByte3 = '\n';
+
     /**
      * Variables used in writing to the file.
      */
-    private String archiveStoreName = null;
+    private String  archiveStoreName = null;
+    private boolean smileEncoding    = false;
+    private boolean compressArchive  = false;
 
     /**
      * Variables used for logging and debug.
      */
     private static final Logger log = LoggerFactory.getLogger(FileBasedOpenMetadataArchiveStoreConnector.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
-    private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.reader();
+    private static final ObjectMapper SMILE_MAPPER  = new ObjectMapper(new SmileFactory());
 
 
     /**
@@ -77,6 +107,19 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
         {
             archiveStoreName = defaultFilename;
         }
+
+        if (connectionDetails.getConfigurationProperties() != null)
+        {
+            Object archiveEncoding = connectionDetails.getConfigurationProperties().get(FileBasedOpenMetadataArchiveStoreProvider.ARCHIVE_ENCODING_PROPERTY);
+
+            if (FileBasedOpenMetadataArchiveStoreProvider.SMILE_ENCODING.equalsIgnoreCase(String.valueOf(archiveEncoding)))
+            {
+                smileEncoding = true;
+            }
+
+            compressArchive = super.getBooleanConfigurationProperty(FileBasedOpenMetadataArchiveStoreProvider.COMPRESS_ARCHIVE_PROPERTY,
+                                                                    connectionDetails.getConfigurationProperties());
+        }
     }
 
 
@@ -91,50 +134,147 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     {
         final String methodName = "getArchiveContents";
 
-        File                archiveStoreFile     = new File(archiveStoreName);
         OpenMetadataArchive newOpenMetadataArchive;
 
+        try (JsonParser parser = this.openArchiveFile())
+        {
+            newOpenMetadataArchive = parser.readValueAs(OpenMetadataArchive.class);
+        }
+        catch (IOException ioException)
+        {
+            throw this.getBadFileException(ioException, methodName);
+        }
+
+        return newOpenMetadataArchive;
+    }
+
+
+    /**
+     * Read the archive, passing its header and type store, and then its instances in segments, to the content handler.
+     *
+     * @param contentHandler receiver of the archive contents
+     * @return false if the archive is empty
+     * @throws RepositoryErrorException a problem accessing the archive
+     */
+    @Override
+    public boolean streamArchiveContents(OpenMetadataArchiveContentHandler contentHandler) throws RepositoryErrorException
+    {
+        final String methodName = "streamArchiveContents";
+
         try
         {
-            log.debug("Retrieving open metadata archive from file");
+            OpenMetadataArchiveStreamReader streamReader = new OpenMetadataArchiveStreamReader(this::openArchiveFile, contentHandler, instanceSegmentSize);
 
-            if (auditLog != null)
-            {
-                final String actionDescription = "Opening open metadata archive";
+            return streamReader.readArchive();
+        }
+        catch (IOException ioException)
+        {
+            throw this.getBadFileException(ioException, methodName);
+        }
+    }
 
-                auditLog.logMessage(actionDescription,
-                                    FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
+
+    /**
+     * Open the archive file and return a parser for its contents.  The compression and encoding of the file
+     * are detected from its leading bytes.
+     *
+     * @return parser positioned before the first token in the archive
+     * @throws IOException the file is not readable
+     */
+    private JsonParser openArchiveFile() throws IOException
+    {
+        log.debug("Retrieving open metadata archive from file");
+
+        if (auditLog != null)
+        {
+            final String actionDescription = "Opening open metadata archive";
+
+            auditLog.logMessage(actionDescription,
+                                FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
+        }
+
+        InputStream archiveStream = new BufferedInputStream(new FileInputStream(archiveStoreName));
+
+        try
+        {
+            if (this.startsWith(archiveStream, gzipMagicByte1, gzipMagicByte2))
+            {
+                archiveStream = new BufferedInputStream(new GZIPInputStream(archiveStream));
             }
 
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
+            if (this.startsWith(archiveStream, smileHeaderByte1, smileHeaderByte2, smileHeaderByte3))
+            {
+                return SMILE_MAPPER.createParser(archiveStream);
+            }
 
-            newOpenMetadataArchive = OBJECT_READER.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            return OBJECT_MAPPER.createParser(archiveStream);
         }
         catch (IOException ioException)
         {
-            /*
-             * The archive file is not found, create an empty one ...
-             */
-            if (auditLog != null)
+            archiveStream.close();
+            throw ioException;
+        }
+    }
+
+
+    /**
+     * Test whether the stream starts with the requested bytes without consuming them.
+     *
+     * @param archiveStream stream that supports mark and reset
+     * @param leadingBytes bytes to look for
+     * @return boolean flag
+     * @throws IOException the stream is not readable
+     */
+    private boolean startsWith(InputStream archiveStream,
+                               int...      leadingBytes) throws IOException
+    {
+        archiveStream.mark(leadingBytes.length);
+
+        try
+        {
+            for (int leadingByte : leadingBytes)
             {
-                auditLog.logException(methodName,
-                                      FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_FILE.getMessageDefinition(archiveStoreName,
-                                                                                                                        ioException.getClass().getName(),
-                                                                                                                        ioException.getMessage()),
-                                      ioException);
+                if (archiveStream.read() != leadingByte)
+                {
+                    return false;
+                }
             }
 
+            return true;
+        }
+        finally
+        {
+            archiveStream.reset();
+        }
+    }
 
-            log.error("Error opening archive", ioException);
 
-            throw new RepositoryErrorException(FileBasedOpenMetadataArchiveStoreConnectorErrorCode.BAD_FILE.getMessageDefinition(archiveStoreName,
-                                                                                                                                 ioException.getClass().getName(),
-                                                                                                                                 ioException.getMessage()),
-                                               this.getClass().getName(),
-                                               methodName);
+    /**
+     * Log and return the exception for an archive file that can not be read.
+     *
+     * @param ioException exception from reading the file
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private RepositoryErrorException getBadFileException(IOException ioException,
+                                                         String      methodName)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logException(methodName,
+                                  FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_FILE.getMessageDefinition(archiveStoreName,
+                                                                                                                    ioException.getClass().getName(),
+                                                                                                                    ioException.getMessage()),
+                                  ioException);
         }
 
-        return newOpenMetadataArchive;
+        log.error("Error opening archive", ioException);
+
+        return new RepositoryErrorException(FileBasedOpenMetadataArchiveStoreConnectorErrorCode.BAD_FILE.getMessageDefinition(archiveStoreName,
+                                                                                                                             ioException.getClass().getName(),
+                                                                                                                             ioException.getMessage()),
+                                           this.getClass().getName(),
+                                           methodName);
     }
 
 
@@ -150,7 +290,7 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
 
         try
         {
-            log.debug("Writing open metadata archive store properties: " + archiveContents);
+            log.debug("Writing open metadata archive to file {}", archiveStoreName);
 
             if (archiveContents == null)
             {
@@ -158,9 +298,24 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
             }
             else
             {
-                String archiveStoreFileContents = OBJECT_WRITER.writeValueAsString(archiveContents);
-
-                FileUtils.writeStringToFile(archiveStoreFile, archiveStoreFileContents, (String)null,false);
+                OutputStream archiveStream = new BufferedOutputStream(new FileOutputStream(archiveStoreFile));
+
+                if (compressArchive)
+                {
+                    archiveStream = new GZIPOutputStream(archiveStream);
+                }
+
+                try (OutputStream outputStream = archiveStream)
+                {
+                    if (smileEncoding)
+                    {
+                        SMILE_MAPPER.writeValue(outputStream, archiveContents);
+                    }
+                    else
+                    {
+                        OBJECT_MAPPER.writeValue(outputStream, archiveContents);
+                    }
+                }
             }
         }
         catch (IOException   ioException)
@@ -6,6 +6,8 @@ package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 import org.odpi.openmetadata.adapters.connectors.EgeriaOpenConnectorDefinition;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreProviderBase;
 
+import java.util.Arrays;
+
 
 /**
  * FileBasedOpenMetadataArchiveStoreProvider is the OCF connector provider for the file based server configuration store.
@@ -17,6 +19,19 @@ public class FileBasedOpenMetadataArchiveStoreProvider extends OpenMetadataArchi
      */
     private static final String connectorClassName = "org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.FileBasedOpenMetadataArchiveStoreConnector";
 
+    /*
+     * Names of configuration properties.  These control the format of the archive when it is written.
+     * The format is detected automatically when the archive is read.
+     */
+    public  static final String ARCHIVE_ENCODING_PROPERTY = "archiveEncoding";
+    public  static final String COMPRESS_ARCHIVE_PROPERTY = "compressArchive";
+
+    /*
+     * Values for the archive encoding property.
+     */
+    public  static final String JSON_ENCODING  = "json";
+    public  static final String SMILE_ENCODING = "smile";
+
     /**
      * Constructor to initialize the ConnectorProviderBase class.
      */
@@ -24,6 +39,6 @@ public class FileBasedOpenMetadataArchiveStoreProvider extends OpenMetadataArchi
     {
         super(EgeriaOpenConnectorDefinition.JSON_FILE_OPEN_METADATA_ARCHIVE_CONNECTOR,
               connectorClassName,
-              null);
+              Arrays.asList(ARCHIVE_ENCODING_PROPERTY, COMPRESS_ARCHIVE_PROPERTY));
     }
 }
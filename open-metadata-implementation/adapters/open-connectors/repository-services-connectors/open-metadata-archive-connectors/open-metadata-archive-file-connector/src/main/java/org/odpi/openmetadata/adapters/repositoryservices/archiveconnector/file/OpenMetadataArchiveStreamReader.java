@@ -0,0 +1,378 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OpenMetadataArchiveStreamReader reads an open metadata archive from a Jackson parser, passing its contents to
+ * a content handler as it goes.  The archive properties and type store are bound in full since they are small.
+ * The entities, relationships and classifications in the instance store are bound one at a time and passed to
+ * the handler in segments.
+ * <br><br>
+ * The archives written by Egeria place the archive properties and type store before the instance store.
+ * If the instance store is reached before both of them, it is skipped and the rest of the archive is read
+ * to find the header.  The archive is then opened again and the instance store is streamed to the handler
+ * after the header, as it would be if the whole archive had been read.
+ */
+class OpenMetadataArchiveStreamReader
+{
+    private static final String archivePropertiesField    = "archiveProperties";
+    private static final String archiveTypeStoreField     = "archiveTypeStore";
+    private static final String archiveInstanceStoreField = "archiveInstanceStore";
+    private static final String entitiesField             = "entities";
+    private static final String relationshipsField        = "relationships";
+    private static final String classificationsField      = "classifications";
+
+    /**
+     * Opens a new parser positioned at the start of the archive.
+     */
+    interface ArchiveParserSource
+    {
+        /**
+         * Open the archive.
+         *
+         * @return parser positioned before the first token in the archive; it must have an object codec
+         * @throws IOException the archive is not readable
+         */
+        JsonParser openParser() throws IOException;
+    }
+
+
+    private final ArchiveParserSource               parserSource;
+    private final OpenMetadataArchiveContentHandler contentHandler;
+    private final int                               segmentSize;
+
+    private JsonParser                    parser               = null;
+    private OpenMetadataArchiveProperties archiveProperties    = null;
+    private OpenMetadataArchiveTypeStore  archiveTypeStore     = null;
+    private boolean                       instanceStoreSkipped = false;
+    private boolean                       headerPassed         = false;
+
+
+    /**
+     * Constructor supplies the source and destination of the archive contents.
+     *
+     * @param parserSource opens the archive; it is called a second time if the instance store comes before the header
+     * @param contentHandler receiver of the archive contents
+     * @param segmentSize maximum number of instances passed to the handler at once
+     */
+    OpenMetadataArchiveStreamReader(ArchiveParserSource               parserSource,
+                                    OpenMetadataArchiveContentHandler contentHandler,
+                                    int                               segmentSize)
+    {
+        this.parserSource   = parserSource;
+        this.contentHandler = contentHandler;
+        this.segmentSize    = segmentSize;
+    }
+
+
+    /**
+     * Read the archive, passing its contents to the content handler.
+     *
+     * @return false if the archive is empty
+     * @throws IOException the archive is not readable
+     */
+    boolean readArchive() throws IOException
+    {
+        try (JsonParser archiveParser = parserSource.openParser())
+        {
+            parser = archiveParser;
+
+            if (! this.startArchive())
+            {
+                return false;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.currentName();
+
+                parser.nextToken();
+
+                if (archivePropertiesField.equals(fieldName))
+                {
+                    this.validateHeaderField(fieldName);
+                    archiveProperties = parser.readValueAs(OpenMetadataArchiveProperties.class);
+                }
+                else if (archiveTypeStoreField.equals(fieldName))
+                {
+                    this.validateHeaderField(fieldName);
+                    archiveTypeStore = parser.readValueAs(OpenMetadataArchiveTypeStore.class);
+                }
+                else if (archiveInstanceStoreField.equals(fieldName))
+                {
+                    if ((archiveProperties == null) || (archiveTypeStore == null))
+                    {
+                        /*
+                         * The instances can not be processed until the whole header is known.  The header
+                         * may still be to come so the instance store is read again once it has been found.
+                         */
+                        instanceStoreSkipped = true;
+                        parser.skipChildren();
+                    }
+                    else
+                    {
+                        this.passHeader();
+                        this.readInstanceStore();
+                    }
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        this.passHeader();
+
+        if (instanceStoreSkipped)
+        {
+            this.rereadInstanceStore();
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Open the archive a second time and stream its instance store to the content handler.
+     *
+     * @throws IOException the archive is not readable
+     */
+    private void rereadInstanceStore() throws IOException
+    {
+        try (JsonParser archiveParser = parserSource.openParser())
+        {
+            parser = archiveParser;
+
+            if (! this.startArchive())
+            {
+                throw new IOException("Open metadata archive is empty when it is read for the second time");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.currentName();
+
+                parser.nextToken();
+
+                if (archiveInstanceStoreField.equals(fieldName))
+                {
+                    this.readInstanceStore();
+                    return;
+                }
+
+                parser.skipChildren();
+            }
+        }
+    }
+
+
+    /**
+     * Move the parser onto the start of the archive.
+     *
+     * @return false if the archive is empty
+     * @throws IOException the archive does not start with an object
+     */
+    private boolean startArchive() throws IOException
+    {
+        JsonToken token = parser.nextToken();
+
+        if ((token == null) || (token == JsonToken.VALUE_NULL))
+        {
+            return false;
+        }
+
+        if (token != JsonToken.START_OBJECT)
+        {
+            throw new IOException("Open metadata archive does not start with an object: " + token);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Reject a part of the header that arrives after the header has been passed to the content handler.
+     * This only happens if the archive repeats a header field after the instance store.
+     *
+     * @param fieldName name of the header field
+     * @throws IOException the header field is out of place
+     */
+    private void validateHeaderField(String fieldName) throws IOException
+    {
+        if (headerPassed)
+        {
+            throw new IOException("Open metadata archive has a second " + fieldName + " after its instance store");
+        }
+    }
+
+
+    /**
+     * Pass the header to the content handler if it has not already been passed.
+     */
+    private void passHeader()
+    {
+        if (! headerPassed)
+        {
+            headerPassed = true;
+            contentHandler.processArchiveHeader(archiveProperties, archiveTypeStore);
+        }
+    }
+
+
+    /**
+     * Read the instance store, passing its entities, relationships and classifications to the content handler
+     * in segments.  The parser is positioned on the start of the instance store.
+     *
+     * @throws IOException the archive is not readable
+     */
+    private void readInstanceStore() throws IOException
+    {
+        if (parser.currentToken() != JsonToken.START_OBJECT)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.currentName();
+
+            parser.nextToken();
+
+            if (parser.currentToken() != JsonToken.START_ARRAY)
+            {
+                parser.skipChildren();
+            }
+            else if (entitiesField.equals(fieldName))
+            {
+                List<EntityDetail> entities = new ArrayList<>();
+
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    if (parser.currentToken() != JsonToken.VALUE_NULL)
+                    {
+                        entities.add(parser.readValueAs(EntityDetail.class));
+                    }
+
+                    if (entities.size() == segmentSize)
+                    {
+                        this.passEntities(entities);
+                        entities = new ArrayList<>();
+                    }
+                }
+
+                this.passEntities(entities);
+            }
+            else if (relationshipsField.equals(fieldName))
+            {
+                List<Relationship> relationships = new ArrayList<>();
+
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    if (parser.currentToken() != JsonToken.VALUE_NULL)
+                    {
+                        relationships.add(parser.readValueAs(Relationship.class));
+                    }
+
+                    if (relationships.size() == segmentSize)
+                    {
+                        this.passRelationships(relationships);
+                        relationships = new ArrayList<>();
+                    }
+                }
+
+                this.passRelationships(relationships);
+            }
+            else if (classificationsField.equals(fieldName))
+            {
+                List<ClassificationEntityExtension> classifications = new ArrayList<>();
+
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    if (parser.currentToken() != JsonToken.VALUE_NULL)
+                    {
+                        classifications.add(parser.readValueAs(ClassificationEntityExtension.class));
+                    }
+
+                    if (classifications.size() == segmentSize)
+                    {
+                        this.passClassifications(classifications);
+                        classifications = new ArrayList<>();
+                    }
+                }
+
+                this.passClassifications(classifications);
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+
+
+    /**
+     * Pass a segment of entities to the content handler.
+     *
+     * @param entities entities read from the archive
+     */
+    private void passEntities(List<EntityDetail> entities)
+    {
+        if (! entities.isEmpty())
+        {
+            OpenMetadataArchiveInstanceStore instanceSegment = new OpenMetadataArchiveInstanceStore();
+
+            instanceSegment.setEntities(entities);
+            contentHandler.processInstanceSegment(instanceSegment);
+        }
+    }
+
+
+    /**
+     * Pass a segment of relationships to the content handler.
+     *
+     * @param relationships relationships read from the archive
+     */
+    private void passRelationships(List<Relationship> relationships)
+    {
+        if (! relationships.isEmpty())
+        {
+            OpenMetadataArchiveInstanceStore instanceSegment = new OpenMetadataArchiveInstanceStore();
+
+            instanceSegment.setRelationships(relationships);
+            contentHandler.processInstanceSegment(instanceSegment);
+        }
+    }
+
+
+    /**
+     * Pass a segment of classifications to the content handler.
+     *
+     * @param classifications classifications read from the archive
+     */
+    private void passClassifications(List<ClassificationEntityExtension> classifications)
+    {
+        if (! classifications.isEmpty())
+        {
+            OpenMetadataArchiveInstanceStore instanceSegment = new OpenMetadataArchiveInstanceStore();
+
+            instanceSegment.setClassifications(classifications);
+            contentHandler.processInstanceSegment(instanceSegment);
+        }
+    }
+}
@@ -0,0 +1,529 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test the reading and writing of open metadata archive files in each of the supported formats.
+ */
+public class FileBasedOpenMetadataArchiveStoreConnectorTest
+{
+    private static final String archiveGUID = "testArchiveGUID";
+    private static final String archiveName = "TestArchive";
+    private static final int    segmentSize = 1000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private File archiveFile;
+
+
+    /**
+     * Create a file for the archive.
+     *
+     * @throws IOException unable to create the file
+     */
+    @BeforeMethod
+    public void setUp() throws IOException
+    {
+        archiveFile = File.createTempFile("test", ".omarchive");
+    }
+
+
+    /**
+     * Remove the archive file.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        archiveFile.delete();
+    }
+
+
+    /**
+     * The supported combinations of encoding and compression.
+     *
+     * @return encoding, compress flag
+     */
+    @DataProvider(name = "archiveFormats")
+    public Object[][] archiveFormats()
+    {
+        return new Object[][]
+                {
+                        { FileBasedOpenMetadataArchiveStoreProvider.JSON_ENCODING,  false },
+                        { FileBasedOpenMetadataArchiveStoreProvider.JSON_ENCODING,  true },
+                        { FileBasedOpenMetadataArchiveStoreProvider.SMILE_ENCODING, false },
+                        { FileBasedOpenMetadataArchiveStoreProvider.SMILE_ENCODING, true }
+                };
+    }
+
+
+    /**
+     * An archive written in each format is read back in full and streamed.
+     *
+     * @param encoding archive encoding
+     * @param compress flag to say whether the archive is compressed
+     * @throws Exception problem with the test
+     */
+    @Test(dataProvider = "archiveFormats")
+    public void testRoundTrip(String  encoding,
+                              boolean compress) throws Exception
+    {
+        FileBasedOpenMetadataArchiveStoreConnector connector = this.getConnector(encoding, compress);
+
+        connector.setArchiveContents(this.getArchive(3, 2));
+
+        byte[] leadingBytes = this.getLeadingBytes();
+
+        if (compress)
+        {
+            assertEquals(leadingBytes[0] & 0xff, 0x1f);
+            assertEquals(leadingBytes[1] & 0xff, 0x8b);
+        }
+        else if (FileBasedOpenMetadataArchiveStoreProvider.SMILE_ENCODING.equals(encoding))
+        {
+            assertEquals(new String(leadingBytes, 0, 2), ":)");
+        }
+        else
+        {
+            assertEquals((char) leadingBytes[0], '{');
+        }
+
+        OpenMetadataArchive archive = connector.getArchiveContents();
+
+        assertNotNull(archive);
+        assertEquals(archive.getArchiveProperties().getArchiveGUID(), archiveGUID);
+        assertEquals(archive.getArchiveTypeStore().getNewTypeDefs().size(), 1);
+        assertEquals(this.getEntityGUIDs(archive.getArchiveInstanceStore().getEntities()), List.of("entity0", "entity1", "entity2"));
+        assertEquals(this.getRelationshipGUIDs(archive.getArchiveInstanceStore().getRelationships()), List.of("relationship0", "relationship1"));
+
+        TestContentHandler contentHandler = new TestContentHandler();
+
+        assertTrue(connector.streamArchiveContents(contentHandler));
+
+        assertEquals(contentHandler.headerCount, 1);
+        assertEquals(contentHandler.archiveProperties.getArchiveGUID(), archiveGUID);
+        assertEquals(contentHandler.archiveTypeStore.getNewTypeDefs().size(), 1);
+        assertEquals(this.getEntityGUIDs(contentHandler.entities), List.of("entity0", "entity1", "entity2"));
+        assertEquals(this.getRelationshipGUIDs(contentHandler.relationships), List.of("relationship0", "relationship1"));
+    }
+
+
+    /**
+     * An empty archive file returns no contents.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testEmptyArchive() throws Exception
+    {
+        Files.writeString(archiveFile.toPath(), "null");
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = this.getConnector(null, false);
+        TestContentHandler                         contentHandler = new TestContentHandler();
+
+        assertFalse(connector.streamArchiveContents(contentHandler));
+        assertEquals(contentHandler.headerCount, 0);
+        assertTrue(contentHandler.segments.isEmpty());
+    }
+
+
+    /**
+     * The instance store is passed after the header even when it comes before the archive properties
+     * and type store in the file.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testInstanceStoreBeforeHeader() throws Exception
+    {
+        OpenMetadataArchive archive = this.getArchive(3, 2);
+
+        ObjectNode archiveNode = OBJECT_MAPPER.createObjectNode();
+
+        archiveNode.set("archiveInstanceStore", OBJECT_MAPPER.valueToTree(archive.getArchiveInstanceStore()));
+        archiveNode.set("archiveProperties", OBJECT_MAPPER.valueToTree(archive.getArchiveProperties()));
+        archiveNode.set("archiveTypeStore", OBJECT_MAPPER.valueToTree(archive.getArchiveTypeStore()));
+
+        OBJECT_MAPPER.writeValue(archiveFile, archiveNode);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = this.getConnector(null, false);
+        TestContentHandler                         contentHandler = new TestContentHandler();
+
+        assertTrue(connector.streamArchiveContents(contentHandler));
+
+        assertEquals(contentHandler.headerCount, 1);
+        assertEquals(contentHandler.archiveProperties.getArchiveGUID(), archiveGUID);
+        assertNotNull(contentHandler.archiveTypeStore);
+        assertEquals(contentHandler.archiveTypeStore.getNewTypeDefs().size(), 1);
+        assertEquals(this.getEntityGUIDs(contentHandler.entities), List.of("entity0", "entity1", "entity2"));
+        assertEquals(this.getRelationshipGUIDs(contentHandler.relationships), List.of("relationship0", "relationship1"));
+    }
+
+
+    /**
+     * The type store is not lost when it comes after the instance store.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testTypeStoreAfterInstanceStore() throws Exception
+    {
+        OpenMetadataArchive archive = this.getArchive(2, 1);
+
+        ObjectNode archiveNode = OBJECT_MAPPER.createObjectNode();
+
+        archiveNode.set("archiveProperties", OBJECT_MAPPER.valueToTree(archive.getArchiveProperties()));
+        archiveNode.set("archiveInstanceStore", OBJECT_MAPPER.valueToTree(archive.getArchiveInstanceStore()));
+        archiveNode.set("archiveTypeStore", OBJECT_MAPPER.valueToTree(archive.getArchiveTypeStore()));
+
+        OBJECT_MAPPER.writeValue(archiveFile, archiveNode);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = this.getConnector(null, false);
+        TestContentHandler                         contentHandler = new TestContentHandler();
+
+        assertTrue(connector.streamArchiveContents(contentHandler));
+
+        assertEquals(contentHandler.headerCount, 1);
+        assertNotNull(contentHandler.archiveTypeStore);
+        assertEquals(this.getEntityGUIDs(contentHandler.entities), List.of("entity0", "entity1"));
+        assertEquals(this.getRelationshipGUIDs(contentHandler.relationships), List.of("relationship0"));
+    }
+
+
+    /**
+     * An archive without a type store passes a null type store with the header.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testArchiveWithoutTypeStore() throws Exception
+    {
+        OpenMetadataArchive archive = this.getArchive(2, 0);
+
+        archive.setArchiveTypeStore(null);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = this.getConnector(null, false);
+
+        connector.setArchiveContents(archive);
+
+        TestContentHandler contentHandler = new TestContentHandler();
+
+        assertTrue(connector.streamArchiveContents(contentHandler));
+
+        assertEquals(contentHandler.headerCount, 1);
+        assertNull(contentHandler.archiveTypeStore);
+        assertEquals(this.getEntityGUIDs(contentHandler.entities), List.of("entity0", "entity1"));
+    }
+
+
+    /**
+     * A header field repeated after the instance store has been streamed is reported as an error
+     * rather than being ignored.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testRepeatedHeaderAfterInstanceStore() throws Exception
+    {
+        OpenMetadataArchive archive = this.getArchive(1, 0);
+
+        String archiveJSON = "{\"archiveProperties\":"    + OBJECT_MAPPER.writeValueAsString(archive.getArchiveProperties())
+                           + ",\"archiveTypeStore\":"     + OBJECT_MAPPER.writeValueAsString(archive.getArchiveTypeStore())
+                           + ",\"archiveInstanceStore\":" + OBJECT_MAPPER.writeValueAsString(archive.getArchiveInstanceStore())
+                           + ",\"archiveTypeStore\":"     + OBJECT_MAPPER.writeValueAsString(archive.getArchiveTypeStore())
+                           + "}";
+
+        Files.writeString(archiveFile.toPath(), archiveJSON);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = this.getConnector(null, false);
+
+        expectThrows(RepositoryErrorException.class, () -> connector.streamArchiveContents(new TestContentHandler()));
+    }
+
+
+    /**
+     * The instances are passed in segments of at most the segment size.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testSegmentBoundary() throws Exception
+    {
+        FileBasedOpenMetadataArchiveStoreConnector connector = this.getConnector(null, false);
+
+        connector.setArchiveContents(this.getArchive(segmentSize, segmentSize + 1));
+
+        TestContentHandler contentHandler = new TestContentHandler();
+
+        assertTrue(connector.streamArchiveContents(contentHandler));
+
+        List<Integer> segmentSizes = new ArrayList<>();
+
+        for (OpenMetadataArchiveInstanceStore segment : contentHandler.segments)
+        {
+            if (segment.getEntities() != null)
+            {
+                segmentSizes.add(segment.getEntities().size());
+            }
+            else
+            {
+                segmentSizes.add(-segment.getRelationships().size());
+            }
+        }
+
+        /*
+         * Entities are positive and relationships negative.  A full segment is not followed by an empty one.
+         */
+        assertEquals(segmentSizes, List.of(segmentSize, -segmentSize, -1));
+        assertEquals(contentHandler.entities.size(), segmentSize);
+        assertEquals(contentHandler.relationships.get(segmentSize).getGUID(), "relationship" + segmentSize);
+    }
+
+
+    /**
+     * Create a connector for the archive file.
+     *
+     * @param encoding encoding used to write the archive (null for the default)
+     * @param compress flag to say whether the archive is compressed when it is written
+     * @return initialized connector
+     * @throws Exception problem initializing the connector
+     */
+    private FileBasedOpenMetadataArchiveStoreConnector getConnector(String  encoding,
+                                                                    boolean compress) throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setNetworkAddress(archiveFile.getAbsolutePath());
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        if (encoding != null)
+        {
+            configurationProperties.put(FileBasedOpenMetadataArchiveStoreProvider.ARCHIVE_ENCODING_PROPERTY, encoding);
+        }
+
+        if (compress)
+        {
+            configurationProperties.put(FileBasedOpenMetadataArchiveStoreProvider.COMPRESS_ARCHIVE_PROPERTY, "true");
+        }
+
+        Connection connection = new Connection();
+
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = new FileBasedOpenMetadataArchiveStoreConnector();
+
+        connector.initialize("testConnector", connection);
+
+        return connector;
+    }
+
+
+    /**
+     * Build an archive with a type and the requested number of instances.
+     *
+     * @param entityCount number of entities
+     * @param relationshipCount number of relationships
+     * @return archive
+     */
+    private OpenMetadataArchive getArchive(int entityCount,
+                                           int relationshipCount)
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID(archiveGUID);
+        archiveProperties.setArchiveName(archiveName);
+
+        EntityDef entityDef = new EntityDef();
+
+        entityDef.setGUID("testTypeGUID");
+        entityDef.setName("TestType");
+
+        List<TypeDef> newTypeDefs = new ArrayList<>();
+        newTypeDefs.add(entityDef);
+
+        OpenMetadataArchiveTypeStore archiveTypeStore = new OpenMetadataArchiveTypeStore();
+
+        archiveTypeStore.setNewTypeDefs(newTypeDefs);
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int index = 0; index < entityCount; index++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID("entity" + index);
+            entity.setMetadataCollectionId(archiveGUID);
+            entities.add(entity);
+        }
+
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (int index = 0; index < relationshipCount; index++)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID("relationship" + index);
+            relationship.setMetadataCollectionId(archiveGUID);
+            relationships.add(relationship);
+        }
+
+        OpenMetadataArchiveInstanceStore archiveInstanceStore = new OpenMetadataArchiveInstanceStore();
+
+        archiveInstanceStore.setEntities(entities);
+        archiveInstanceStore.setRelationships(relationships);
+
+        OpenMetadataArchive archive = new OpenMetadataArchive();
+
+        archive.setArchiveProperties(archiveProperties);
+        archive.setArchiveTypeStore(archiveTypeStore);
+        archive.setArchiveInstanceStore(archiveInstanceStore);
+
+        return archive;
+    }
+
+
+    /**
+     * Return the first few bytes of the archive file.
+     *
+     * @return leading bytes
+     * @throws IOException unable to read the file
+     */
+    private byte[] getLeadingBytes() throws IOException
+    {
+        try (InputStream inputStream = new FileInputStream(archiveFile))
+        {
+            return inputStream.readNBytes(3);
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities in order.
+     *
+     * @param entities entities
+     * @return list of guids
+     */
+    private List<String> getEntityGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the unique identifiers of the relationships in order.
+     *
+     * @param relationships relationships
+     * @return list of guids
+     */
+    private List<String> getRelationshipGUIDs(List<Relationship> relationships)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            guids.add(relationship.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Content handler that records what it is passed and checks that the header comes first.
+     */
+    private static class TestContentHandler implements OpenMetadataArchiveContentHandler
+    {
+        int                                    headerCount       = 0;
+        OpenMetadataArchiveProperties          archiveProperties = null;
+        OpenMetadataArchiveTypeStore           archiveTypeStore  = null;
+        List<OpenMetadataArchiveInstanceStore> segments          = new ArrayList<>();
+        List<EntityDetail>                     entities          = new ArrayList<>();
+        List<Relationship>                     relationships     = new ArrayList<>();
+
+
+        /**
+         * Save the header.
+         *
+         * @param archiveProperties properties of the archive (may be null if the archive has no header)
+         * @param archiveTypeStore type definitions from the archive (may be null)
+         */
+        @Override
+        public void processArchiveHeader(OpenMetadataArchiveProperties archiveProperties,
+                                         OpenMetadataArchiveTypeStore  archiveTypeStore)
+        {
+            assertTrue(segments.isEmpty(), "Header passed after the instances");
+
+            this.headerCount++;
+            this.archiveProperties = archiveProperties;
+            this.archiveTypeStore = archiveTypeStore;
+        }
+
+
+        /**
+         * Save the instances.
+         *
+         * @param instanceSegment instances read from the archive
+         */
+        @Override
+        public void processInstanceSegment(OpenMetadataArchiveInstanceStore instanceSegment)
+        {
+            assertEquals(headerCount, 1, "Instances passed before the header");
+
+            segments.add(instanceSegment);
+
+            if (instanceSegment.getEntities() != null)
+            {
+                entities.addAll(instanceSegment.getEntities());
+            }
+
+            if (instanceSegment.getRelationships() != null)
+            {
+                relationships.addAll(instanceSegment.getRelationships());
+            }
+        }
+    }
+}
@@ -57,6 +57,50 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the names of the type identified by the supplied GUID and all of its subtypes.  This is used to
+     * select the candidate instances for a query from the repository store's type index.
+     *
+     * @param typeGUID unique identifier of the type (or null for any type)
+     * @return list of type names or null meaning no restriction on type
+     */
+    private List<String> getTypeNamesForQuery(String typeGUID)
+    {
+        final String methodName        = "getTypeNamesForQuery";
+        final String typeParameterName = "typeGUID";
+
+        if (typeGUID == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, typeParameterName, typeGUID, methodName);
+
+            List<String> typeNames = new ArrayList<>();
+
+            typeNames.add(typeDef.getName());
+
+            List<String> subTypeNames = repositoryHelper.getSubTypesOf(repositoryName, typeDef.getName());
+
+            if (subTypeNames != null)
+            {
+                typeNames.addAll(subTypeNames);
+            }
+
+            return typeNames;
+        }
+        catch (TypeErrorException error)
+        {
+            /*
+             * The type is not known so all instances need to be checked.
+             */
+            return null;
+        }
+    }
+
+
     /* ===================================================
      * Group 3: Locating entity and relationship instances
      */
@@ -217,7 +261,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        EntityDetail  entity = repositoryStore.timeWarpEntityStore(asOfTime).get(guid);
+        EntityDetail  entity = repositoryStore.getEntity(guid, asOfTime);
         if (entity == null)
         {
             EntityProxy  entityProxy = repositoryStore.getEntityProxy(guid);
@@ -306,9 +350,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
         List<Relationship> entityRelationships = new ArrayList<>();
 
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
-
-        for (Relationship  storedRelationship : relationshipStore.values())
+        for (Relationship  storedRelationship : repositoryStore.getCandidateRelationships(null, entityGUID, asOfTime))
         {
             if (storedRelationship != null)
             {
@@ -416,13 +458,15 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all
-         * the stored entities.
+         * The candidate entities are located through the store's type and classification indexes
+         * and then each one is checked against the full search criteria.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>      foundEntities = new ArrayList<>();
+        Iterable<EntityDetail>  candidateEntities = repositoryStore.getCandidateEntities(this.getTypeNamesForQuery(entityTypeGUID),
+                                                                                         limitResultsByClassification,
+                                                                                         asOfTime);
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -516,13 +560,15 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all
-         * the stored entities.
+         * The candidate entities are located through the store's type index and then each one is checked
+         * against the full search criteria.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>      foundEntities = new ArrayList<>();
+        Iterable<EntityDetail>  candidateEntities = repositoryStore.getCandidateEntities(this.getTypeNamesForQuery(entityTypeGUID),
+                                                                                         null,
+                                                                                         asOfTime);
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -613,16 +659,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all
-         * the stored entities.
+         * The candidate entities are located through the store's type and classification indexes
+         * and then each one is checked against the full search criteria.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
         List<EntityDetail>          foundEntities = new ArrayList<>();
 
         List<String>                classificationList = new ArrayList<>();
         classificationList.add(classificationName);
 
-        for (EntityDetail  entity : entityStore.values())
+        Iterable<EntityDetail>      candidateEntities = repositoryStore.getCandidateEntities(this.getTypeNamesForQuery(entityTypeGUID),
+                                                                                             classificationList,
+                                                                                             asOfTime);
+
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -742,12 +791,15 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Process operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all
-         * the stored entities.
+         * The candidate entities are located through the store's type and classification indexes
+         * and then each one is checked against the search string.
          */
-        List<EntityDetail>   foundEntities = new ArrayList<>();
+        List<EntityDetail>      foundEntities = new ArrayList<>();
+        Iterable<EntityDetail>  candidateEntities = repositoryStore.getCandidateEntities(this.getTypeNamesForQuery(entityTypeGUID),
+                                                                                         limitResultsByClassification,
+                                                                                         asOfTime);
 
-        for (EntityDetail  entity : repositoryStore.timeWarpEntityStore(asOfTime).values())
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -872,7 +924,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        Relationship  relationship = repositoryStore.timeWarpRelationshipStore(asOfTime).get(guid);
+        Relationship  relationship = repositoryStore.getRelationship(guid, asOfTime);
 
         repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
         repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, relationship, methodName);
@@ -1040,13 +1092,15 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all
-         * the stored entities.
+         * The candidate relationships are located through the store's type index and then each one is checked
+         * against the full search criteria.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        List<Relationship>      foundRelationships = new ArrayList<>();
+        Iterable<Relationship>  candidateRelationships = repositoryStore.getCandidateRelationships(this.getTypeNamesForQuery(relationshipTypeGUID),
+                                                                                                   null,
+                                                                                                   asOfTime);
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : candidateRelationships)
         {
             if (relationship != null)
             {
@@ -1139,13 +1193,15 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all
-         * the stored entities.
+         * The candidate relationships are located through the store's type index and then each one is checked
+         * against the full search criteria.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        List<Relationship>      foundRelationships = new ArrayList<>();
+        Iterable<Relationship>  candidateRelationships = repositoryStore.getCandidateRelationships(this.getTypeNamesForQuery(relationshipTypeGUID),
+                                                                                                   null,
+                                                                                                   asOfTime);
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : candidateRelationships)
         {
             if (relationship != null)
             {
@@ -1242,12 +1298,15 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all
-         * the stored relationships.
+         * The candidate relationships are located through the store's type index and then each one is checked
+         * against the search string.
          */
-        List<Relationship>  foundRelationships = new ArrayList<>();
+        List<Relationship>      foundRelationships = new ArrayList<>();
+        Iterable<Relationship>  candidateRelationships = repositoryStore.getCandidateRelationships(this.getTypeNamesForQuery(relationshipTypeGUID),
+                                                                                                   null,
+                                                                                                   asOfTime);
 
-        for (Relationship  relationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
+        for (Relationship  relationship : candidateRelationships)
         {
             if (relationship != null)
             {
@@ -4259,6 +4318,117 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Save the entities and relationships supplied in the instance graph as a reference copies.
+     * The id of the home metadata collection is already set up in the instances.
+     * Any instances from the home metadata collection are ignored.  All the instances are validated before
+     * any are stored, and the batch is then stored in a single update to the store.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances instances to save.
+     * @throws InvalidParameterException the relationship is null.
+     * @throws RepositoryErrorException a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              EntityNotKnownException,
+                                                                              PropertyErrorException,
+                                                                              EntityConflictException,
+                                                                              RelationshipConflictException,
+                                                                              InvalidEntityException,
+                                                                              InvalidRelationshipException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String methodName                = "saveInstanceReferenceCopies";
+        final String entityParameterName       = "entity";
+        final String relationshipParameterName = "relationship";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                {
+                    repositoryValidator.validateReferenceInstanceHeader(repositoryName,
+                                                                        metadataCollectionId,
+                                                                        entityParameterName,
+                                                                        entity,
+                                                                        auditLog,
+                                                                        methodName);
+
+                    TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, entityParameterName, entity.getType().getTypeDefGUID(), methodName);
+
+                    repositoryValidator.validatePropertiesForType(repositoryName,
+                                                                  entityParameterName,
+                                                                  typeDef,
+                                                                  entity.getProperties(),
+                                                                  methodName);
+                    entities.add(entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+                    repositoryValidator.validateReferenceInstanceHeader(repositoryName,
+                                                                        metadataCollectionId,
+                                                                        relationshipParameterName,
+                                                                        relationship,
+                                                                        auditLog,
+                                                                        methodName);
+
+                    TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, relationshipParameterName, relationship.getType().getTypeDefGUID(), methodName);
+
+                    repositoryValidator.validatePropertiesForType(repositoryName,
+                                                                  relationshipParameterName,
+                                                                  typeDef,
+                                                                  relationship.getProperties(),
+                                                                  methodName);
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        repositoryStore.addInstancesToStore(entities, relationships);
+    }
+
+
     /**
      * Remove the reference copy of the relationship from the local repository. This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
@@ -10,9 +10,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * InMemoryOMRSMetadataStore provides the in memory store for the InMemoryRepositoryConnector.
+ * Changes to the store are serialized through the store's monitor.  Each stored instance publishes an immutable
+ * snapshot of its current version and history on every change, so reads do not need to take any locks.
  */
 class InMemoryOMRSMetadataStore
 {
@@ -20,8 +24,17 @@ class InMemoryOMRSMetadataStore
     private final OMRSRepositoryHelper repositoryHelper;
     private final String               localMetadataCollectionId;
 
-    private volatile Map<String, StoredEntity>       entityStore       = new HashMap<>();
-    private volatile Map<String, StoredRelationship> relationshipStore = new HashMap<>();
+    private final Map<String, StoredEntity>       entityStore       = new ConcurrentHashMap<>();
+    private final Map<String, StoredRelationship> relationshipStore = new ConcurrentHashMap<>();
+
+    /*
+     * Secondary indexes over the current versions of the stored instances.  They are maintained whenever an
+     * instance is created, updated or purged so that current-time queries only visit the candidate instances.
+     */
+    private final Map<String, Set<String>> entityGUIDsByTypeName           = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> entityGUIDsByClassificationName = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> relationshipGUIDsByTypeName     = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> relationshipGUIDsByEntityGUID   = new ConcurrentHashMap<>();
 
     private static final Logger log = LoggerFactory.getLogger(InMemoryOMRSMetadataStore.class);
 
@@ -35,11 +48,11 @@ class InMemoryOMRSMetadataStore
      * @param versionEndTime time when this version was superseded
      * @return boolean flag - true means it is valid
      */
-    static synchronized List<Classification> getClassificationsForInclusiveDate(String               classificationName,
-                                                                                Date                 fromTime,
-                                                                                Date                 toTime,
-                                                                                List<Classification> classifications,
-                                                                                Date                 versionEndTime)
+    static List<Classification> getClassificationsForInclusiveDate(String               classificationName,
+                                                                   Date                 fromTime,
+                                                                   Date                 toTime,
+                                                                   List<Classification> classifications,
+                                                                   Date                 versionEndTime)
     {
         if ((classifications != null) && (! classifications.isEmpty()))
         {
@@ -79,10 +92,10 @@ class InMemoryOMRSMetadataStore
      * @param versionEndTime time when this version was superseded
      * @return boolean flag - true means it is valid
      */
-    static synchronized boolean checkInclusiveDate(Date                fromTime,
-                                                   Date                toTime,
-                                                   InstanceAuditHeader instanceHeader,
-                                                   Date                versionEndTime)
+    static boolean checkInclusiveDate(Date                fromTime,
+                                      Date                toTime,
+                                      InstanceAuditHeader instanceHeader,
+                                      Date                versionEndTime)
     {
         Date versionStartTime = instanceHeader.getUpdateTime();
 
@@ -133,7 +146,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the entity
      * @return entity object
      */
-    synchronized EntityDetail  getEntity(String guid)
+    EntityDetail  getEntity(String guid)
     {
         StoredEntity storedEntity = entityStore.get(guid);
 
@@ -152,7 +165,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the entity
      * @return entity object
      */
-    synchronized EntitySummary  getEntitySummary(String guid)
+    EntitySummary  getEntitySummary(String guid)
     {
         StoredEntity storedEntity = entityStore.get(guid);
 
@@ -178,7 +191,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier
      * @return entity proxy object
      */
-    synchronized EntityProxy  getEntityProxy(String guid)
+    EntityProxy  getEntityProxy(String guid)
     {
         StoredEntity storedEntity = entityStore.get(guid);
 
@@ -192,27 +205,93 @@ class InMemoryOMRSMetadataStore
 
 
     /**
-     * Return an entity store that contains entities as they were at the time supplied in the asOfTime
-     * parameter
+     * Return the version of the entity identified by the guid that was active at the asOfTime.
+     *
+     * @param guid - unique identifier for the entity
+     * @param asOfTime - time for the entity (or null means now)
+     * @return entity object or null if not known at this time
+     */
+    EntityDetail  getEntity(String guid,
+                            Date   asOfTime)
+    {
+        StoredEntity storedEntity = entityStore.get(guid);
+
+        if (storedEntity != null)
+        {
+            return storedEntity.getEntity(asOfTime);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the entities that could match a query.  For current-time queries, the candidates are located through
+     * the type and classification indexes.  Historical queries examine each stored entity, skipping those that have
+     * never had one of the requested types or classifications before resolving the version active at the asOfTime.
+     * The entities are resolved lazily as the caller iterates through the results, so no copy of the store is made.
+     * The caller still needs to verify that each returned entity matches its full search criteria.
      *
+     * @param typeNames - names of the types the entities must be one of (or null means any type)
+     * @param classificationNames - names of the classifications that must all be attached (or null means no restriction)
      * @param asOfTime - time for the store (or null means now)
-     * @return entity store for the requested time
+     * @return candidate entities
      */
-    synchronized Map<String, EntityDetail>  timeWarpEntityStore(Date asOfTime)
+    Iterable<EntityDetail>  getCandidateEntities(Collection<String> typeNames,
+                                                 Collection<String> classificationNames,
+                                                 Date               asOfTime)
     {
-        Map<String, EntityDetail>  timeWarpedEntityStore = new HashMap<>();
+        if (asOfTime != null)
+        {
+            return new ResolvingView<>(entityStore.values(),
+                                       storedEntity -> storedEntity.getEntity(typeNames, classificationNames, asOfTime));
+        }
 
-        for (StoredEntity storedEntity : entityStore.values())
+        Set<String> candidateGUIDs = null;
+
+        if (typeNames != null)
         {
-            EntityDetail entityDetail = storedEntity.getEntity(asOfTime);
+            candidateGUIDs = new HashSet<>();
 
-            if (entityDetail != null)
+            for (String typeName : typeNames)
             {
-                timeWarpedEntityStore.put(entityDetail.getGUID(), entityDetail);
+                Set<String> typeGUIDs = entityGUIDsByTypeName.get(typeName);
+
+                if (typeGUIDs != null)
+                {
+                    candidateGUIDs.addAll(typeGUIDs);
+                }
             }
         }
 
-        return timeWarpedEntityStore;
+        if (classificationNames != null)
+        {
+            for (String classificationName : classificationNames)
+            {
+                Set<String> classifiedGUIDs = entityGUIDsByClassificationName.get(classificationName);
+
+                if (classifiedGUIDs == null)
+                {
+                    return new ArrayList<>();
+                }
+
+                if (candidateGUIDs == null)
+                {
+                    candidateGUIDs = new HashSet<>(classifiedGUIDs);
+                }
+                else
+                {
+                    candidateGUIDs.retainAll(classifiedGUIDs);
+                }
+            }
+        }
+
+        if (candidateGUIDs == null)
+        {
+            return new ResolvingView<>(entityStore.values(), StoredEntity::getEntity);
+        }
+
+        return new ResolvingView<>(candidateGUIDs, this::getEntity);
     }
 
 
@@ -222,7 +301,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the relationship
      * @return relationship object
      */
-    synchronized Relationship  getRelationship(String guid)
+    Relationship  getRelationship(String guid)
     {
         StoredRelationship storedRelationship = relationshipStore.get(guid);
 
@@ -236,27 +315,93 @@ class InMemoryOMRSMetadataStore
 
 
     /**
-     * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
-     * parameter
+     * Return the version of the relationship identified by the guid that was active at the asOfTime.
      *
+     * @param guid - unique identifier for the relationship
+     * @param asOfTime - time for the relationship (or null means now)
+     * @return relationship object or null if not known at this time
+     */
+    Relationship  getRelationship(String guid,
+                                  Date   asOfTime)
+    {
+        StoredRelationship storedRelationship = relationshipStore.get(guid);
+
+        if (storedRelationship != null)
+        {
+            return storedRelationship.getRelationship(asOfTime);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the relationships that could match a query.  For current-time queries, the candidates are located
+     * through the type and relationship end indexes.  Historical queries examine each stored relationship, skipping
+     * those that have never had one of the requested types or are not attached to the requested entity before
+     * resolving the version active at the asOfTime.  The relationships are resolved lazily as the caller iterates
+     * through the results.  The caller still needs to verify that each returned relationship matches its full
+     * search criteria.
+     *
+     * @param typeNames - names of the types the relationships must be one of (or null means any type)
+     * @param entityGUID - unique identifier of an entity that must be at one of the ends (or null means any entity)
      * @param asOfTime - time for the store (or null means now)
-     * @return relationship store for the requested time
+     * @return candidate relationships
      */
-    synchronized Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    Iterable<Relationship>  getCandidateRelationships(Collection<String> typeNames,
+                                                      String             entityGUID,
+                                                      Date               asOfTime)
     {
-        Map<String, Relationship>  timeWarpedRelationshipStore = new HashMap<>();
+        if (asOfTime != null)
+        {
+            return new ResolvingView<>(relationshipStore.values(),
+                                       storedRelationship -> storedRelationship.getRelationship(typeNames, entityGUID, asOfTime));
+        }
+
+        Set<String> candidateGUIDs = null;
 
-        for (StoredRelationship storedRelationship : relationshipStore.values())
+        if (entityGUID != null)
         {
-            Relationship relationship = storedRelationship.getRelationship(asOfTime);
+            Set<String> attachedGUIDs = relationshipGUIDsByEntityGUID.get(entityGUID);
 
-            if (relationship != null)
+            if (attachedGUIDs == null)
             {
-                timeWarpedRelationshipStore.put(relationship.getGUID(), relationship);
+                return new ArrayList<>();
             }
+
+            candidateGUIDs = new HashSet<>(attachedGUIDs);
+        }
+
+        if (typeNames != null)
+        {
+            Set<String> typedGUIDs = new HashSet<>();
+
+            for (String typeName : typeNames)
+            {
+                Set<String> typeGUIDs = relationshipGUIDsByTypeName.get(typeName);
+
+                if (typeGUIDs != null)
+                {
+                    typedGUIDs.addAll(typeGUIDs);
+                }
+            }
+
+            if (candidateGUIDs == null)
+            {
+                candidateGUIDs = typedGUIDs;
+            }
+            else
+            {
+                candidateGUIDs.retainAll(typedGUIDs);
+            }
+        }
+
+        if (candidateGUIDs == null)
+        {
+            return new ResolvingView<>(relationshipStore.values(), StoredRelationship::getRelationship);
         }
 
-        return timeWarpedRelationshipStore;
+        return new ResolvingView<>(candidateGUIDs, this::getRelationship);
     }
 
 
@@ -277,16 +422,17 @@ class InMemoryOMRSMetadataStore
          * There is a small chance the randomly generated GUID will clash with an existing entity.
          * If this happens a new GUID is generated for the entity and the process repeats.
          */
-        StoredEntity existingStoredEntity = entityStore.put(entity.getGUID(), newStoredEntity);
+        StoredEntity existingStoredEntity = entityStore.putIfAbsent(entity.getGUID(), newStoredEntity);
 
         while (existingStoredEntity != null)
         {
-            entityStore.put(entity.getGUID(), existingStoredEntity);
             entity.setGUID(generateGUID(entity.getType().getTypeDefName(), UUID.randomUUID().toString()));
             newStoredEntity = new StoredEntity(entity);
-            existingStoredEntity = entityStore.put(entity.getGUID(), newStoredEntity);
+            existingStoredEntity = entityStore.putIfAbsent(entity.getGUID(), newStoredEntity);
         }
 
+        reindexEntity(entity.getGUID());
+
         return entity;
     }
 
@@ -321,16 +467,17 @@ class InMemoryOMRSMetadataStore
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        StoredRelationship existingStoredRelationship = relationshipStore.put(relationship.getGUID(), newStoredRelationship);
+        StoredRelationship existingStoredRelationship = relationshipStore.putIfAbsent(relationship.getGUID(), newStoredRelationship);
 
         while (existingStoredRelationship != null)
         {
-            relationshipStore.put(relationship.getGUID(), existingStoredRelationship);
             relationship.setGUID(generateGUID(relationship.getType().getTypeDefName(), UUID.randomUUID().toString()));
             newStoredRelationship = new StoredRelationship(relationship);
-            existingStoredRelationship = relationshipStore.put(relationship.getGUID(), newStoredRelationship);
+            existingStoredRelationship = relationshipStore.putIfAbsent(relationship.getGUID(), newStoredRelationship);
         }
 
+        reindexRelationship(relationship.getGUID());
+
         return relationship;
     }
 
@@ -353,6 +500,8 @@ class InMemoryOMRSMetadataStore
         {
             storedEntity.saveEntity(entityDetail);
         }
+
+        reindexEntity(entityDetail.getGUID());
     }
 
 
@@ -374,6 +523,8 @@ class InMemoryOMRSMetadataStore
         {
             storedEntity.saveEntityProxy(entityProxy);
         }
+
+        reindexEntity(entityProxy.getGUID());
     }
 
 
@@ -394,6 +545,33 @@ class InMemoryOMRSMetadataStore
         {
             storedRelationship.saveRelationship(relationship);
         }
+
+        reindexRelationship(relationship.getGUID());
+    }
+
+
+    /**
+     * Save a batch of entities and relationships under a single acquisition of the store's monitor.  The entities
+     * are stored first so that the relationships link to them rather than to new proxies.
+     *
+     * @param entities entities to add
+     * @param relationships relationships to add (the entity proxies at each end are added if the entity is unknown)
+     * @throws RepositoryErrorException unable to create proxy
+     */
+    synchronized void addInstancesToStore(List<EntityDetail> entities,
+                                          List<Relationship> relationships) throws RepositoryErrorException
+    {
+        for (EntityDetail entityDetail : entities)
+        {
+            this.addEntityToStore(entityDetail);
+        }
+
+        for (Relationship relationship : relationships)
+        {
+            this.addEntityProxyToStore(relationship.getEntityOneProxy());
+            this.addEntityProxyToStore(relationship.getEntityTwoProxy());
+            this.addRelationshipToStore(relationship);
+        }
     }
 
 
@@ -416,6 +594,8 @@ class InMemoryOMRSMetadataStore
         {
             storedEntity.saveEntity(entity);
         }
+
+        reindexEntity(entity.getGUID());
     }
 
 
@@ -432,7 +612,9 @@ class InMemoryOMRSMetadataStore
 
         if (storedEntity != null)
         {
-           storedEntity.saveClassification(classification);
+            storedEntity.saveClassification(classification);
+
+            reindexEntity(entityGUID);
         }
     }
 
@@ -450,7 +632,11 @@ class InMemoryOMRSMetadataStore
 
         if (storedEntity != null)
         {
-            return storedEntity.removeClassificationFromEntity(classificationName);
+            EntityDetail updatedEntity = storedEntity.removeClassificationFromEntity(classificationName);
+
+            reindexEntity(entityDetail.getGUID());
+
+            return updatedEntity;
         }
 
         return null;
@@ -470,7 +656,11 @@ class InMemoryOMRSMetadataStore
 
         if (storedEntity != null)
         {
-            return storedEntity.removeClassificationFromEntityProxy(classificationName);
+            Classification removedClassification = storedEntity.removeClassificationFromEntityProxy(classificationName);
+
+            reindexEntity(entityProxy.getGUID());
+
+            return removedClassification;
         }
 
         return null;
@@ -495,6 +685,8 @@ class InMemoryOMRSMetadataStore
         {
             storedRelationship.saveRelationship(relationship);
         }
+
+        reindexRelationship(relationship.getGUID());
     }
 
 
@@ -505,7 +697,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
      */
-    synchronized Relationship retrievePreviousVersionOfRelationship(String   guid)
+    Relationship retrievePreviousVersionOfRelationship(String   guid)
     {
         StoredRelationship storedRelationship = relationshipStore.get(guid);
 
@@ -525,7 +717,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
      */
-    synchronized EntityDetail retrievePreviousVersionOfEntity(String   guid)
+    EntityDetail retrievePreviousVersionOfEntity(String   guid)
     {
         StoredEntity storedEntity = entityStore.get(guid);
 
@@ -544,7 +736,7 @@ class InMemoryOMRSMetadataStore
      * @param guid unique identifier of the entity
      * @return list of classifications or null
      */
-    synchronized List<Classification> getHomeClassifications(String guid)
+    List<Classification> getHomeClassifications(String guid)
     {
         StoredEntity storedEntity = entityStore.get(guid);
 
@@ -566,10 +758,10 @@ class InMemoryOMRSMetadataStore
      * @param oldestFirst ordering
      * @return list of instance versions
      */
-    synchronized List<EntityDetail> getEntityHistory(String  guid,
-                                                     Date    fromTime,
-                                                     Date    toTime,
-                                                     boolean oldestFirst)
+    List<EntityDetail> getEntityHistory(String  guid,
+                                        Date    fromTime,
+                                        Date    toTime,
+                                        boolean oldestFirst)
     {
         StoredEntity storedEntity = entityStore.get(guid);
 
@@ -592,11 +784,11 @@ class InMemoryOMRSMetadataStore
      * @param oldestFirst ordering
      * @return list of instance versions
      */
-    synchronized List<Classification> getClassificationHistory(String  guid,
-                                                               String  classificationName,
-                                                               Date    fromTime,
-                                                               Date    toTime,
-                                                               boolean oldestFirst)
+    List<Classification> getClassificationHistory(String  guid,
+                                                  String  classificationName,
+                                                  Date    fromTime,
+                                                  Date    toTime,
+                                                  boolean oldestFirst)
     {
         StoredEntity storedEntity = entityStore.get(guid);
 
@@ -618,10 +810,10 @@ class InMemoryOMRSMetadataStore
      * @param oldestFirst ordering
      * @return list of instance versions
      */
-    synchronized  List<Relationship> getRelationshipHistory(String  guid,
-                                                            Date    fromTime,
-                                                            Date    toTime,
-                                                            boolean oldestFirst)
+    List<Relationship> getRelationshipHistory(String  guid,
+                                              Date    fromTime,
+                                              Date    toTime,
+                                              boolean oldestFirst)
     {
         StoredRelationship storedRelationship = relationshipStore.get(guid);
 
@@ -645,6 +837,7 @@ class InMemoryOMRSMetadataStore
 
         if (storedEntity != null)
         {
+            storedEntity.removeFromIndexes(guid);
             entityStore.remove(guid);
         }
     }
@@ -668,6 +861,8 @@ class InMemoryOMRSMetadataStore
         }
 
         storedRelationship.purgeRelationship();
+
+        reindexRelationship(relationship.getGUID());
     }
 
 
@@ -682,22 +877,399 @@ class InMemoryOMRSMetadataStore
 
         if (storedRelationship != null)
         {
+            storedRelationship.removeFromIndexes(guid);
             relationshipStore.remove(guid);
         }
     }
 
 
+    /**
+     * Bring the secondary indexes up-to-date with the current version of a stored entity.
+     *
+     * @param guid unique identifier of the entity
+     */
+    private void reindexEntity(String guid)
+    {
+        StoredEntity storedEntity = entityStore.get(guid);
+
+        if (storedEntity != null)
+        {
+            storedEntity.updateIndexes(guid);
+        }
+    }
+
+
+    /**
+     * Bring the secondary indexes up-to-date with the current version of a stored relationship.
+     *
+     * @param guid unique identifier of the relationship
+     */
+    private void reindexRelationship(String guid)
+    {
+        StoredRelationship storedRelationship = relationshipStore.get(guid);
+
+        if (storedRelationship != null)
+        {
+            storedRelationship.updateIndexes(guid);
+        }
+    }
+
+
+    /**
+     * Add an instance to one of the secondary indexes.
+     *
+     * @param index index to update
+     * @param key value being indexed
+     * @param guid unique identifier of the instance
+     */
+    private static void addToIndex(Map<String, Set<String>> index,
+                                   String                   key,
+                                   String                   guid)
+    {
+        if (key != null)
+        {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(guid);
+        }
+    }
+
+
+    /**
+     * Remove an instance from one of the secondary indexes.
+     *
+     * @param index index to update
+     * @param key value that was indexed
+     * @param guid unique identifier of the instance
+     */
+    private static void removeFromIndex(Map<String, Set<String>> index,
+                                        String                   key,
+                                        String                   guid)
+    {
+        if (key != null)
+        {
+            Set<String> guids = index.get(key);
+
+            if (guids != null)
+            {
+                guids.remove(guid);
+
+                if (guids.isEmpty())
+                {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * A lazily evaluated view over a collection of stored instances (or their GUIDs).  Each element is only resolved
+     * into the requested version of the instance as the iterator reaches it.  Elements that resolve to null are skipped.
+     *
+     * @param <S> type of the stored element
+     * @param <T> type of the resolved instance
+     */
+    private static class ResolvingView<S, T> implements Iterable<T>
+    {
+        private final Iterable<S>    storedElements;
+        private final Function<S, T> resolver;
+
+
+        /**
+         * Constructor supplies the elements to iterate over and how to resolve them.
+         *
+         * @param storedElements elements from the store
+         * @param resolver function returning the instance for an element (or null if it should be skipped)
+         */
+        ResolvingView(Iterable<S>    storedElements,
+                      Function<S, T> resolver)
+        {
+            this.storedElements = storedElements;
+            this.resolver       = resolver;
+        }
+
+
+        /**
+         * Return an iterator that resolves each stored element in turn.
+         *
+         * @return iterator
+         */
+        @Override
+        public Iterator<T> iterator()
+        {
+            Iterator<S> storedIterator = storedElements.iterator();
+
+            return new Iterator<>()
+            {
+                private T nextInstance = null;
+
+                @Override
+                public boolean hasNext()
+                {
+                    while ((nextInstance == null) && (storedIterator.hasNext()))
+                    {
+                        nextInstance = resolver.apply(storedIterator.next());
+                    }
+
+                    return nextInstance != null;
+                }
+
+                @Override
+                public T next()
+                {
+                    if (! hasNext())
+                    {
+                        throw new NoSuchElementException();
+                    }
+
+                    T result = nextInstance;
+
+                    nextInstance = null;
+
+                    return result;
+                }
+            };
+        }
+    }
+
+
+    /**
+     * An immutable snapshot of the current version of an instance along with its history.  A new snapshot is
+     * published each time the instance changes so that readers always see a consistent pair of values.
+     *
+     * @param current current version of the instance (or null if there is no current version)
+     * @param history previous versions of the instance with the latest version first
+     * @param <T> type of instance
+     */
+    private record VersionChain<T>(T current, VersionHistory<T> history)
+    {
+        /**
+         * Return an empty snapshot.
+         *
+         * @param <T> type of instance
+         * @return new snapshot
+         */
+        static <T> VersionChain<T> empty()
+        {
+            return new VersionChain<>(null, VersionHistory.empty());
+        }
+
+
+        /**
+         * Return a snapshot where the current version has moved to the front of the history.
+         * The existing history is shared rather than copied.
+         *
+         * @param newVersion new current version
+         * @return new snapshot
+         */
+        VersionChain<T> addVersion(T newVersion)
+        {
+            if (current == null)
+            {
+                return new VersionChain<>(newVersion, history);
+            }
+
+            return new VersionChain<>(newVersion, history.push(current));
+        }
+
+
+        /**
+         * Return a snapshot where the current version is replaced without changing the history.
+         *
+         * @param updatedVersion updated current version
+         * @return new snapshot
+         */
+        VersionChain<T> replaceCurrent(T updatedVersion)
+        {
+            return new VersionChain<>(updatedVersion, history);
+        }
+
+
+        /**
+         * Return a snapshot where the current version has been moved to the end of the history.  This copies
+         * the history, but it only happens once, when the instance is removed.
+         *
+         * @return new snapshot
+         */
+        VersionChain<T> removeCurrent()
+        {
+            if (current == null)
+            {
+                return this;
+            }
+
+            return new VersionChain<>(null, history.append(current));
+        }
+    }
+
+
+    /**
+     * An immutable list of the previous versions of an instance, latest version first.  Each list shares the
+     * versions behind its first element with the list it was built from, so adding a version to the front
+     * takes constant time however long the history is.
+     *
+     * @param <T> type of instance
+     */
+    private static final class VersionHistory<T> extends AbstractList<T>
+    {
+        private static final VersionHistory<Object> emptyHistory = new VersionHistory<>(null, null, 0);
+
+        private final T                 latestVersion;
+        private final VersionHistory<T> previousVersions;
+        private final int               size;
+
+
+        /**
+         * Constructor is private - use empty() and push().
+         *
+         * @param latestVersion first element of the list
+         * @param previousVersions rest of the list
+         * @param size number of elements in the list
+         */
+        private VersionHistory(T                 latestVersion,
+                               VersionHistory<T> previousVersions,
+                               int               size)
+        {
+            this.latestVersion    = latestVersion;
+            this.previousVersions = previousVersions;
+            this.size             = size;
+        }
+
+
+        /**
+         * Return the empty history.
+         *
+         * @param <T> type of instance
+         * @return empty list
+         */
+        @SuppressWarnings(value = "unchecked")
+        static <T> VersionHistory<T> empty()
+        {
+            return (VersionHistory<T>) emptyHistory;
+        }
+
+
+        /**
+         * Return a new history with the supplied version at the front.
+         *
+         * @param version version to add
+         * @return new list
+         */
+        VersionHistory<T> push(T version)
+        {
+            return new VersionHistory<>(version, this, size + 1);
+        }
+
+
+        /**
+         * Return a new history with the supplied version at the end.
+         *
+         * @param version version to add
+         * @return new list
+         */
+        VersionHistory<T> append(T version)
+        {
+            List<T>           versions   = new ArrayList<>(this);
+            VersionHistory<T> newHistory = VersionHistory.<T>empty().push(version);
+
+            for (int index = versions.size() - 1; index >= 0; index--)
+            {
+                newHistory = newHistory.push(versions.get(index));
+            }
+
+            return newHistory;
+        }
+
+
+        /**
+         * Return the version at the requested position.
+         *
+         * @param index position in the list
+         * @return version
+         */
+        @Override
+        public T get(int index)
+        {
+            if ((index < 0) || (index >= size))
+            {
+                throw new IndexOutOfBoundsException(index);
+            }
+
+            VersionHistory<T> node = this;
+
+            for (int position = 0; position < index; position++)
+            {
+                node = node.previousVersions;
+            }
+
+            return node.latestVersion;
+        }
+
+
+        /**
+         * Return the number of versions in the list.
+         *
+         * @return count
+         */
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+
+        /**
+         * Return an iterator that walks the list from the latest version.
+         *
+         * @return iterator
+         */
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new Iterator<>()
+            {
+                private VersionHistory<T> node = VersionHistory.this;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return node.size > 0;
+                }
+
+                @Override
+                public T next()
+                {
+                    if (node.size == 0)
+                    {
+                        throw new NoSuchElementException();
+                    }
+
+                    T result = node.latestVersion;
+
+                    node = node.previousVersions;
+
+                    return result;
+                }
+            };
+        }
+    }
+
+
     /**
      * Provides storage for an entity, its proxy and classifications.  It is proactively keeping the stored entity
      * and entity proxy up-to-date with the latest known classifications.
      */
     private class StoredEntity
     {
-        private final Map<String, HomeClassification> homeClassifications = new HashMap<>();
-        private final List<EntityDetail>              entityHistory       = new ArrayList<>();
+        private final Map<String, HomeClassification> homeClassifications = new ConcurrentHashMap<>();
+
+        private volatile VersionChain<EntityDetail> entityVersions = VersionChain.empty();
+        private volatile EntityProxy                entityProxy    = null;
+
+        private final Set<String> versionTypeNames           = ConcurrentHashMap.newKeySet();
+        private final Set<String> versionClassificationNames = ConcurrentHashMap.newKeySet();
 
-        private EntityDetail entity = null;
-        private EntityProxy  entityProxy = null;
+        private String      indexedTypeName            = null;
+        private Set<String> indexedClassificationNames = new HashSet<>();
 
         /**
          * Constructor for when the first element stored is an entity
@@ -726,7 +1298,7 @@ class InMemoryOMRSMetadataStore
          *
          * @param entitySummary header of either an entity or an entity proxy
          */
-        private synchronized void saveHomeClassifications(EntitySummary entitySummary)
+        private void saveHomeClassifications(EntitySummary entitySummary)
         {
             List<Classification>  entityClassifications = entitySummary.getClassifications();
 
@@ -745,7 +1317,7 @@ class InMemoryOMRSMetadataStore
          *
          * @param classification potential classification to save
          */
-        private synchronized void saveHomeClassification(Classification classification)
+        private void saveHomeClassification(Classification classification)
         {
             if (classification != null)
             {
@@ -773,7 +1345,7 @@ class InMemoryOMRSMetadataStore
          *
          * @param entitySummary entity/entity proxy
          */
-        private synchronized void addHomeClassifications(EntitySummary entitySummary)
+        private void addHomeClassifications(EntitySummary entitySummary)
         {
             if (! homeClassifications.isEmpty())
             {
@@ -820,7 +1392,7 @@ class InMemoryOMRSMetadataStore
          *
          * @return list of classifications or null
          */
-        synchronized List<Classification> getHomeClassifications()
+        List<Classification> getHomeClassifications()
         {
             if (! homeClassifications.isEmpty())
             {
@@ -847,7 +1419,7 @@ class InMemoryOMRSMetadataStore
          *
          * @param classificationName classification to remove
          */
-        synchronized EntityDetail removeClassificationFromEntity(String classificationName)
+        EntityDetail removeClassificationFromEntity(String classificationName)
         {
             final String methodName = "removeClassificationFromEntity";
 
@@ -861,7 +1433,7 @@ class InMemoryOMRSMetadataStore
             try
             {
                 EntityDetail updatedEntity = repositoryHelper.deleteClassificationFromEntity(repositoryName,
-                                                                                             entity,
+                                                                                             entityVersions.current(),
                                                                                              classificationName,
                                                                                              methodName);
 
@@ -873,7 +1445,7 @@ class InMemoryOMRSMetadataStore
                 log.info(error.toString());
             }
 
-            return this.entity;
+            return entityVersions.current();
         }
 
 
@@ -882,11 +1454,12 @@ class InMemoryOMRSMetadataStore
          *
          * @param classificationName classification to remove
          */
-        synchronized Classification removeClassificationFromEntityProxy(String classificationName)
+        Classification removeClassificationFromEntityProxy(String classificationName)
         {
             final String methodName = "removeClassificationFromEntityProxy";
 
             Classification removedClassification = null;
+            EntityDetail   entity                = entityVersions.current();
 
             HomeClassification homeClassification = homeClassifications.get(classificationName);
 
@@ -895,11 +1468,11 @@ class InMemoryOMRSMetadataStore
                 removedClassification = homeClassification.getHomeClassification();
             }
 
-            if ((removedClassification == null) && (this.entity != null))
+            if ((removedClassification == null) && (entity != null))
             {
                 try
                 {
-                    removedClassification = repositoryHelper.getClassificationFromEntity(repositoryName, this.entity, classificationName, methodName);
+                    removedClassification = repositoryHelper.getClassificationFromEntity(repositoryName, entity, classificationName, methodName);
                 }
                 catch (Exception error)
                 {
@@ -926,12 +1499,12 @@ class InMemoryOMRSMetadataStore
                 homeClassification.deleteClassification(removedClassification);
             }
 
-            if (this.entity != null)
+            if (entity != null)
             {
                 try
                 {
                     EntityDetail updatedEntity = repositoryHelper.deleteClassificationFromEntity(repositoryName,
-                                                                                                this.entity,
+                                                                                                entity,
                                                                                                 classificationName,
                                                                                                 methodName);
                     this.saveEntity(updatedEntity);
@@ -970,7 +1543,7 @@ class InMemoryOMRSMetadataStore
          * @param entity entity object
          * @throws RepositoryErrorException problem forming entity proxy
          */
-        synchronized void saveEntity(EntityDetail entity) throws RepositoryErrorException
+        void saveEntity(EntityDetail entity) throws RepositoryErrorException
         {
             saveHomeClassifications(entity);
 
@@ -978,19 +1551,28 @@ class InMemoryOMRSMetadataStore
              * The test of the version is >= to ensure updates to classifications (that do not change the entity version) are stored.
              * The history contains the intermediate versions of the entity caused by classification changes.
              */
-            if ((this.entity == null) || (entity.getVersion() >= this.entity.getVersion()))
+            VersionChain<EntityDetail> versions      = entityVersions;
+            EntityDetail               currentEntity = versions.current();
+
+            if ((currentEntity == null) || (entity.getVersion() >= currentEntity.getVersion()))
             {
-                if (this.entity != null)
-                {
-                    entityHistory.add(0, this.entity);
-                }
+                EntityDetail newEntity = new EntityDetail(entity);
 
-                this.entity = new EntityDetail(entity);
+                addHomeClassifications(newEntity);
+                versions = versions.addVersion(newEntity);
+            }
+            else
+            {
+                EntityDetail refreshedEntity = new EntityDetail(currentEntity);
+
+                addHomeClassifications(refreshedEntity);
+                versions = versions.replaceCurrent(refreshedEntity);
             }
 
-            addHomeClassifications(this.entity);
+            recordVersionNames(versions.current());
 
-            this.entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, this.entity);
+            this.entityVersions = versions;
+            this.entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, versions.current());
         }
 
 
@@ -999,7 +1581,7 @@ class InMemoryOMRSMetadataStore
          *
          * @param entityProxy entity proxy
          */
-        synchronized void saveEntityProxy(EntityProxy entityProxy)
+        void saveEntityProxy(EntityProxy entityProxy)
         {
             /*
              * The proxy is saved if it is not older than the stored proxy.  Note the entity proxy may (temporarily)
@@ -1008,16 +1590,29 @@ class InMemoryOMRSMetadataStore
              */
             saveHomeClassifications(entityProxy);
 
+            EntityProxy newEntityProxy;
+
             if ((this.entityProxy == null) || (entityProxy.getVersion() >= this.entityProxy.getVersion()))
             {
-                this.entityProxy = new EntityProxy(entityProxy);
+                newEntityProxy = new EntityProxy(entityProxy);
+            }
+            else
+            {
+                newEntityProxy = new EntityProxy(this.entityProxy);
             }
 
-            addHomeClassifications(this.entityProxy);
+            addHomeClassifications(newEntityProxy);
+            this.entityProxy = newEntityProxy;
 
-            if (this.entity != null)
+            EntityDetail currentEntity = entityVersions.current();
+
+            if (currentEntity != null)
             {
-                addHomeClassifications(this.entity);
+                EntityDetail refreshedEntity = new EntityDetail(currentEntity);
+
+                addHomeClassifications(refreshedEntity);
+                recordVersionNames(refreshedEntity);
+                entityVersions = entityVersions.replaceCurrent(refreshedEntity);
             }
         }
 
@@ -1027,23 +1622,15 @@ class InMemoryOMRSMetadataStore
          *
          * @param classification classification to save
          */
-        synchronized void saveClassification(Classification classification)
+        void saveClassification(Classification classification)
         {
-            final String methodName = "saveClassification";
-
             if (classification != null)
             {
+                /*
+                 * The classification is held with the home classifications.  It is added to the stored entity and
+                 * entity proxy the next time they are saved.
+                 */
                 saveHomeClassification(classification);
-
-                if (this.entity != null)
-                {
-                    repositoryHelper.addClassificationToEntity(repositoryName, this.entity, new Classification(classification), methodName);
-                }
-
-                if (this.entityProxy != null)
-                {
-                    repositoryHelper.addClassificationToEntity(repositoryName, this.entityProxy, new Classification(classification), methodName);
-                }
             }
         }
 
@@ -1053,9 +1640,9 @@ class InMemoryOMRSMetadataStore
          *
          * @return entity object
          */
-        synchronized EntityDetail  getEntity()
+        EntityDetail  getEntity()
         {
-            return entity;
+            return entityVersions.current();
         }
 
 
@@ -1064,26 +1651,85 @@ class InMemoryOMRSMetadataStore
          *
          * @return entity proxy object
          */
-        synchronized EntityProxy  getEntityProxy()
+        EntityProxy  getEntityProxy()
         {
             return entityProxy;
         }
 
 
+        /**
+         * Remember the type and classification names used by a version of the entity.  These are used to skip
+         * entities that could never match a historical query without resolving their versions.
+         *
+         * @param entity version of the entity
+         */
+        private void recordVersionNames(EntityDetail entity)
+        {
+            if (entity != null)
+            {
+                if ((entity.getType() != null) && (entity.getType().getTypeDefName() != null))
+                {
+                    versionTypeNames.add(entity.getType().getTypeDefName());
+                }
+
+                if (entity.getClassifications() != null)
+                {
+                    for (Classification classification : entity.getClassifications())
+                    {
+                        if ((classification != null) && (classification.getName() != null))
+                        {
+                            versionClassificationNames.add(classification.getName());
+                        }
+                    }
+                }
+            }
+        }
+
+
+        /**
+         * Retrieve the version that was active in the repository at a particular time, provided that
+         * some version of this entity has had one of the requested types and all the requested classifications.
+         *
+         * @param typeNames names of the types the entity must be one of (or null means any type)
+         * @param classificationNames names of the classifications that must all be attached (or null means no restriction)
+         * @param asOfTime time to use on the query
+         * @return selected instance or null
+         */
+        EntityDetail getEntity(Collection<String> typeNames,
+                               Collection<String> classificationNames,
+                               Date               asOfTime)
+        {
+            if ((typeNames != null) && (Collections.disjoint(typeNames, versionTypeNames)))
+            {
+                return null;
+            }
+
+            if ((classificationNames != null) && (! versionClassificationNames.containsAll(classificationNames)))
+            {
+                return null;
+            }
+
+            return getEntity(asOfTime);
+        }
+
+
         /**
          * Retrieve the version that was active in the repository at a particular time.
          *
          * @param asOfTime time to use on the query
          * @return selected instance
          */
-        synchronized EntityDetail getEntity(Date asOfTime)
+        EntityDetail getEntity(Date asOfTime)
         {
             if (asOfTime == null)
             {
                 return getEntity();
             }
 
-            if (this.entity != null)
+            VersionChain<EntityDetail> versions = entityVersions;
+            EntityDetail               entity   = versions.current();
+
+            if (entity != null)
             {
                 /*
                  * The requested time is before the element was created.
@@ -1110,7 +1756,7 @@ class InMemoryOMRSMetadataStore
                 }
             }
 
-            for (EntityDetail historicalEntity : entityHistory)
+            for (EntityDetail historicalEntity : versions.history())
             {
                 if (historicalEntity.getUpdateTime() == null)
                 {
@@ -1142,21 +1788,23 @@ class InMemoryOMRSMetadataStore
          * @param oldestFirst ordering of results
          * @return list of versions of this relationship
          */
-        synchronized List<EntityDetail> getEntityHistory(Date    fromTime,
-                                                         Date    toTime,
-                                                         boolean oldestFirst)
+        List<EntityDetail> getEntityHistory(Date    fromTime,
+                                            Date    toTime,
+                                            boolean oldestFirst)
         {
-            List<EntityDetail> historyResults = new ArrayList<>();
+            List<EntityDetail>         historyResults = new ArrayList<>();
+            VersionChain<EntityDetail> versions       = entityVersions;
+            EntityDetail               entity         = versions.current();
 
             /*
              * Do not have a full entity
              */
-            if (this.entity == null)
+            if (entity == null)
             {
                 return null;
             }
 
-            if ((toTime != null) && (toTime.before(this.entity.getCreateTime())))
+            if ((toTime != null) && (toTime.before(entity.getCreateTime())))
             {
                 /*
                  * The entity is known - but the query time is from before the instance existed.
@@ -1167,20 +1815,20 @@ class InMemoryOMRSMetadataStore
             /*
              * The current version of the entity is in range.
              */
-            if (checkInclusiveDate(fromTime, toTime, this.entity, null))
+            if (checkInclusiveDate(fromTime, toTime, entity, null))
             {
-                historyResults.add(this.entity);
+                historyResults.add(entity);
             }
 
-            if (! this.entityHistory.isEmpty())
+            if (! versions.history().isEmpty())
             {
                 /*
                  * The period when an instance is active is from its updateTime to the updateTime of the next element.
                  * The entityHistory has the latest version first.
                  */
-                Date followingUpdateTime = this.entity.getUpdateTime();
+                Date followingUpdateTime = entity.getUpdateTime();
 
-                for (EntityDetail historicalInstance : this.entityHistory)
+                for (EntityDetail historicalInstance : versions.history())
                 {
                     if (checkInclusiveDate(fromTime, toTime, historicalInstance, followingUpdateTime))
                     {
@@ -1217,20 +1865,23 @@ class InMemoryOMRSMetadataStore
          * @param oldestFirst ordering of results
          * @return list of versions of this relationship
          */
-        synchronized List<Classification> getClassificationHistory(String  classificationName,
-                                                                   Date    fromTime,
-                                                                   Date    toTime,
-                                                                   boolean oldestFirst)
+        List<Classification> getClassificationHistory(String  classificationName,
+                                                      Date    fromTime,
+                                                      Date    toTime,
+                                                      boolean oldestFirst)
         {
+            VersionChain<EntityDetail> versions = entityVersions;
+            EntityDetail               entity   = versions.current();
+
             /*
              * Do not have a full entity
              */
-            if (this.entity == null)
+            if (entity == null)
             {
                 return null;
             }
 
-            if ((toTime != null) && (toTime.before(this.entity.getCreateTime())))
+            if ((toTime != null) && (toTime.before(entity.getCreateTime())))
             {
                 /*
                  * The entity is known - but the query time is from before the instance existed.
@@ -1246,7 +1897,7 @@ class InMemoryOMRSMetadataStore
             List<Classification> matches = getClassificationsForInclusiveDate(classificationName,
                                                                               fromTime,
                                                                               toTime,
-                                                                              this.entity.getClassifications(),
+                                                                              entity.getClassifications(),
                                                                               null);
 
             if (matches != null)
@@ -1257,15 +1908,15 @@ class InMemoryOMRSMetadataStore
                 }
             }
 
-            if (! this.entityHistory.isEmpty())
+            if (! versions.history().isEmpty())
             {
                 /*
                  * The period when an instance is active is from its updateTime to the updateTime of the next element.
                  * The entityHistory has the latest version first.
                  */
-                Date followingUpdateTime = this.entity.getUpdateTime();
+                Date followingUpdateTime = entity.getUpdateTime();
 
-                for (EntityDetail historicalInstance : this.entityHistory)
+                for (EntityDetail historicalInstance : versions.history())
                 {
                     matches = getClassificationsForInclusiveDate(classificationName,
                                                                  fromTime,
@@ -1314,13 +1965,92 @@ class InMemoryOMRSMetadataStore
         }
 
 
+        /**
+         * Update the secondary indexes to reflect the type and classifications of the current version of the entity.
+         * Entity proxies are not indexed since queries only return full entities.
+         *
+         * @param guid unique identifier of the entity
+         */
+        void updateIndexes(String guid)
+        {
+            String       typeName            = null;
+            Set<String>  classificationNames = new HashSet<>();
+            EntityDetail entity              = entityVersions.current();
+
+            if (entity != null)
+            {
+                if (entity.getType() != null)
+                {
+                    typeName = entity.getType().getTypeDefName();
+                }
+
+                if (entity.getClassifications() != null)
+                {
+                    for (Classification classification : entity.getClassifications())
+                    {
+                        if ((classification != null) && (classification.getName() != null))
+                        {
+                            classificationNames.add(classification.getName());
+                        }
+                    }
+                }
+            }
+
+            if (! Objects.equals(typeName, indexedTypeName))
+            {
+                removeFromIndex(entityGUIDsByTypeName, indexedTypeName, guid);
+                addToIndex(entityGUIDsByTypeName, typeName, guid);
+                indexedTypeName = typeName;
+            }
+
+            for (String classificationName : indexedClassificationNames)
+            {
+                if (! classificationNames.contains(classificationName))
+                {
+                    removeFromIndex(entityGUIDsByClassificationName, classificationName, guid);
+                }
+            }
+
+            for (String classificationName : classificationNames)
+            {
+                if (! indexedClassificationNames.contains(classificationName))
+                {
+                    addToIndex(entityGUIDsByClassificationName, classificationName, guid);
+                }
+            }
+
+            indexedClassificationNames = classificationNames;
+        }
+
+
+        /**
+         * Remove this entity from the secondary indexes because it is being purged.
+         *
+         * @param guid unique identifier of the entity
+         */
+        void removeFromIndexes(String guid)
+        {
+            removeFromIndex(entityGUIDsByTypeName, indexedTypeName, guid);
+            indexedTypeName = null;
+
+            for (String classificationName : indexedClassificationNames)
+            {
+                removeFromIndex(entityGUIDsByClassificationName, classificationName, guid);
+            }
+
+            indexedClassificationNames = new HashSet<>();
+        }
+
+
         /**
          * Retrieve the previous version of the instance.
          *
          * @return first element in the history
          */
-        synchronized EntityDetail retrievePreviousVersion()
+        EntityDetail retrievePreviousVersion()
         {
+            List<EntityDetail> entityHistory = entityVersions.history();
+
             if (! entityHistory.isEmpty())
             {
                 return entityHistory.get(0);
@@ -1355,7 +2085,7 @@ class InMemoryOMRSMetadataStore
              *
              * @return active classification or null if the classification has been deleted
              */
-            synchronized Classification getHomeClassification()
+            Classification getHomeClassification()
             {
                 return this.latestClassification;
             }
@@ -1416,10 +2146,15 @@ class InMemoryOMRSMetadataStore
      */
     private class StoredRelationship
     {
-        private final List<Relationship> relationshipHistory = new ArrayList<>();
+        private volatile VersionChain<Relationship> relationshipVersions = VersionChain.empty();
+        private volatile Date                       unilateralDeleteTime = null;
 
-        private volatile Relationship relationship         = null;
-        private volatile Date         unilateralDeleteTime = null;
+        private final Set<String> versionTypeNames   = ConcurrentHashMap.newKeySet();
+        private final Set<String> versionEntityGUIDs = ConcurrentHashMap.newKeySet();
+
+        private String indexedTypeName      = null;
+        private String indexedEntityOneGUID = null;
+        private String indexedEntityTwoGUID = null;
 
 
         /**
@@ -1438,29 +2173,41 @@ class InMemoryOMRSMetadataStore
          *
          * @param relationship new instance
          */
-        synchronized void saveRelationship(Relationship relationship)
+        void saveRelationship(Relationship relationship)
         {
-            if (this.relationship != null)
+            if (relationship != null)
             {
-                this.relationshipHistory.add(0, this.relationship);
+                if ((relationship.getType() != null) && (relationship.getType().getTypeDefName() != null))
+                {
+                    versionTypeNames.add(relationship.getType().getTypeDefName());
+                }
+
+                if (relationship.getEntityOneProxy() != null)
+                {
+                    versionEntityGUIDs.add(relationship.getEntityOneProxy().getGUID());
+                }
+
+                if (relationship.getEntityTwoProxy() != null)
+                {
+                    versionEntityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+                }
             }
 
-            this.relationship = refreshRelationshipProxies(relationship);
+            this.relationshipVersions = relationshipVersions.addVersion(refreshRelationshipProxies(relationship));
         }
 
 
         /**
          * Remove the current version of the instance.  The history is still in place.
          **/
-        synchronized void purgeRelationship()
+        void purgeRelationship()
         {
-            if (this.relationship != null)
+            if (relationshipVersions.current() != null)
             {
-                this.relationshipHistory.add(this.relationship);
                 this.unilateralDeleteTime = new Date();
             }
 
-            this.relationship = null;
+            this.relationshipVersions = relationshipVersions.removeCurrent();
         }
 
 
@@ -1469,14 +2216,36 @@ class InMemoryOMRSMetadataStore
          *
          * @return selected instance
          */
-        synchronized Relationship getRelationship()
+        Relationship getRelationship()
         {
-            if (relationship != null)
+            return refreshRelationshipProxies(relationshipVersions.current());
+        }
+
+
+        /**
+         * Retrieve the version that was active in the repository at a particular time, provided that
+         * some version of this relationship has had one of the requested types and is attached to the requested entity.
+         *
+         * @param typeNames names of the types the relationship must be one of (or null means any type)
+         * @param entityGUID unique identifier of an entity that must be at one of the ends (or null means any entity)
+         * @param asOfTime time to use on the query
+         * @return selected instance or null
+         */
+        Relationship getRelationship(Collection<String> typeNames,
+                                     String             entityGUID,
+                                     Date               asOfTime)
+        {
+            if ((typeNames != null) && (Collections.disjoint(typeNames, versionTypeNames)))
             {
-                return refreshRelationshipProxies(this.relationship);
+                return null;
             }
 
-            return relationship;
+            if ((entityGUID != null) && (! versionEntityGUIDs.contains(entityGUID)))
+            {
+                return null;
+            }
+
+            return getRelationship(asOfTime);
         }
 
 
@@ -1486,14 +2255,17 @@ class InMemoryOMRSMetadataStore
          * @param asOfTime time to use on the query
          * @return selected instance
          */
-        synchronized Relationship getRelationship(Date asOfTime)
+        Relationship getRelationship(Date asOfTime)
         {
             if (asOfTime == null)
             {
                 return getRelationship();
             }
 
-            if (this.relationship != null)
+            VersionChain<Relationship> versions     = relationshipVersions;
+            Relationship               relationship = versions.current();
+
+            if (relationship != null)
             {
                 /*
                  * The requested time is before the element was created.
@@ -1520,7 +2292,7 @@ class InMemoryOMRSMetadataStore
                 }
             }
 
-            for (Relationship historicalRelationship : relationshipHistory)
+            for (Relationship historicalRelationship : versions.history())
             {
                 if (historicalRelationship.getUpdateTime() == null)
                 {
@@ -1551,22 +2323,24 @@ class InMemoryOMRSMetadataStore
          * @param oldestFirst ordering of results
          * @return list of versions of this relationship
          */
-        synchronized List<Relationship> getRelationshipHistory(Date    fromTime,
-                                                               Date    toTime,
-                                                               boolean oldestFirst)
+        List<Relationship> getRelationshipHistory(Date    fromTime,
+                                                  Date    toTime,
+                                                  boolean oldestFirst)
         {
-            List<Relationship> historyResults = new ArrayList<>();
-            Date               followingUpdateTime;
+            List<Relationship>         historyResults = new ArrayList<>();
+            VersionChain<Relationship> versions       = relationshipVersions;
+            Relationship               relationship   = versions.current();
+            Date                       followingUpdateTime;
 
             /*
              * Do not have a relationship
              */
-            if (this.relationship == null)
+            if (relationship == null)
             {
                 return null;
             }
 
-            if ((toTime != null) && (toTime.before(this.relationship.getCreateTime())))
+            if ((toTime != null) && (toTime.before(relationship.getCreateTime())))
             {
                 /*
                  * The relationship is known - but the query time is from before the instance existed.
@@ -1591,24 +2365,24 @@ class InMemoryOMRSMetadataStore
             }
             else
             {
-                if (checkInclusiveDate(fromTime, toTime, this.relationship, null))
+                if (checkInclusiveDate(fromTime, toTime, relationship, null))
                 {
                     /*
                      * The current version of the relationship is in range.
                      */
-                    historyResults.add(this.relationship);
+                    historyResults.add(relationship);
                 }
 
-                followingUpdateTime = this.relationship.getUpdateTime();
+                followingUpdateTime = relationship.getUpdateTime();
             }
 
-            if (! this.relationshipHistory.isEmpty())
+            if (! versions.history().isEmpty())
             {
                 /*
                  * The period when an instance is active is from its updateTime to the updateTime of the next element.
                  * The relationshipHistory has the latest version first.
                  */
-                for (Relationship historicalInstance : this.relationshipHistory)
+                for (Relationship historicalInstance : versions.history())
                 {
                     if (checkInclusiveDate(fromTime, toTime, historicalInstance, followingUpdateTime))
                     {
@@ -1636,13 +2410,67 @@ class InMemoryOMRSMetadataStore
         }
 
 
+        /**
+         * Update the secondary indexes to reflect the type and ends of the current version of the relationship.
+         * Once the relationship is purged it is removed from the indexes.
+         *
+         * @param guid unique identifier of the relationship
+         */
+        void updateIndexes(String guid)
+        {
+            Relationship relationship = relationshipVersions.current();
+
+            removeFromIndexes(guid);
+
+            if (relationship != null)
+            {
+                if (relationship.getType() != null)
+                {
+                    indexedTypeName = relationship.getType().getTypeDefName();
+                    addToIndex(relationshipGUIDsByTypeName, indexedTypeName, guid);
+                }
+
+                if (relationship.getEntityOneProxy() != null)
+                {
+                    indexedEntityOneGUID = relationship.getEntityOneProxy().getGUID();
+                    addToIndex(relationshipGUIDsByEntityGUID, indexedEntityOneGUID, guid);
+                }
+
+                if (relationship.getEntityTwoProxy() != null)
+                {
+                    indexedEntityTwoGUID = relationship.getEntityTwoProxy().getGUID();
+                    addToIndex(relationshipGUIDsByEntityGUID, indexedEntityTwoGUID, guid);
+                }
+            }
+        }
+
+
+        /**
+         * Remove this relationship from the secondary indexes.
+         *
+         * @param guid unique identifier of the relationship
+         */
+        void removeFromIndexes(String guid)
+        {
+            removeFromIndex(relationshipGUIDsByTypeName, indexedTypeName, guid);
+            removeFromIndex(relationshipGUIDsByEntityGUID, indexedEntityOneGUID, guid);
+            removeFromIndex(relationshipGUIDsByEntityGUID, indexedEntityTwoGUID, guid);
+
+            indexedTypeName      = null;
+            indexedEntityOneGUID = null;
+            indexedEntityTwoGUID = null;
+        }
+
+
         /**
          * Retrieve the previous version of the instance.
          *
          * @return first element in the history
          */
-        synchronized Relationship retrievePreviousVersion()
+        Relationship retrievePreviousVersion()
         {
+            List<Relationship> relationshipHistory = relationshipVersions.history();
+
             if (! relationshipHistory.isEmpty())
             {
                 return relationshipHistory.get(0);
@@ -1658,7 +2486,7 @@ class InMemoryOMRSMetadataStore
          * @param storedRelationship relationship retrieved from one of the relationship stores.
          * @return a cloned relationship with the latest proxies.
          */
-        private synchronized Relationship refreshRelationshipProxies(Relationship storedRelationship)
+        private Relationship refreshRelationshipProxies(Relationship storedRelationship)
         {
             if (storedRelationship != null)
             {
@@ -0,0 +1,526 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Tests for the secondary indexes and the historical (asOfTime) views maintained by {@link InMemoryOMRSMetadataStore}.
+ */
+public class InMemoryOMRSMetadataStoreIndexTest
+{
+    private static final String repositoryName          = "TestRepository";
+    private static final String metadataCollection      = "TestMetadataCollection";
+    private static final String otherMetadataCollection = "OtherMetadataCollection";
+
+    private static final String entityOneGUID    = "EntityOneGUID";
+    private static final String entityTwoGUID    = "EntityTwoGUID";
+    private static final String entityThreeGUID  = "EntityThreeGUID";
+    private static final String relationshipGUID = "RelationshipGUID";
+
+    private static final String assetType        = "Asset";
+    private static final String processType      = "Process";
+    private static final String neverUsedType    = "NeverUsed";
+    private static final String lineageType      = "DataFlow";
+    private static final String otherLineageType = "ControlFlow";
+    private static final String confidentiality  = "Confidentiality";
+    private static final String criticality      = "Criticality";
+
+
+    /**
+     * Return a store with a repository helper that only supports the creation of entity proxies.
+     *
+     * @return new store
+     */
+    private InMemoryOMRSMetadataStore getStore()
+    {
+        OMRSRepositoryContentHelper repositoryHelper = new OMRSRepositoryContentHelper(null)
+        {
+            @Override
+            public EntityProxy getNewEntityProxy(String       sourceName,
+                                                 EntityDetail entity)
+            {
+                return new EntityProxy(entity);
+            }
+        };
+
+        return new InMemoryOMRSMetadataStore(repositoryName, repositoryHelper, metadataCollection);
+    }
+
+
+    /**
+     * Return an instance type.
+     *
+     * @param typeName name of the type
+     * @return instance type
+     */
+    private InstanceType getType(String typeName)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefName(typeName);
+
+        return instanceType;
+    }
+
+
+    /**
+     * Set the values of the audit header that identify the version of an instance.  Version 1 is created at time
+     * 1000 and each later version is saved 1000 milliseconds after the one before.
+     *
+     * @param instance instance to update
+     * @param typeName name of the instance's type
+     * @param version version number
+     * @param homeMetadataCollection metadata collection that the instance belongs to
+     */
+    private void setHeader(InstanceAuditHeader instance,
+                           String              typeName,
+                           long                version,
+                           String              homeMetadataCollection)
+    {
+        instance.setType(this.getType(typeName));
+        instance.setMetadataCollectionId(homeMetadataCollection);
+        instance.setStatus(InstanceStatus.ACTIVE);
+        instance.setVersion(version);
+        instance.setCreateTime(new Date(1000L));
+
+        if (version > 1)
+        {
+            instance.setUpdateTime(new Date(version * 1000L));
+        }
+    }
+
+
+    /**
+     * Return a version of an entity.  The classifications come from another metadata collection so that
+     * the store does not add them to later versions as home classifications.
+     *
+     * @param guid unique identifier of the entity
+     * @param typeName name of the entity's type
+     * @param version version number
+     * @param classificationNames names of the classifications attached to this version
+     * @return entity
+     */
+    private EntityDetail getEntity(String    guid,
+                                   String    typeName,
+                                   long      version,
+                                   String... classificationNames)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        this.setHeader(entity, typeName, version, metadataCollection);
+
+        if (classificationNames.length > 0)
+        {
+            List<Classification> classifications = new ArrayList<>();
+
+            for (String classificationName : classificationNames)
+            {
+                Classification classification = new Classification();
+
+                classification.setName(classificationName);
+                classification.setMetadataCollectionId(otherMetadataCollection);
+                classification.setVersion(1L);
+
+                classifications.add(classification);
+            }
+
+            entity.setClassifications(classifications);
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Return an entity proxy for one end of a relationship.
+     *
+     * @param guid unique identifier of the entity
+     * @return entity proxy
+     */
+    private EntityProxy getEntityProxy(String guid)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(guid);
+        this.setHeader(entityProxy, assetType, 1L, metadataCollection);
+
+        return entityProxy;
+    }
+
+
+    /**
+     * Return a version of the test relationship.
+     *
+     * @param typeName name of the relationship's type
+     * @param version version number
+     * @param endOneGUID unique identifier of the entity at end one
+     * @param endTwoGUID unique identifier of the entity at end two
+     * @return relationship
+     */
+    private Relationship getRelationship(String typeName,
+                                         long   version,
+                                         String endOneGUID,
+                                         String endTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(relationshipGUID);
+        this.setHeader(relationship, typeName, version, metadataCollection);
+        relationship.setEntityOneProxy(this.getEntityProxy(endOneGUID));
+        relationship.setEntityTwoProxy(this.getEntityProxy(endTwoGUID));
+
+        return relationship;
+    }
+
+
+    /**
+     * Return the versions of the entities returned by a query, indexed by GUID.
+     *
+     * @param entities entities returned by the store
+     * @return map of GUID to version
+     */
+    private Map<String, Long> getEntityVersions(Iterable<EntityDetail> entities)
+    {
+        Map<String, Long> entityVersions = new HashMap<>();
+
+        for (EntityDetail entity : entities)
+        {
+            Assert.assertNull(entityVersions.put(entity.getGUID(), entity.getVersion()), "Duplicate " + entity.getGUID());
+        }
+
+        return entityVersions;
+    }
+
+
+    /**
+     * Return the versions of the relationships returned by a query.
+     *
+     * @param relationships relationships returned by the store
+     * @return list of versions
+     */
+    private List<Long> getRelationshipVersions(Iterable<Relationship> relationships)
+    {
+        List<Long> relationshipVersions = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            relationshipVersions.add(relationship.getVersion());
+        }
+
+        return relationshipVersions;
+    }
+
+
+    @Test
+    public void testEntityTypeIndex() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = this.getStore();
+
+        store.addEntityToStore(this.getEntity(entityOneGUID, assetType, 1L));
+        store.addEntityToStore(this.getEntity(entityTwoGUID, processType, 1L));
+        store.updateEntityInStore(this.getEntity(entityOneGUID, assetType, 2L));
+
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(List.of(assetType), null, null)),
+                            Map.of(entityOneGUID, 2L));
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(List.of(assetType, processType), null, null)),
+                            Map.of(entityOneGUID, 2L, entityTwoGUID, 1L));
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(null, null, null)),
+                            Map.of(entityOneGUID, 2L, entityTwoGUID, 1L));
+        Assert.assertFalse(store.getCandidateEntities(List.of(neverUsedType), null, null).iterator().hasNext());
+    }
+
+
+    @Test
+    public void testReTypeEntity() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = this.getStore();
+
+        store.addEntityToStore(this.getEntity(entityOneGUID, assetType, 1L));
+        store.addEntityToStore(this.getEntity(entityTwoGUID, processType, 1L));
+        store.updateEntityInStore(this.getEntity(entityOneGUID, processType, 2L));
+
+        Assert.assertFalse(store.getCandidateEntities(List.of(assetType), null, null).iterator().hasNext());
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(List.of(processType), null, null)),
+                            Map.of(entityOneGUID, 2L, entityTwoGUID, 1L));
+
+        /*
+         * Before the entity was retyped, it was an asset.
+         */
+        Map<String, Long> historicalAssets = this.getEntityVersions(store.getCandidateEntities(List.of(assetType), null, new Date(1500L)));
+
+        Assert.assertEquals(historicalAssets, Map.of(entityOneGUID, 1L));
+        Assert.assertEquals(store.getEntity(entityOneGUID, new Date(1500L)).getType().getTypeDefName(), assetType);
+        Assert.assertFalse(store.getCandidateEntities(List.of(neverUsedType), null, new Date(1500L)).iterator().hasNext());
+    }
+
+
+    @Test
+    public void testReHomeEntity() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = this.getStore();
+
+        store.addEntityToStore(this.getEntity(entityOneGUID, assetType, 1L));
+
+        EntityDetail reHomedEntity = this.getEntity(entityOneGUID, assetType, 2L);
+
+        reHomedEntity.setMetadataCollectionId(otherMetadataCollection);
+        store.updateEntityInStore(reHomedEntity);
+
+        List<EntityDetail> candidates = new ArrayList<>();
+
+        store.getCandidateEntities(List.of(assetType), null, null).forEach(candidates::add);
+
+        Assert.assertEquals(candidates.size(), 1);
+        Assert.assertEquals(candidates.get(0).getMetadataCollectionId(), otherMetadataCollection);
+        Assert.assertEquals(store.getEntity(entityOneGUID, new Date(1500L)).getMetadataCollectionId(), metadataCollection);
+    }
+
+
+    @Test
+    public void testClassificationIndex() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = this.getStore();
+
+        store.addEntityToStore(this.getEntity(entityOneGUID, assetType, 1L, confidentiality));
+        store.addEntityToStore(this.getEntity(entityTwoGUID, assetType, 1L, confidentiality, criticality));
+        store.addEntityToStore(this.getEntity(entityThreeGUID, processType, 1L, criticality));
+
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(null, List.of(confidentiality), null)).keySet(),
+                            Set.of(entityOneGUID, entityTwoGUID));
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(null, List.of(confidentiality, criticality), null)).keySet(),
+                            Set.of(entityTwoGUID));
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(List.of(processType), List.of(criticality), null)).keySet(),
+                            Set.of(entityThreeGUID));
+
+        /*
+         * Moving a classification from one entity to another updates the index for both.
+         */
+        store.updateEntityInStore(this.getEntity(entityOneGUID, assetType, 2L, confidentiality, criticality));
+        store.updateEntityInStore(this.getEntity(entityTwoGUID, assetType, 2L, confidentiality));
+
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(null, List.of(confidentiality, criticality), null)),
+                            Map.of(entityOneGUID, 2L));
+
+        store.updateEntityInStore(this.getEntity(entityThreeGUID, processType, 2L));
+
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(null, List.of(criticality), null)),
+                            Map.of(entityOneGUID, 2L));
+
+        /*
+         * Historical queries return every entity that has had the classification in any version.  The caller
+         * checks the classifications of the version that is returned.
+         */
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(null, List.of(criticality), new Date(1500L))),
+                            Map.of(entityTwoGUID, 1L, entityThreeGUID, 1L, entityOneGUID, 1L));
+        Assert.assertFalse(store.getCandidateEntities(null, List.of(neverUsedType), new Date(1500L)).iterator().hasNext());
+    }
+
+
+    @Test
+    public void testDeleteAndPurgeEntity() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = this.getStore();
+
+        store.addEntityToStore(this.getEntity(entityOneGUID, assetType, 1L, confidentiality));
+
+        /*
+         * A soft-deleted entity stays in the indexes; it is the caller that filters on status.
+         */
+        EntityDetail deletedEntity = this.getEntity(entityOneGUID, assetType, 2L, confidentiality);
+
+        deletedEntity.setStatus(InstanceStatus.DELETED);
+        store.updateEntityInStore(deletedEntity);
+
+        List<EntityDetail> candidates = new ArrayList<>();
+
+        store.getCandidateEntities(List.of(assetType), List.of(confidentiality), null).forEach(candidates::add);
+
+        Assert.assertEquals(candidates.size(), 1);
+        Assert.assertEquals(candidates.get(0).getStatus(), InstanceStatus.DELETED);
+
+        store.purgeEntityFromStore(entityOneGUID);
+
+        Assert.assertFalse(store.getCandidateEntities(List.of(assetType), null, null).iterator().hasNext());
+        Assert.assertFalse(store.getCandidateEntities(null, List.of(confidentiality), null).iterator().hasNext());
+        Assert.assertFalse(store.getCandidateEntities(null, null, new Date(1500L)).iterator().hasNext());
+        Assert.assertNull(store.getEntity(entityOneGUID, new Date(1500L)));
+
+        /*
+         * The same GUID can be used again once the entity is purged.
+         */
+        store.addEntityToStore(this.getEntity(entityOneGUID, processType, 1L));
+
+        Assert.assertFalse(store.getCandidateEntities(List.of(assetType), null, null).iterator().hasNext());
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(List.of(processType), null, null)),
+                            Map.of(entityOneGUID, 1L));
+    }
+
+
+    @Test
+    public void testRelationshipIndexes() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = this.getStore();
+
+        store.addRelationshipToStore(this.getRelationship(lineageType, 1L, entityOneGUID, entityTwoGUID));
+
+        Assert.assertEquals(this.getRelationshipVersions(store.getCandidateRelationships(List.of(lineageType), null, null)), List.of(1L));
+        Assert.assertEquals(this.getRelationshipVersions(store.getCandidateRelationships(null, entityOneGUID, null)), List.of(1L));
+        Assert.assertEquals(this.getRelationshipVersions(store.getCandidateRelationships(List.of(lineageType), entityTwoGUID, null)), List.of(1L));
+        Assert.assertTrue(this.getRelationshipVersions(store.getCandidateRelationships(List.of(otherLineageType), entityTwoGUID, null)).isEmpty());
+
+        /*
+         * Retype the relationship and move end two to another entity.
+         */
+        store.updateRelationshipInStore(this.getRelationship(otherLineageType, 2L, entityOneGUID, entityThreeGUID));
+
+        Assert.assertTrue(this.getRelationshipVersions(store.getCandidateRelationships(List.of(lineageType), null, null)).isEmpty());
+        Assert.assertTrue(this.getRelationshipVersions(store.getCandidateRelationships(null, entityTwoGUID, null)).isEmpty());
+        Assert.assertEquals(this.getRelationshipVersions(store.getCandidateRelationships(List.of(otherLineageType), entityThreeGUID, null)), List.of(2L));
+
+        /*
+         * Rehome the relationship.
+         */
+        Relationship reHomedRelationship = this.getRelationship(otherLineageType, 3L, entityOneGUID, entityThreeGUID);
+
+        reHomedRelationship.setMetadataCollectionId(otherMetadataCollection);
+        store.updateRelationshipInStore(reHomedRelationship);
+
+        List<Relationship> candidates = new ArrayList<>();
+
+        store.getCandidateRelationships(null, entityOneGUID, null).forEach(candidates::add);
+
+        Assert.assertEquals(candidates.size(), 1);
+        Assert.assertEquals(candidates.get(0).getMetadataCollectionId(), otherMetadataCollection);
+
+        /*
+         * Historical queries find the version that was attached to the old end.
+         */
+        Assert.assertEquals(this.getRelationshipVersions(store.getCandidateRelationships(List.of(lineageType), entityTwoGUID, new Date(1500L))),
+                            List.of(1L));
+        Assert.assertEquals(this.getRelationshipVersions(store.getCandidateRelationships(null, entityThreeGUID, new Date(2500L))),
+                            List.of(2L));
+        Assert.assertTrue(this.getRelationshipVersions(store.getCandidateRelationships(null, "UnknownGUID", new Date(2500L))).isEmpty());
+    }
+
+
+    @Test
+    public void testRemoveAndPurgeRelationship() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = this.getStore();
+
+        store.addRelationshipToStore(this.getRelationship(lineageType, 1L, entityOneGUID, entityTwoGUID));
+        store.updateRelationshipInStore(this.getRelationship(lineageType, 2L, entityOneGUID, entityTwoGUID));
+
+        /*
+         * Removing the relationship takes it out of the indexes but its history can still be queried.
+         */
+        store.removeRelationshipFromStore(this.getRelationship(lineageType, 2L, entityOneGUID, entityTwoGUID));
+
+        Assert.assertNull(store.getRelationship(relationshipGUID));
+        Assert.assertTrue(this.getRelationshipVersions(store.getCandidateRelationships(List.of(lineageType), null, null)).isEmpty());
+        Assert.assertTrue(this.getRelationshipVersions(store.getCandidateRelationships(null, entityOneGUID, null)).isEmpty());
+        Assert.assertTrue(this.getRelationshipVersions(store.getCandidateRelationships(null, null, null)).isEmpty());
+        Assert.assertEquals(this.getRelationshipVersions(store.getCandidateRelationships(List.of(lineageType), entityOneGUID, new Date(1500L))),
+                            List.of(1L));
+
+        store.purgeRelationshipFromStore(relationshipGUID);
+
+        Assert.assertTrue(this.getRelationshipVersions(store.getCandidateRelationships(null, entityOneGUID, new Date(1500L))).isEmpty());
+        Assert.assertNull(store.getRelationship(relationshipGUID, new Date(1500L)));
+    }
+
+
+    @Test
+    public void testAsOfTimeReadsResolveVersions() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = this.getStore();
+
+        store.addEntityToStore(this.getEntity(entityOneGUID, assetType, 1L));
+        store.updateEntityInStore(this.getEntity(entityOneGUID, assetType, 2L));
+        store.updateEntityInStore(this.getEntity(entityOneGUID, assetType, 3L));
+        store.addEntityToStore(this.getEntity(entityTwoGUID, assetType, 1L));
+
+        Assert.assertTrue(this.getEntityVersions(store.getCandidateEntities(null, null, new Date(500L))).isEmpty());
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(List.of(assetType), null, new Date(1000L))),
+                            Map.of(entityOneGUID, 1L, entityTwoGUID, 1L));
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(List.of(assetType), null, new Date(2000L))),
+                            Map.of(entityOneGUID, 2L, entityTwoGUID, 1L));
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(List.of(assetType), null, new Date(2999L))),
+                            Map.of(entityOneGUID, 2L, entityTwoGUID, 1L));
+        Assert.assertEquals(this.getEntityVersions(store.getCandidateEntities(List.of(assetType), null, new Date(5000L))),
+                            Map.of(entityOneGUID, 3L, entityTwoGUID, 1L));
+
+        Assert.assertEquals(store.getEntity(entityOneGUID, new Date(2500L)).getVersion(), 2L);
+        Assert.assertNull(store.getEntity(entityOneGUID, new Date(500L)));
+
+        store.addRelationshipToStore(this.getRelationship(lineageType, 1L, entityOneGUID, entityTwoGUID));
+        store.updateRelationshipInStore(this.getRelationship(lineageType, 2L, entityOneGUID, entityTwoGUID));
+
+        Assert.assertTrue(this.getRelationshipVersions(store.getCandidateRelationships(null, null, new Date(500L))).isEmpty());
+        Assert.assertEquals(this.getRelationshipVersions(store.getCandidateRelationships(null, entityTwoGUID, new Date(1500L))), List.of(1L));
+        Assert.assertEquals(this.getRelationshipVersions(store.getCandidateRelationships(null, entityTwoGUID, new Date(2500L))), List.of(2L));
+        Assert.assertEquals(store.getRelationship(relationshipGUID, new Date(1500L)).getVersion(), 1L);
+    }
+
+
+    @Test
+    public void testHistoricalViewIsLazy() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = this.getStore();
+
+        store.addEntityToStore(this.getEntity(entityOneGUID, assetType, 1L));
+
+        Iterable<EntityDetail> historicalView = store.getCandidateEntities(List.of(assetType), null, new Date(5000L));
+
+        /*
+         * The view resolves the instances as it is iterated, so it sees changes made after it was created.
+         */
+        store.updateEntityInStore(this.getEntity(entityOneGUID, assetType, 2L));
+        store.addEntityToStore(this.getEntity(entityTwoGUID, assetType, 1L));
+
+        Assert.assertEquals(this.getEntityVersions(historicalView), Map.of(entityOneGUID, 2L, entityTwoGUID, 1L));
+
+        /*
+         * Each iterator starts from the beginning and hasNext can be called repeatedly.
+         */
+        Iterator<EntityDetail> iterator = historicalView.iterator();
+
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertNotNull(iterator.next());
+        Assert.assertNotNull(iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+
+        try
+        {
+            iterator.next();
+            Assert.fail("Expected NoSuchElementException");
+        }
+        catch (NoSuchElementException expected)
+        {
+            // The view is exhausted.
+        }
+
+        Assert.assertEquals(this.getEntityVersions(historicalView).size(), 2);
+    }
+}
@@ -0,0 +1,246 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for the version chains maintained by {@link InMemoryOMRSMetadataStore}.
+ */
+public class InMemoryOMRSMetadataStoreTest
+{
+    private static final String repositoryName     = "TestRepository";
+    private static final String metadataCollection = "TestMetadataCollection";
+    private static final String entityGUID         = "TestEntityGUID";
+
+    private static final int updateCount = 2000;
+    private static final int readerCount = 4;
+
+
+    /**
+     * Return a store with a repository helper that only supports the creation of entity proxies.
+     *
+     * @return new store
+     */
+    private InMemoryOMRSMetadataStore getStore()
+    {
+        OMRSRepositoryContentHelper repositoryHelper = new OMRSRepositoryContentHelper(null)
+        {
+            @Override
+            public EntityProxy getNewEntityProxy(String       sourceName,
+                                                 EntityDetail entity)
+            {
+                return new EntityProxy(entity);
+            }
+        };
+
+        return new InMemoryOMRSMetadataStore(repositoryName, repositoryHelper, metadataCollection);
+    }
+
+
+    /**
+     * Return a version of the test entity.
+     *
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntityVersion(long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(entityGUID);
+        entity.setMetadataCollectionId(metadataCollection);
+        entity.setVersion(version);
+        entity.setCreateTime(new Date(1000L));
+
+        if (version > 1)
+        {
+            entity.setUpdateTime(new Date(1000L + version));
+        }
+
+        return entity;
+    }
+
+
+    @Test
+    public void testHistoryIsLatestFirst() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        store.addEntityToStore(getEntityVersion(1));
+
+        for (long version = 2; version <= 10; version++)
+        {
+            store.updateEntityInStore(getEntityVersion(version));
+        }
+
+        Assert.assertEquals(store.getEntity(entityGUID).getVersion(), 10L);
+
+        List<EntityDetail> latestFirst = store.getEntityHistory(entityGUID, null, null, false);
+        List<EntityDetail> oldestFirst = store.getEntityHistory(entityGUID, null, null, true);
+
+        Assert.assertEquals(latestFirst.size(), 10);
+        Assert.assertEquals(oldestFirst.size(), 10);
+
+        for (int index = 0; index < 10; index++)
+        {
+            Assert.assertEquals(latestFirst.get(index).getVersion(), 10L - index);
+            Assert.assertEquals(oldestFirst.get(index).getVersion(), index + 1L);
+        }
+
+        Assert.assertEquals(store.getEntity(entityGUID, new Date(1005L)).getVersion(), 5L);
+        Assert.assertEquals(store.retrievePreviousVersionOfEntity(entityGUID).getVersion(), 9L);
+    }
+
+
+    @Test
+    public void testEarlierSnapshotIsUnchangedByLaterUpdates() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        store.addEntityToStore(getEntityVersion(1));
+        store.updateEntityInStore(getEntityVersion(2));
+
+        List<EntityDetail> snapshot = store.getEntityHistory(entityGUID, null, null, false);
+
+        store.updateEntityInStore(getEntityVersion(3));
+        store.updateEntityInStore(getEntityVersion(4));
+
+        Assert.assertEquals(snapshot.size(), 2);
+        Assert.assertEquals(snapshot.get(0).getVersion(), 2L);
+        Assert.assertEquals(snapshot.get(1).getVersion(), 1L);
+        Assert.assertEquals(store.getEntityHistory(entityGUID, null, null, false).size(), 4);
+    }
+
+
+    @Test
+    public void testSaveClassificationLeavesStoredVersionsUnchanged() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        store.addEntityToStore(getEntityVersion(1));
+        store.updateEntityInStore(getEntityVersion(2));
+
+        EntityDetail entityBefore = store.getEntity(entityGUID);
+
+        Classification classification = new Classification();
+
+        classification.setName("TestClassification");
+        classification.setMetadataCollectionId(metadataCollection);
+        classification.setVersion(1L);
+
+        store.saveClassification(entityGUID, classification);
+
+        /*
+         * The classification is held as a home classification until the entity is next saved.
+         */
+        Assert.assertSame(store.getEntity(entityGUID), entityBefore);
+        Assert.assertNull(entityBefore.getClassifications());
+        Assert.assertEquals(store.getEntityHistory(entityGUID, null, null, false).size(), 2);
+        Assert.assertEquals(store.getHomeClassifications(entityGUID).size(), 1);
+
+        store.updateEntityInStore(getEntityVersion(3));
+
+        EntityDetail entityAfter = store.getEntity(entityGUID);
+
+        Assert.assertEquals(entityAfter.getVersion(), 3L);
+        Assert.assertEquals(entityAfter.getClassifications().size(), 1);
+        Assert.assertEquals(entityAfter.getClassifications().get(0).getName(), "TestClassification");
+        Assert.assertEquals(store.getEntityProxy(entityGUID).getClassifications().size(), 1);
+    }
+
+
+    @Test
+    public void testConcurrentReadersSeeConsistentVersions() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        store.addEntityToStore(getEntityVersion(1));
+
+        CountDownLatch             start   = new CountDownLatch(1);
+        AtomicBoolean              writing = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread>               readers = new ArrayList<>();
+
+        for (int readerNumber = 0; readerNumber < readerCount; readerNumber++)
+        {
+            Thread reader = new Thread(() ->
+            {
+                try
+                {
+                    start.await();
+
+                    long lastVersion = 0;
+
+                    while (writing.get())
+                    {
+                        EntityDetail entity = store.getEntity(entityGUID);
+
+                        Assert.assertTrue(entity.getVersion() >= lastVersion, "Version went backwards");
+                        lastVersion = entity.getVersion();
+
+                        List<EntityDetail> history = store.getEntityHistory(entityGUID, null, null, false);
+
+                        /*
+                         * Each snapshot holds every version from its current version back to the first one.
+                         */
+                        long latestVersion = history.get(0).getVersion();
+
+                        Assert.assertEquals(history.size(), (int) latestVersion);
+
+                        for (int index = 0; index < history.size(); index++)
+                        {
+                            Assert.assertEquals(history.get(index).getVersion(), latestVersion - index);
+                        }
+                    }
+                }
+                catch (Throwable error)
+                {
+                    failure.compareAndSet(null, error);
+                }
+            });
+
+            readers.add(reader);
+            reader.start();
+        }
+
+        start.countDown();
+
+        try
+        {
+            for (long version = 2; version <= updateCount; version++)
+            {
+                store.updateEntityInStore(getEntityVersion(version));
+            }
+        }
+        finally
+        {
+            writing.set(false);
+
+            for (Thread reader : readers)
+            {
+                reader.join();
+            }
+        }
+
+        if (failure.get() != null)
+        {
+            throw new AssertionError("Reader failed", failure.get());
+        }
+
+        Assert.assertEquals(store.getEntity(entityGUID).getVersion(), (long) updateCount);
+        Assert.assertEquals(store.getEntityHistory(entityGUID, null, null, false).size(), updateCount);
+    }
+}
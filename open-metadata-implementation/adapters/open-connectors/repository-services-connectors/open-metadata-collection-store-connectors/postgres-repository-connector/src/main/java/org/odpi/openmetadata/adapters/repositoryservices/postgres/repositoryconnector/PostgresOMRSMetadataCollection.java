@@ -4284,6 +4284,117 @@ public class PostgresOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Save the entities and relationships supplied in the instance graph as a reference copies.
+     * The id of the home metadata collection is already set up in the instances.
+     * Any instances from the home metadata collection are ignored.  All the instances are validated before
+     * any are stored, and the batch is then stored in a single database transaction.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances instances to save.
+     * @throws InvalidParameterException the relationship is null.
+     * @throws RepositoryErrorException a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              EntityNotKnownException,
+                                                                              PropertyErrorException,
+                                                                              EntityConflictException,
+                                                                              RelationshipConflictException,
+                                                                              InvalidEntityException,
+                                                                              InvalidRelationshipException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String methodName                = "saveInstanceReferenceCopies";
+        final String entityParameterName       = "entity";
+        final String relationshipParameterName = "relationship";
+
+        /*
+         * Validate parameters
+         */
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+                    repositoryValidator.validateReferenceInstanceHeader(repositoryName,
+                                                                        metadataCollectionId,
+                                                                        entityParameterName,
+                                                                        entity,
+                                                                        auditLog,
+                                                                        methodName);
+
+                    TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, entityParameterName, entity.getType().getTypeDefGUID(), methodName);
+
+                    repositoryValidator.validatePropertiesForType(repositoryName,
+                                                                  entityParameterName,
+                                                                  typeDef,
+                                                                  entity.getProperties(),
+                                                                  methodName);
+                    entities.add(entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+                    repositoryValidator.validateReferenceInstanceHeader(repositoryName,
+                                                                        metadataCollectionId,
+                                                                        relationshipParameterName,
+                                                                        relationship,
+                                                                        auditLog,
+                                                                        methodName);
+
+                    TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, relationshipParameterName, relationship.getType().getTypeDefGUID(), methodName);
+
+                    repositoryValidator.validatePropertiesForType(repositoryName,
+                                                                  relationshipParameterName,
+                                                                  typeDef,
+                                                                  relationship.getProperties(),
+                                                                  methodName);
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        repositoryStore.addInstancesToStore(entities, relationships);
+    }
+
+
     /**
      * Remove the reference copy of the relationship from the local repository. This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
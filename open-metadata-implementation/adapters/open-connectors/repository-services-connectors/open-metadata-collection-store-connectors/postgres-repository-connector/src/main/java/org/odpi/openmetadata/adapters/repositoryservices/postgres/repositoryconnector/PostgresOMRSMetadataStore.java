@@ -1016,28 +1016,10 @@ class PostgresOMRSMetadataStore
 
         try (DatabaseStore databaseStore = new DatabaseStore(jdbcResourceConnector, repositoryName, repositoryHelper))
         {
-            EntityMapper storedEntity = databaseStore.getEntityForUpdate(entityDetail.getGUID());
+            EntityDetail savedEntity = this.saveEntity(databaseStore, entityDetail);
 
-            if (storedEntity == null)
-            {
-                databaseStore.addEntityToStore(new EntityMapper(entityDetail, repositoryHelper, repositoryName));
-                databaseStore.commit();
-                return entityDetail;
-            }
-            else if (entityDetail.getVersion() > storedEntity.getEntityDetail().getVersion())
-            {
-                databaseStore.updatePreviousEntityVersionEndTime(storedEntity, databaseStore.getVersionEndDate(entityDetail.getUpdateTime()));
-
-                databaseStore.addEntityToStore(new EntityMapper(entityDetail, repositoryHelper, repositoryName));
-                databaseStore.commit();
-                return entityDetail;
-            }
-
-            /*
-             * The stored entity is already at this version (or later) so there is nothing to save.  Nothing has
-             * been changed, so the read is simply rolled back as the store closes.
-             */
-            return storedEntity.getEntityDetail();
+            databaseStore.commit();
+            return savedEntity;
         }
     }
 
@@ -1083,31 +1065,119 @@ class PostgresOMRSMetadataStore
 
         try (DatabaseStore databaseStore = new DatabaseStore(jdbcResourceConnector, repositoryName, repositoryHelper))
         {
-            RelationshipMapper storedRelationship = databaseStore.getRelationshipForUpdate(relationship.getGUID());
+            Relationship savedRelationship = this.saveRelationship(databaseStore, relationship);
 
-            if (storedRelationship == null)
+            databaseStore.commit();
+            return savedRelationship;
+        }
+    }
+
+
+    /**
+     * Save a batch of entities and relationships in a single database transaction.  The entities are saved first
+     * so that the relationships link to them rather than to new proxies.  If any instance can not be saved,
+     * none of the batch is committed.
+     *
+     * @param entities entities to add
+     * @param relationships relationships to add (the entity proxies at each end are added if the entity is unknown)
+     * @throws RepositoryErrorException problem communicating with the database
+     */
+    void addInstancesToStore(List<EntityDetail> entities,
+                             List<Relationship> relationships) throws RepositoryErrorException
+    {
+        final String methodName = "addInstancesToStore";
+
+        if (isReadOnly)
+        {
+            throw new RepositoryErrorException(PostgresErrorCode.READ_ONLY_MODE.getMessageDefinition(repositoryName), this.getClass().getName(), methodName);
+        }
+
+        try (DatabaseStore databaseStore = new DatabaseStore(jdbcResourceConnector, repositoryName, repositoryHelper))
+        {
+            for (EntityDetail entityDetail : entities)
             {
-                databaseStore.addRelationshipToStore(new RelationshipMapper(relationship, repositoryHelper, repositoryName));
-                databaseStore.commit();
-                return relationship;
+                this.saveEntity(databaseStore, entityDetail);
             }
-            else if (relationship.getVersion() > storedRelationship.getRelationship().getVersion())
+
+            for (Relationship relationship : relationships)
             {
-                databaseStore.updatePreviousRelationshipVersionEndTime(storedRelationship, databaseStore.getVersionEndDate(relationship.getUpdateTime()));
-                databaseStore.addRelationshipToStore(new RelationshipMapper(relationship, repositoryHelper, repositoryName));
-                databaseStore.commit();
-                return relationship;
+                databaseStore.addEntityProxyToStore(new EntityMapper(relationship.getEntityOneProxy(), repositoryHelper, repositoryName));
+                databaseStore.addEntityProxyToStore(new EntityMapper(relationship.getEntityTwoProxy(), repositoryHelper, repositoryName));
+
+                this.saveRelationship(databaseStore, relationship);
             }
 
-            /*
-             * The stored relationship is already at this version (or later) so there is nothing to save.  Nothing
-             * has been changed, so the read is simply rolled back as the store closes.
-             */
-            return storedRelationship.getRelationship();
+            databaseStore.commit();
         }
     }
 
 
+    /**
+     * Save an entity within the supplied unit of work.  A new version is only added if it is later than the
+     * stored version.  The caller is responsible for committing the unit of work.
+     *
+     * @param databaseStore unit of work
+     * @param entityDetail entity to save
+     * @return the entity now stored
+     * @throws RepositoryErrorException problem communicating with the database
+     */
+    private EntityDetail saveEntity(DatabaseStore databaseStore,
+                                    EntityDetail  entityDetail) throws RepositoryErrorException
+    {
+        EntityMapper storedEntity = databaseStore.getEntityForUpdate(entityDetail.getGUID());
+
+        if (storedEntity == null)
+        {
+            databaseStore.addEntityToStore(new EntityMapper(entityDetail, repositoryHelper, repositoryName));
+            return entityDetail;
+        }
+        else if (entityDetail.getVersion() > storedEntity.getEntityDetail().getVersion())
+        {
+            databaseStore.updatePreviousEntityVersionEndTime(storedEntity, databaseStore.getVersionEndDate(entityDetail.getUpdateTime()));
+            databaseStore.addEntityToStore(new EntityMapper(entityDetail, repositoryHelper, repositoryName));
+            return entityDetail;
+        }
+
+        /*
+         * The stored entity is already at this version (or later) so there is nothing to save.
+         */
+        return storedEntity.getEntityDetail();
+    }
+
+
+    /**
+     * Save a relationship within the supplied unit of work.  A new version is only added if it is later than the
+     * stored version.  The caller is responsible for committing the unit of work.
+     *
+     * @param databaseStore unit of work
+     * @param relationship relationship to save
+     * @return the relationship now stored
+     * @throws RepositoryErrorException problem communicating with the database
+     */
+    private Relationship saveRelationship(DatabaseStore databaseStore,
+                                          Relationship  relationship) throws RepositoryErrorException
+    {
+        RelationshipMapper storedRelationship = databaseStore.getRelationshipForUpdate(relationship.getGUID());
+
+        if (storedRelationship == null)
+        {
+            databaseStore.addRelationshipToStore(new RelationshipMapper(relationship, repositoryHelper, repositoryName));
+            return relationship;
+        }
+        else if (relationship.getVersion() > storedRelationship.getRelationship().getVersion())
+        {
+            databaseStore.updatePreviousRelationshipVersionEndTime(storedRelationship, databaseStore.getVersionEndDate(relationship.getUpdateTime()));
+            databaseStore.addRelationshipToStore(new RelationshipMapper(relationship, repositoryHelper, repositoryName));
+            return relationship;
+        }
+
+        /*
+         * The stored relationship is already at this version (or later) so there is nothing to save.
+         */
+        return storedRelationship.getRelationship();
+    }
+
+
     /**
      * Maintain a classification within the entity.
      *
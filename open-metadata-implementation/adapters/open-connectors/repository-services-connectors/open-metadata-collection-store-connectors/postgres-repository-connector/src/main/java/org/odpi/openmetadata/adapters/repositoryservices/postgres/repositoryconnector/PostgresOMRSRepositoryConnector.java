@@ -10,6 +10,7 @@ import org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconn
 import org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconnector.ffdc.PostgresAuditCode;
 import org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconnector.ffdc.PostgresErrorCode;
 import org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconnector.mappers.ControlMapper;
+import org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconnector.schema.RepositoryColumn;
 import org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconnector.schema.RepositoryTable;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
@@ -18,7 +19,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -163,6 +166,7 @@ public class PostgresOMRSRepositoryConnector extends OMRSRepositoryConnector
         try
         {
             loadDDL(jdbcResourceConnector, schemaName);
+            loadSearchIndexes(jdbcResourceConnector, schemaName);
 
             try (DatabaseStore databaseStore = new DatabaseStore(jdbcResourceConnector,
                                                                  repositoryName,
@@ -283,6 +287,72 @@ public class PostgresOMRSRepositoryConnector extends OMRSRepositoryConnector
 
 
 
+    /**
+     * Create the trigram indexes on the property values of the attribute tables if they are requested by the
+     * searchIndexMode configuration property.  They allow the "like" and "ilike" predicates used for searches to be
+     * served from an index, even when the search string may appear anywhere in the value.
+     * <br><br>
+     * The indexes are created in their own transaction, after the tables are defined.  The pg_trgm extension may not
+     * be installable by this repository's database user, so a failure is logged and the repository starts without
+     * the indexes.  The searches still return the same results, they are just slower.  The extension's operator
+     * class is named with its schema (searchIndexExtensionSchema) so the index definitions do not depend on the
+     * search path of the database user.
+     *
+     * @param jdbcResourceConnector resource connector for JDBC (started)
+     * @param schemaName name of the schema
+     */
+    private void loadSearchIndexes(JDBCResourceConnector jdbcResourceConnector,
+                                   String                schemaName)
+    {
+        final String methodName = "loadSearchIndexes";
+
+        String searchIndexMode = super.getStringConfigurationProperty(PostgresConfigurationProperty.SEARCH_INDEX_MODE.getName(),
+                                                                      connectionBean.getConfigurationProperties());
+
+        if (! "trigram".equals(searchIndexMode))
+        {
+            searchIndexMode = "none";
+        }
+
+        auditLog.logMessage(methodName, PostgresAuditCode.SEARCH_INDEX_MODE.getMessageDefinition(repositoryName, searchIndexMode));
+
+        if ("trigram".equals(searchIndexMode))
+        {
+            String extensionSchemaName = super.getStringConfigurationProperty(PostgresConfigurationProperty.SEARCH_INDEX_EXTENSION_SCHEMA.getName(),
+                                                                              connectionBean.getConfigurationProperties());
+
+            if (extensionSchemaName == null)
+            {
+                extensionSchemaName = "public";
+            }
+
+            List<String> ddlStatements = new ArrayList<>();
+
+            ddlStatements.add("create extension if not exists pg_trgm schema " + extensionSchemaName + ";");
+
+            for (RepositoryTable attributeValueTable : RepositoryTable.getAttributeValueTables())
+            {
+                ddlStatements.add("create index if not exists " + attributeValueTable.getTableName() + "_value_trgm on " +
+                                          attributeValueTable.getTableName(schemaName) + " using gin (" +
+                                          RepositoryColumn.PROPERTY_VALUE.getColumnName() + " " + extensionSchemaName + ".gin_trgm_ops);");
+            }
+
+            try (java.sql.Connection jdbcConnection = jdbcResourceConnector.getDataSource().getConnection())
+            {
+                jdbcResourceConnector.addDatabaseDefinitions(jdbcConnection, ddlStatements);
+                jdbcConnection.commit();
+            }
+            catch (Exception error)
+            {
+                auditLog.logMessage(methodName, PostgresAuditCode.SEARCH_INDEX_FAILED.getMessageDefinition(repositoryName,
+                                                                                                          schemaName,
+                                                                                                          error.getClass().getName(),
+                                                                                                          error.getMessage()));
+            }
+        }
+    }
+
+
     /**
      * Extract the value for repository mode from the configuration properties and return a boolean to indicate
      * id the repository is in read-only mode.
@@ -24,6 +24,8 @@ public enum PostgresConfigurationProperty
     DEFAULT_AS_OF_TIME ("defaultAsOfTime", "Optional value that changes the default value for 'asOfTime'. The 'asOfTime' parameter is used on queries to control which point in time to take the open metadata from.  The standard default is 'null' which means use the current time. If the 'defaultAsOfTime' option is specified then, by default, queries will use the supplied asOfTime value.  This can be overridden on individual requests.  Creates, updates, deletes continue to be appended to the database.  The mode recent data can be retrieved by setting the asOfTime to the current time on queries.", DataType.DATE.getDisplayName(), null),
     REPOSITORY_MODE ("repositoryMode", "Optional value that controls which functions are active in the repository. If it is set to 'readOnly' the repository is switched into read-only mode.  Any other value (or if it is not specified) results in a read-write repository.", DataType.DATE.getDisplayName(), "yyyy/MM/dd HH:mm:ss"),
     JDBC_MAXIMUM_POOL_SIZE ("jdbcMaximumPoolSize", "Optional value that sets the maximum number of database connections this repository will hold open at once.  It is passed straight through to the embedded JDBC resource connector.  This repository's pool is the single route to the database for every metadata request the server handles, so it needs to be sized for the server's concurrency rather than left at the JDBC connector's general default.  This value overrides any setting on the embedded JDBC connection, which acts as the default.", DataType.INT.getDisplayName(), "10"),
+    SEARCH_INDEX_MODE ("searchIndexMode", "Optional value that adds indexes to speed up the searches on property values, such as findEntitiesByPropertyValue.  If it is set to 'trigram', the pg_trgm extension is enabled and a trigram index is created on the property value column of each attribute table.  These indexes serve the 'like' and 'ilike' predicates that the search strings are translated into, even when the search string may appear anywhere in the value.  Any other value, such as 'none' (the default), means no additional indexes are created.  The database user needs permission to create the extension if it is not already installed.", DataType.STRING.getDisplayName(), "none"),
+    SEARCH_INDEX_EXTENSION_SCHEMA ("searchIndexExtensionSchema", "Optional value that names the database schema where the pg_trgm extension is installed when searchIndexMode is 'trigram'.  If the extension is not yet installed, it is created in this schema.  The trigram indexes refer to the extension's operator class in this schema, so they do not depend on the search path of the database user.  The default is 'public'.", DataType.STRING.getDisplayName(), "public"),
     ;
 
     public final String           name;
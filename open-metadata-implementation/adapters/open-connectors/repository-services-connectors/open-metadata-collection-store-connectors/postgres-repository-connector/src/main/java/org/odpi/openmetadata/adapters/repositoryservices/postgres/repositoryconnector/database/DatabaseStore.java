@@ -16,6 +16,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.*;
 
 /**
@@ -202,11 +204,17 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
+            parameters.add(new JDBCDataValue(entityGUID, Types.VARCHAR));
+            parameters.add(new JDBCDataValue(classificationName, Types.VARCHAR));
+
             Map<String, JDBCDataValue> classificationRow = jdbcResourceConnector.getMatchingRow(jdbcConnection,
                                                                                                 RepositoryTable.CLASSIFICATION.getTableName(),
-                                                                                                RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + entityGUID +
-                                                                                                        "' and " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = '" + classificationName + "'" +
-                                                                                                        getAsOfTimeClause(null),
+                                                                                                RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " +
+                                                                                                        RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = ?" +
+                                                                                                        getAsOfTimeClause(null, parameters),
+                                                                                                parameters,
                                                                                                 RepositoryTable.CLASSIFICATION.getColumnNameTypeMap());
 
             if (classificationRow != null)
@@ -215,14 +223,14 @@ public class DatabaseStore implements AutoCloseable
 
                 long version = baseMapper.getLongPropertyFromColumn(RepositoryColumn.VERSION.getColumnName(), classificationRow, true);
 
-                String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + entityGUID +
-                        "' and " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = '" + classificationName +
-                        "' and " + RepositoryColumn.VERSION.getColumnName() + " = " + version;
-
+                String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " +
+                        RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = ? and " +
+                        RepositoryColumn.VERSION.getColumnName() + " = ?";
 
                 List<Map<String, JDBCDataValue>> classificationProperties = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                                   RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getTableName(),
                                                                                                                   whereClause,
+                                                                                                                  this.getAttributeKeyParameters(entityGUID, classificationName, version),
                                                                                                                   RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getColumnNameTypeMap());
                 return new ClassificationMapper(classificationRow, classificationProperties, repositoryHelper, repositoryName);
             }
@@ -261,11 +269,17 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
-            String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "' and " + RepositoryColumn.METADATA_COLLECTION_GUID.getColumnName() + " = '" + localMetadataCollectionId + "' " + this.getAsOfTimeClause(asOfTime) + ";";
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
+            parameters.add(new JDBCDataValue(guid, Types.VARCHAR));
+            parameters.add(new JDBCDataValue(localMetadataCollectionId, Types.VARCHAR));
+
+            String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " + RepositoryColumn.METADATA_COLLECTION_GUID.getColumnName() + " = ? " + this.getAsOfTimeClause(asOfTime, parameters) + ";";
 
             List<Map<String, JDBCDataValue>> classifications = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                      RepositoryTable.CLASSIFICATION.getTableName(),
                                                                                                      whereClause,
+                                                                                                     parameters,
                                                                                                      RepositoryTable.CLASSIFICATION.getColumnNameTypeMap());
 
             List<ClassificationMapper> classificationMappers = null;
@@ -274,22 +288,19 @@ public class DatabaseStore implements AutoCloseable
             {
                 classificationMappers = new ArrayList<>();
 
+                /*
+                 * The attributes of all the classifications are retrieved in a single query.
+                 */
+                Map<String, List<Map<String, JDBCDataValue>>> classificationAttributes = this.getAttributeRowsByPrimaryKey(classifications,
+                                                                                                                           RepositoryTable.CLASSIFICATION,
+                                                                                                                           RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE);
+
                 for (Map<String, JDBCDataValue> classificationRow : classifications)
                 {
                     if (classificationRow != null)
                     {
-                        String classificationName = baseMapper.getStringPropertyFromColumn(RepositoryColumn.CLASSIFICATION_NAME.getColumnName(), classificationRow, true);
-                        long   version            = baseMapper.getLongPropertyFromColumn(RepositoryColumn.VERSION.getColumnName(), classificationRow, true);
-
-                        String classificationWhereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "' and " + RepositoryColumn.VERSION.getColumnName() + " = " + version + " and " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = '" + classificationName + "';";
-
-                        List<Map<String, JDBCDataValue>> classificationProperties = jdbcResourceConnector.getMatchingRows(jdbcConnection,
-                                                                                                                          RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getTableName(),
-                                                                                                                          classificationWhereClause,
-                                                                                                                          RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getColumnNameTypeMap());
-
                         ClassificationMapper classificationMapper = new ClassificationMapper(classificationRow,
-                                                                                             classificationProperties,
+                                                                                             classificationAttributes.get(this.getPrimaryKey(classificationRow, RepositoryTable.CLASSIFICATION)),
                                                                                              repositoryHelper,
                                                                                              repositoryName);
 
@@ -329,9 +340,14 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
+            parameters.add(new JDBCDataValue(guid, Types.VARCHAR));
+
             Map<String, JDBCDataValue> entityRow = jdbcResourceConnector.getMatchingRow(jdbcConnection,
                                                                                         RepositoryTable.ENTITY.getTableName(),
-                                                                                        RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "'" + getAsOfTimeClause(asOfTime),
+                                                                                        RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?" + getAsOfTimeClause(asOfTime, parameters),
+                                                                                        parameters,
                                                                                         RepositoryTable.ENTITY.getColumnNameTypeMap());
 
             return this.getCompleteEntityFromStore(guid, entityRow, asOfTime);
@@ -365,9 +381,14 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
+            parameters.add(new JDBCDataValue(guid, Types.VARCHAR));
+
             Map<String, JDBCDataValue> relationshipRow = jdbcResourceConnector.getMatchingRow(jdbcConnection,
                                                                                               RepositoryTable.RELATIONSHIP.getTableName(),
-                                                                                              RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "'" + getAsOfTimeClause(asOfTime),
+                                                                                              RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?" + getAsOfTimeClause(asOfTime, parameters),
+                                                                                              parameters,
                                                                                               RepositoryTable.RELATIONSHIP.getColumnNameTypeMap());
 
             return this.getCompleteRelationshipFromStore(guid, relationshipRow, asOfTime);
@@ -405,7 +426,10 @@ public class DatabaseStore implements AutoCloseable
         // query cannot return duplicate rows on its own. "distinct" is more than redundant here: postgres
         // rejects "order by <expression not in the select list>" on a "select distinct" query, which would
         // otherwise block PROPERTY_ASCENDING/PROPERTY_DESCENDING sequencing (see QueryBuilder.getSequencingPropertyOrderClause()).
-        String sqlEntityQuery = "select * from " + RepositoryTable.ENTITY.getTableName() + " where " + entityQueryBuilder.getAsOfTimeWhereClause();
+        //
+        // The parameter values are added to the list in the order that the fragments appear in the SQL.
+        List<JDBCDataValue> parameters     = new ArrayList<>();
+        String              sqlEntityQuery = "select * from " + RepositoryTable.ENTITY.getTableName() + " where " + entityQueryBuilder.getAsOfTimeWhereClause(parameters);
 
         try
         {
@@ -414,7 +438,8 @@ public class DatabaseStore implements AutoCloseable
             if (classificationQueryBuilder == null)
             {
                 entityRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
-                                                                   sqlEntityQuery + entityQueryBuilder.getSequenceAndPaging(RepositoryTable.ENTITY.getTableName()),
+                                                                   sqlEntityQuery + entityQueryBuilder.getSequenceAndPaging(RepositoryTable.ENTITY.getTableName(), parameters),
+                                                                   parameters,
                                                                    RepositoryTable.ENTITY.getColumnNameTypeMap());
             }
             else
@@ -422,13 +447,14 @@ public class DatabaseStore implements AutoCloseable
                 String sqlClassificationQuery =
                         "select " + RepositoryColumn.INSTANCE_GUID.getColumnName(RepositoryTable.CLASSIFICATION.getTableName()) +
                                 " from " + RepositoryTable.CLASSIFICATION.getTableName() +
-                                " where " + classificationQueryBuilder.getAsOfTimeWhereClause();
+                                " where " + classificationQueryBuilder.getAsOfTimeWhereClause(parameters);
 
                 entityRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                    sqlEntityQuery + " and " +
                                                                            RepositoryColumn.INSTANCE_GUID.getColumnName(RepositoryTable.ENTITY.getTableName()) +
                                                                            " in (" + sqlClassificationQuery + ")" +
-                                                                           entityQueryBuilder.getSequenceAndPaging(RepositoryTable.ENTITY.getTableName()),
+                                                                           entityQueryBuilder.getSequenceAndPaging(RepositoryTable.ENTITY.getTableName(), parameters),
+                                                                   parameters,
                                                                    RepositoryTable.ENTITY.getColumnNameTypeMap());
             }
 
@@ -474,25 +500,28 @@ public class DatabaseStore implements AutoCloseable
     {
         final String methodName = "countEntitiesByProperties";
 
+        List<JDBCDataValue> parameters = new ArrayList<>();
+
         String entityGUIDColumn = RepositoryColumn.INSTANCE_GUID.getColumnName(RepositoryTable.ENTITY.getTableName());
         String sqlEntityQuery = "select count(distinct " + entityGUIDColumn + ") from " + RepositoryTable.ENTITY.getTableName() + " where " +
-                entityQueryBuilder.getAsOfTimeWhereClause() + entityQueryBuilder.getLocalMetadataCollectionClause(localMetadataCollectionId);
+                entityQueryBuilder.getAsOfTimeWhereClause(parameters) + entityQueryBuilder.getLocalMetadataCollectionClause(localMetadataCollectionId, parameters);
 
         try
         {
             if (classificationQueryBuilder == null)
             {
-                return jdbcResourceConnector.countMatchingRows(jdbcConnection, sqlEntityQuery);
+                return jdbcResourceConnector.countMatchingRows(jdbcConnection, sqlEntityQuery, parameters);
             }
             else
             {
                 String sqlClassificationQuery =
                         "select " + RepositoryColumn.INSTANCE_GUID.getColumnName(RepositoryTable.CLASSIFICATION.getTableName()) +
                                 " from " + RepositoryTable.CLASSIFICATION.getTableName() +
-                                " where " + classificationQueryBuilder.getAsOfTimeWhereClause();
+                                " where " + classificationQueryBuilder.getAsOfTimeWhereClause(parameters);
 
                 return jdbcResourceConnector.countMatchingRows(jdbcConnection,
-                                                         sqlEntityQuery + " and " + entityGUIDColumn + " in (" + sqlClassificationQuery + ")");
+                                                         sqlEntityQuery + " and " + entityGUIDColumn + " in (" + sqlClassificationQuery + ")",
+                                                         parameters);
             }
         }
         catch (PropertyServerException sqlException)
@@ -524,11 +553,13 @@ public class DatabaseStore implements AutoCloseable
         // See the equivalent comment in retrieveEntitiesByProperties() - no "distinct" needed (the where clause
         // only narrows rows via EXISTS/IN subqueries, never a join), and it would otherwise block
         // PROPERTY_ASCENDING/PROPERTY_DESCENDING sequencing.
-        String sqQuery = "select * from " + RepositoryTable.RELATIONSHIP.getTableName() + " where " + queryBuilder.getAsOfTimeWhereClause();
+        List<JDBCDataValue> parameters = new ArrayList<>();
+        String              sqQuery    = "select * from " + RepositoryTable.RELATIONSHIP.getTableName() + " where " + queryBuilder.getAsOfTimeWhereClause(parameters);
         try
         {
             List<Map<String, JDBCDataValue>> relationshipRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
-                                                                                                      sqQuery + queryBuilder.getSequenceAndPaging(RepositoryTable.RELATIONSHIP.getTableName()),
+                                                                                                      sqQuery + queryBuilder.getSequenceAndPaging(RepositoryTable.RELATIONSHIP.getTableName(), parameters),
+                                                                                                      parameters,
                                                                                                       RepositoryTable.RELATIONSHIP.getColumnNameTypeMap());
 
             if (relationshipRows != null)
@@ -567,12 +598,14 @@ public class DatabaseStore implements AutoCloseable
         // See the equivalent comment in retrieveEntitiesByProperties() - no "distinct" needed (the where clause
         // only narrows rows via EXISTS/IN subqueries, never a join), and it would otherwise block
         // PROPERTY_ASCENDING/PROPERTY_DESCENDING sequencing.
-        String sqlQuery = "select * from " + RepositoryTable.RELATIONSHIP.getTableName() + " where " + queryBuilder.getAsOfTimeWhereClause() + queryBuilder.getSequenceAndPaging(RepositoryTable.RELATIONSHIP.getTableName());
+        List<JDBCDataValue> parameters = new ArrayList<>();
+        String              sqlQuery   = "select * from " + RepositoryTable.RELATIONSHIP.getTableName() + " where " + queryBuilder.getAsOfTimeWhereClause(parameters) + queryBuilder.getSequenceAndPaging(RepositoryTable.RELATIONSHIP.getTableName(), parameters);
 
         try
         {
             List<Map<String, JDBCDataValue>> relationshipRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                       sqlQuery,
+                                                                                                      parameters,
                                                                                                       RepositoryTable.RELATIONSHIP.getColumnNameTypeMap());
 
             if (relationshipRows != null)
@@ -615,13 +648,15 @@ public class DatabaseStore implements AutoCloseable
     {
         final String methodName = "countRelationshipsByProperties";
 
+        List<JDBCDataValue> parameters = new ArrayList<>();
+
         String relationshipGUIDColumn = RepositoryColumn.INSTANCE_GUID.getColumnName(RepositoryTable.RELATIONSHIP.getTableName());
         String sqlQuery = "select count(distinct " + relationshipGUIDColumn + ") from " + RepositoryTable.RELATIONSHIP.getTableName() + " where " +
-                queryBuilder.getAsOfTimeWhereClause() + queryBuilder.getLocalMetadataCollectionClause(localMetadataCollectionId);
+                queryBuilder.getAsOfTimeWhereClause(parameters) + queryBuilder.getLocalMetadataCollectionClause(localMetadataCollectionId, parameters);
 
         try
         {
-            return jdbcResourceConnector.countMatchingRows(jdbcConnection, sqlQuery);
+            return jdbcResourceConnector.countMatchingRows(jdbcConnection, sqlQuery, parameters);
         }
         catch (PropertyServerException sqlException)
         {
@@ -659,13 +694,14 @@ public class DatabaseStore implements AutoCloseable
 
                 if (versionObject != null)
                 {
-                    String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "' and " +
-                            RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = '" + classificationName + "' and " +
-                            RepositoryColumn.VERSION.getColumnName() + " = " + versionObject;
+                    String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " +
+                            RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = ? and " +
+                            RepositoryColumn.VERSION.getColumnName() + " = ?";
 
                     List<Map<String, JDBCDataValue>> matchingRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                           RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getTableName(),
                                                                                                           whereClause,
+                                                                                                          this.getAttributeKeyParameters(guid, classificationName, Long.parseLong(versionObject.toString())),
                                                                                                           RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getColumnNameTypeMap());
 
 
@@ -715,14 +751,20 @@ public class DatabaseStore implements AutoCloseable
 
                 if (versionObject != null)
                 {
-                    String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "' and " + RepositoryColumn.VERSION.getColumnName() + " = " + versionObject;
+                    String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " + RepositoryColumn.VERSION.getColumnName() + " = ?";
 
                     List<Map<String, JDBCDataValue>> entityProperties = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                               RepositoryTable.ENTITY_ATTRIBUTE_VALUE.getTableName(),
                                                                                                               whereClause,
+                                                                                                              this.getAttributeKeyParameters(guid, null, Long.parseLong(versionObject.toString())),
                                                                                                               RepositoryTable.ENTITY_ATTRIBUTE_VALUE.getColumnNameTypeMap());
 
-                    Map<String, List<ClassificationMapper>> classificationMappersForEntityGUIDs = getClassificationMappersForEntityGUIDs(RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "'" + getAsOfTimeClause(asOfTime));
+                    List<JDBCDataValue> classificationParameters = new ArrayList<>();
+
+                    classificationParameters.add(new JDBCDataValue(guid, Types.VARCHAR));
+
+                    Map<String, List<ClassificationMapper>> classificationMappersForEntityGUIDs = getClassificationMappersForEntityGUIDs(RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?" + getAsOfTimeClause(asOfTime, classificationParameters),
+                                                                                                                                        classificationParameters);
 
                     return new EntityMapper(entityRow,
                                             entityProperties,
@@ -771,17 +813,17 @@ public class DatabaseStore implements AutoCloseable
                 String end1GUID = baseMapper.getStringPropertyFromColumn(RepositoryColumn.END_1_GUID.getColumnName(), relationshipRow, true);
                 String end2GUID = baseMapper.getStringPropertyFromColumn(RepositoryColumn.END_2_GUID.getColumnName(), relationshipRow, true);
 
-                String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "' and " + RepositoryColumn.VERSION.getColumnName() + " = " + version;
+                String whereClause = RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " + RepositoryColumn.VERSION.getColumnName() + " = ?";
 
                 List<Map<String, JDBCDataValue>> relationshipProperties = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                                 RepositoryTable.RELATIONSHIP_ATTRIBUTE_VALUE.getTableName(),
                                                                                                                 whereClause,
+                                                                                                                this.getAttributeKeyParameters(guid, null, version),
                                                                                                                 RepositoryTable.RELATIONSHIP_ATTRIBUTE_VALUE.getColumnNameTypeMap());
 
-                EntityMapper end1Mapper = this.getEntityFromStore(end1GUID, asOfTime);
-                EntityMapper end2Mapper = this.getEntityFromStore(end2GUID, asOfTime);
+                Map<String, EntityMapper> entityEnds = this.getEntityEnds(Collections.singletonList(relationshipRow), asOfTime);
 
-                return new RelationshipMapper(relationshipRow, relationshipProperties, end1Mapper, end2Mapper, repositoryHelper, repositoryName);
+                return new RelationshipMapper(relationshipRow, relationshipProperties, entityEnds.get(end1GUID), entityEnds.get(end2GUID), repositoryHelper, repositoryName);
             }
         }
         catch (PropertyServerException sqlException)
@@ -799,6 +841,48 @@ public class DatabaseStore implements AutoCloseable
     }
 
 
+    /**
+     * Retrieve the entities at the ends of a list of relationships.  Both ends of all the relationships are
+     * retrieved together so the number of queries does not depend on the number of relationships.
+     *
+     * @param relationshipRows rows from the relationship table
+     * @param asOfTime time required
+     * @return map of guids and the corresponding entity mapper (may be empty but not null)
+     * @throws RepositoryErrorException problem retrieving values from the database
+     */
+    private Map<String, EntityMapper> getEntityEnds(List<Map<String, JDBCDataValue>> relationshipRows,
+                                                    Date                             asOfTime) throws RepositoryErrorException
+    {
+        List<String> entityGUIDs = new ArrayList<>();
+
+        for (Map<String, JDBCDataValue> relationshipRow : relationshipRows)
+        {
+            String entityGUID = baseMapper.getStringPropertyFromColumn(RepositoryColumn.END_1_GUID.getColumnName(), relationshipRow, true);
+
+            if (! entityGUIDs.contains(entityGUID))
+            {
+                entityGUIDs.add(entityGUID);
+            }
+
+            entityGUID = baseMapper.getStringPropertyFromColumn(RepositoryColumn.END_2_GUID.getColumnName(), relationshipRow, true);
+
+            if (! entityGUIDs.contains(entityGUID))
+            {
+                entityGUIDs.add(entityGUID);
+            }
+        }
+
+        Map<String, EntityMapper> entityEnds = this.getCompleteEntitiesFromGUIDs(entityGUIDs, asOfTime);
+
+        if (entityEnds == null)
+        {
+            return new HashMap<>();
+        }
+
+        return entityEnds;
+    }
+
+
     /**
      * Retrieve the entities requested.
      *
@@ -829,9 +913,12 @@ public class DatabaseStore implements AutoCloseable
                 queryBuilder.setGUIDList(entityGUIDs);
                 queryBuilder.setAsOfTime(asOfTime);
 
+                List<JDBCDataValue> parameters = new ArrayList<>();
+
                 List<Map<String, JDBCDataValue>> entityRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                     RepositoryTable.ENTITY.getTableName(),
-                                                                                                    queryBuilder.getAsOfTimeWhereClause() + queryBuilder.getSequenceAndPaging(RepositoryTable.ENTITY.getTableName()),
+                                                                                                    queryBuilder.getAsOfTimeWhereClause(parameters) + queryBuilder.getSequenceAndPaging(RepositoryTable.ENTITY.getTableName(), parameters),
+                                                                                                    parameters,
                                                                                                     RepositoryTable.ENTITY.getColumnNameTypeMap());
 
                 return this.getCompleteEntitiesFromStore(entityRows, asOfTime);
@@ -885,7 +972,10 @@ public class DatabaseStore implements AutoCloseable
             queryBuilder.setGUIDList(new ArrayList<>(databaseResultRowsMap.keySet()));
             queryBuilder.setAsOfTime(asOfTime);
 
-            Map<String, List<ClassificationMapper>> classificationMappersForEntityGUIDs = getClassificationMappersForEntityGUIDs(queryBuilder.getAsOfTimeWhereClause() + queryBuilder.getSequenceAndPaging(RepositoryTable.CLASSIFICATION.getTableName()));
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
+            Map<String, List<ClassificationMapper>> classificationMappersForEntityGUIDs = getClassificationMappersForEntityGUIDs(queryBuilder.getAsOfTimeWhereClause(parameters) + queryBuilder.getSequenceAndPaging(RepositoryTable.CLASSIFICATION.getTableName(), parameters),
+                                                                                                                                parameters);
 
             /*
              * All of the information is assembled to build the entity mappers.
@@ -940,25 +1030,7 @@ public class DatabaseStore implements AutoCloseable
                 /*
                  * Relationships each link to two entities.  Retrieve details about the linked ends
                  */
-                List<String> entityGUIDs = new ArrayList<>();
-                for (Map<String, JDBCDataValue> relationshipRow : relationshipRows)
-                {
-                    String entityGUID = baseMapper.getStringPropertyFromColumn(RepositoryColumn.END_1_GUID.getColumnName(), relationshipRow, true);
-
-                    if (! entityGUIDs.contains(entityGUID))
-                    {
-                        entityGUIDs.add(entityGUID);
-                    }
-
-                    entityGUID = baseMapper.getStringPropertyFromColumn(RepositoryColumn.END_2_GUID.getColumnName(), relationshipRow, true);
-
-                    if (! entityGUIDs.contains(entityGUID))
-                    {
-                        entityGUIDs.add(entityGUID);
-                    }
-                }
-
-                Map<String, EntityMapper> entityEnds = getCompleteEntitiesFromGUIDs(entityGUIDs, asOfTime);
+                Map<String, EntityMapper> entityEnds = this.getEntityEnds(relationshipRows, asOfTime);
 
                 /*
                  * All of the information is available to create the relationships
@@ -1014,9 +1086,7 @@ public class DatabaseStore implements AutoCloseable
                                                          repositoryHelper,
                                                          repositoryName);
             List<String> instanceGUIDs  = new ArrayList<>();
-
-            StringBuilder instanceWhereClause = new StringBuilder();
-            boolean       firstInstance       = true;
+            List<Long>   versions       = new ArrayList<>();
 
             /*
              * Step through the results and use the first row returned for each instance GUID.
@@ -1037,18 +1107,7 @@ public class DatabaseStore implements AutoCloseable
                     /*
                      * The retrieve of the properties is by version for speed.
                      */
-                    long version = baseMapper.getLongPropertyFromColumn(RepositoryColumn.VERSION.getColumnName(), instanceRow, true);
-
-                    if (firstInstance)
-                    {
-                        firstInstance = false;
-                    }
-                    else
-                    {
-                        instanceWhereClause.append(" or ");
-                    }
-
-                    instanceWhereClause.append(queryBuilder.getPrimaryKeysClause(instanceGUID, version, null));
+                    versions.add(baseMapper.getLongPropertyFromColumn(RepositoryColumn.VERSION.getColumnName(), instanceRow, true));
 
                     DatabaseResultRows databaseResultRows = new DatabaseResultRows();
                     databaseResultRows.principleTableRow = instanceRow;
@@ -1060,9 +1119,12 @@ public class DatabaseStore implements AutoCloseable
             /*
              * Retrieve the attribute rows and organize them by instance GUID.
              */
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
             List<Map<String, JDBCDataValue>> attributeRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                    attributesTable.getTableName(),
-                                                                                                   instanceWhereClause.toString(),
+                                                                                                   queryBuilder.getPrimaryKeysListClause(instanceGUIDs, versions, null, parameters),
+                                                                                                   parameters,
                                                                                                    attributesTable.getColumnNameTypeMap());
 
             if (attributeRows != null)
@@ -1097,14 +1159,186 @@ public class DatabaseStore implements AutoCloseable
     }
 
 
+    /**
+     * Retrieve the attribute rows for a list of instance rows with a single query.  Unlike
+     * getAttributesDatabaseResults(), every instance row is used (including multiple versions of the same
+     * instance) and the attribute rows are grouped by the primary key of the instance row they belong to.
+     *
+     * @param instanceRows rows from principle instance table (entity, relationship or classification)
+     * @param principleTable table holding instance header
+     * @param attributesTable the attributes table to retrieve from
+     * @return map of primary key (see getPrimaryKey()) to attribute rows
+     * @throws RepositoryErrorException unexpected exception retrieving values from the database
+     */
+    private Map<String, List<Map<String, JDBCDataValue>>> getAttributeRowsByPrimaryKey(List<Map<String, JDBCDataValue>> instanceRows,
+                                                                                         RepositoryTable                  principleTable,
+                                                                                         RepositoryTable                  attributesTable) throws RepositoryErrorException
+    {
+        final String methodName = "getAttributeRowsByPrimaryKey";
+
+        Map<String, List<Map<String, JDBCDataValue>>> attributeRowsMap = new HashMap<>();
+
+        if ((instanceRows == null) || (instanceRows.isEmpty()))
+        {
+            return attributeRowsMap;
+        }
+
+        List<String> instanceGUIDs       = new ArrayList<>();
+        List<Long>   versions            = new ArrayList<>();
+        List<String> classificationNames = null;
+
+        if (principleTable == RepositoryTable.CLASSIFICATION)
+        {
+            classificationNames = new ArrayList<>();
+        }
+
+        for (Map<String, JDBCDataValue> instanceRow : instanceRows)
+        {
+            instanceGUIDs.add(baseMapper.getStringPropertyFromColumn(RepositoryColumn.INSTANCE_GUID.getColumnName(), instanceRow, true));
+            versions.add(baseMapper.getLongPropertyFromColumn(RepositoryColumn.VERSION.getColumnName(), instanceRow, true));
+
+            if (classificationNames != null)
+            {
+                classificationNames.add(baseMapper.getStringPropertyFromColumn(RepositoryColumn.CLASSIFICATION_NAME.getColumnName(), instanceRow, true));
+            }
+        }
+
+        try
+        {
+            QueryBuilder queryBuilder = new QueryBuilder(principleTable.getTableName(),
+                                                         attributesTable.getTableName(),
+                                                         repositoryHelper,
+                                                         repositoryName);
+
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
+            List<Map<String, JDBCDataValue>> attributeRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
+                                                                                                   attributesTable.getTableName(),
+                                                                                                   queryBuilder.getPrimaryKeysListClause(instanceGUIDs, versions, classificationNames, parameters),
+                                                                                                   parameters,
+                                                                                                   attributesTable.getColumnNameTypeMap());
+
+            if (attributeRows != null)
+            {
+                for (Map<String, JDBCDataValue> attributeRow : attributeRows)
+                {
+                    String primaryKey = this.getPrimaryKey(attributeRow, principleTable);
+
+                    List<Map<String, JDBCDataValue>> instanceAttributeRows = attributeRowsMap.get(primaryKey);
+
+                    if (instanceAttributeRows == null)
+                    {
+                        instanceAttributeRows = new ArrayList<>();
+                        attributeRowsMap.put(primaryKey, instanceAttributeRows);
+                    }
+
+                    instanceAttributeRows.add(attributeRow);
+                }
+            }
+
+            return attributeRowsMap;
+        }
+        catch (PropertyServerException sqlException)
+        {
+            throw new RepositoryErrorException(PostgresErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(repositoryName,
+                                                                                                           sqlException.getClass().getName(),
+                                                                                                           methodName,
+                                                                                                           sqlException.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               sqlException);
+        }
+    }
+
+
+    /**
+     * Return the primary key of a row from an instance table or its attributes table.  This is the
+     * instance GUID and version, plus the classification name for classifications.
+     *
+     * @param row row from the database
+     * @param principleTable table holding instance header
+     * @return primary key as a string
+     * @throws RepositoryErrorException one of the key columns is missing
+     */
+    private String getPrimaryKey(Map<String, JDBCDataValue> row,
+                                 RepositoryTable            principleTable) throws RepositoryErrorException
+    {
+        String primaryKey = baseMapper.getStringPropertyFromColumn(RepositoryColumn.INSTANCE_GUID.getColumnName(), row, true) + ":" +
+                            baseMapper.getLongPropertyFromColumn(RepositoryColumn.VERSION.getColumnName(), row, true);
+
+        if (principleTable == RepositoryTable.CLASSIFICATION)
+        {
+            primaryKey = primaryKey + ":" + baseMapper.getStringPropertyFromColumn(RepositoryColumn.CLASSIFICATION_NAME.getColumnName(), row, true);
+        }
+
+        return primaryKey;
+    }
+
+
+    /**
+     * Select the classifications that were in force at the requested time from the rows of all the versions of
+     * an entity's classifications.  This matches the versions that would be returned by getAsOfTimeClause().
+     *
+     * @param classificationRows rows from the classification table
+     * @param classificationAttributes attribute rows organized by primary key
+     * @param asOfTime requested time - null means the latest version
+     * @return list of classification mappers, or null if there are no classifications at that time
+     * @throws RepositoryErrorException problem mapping the values returned
+     */
+    private List<ClassificationMapper> getClassificationMappersAsOfTime(List<Map<String, JDBCDataValue>>              classificationRows,
+                                                                        Map<String, List<Map<String, JDBCDataValue>>> classificationAttributes,
+                                                                        Date                                          asOfTime) throws RepositoryErrorException
+    {
+        List<ClassificationMapper> classificationMappers = new ArrayList<>();
+
+        if (classificationRows != null)
+        {
+            for (Map<String, JDBCDataValue> classificationRow : classificationRows)
+            {
+                Date versionStartTime = baseMapper.getDatePropertyFromColumn(RepositoryColumn.VERSION_START_TIME.getColumnName(), classificationRow, false);
+                Date versionEndTime   = baseMapper.getDatePropertyFromColumn(RepositoryColumn.VERSION_END_TIME.getColumnName(), classificationRow, false);
+
+                boolean inForce;
+
+                if (asOfTime == null)
+                {
+                    inForce = (versionEndTime == null);
+                }
+                else
+                {
+                    inForce = (versionStartTime != null) && (versionStartTime.getTime() <= asOfTime.getTime()) &&
+                              ((versionEndTime == null) || (versionEndTime.getTime() > asOfTime.getTime()));
+                }
+
+                if (inForce)
+                {
+                    classificationMappers.add(new ClassificationMapper(classificationRow,
+                                                                       classificationAttributes.get(this.getPrimaryKey(classificationRow, RepositoryTable.CLASSIFICATION)),
+                                                                       repositoryHelper,
+                                                                       repositoryName));
+                }
+            }
+        }
+
+        if (classificationMappers.isEmpty())
+        {
+            return null;
+        }
+
+        return classificationMappers;
+    }
+
+
     /**
      * Return the list of classifications for each of the requested entityGUIDs.
      *
      * @param whereClause the lists the required guids and the asOfTime.
+     * @param parameters values for the placeholders in the where clause
      * @return map of guids to lists of associated classification mappers (maybe empty but not null)
      * @throws RepositoryErrorException unexpected problem retrieving related information from the database.
      */
-    private Map<String, List<ClassificationMapper>> getClassificationMappersForEntityGUIDs(String whereClause) throws RepositoryErrorException
+    private Map<String, List<ClassificationMapper>> getClassificationMappersForEntityGUIDs(String              whereClause,
+                                                                                           List<JDBCDataValue> parameters) throws RepositoryErrorException
     {
         final String methodName = "getClassificationMappersForEntityGUIDs";
 
@@ -1118,6 +1352,7 @@ public class DatabaseStore implements AutoCloseable
             List<Map<String, JDBCDataValue>> classifications = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                      RepositoryTable.CLASSIFICATION.getTableName(),
                                                                                                      whereClause,
+                                                                                                     parameters,
                                                                                                      RepositoryTable.CLASSIFICATION.getColumnNameTypeMap());
 
             if (classifications != null)
@@ -1134,9 +1369,9 @@ public class DatabaseStore implements AutoCloseable
                                                                                        repositoryHelper,
                                                                                        repositoryName);
 
-                StringBuilder classificationWhereClause = new StringBuilder();
-
-                boolean       firstClassification       = true;
+                List<String> instanceGUIDs       = new ArrayList<>();
+                List<Long>   versions            = new ArrayList<>();
+                List<String> classificationNames = new ArrayList<>();
 
                 for (Map<String, JDBCDataValue> classificationRow : classifications)
                 {
@@ -1144,16 +1379,9 @@ public class DatabaseStore implements AutoCloseable
                     String classificationName = baseMapper.getStringPropertyFromColumn(RepositoryColumn.CLASSIFICATION_NAME.getColumnName(), classificationRow, true);
                     long   version            = baseMapper.getLongPropertyFromColumn(RepositoryColumn.VERSION.getColumnName(), classificationRow, true);
 
-                    if (firstClassification)
-                    {
-                        firstClassification = false;
-                    }
-                    else
-                    {
-                        classificationWhereClause.append(" or ");
-                    }
-
-                    classificationWhereClause.append(queryBuilder.getPrimaryKeysClause(instanceGUID, version, classificationName));
+                    instanceGUIDs.add(instanceGUID);
+                    versions.add(version);
+                    classificationNames.add(classificationName);
 
                     DatabaseResultRows databaseResultRows = mapperResultRowsMap.get(instanceGUID);
 
@@ -1189,9 +1417,12 @@ public class DatabaseStore implements AutoCloseable
                  * Now we know which versions of each classification we need for each entity, we can retrieve all of the attributes for all of these entities.
                  * The returned rows are then organizes with their classification into mapperResultRowsMap.
                  */
+                List<JDBCDataValue> attributeParameters = new ArrayList<>();
+
                 List<Map<String, JDBCDataValue>> classificationAttributes = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                                   RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getTableName(),
-                                                                                                                  classificationWhereClause.toString(),
+                                                                                                                  queryBuilder.getPrimaryKeysListClause(instanceGUIDs, versions, classificationNames, attributeParameters),
+                                                                                                                  attributeParameters,
                                                                                                                   RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getColumnNameTypeMap());
 
                 if (classificationAttributes != null)
@@ -1300,19 +1531,45 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
+            List<JDBCDataValue> parameters = this.getGUIDParameters(guid);
+
             List<Map<String, JDBCDataValue>> entityRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                 RepositoryTable.ENTITY.getTableName(),
-                                                                                                RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "'" +
-                                                                                                        getDateRangeClause(fromTime, toTime, oldestFirst),
+                                                                                                RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?" +
+                                                                                                        getDateRangeClause(fromTime, toTime, oldestFirst, parameters),
+                                                                                                parameters,
                                                                                                 RepositoryTable.ENTITY.getColumnNameTypeMap());
 
             if (entityRows != null)
             {
+                /*
+                 * The attributes for all the versions of the entity are retrieved in one query.  Similarly, all
+                 * versions of the entity's classifications (and their attributes) are retrieved together and the
+                 * classifications in force for each version of the entity are then selected from them.
+                 */
+                Map<String, List<Map<String, JDBCDataValue>>> entityAttributes = this.getAttributeRowsByPrimaryKey(entityRows,
+                                                                                                                   RepositoryTable.ENTITY,
+                                                                                                                   RepositoryTable.ENTITY_ATTRIBUTE_VALUE);
+
+                List<Map<String, JDBCDataValue>> classificationRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
+                                                                                                            RepositoryTable.CLASSIFICATION.getTableName(),
+                                                                                                            RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?",
+                                                                                                            this.getGUIDParameters(guid),
+                                                                                                            RepositoryTable.CLASSIFICATION.getColumnNameTypeMap());
+
+                Map<String, List<Map<String, JDBCDataValue>>> classificationAttributes = this.getAttributeRowsByPrimaryKey(classificationRows,
+                                                                                                                           RepositoryTable.CLASSIFICATION,
+                                                                                                                           RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE);
+
                 for (Map<String, JDBCDataValue> entityRow : entityRows)
                 {
                     Date versionEndTime = baseMapper.getDatePropertyFromColumn(RepositoryColumn.VERSION_END_TIME.getColumnName(), entityRow, false);
 
-                    entityMappers.add(this.getCompleteEntityFromStore(guid, entityRow, versionEndTime));
+                    entityMappers.add(new EntityMapper(entityRow,
+                                                       entityAttributes.get(this.getPrimaryKey(entityRow, RepositoryTable.ENTITY)),
+                                                       this.getClassificationMappersAsOfTime(classificationRows, classificationAttributes, versionEndTime),
+                                                       repositoryHelper,
+                                                       repositoryName));
                 }
             }
         }
@@ -1359,18 +1616,30 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
+            List<JDBCDataValue> parameters = this.getGUIDParameters(guid);
+
+            parameters.add(new JDBCDataValue(classificationName, Types.VARCHAR));
+
             List<Map<String, JDBCDataValue>> matchingRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                 RepositoryTable.CLASSIFICATION.getTableName(),
-                                                                                                RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "' and " +
-                                                                                                        RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = '" + classificationName + "'" +
-                                                                                                        getDateRangeClause(fromTime, toTime, oldestFirst),
+                                                                                                RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " +
+                                                                                                        RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = ?" +
+                                                                                                        getDateRangeClause(fromTime, toTime, oldestFirst, parameters),
+                                                                                                parameters,
                                                                                                 RepositoryTable.CLASSIFICATION.getColumnNameTypeMap());
 
             if (matchingRows != null)
             {
+                Map<String, List<Map<String, JDBCDataValue>>> classificationAttributes = this.getAttributeRowsByPrimaryKey(matchingRows,
+                                                                                                                           RepositoryTable.CLASSIFICATION,
+                                                                                                                           RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE);
+
                 for (Map<String, JDBCDataValue> classificationRow : matchingRows)
                 {
-                    classificationMappers.add(this.getCompleteClassificationFromStore(guid, classificationName, classificationRow));
+                    classificationMappers.add(new ClassificationMapper(classificationRow,
+                                                                       classificationAttributes.get(this.getPrimaryKey(classificationRow, RepositoryTable.CLASSIFICATION)),
+                                                                       repositoryHelper,
+                                                                       repositoryName));
                 }
             }
         }
@@ -1415,18 +1684,39 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
+            List<JDBCDataValue> parameters = this.getGUIDParameters(guid);
+
             List<Map<String, JDBCDataValue>> relationshipRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                       RepositoryTable.RELATIONSHIP.getTableName(),
-                                                                                                      RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "'" +
-                                                                                                              getDateRangeClause(fromTime, toTime, oldestFirst),
+                                                                                                      RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?" +
+                                                                                                              getDateRangeClause(fromTime, toTime, oldestFirst, parameters),
+                                                                                                      parameters,
                                                                                                       RepositoryTable.RELATIONSHIP.getColumnNameTypeMap());
 
             if (relationshipRows != null)
             {
+                /*
+                 * The attributes for all the versions of the relationship are retrieved in one query.  The ends
+                 * are retrieved as they were when each version was created.
+                 */
+                Map<String, List<Map<String, JDBCDataValue>>> relationshipAttributes = this.getAttributeRowsByPrimaryKey(relationshipRows,
+                                                                                                                         RepositoryTable.RELATIONSHIP,
+                                                                                                                         RepositoryTable.RELATIONSHIP_ATTRIBUTE_VALUE);
+
                 for (Map<String, JDBCDataValue> relationshipRow : relationshipRows)
                 {
-                    Date asOfTime = baseMapper.getDatePropertyFromColumn(RepositoryColumn.VERSION_START_TIME.getColumnName(), relationshipRow, true);
-                    relationshipMappers.add(this.getCompleteRelationshipFromStore(guid, relationshipRow, asOfTime));
+                    Date   asOfTime = baseMapper.getDatePropertyFromColumn(RepositoryColumn.VERSION_START_TIME.getColumnName(), relationshipRow, true);
+                    String end1GUID = baseMapper.getStringPropertyFromColumn(RepositoryColumn.END_1_GUID.getColumnName(), relationshipRow, true);
+                    String end2GUID = baseMapper.getStringPropertyFromColumn(RepositoryColumn.END_2_GUID.getColumnName(), relationshipRow, true);
+
+                    Map<String, EntityMapper> entityEnds = this.getEntityEnds(Collections.singletonList(relationshipRow), asOfTime);
+
+                    relationshipMappers.add(new RelationshipMapper(relationshipRow,
+                                                                   relationshipAttributes.get(this.getPrimaryKey(relationshipRow, RepositoryTable.RELATIONSHIP)),
+                                                                   entityEnds.get(end1GUID),
+                                                                   entityEnds.get(end2GUID),
+                                                                   repositoryHelper,
+                                                                   repositoryName));
                 }
             }
         }
@@ -1452,11 +1742,15 @@ public class DatabaseStore implements AutoCloseable
 
     /**
      * Create the part of the where clause that ensures that the correct version is returned.
+     * The time is bound as a timestamp parameter so it keeps its millisecond component when it is
+     * compared with version_start_time/version_end_time.
      *
      * @param asOfTime database time to issue the query for - null means the latest version
+     * @param parameters list of parameter values for the query - the values for this fragment are added to the end
      * @return fragment of SQL
      */
-    private String getAsOfTimeClause(Date asOfTime)
+    private String getAsOfTimeClause(Date                asOfTime,
+                                     List<JDBCDataValue> parameters)
     {
         if (asOfTime == null)
         {
@@ -1464,13 +1758,10 @@ public class DatabaseStore implements AutoCloseable
         }
         else
         {
-            // java.util.Date's own toString() (what plain string concatenation of a Date would produce here)
-            // has no sub-second precision at all, unlike the millisecond-precision timestamps this same
-            // asOfTime is compared against (version_start_time/version_end_time) - wrapping in
-            // java.sql.Timestamp keeps the millisecond component in the generated SQL literal.
-            String asOfTimeLiteral = new java.sql.Timestamp(asOfTime.getTime()).toString();
+            parameters.add(this.getTimestampParameter(asOfTime));
+            parameters.add(this.getTimestampParameter(asOfTime));
 
-            return " and (" + RepositoryColumn.VERSION_START_TIME.getColumnName() + " <= '" + asOfTimeLiteral + "' and (" + RepositoryColumn.VERSION_END_TIME.getColumnName() + " is null or " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " > '" + asOfTimeLiteral + "'))";
+            return " and (" + RepositoryColumn.VERSION_START_TIME.getColumnName() + " <= ? and (" + RepositoryColumn.VERSION_END_TIME.getColumnName() + " is null or " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " > ?))";
         }
     }
 
@@ -1481,11 +1772,13 @@ public class DatabaseStore implements AutoCloseable
      * @param fromTime starting time
      * @param toTime ending time
      * @param oldestFirst ordering
+     * @param parameters list of parameter values for the query - the values for this fragment are added to the end
      * @return fragment of SQL
      */
-    private String getDateRangeClause(Date    fromTime,
-                                      Date    toTime,
-                                      boolean oldestFirst)
+    private String getDateRangeClause(Date                fromTime,
+                                      Date                toTime,
+                                      boolean             oldestFirst,
+                                      List<JDBCDataValue> parameters)
     {
         if ((fromTime == null) && (toTime == null))
         {
@@ -1493,19 +1786,81 @@ public class DatabaseStore implements AutoCloseable
         }
         else if (fromTime == null)
         {
-            return " and (" + RepositoryColumn.VERSION_START_TIME.getColumnName() + " < '" + toTime + "')" + getOrderByDateClause(oldestFirst);
+            parameters.add(this.getTimestampParameter(toTime));
+
+            return " and (" + RepositoryColumn.VERSION_START_TIME.getColumnName() + " < ?)" + getOrderByDateClause(oldestFirst);
         }
         else if (toTime == null)
         {
-            return " and (" + RepositoryColumn.VERSION_END_TIME.getColumnName() + " is null or " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " > '" + fromTime + "')" + getOrderByDateClause(oldestFirst);
+            parameters.add(this.getTimestampParameter(fromTime));
+
+            return " and (" + RepositoryColumn.VERSION_END_TIME.getColumnName() + " is null or " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " > ?)" + getOrderByDateClause(oldestFirst);
         }
         else
         {
-            return " and (" + RepositoryColumn.VERSION_START_TIME.getColumnName() + " < '" + toTime + "' and (" + RepositoryColumn.VERSION_END_TIME.getColumnName() + " is null or " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " > '" + fromTime + "'))" + getOrderByDateClause(oldestFirst);
+            parameters.add(this.getTimestampParameter(toTime));
+            parameters.add(this.getTimestampParameter(fromTime));
+
+            return " and (" + RepositoryColumn.VERSION_START_TIME.getColumnName() + " < ? and (" + RepositoryColumn.VERSION_END_TIME.getColumnName() + " is null or " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " > ?))" + getOrderByDateClause(oldestFirst);
         }
     }
 
 
+    /**
+     * Return a time as a timestamp parameter.  Binding the value as a timestamp (rather than embedding the
+     * date's string form in the SQL) keeps its millisecond component.
+     *
+     * @param time requested time
+     * @return parameter value
+     */
+    private JDBCDataValue getTimestampParameter(Date time)
+    {
+        return new JDBCDataValue(new Timestamp(time.getTime()), Types.TIMESTAMP);
+    }
+
+
+    /**
+     * Return a new parameter list containing the unique identifier of an instance.
+     *
+     * @param guid unique identifier of the instance
+     * @return parameter list that can be extended by the caller
+     */
+    private List<JDBCDataValue> getGUIDParameters(String guid)
+    {
+        List<JDBCDataValue> parameters = new ArrayList<>();
+
+        parameters.add(new JDBCDataValue(guid, Types.VARCHAR));
+
+        return parameters;
+    }
+
+
+    /**
+     * Return the parameters that identify the attribute rows of a specific version of an instance.  They match the
+     * placeholders for instance_guid, classification_name (if supplied) and version, in that order.
+     *
+     * @param guid unique identifier of the instance (or the classified entity)
+     * @param classificationName name of the classification, or null for entities and relationships
+     * @param version version of the instance
+     * @return parameter list
+     */
+    private List<JDBCDataValue> getAttributeKeyParameters(String guid,
+                                                          String classificationName,
+                                                          long   version)
+    {
+        List<JDBCDataValue> parameters = this.getGUIDParameters(guid);
+
+        if (classificationName != null)
+        {
+            parameters.add(new JDBCDataValue(classificationName, Types.VARCHAR));
+        }
+
+        parameters.add(new JDBCDataValue(version, Types.BIGINT));
+
+        return parameters;
+    }
+
+
     /**
      * Create an order by statement.
      *
@@ -1761,17 +2116,19 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
-            // java.util.Date's own toString() (what plain string concatenation of versionEndTime would produce
-            // here) has no sub-second precision, unlike version_start_time/create_time/update_time which are
-            // all bound as proper JDBC parameters elsewhere and so keep their millisecond component - that
-            // mismatch left a gap immediately after every update/delete where asOfTime queries landing in it
-            // found no matching version at all. java.sql.Timestamp's toString() keeps the milliseconds.
-            String versionEndTimeLiteral = new java.sql.Timestamp(versionEndTime.getTime()).toString();
+            // The version end time is bound as a timestamp, like version_start_time/create_time/update_time, so
+            // it keeps its millisecond component.  Without it there is a gap immediately after every
+            // update/delete where asOfTime queries landing in it find no matching version at all.
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
+            parameters.add(this.getTimestampParameter(versionEndTime));
+            parameters.addAll(this.getAttributeKeyParameters(entityMapper.getEntityDetail().getGUID(), null, entityMapper.getEntityDetail().getVersion()));
 
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "update " + RepositoryTable.ENTITY.getTableName() +
-                                                          " set " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " = '" + versionEndTimeLiteral +
-                                                          "' where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + entityMapper.getEntityDetail().getGUID() + "' and " + RepositoryColumn.VERSION.getColumnName() + " = " + entityMapper.getEntityDetail().getVersion() + ";");
+                                                          " set " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " = ?" +
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " + RepositoryColumn.VERSION.getColumnName() + " = ?;",
+                                                  parameters);
         }
         catch (PropertyServerException sqlException)
         {
@@ -1800,16 +2157,21 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
-            // See the equivalent comment in updatePreviousEntityVersionEndTime() - java.sql.Timestamp's
-            // toString() is used instead of versionEndTime's own toString() to keep millisecond precision.
-            String versionEndTimeLiteral = new java.sql.Timestamp(versionEndTime.getTime()).toString();
+            // See the equivalent comment in updatePreviousEntityVersionEndTime().
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
+            parameters.add(this.getTimestampParameter(versionEndTime));
+            parameters.addAll(this.getAttributeKeyParameters(classificationMapper.getEntityGUID(),
+                                                             classificationMapper.getClassification().getName(),
+                                                             classificationMapper.getClassification().getVersion()));
 
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "update " + RepositoryTable.CLASSIFICATION.getTableName() +
-                                                          " set " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " = '" + versionEndTimeLiteral +
-                                                          "' where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + classificationMapper.getEntityGUID() +
-                                                          "' and " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = '" + classificationMapper.getClassification().getName() +
-                                                          "' and " + RepositoryColumn.VERSION.getColumnName() + " = " + classificationMapper.getClassification().getVersion() + ";");
+                                                          " set " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " = ?" +
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?" +
+                                                          " and " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = ?" +
+                                                          " and " + RepositoryColumn.VERSION.getColumnName() + " = ?;",
+                                                  parameters);
         }
         catch (PropertyServerException sqlException)
         {
@@ -1838,14 +2200,17 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
-            // See the equivalent comment in updatePreviousEntityVersionEndTime() - java.sql.Timestamp's
-            // toString() is used instead of versionEndTime's own toString() to keep millisecond precision.
-            String versionEndTimeLiteral = new java.sql.Timestamp(versionEndTime.getTime()).toString();
+            // See the equivalent comment in updatePreviousEntityVersionEndTime().
+            List<JDBCDataValue> parameters = new ArrayList<>();
+
+            parameters.add(this.getTimestampParameter(versionEndTime));
+            parameters.addAll(this.getAttributeKeyParameters(relationshipMapper.getRelationship().getGUID(), null, relationshipMapper.getRelationship().getVersion()));
 
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "update " + RepositoryTable.RELATIONSHIP.getTableName() +
-                                                          " set " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " = '" + versionEndTimeLiteral +
-                                                          "' where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + relationshipMapper.getRelationship().getGUID() + "' and " + RepositoryColumn.VERSION.getColumnName() + " = " + relationshipMapper.getRelationship().getVersion() + ";");
+                                                          " set " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " = ?" +
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " + RepositoryColumn.VERSION.getColumnName() + " = ?;",
+                                                  parameters);
         }
         catch (PropertyServerException sqlException)
         {
@@ -1874,9 +2239,14 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
+            List<JDBCDataValue> parameters = this.getGUIDParameters(entityGUID);
+
+            parameters.add(new JDBCDataValue(classificationName, Types.VARCHAR));
+
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "delete from " + RepositoryTable.CLASSIFICATION.getTableName() +
-                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + entityGUID + "' and " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = '" + classificationName + "';");
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ? and " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName() + " = ?;",
+                                                  parameters);
         }
         catch (PropertyServerException sqlException)
         {
@@ -1906,10 +2276,15 @@ public class DatabaseStore implements AutoCloseable
 
         try
         {
+            List<JDBCDataValue> endParameters = this.getGUIDParameters(guid);
+
+            endParameters.add(new JDBCDataValue(guid, Types.VARCHAR));
+
             List<Map<String, JDBCDataValue>> relationshipRows = jdbcResourceConnector.getMatchingRows(jdbcConnection,
                                                                                                       RepositoryTable.RELATIONSHIP.getTableName(),
-                                                                                                      "(" + RepositoryColumn.END_1_GUID.getColumnName() + " = '" + guid +
-                                                                                                      "' or " + RepositoryColumn.END_2_GUID.getColumnName() + " = '" + guid + "')",
+                                                                                                      "(" + RepositoryColumn.END_1_GUID.getColumnName() + " = ?" +
+                                                                                                      " or " + RepositoryColumn.END_2_GUID.getColumnName() + " = ?)",
+                                                                                                      endParameters,
                                                                                                       RepositoryTable.RELATIONSHIP.getColumnNameTypeMap());
 
             if (relationshipRows != null)
@@ -1924,16 +2299,20 @@ public class DatabaseStore implements AutoCloseable
 
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "delete from " + RepositoryTable.ENTITY.getTableName() +
-                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "';");
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?;",
+                                                  this.getGUIDParameters(guid));
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "delete from " + RepositoryTable.ENTITY_ATTRIBUTE_VALUE.getTableName() +
-                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "';");
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?;",
+                                                  this.getGUIDParameters(guid));
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "delete from " + RepositoryTable.CLASSIFICATION.getTableName() +
-                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "';");
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?;",
+                                                  this.getGUIDParameters(guid));
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "delete from " + RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getTableName() +
-                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "';");
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?;",
+                                                  this.getGUIDParameters(guid));
         }
         catch (PropertyServerException sqlException)
         {
@@ -1964,10 +2343,12 @@ public class DatabaseStore implements AutoCloseable
         {
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "delete from " + RepositoryTable.RELATIONSHIP.getTableName() +
-                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "';");
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?;",
+                                                  this.getGUIDParameters(guid));
             jdbcResourceConnector.issueSQLCommand(jdbcConnection,
                                                   "delete from " + RepositoryTable.RELATIONSHIP_ATTRIBUTE_VALUE.getTableName() +
-                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + guid + "';");
+                                                          " where " + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = ?;",
+                                                  this.getGUIDParameters(guid));
         }
         catch (PropertyServerException sqlException)
         {
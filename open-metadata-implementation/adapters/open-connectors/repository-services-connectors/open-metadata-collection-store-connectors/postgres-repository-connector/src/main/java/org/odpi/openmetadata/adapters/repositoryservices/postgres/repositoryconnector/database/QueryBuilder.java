@@ -3,6 +3,7 @@
 
 package org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconnector.database;
 
+import org.odpi.openmetadata.adapters.connectors.resource.jdbc.properties.JDBCDataValue;
 import org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconnector.ffdc.PostgresErrorCode;
 import org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconnector.schema.RepositoryColumn;
 import org.odpi.openmetadata.adapters.repositoryservices.postgres.repositoryconnector.schema.RepositoryTable;
@@ -23,11 +24,19 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorExceptio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.*;
 
 /**
  * Translates open metadata query requests into SQL fragments that can be assembled before issuing
  * then to the database.
+ * <br><br>
+ * The values from the request (GUIDs, property names and values, LIKE patterns, times and paging) are never
+ * embedded in the SQL text.  Each one is represented by a "?" placeholder and its value is added to the
+ * list of parameters supplied by the caller, in the order that the placeholders appear.  Lists of values are
+ * passed as a single array parameter.  This means the SQL text only depends on the shape of the query, so the
+ * database can reuse the plan for the prepared statement rather than parsing and planning every request afresh.
  */
 public class QueryBuilder
 {
@@ -102,14 +111,15 @@ public class QueryBuilder
     /**
      * Derive the SQL fragment that
      *
+     * @param parameters list of parameter values for the query
      * @return fragment of SQL
      */
-    private String getRelationshipEndGUIDClause()
+    private String getRelationshipEndGUIDClause(List<JDBCDataValue> parameters)
     {
         if (relationshipEndGUID != null)
         {
-            return " and (" + RepositoryColumn.END_1_GUID.getColumnName() + " = '" + escapePropertyValue(relationshipEndGUID) +
-                    "' or " + RepositoryColumn.END_2_GUID.getColumnName() + " = '" + escapePropertyValue(relationshipEndGUID) + "')";
+            return " and (" + RepositoryColumn.END_1_GUID.getColumnName() + " = " + bindValue(relationshipEndGUID, parameters) +
+                    " or " + RepositoryColumn.END_2_GUID.getColumnName() + " = " + bindValue(relationshipEndGUID, parameters) + ")";
         }
 
         return " ";
@@ -129,14 +139,16 @@ public class QueryBuilder
      * matching instance, including replicas, for federation to deduplicate by GUID.
      *
      * @param localMetadataCollectionId unique identifier of the repository issuing the count query
+     * @param parameters list of parameter values for the query - the values for this fragment are added to the end
      * @return fragment of SQL
      */
-    public String getLocalMetadataCollectionClause(String localMetadataCollectionId)
+    public String getLocalMetadataCollectionClause(String              localMetadataCollectionId,
+                                                   List<JDBCDataValue> parameters)
     {
         if (localMetadataCollectionId != null)
         {
-            return " and (" + RepositoryColumn.METADATA_COLLECTION_GUID.getColumnName() + " = '" + escapePropertyValue(localMetadataCollectionId) +
-                    "' or " + RepositoryColumn.REPLICATED_BY.getColumnName() + " = '" + escapePropertyValue(localMetadataCollectionId) + "')";
+            return " and (" + RepositoryColumn.METADATA_COLLECTION_GUID.getColumnName() + " = " + bindValue(localMetadataCollectionId, parameters) +
+                    " or " + RepositoryColumn.REPLICATED_BY.getColumnName() + " = " + bindValue(localMetadataCollectionId, parameters) + ")";
         }
 
         return " ";
@@ -164,11 +176,15 @@ public class QueryBuilder
 
 
     /**
-     * Return the SQL search string that needs to appear in the SQL query.
+     * Return the SQL search string that needs to appear in the SQL query.  The search string is matched with
+     * "like" (or "ilike") against the property_value column of the attribute table.  This predicate can be served
+     * by the trigram indexes that the connector creates when searchIndexMode=trigram, even though the pattern
+     * usually starts with a wildcard.
      *
+     * @param parameters list of parameter values for the query
      * @return fragment of SQL
      */
-    private String getSearchStringClause()
+    private String getSearchStringClause(List<JDBCDataValue> parameters)
     {
         if (searchString != null)
         {
@@ -196,7 +212,8 @@ public class QueryBuilder
                                                   searchOperand,
                                                   searchStringBuilder.toString(),
                                                   principleTableName,
-                                                  propertyTableName);
+                                                  propertyTableName,
+                                                  parameters);
         }
 
         return " ";
@@ -211,17 +228,19 @@ public class QueryBuilder
      * @param propertyName name of the property to test (or null for any property)
      * @param propertyColumn is the property name an attribute name or a nested property name?
      * @param operator operator to compare the property value
-     * @param propertyValue property value to look for (already validated and escaped).
+     * @param propertyValue property value to look for (already validated).
      * @param principleTableName name of header table
      * @param propertyTableName name of attribute table
+     * @param parameters list of parameter values for the query
      * @return sub select statement
      */
-    private String getPropertySubSelect(String propertyName,
-                                        String propertyColumn,
-                                        String operator,
-                                        String propertyValue,
-                                        String principleTableName,
-                                        String propertyTableName)
+    private String getPropertySubSelect(String              propertyName,
+                                        String              propertyColumn,
+                                        String              operator,
+                                        String              propertyValue,
+                                        String              principleTableName,
+                                        String              propertyTableName,
+                                        List<JDBCDataValue> parameters)
     {
         String subSelect  = " (" + RepositoryColumn.INSTANCE_GUID.getColumnName(principleTableName) +
                                    " in (select " + RepositoryColumn.INSTANCE_GUID.getColumnName(propertyTableName) + " from " + propertyTableName +
@@ -229,7 +248,7 @@ public class QueryBuilder
 
         if (propertyName != null)
         {
-            subSelect = subSelect + propertyColumn + "='" + escapePropertyValue(propertyName) + "'";
+            subSelect = subSelect + propertyColumn + "=" + bindValue(propertyName, parameters);
 
             if (propertyValue != null)
             {
@@ -239,7 +258,7 @@ public class QueryBuilder
 
         if (propertyValue != null)
         {
-            subSelect = subSelect + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " " + operator + "  '" + escapePropertyValue(propertyValue) + "'";
+            subSelect = subSelect + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " " + operator + " " + bindValue(propertyValue, parameters);
         }
 
         return subSelect + "))) ";
@@ -247,19 +266,38 @@ public class QueryBuilder
 
 
     /**
-     * Ensure any single quote in a property value is escaped.
+     * Add a value to the query's parameters and return the placeholder that stands for it in the SQL.
+     * The value is passed as a string without a declared SQL type so that the database infers its type
+     * from the column it is compared with - exactly as it would for a quoted literal.
      *
-     * @param propertyValue supplied property value
-     * @return escaped property value
+     * @param value supplied value
+     * @param parameters list of parameter values for the query
+     * @return placeholder
      */
-    private String escapePropertyValue(Object propertyValue)
+    private String bindValue(Object              value,
+                             List<JDBCDataValue> parameters)
     {
-        if (propertyValue != null)
-        {
-            return propertyValue.toString().replaceAll("'", "''");
-        }
+        parameters.add(new JDBCDataValue(String.valueOf(value), Types.OTHER));
 
-        return null;
+        return "?";
+    }
+
+
+    /**
+     * Add a list of values to the query's parameters as a single array and return the placeholder that stands for
+     * it in the SQL.  It is used with "any(?)" and "all(?)" so that the SQL is the same however many values are in
+     * the list.
+     *
+     * @param values supplied values
+     * @param parameters list of parameter values for the query
+     * @return placeholder
+     */
+    private String bindValueList(List<String>        values,
+                                 List<JDBCDataValue> parameters)
+    {
+        parameters.add(new JDBCDataValue(values.toArray(new String[0]), Types.ARRAY));
+
+        return "?";
     }
 
 
@@ -273,9 +311,7 @@ public class QueryBuilder
      * ends in a backslash leaves the pattern ending in a lone escape character, which PostgreSQL rejects
      * outright ("LIKE pattern must not end with escape character") rather than simply not matching.
      * <br><br>
-     * This is independent of {@link #escapePropertyValue(Object)}, which handles the separate job of
-     * making a value safe to embed in a SQL string literal: neither escaper introduces characters the
-     * other one acts on, so a value needing both can have them applied in either order.
+     * The escaped pattern is bound as a parameter so no further quoting is needed to embed it in the SQL.
      *
      * @param suppliedSearchString the string to escape so that it is matched literally
      * @return string that is safe to use as (part of) a LIKE pattern
@@ -418,6 +454,7 @@ public class QueryBuilder
      * @param matchOperand how to combine the results from different properties
      * @param principleTableName name of header table
      * @param propertyTableName name of attribute table
+     * @param parameters list of parameter values for the query
      * @return sql fragment wrapped in parentheses.  Forms part of a where clause
      */
     private String getPropertyComparisonFromInstanceProperties(InstanceProperties         instanceProperties,
@@ -426,7 +463,8 @@ public class QueryBuilder
                                                                PropertyComparisonOperator numericPropertyOperator,
                                                                String                     matchOperand,
                                                                String                     principleTableName,
-                                                               String                     propertyTableName) throws RepositoryErrorException
+                                                               String                     propertyTableName,
+                                                               List<JDBCDataValue>        parameters) throws RepositoryErrorException
     {
         if ((instanceProperties != null) && (instanceProperties.getPropertyCount() > 0))
         {
@@ -460,9 +498,10 @@ public class QueryBuilder
                         stringBuilder.append(this.getNestedPropertyComparisonClause(topLevelPropertyName,
                                                                                     leafPropertyName,
                                                                                     stringPropertyOperator,
-                                                                                    this.escapePropertyValue(primitivePropertyValue.getPrimitiveValue()),
+                                                                                    primitivePropertyValue.getPrimitiveValue(),
                                                                                     principleTableName,
-                                                                                    propertyTableName));
+                                                                                    propertyTableName,
+                                                                                    parameters));
                     }
                     else
                     {
@@ -471,7 +510,8 @@ public class QueryBuilder
                                                                                     numericPropertyOperator,
                                                                                     primitivePropertyValue.getPrimitiveValue(),
                                                                                     principleTableName,
-                                                                                    propertyTableName));
+                                                                                    propertyTableName,
+                                                                                    parameters));
                     }
                 }
                 else if (instancePropertyValue instanceof EnumPropertyValue enumPropertyValue)
@@ -479,9 +519,10 @@ public class QueryBuilder
                     stringBuilder.append(this.getNestedPropertyComparisonClause(topLevelPropertyName,
                                                                                 leafPropertyName,
                                                                                 stringPropertyOperator,
-                                                                                this.escapePropertyValue(enumPropertyValue.getSymbolicName()),
+                                                                                enumPropertyValue.getSymbolicName(),
                                                                                 principleTableName,
-                                                                                propertyTableName));
+                                                                                propertyTableName,
+                                                                                parameters));
                 }
                 else if (instancePropertyValue instanceof MapPropertyValue mapPropertyValue)
                 {
@@ -491,7 +532,8 @@ public class QueryBuilder
                                                                                      numericPropertyOperator,
                                                                                      matchOperand,
                                                                                      principleTableName,
-                                                                                     propertyTableName));
+                                                                                     propertyTableName,
+                                                                                     parameters));
                 }
                 else if (instancePropertyValue instanceof ArrayPropertyValue arrayPropertyValue)
                 {
@@ -501,7 +543,8 @@ public class QueryBuilder
                                                                                      numericPropertyOperator,
                                                                                      matchOperand,
                                                                                      principleTableName,
-                                                                                     propertyTableName));
+                                                                                     propertyTableName,
+                                                                                     parameters));
                 }
                 else if (instancePropertyValue instanceof StructPropertyValue structPropertyValue)
                 {
@@ -511,7 +554,8 @@ public class QueryBuilder
                                                                                      numericPropertyOperator,
                                                                                      matchOperand,
                                                                                      principleTableName,
-                                                                                     propertyTableName));
+                                                                                     propertyTableName,
+                                                                                     parameters));
                 }
             }
 
@@ -533,6 +577,7 @@ public class QueryBuilder
      * @param propertyValue value to look for
      * @param principleTableName name of header table
      * @param propertyTableName name of attribute table
+     * @param parameters list of parameter values for the query
      * @return sql fragment
      * @throws RepositoryErrorException the property does not make sense with the operator
      */
@@ -541,7 +586,8 @@ public class QueryBuilder
                                                      PropertyComparisonOperator operator,
                                                      Object                     propertyValue,
                                                      String                     principleTableName,
-                                                     String                     propertyTableName) throws RepositoryErrorException
+                                                     String                     propertyTableName,
+                                                     List<JDBCDataValue>        parameters) throws RepositoryErrorException
     {
         final String methodName = "getNestedPropertyComparisonClause";
 
@@ -551,7 +597,8 @@ public class QueryBuilder
         {
             String propertyNameMatchClause = this.getPropertyNameMatchClause(propertyTableName,
                                                                              topLevelPropertyName,
-                                                                             leafPropertyName);
+                                                                             leafPropertyName,
+                                                                             parameters);
             String rowMatchClause = "select 1 from " + propertyTableName +
                     " where " + RepositoryColumn.INSTANCE_GUID.getColumnName(principleTableName) + " = " + RepositoryColumn.INSTANCE_GUID.getColumnName(propertyTableName) +
                     " and " + RepositoryColumn.VERSION.getColumnName(principleTableName) + " = " + RepositoryColumn.VERSION.getColumnName(propertyTableName);
@@ -587,63 +634,63 @@ public class QueryBuilder
                 {
                     case EQ ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " = '" + propertyValue + "') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " = " + bindValue(propertyValue, parameters) + ") ";
                     }
                     case NEQ ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " != '" + propertyValue + "') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " != " + bindValue(propertyValue, parameters) + ") ";
                     }
                     case LT ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " < '" + propertyValue + "') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " < " + bindValue(propertyValue, parameters) + ") ";
                     }
                     case LTE ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " <= '" + propertyValue + "') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " <= " + bindValue(propertyValue, parameters) + ") ";
                     }
                     case GT ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " > '" + propertyValue + "') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " > " + bindValue(propertyValue, parameters) + ") ";
                     }
                     case GTE ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " >= '" + propertyValue + "') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " >= " + bindValue(propertyValue, parameters) + ") ";
                     }
                     case LIKE ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " like '%" + this.getSafeLikePattern(propertyValue) + "%') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " like " + bindValue("%" + this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                     }
                     case NOT_LIKE ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " not like '%" + this.getSafeLikePattern(propertyValue) + "%') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " not like " + bindValue("%" + this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                     }
                     case CASE_INSENSITIVE_LIKE ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " ilike '%" + this.getSafeLikePattern(propertyValue) + "%') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " ilike " + bindValue("%" + this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                     }
                     case CASE_INSENSITIVE_NOT_LIKE ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " not ilike '%" + this.getSafeLikePattern(propertyValue) + "%') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " not ilike " + bindValue("%" + this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                     }
                     case STARTS_WITH ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " like '" + this.getSafeLikePattern(propertyValue) + "%') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " like " + bindValue(this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                     }
                     case ENDS_WITH ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " like '%" + this.getSafeLikePattern(propertyValue) + "') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " like " + bindValue("%" + this.getSafeLikePattern(propertyValue), parameters) + ") ";
                     }
                     case CASE_INSENSITIVE_STARTS_WITH ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " ilike '" + this.getSafeLikePattern(propertyValue) + "%') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " ilike " + bindValue(this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                     }
                     case CASE_INSENSITIVE_ENDS_WITH ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " ilike '%" + this.getSafeLikePattern(propertyValue) + "') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " ilike " + bindValue("%" + this.getSafeLikePattern(propertyValue), parameters) + ") ";
                     }
                     case CASE_INSENSITIVE_EQ ->
                     {
-                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " ilike '" + this.getSafeLikePattern(propertyValue) + "') ";
+                        return sqlClause + " and " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " ilike " + bindValue(this.getSafeLikePattern(propertyValue), parameters) + ") ";
                     }
                     case NOT_NULL ->
                     {
@@ -658,27 +705,27 @@ public class QueryBuilder
             {
                 case EQ ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " = '" + propertyValue + "') ";
+                    return " (" + principleTableName + "." + propertyColumn + " = " + bindValue(propertyValue, parameters) + ") ";
                 }
                 case NEQ ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " != '" + propertyValue + "') ";
+                    return " (" + principleTableName + "." + propertyColumn + " != " + bindValue(propertyValue, parameters) + ") ";
                 }
                 case LT ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " < '" + propertyValue + "') ";
+                    return " (" + principleTableName + "." + propertyColumn + " < " + bindValue(propertyValue, parameters) + ") ";
                 }
                 case LTE ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " <= '" + propertyValue + "') ";
+                    return " (" + principleTableName + "." + propertyColumn + " <= " + bindValue(propertyValue, parameters) + ") ";
                 }
                 case GT ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " > '" + propertyValue + "') ";
+                    return " (" + principleTableName + "." + propertyColumn + " > " + bindValue(propertyValue, parameters) + ") ";
                 }
                 case GTE ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " >= '" + propertyValue + "') ";
+                    return " (" + principleTableName + "." + propertyColumn + " >= " + bindValue(propertyValue, parameters) + ") ";
                 }
                 case IS_NULL ->
                 {
@@ -690,39 +737,39 @@ public class QueryBuilder
                 }
                 case LIKE ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " like '%" + this.getSafeLikePattern(propertyValue) + "%') ";
+                    return " (" + principleTableName + "." + propertyColumn + " like " + bindValue("%" + this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                 }
                 case NOT_LIKE ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " not like '%" + this.getSafeLikePattern(propertyValue) + "%') ";
+                    return " (" + principleTableName + "." + propertyColumn + " not like " + bindValue("%" + this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                 }
                 case CASE_INSENSITIVE_LIKE ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " ilike '%" + this.getSafeLikePattern(propertyValue) + "%') ";
+                    return " (" + principleTableName + "." + propertyColumn + " ilike " + bindValue("%" + this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                 }
                 case CASE_INSENSITIVE_NOT_LIKE ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " not ilike '%" + this.getSafeLikePattern(propertyValue) + "%') ";
+                    return " (" + principleTableName + "." + propertyColumn + " not ilike " + bindValue("%" + this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                 }
                 case STARTS_WITH ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " like '" + this.getSafeLikePattern(propertyValue) + "%') ";
+                    return " (" + principleTableName + "." + propertyColumn + " like " + bindValue(this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                 }
                 case ENDS_WITH ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " like '%" + this.getSafeLikePattern(propertyValue) + "') ";
+                    return " (" + principleTableName + "." + propertyColumn + " like " + bindValue("%" + this.getSafeLikePattern(propertyValue), parameters) + ") ";
                 }
                 case CASE_INSENSITIVE_STARTS_WITH ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " ilike '" + this.getSafeLikePattern(propertyValue) + "%') ";
+                    return " (" + principleTableName + "." + propertyColumn + " ilike " + bindValue(this.getSafeLikePattern(propertyValue) + "%", parameters) + ") ";
                 }
                 case CASE_INSENSITIVE_ENDS_WITH ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " ilike '%" + this.getSafeLikePattern(propertyValue) + "') ";
+                    return " (" + principleTableName + "." + propertyColumn + " ilike " + bindValue("%" + this.getSafeLikePattern(propertyValue), parameters) + ") ";
                 }
                 case CASE_INSENSITIVE_EQ ->
                 {
-                    return " (" + principleTableName + "." + propertyColumn + " ilike '" + this.getSafeLikePattern(propertyValue) + "') ";
+                    return " (" + principleTableName + "." + propertyColumn + " ilike " + bindValue(this.getSafeLikePattern(propertyValue), parameters) + ") ";
                 }
             }
         }
@@ -742,11 +789,13 @@ public class QueryBuilder
      * @param propertyTableName table to search
      * @param topLevelPropertyName name of the top-level attribute or null
      * @param leafPropertyName name of the requested property
+     * @param parameters list of parameter values for the query
      * @return SQL fragment
      */
-    private String getPropertyNameMatchClause(String propertyTableName,
-                                              String topLevelPropertyName,
-                                              String leafPropertyName)
+    private String getPropertyNameMatchClause(String              propertyTableName,
+                                              String              topLevelPropertyName,
+                                              String              leafPropertyName,
+                                              List<JDBCDataValue> parameters)
     {
         if (topLevelPropertyName == null)
         {
@@ -756,13 +805,13 @@ public class QueryBuilder
             }
             else
             {
-                return RepositoryColumn.ATTRIBUTE_NAME.getColumnName(propertyTableName) + " = '" + escapePropertyValue(leafPropertyName) + "'";
+                return RepositoryColumn.ATTRIBUTE_NAME.getColumnName(propertyTableName) + " = " + bindValue(leafPropertyName, parameters);
             }
         }
         else
         {
-            return RepositoryColumn.ATTRIBUTE_NAME.getColumnName(propertyTableName) + " = '" + escapePropertyValue(topLevelPropertyName) + "' and " +
-                   RepositoryColumn.PROPERTY_NAME.getColumnName(propertyTableName) + " like '%:" + escapePropertyValue(getSafeLikePattern(leafPropertyName)) + "'";
+            return RepositoryColumn.ATTRIBUTE_NAME.getColumnName(propertyTableName) + " = " + bindValue(topLevelPropertyName, parameters) + " and " +
+                   RepositoryColumn.PROPERTY_NAME.getColumnName(propertyTableName) + " like " + bindValue("%:" + getSafeLikePattern(leafPropertyName), parameters);
         }
     }
 
@@ -785,17 +834,18 @@ public class QueryBuilder
 
 
     /**
-     * Derive the SQL fragment to describe the relationship end criteria.
+     * Derive the SQL fragment to describe the relationship end criteria.  Each list of GUIDs is passed as a
+     * single array parameter.
      *
+     * @param parameters list of parameter values for the query
      * @return SQL fragment or null if no criteria
      */
-    private String getRelationshipEndCriteriaClause()
+    private String getRelationshipEndCriteriaClause(List<JDBCDataValue> parameters)
     {
         if (endMatchCriteria != null)
         {
             String endMatchOperand = " and ";
-            String guidMatchOperand = " or ";
-            String matchComparison = " = ";
+            String matchComparison = " = any(";
 
             if (endMatchCriteria == EndMatchCriteria.ANY)
             {
@@ -803,8 +853,7 @@ public class QueryBuilder
             }
             else if (endMatchCriteria == EndMatchCriteria.NONE)
             {
-                matchComparison = " != ";
-                guidMatchOperand = " and ";
+                matchComparison = " != all(";
             }
 
             StringBuilder stringBuilder = new StringBuilder();
@@ -812,28 +861,10 @@ public class QueryBuilder
             if (end1EntityGUIDs != null)
             {
                 stringBuilder.append(" (");
-
-                boolean firstEnd1GUID = true;
-
-                for (String end1EntityGUID : end1EntityGUIDs)
-                {
-                    if (firstEnd1GUID)
-                    {
-                        firstEnd1GUID = false;
-                    }
-                    else
-                    {
-                        stringBuilder.append(guidMatchOperand);
-                    }
-
-                    stringBuilder.append(RepositoryColumn.END_1_GUID.getColumnName());
-                    stringBuilder.append(matchComparison);
-                    stringBuilder.append("'");
-                    stringBuilder.append(end1EntityGUID);
-                    stringBuilder.append("'");
-                }
-
-                stringBuilder.append(") ");
+                stringBuilder.append(RepositoryColumn.END_1_GUID.getColumnName());
+                stringBuilder.append(matchComparison);
+                stringBuilder.append(bindValueList(end1EntityGUIDs, parameters));
+                stringBuilder.append(")) ");
 
                 if (end2EntityGUIDs != null)
                 {
@@ -844,28 +875,10 @@ public class QueryBuilder
             if (end2EntityGUIDs != null)
             {
                 stringBuilder.append(" (");
-
-                boolean firstEnd2GUID = true;
-
-                for (String end2EntityGUID : end2EntityGUIDs)
-                {
-                    if (firstEnd2GUID)
-                    {
-                        firstEnd2GUID = false;
-                    }
-                    else
-                    {
-                        stringBuilder.append(guidMatchOperand);
-                    }
-
-                    stringBuilder.append(RepositoryColumn.END_2_GUID.getColumnName());
-                    stringBuilder.append(matchComparison);
-                    stringBuilder.append("'");
-                    stringBuilder.append(end2EntityGUID);
-                    stringBuilder.append("'");
-                }
-
-                stringBuilder.append(") ");
+                stringBuilder.append(RepositoryColumn.END_2_GUID.getColumnName());
+                stringBuilder.append(matchComparison);
+                stringBuilder.append(bindValueList(end2EntityGUIDs, parameters));
+                stringBuilder.append(")) ");
             }
 
             if (! stringBuilder.isEmpty())
@@ -898,18 +911,21 @@ public class QueryBuilder
      * @param principleTableName name of table holding the header
      * @param propertyTableName name of table holding the properties
      * @param searchProperties properties to search for
+     * @param parameters list of parameter values for the query
      * @return fragment of SQL
      */
-    private String getSearchPropertiesClause(String           principleTableName,
-                                             String           propertyTableName,
-                                             SearchProperties searchProperties) throws RepositoryErrorException
+    private String getSearchPropertiesClause(String              principleTableName,
+                                             String              propertyTableName,
+                                             SearchProperties    searchProperties,
+                                             List<JDBCDataValue> parameters) throws RepositoryErrorException
     {
         if (searchProperties != null)
         {
             String searchPropertiesClause = this.getPropertyComparisonFromPropertyConditions(searchProperties,
                                                                                              principleTableName,
                                                                                              propertyTableName,
-                                                                                             null);
+                                                                                             null,
+                                                                                             parameters);
 
             if (searchPropertiesClause.contains("("))
             {
@@ -929,12 +945,14 @@ public class QueryBuilder
      * @param principleTableName name of table holding the header
      * @param propertyTableName name of table holding the properties
      * @param topLevelPropertyName parent attribute name - not null when dealing with nested properties
+     * @param parameters list of parameter values for the query
      * @return sql fragment wrapped in parentheses.  Forms part of a where clause
      */
-    private String getPropertyComparisonFromPropertyConditions(SearchProperties searchProperties,
-                                                               String           principleTableName,
-                                                               String           propertyTableName,
-                                                               String           topLevelPropertyName) throws RepositoryErrorException
+    private String getPropertyComparisonFromPropertyConditions(SearchProperties    searchProperties,
+                                                               String              principleTableName,
+                                                               String              propertyTableName,
+                                                               String              topLevelPropertyName,
+                                                               List<JDBCDataValue> parameters) throws RepositoryErrorException
     {
         if ((searchProperties != null) && (searchProperties.getConditions() != null) && (! searchProperties.getConditions().isEmpty()))
         {
@@ -965,7 +983,8 @@ public class QueryBuilder
                     stringBuilder.append(this.getPropertyComparisonFromPropertyConditions(propertyCondition.getNestedConditions(),
                                                                                           principleTableName,
                                                                                           propertyTableName,
-                                                                                          topLevelPropertyName));
+                                                                                          topLevelPropertyName,
+                                                                                          parameters));
                 }
                 else
                 {
@@ -990,9 +1009,10 @@ public class QueryBuilder
                             stringBuilder.append(this.getNestedPropertyComparisonClause(topLevelPropertyName,
                                                                                         leafPropertyName,
                                                                                         propertyCondition.getOperator(),
-                                                                                        this.escapePropertyValue(primitivePropertyValue.getPrimitiveValue()),
+                                                                                        primitivePropertyValue.getPrimitiveValue(),
                                                                                         principleTableName,
-                                                                                        propertyTableName));
+                                                                                        propertyTableName,
+                                                                                        parameters));
                         }
                         else
                         {
@@ -1001,7 +1021,8 @@ public class QueryBuilder
                                                                                         propertyCondition.getOperator(),
                                                                                         primitivePropertyValue.getPrimitiveValue(),
                                                                                         principleTableName,
-                                                                                        propertyTableName));
+                                                                                        propertyTableName,
+                                                                                        parameters));
                         }
                     }
                     else if (instancePropertyValue instanceof EnumPropertyValue enumPropertyValue)
@@ -1009,9 +1030,10 @@ public class QueryBuilder
                         stringBuilder.append(this.getNestedPropertyComparisonClause(topLevelPropertyName,
                                                                                     leafPropertyName,
                                                                                     propertyCondition.getOperator(),
-                                                                                    this.escapePropertyValue(enumPropertyValue.getSymbolicName()),
+                                                                                    enumPropertyValue.getSymbolicName(),
                                                                                     principleTableName,
-                                                                                    propertyTableName));
+                                                                                    propertyTableName,
+                                                                                    parameters));
                     }
                     else if (instancePropertyValue instanceof MapPropertyValue mapPropertyValue)
                     {
@@ -1021,7 +1043,8 @@ public class QueryBuilder
                                                                                          propertyCondition.getOperator(),
                                                                                          matchOperand,
                                                                                          principleTableName,
-                                                                                         propertyTableName));
+                                                                                         propertyTableName,
+                                                                                         parameters));
                     }
                     else if (instancePropertyValue instanceof ArrayPropertyValue arrayPropertyValue)
                     {
@@ -1031,7 +1054,8 @@ public class QueryBuilder
                                                                                          propertyCondition.getOperator(),
                                                                                          matchOperand,
                                                                                          principleTableName,
-                                                                                         propertyTableName));
+                                                                                         propertyTableName,
+                                                                                         parameters));
                     }
                     else if (instancePropertyValue instanceof StructPropertyValue structPropertyValue)
                     {
@@ -1041,7 +1065,8 @@ public class QueryBuilder
                                                                                          propertyCondition.getOperator(),
                                                                                          matchOperand,
                                                                                          principleTableName,
-                                                                                         propertyTableName));
+                                                                                         propertyTableName,
+                                                                                         parameters));
                     }
                     else // null property value
                     {
@@ -1050,7 +1075,8 @@ public class QueryBuilder
                                                                                     propertyCondition.getOperator(),
                                                                                     null,
                                                                                     principleTableName,
-                                                                                    propertyTableName));
+                                                                                    propertyTableName,
+                                                                                    parameters));
                     }
                 }
             }
@@ -1078,9 +1104,10 @@ public class QueryBuilder
     /**
      * Derive the SQL fragment to describe the search classifications.
      *
+     * @param parameters list of parameter values for the query
      * @return fragment of SQL
      */
-    private String getSearchClassificationsClause() throws RepositoryErrorException
+    private String getSearchClassificationsClause(List<JDBCDataValue> parameters) throws RepositoryErrorException
     {
         if ((matchClassifications != null) && (matchClassifications.getConditions() != null))
         {
@@ -1124,23 +1151,24 @@ public class QueryBuilder
 
                     conditionsBuilder.append("(");
                     conditionsBuilder.append(RepositoryColumn.TYPE_NAME.getColumnName(RepositoryTable.CLASSIFICATION.getTableName()));
-                    conditionsBuilder.append(" like '%:");
+                    conditionsBuilder.append(" like ");
 
                     if (classificationCondition.getName() != null)
                     {
-                        conditionsBuilder.append(classificationCondition.getName());
+                        conditionsBuilder.append(bindValue("%:" + classificationCondition.getName() + ":%", parameters));
                     }
                     else
                     {
-                        conditionsBuilder.append("%");
+                        conditionsBuilder.append(bindValue("%:%:%", parameters));
                     }
-                    conditionsBuilder.append(":%' ");
+                    conditionsBuilder.append(" ");
 
                     if (classificationCondition.getMatchProperties() != null)
                     {
                         conditionsBuilder.append(this.getSearchPropertiesClause(RepositoryTable.CLASSIFICATION.getTableName(),
                                                                                 RepositoryTable.CLASSIFICATION_ATTRIBUTE_VALUE.getTableName(),
-                                                                                classificationCondition.getMatchProperties()));
+                                                                                classificationCondition.getMatchProperties(),
+                                                                                parameters));
                     }
 
                     conditionsBuilder.append(") ");
@@ -1179,36 +1207,24 @@ public class QueryBuilder
 
     /**
      * Convert the list of classifications that must be present on all returned entities into a SQL fragment.
+     * The patterns for the classification names are passed as a single array parameter.
      *
+     * @param parameters list of parameter values for the query
      * @return fragment of SQL
      */
-    private String getLimitResultsByClassificationClaus()
+    private String getLimitResultsByClassificationClaus(List<JDBCDataValue> parameters)
     {
         if ((limitResultsByClassification != null) && (! limitResultsByClassification.isEmpty()))
         {
-            StringBuilder stringBuilder = new StringBuilder(" and (");
-            boolean       firstClassification = true;
+            List<String> classificationPatterns = new ArrayList<>();
 
             for (String classificationName : limitResultsByClassification)
             {
-                if (firstClassification)
-                {
-                    firstClassification = false;
-                }
-                else
-                {
-                    stringBuilder.append(" or ");
-                }
-
-                stringBuilder.append(RepositoryColumn.TYPE_NAME.getColumnName(RepositoryTable.CLASSIFICATION.getTableName()));
-                stringBuilder.append(" like '%:");
-                stringBuilder.append(escapePropertyValue(getSafeLikePattern(classificationName)));
-                stringBuilder.append(":%'");
+                classificationPatterns.add("%:" + getSafeLikePattern(classificationName) + ":%");
             }
 
-            stringBuilder.append(")");
-
-            return stringBuilder.toString();
+            return " and (" + RepositoryColumn.TYPE_NAME.getColumnName(RepositoryTable.CLASSIFICATION.getTableName()) +
+                    " like any(" + bindValueList(classificationPatterns, parameters) + "))";
         }
 
 
@@ -1273,12 +1289,14 @@ public class QueryBuilder
 
 
     /**
-     * Return the SQL fragment that describes the type(s) to search for.
+     * Return the SQL fragment that describes the type(s) to search for.  The patterns for the subtype names
+     * are passed as a single array parameter.
      *
+     * @param parameters list of parameter values for the query
      * @return fragment of SQL
      * @throws RepositoryErrorException invalid type
      */
-    private String getTypeClause() throws RepositoryErrorException
+    private String getTypeClause(List<JDBCDataValue> parameters) throws RepositoryErrorException
     {
         if ((subtypeGUIDs != null) && (! subtypeGUIDs.isEmpty()))
         {
@@ -1290,9 +1308,9 @@ public class QueryBuilder
                 {
                     stringBuffer.append(" and (");
                     stringBuffer.append(RepositoryColumn.TYPE_NAME.getColumnName());
-                    stringBuffer.append(" like '%:");
-                    stringBuffer.append(this.lookUpTypeName(typeGUID, typeGUIDParameterName));
-                    stringBuffer.append(":%')");
+                    stringBuffer.append(" like ");
+                    stringBuffer.append(bindValue("%:" + this.lookUpTypeName(typeGUID, typeGUIDParameterName) + ":%", parameters));
+                    stringBuffer.append(")");
                 }
 
                 stringBuffer.append(" and not (");
@@ -1302,31 +1320,23 @@ public class QueryBuilder
                 stringBuffer.append(" and (");
             }
 
-            boolean firstType = true;
+            List<String> typeNamePatterns = new ArrayList<>();
 
             for (String subTypeGUID: subtypeGUIDs)
             {
-                if (firstType)
-                {
-                    firstType = false;
-                }
-                else
-                {
-                    stringBuffer.append(" or ");
-                }
-
-                stringBuffer.append(RepositoryColumn.TYPE_NAME.getColumnName());
-                stringBuffer.append(" like '%:");
-                stringBuffer.append(this.lookUpTypeName(subTypeGUID, subTypeGUIDsParameterName));
-                stringBuffer.append(":%' ");
+                typeNamePatterns.add("%:" + this.lookUpTypeName(subTypeGUID, subTypeGUIDsParameterName) + ":%");
             }
-            stringBuffer.append(")");
+
+            stringBuffer.append(RepositoryColumn.TYPE_NAME.getColumnName());
+            stringBuffer.append(" like any(");
+            stringBuffer.append(bindValueList(typeNamePatterns, parameters));
+            stringBuffer.append("))");
 
             return stringBuffer.toString();
         }
         else if (typeGUID != null)
         {
-            return " and (" + RepositoryColumn.TYPE_NAME.getColumnName() + " like '%:" + this.lookUpTypeName(typeGUID, typeGUIDParameterName) + ":%')";
+            return " and (" + RepositoryColumn.TYPE_NAME.getColumnName() + " like " + bindValue("%:" + this.lookUpTypeName(typeGUID, typeGUIDParameterName) + ":%", parameters) + ")";
         }
 
         return " ";
@@ -1387,11 +1397,13 @@ public class QueryBuilder
 
 
     /**
-     * Determine the sql needed to limit the return results.
+     * Determine the sql needed to limit the return results.  The requested statuses are passed as a single
+     * array parameter.
      *
+     * @param parameters list of parameter values for the query
      * @return fragment of SQL
      */
-    private String getLimitResultsByStatusClause()
+    private String getLimitResultsByStatusClause(List<JDBCDataValue> parameters)
     {
         if (limitResultsByStatus == null)
         {
@@ -1403,32 +1415,17 @@ public class QueryBuilder
         }
         else
         {
-            StringBuilder sqlClause = new StringBuilder(" and (");
-            boolean firstStatus = true;
+            List<String> statusNames = new ArrayList<>();
 
             for (InstanceStatus instanceStatus : limitResultsByStatus)
             {
                 if (instanceStatus != null)
                 {
-                    if (firstStatus)
-                    {
-                        firstStatus = false;
-                    }
-                    else
-                    {
-                        sqlClause.append(" or ");
-                    }
-
-                    sqlClause.append(RepositoryColumn.CURRENT_STATUS.getColumnName());
-                    sqlClause.append(" = '");
-                    sqlClause.append(instanceStatus.getName());
-                    sqlClause.append("'");
+                    statusNames.add(instanceStatus.getName());
                 }
             }
 
-            sqlClause.append(")");
-
-            return sqlClause.toString();
+            return " and (" + RepositoryColumn.CURRENT_STATUS.getColumnName() + " = any(" + bindValueList(statusNames, parameters) + "))";
         }
     }
 
@@ -1447,9 +1444,10 @@ public class QueryBuilder
     /**
      * Create the part of the where clause that ensures that the correct version is returned.
      *
+     * @param parameters list of parameter values for the query
      * @return fragment of SQL
      */
-    private String getAsOfTimeClause()
+    private String getAsOfTimeClause(List<JDBCDataValue> parameters)
     {
         if (asOfTime == null)
         {
@@ -1457,13 +1455,16 @@ public class QueryBuilder
         }
         else
         {
-            // java.util.Date's own toString() (what plain string concatenation of a Date would produce here)
-            // has no sub-second precision at all, unlike the millisecond-precision timestamps this same
-            // asOfTime is compared against (version_start_time/version_end_time) - wrapping in
-            // java.sql.Timestamp keeps the millisecond component in the generated SQL literal.
-            String asOfTimeLiteral = new java.sql.Timestamp(asOfTime.getTime()).toString();
+            /*
+             * Binding asOfTime as a timestamp keeps the millisecond component that the version_start_time and
+             * version_end_time columns are stored with.
+             */
+            Timestamp asOfTimestamp = new Timestamp(asOfTime.getTime());
 
-            return " (" + RepositoryColumn.VERSION_START_TIME.getColumnName() + " < '" + asOfTimeLiteral + "' and (" + RepositoryColumn.VERSION_END_TIME.getColumnName() + " is null or " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " > '" + asOfTimeLiteral + "')) ";
+            parameters.add(new JDBCDataValue(asOfTimestamp, Types.TIMESTAMP));
+            parameters.add(new JDBCDataValue(asOfTimestamp, Types.TIMESTAMP));
+
+            return " (" + RepositoryColumn.VERSION_START_TIME.getColumnName() + " < ? and (" + RepositoryColumn.VERSION_END_TIME.getColumnName() + " is null or " + RepositoryColumn.VERSION_END_TIME.getColumnName() + " > ?)) ";
         }
     }
 
@@ -1485,9 +1486,12 @@ public class QueryBuilder
     /**
      * Return the ORDER BY fragment.  Notice that ordering by property is currently ignored
      *
+     * @param principleTableName main table that the ordering will occur on
+     * @param parameters list of parameter values for the query
      * @return sequencing
      */
-    private String getSequencingOrder(String principleTableName)
+    private String getSequencingOrder(String              principleTableName,
+                                      List<JDBCDataValue> parameters)
     {
         if (sequencingOrder != null)
         {
@@ -1515,11 +1519,11 @@ public class QueryBuilder
                 }
                 case PROPERTY_DESCENDING ->
                 {
-                    return " order by " + this.getSequencingPropertyOrderClause(principleTableName) + " desc ";
+                    return " order by " + this.getSequencingPropertyOrderClause(principleTableName, parameters) + " desc ";
                 }
                 case PROPERTY_ASCENDING ->
                 {
-                    return " order by " + this.getSequencingPropertyOrderClause(principleTableName) + " asc ";
+                    return " order by " + this.getSequencingPropertyOrderClause(principleTableName, parameters) + " asc ";
                 }
             }
         }
@@ -1549,9 +1553,11 @@ public class QueryBuilder
      * declared type is one of the numeric primitives - see isNumericProperty().
      *
      * @param principleTableName main table that the ordering will occur on
+     * @param parameters list of parameter values for the query
      * @return SQL fragment naming or computing the value to sort on - does not include "order by" or asc/desc
      */
-    private String getSequencingPropertyOrderClause(String principleTableName)
+    private String getSequencingPropertyOrderClause(String              principleTableName,
+                                                    List<JDBCDataValue> parameters)
     {
         if (sequencingProperty == null)
         {
@@ -1568,7 +1574,7 @@ public class QueryBuilder
             String subSelect = "(select " + RepositoryColumn.PROPERTY_VALUE.getColumnName() + " from " + propertyTableName +
                     " where " + RepositoryColumn.INSTANCE_GUID.getColumnName(propertyTableName) + " = " + RepositoryColumn.INSTANCE_GUID.getColumnName(principleTableName) +
                     " and " + RepositoryColumn.VERSION.getColumnName(propertyTableName) + " = " + RepositoryColumn.VERSION.getColumnName(principleTableName) +
-                    " and " + RepositoryColumn.ATTRIBUTE_NAME.getColumnName(propertyTableName) + " = '" + escapePropertyValue(sequencingProperty) + "'" +
+                    " and " + RepositoryColumn.ATTRIBUTE_NAME.getColumnName(propertyTableName) + " = " + bindValue(sequencingProperty, parameters) +
                     " limit 1)";
 
             if (this.isNumericProperty(sequencingProperty))
@@ -1734,9 +1740,11 @@ public class QueryBuilder
      * Return the paging requirements for the query.
      *
      * @param principleTableName main table for ordering
+     * @param parameters list of parameter values for the query
      * @return paging
      */
-    private String getPaging(String principleTableName)
+    private String getPaging(String              principleTableName,
+                             List<JDBCDataValue> parameters)
     {
         if (pageSize == 0)
         {
@@ -1752,10 +1760,13 @@ public class QueryBuilder
             if (sequencingOrder == null)
             {
                 sequencingOrder = SequencingOrder.CREATION_DATE_RECENT;
-                sqlClause = this.getSequencingOrder(principleTableName);
+                sqlClause = this.getSequencingOrder(principleTableName, parameters);
             }
 
-            return sqlClause + " limit " + pageSize +  " offset " + fromElement;
+            parameters.add(new JDBCDataValue(pageSize, Types.INTEGER));
+            parameters.add(new JDBCDataValue(fromElement, Types.INTEGER));
+
+            return sqlClause + " limit ? offset ?";
         }
     }
 
@@ -1772,37 +1783,16 @@ public class QueryBuilder
 
 
     /**
-     * Derive the SQL clause that searches for a list of guids.
+     * Derive the SQL clause that searches for a list of guids.  The GUIDs are passed as a single array parameter.
      *
+     * @param parameters list of parameter values for the query
      * @return SQL command fragment
      */
-    private String getGUIDListClause()
+    private String getGUIDListClause(List<JDBCDataValue> parameters)
     {
         if ((guidList != null) && (! guidList.isEmpty()))
         {
-            StringBuilder stringBuilder = new StringBuilder(" and (");
-            boolean       firstGUID = true;
-
-            for (String guid : guidList)
-            {
-                if (firstGUID)
-                {
-                    firstGUID = false;
-                }
-                else
-                {
-                    stringBuilder.append(" or ");
-                }
-
-                stringBuilder.append(RepositoryColumn.INSTANCE_GUID.getColumnName());
-                stringBuilder.append(" = '");
-                stringBuilder.append(escapePropertyValue(guid));
-                stringBuilder.append("' ");
-            }
-
-            stringBuilder.append(") ");
-
-            return stringBuilder.toString();
+            return " and (" + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = any(" + bindValueList(guidList, parameters) + ")) ";
         }
 
         return " ";
@@ -1815,19 +1805,23 @@ public class QueryBuilder
      * @param instanceGUID unique identifier of the associated entity or relationship
      * @param version the version of the instance
      * @param classificationName optional classification name
+     * @param parameters list of parameter values for the query - the values for this fragment are added to the end
      * @return where clause
      */
-    public String getPrimaryKeysClause(String instanceGUID,
-                                       long   version,
-                                       String classificationName)
+    public String getPrimaryKeysClause(String              instanceGUID,
+                                       long                version,
+                                       String              classificationName,
+                                       List<JDBCDataValue> parameters)
     {
         if ((instanceGUID != null) && (version != 0L))
         {
-            String sqlFragment = "(" + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = '" + instanceGUID + "' and " + RepositoryColumn.VERSION.getColumnName() + " = " + version;
+            String sqlFragment = "(" + RepositoryColumn.INSTANCE_GUID.getColumnName() + " = " + bindValue(instanceGUID, parameters) + " and " + RepositoryColumn.VERSION.getColumnName() + " = ?";
+
+            parameters.add(new JDBCDataValue(version, Types.BIGINT));
 
             if (classificationName != null)
             {
-                sqlFragment = sqlFragment + " and " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName() +  " = '" + classificationName + "' ";
+                sqlFragment = sqlFragment + " and " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName() +  " = " + bindValue(classificationName, parameters) + " ";
             }
 
             return sqlFragment + ")";
@@ -1837,6 +1831,37 @@ public class QueryBuilder
     }
 
 
+    /**
+     * Return the where clause that matches the primary keys of a list of entities, relationships or classifications.
+     * The keys are passed as parallel arrays that are turned back into rows by the unnest function, so the SQL
+     * is the same however many instances are requested.
+     *
+     * @param instanceGUIDs unique identifiers of the associated entities or relationships
+     * @param versions the version of each instance
+     * @param classificationNames optional classification names (null for entities and relationships)
+     * @param parameters list of parameter values for the query - the values for this fragment are added to the end
+     * @return where clause
+     */
+    public String getPrimaryKeysListClause(List<String>        instanceGUIDs,
+                                           List<Long>          versions,
+                                           List<String>        classificationNames,
+                                           List<JDBCDataValue> parameters)
+    {
+        String keyColumns = RepositoryColumn.INSTANCE_GUID.getColumnName() + ", " + RepositoryColumn.VERSION.getColumnName();
+        String keyValues  = bindValueList(instanceGUIDs, parameters) + ", ?";
+
+        parameters.add(new JDBCDataValue(versions.toArray(new Long[0]), Types.ARRAY));
+
+        if (classificationNames != null)
+        {
+            keyColumns = keyColumns + ", " + RepositoryColumn.CLASSIFICATION_NAME.getColumnName();
+            keyValues  = keyValues + ", " + bindValueList(classificationNames, parameters);
+        }
+
+        return "(" + keyColumns + ") in (select * from unnest(" + keyValues + "))";
+    }
+
+
     /**
      * Join the principle table with its associated attributes table.
      *
@@ -1910,21 +1935,22 @@ public class QueryBuilder
     /**
      * Return the where clause built up from the query parameters supplied.
      *
+     * @param parameters list of parameter values for the query - the values for the where clause are added to the end
      * @return SQL command fragment
      */
-    public String getAsOfTimeWhereClause() throws RepositoryErrorException
+    public String getAsOfTimeWhereClause(List<JDBCDataValue> parameters) throws RepositoryErrorException
     {
         String whereClause =
-                getAsOfTimeClause() +
-                getRelationshipEndGUIDClause() +
-                getRelationshipEndCriteriaClause() +
-                getGUIDListClause() +
-                getSearchStringClause() +
-                getSearchPropertiesClause(principleTableName, propertyTableName, searchProperties) +
-                getSearchClassificationsClause() +
-                getTypeClause() +
-                getLimitResultsByClassificationClaus() +
-                getLimitResultsByStatusClause();
+                getAsOfTimeClause(parameters) +
+                getRelationshipEndGUIDClause(parameters) +
+                getRelationshipEndCriteriaClause(parameters) +
+                getGUIDListClause(parameters) +
+                getSearchStringClause(parameters) +
+                getSearchPropertiesClause(principleTableName, propertyTableName, searchProperties, parameters) +
+                getSearchClassificationsClause(parameters) +
+                getTypeClause(parameters) +
+                getLimitResultsByClassificationClaus(parameters) +
+                getLimitResultsByStatusClause(parameters);
 
         if (log.isDebugEnabled())
         {
@@ -1941,12 +1967,14 @@ public class QueryBuilder
      * The sequencing (order by) and paging (limit/offset) can only be added at the end and may only include
      *
      * @param principleTableName main table that the ordering will occur on
+     * @param parameters list of parameter values for the query - the values for this fragment are added to the end
      * @return sql fragment
      */
-    public String getSequenceAndPaging(String principleTableName)
+    public String getSequenceAndPaging(String              principleTableName,
+                                       List<JDBCDataValue> parameters)
     {
-        String clause = getSequencingOrder(principleTableName) +
-                        getPaging(principleTableName);
+        String clause = getSequencingOrder(principleTableName, parameters) +
+                        getPaging(principleTableName, parameters);
 
         if (log.isDebugEnabled())
         {
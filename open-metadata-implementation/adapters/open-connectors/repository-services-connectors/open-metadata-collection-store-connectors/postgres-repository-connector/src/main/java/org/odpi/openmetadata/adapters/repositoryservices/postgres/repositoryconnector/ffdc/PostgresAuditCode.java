@@ -94,6 +94,24 @@ public enum PostgresAuditCode implements AuditLogMessageSet
                        "The repository mode is used to switch the repository into a read-only mode.  The default mode is read-write.  This value is changed using the 'repositoryMode' configuration property.  If it is set to 'readOnly' then repositoryMode=read-only; if it is set to anything else (or not set) then repositoryMode=read-write.",
                        "Check that this is the intended value.  Typically it is only changed from its default value of read-write for situations where you do not want any changes to be made to the metadata in the repository."),
 
+    /**
+     * POSTGRES-REPOSITORY-CONNECTOR-0009 - The PostgreSQL repository connector {0} is using a search index mode of: {1}
+     */
+    SEARCH_INDEX_MODE("POSTGRES-REPOSITORY-CONNECTOR-0009",
+                      AuditLogRecordSeverityLevel.STARTUP,
+                      "The PostgreSQL repository connector {0} is using a search index mode of: {1}",
+                      "The search index mode controls whether trigram indexes are maintained on the property values in the attribute tables.  These indexes allow searches for a string anywhere in a property value to be served without scanning the whole table.  This value is changed using the 'searchIndexMode' configuration property.  If it is set to 'trigram' then searchIndexMode=trigram; if it is set to anything else (or not set) then searchIndexMode=none.",
+                      "Check that this is the intended value.  The trigram indexes use additional space in the database and slow down updates a little, but make searches on large repositories much faster."),
+
+    /**
+     * POSTGRES-REPOSITORY-CONNECTOR-0010 - The PostgreSQL repository connector {0} is unable to create the trigram search indexes in schema {1}; the {2} exception was returned with message: {3}
+     */
+    SEARCH_INDEX_FAILED("POSTGRES-REPOSITORY-CONNECTOR-0010",
+                        AuditLogRecordSeverityLevel.ERROR,
+                        "The PostgreSQL repository connector {0} is unable to create the trigram search indexes in schema {1}; the {2} exception was returned with message: {3}",
+                        "The repository continues without the search indexes.  Searches return the same results but take longer on large repositories.",
+                        "Use the details from the error message to determine the cause of the error.  Typically the database user does not have permission to create the pg_trgm extension.  Ask the database administrator to install it in the database, and then restart the server."),
+
     ;
 
     private final String                      logMessageId;
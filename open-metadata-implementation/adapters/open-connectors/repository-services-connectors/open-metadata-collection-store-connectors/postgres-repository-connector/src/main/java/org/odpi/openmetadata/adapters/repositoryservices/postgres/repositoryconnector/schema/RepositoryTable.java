@@ -407,6 +407,17 @@ public enum RepositoryTable implements PostgreSQLTable
     }
 
 
+    /**
+     * Return the tables that hold the property values of the instances.
+     *
+     * @return list of tables
+     */
+    public static List<RepositoryTable> getAttributeValueTables()
+    {
+        return new ArrayList<>(Arrays.asList(ENTITY_ATTRIBUTE_VALUE, CLASSIFICATION_ATTRIBUTE_VALUE, RELATIONSHIP_ATTRIBUTE_VALUE));
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -193,6 +193,17 @@ public enum EgeriaOpenConnectorDefinition implements OpenConnectorDefinition
                                           DeployedImplementationType.AUDIT_LOG_DESTINATION_CONNECTOR.getAssociatedTypeName(),
                                           DeployedImplementationType.AUDIT_LOG_DESTINATION_CONNECTOR.getDeployedImplementationType()),
 
+    SEGMENTED_FILE_AUDIT_LOG_DESTINATION_CONNECTOR(46,
+                                                   "b7e3a0a4-5f1c-4d2e-9a61-3c8f2d7e41b9",
+                                                   "Egeria::AuditLogDestinationConnector::SegmentedFiles",
+                                                   "Segmented File Audit Log Destination Connector",
+                                                   "Connector supports the distribution of audit log records to a directory of rolling segment files, each holding JSON formatted log records, one per line.",
+                                                   "https://github.com/odpi/egeria/tree/main/open-metadata-implementation/adapters/open-connectors/repository-services-connectors/audit-log-connectors/audit-log-file-connector",
+                                                   "org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file.SegmentedFileAuditLogStoreProvider",
+                                                   ComponentDevelopmentStatus.TECHNICAL_PREVIEW,
+                                                   DeployedImplementationType.AUDIT_LOG_DESTINATION_CONNECTOR.getAssociatedTypeName(),
+                                                   DeployedImplementationType.AUDIT_LOG_DESTINATION_CONNECTOR.getDeployedImplementationType()),
+
     IN_MEMORY_REPOSITORY_CONNECTOR(50,
                                    "65cc9091-757f-4bcd-b937-426160be8bc2",
                                    "Egeria::OpenMetadataRepositoryConnector::InMemory",
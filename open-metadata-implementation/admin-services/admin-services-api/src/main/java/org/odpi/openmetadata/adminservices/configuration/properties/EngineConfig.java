@@ -24,9 +24,11 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 @JsonIgnoreProperties(ignoreUnknown=true)
 public class EngineConfig extends OMAGServerClientConfig
 {
-    private String engineId            = UUID.randomUUID().toString();
-    private String engineQualifiedName = null;
-    private String engineUserId        = null;
+    private String  engineId                   = UUID.randomUUID().toString();
+    private String  engineQualifiedName        = null;
+    private String  engineUserId               = null;
+    private int     maxConcurrentEngineActions = 0;
+    private boolean engineActionVirtualThreads = false;
 
 
     /**
@@ -49,9 +51,11 @@ public class EngineConfig extends OMAGServerClientConfig
 
         if (template != null)
         {
-            engineId            = template.getEngineId();
-            engineQualifiedName = template.getEngineQualifiedName();
-            engineUserId        = template.getEngineUserId();
+            engineId                   = template.getEngineId();
+            engineQualifiedName        = template.getEngineQualifiedName();
+            engineUserId               = template.getEngineUserId();
+            maxConcurrentEngineActions = template.getMaxConcurrentEngineActions();
+            engineActionVirtualThreads = template.getEngineActionVirtualThreads();
         }
     }
 
@@ -126,6 +130,54 @@ public class EngineConfig extends OMAGServerClientConfig
     }
 
 
+    /**
+     * Return the maximum number of engine actions that the governance engine runs at the same time.  Engine actions
+     * beyond this limit are left for other engine hosts, or until a running engine action completes.
+     * Zero means there is no limit.
+     *
+     * @return count
+     */
+    public int getMaxConcurrentEngineActions()
+    {
+        return maxConcurrentEngineActions;
+    }
+
+
+    /**
+     * Set up the maximum number of engine actions that the governance engine runs at the same time.  Engine actions
+     * beyond this limit are left for other engine hosts, or until a running engine action completes.
+     * Zero means there is no limit.
+     *
+     * @param maxConcurrentEngineActions count
+     */
+    public void setMaxConcurrentEngineActions(int maxConcurrentEngineActions)
+    {
+        this.maxConcurrentEngineActions = maxConcurrentEngineActions;
+    }
+
+
+    /**
+     * Return whether the governance services should run on virtual threads (if the runtime supports them).
+     *
+     * @return boolean flag
+     */
+    public boolean getEngineActionVirtualThreads()
+    {
+        return engineActionVirtualThreads;
+    }
+
+
+    /**
+     * Set up whether the governance services should run on virtual threads (if the runtime supports them).
+     *
+     * @param engineActionVirtualThreads boolean flag
+     */
+    public void setEngineActionVirtualThreads(boolean engineActionVirtualThreads)
+    {
+        this.engineActionVirtualThreads = engineActionVirtualThreads;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -138,6 +190,8 @@ public class EngineConfig extends OMAGServerClientConfig
                        "engineId=" + engineId +
                        ", engineQualifiedName='" + engineQualifiedName + '\'' +
                        ", engineUserId='" + engineUserId + '\'' +
+                       ", maxConcurrentEngineActions=" + maxConcurrentEngineActions +
+                       ", engineActionVirtualThreads=" + engineActionVirtualThreads +
                        '}';
     }
 
@@ -160,7 +214,9 @@ public class EngineConfig extends OMAGServerClientConfig
             return false;
         }
         EngineConfig that = (EngineConfig) objectToCompare;
-        return Objects.equals(engineId, that.engineId) &&
+        return maxConcurrentEngineActions == that.maxConcurrentEngineActions &&
+                       engineActionVirtualThreads == that.engineActionVirtualThreads &&
+                       Objects.equals(engineId, that.engineId) &&
                        Objects.equals(engineQualifiedName, that.engineQualifiedName) &&
                        Objects.equals(engineUserId, that.engineUserId);
     }
@@ -174,6 +230,7 @@ public class EngineConfig extends OMAGServerClientConfig
     @Override
     public int hashCode()
     {
-        return Objects.hash(getEngineId(), getEngineQualifiedName(), getEngineUserId());
+        return Objects.hash(getEngineId(), getEngineQualifiedName(), getEngineUserId(), getMaxConcurrentEngineActions(),
+                            getEngineActionVirtualThreads());
     }
 }
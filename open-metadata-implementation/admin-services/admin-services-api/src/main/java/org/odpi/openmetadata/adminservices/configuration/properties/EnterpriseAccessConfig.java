@@ -36,6 +36,22 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *     <li>
  *         remoteEnterpriseOMRSTopicConnection - connection for the remote (external) enterprise OMRS Topic connector.
  *     </li>
+ *     <li>
+ *         federationThreadCount - number of worker threads used to issue federated requests to the cohort members
+ *                                 in parallel.  Zero means the cohort members are called one after another.
+ *     </li>
+ *     <li>
+ *         federationMemberTimeout - maximum time in milliseconds that a parallel federated request waits for a cohort
+ *                                   member to respond.  Zero means there is no limit.
+ *     </li>
+ *     <li>
+ *         federationVirtualThreads - use virtual threads for parallel federated requests if the runtime supports them.
+ *     </li>
+ *     <li>
+ *         federationPagingCursors - maximum number of paging cursors kept by each enterprise connector.  A paging cursor
+ *                                   lets the next page of a federated query continue from where each cohort member
+ *                                   got to.  Zero means each member is asked for the caller's starting element.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -48,6 +64,10 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     private Connection                       enterpriseOMRSTopicConnection       = null;
     private OpenMetadataEventProtocolVersion enterpriseOMRSTopicProtocolVersion  = null;
     private Connection                       remoteEnterpriseOMRSTopicConnection = null;
+    private int                              federationThreadCount               = 0;
+    private long                             federationMemberTimeout             = 0L;
+    private boolean                          federationVirtualThreads            = false;
+    private int                              federationPagingCursors             = 0;
 
 
     /**
@@ -75,6 +95,10 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
             this.enterpriseOMRSTopicConnection = template.getEnterpriseOMRSTopicConnection();
             this.enterpriseOMRSTopicProtocolVersion = template.getEnterpriseOMRSTopicProtocolVersion();
             this.remoteEnterpriseOMRSTopicConnection = template.getRemoteEnterpriseOMRSTopicConnection();
+            this.federationThreadCount = template.getFederationThreadCount();
+            this.federationMemberTimeout = template.getFederationMemberTimeout();
+            this.federationVirtualThreads = template.getFederationVirtualThreads();
+            this.federationPagingCursors = template.getFederationPagingCursors();
         }
     }
 
@@ -218,6 +242,98 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the number of worker threads used to issue federated requests to the cohort members in parallel.
+     * Zero means the cohort members are called one after another.
+     *
+     * @return thread count
+     */
+    public int getFederationThreadCount()
+    {
+        return federationThreadCount;
+    }
+
+
+    /**
+     * Set up the number of worker threads used to issue federated requests to the cohort members in parallel.
+     * Zero means the cohort members are called one after another.
+     *
+     * @param federationThreadCount thread count
+     */
+    public void setFederationThreadCount(int federationThreadCount)
+    {
+        this.federationThreadCount = federationThreadCount;
+    }
+
+
+    /**
+     * Return the maximum time in milliseconds that a parallel federated request waits for a cohort member to respond.
+     * Zero means there is no limit.
+     *
+     * @return milliseconds
+     */
+    public long getFederationMemberTimeout()
+    {
+        return federationMemberTimeout;
+    }
+
+
+    /**
+     * Set up the maximum time in milliseconds that a parallel federated request waits for a cohort member to respond.
+     * Zero means there is no limit.
+     *
+     * @param federationMemberTimeout milliseconds
+     */
+    public void setFederationMemberTimeout(long federationMemberTimeout)
+    {
+        this.federationMemberTimeout = federationMemberTimeout;
+    }
+
+
+    /**
+     * Return whether virtual threads should be used for parallel federated requests (if the runtime supports them).
+     *
+     * @return boolean flag
+     */
+    public boolean getFederationVirtualThreads()
+    {
+        return federationVirtualThreads;
+    }
+
+
+    /**
+     * Set up whether virtual threads should be used for parallel federated requests (if the runtime supports them).
+     *
+     * @param federationVirtualThreads boolean flag
+     */
+    public void setFederationVirtualThreads(boolean federationVirtualThreads)
+    {
+        this.federationVirtualThreads = federationVirtualThreads;
+    }
+
+
+    /**
+     * Return the maximum number of paging cursors kept by each enterprise connector.  Zero means paging cursors are not used.
+     *
+     * @return number of cursors
+     */
+    public int getFederationPagingCursors()
+    {
+        return federationPagingCursors;
+    }
+
+
+    /**
+     * Set up the maximum number of paging cursors kept by each enterprise connector.  Zero means paging cursors are not used.
+     *
+     * @param federationPagingCursors number of cursors
+     */
+    public void setFederationPagingCursors(int federationPagingCursors)
+    {
+        this.federationPagingCursors = federationPagingCursors;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -232,6 +348,10 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
                        ", enterpriseOMRSTopicConnection=" + enterpriseOMRSTopicConnection +
                        ", enterpriseOMRSTopicProtocolVersion=" + enterpriseOMRSTopicProtocolVersion +
                        ", remoteEnterpriseOMRSTopicConnection=" + remoteEnterpriseOMRSTopicConnection +
+                       ", federationThreadCount=" + federationThreadCount +
+                       ", federationMemberTimeout=" + federationMemberTimeout +
+                       ", federationVirtualThreads=" + federationVirtualThreads +
+                       ", federationPagingCursors=" + federationPagingCursors +
                        '}';
     }
 
@@ -254,7 +374,11 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
             return false;
         }
         EnterpriseAccessConfig that = (EnterpriseAccessConfig) objectToCompare;
-        return Objects.equals(enterpriseMetadataCollectionName, that.enterpriseMetadataCollectionName) &&
+        return federationThreadCount == that.federationThreadCount &&
+                       federationMemberTimeout == that.federationMemberTimeout &&
+                       federationVirtualThreads == that.federationVirtualThreads &&
+                       federationPagingCursors == that.federationPagingCursors &&
+                       Objects.equals(enterpriseMetadataCollectionName, that.enterpriseMetadataCollectionName) &&
                        Objects.equals(enterpriseMetadataCollectionId, that.enterpriseMetadataCollectionId) &&
                        Objects.equals(enterpriseOMRSTopicConnection, that.enterpriseOMRSTopicConnection) &&
                        enterpriseOMRSTopicProtocolVersion == that.enterpriseOMRSTopicProtocolVersion &&
@@ -272,6 +396,7 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     public int hashCode()
     {
         return Objects.hash(enterpriseMetadataCollectionName, enterpriseMetadataCollectionId, enterpriseOMRSTopicConnection,
-                            enterpriseOMRSTopicProtocolVersion, remoteEnterpriseOMRSTopicConnection);
+                            enterpriseOMRSTopicProtocolVersion, remoteEnterpriseOMRSTopicConnection,
+                            federationThreadCount, federationMemberTimeout, federationVirtualThreads, federationPagingCursors);
     }
 }
@@ -34,6 +34,11 @@ import java.util.Objects;
  *         The archives are managed by the OMRSArchiveManager.
  *     </li>
  *     <li>
+ *         archiveBulkLoadBatchSize controls how the instances from the open metadata archives are loaded into
+ *         the local repository.  Zero means each instance is processed as a separate instance event.  A positive
+ *         value means the instances are validated in parallel and saved in batches of this size.
+ *     </li>
+ *     <li>
  *         localRepositoryConfig describes the properties used to manage the local metadata repository for this server.
  *     </li>
  *     <li>
@@ -53,6 +58,7 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
 {
     private List<Connection>       auditLogConnections            = new ArrayList<>();
     private List<Connection>       openMetadataArchiveConnections = new ArrayList<>();
+    private int                    archiveBulkLoadBatchSize       = 0;
     private LocalRepositoryConfig  localRepositoryConfig          = null;
     private EnterpriseAccessConfig enterpriseAccessConfig         = null;
     private List<CohortConfig>     cohortConfigList               = new ArrayList<>();
@@ -80,6 +86,7 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
         {
             this.auditLogConnections = template.getAuditLogConnections();
             this.openMetadataArchiveConnections = template.getOpenMetadataArchiveConnections();
+            this.archiveBulkLoadBatchSize = template.getArchiveBulkLoadBatchSize();
             this.localRepositoryConfig = template.getLocalRepositoryConfig();
             this.enterpriseAccessConfig = template.getEnterpriseAccessConfig();
             this.cohortConfigList = template.getCohortConfigList();
@@ -155,6 +162,34 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the number of archive instances saved to the local repository in each batch.  Zero means that
+     * each instance is processed as a separate instance event, which also sends an event to the cohort for
+     * each instance.  A positive value means the instances are validated in parallel and saved in batches,
+     * with a single instance batch event sent to the cohort.
+     *
+     * @return batch size
+     */
+    public int getArchiveBulkLoadBatchSize()
+    {
+        return archiveBulkLoadBatchSize;
+    }
+
+
+    /**
+     * Set up the number of archive instances saved to the local repository in each batch.  Zero means that
+     * each instance is processed as a separate instance event, which also sends an event to the cohort for
+     * each instance.  A positive value means the instances are validated in parallel and saved in batches,
+     * with a single instance batch event sent to the cohort.
+     *
+     * @param archiveBulkLoadBatchSize batch size
+     */
+    public void setArchiveBulkLoadBatchSize(int archiveBulkLoadBatchSize)
+    {
+        this.archiveBulkLoadBatchSize = archiveBulkLoadBatchSize;
+    }
+
+
     /**
      * Return the configuration properties for the local repository.
      *
@@ -247,6 +282,7 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
         return "RepositoryServicesConfig{" +
                 "auditLogConnections=" + auditLogConnections +
                 ", openMetadataArchiveConnections=" + openMetadataArchiveConnections +
+                ", archiveBulkLoadBatchSize=" + archiveBulkLoadBatchSize +
                 ", localRepositoryConfig=" + localRepositoryConfig +
                 ", enterpriseAccessConfig=" + enterpriseAccessConfig +
                 ", cohortConfigList=" + cohortConfigList +
@@ -272,7 +308,8 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
             return false;
         }
         RepositoryServicesConfig that = (RepositoryServicesConfig) objectToCompare;
-        return Objects.equals(getAuditLogConnections(), that.getAuditLogConnections()) &&
+        return archiveBulkLoadBatchSize == that.archiveBulkLoadBatchSize &&
+                Objects.equals(getAuditLogConnections(), that.getAuditLogConnections()) &&
                 Objects.equals(getOpenMetadataArchiveConnections(), that.getOpenMetadataArchiveConnections()) &&
                 Objects.equals(getLocalRepositoryConfig(), that.getLocalRepositoryConfig()) &&
                 Objects.equals(getEnterpriseAccessConfig(), that.getEnterpriseAccessConfig()) &&
@@ -288,7 +325,7 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
     @Override
     public int hashCode()
     {
-        return Objects.hash(getAuditLogConnections(), getOpenMetadataArchiveConnections(), getLocalRepositoryConfig(),
-                            getEnterpriseAccessConfig(), getCohortConfigList());
+        return Objects.hash(getAuditLogConnections(), getOpenMetadataArchiveConnections(), getArchiveBulkLoadBatchSize(),
+                            getLocalRepositoryConfig(), getEnterpriseAccessConfig(), getCohortConfigList());
     }
 }
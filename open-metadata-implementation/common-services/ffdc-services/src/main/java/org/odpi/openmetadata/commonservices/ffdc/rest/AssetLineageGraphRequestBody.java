@@ -5,7 +5,7 @@ package org.odpi.openmetadata.commonservices.ffdc.rest;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import org.odpi.openmetadata.frameworks.openmetadata.search.QueryOptions;
+import org.odpi.openmetadata.frameworks.openmetadata.search.LineageTraversalOptions;
 
 import java.util.Objects;
 
@@ -13,16 +13,15 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 /**
- * AssetLineageGraphRequestBody provides the request body payload for an asset lineage graph.
+ * AssetLineageGraphRequestBody provides the request body payload for an asset lineage graph.  The options
+ * that control the traversal of the lineage relationships are inherited from LineageTraversalOptions.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown=true)
-public class AssetLineageGraphRequestBody extends QueryOptions
+public class AssetLineageGraphRequestBody extends LineageTraversalOptions
 {
-    private String       limitToISCQualifiedName   = null;
-    private String       highlightISCQualifiedName = null;
-    private boolean      allAnchors                = false;
+    private String highlightISCQualifiedName = null;
 
 
     /**
@@ -44,37 +43,11 @@ public class AssetLineageGraphRequestBody extends QueryOptions
 
         if (template != null)
         {
-            this.limitToISCQualifiedName   = template.getLimitToISCQualifiedName();
             this.highlightISCQualifiedName = template.getHighlightISCQualifiedName();
-            this.allAnchors                = template.getAllAnchors();
         }
     }
 
 
-    /**
-     * Return whether the returned results should just show a particular information supply chain.
-     * This supply chain has to be connected to the starting asset to show.
-     *
-     * @return qualified name
-     */
-    public String getLimitToISCQualifiedName()
-    {
-        return limitToISCQualifiedName;
-    }
-
-
-    /**
-     * Set up whether the returned results should just show a particular information supply chain.
-     * This supply chain has to be connected to the starting asset to show.
-     *
-     * @param limitToISCQualifiedName qualified name
-     */
-    public void setLimitToISCQualifiedName(String limitToISCQualifiedName)
-    {
-        this.limitToISCQualifiedName = limitToISCQualifiedName;
-    }
-
-
     /**
      * Return whether a particular information supply chain should be highlighted.
      *
@@ -97,28 +70,6 @@ public class AssetLineageGraphRequestBody extends QueryOptions
     }
 
 
-    /**
-     * Return whether all anchors should be added - or just those to known nodes? Default is false.
-     *
-     * @return flag
-     */
-    public boolean getAllAnchors()
-    {
-        return allAnchors;
-    }
-
-
-    /**
-     * Set up whether all anchors should be added - or just those to known nodes? Default is false.
-     *
-     * @param allAnchors flag
-     */
-    public void setAllAnchors(boolean allAnchors)
-    {
-        this.allAnchors = allAnchors;
-    }
-
-
     /**
      * JSON-style toString.
      *
@@ -128,9 +79,7 @@ public class AssetLineageGraphRequestBody extends QueryOptions
     public String toString()
     {
         return "AssetLineageGraphRequestBody{" +
-                "limitToISCQualifiedName='" + limitToISCQualifiedName + '\'' +
-                ", highlightISCQualifiedName='" + highlightISCQualifiedName + '\'' +
-                ", allAnchors=" + allAnchors +
+                "highlightISCQualifiedName='" + highlightISCQualifiedName + '\'' +
                 "} " + super.toString();
     }
 
@@ -157,9 +106,7 @@ public class AssetLineageGraphRequestBody extends QueryOptions
             return false;
         }
         AssetLineageGraphRequestBody that = (AssetLineageGraphRequestBody) objectToCompare;
-        return  allAnchors == that.allAnchors &&
-                Objects.equals(limitToISCQualifiedName, that.limitToISCQualifiedName) &&
-                Objects.equals(highlightISCQualifiedName, that.highlightISCQualifiedName);
+        return Objects.equals(highlightISCQualifiedName, that.highlightISCQualifiedName);
     }
 
 
@@ -171,6 +118,6 @@ public class AssetLineageGraphRequestBody extends QueryOptions
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), allAnchors, limitToISCQualifiedName, highlightISCQualifiedName);
+        return Objects.hash(super.hashCode(), highlightISCQualifiedName);
     }
 }
@@ -13,19 +13,23 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.serveroperations.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
  * It is also responsible for registering itself in the instance map.
+ * <br><br>
+ * The registered services are looked up on every REST call, so they are held in a concurrent map and the lookup does
+ * not lock the server instance.  Registering and unregistering services, and shutdown, are still synchronized.
  */
 class OMAGServerInstance
 {
-    private final String                             serverName;
-    private String                                   serverType;
-    private final List<OMAGServerInstanceHistory>    serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance>   serviceInstanceMap = new HashMap<>();
-    private Date                                     serverStartTime    = new Date();
-    private final OpenMetadataServerSecurityVerifier securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private final String                                 serverName;
+    private volatile String                              serverType;
+    private final List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
+    private final Map<String, OMAGServerServiceInstance> serviceInstanceMap = new ConcurrentHashMap<>();
+    private volatile Date                                serverStartTime    = new Date();
+    private final OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -86,7 +90,7 @@ class OMAGServerInstance
      *
      * @return list of service names
      */
-    synchronized List<String> getConfiguredServices()
+    List<String> getConfiguredServices()
     {
         Set<String>  keySet = serviceInstanceMap.keySet();
 
@@ -106,7 +110,7 @@ class OMAGServerInstance
      *
      * @return start time
      */
-    synchronized Date getServerStartTime()
+    Date getServerStartTime()
     {
         return serverStartTime;
     }
@@ -175,7 +179,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -211,12 +215,12 @@ class OMAGServerInstance
      * @throws InvalidParameterException the services are invisible to the calling user
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String userId,
-                                                                String delegatingUserId,
-                                                                String serviceName,
-                                                                String serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                    InvalidParameterException,
-                                                                                                    PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String userId,
+                                                   String delegatingUserId,
+                                                   String serviceName,
+                                                   String serviceOperationName) throws UserNotAuthorizedException,
+                                                                                       InvalidParameterException,
+                                                                                       PropertyServerException
     {
         securityVerifier.validateUserForService(userId, serviceName);
         securityVerifier.validateUserForServiceOperation(userId, serviceName, serviceOperationName);
@@ -266,9 +270,11 @@ class OMAGServerInstance
 
         if (!serviceInstanceMap.isEmpty())
         {
-            this.serviceInstanceMap = new HashMap<>();
+            String residualServiceNames = serviceInstanceMap.keySet().toString();
+
+            this.serviceInstanceMap.clear();
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICES_NOT_SHUTDOWN.getMessageDefinition(serverName,
-                                                                                                                     serviceInstanceMap.keySet().toString()),
+                                                                                                                     residualServiceNames),
                                               this.getClass().getName(),
                                               methodName);
         }
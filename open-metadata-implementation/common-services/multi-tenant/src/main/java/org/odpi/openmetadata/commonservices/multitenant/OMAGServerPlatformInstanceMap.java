@@ -26,12 +26,14 @@ import java.util.*;
  * service instances for the requested server.  It manages the server name to server instance mapping.
  * The map is maintained in a static, so it is scoped to the class loader.
  * <br><br>
- * Instances of this class call the synchronized static methods to work with the map.
+ * Instances of this class call the static methods to work with the map.  The active and inactive servers are held
+ * in an immutable snapshot that is replaced as a whole when a server starts or stops.  Every REST call resolves its
+ * server through this map, so lookups just read the current snapshot without taking a lock.  The methods that change
+ * the set of servers are synchronized so that each change is made against the latest snapshot.
  */
 public class OMAGServerPlatformInstanceMap
 {
-    private static final Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>();
-    private static final Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>();
+    private static volatile ServerInstanceSnapshot serverInstances = new ServerInstanceSnapshot(new HashMap<>(), new HashMap<>());
 
     private static final String   implementationOrigin = "Egeria OMAG Server Platform (version 6.2-SNAPSHOT)";
     private final static Date   platformStartTime = new Date();
@@ -85,7 +87,7 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    public static synchronized void  validateUserAsOperatorForPlatform(String   userId) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
+    public static void  validateUserAsOperatorForPlatform(String   userId) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
     {
         OpenMetadataPlatformSecurityVerifier.validateUserAsOperatorForPlatform(userId);
     }
@@ -486,17 +488,19 @@ public class OMAGServerPlatformInstanceMap
      */
     private static synchronized OMAGServerInstance getActiveServerInstance(String serverName)
     {
+        ServerInstanceSnapshot currentServerInstances = serverInstances;
+
         /*
          * Is this a server that is currently running?
          */
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = currentServerInstances.getActiveServer(serverName);
 
         if (serverInstance == null)
         {
             /*
              * Is this a known server that is currently inactive?
              */
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = currentServerInstances.getInactiveServer(serverName);
 
             if (serverInstance == null)
             {
@@ -504,16 +508,12 @@ public class OMAGServerPlatformInstanceMap
                  * New server for this platform
                  */
                 serverInstance = new OMAGServerInstance(serverName);
-                activeServerInstanceMap.put(serverName, serverInstance);
-            }
-            else
-            {
-                /*
-                 * Move the inactive server to active
-                 */
-                activeServerInstanceMap.put(serverName, serverInstance);
-                inActiveServerInstanceMap.remove(serverName);
             }
+
+            /*
+             * Publish the server as active (moving it from the inactive servers if it was known).
+             */
+            serverInstances = currentServerInstances.setServerActive(serverName, serverInstance);
         }
 
         return serverInstance;
@@ -577,15 +577,15 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized String getServerInstanceType(String  userId,
-                                                             String  serverName,
-                                                             String  serviceOperationName) throws InvalidParameterException,
-                                                                                                  UserNotAuthorizedException,
-                                                                                                  PropertyServerException
+    private static String getServerInstanceType(String  userId,
+                                                String  serverName,
+                                                String  serviceOperationName) throws InvalidParameterException,
+                                                                                     UserNotAuthorizedException,
+                                                                                     PropertyServerException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        OMAGServerInstance serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance serverInstance = serverInstances.getActiveServer(serverName);
 
         if (serverInstance != null)
         {
@@ -616,12 +616,12 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized ServerStatus getServerInstanceStatus(String  userId,
-                                                                     String  delegatingUserId,
-                                                                     String  serverName,
-                                                                     String  serviceOperationName) throws InvalidParameterException,
-                                                                                                          UserNotAuthorizedException,
-                                                                                                          PropertyServerException
+    private static ServerStatus getServerInstanceStatus(String  userId,
+                                                        String  delegatingUserId,
+                                                        String  serverName,
+                                                        String  serviceOperationName) throws InvalidParameterException,
+                                                                                             UserNotAuthorizedException,
+                                                                                             PropertyServerException
     {
         validateUserAsInvestigatorForPlatform(userId);
         if (delegatingUserId != null)
@@ -629,12 +629,13 @@ public class OMAGServerPlatformInstanceMap
             validateUserAsInvestigatorForPlatform(delegatingUserId);
         }
 
-        OMAGServerInstance serverInstance = activeServerInstanceMap.get(serverName);
-        boolean            isActive = true;
+        ServerInstanceSnapshot currentServerInstances = serverInstances;
+        OMAGServerInstance     serverInstance         = currentServerInstances.getActiveServer(serverName);
+        boolean                isActive               = true;
 
         if (serverInstance == null)
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = currentServerInstances.getInactiveServer(serverName);
             isActive = false;
         }
 
@@ -676,9 +677,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized boolean isServerInstanceActive(String  userId,
-                                                               String  delegatingUserId,
-                                                               String  serverName) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
+    private static boolean isServerInstanceActive(String  userId,
+                                                  String  delegatingUserId,
+                                                  String  serverName) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
     {
         validateUserAsInvestigatorForPlatform(userId);
         if (delegatingUserId != null)
@@ -686,7 +687,7 @@ public class OMAGServerPlatformInstanceMap
             validateUserAsInvestigatorForPlatform(delegatingUserId);
         }
 
-        return (activeServerInstanceMap.get(serverName) != null);
+        return (serverInstances.getActiveServer(serverName) != null);
     }
 
 
@@ -704,9 +705,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized boolean isServerInstanceKnown(String  userId,
-                                                              String  delegatingUserId,
-                                                              String  serverName) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
+    private static boolean isServerInstanceKnown(String  userId,
+                                                 String  delegatingUserId,
+                                                 String  serverName) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
     {
         validateUserAsInvestigatorForPlatform(userId);
         if (delegatingUserId != null)
@@ -714,8 +715,7 @@ public class OMAGServerPlatformInstanceMap
             validateUserAsInvestigatorForPlatform(delegatingUserId);
         }
 
-        return ((activeServerInstanceMap.get(serverName) != null) ||
-                (inActiveServerInstanceMap.get(serverName) != null));
+        return (serverInstances.getServer(serverName) != null);
     }
 
 
@@ -733,15 +733,15 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws PropertyServerException the service name is not know - indicating a logic error
      */
-    private static synchronized OMAGServerServiceInstance getInstanceForPlatform(String  userId,
-                                                                                 String  delegatingUserId,
-                                                                                 String  serverName,
-                                                                                 String  serviceName,
-                                                                                 String  serviceOperationName) throws InvalidParameterException,
-                                                                                                                      UserNotAuthorizedException,
-                                                                                                                      PropertyServerException
+    private static OMAGServerServiceInstance getInstanceForPlatform(String  userId,
+                                                                    String  delegatingUserId,
+                                                                    String  serverName,
+                                                                    String  serviceName,
+                                                                    String  serviceOperationName) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstances.getActiveServer(serverName);
 
         if (serverInstance != null)
         {
@@ -782,8 +782,8 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized List<String> getActiveServerListForPlatform(String userId,
-                                                                            String delegatingUserId) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
+    private static List<String> getActiveServerListForPlatform(String userId,
+                                                               String delegatingUserId) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
     {
         OpenMetadataPlatformSecurityVerifier.validateUserAsInvestigatorForPlatform(userId);
         if (delegatingUserId != null)
@@ -791,7 +791,7 @@ public class OMAGServerPlatformInstanceMap
             OpenMetadataPlatformSecurityVerifier.validateUserAsInvestigatorForPlatform(delegatingUserId);
         }
 
-        Set<String>  activeServerSet = activeServerInstanceMap.keySet();
+        Set<String>  activeServerSet = serverInstances.activeServers.keySet();
 
         if (activeServerSet.isEmpty())
         {
@@ -814,8 +814,8 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized List<String> getShutdownServerListForPlatform(String userId,
-                                                                              String delegatingUserId) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
+    private static List<String> getShutdownServerListForPlatform(String userId,
+                                                                 String delegatingUserId) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
     {
         OpenMetadataPlatformSecurityVerifier.validateUserAsInvestigatorForPlatform(userId);
         if (delegatingUserId != null)
@@ -823,7 +823,8 @@ public class OMAGServerPlatformInstanceMap
             OpenMetadataPlatformSecurityVerifier.validateUserAsInvestigatorForPlatform(delegatingUserId);
         }
 
-        Set<String>  activeServerSet = activeServerInstanceMap.keySet();
+        Map<String, OMAGServerInstance> activeServerInstanceMap = serverInstances.activeServers;
+        Set<String>                     activeServerSet         = activeServerInstanceMap.keySet();
 
         if (activeServerSet.isEmpty())
         {
@@ -880,8 +881,8 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized List<String> getKnownServerListForPlatform(String userId,
-                                                                           String delegatingUserId) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
+    private static List<String> getKnownServerListForPlatform(String userId,
+                                                              String delegatingUserId) throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException
     {
         OpenMetadataPlatformSecurityVerifier.validateUserAsInvestigatorForPlatform(userId);
         if (delegatingUserId != null)
@@ -889,8 +890,10 @@ public class OMAGServerPlatformInstanceMap
             OpenMetadataPlatformSecurityVerifier.validateUserAsInvestigatorForPlatform(userId);
         }
 
-        List<String> knownServerList = new ArrayList<>(activeServerInstanceMap.keySet());
-        knownServerList.addAll(inActiveServerInstanceMap.keySet());
+        ServerInstanceSnapshot currentServerInstances = serverInstances;
+
+        List<String> knownServerList = new ArrayList<>(currentServerInstances.activeServers.keySet());
+        knownServerList.addAll(currentServerInstances.inactiveServers.keySet());
 
         if (knownServerList.isEmpty())
         {
@@ -912,10 +915,10 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized void validateUserAsServerInvestigator(String userId,
-                                                                      OMAGServerInstance serverInstance) throws UserNotAuthorizedException,
-                                                                                                                PropertyServerException,
-                                                                                                                InvalidParameterException
+    private static void validateUserAsServerInvestigator(String userId,
+                                                         OMAGServerInstance serverInstance) throws UserNotAuthorizedException,
+                                                                                                   PropertyServerException,
+                                                                                                   InvalidParameterException
     {
         if (serverInstance != null)
         {
@@ -962,20 +965,15 @@ public class OMAGServerPlatformInstanceMap
      * @throws PropertyServerException unable to retrieve necessary information to make the decision.
 
      */
-    private static synchronized  Date getServerStartTimeFromPlatform(String  userId,
-                                                                     String  delegatingUserId,
-                                                                     String  serverName) throws InvalidParameterException,
-                                                                                                UserNotAuthorizedException,
-                                                                                                PropertyServerException
+    private static Date getServerStartTimeFromPlatform(String  userId,
+                                                       String  delegatingUserId,
+                                                       String  serverName) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException
     {
         final String  methodName = "getServerStartTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstances.getServer(serverName);
 
         if (serverInstance != null)
         {
@@ -1007,20 +1005,15 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized Date getServerEndTimeFromPlatform(String userId,
-                                                                  String delegatingUserId,
-                                                                  String serverName) throws InvalidParameterException,
-                                                                                            UserNotAuthorizedException,
-                                                                                            PropertyServerException
+    private static Date getServerEndTimeFromPlatform(String userId,
+                                                     String delegatingUserId,
+                                                     String serverName) throws InvalidParameterException,
+                                                                               UserNotAuthorizedException,
+                                                                               PropertyServerException
     {
         final String methodName = "getServerEndTimeFromPlatform";
 
-        OMAGServerInstance serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance serverInstance = serverInstances.getServer(serverName);
 
         if (serverInstance != null)
         {
@@ -1052,20 +1045,15 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException    unable to retrieve necessary information to make the decision.
      */
-    private static synchronized List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String userId,
-                                                                                             String delegatingUserId,
-                                                                                             String serverName) throws InvalidParameterException,
-                                                                                                                       UserNotAuthorizedException,
-                                                                                                                       PropertyServerException
+    private static List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String userId,
+                                                                                String delegatingUserId,
+                                                                                String serverName) throws InvalidParameterException,
+                                                                                                          UserNotAuthorizedException,
+                                                                                                          PropertyServerException
     {
         final String methodName = "getServerHistoryFromPlatform";
 
-        OMAGServerInstance serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance serverInstance = serverInstances.getServer(serverName);
 
         if (serverInstance != null)
         {
@@ -1096,15 +1084,16 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      * @throws PropertyServerException unable to retrieve necessary information to make the decision.
      */
-    private static synchronized List<String> getActiveServicesForServerOnPlatform(String userId,
-                                                                                  String delegatingUserId,
-                                                                                  String serverName) throws InvalidParameterException,
-                                                                                                            UserNotAuthorizedException,
-                                                                                                            PropertyServerException
+    private static List<String> getActiveServicesForServerOnPlatform(String userId,
+                                                                     String delegatingUserId,
+                                                                     String serverName) throws InvalidParameterException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               PropertyServerException
     {
         final String  methodName = "getActiveServicesForServerOnPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        ServerInstanceSnapshot currentServerInstances = serverInstances;
+        OMAGServerInstance     serverInstance         = currentServerInstances.getActiveServer(serverName);
 
         if (serverInstance != null)
         {
@@ -1118,7 +1107,7 @@ public class OMAGServerPlatformInstanceMap
         }
         else /* server is not active */
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = currentServerInstances.getInactiveServer(serverName);
 
             if (serverInstance != null)
             {
@@ -1140,10 +1129,10 @@ public class OMAGServerPlatformInstanceMap
      * @param serverName name of the server
      * @param serviceName name of the service running on the server
      */
-    private static synchronized void removeInstanceForPlatform(String   serverName,
-                                                               String   serviceName)
+    private static void removeInstanceForPlatform(String   serverName,
+                                                  String   serviceName)
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstances.getActiveServer(serverName);
 
         if (serverInstance != null)
         {
@@ -1166,7 +1155,8 @@ public class OMAGServerPlatformInstanceMap
                                                        String   methodName) throws InvalidParameterException,
                                                                                    PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        ServerInstanceSnapshot currentServerInstances = serverInstances;
+        OMAGServerInstance     serverInstance         = currentServerInstances.getActiveServer(serverName);
 
         if (serverInstance == null)
         {
@@ -1177,14 +1167,10 @@ public class OMAGServerPlatformInstanceMap
             try
             {
                 serverInstance.shutdown(methodName);
-                inActiveServerInstanceMap.put(serverName, serverInstance);
-                activeServerInstanceMap.remove(serverName);
             }
-            catch (Exception error)
+            finally
             {
-                inActiveServerInstanceMap.put(serverName, serverInstance);
-                activeServerInstanceMap.remove(serverName);
-                throw error;
+                serverInstances = currentServerInstances.setServerInactive(serverName, serverInstance);
             }
         }
     }
@@ -1199,12 +1185,12 @@ public class OMAGServerPlatformInstanceMap
      * @return OpenMetadataServerSecurityVerifier object - never null
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
-                                                                                                        String    serverName) throws InvalidParameterException
+    private static OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
+                                                                                           String    serverName) throws InvalidParameterException
     {
         final String  methodName = "getServerSecurityVerifierForPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstances.getActiveServer(serverName);
 
         if (serverInstance != null)
         {
@@ -1626,4 +1612,113 @@ public class OMAGServerPlatformInstanceMap
     {
         return OMAGServerPlatformInstanceMap.getActiveServicesForServerOnPlatform(userId, delegatingUserId, serverName);
     }
+
+
+    /**
+     * ServerInstanceSnapshot holds the active and inactive servers at a point in time.  It is never changed once
+     * published.  Starting or stopping a server builds a new snapshot so that a reader always sees each server in
+     * exactly one of the two maps.
+     */
+    private static final class ServerInstanceSnapshot
+    {
+        private final Map<String, OMAGServerInstance> activeServers;
+        private final Map<String, OMAGServerInstance> inactiveServers;
+
+
+        /**
+         * Constructor takes ownership of the supplied maps.
+         *
+         * @param activeServers servers that are running
+         * @param inactiveServers servers that have run on this platform but are now stopped
+         */
+        private ServerInstanceSnapshot(Map<String, OMAGServerInstance> activeServers,
+                                       Map<String, OMAGServerInstance> inactiveServers)
+        {
+            this.activeServers   = Collections.unmodifiableMap(activeServers);
+            this.inactiveServers = Collections.unmodifiableMap(inactiveServers);
+        }
+
+
+        /**
+         * Return the instance for a running server.
+         *
+         * @param serverName name of the server
+         * @return server instance or null if the server is not running
+         */
+        private OMAGServerInstance getActiveServer(String serverName)
+        {
+            return activeServers.get(serverName);
+        }
+
+
+        /**
+         * Return the instance for a server that has been stopped.
+         *
+         * @param serverName name of the server
+         * @return server instance or null if the server is running or unknown
+         */
+        private OMAGServerInstance getInactiveServer(String serverName)
+        {
+            return inactiveServers.get(serverName);
+        }
+
+
+        /**
+         * Return the instance for a server whether it is running or not.
+         *
+         * @param serverName name of the server
+         * @return server instance or null if the server is unknown
+         */
+        private OMAGServerInstance getServer(String serverName)
+        {
+            OMAGServerInstance serverInstance = activeServers.get(serverName);
+
+            if (serverInstance == null)
+            {
+                serverInstance = inactiveServers.get(serverName);
+            }
+
+            return serverInstance;
+        }
+
+
+        /**
+         * Return a new snapshot with the server added to the active servers and removed from the inactive servers.
+         *
+         * @param serverName name of the server
+         * @param serverInstance server instance
+         * @return new snapshot
+         */
+        private ServerInstanceSnapshot setServerActive(String             serverName,
+                                                       OMAGServerInstance serverInstance)
+        {
+            Map<String, OMAGServerInstance> newActiveServers   = new HashMap<>(activeServers);
+            Map<String, OMAGServerInstance> newInactiveServers = new HashMap<>(inactiveServers);
+
+            newActiveServers.put(serverName, serverInstance);
+            newInactiveServers.remove(serverName);
+
+            return new ServerInstanceSnapshot(newActiveServers, newInactiveServers);
+        }
+
+
+        /**
+         * Return a new snapshot with the server added to the inactive servers and removed from the active servers.
+         *
+         * @param serverName name of the server
+         * @param serverInstance server instance
+         * @return new snapshot
+         */
+        private ServerInstanceSnapshot setServerInactive(String             serverName,
+                                                         OMAGServerInstance serverInstance)
+        {
+            Map<String, OMAGServerInstance> newActiveServers   = new HashMap<>(activeServers);
+            Map<String, OMAGServerInstance> newInactiveServers = new HashMap<>(inactiveServers);
+
+            newActiveServers.remove(serverName);
+            newInactiveServers.put(serverName, serverInstance);
+
+            return new ServerInstanceSnapshot(newActiveServers, newInactiveServers);
+        }
+    }
 }
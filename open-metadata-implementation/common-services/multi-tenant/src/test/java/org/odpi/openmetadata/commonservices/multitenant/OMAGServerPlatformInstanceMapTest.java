@@ -0,0 +1,431 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.multitenant;
+
+import org.odpi.openmetadata.frameworks.openmetadata.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.openmetadata.ffdc.PropertyServerException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for {@link OMAGServerPlatformInstanceMap}.  The map is static, so each test uses its own server names.
+ */
+public class OMAGServerPlatformInstanceMapTest
+{
+    private static final String userId      = "testUser";
+    private static final String serviceName = "Test Service";
+    private static final String methodName  = "OMAGServerPlatformInstanceMapTest";
+
+    private static final int  readerCount     = 4;
+    private static final int  restartCount    = 200;
+    private static final long longDelay       = 30000L;
+    private static final long measureDuration = 500L;
+
+    private static final AtomicInteger testNumber = new AtomicInteger(0);
+
+    private final OMAGServerPlatformInstanceMap platformInstanceMap = new OMAGServerPlatformInstanceMap();
+
+
+    /**
+     * Service instance that registers itself for a server.
+     */
+    private static class TestServiceInstance extends OMAGServerServiceInstance
+    {
+        /**
+         * Constructor
+         *
+         * @param serverName name of the server
+         */
+        TestServiceInstance(String serverName)
+        {
+            super(serverName, OMAGServerPlatformInstanceMapTest.serviceName, 100);
+        }
+    }
+
+
+    /**
+     * An action repeated by a test thread.
+     */
+    private interface RepeatedAction
+    {
+        /**
+         * Perform the action once.
+         *
+         * @throws Exception unexpected error
+         */
+        void run() throws Exception;
+    }
+
+
+    /**
+     * Return a server name that is not used by any other test.
+     *
+     * @param serverName base name of the server
+     * @return unique server name
+     */
+    private String getUniqueServerName(String serverName)
+    {
+        return serverName + testNumber.incrementAndGet();
+    }
+
+
+    /**
+     * Start a server with a single service in the same way as the admin services.
+     *
+     * @param serverName name of the server
+     * @return service instance registered for the server
+     * @throws InvalidParameterException the server could not be started
+     */
+    private OMAGServerServiceInstance startServer(String serverName) throws InvalidParameterException
+    {
+        platformInstanceMap.startUpServerInstance(userId, serverName, null, null);
+
+        return new TestServiceInstance(serverName);
+    }
+
+
+    /**
+     * Stop a server in the same way as the admin services.
+     *
+     * @param serverName name of the server
+     * @throws InvalidParameterException the server is not running
+     * @throws PropertyServerException the service was not shutdown
+     */
+    private void stopServer(String serverName) throws InvalidParameterException, PropertyServerException
+    {
+        platformInstanceMap.removeServiceInstanceFromPlatform(serverName, serviceName);
+        platformInstanceMap.shutdownServerInstance(userId, serverName, methodName);
+    }
+
+
+    /**
+     * Start a thread that repeats an action until it is stopped.  Any unexpected exception is recorded.
+     *
+     * @param threadName name of the thread
+     * @param action action to repeat
+     * @param stop flag to end the thread
+     * @param operationCount count of completed actions
+     * @param failures unexpected exceptions
+     * @return started thread
+     */
+    private Thread startRepeatingThread(String           threadName,
+                                        RepeatedAction   action,
+                                        AtomicBoolean    stop,
+                                        AtomicLong       operationCount,
+                                        Queue<Throwable> failures)
+    {
+        Thread thread = new Thread(() ->
+                                   {
+                                       long count = 0;
+
+                                       try
+                                       {
+                                           while (! stop.get())
+                                           {
+                                               action.run();
+                                               count++;
+                                           }
+                                       }
+                                       catch (Throwable error)
+                                       {
+                                           failures.add(error);
+                                       }
+
+                                       operationCount.addAndGet(count);
+                                   },
+                                   threadName);
+
+        thread.start();
+
+        return thread;
+    }
+
+
+    /**
+     * Run the action on several threads for a fixed time.
+     *
+     * @param action action to repeat
+     * @return number of actions completed by all the threads
+     * @throws Exception a thread failed
+     */
+    private long measureThroughput(RepeatedAction action) throws Exception
+    {
+        AtomicBoolean    stop           = new AtomicBoolean(false);
+        AtomicLong       operationCount = new AtomicLong(0);
+        Queue<Throwable> failures       = new ConcurrentLinkedQueue<>();
+        List<Thread>     readers        = new ArrayList<>();
+
+        for (int i = 0; i < readerCount; i++)
+        {
+            readers.add(this.startRepeatingThread("reader-" + i, action, stop, operationCount, failures));
+        }
+
+        Thread.sleep(measureDuration);
+        stop.set(true);
+
+        for (Thread reader : readers)
+        {
+            reader.join(longDelay);
+        }
+
+        Assert.assertTrue(failures.isEmpty(), "Unexpected failures: " + failures);
+
+        return operationCount.get();
+    }
+
+
+    @Test
+    public void testLookupsDuringServerStartAndStop() throws Exception
+    {
+        List<String>                    stableServerNames = new ArrayList<>();
+        List<OMAGServerServiceInstance> stableInstances   = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++)
+        {
+            String serverName = this.getUniqueServerName("stableServer");
+
+            stableServerNames.add(serverName);
+            stableInstances.add(this.startServer(serverName));
+        }
+
+        List<String> restartingServerNames = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            restartingServerNames.add(this.getUniqueServerName("restartingServer"));
+        }
+
+        AtomicBoolean    stop           = new AtomicBoolean(false);
+        AtomicLong       operationCount = new AtomicLong(0);
+        Queue<Throwable> failures       = new ConcurrentLinkedQueue<>();
+        List<Thread>     readers        = new ArrayList<>();
+
+        for (int i = 0; i < readerCount; i++)
+        {
+            readers.add(this.startRepeatingThread("reader-" + i,
+                                                  () ->
+                                                  {
+                                                      /*
+                                                       * Servers that stay running are always visible while other servers start and stop.
+                                                       */
+                                                      for (int s = 0; s < stableServerNames.size(); s++)
+                                                      {
+                                                          String serverName = stableServerNames.get(s);
+
+                                                          Assert.assertSame(platformInstanceMap.getServiceInstance(userId, serverName, serviceName, methodName),
+                                                                            stableInstances.get(s));
+                                                          Assert.assertTrue(platformInstanceMap.isServerActive(userId, null, serverName));
+                                                      }
+
+                                                      /*
+                                                       * Servers that are restarting are either running with their own service instance, or
+                                                       * are reported as not running.
+                                                       */
+                                                      for (String serverName : restartingServerNames)
+                                                      {
+                                                          try
+                                                          {
+                                                              OMAGServerServiceInstance serviceInstance = platformInstanceMap.getServiceInstance(userId,
+                                                                                                                                                 serverName,
+                                                                                                                                                 serviceName,
+                                                                                                                                                 methodName);
+
+                                                              Assert.assertEquals(serviceInstance.getServerName(), serverName);
+                                                          }
+                                                          catch (InvalidParameterException | PropertyServerException notRunning)
+                                                          {
+                                                              // expected while the server is stopped or starting
+                                                          }
+                                                      }
+                                                  },
+                                                  stop,
+                                                  operationCount,
+                                                  failures));
+        }
+
+        try
+        {
+            for (int restart = 0; restart < restartCount; restart++)
+            {
+                for (String serverName : restartingServerNames)
+                {
+                    this.startServer(serverName);
+                }
+
+                for (String serverName : restartingServerNames)
+                {
+                    this.stopServer(serverName);
+                }
+            }
+        }
+        finally
+        {
+            stop.set(true);
+
+            for (Thread reader : readers)
+            {
+                reader.join(longDelay);
+            }
+        }
+
+        Assert.assertTrue(failures.isEmpty(), "Unexpected failures: " + failures);
+        Assert.assertTrue(operationCount.get() > 0);
+
+        List<String> activeServers = platformInstanceMap.getActiveServerList(userId, null);
+        List<String> knownServers  = platformInstanceMap.getKnownServerList(userId, null);
+
+        for (String serverName : stableServerNames)
+        {
+            Assert.assertTrue(activeServers.contains(serverName));
+            Assert.assertTrue(knownServers.contains(serverName));
+        }
+
+        for (String serverName : restartingServerNames)
+        {
+            Assert.assertFalse(activeServers.contains(serverName));
+            Assert.assertTrue(knownServers.contains(serverName));
+            Assert.assertFalse(platformInstanceMap.isServerActive(userId, null, serverName));
+            Assert.assertTrue(platformInstanceMap.isServerKnown(userId, null, serverName));
+            Assert.assertEquals(platformInstanceMap.getServerHistory(userId, null, serverName).size(), restartCount);
+        }
+
+        for (String serverName : stableServerNames)
+        {
+            this.stopServer(serverName);
+        }
+    }
+
+
+    @Test
+    public void testStartAndStopAreVisibleToOtherThreads() throws Exception
+    {
+        String serverName = this.getUniqueServerName("visibleServer");
+
+        CountDownLatch   readerRunning = new CountDownLatch(1);
+        CountDownLatch   sawStarted    = new CountDownLatch(1);
+        CountDownLatch   sawStopped    = new CountDownLatch(1);
+        Queue<Throwable> failures      = new ConcurrentLinkedQueue<>();
+
+        /*
+         * The reader is already polling when the server starts, so it relies on the published server map
+         * rather than on the thread start to see the change.
+         */
+        Thread reader = new Thread(() ->
+                                   {
+                                       try
+                                       {
+                                           readerRunning.countDown();
+
+                                           while (! platformInstanceMap.isServerActive(userId, null, serverName))
+                                           {
+                                               Thread.onSpinWait();
+                                           }
+
+                                           OMAGServerServiceInstance serviceInstance = null;
+
+                                           while (serviceInstance == null)
+                                           {
+                                               try
+                                               {
+                                                   serviceInstance = platformInstanceMap.getServiceInstance(userId, serverName, serviceName, methodName);
+                                               }
+                                               catch (PropertyServerException serviceNotRegisteredYet)
+                                               {
+                                                   Thread.onSpinWait();
+                                               }
+                                           }
+
+                                           Assert.assertEquals(serviceInstance.getServerName(), serverName);
+                                           sawStarted.countDown();
+
+                                           while (platformInstanceMap.isServerActive(userId, null, serverName))
+                                           {
+                                               Thread.onSpinWait();
+                                           }
+
+                                           Assert.assertTrue(platformInstanceMap.isServerKnown(userId, null, serverName));
+
+                                           try
+                                           {
+                                               platformInstanceMap.getServiceInstance(userId, serverName, serviceName, methodName);
+                                               Assert.fail("Service instance returned for a stopped server");
+                                           }
+                                           catch (InvalidParameterException expected)
+                                           {
+                                               sawStopped.countDown();
+                                           }
+                                       }
+                                       catch (Throwable error)
+                                       {
+                                           failures.add(error);
+                                       }
+                                   },
+                                   "visibility-reader");
+
+        reader.start();
+        Assert.assertTrue(readerRunning.await(longDelay, TimeUnit.MILLISECONDS));
+
+        this.startServer(serverName);
+        Assert.assertTrue(sawStarted.await(longDelay, TimeUnit.MILLISECONDS), "Started server not seen: " + failures);
+
+        this.stopServer(serverName);
+        Assert.assertTrue(sawStopped.await(longDelay, TimeUnit.MILLISECONDS), "Stopped server not seen: " + failures);
+
+        reader.join(longDelay);
+        Assert.assertTrue(failures.isEmpty(), "Unexpected failures: " + failures);
+    }
+
+
+    @Test
+    public void testContendedLookupThroughput() throws Exception
+    {
+        String serverName = this.getUniqueServerName("busyServer");
+
+        this.startServer(serverName);
+
+        try
+        {
+            RepeatedAction lookup = () -> platformInstanceMap.getServiceInstance(userId, serverName, serviceName, methodName);
+
+            /*
+             * Lookups used to hold the class lock for the whole call.
+             */
+            RepeatedAction synchronizedLookup = () ->
+            {
+                synchronized (OMAGServerPlatformInstanceMap.class)
+                {
+                    platformInstanceMap.getServiceInstance(userId, serverName, serviceName, methodName);
+                }
+            };
+
+            /*
+             * Warm up both paths before measuring them.
+             */
+            this.measureThroughput(lookup);
+            this.measureThroughput(synchronizedLookup);
+
+            long lookupCount             = this.measureThroughput(lookup);
+            long synchronizedLookupCount = this.measureThroughput(synchronizedLookup);
+
+            /*
+             * Even on a single core the lock-free lookup is about twice as fast, and the gap grows with more cores.
+             */
+            Assert.assertTrue(lookupCount > synchronizedLookupCount,
+                              "Lookups: " + lookupCount + "; synchronized lookups: " + synchronizedLookupCount);
+        }
+        finally
+        {
+            this.stopServer(serverName);
+        }
+    }
+}
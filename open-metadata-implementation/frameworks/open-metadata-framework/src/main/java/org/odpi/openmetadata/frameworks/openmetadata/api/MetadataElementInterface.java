@@ -255,6 +255,28 @@ public interface MetadataElementInterface
                                                                                         PropertyServerException;
 
 
+    /**
+     * Return the elements that are linked to a requested element through lineage relationships.  The graph is
+     * retrieved level by level from the starting element, following upstream elements upstream and downstream
+     * elements downstream, until the graph is complete or one of the traversal budgets is used up.
+     *
+     * @param userId caller's userId
+     * @param elementGUID  unique identifier for the starting element
+     * @param traversalOptions lineage relationships to follow, traversal budgets and other options to control the query
+     *
+     * @return graph of elements
+     *
+     * @throws InvalidParameterException  the unique identifier is null or not known; the relationship type is invalid
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation
+     * @throws PropertyServerException    a problem accessing the metadata store
+     */
+    OpenMetadataLineageGraph getLineageGraph(String                  userId,
+                                             String                  elementGUID,
+                                             LineageTraversalOptions traversalOptions) throws InvalidParameterException,
+                                                                                              UserNotAuthorizedException,
+                                                                                              PropertyServerException;
+
+
     /**
      * Return each of the versions of a metadata element.
      *
@@ -42,6 +42,24 @@ public enum CSVFileConfigurationProperty
                     "\"",
                     false),
 
+    /**
+     * The number of lines between each entry in the index used to locate records in the file.
+     */
+    RECORD_INDEX_INTERVAL("recordIndexInterval",
+                          "The number of lines between each entry in the index used to locate records in the file.  A smaller interval makes reading a specific record faster at the cost of a larger index.",
+                          DataType.INT.getDisplayName(),
+                          "1000",
+                          false),
+
+    /**
+     * Save the index used to locate records in a sidecar file next to the CSV file so it is not rebuilt after a restart.
+     */
+    PERSIST_RECORD_INDEX("persistRecordIndex",
+                         "Save the index used to locate records in a sidecar file (with a .idx suffix) next to the CSV file so it is not rebuilt after a restart.",
+                         DataType.BOOLEAN.getDisplayName(),
+                         "false",
+                         false),
+
     /**
      * The pathname of the .
      */
@@ -169,6 +187,8 @@ public enum CSVFileConfigurationProperty
         recognizedConfigurationProperties.add(CSVFileConfigurationProperty.COLUMN_NAMES.getName());
         recognizedConfigurationProperties.add(CSVFileConfigurationProperty.DELIMITER_CHARACTER.getName());
         recognizedConfigurationProperties.add(CSVFileConfigurationProperty.QUOTE_CHARACTER.getName());
+        recognizedConfigurationProperties.add(CSVFileConfigurationProperty.RECORD_INDEX_INTERVAL.getName());
+        recognizedConfigurationProperties.add(CSVFileConfigurationProperty.PERSIST_RECORD_INDEX.getName());
 
         return recognizedConfigurationProperties;
     }
@@ -186,6 +206,8 @@ public enum CSVFileConfigurationProperty
         configurationPropertyTypes.add(CSVFileConfigurationProperty.COLUMN_NAMES.getConfigurationPropertyType());
         configurationPropertyTypes.add(CSVFileConfigurationProperty.DELIMITER_CHARACTER.getConfigurationPropertyType());
         configurationPropertyTypes.add(CSVFileConfigurationProperty.QUOTE_CHARACTER.getConfigurationPropertyType());
+        configurationPropertyTypes.add(CSVFileConfigurationProperty.RECORD_INDEX_INTERVAL.getConfigurationPropertyType());
+        configurationPropertyTypes.add(CSVFileConfigurationProperty.PERSIST_RECORD_INDEX.getConfigurationPropertyType());
 
         return configurationPropertyTypes;
     }
@@ -102,6 +102,9 @@ public class OpenMetadataPropertyConverterBase
     protected PropertyHelper propertyHelper;
     protected String         localServiceName;
 
+    private static final OpenMetadataTypeDispatchTable<BeanPropertiesConverter<AttachedClassification, ClassificationBeanProperties>> classificationPropertiesConverters = getClassificationPropertiesConverters();
+    private static final OpenMetadataTypeDispatchTable<BeanPropertiesConverter<ElementControlHeader, RelationshipBeanProperties>>     relationshipPropertiesConverters   = getRelationshipPropertiesConverters();
+
 
     /**
      * Constructor captures the initial content
@@ -12988,2251 +12991,3100 @@ public class OpenMetadataPropertyConverterBase
 
             ElementProperties elementProperties = new ElementProperties(attachedClassification.getClassificationProperties());
 
-            if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.ABSTRACT_CONCEPT_CLASSIFICATION.typeName))
+            BeanPropertiesConverter<AttachedClassification, ClassificationBeanProperties> propertiesConverter = classificationPropertiesConverters.getConverter(attachedClassification);
+
+            if (propertiesConverter != null)
             {
-                beanProperties = new AbstractConceptProperties();
+                beanProperties = propertiesConverter.getBeanProperties(this, attachedClassification, elementProperties);
             }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.ACCOUNTING_CODES_CLASSIFICATION.typeName))
+            else
             {
-                beanProperties = new AccountingCodesProperties();
-
-                ((AccountingCodesProperties)beanProperties).setAccountingCode(this.removeAccountingCode(elementProperties));
-                ((AccountingCodesProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                ((AccountingCodesProperties)beanProperties).setAccountingCodeList(this.removeAccountingCodeList(elementProperties));
-                ((AccountingCodesProperties)beanProperties).setAccountingCodeMap(this.removeAccountingCodeMap(elementProperties));
+                beanProperties = new ClassificationBeanProperties();
             }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.ACTIVITY_DESCRIPTION_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ActivityDescriptionProperties();
 
-                ((ActivityDescriptionProperties)beanProperties).setActivityType(this.removeActivityType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.ANCHORS_CLASSIFICATION.typeName))
-            {
-                beanProperties = new AnchorsProperties();
 
-                ((AnchorsProperties)beanProperties).setAnchorGUID(this.removeAnchorGUID(elementProperties));
-                ((AnchorsProperties)beanProperties).setAnchorTypeName(this.removeAnchorTypeName(elementProperties));
-                ((AnchorsProperties)beanProperties).setAnchorDomainName(this.removeAnchorDomainName(elementProperties));
-                ((AnchorsProperties)beanProperties).setAnchorScopeGUIDs(this.removeAnchorScopeGUIDs(elementProperties));
-                ((AnchorsProperties)beanProperties).setZoneMembership(this.removeZoneMembership(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.AUDIT_LOG_CLASSIFICATION.typeName))
-            {
-                beanProperties = new AuditLogProperties();
+            /*
+             * Any remaining properties are returned in the extended properties.  They are
+             * assumed to be defined in a subtype that we don't know about - but it also helps to catch
+             * missing mappings in the code above.
+             */
+            beanProperties.setTypeName(attachedClassification.getType().getTypeName());
+            beanProperties.setExtendedProperties(this.getRemainingExtendedProperties(elementProperties));
 
-                ((AuditLogProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((AuditLogProperties)beanProperties).setProcess(this.removeProcess(elementProperties));
-                ((AuditLogProperties)beanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.BUSINESS_SIGNIFICANT_CLASSIFICATION.typeName))
-            {
-                beanProperties = new BusinessSignificantProperties();
+            return beanProperties;
 
-                ((BusinessSignificantProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                ((BusinessSignificantProperties)beanProperties).setScope(this.removeScope(elementProperties));
-                ((BusinessSignificantProperties)beanProperties).setBusinessCapability(this.removeBusinessCapability(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CALCULATED_VALUE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new CalculatedValueProperties();
+        }
 
-                ((CalculatedValueProperties)beanProperties).setFormula(this.removeFormula(elementProperties));
-                ((CalculatedValueProperties)beanProperties).setFormulaType(this.removeFormulaType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CAMPAIGN_CLASSIFICATION.typeName))
-            {
-                beanProperties = new CampaignProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CLASS_WORD_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ClassWordProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CLOUD_PLATFORM_CLASSIFICATION.typeName))
-            {
-                beanProperties = new CloudPlatformProperties();
+        return null;
+    }
 
-                ((CloudPlatformProperties)beanProperties).setDeployedImplementationType(this.removeDeployedImplementationType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CLOUD_PROVIDER_CLASSIFICATION.typeName))
-            {
-                beanProperties = new CloudProviderProperties();
 
-                ((CloudProviderProperties)beanProperties).setProviderName(this.removeProviderName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CLOUD_SERVICE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new CloudServiceProperties();
+    /**
+     * Build the dispatch table that selects the classification bean properties for an element's type.  The types are
+     * registered in priority order - an element is converted by the first registered type that it is an instance of.
+     *
+     * @return dispatch table
+     */
+    private static OpenMetadataTypeDispatchTable<BeanPropertiesConverter<AttachedClassification, ClassificationBeanProperties>> getClassificationPropertiesConverters()
+    {
+        OpenMetadataTypeDispatchTable<BeanPropertiesConverter<AttachedClassification, ClassificationBeanProperties>> dispatchTable = new OpenMetadataTypeDispatchTable<>();
 
-                ((CloudServiceProperties)beanProperties).setOfferingName(this.removeOfferingName(elementProperties));
-                ((CloudServiceProperties)beanProperties).setServiceType(this.removeServiceType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CLOUD_TENANT_CLASSIFICATION.typeName))
-            {
-                beanProperties = new CloudTenantProperties();
+        dispatchTable.register(OpenMetadataType.ABSTRACT_CONCEPT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new AbstractConceptProperties();
 
-                ((CloudTenantProperties)beanProperties).setTenantName(this.removeTenantName(elementProperties));
-                ((CloudTenantProperties)beanProperties).setTenantType(this.removeTenantType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.COLLECTION_KIND_CLASSIFICATION.typeName))
-            {
-                if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CANONICAL_VOCABULARY_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new CanonicalVocabularyProperties();
+            return beanProperties;
+        });
 
-                    ((CanonicalVocabularyProperties)beanProperties).setScope(this.removeScope(elementProperties));
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.DATA_SHARING_AGREEMENT_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new DataSharingAgreementProperties();
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.EDITING_COLLECTION_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new EditingCollectionProperties();
+        dispatchTable.register(OpenMetadataType.ACCOUNTING_CODES_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new AccountingCodesProperties();
 
-                    ((EditingCollectionProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.STAGING_COLLECTION_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new StagingCollectionProperties();
+            ((AccountingCodesProperties)beanProperties).setAccountingCode(converter.removeAccountingCode(elementProperties));
+            ((AccountingCodesProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((AccountingCodesProperties)beanProperties).setAccountingCodeList(converter.removeAccountingCodeList(elementProperties));
+            ((AccountingCodesProperties)beanProperties).setAccountingCodeMap(converter.removeAccountingCodeMap(elementProperties));
 
-                    ((StagingCollectionProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.SCOPING_COLLECTION_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new ScopingCollectionProperties();
+            return beanProperties;
+        });
 
-                    ((ScopingCollectionProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.TAXONOMY_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new TaxonomyProperties();
+        dispatchTable.register(OpenMetadataType.ACTIVITY_DESCRIPTION_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ActivityDescriptionProperties();
 
-                    ((TaxonomyProperties)beanProperties).setOrganizingPrinciple(this.removeOrganizingPrinciple(elementProperties));
-                }
-                else
-                {
-                    beanProperties = new CollectionKindProperties();
-                }
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CONFIDENCE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ConfidenceProperties();
-
-                ((ConfidenceProperties)beanProperties).setStatusIdentifier(this.removeStatusIdentifier(elementProperties));
-                ((ConfidenceProperties)beanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((ConfidenceProperties)beanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ConfidenceProperties)beanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((ConfidenceProperties)beanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((ConfidenceProperties)beanProperties).setSource(this.removeSource(elementProperties));
-                ((ConfidenceProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((ConfidenceProperties)beanProperties).setConfidenceLevel(this.removeConfidenceLevel(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CONFIDENTIALITY_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ConfidentialityProperties();
-
-                ((ConfidentialityProperties)beanProperties).setStatusIdentifier(this.removeStatusIdentifier(elementProperties));
-                ((ConfidentialityProperties)beanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((ConfidentialityProperties)beanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ConfidentialityProperties)beanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((ConfidentialityProperties)beanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((ConfidentialityProperties)beanProperties).setSource(this.removeSource(elementProperties));
-                ((ConfidentialityProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((ConfidentialityProperties)beanProperties).setConfidentialityLevel(this.removeConfidentialityLevel(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CONSOLIDATED_DUPLICATE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ConsolidatedDuplicateProperties();
-
-                ((ConsolidatedDuplicateProperties)beanProperties).setStatusIdentifier(this.removeStatusIdentifier(elementProperties));
-                ((ConsolidatedDuplicateProperties)beanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ConsolidatedDuplicateProperties)beanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((ConsolidatedDuplicateProperties)beanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((ConsolidatedDuplicateProperties)beanProperties).setSource(this.removeSource(elementProperties));
-                ((ConsolidatedDuplicateProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CONTEXT_DEFINITION_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ContextDefinitionProperties();
+            ((ActivityDescriptionProperties)beanProperties).setActivityType(converter.removeActivityType(elementProperties));
 
-                ((ContextDefinitionProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                ((ContextDefinitionProperties)beanProperties).setScope(this.removeScope(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CRITICALITY_CLASSIFICATION.typeName))
-            {
-                beanProperties = new CriticalityProperties();
-
-                ((CriticalityProperties)beanProperties).setStatusIdentifier(this.removeStatusIdentifier(elementProperties));
-                ((CriticalityProperties)beanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((CriticalityProperties)beanProperties).setSteward(this.removeSteward(elementProperties));
-                ((CriticalityProperties)beanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((CriticalityProperties)beanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((CriticalityProperties)beanProperties).setSource(this.removeSource(elementProperties));
-                ((CriticalityProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((CriticalityProperties)beanProperties).setCriticalityLevel(this.removeCriticalityLevel(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CYBER_LOCATION_CLASSIFICATION.typeName))
-            {
-                beanProperties = new CyberLocationProperties();
+            return beanProperties;
+        });
 
-                ((CyberLocationProperties)beanProperties).setNetworkAddress(this.removeNetworkAddress(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.DATA_ASSET_ENCODING_CLASSIFICATION.typeName))
-            {
-                beanProperties = new DataAssetEncodingProperties();
+        dispatchTable.register(OpenMetadataType.ANCHORS_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new AnchorsProperties();
 
-                ((DataAssetEncodingProperties)beanProperties).setEncodingType(this.removeEncodingType(elementProperties));
-                ((DataAssetEncodingProperties)beanProperties).setEncodingLanguage(this.removeEncodingLanguage(elementProperties));
-                ((DataAssetEncodingProperties)beanProperties).setEncodingDescription(this.removeEncodingDescription(elementProperties));
-                ((DataAssetEncodingProperties)beanProperties).setEncodingProperties(this.removeEncodingProperties(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.DATA_SCOPE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new DataScopeProperties();
-
-                ((DataScopeProperties)beanProperties).setMinLongitude(this.removeMinLongitude(elementProperties));
-                ((DataScopeProperties)beanProperties).setMinLatitude(this.removeMinLatitude(elementProperties));
-                ((DataScopeProperties)beanProperties).setMaxLongitude(this.removeMaxLongitude(elementProperties));
-                ((DataScopeProperties)beanProperties).setMaxLatitude(this.removeMaxLatitude(elementProperties));
-                ((DataScopeProperties)beanProperties).setMinHeight(this.removeMinHeight(elementProperties));
-                ((DataScopeProperties)beanProperties).setMaxHeight(this.removeMaxHeight(elementProperties));
-                ((DataScopeProperties)beanProperties).setDataCollectionStartTime(this.removeDataCollectionStartTime(elementProperties));
-                ((DataScopeProperties)beanProperties).setDataCollectionEndTime(this.removeDataCollectionEndTime(elementProperties));
-                ((DataScopeProperties)beanProperties).setScopeElements(this.removeScopeElements(elementProperties));
-                ((DataScopeProperties)beanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.DATA_VALUE_MEANING_CLASSIFICATION.typeName))
-            {
-                beanProperties = new DataValueMeaningProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.DIGITAL_RESOURCE_ORIGIN_CLASSIFICATION.typeName))
-            {
-                beanProperties = new DigitalResourceOriginProperties();
+            ((AnchorsProperties)beanProperties).setAnchorGUID(converter.removeAnchorGUID(elementProperties));
+            ((AnchorsProperties)beanProperties).setAnchorTypeName(converter.removeAnchorTypeName(elementProperties));
+            ((AnchorsProperties)beanProperties).setAnchorDomainName(converter.removeAnchorDomainName(elementProperties));
+            ((AnchorsProperties)beanProperties).setAnchorScopeGUIDs(converter.removeAnchorScopeGUIDs(elementProperties));
+            ((AnchorsProperties)beanProperties).setZoneMembership(converter.removeZoneMembership(elementProperties));
 
-                ((DigitalResourceOriginProperties)beanProperties).setOrganization(this.removeOrganization(elementProperties));
-                ((DigitalResourceOriginProperties)beanProperties).setOrganizationPropertyName(this.removeOrganizationPropertyName(elementProperties));
-                ((DigitalResourceOriginProperties)beanProperties).setBusinessCapability(this.removeBusinessCapability(elementProperties));
-                ((DigitalResourceOriginProperties)beanProperties).setBusinessCapabilityPropertyName(this.removeBusinessCapabilityPropertyName(elementProperties));
-                ((DigitalResourceOriginProperties)beanProperties).setOtherOriginValues(this.removeOtherOriginValues(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.ELEMENT_SUPPLEMENT_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ElementSupplementProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.EXCEPTION_BACKLOG_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ExceptionBacklogProperties();
-
-                ((ExceptionBacklogProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((ExceptionBacklogProperties)beanProperties).setProcess(this.removeProcess(elementProperties));
-                ((ExceptionBacklogProperties)beanProperties).setSource(this.removeSource(elementProperties));
-                ((ExceptionBacklogProperties)beanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ExceptionBacklogProperties)beanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((ExceptionBacklogProperties)beanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.EXECUTION_POINT_CLASSIFICATION.typeName))
-            {
-                if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CONTROL_POINT_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new ControlPointProperties();
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.ENFORCEMENT_POINT_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new EnforcementPointProperties();
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.VERIFICATION_POINT_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new VerificationPointProperties();
-                }
-                else
-                {
-                    beanProperties = new ExecutionPointProperties();
-                }
+            return beanProperties;
+        });
 
-                ((ExecutionPointProperties)beanProperties).setQualifiedName(this.removeQualifiedName(elementProperties));
+        dispatchTable.register(OpenMetadataType.AUDIT_LOG_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new AuditLogProperties();
 
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.EXPERIMENT_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ExperimentProperties();
+            ((AuditLogProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((AuditLogProperties)beanProperties).setProcess(converter.removeProcess(elementProperties));
+            ((AuditLogProperties)beanProperties).setSource(converter.removeSource(elementProperties));
 
-                ((ExperimentProperties)beanProperties).setHypothesis(this.removeHypothesis(elementProperties));
+            return beanProperties;
+        });
 
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.FIXED_LOCATION_CLASSIFICATION.typeName))
-            {
-                beanProperties = new FixedLocationProperties();
+        dispatchTable.register(OpenMetadataType.BUSINESS_SIGNIFICANT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new BusinessSignificantProperties();
 
-                ((FixedLocationProperties)beanProperties).setCoordinates(this.removeCoordinates(elementProperties));
-                ((FixedLocationProperties)beanProperties).setMapProjection(this.removeMapProjection(elementProperties));
-                ((FixedLocationProperties)beanProperties).setPostalAddress(this.removePostalAddress(elementProperties));
-                ((FixedLocationProperties)beanProperties).setTimeZone(this.removeTimeZone(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.GLOSSARY_PROJECT_CLASSIFICATION.typeName))
-            {
-                beanProperties = new GlossaryProjectProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.GOVERNANCE_EXPECTATIONS_CLASSIFICATION.typeName))
-            {
-                beanProperties = new GovernanceExpectationsProperties();
+            ((BusinessSignificantProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((BusinessSignificantProperties)beanProperties).setScope(converter.removeScope(elementProperties));
+            ((BusinessSignificantProperties)beanProperties).setBusinessCapability(converter.removeBusinessCapability(elementProperties));
 
-                ((GovernanceExpectationsProperties)beanProperties).setFlags(this.removeFlags(elementProperties));
-                ((GovernanceExpectationsProperties)beanProperties).setValues(this.removeValues(elementProperties));
-                ((GovernanceExpectationsProperties)beanProperties).setDates(this.removeDates(elementProperties));
-                ((GovernanceExpectationsProperties)beanProperties).setCounts(this.removeCounts(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.GOVERNANCE_MEASUREMENTS_CLASSIFICATION.typeName))
-            {
-                beanProperties = new GovernanceMeasurementsProperties();
-
-                ((GovernanceMeasurementsProperties)beanProperties).setDataCollectionStartTime(this.removeDataCollectionStartTime(elementProperties));
-                ((GovernanceMeasurementsProperties)beanProperties).setDataCollectionEndTime(this.removeDataCollectionEndTime(elementProperties));
-                ((GovernanceMeasurementsProperties)beanProperties).setFlags(this.removeFlags(elementProperties));
-                ((GovernanceMeasurementsProperties)beanProperties).setValues(this.removeValues(elementProperties));
-                ((GovernanceMeasurementsProperties)beanProperties).setDates(this.removeDates(elementProperties));
-                ((GovernanceMeasurementsProperties)beanProperties).setCounts(this.removeCounts(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.GOVERNANCE_PROJECT_CLASSIFICATION.typeName))
-            {
-                beanProperties = new GovernanceProjectProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.IMPACT_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ImpactProperties();
-
-                ((ImpactProperties)beanProperties).setStatusIdentifier(this.removeStatusIdentifier(elementProperties));
-                ((ImpactProperties)beanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((ImpactProperties)beanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ImpactProperties)beanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((ImpactProperties)beanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((ImpactProperties)beanProperties).setSource(this.removeSource(elementProperties));
-                ((ImpactProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((ImpactProperties)beanProperties).setSeverityLevel(this.removeSeverityLevel(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.INCOMPLETE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new IncompleteProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.INSTANCE_METADATA_CLASSIFICATION.typeName))
-            {
-                beanProperties = new InstanceMetadataProperties();
+            return beanProperties;
+        });
 
-                ((InstanceMetadataProperties)beanProperties).setInstanceMetadataTypeName(this.removeInstanceMetadataTypeName(elementProperties));
-                ((InstanceMetadataProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                ((InstanceMetadataProperties)beanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.KNOWN_DUPLICATE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new KnownDuplicateProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.LISTENER_INTERFACE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ListenerInterfaceProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.LINEAGE_LOG_CLASSIFICATION.typeName))
-            {
-                beanProperties = new LineageLogProperties();
+        dispatchTable.register(OpenMetadataType.CALCULATED_VALUE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new CalculatedValueProperties();
 
-                ((LineageLogProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((LineageLogProperties)beanProperties).setProcess(this.removeProcess(elementProperties));
-                ((LineageLogProperties)beanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.LOG_ANALYSIS_CLASSIFICATION.typeName))
-            {
-                beanProperties = new LogAnalysisProperties();
-
-                ((LogAnalysisProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((LogAnalysisProperties)beanProperties).setProcess(this.removeProcess(elementProperties));
-                ((LogAnalysisProperties)beanProperties).setSource(this.removeSource(elementProperties));
-                ((LogAnalysisProperties)beanProperties).setDataCollectionStartTime(this.removeDataCollectionStartTime(elementProperties));
-                ((LogAnalysisProperties)beanProperties).setDataCollectionEndTime(this.removeDataCollectionEndTime(elementProperties));
-                ((LogAnalysisProperties)beanProperties).setValues(this.removeValues(elementProperties));
-                ((LogAnalysisProperties)beanProperties).setCounts(this.removeCounts(elementProperties));
-                ((LogAnalysisProperties)beanProperties).setFlags(this.removeFlags(elementProperties));
-                ((LogAnalysisProperties)beanProperties).setDates(this.removeDates(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.MEMENTO_CLASSIFICATION.typeName))
-            {
-                beanProperties = new MementoProperties();
-
-                ((MementoProperties)beanProperties).setArchiveDate(this.removeArchiveDate(elementProperties));
-                ((MementoProperties)beanProperties).setArchiveUser(this.removeArchiveUser(elementProperties));
-                ((MementoProperties)beanProperties).setArchiveProcess(this.removeArchiveProcess(elementProperties));
-                ((MementoProperties)beanProperties).setArchiveService(this.removeArchiveService(elementProperties));
-                ((MementoProperties)beanProperties).setArchiveMethod(this.removeArchiveMethod(elementProperties));
-                ((MementoProperties)beanProperties).setArchiveProperties(this.removeArchiveProperties(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.METAMODEL_INSTANCE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new MetamodelInstanceProperties();
+            ((CalculatedValueProperties)beanProperties).setFormula(converter.removeFormula(elementProperties));
+            ((CalculatedValueProperties)beanProperties).setFormulaType(converter.removeFormulaType(elementProperties));
 
-                ((MetamodelInstanceProperties)beanProperties).setMetamodelElementGUID(this.removeMetamodelElementGUID(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.METERING_LOG_CLASSIFICATION.typeName))
-            {
-                beanProperties = new MeteringLogProperties();
+            return beanProperties;
+        });
 
-                ((MeteringLogProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((MeteringLogProperties)beanProperties).setProcess(this.removeProcess(elementProperties));
-                ((MeteringLogProperties)beanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.MOBILE_RESOURCE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new MobileResourceProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.MODIFIER_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ModifierProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.OBJECT_IDENTIFIER_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ObjectIdentifierProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.OWNERSHIP_CLASSIFICATION.typeName))
-            {
-                beanProperties = new OwnershipProperties();
+        dispatchTable.register(OpenMetadataType.CAMPAIGN_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new CampaignProperties();
 
-                ((OwnershipProperties)beanProperties).setOwner(this.removeOwner(elementProperties));
-                ((OwnershipProperties)beanProperties).setOwnerTypeName(this.removeOwnerTypeName(elementProperties));
-                ((OwnershipProperties)beanProperties).setOwnerPropertyName(this.removeOwnerPropertyName(elementProperties));
-                ((OwnershipProperties)beanProperties).setUserIds(this.removeUserIds(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.PERSONAL_PROJECT_CLASSIFICATION.typeName))
-            {
-                beanProperties = new PersonalProjectProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_MANAGEMENT_POINT_CLASSIFICATION.typeName))
-            {
-                if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_ADMINISTRATION_POINT_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new PolicyAdministrationPointProperties();
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_DECISION_POINT_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new PolicyDecisionPointProperties();
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_ENFORCEMENT_POINT_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new PolicyEnforcementPointProperties();
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_INFORMATION_POINT_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new PolicyInformationPointProperties();
-                }
-                else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_RETRIEVAL_POINT_CLASSIFICATION.typeName))
-                {
-                    beanProperties = new PolicyRetrievalPointProperties();
-                }
-                else
-                {
-                    beanProperties = new PolicyManagementPointProperties();
-                }
+            return beanProperties;
+        });
 
-                ((PolicyManagementPointProperties)beanProperties).setLabel(this.removeLabel(elementProperties));
-                ((PolicyManagementPointProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                ((PolicyManagementPointProperties)beanProperties).setPointType(this.removePointType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.PRIMARY_KEY_CLASSIFICATION.typeName))
-            {
-                beanProperties = new PrimaryKeyProperties();
+        dispatchTable.register(OpenMetadataType.CLASS_WORD_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ClassWordProperties();
 
-                ((PrimaryKeyProperties)beanProperties).setDisplayName(this.removeDisplayName(elementProperties));
-                ((PrimaryKeyProperties)beanProperties).setKeyPattern(this.removeKeyPattern(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.PRIME_WORD_CLASSIFICATION.typeName))
-            {
-                beanProperties = new PrimeWordProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.PROJECT_CLASSIFICATION_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ProjectClassificationProperties();
+            return beanProperties;
+        });
 
-                ((ProjectClassificationProperties)beanProperties).setApproach(this.removeApproach(elementProperties));
-                ((ProjectClassificationProperties)beanProperties).setManagementStyle(this.removeManagementStyle(elementProperties));
-                ((ProjectClassificationProperties)beanProperties).setResultsUsage(this.removeResultsUsage(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.PUBLISHER_INTERFACE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new PublisherInterfaceProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.QUESTION_CLASSIFICATION.typeName))
-            {
-                beanProperties = new QuestionProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.REFERENCE_DATA_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ReferenceDataProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.REQUEST_RESPONSE_INTERFACE_CLASSIFICATION.typeName))
-            {
-                beanProperties = new RequestResponseInterfaceProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.RETENTION_CLASSIFICATION.typeName))
-            {
-                beanProperties = new RetentionProperties();
-
-                ((RetentionProperties)beanProperties).setStatusIdentifier(this.removeStatusIdentifier(elementProperties));
-                ((RetentionProperties)beanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((RetentionProperties)beanProperties).setSteward(this.removeSteward(elementProperties));
-                ((RetentionProperties)beanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((RetentionProperties)beanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((RetentionProperties)beanProperties).setSource(this.removeSource(elementProperties));
-                ((RetentionProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((RetentionProperties)beanProperties).setRetentionBasis(this.removeRetentionBasis(elementProperties));
-                ((RetentionProperties)beanProperties).setAssociatedGUID(this.removeAssociatedGUID(elementProperties));
-                ((RetentionProperties)beanProperties).setArchiveAfter(this.removeArchiveAfter(elementProperties));
-                ((RetentionProperties)beanProperties).setDeleteAfter(this.removeDeleteAfter(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.SECURE_LOCATION_CLASSIFICATION.typeName))
-            {
-                beanProperties = new SecureLocationProperties();
+        dispatchTable.register(OpenMetadataType.CLOUD_PLATFORM_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new CloudPlatformProperties();
 
-                ((SecureLocationProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                ((SecureLocationProperties)beanProperties).setLevel(this.removeLevel(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.SECURITY_LIST_MEMBERSHIP_CLASSIFICATION.typeName))
-            {
-                beanProperties = new SecurityListMembershipProperties();
+            ((CloudPlatformProperties)beanProperties).setDeployedImplementationType(converter.removeDeployedImplementationType(elementProperties));
 
-                ((SecurityListMembershipProperties)beanProperties).setSecurityGroups(this.removeGroups(elementProperties));
-                ((SecurityListMembershipProperties)beanProperties).setSecurityRoles(this.removeRoles(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.SECURITY_LOG_CLASSIFICATION.typeName))
-            {
-                beanProperties = new SecurityLogProperties();
+            return beanProperties;
+        });
 
-                ((SecurityLogProperties)beanProperties).setNotes(this.removeNotes(elementProperties));
-                ((SecurityLogProperties)beanProperties).setProcess(this.removeProcess(elementProperties));
-                ((SecurityLogProperties)beanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.SECURITY_TAGS_CLASSIFICATION.typeName))
-            {
-                beanProperties = new SecurityTagsProperties();
+        dispatchTable.register(OpenMetadataType.CLOUD_PROVIDER_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new CloudProviderProperties();
 
-                ((SecurityTagsProperties)beanProperties).setSecurityLabels(this.removeSecurityLabels(elementProperties));
-                ((SecurityTagsProperties)beanProperties).setSecurityProperties(this.removeSecurityProperties(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.SOFTWARE_PACKAGE_MANIFEST_CLASSIFICATION.typeName))
-            {
-                beanProperties = new SoftwarePackageManifestProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.STUDY_PROJECT_CLASSIFICATION.typeName))
-            {
-                beanProperties = new StudyProjectProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.TASK_CLASSIFICATION.typeName))
-            {
-                beanProperties = new TaskProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.PROJECT_KIND_CLASSIFICATION.typeName))
-            {
-                beanProperties = new ProjectKindProperties();
-            }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.TEMPLATE_CLASSIFICATION.typeName))
+            ((CloudProviderProperties)beanProperties).setProviderName(converter.removeProviderName(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CLOUD_SERVICE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new CloudServiceProperties();
+
+            ((CloudServiceProperties)beanProperties).setOfferingName(converter.removeOfferingName(elementProperties));
+            ((CloudServiceProperties)beanProperties).setServiceType(converter.removeServiceType(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CLOUD_TENANT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new CloudTenantProperties();
+
+            ((CloudTenantProperties)beanProperties).setTenantName(converter.removeTenantName(elementProperties));
+            ((CloudTenantProperties)beanProperties).setTenantType(converter.removeTenantType(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.COLLECTION_KIND_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties;
+
+            if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CANONICAL_VOCABULARY_CLASSIFICATION.typeName))
             {
-                beanProperties = new TemplateProperties();
+                beanProperties = new CanonicalVocabularyProperties();
 
-                ((TemplateProperties)beanProperties).setDisplayName(this.removeDisplayName(elementProperties));
-                ((TemplateProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                ((TemplateProperties)beanProperties).setVersionIdentifier(this.removeVersionIdentifier(elementProperties));
-                ((TemplateProperties)beanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
+                ((CanonicalVocabularyProperties)beanProperties).setScope(converter.removeScope(elementProperties));
             }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.TEMPLATE_SUBSTITUTE_CLASSIFICATION.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.DATA_SHARING_AGREEMENT_CLASSIFICATION.typeName))
             {
-                beanProperties = new TemplateSubstituteProperties();
+                beanProperties = new DataSharingAgreementProperties();
             }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.TYPE_EMBEDDED_ATTRIBUTE_CLASSIFICATION.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.EDITING_COLLECTION_CLASSIFICATION.typeName))
             {
-                beanProperties = new TypeEmbeddedAttributeProperties();
-
-                ((TypeEmbeddedAttributeProperties)beanProperties).setSchemaTypeName(this.removeSchemaTypeName(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setQualifiedName(this.removeQualifiedName(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setDisplayName(this.removeDisplayName(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setDescription(this.removeDescription(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setVersionIdentifier(this.removeVersionIdentifier(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setCategory(this.removeCategory(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setUsage(this.removeUsage(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setEncodingStandard(this.removeEncodingStandard(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setNamespacePath(this.removeNamespacePath(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setDataType(this.removeDataType(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setDefaultValue(this.removeDefaultValue(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setFixedValue(this.removeFixedValue(elementProperties));
-                ((TypeEmbeddedAttributeProperties)beanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
+                beanProperties = new EditingCollectionProperties();
+
+                ((EditingCollectionProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
             }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.USER_ACCOUNT_PROFILE_CLASSIFICATION.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.STAGING_COLLECTION_CLASSIFICATION.typeName))
             {
-                beanProperties = new UserAccountProfileProperties();
-
-                ((UserAccountProfileProperties)beanProperties).setUserAccountCount(this.removeUserAccountCount(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setEmployeeAccountCount(this.removeEmployeeAccountCount(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setContractorAccountCount(this.removeContractorAccountCount(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setExternalAccountCount(this.removeExternalAccountCount(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setDigitalAccountCount(this.removeDigitalAccountCount(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setActiveAccountCount(this.removeActiveAccountCount(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setExpiredAccountCount(this.removeExpiredAccountCount(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setLockedAccountCount(this.removeLockedAccountCount(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setDisabledAccountCount(this.removeDisabledAccountCount(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setUserAccountTypes(this.removeUserAccountTypes(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setUserAccountStatuses(this.removeUserAccountStatuses(elementProperties));
-                ((UserAccountProfileProperties)beanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
+                beanProperties = new StagingCollectionProperties();
+
+                ((StagingCollectionProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
             }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.ZONE_MEMBERSHIP_CLASSIFICATION.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.SCOPING_COLLECTION_CLASSIFICATION.typeName))
             {
-                beanProperties = new ZoneMembershipProperties();
+                beanProperties = new ScopingCollectionProperties();
 
-                ((ZoneMembershipProperties)beanProperties).setZoneMembership(this.removeZoneMembership(elementProperties));
+                ((ScopingCollectionProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
             }
-            else if (propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.ZONE_MEMBERSHIP_PROFILE_CLASSIFICATION.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.TAXONOMY_CLASSIFICATION.typeName))
             {
-                beanProperties = new ZoneMembershipProfileProperties();
-
-                ((ZoneMembershipProfileProperties)beanProperties).setTotalMembership(this.removeTotalMembership(elementProperties));
-                ((ZoneMembershipProfileProperties)beanProperties).setTypeMembership(this.removeTypeMembership(elementProperties));
-                ((ZoneMembershipProfileProperties)beanProperties).setAnchoredTotalMembership(this.removeAnchoredTotalMembership(elementProperties));
-                ((ZoneMembershipProfileProperties)beanProperties).setAnchoredTypeMembership(this.removeAnchoredTypeMembership(elementProperties));
-                ((ZoneMembershipProfileProperties)beanProperties).setAllTotalMembership(this.removeAllTotalMembership(elementProperties));
-                ((ZoneMembershipProfileProperties)beanProperties).setAllTypeMembership(this.removeAllTypeMembership(elementProperties));
-                ((ZoneMembershipProfileProperties)beanProperties).setAnalysisTime(this.removeAnalysisTime(elementProperties));
+                beanProperties = new TaxonomyProperties();
+
+                ((TaxonomyProperties)beanProperties).setOrganizingPrinciple(converter.removeOrganizingPrinciple(elementProperties));
             }
             else
             {
-                beanProperties = new ClassificationBeanProperties();
+                beanProperties = new CollectionKindProperties();
             }
 
+            return beanProperties;
+        });
 
-            /*
-             * Any remaining properties are returned in the extended properties.  They are
-             * assumed to be defined in a subtype that we don't know about - but it also helps to catch
-             * missing mappings in the code above.
-             */
-            beanProperties.setTypeName(attachedClassification.getType().getTypeName());
-            beanProperties.setExtendedProperties(this.getRemainingExtendedProperties(elementProperties));
+        dispatchTable.register(OpenMetadataType.CONFIDENCE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ConfidenceProperties();
+
+            ((ConfidenceProperties)beanProperties).setStatusIdentifier(converter.removeStatusIdentifier(elementProperties));
+            ((ConfidenceProperties)beanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((ConfidenceProperties)beanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ConfidenceProperties)beanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((ConfidenceProperties)beanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((ConfidenceProperties)beanProperties).setSource(converter.removeSource(elementProperties));
+            ((ConfidenceProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((ConfidenceProperties)beanProperties).setConfidenceLevel(converter.removeConfidenceLevel(elementProperties));
 
             return beanProperties;
+        });
 
-        }
+        dispatchTable.register(OpenMetadataType.CONFIDENTIALITY_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ConfidentialityProperties();
 
-        return null;
-    }
+            ((ConfidentialityProperties)beanProperties).setStatusIdentifier(converter.removeStatusIdentifier(elementProperties));
+            ((ConfidentialityProperties)beanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((ConfidentialityProperties)beanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ConfidentialityProperties)beanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((ConfidentialityProperties)beanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((ConfidentialityProperties)beanProperties).setSource(converter.removeSource(elementProperties));
+            ((ConfidentialityProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((ConfidentialityProperties)beanProperties).setConfidentialityLevel(converter.removeConfidentialityLevel(elementProperties));
 
+            return beanProperties;
+        });
 
-    /**
-     * Retrieve the relationship bean properties from a relationship.
-     *
-     * @param relatedMetadataElement related element
-     *
-     * @return relationship bean properties
-     */
-    public RelationshipBeanProperties getRelationshipProperties(RelatedMetadataElement relatedMetadataElement)
-    {
-        if (relatedMetadataElement != null)
+        dispatchTable.register(OpenMetadataType.CONSOLIDATED_DUPLICATE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
         {
-            RelationshipBeanProperties relationshipProperties = getRelationshipProperties(relatedMetadataElement,
-                                                                                          relatedMetadataElement.getRelationshipProperties());
+            ClassificationBeanProperties beanProperties = new ConsolidatedDuplicateProperties();
 
-            relationshipProperties.setEffectiveFrom(relatedMetadataElement.getEffectiveFromTime());
-            relationshipProperties.setEffectiveTo(relatedMetadataElement.getEffectiveToTime());
+            ((ConsolidatedDuplicateProperties)beanProperties).setStatusIdentifier(converter.removeStatusIdentifier(elementProperties));
+            ((ConsolidatedDuplicateProperties)beanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ConsolidatedDuplicateProperties)beanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((ConsolidatedDuplicateProperties)beanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((ConsolidatedDuplicateProperties)beanProperties).setSource(converter.removeSource(elementProperties));
+            ((ConsolidatedDuplicateProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
 
-            return relationshipProperties;
-        }
+            return beanProperties;
+        });
 
-        return null;
-    }
+        dispatchTable.register(OpenMetadataType.CONTEXT_DEFINITION_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ContextDefinitionProperties();
 
+            ((ContextDefinitionProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((ContextDefinitionProperties)beanProperties).setScope(converter.removeScope(elementProperties));
 
-    /**
-     * Retrieve the relationship bean properties from a relationship.
-     *
-     * @param openMetadataRelationship relationship element
-     *
-     * @return relationship bean properties
-     */
-    public RelationshipBeanProperties getRelationshipProperties(OpenMetadataRelationship openMetadataRelationship)
-    {
-        if (openMetadataRelationship != null)
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CRITICALITY_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
         {
-            RelationshipBeanProperties relationshipProperties = getRelationshipProperties(openMetadataRelationship,
-                                                                                              openMetadataRelationship.getRelationshipProperties());
+            ClassificationBeanProperties beanProperties = new CriticalityProperties();
 
-            relationshipProperties.setEffectiveFrom(openMetadataRelationship.getEffectiveFromTime());
-            relationshipProperties.setEffectiveTo(openMetadataRelationship.getEffectiveToTime());
+            ((CriticalityProperties)beanProperties).setStatusIdentifier(converter.removeStatusIdentifier(elementProperties));
+            ((CriticalityProperties)beanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((CriticalityProperties)beanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((CriticalityProperties)beanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((CriticalityProperties)beanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((CriticalityProperties)beanProperties).setSource(converter.removeSource(elementProperties));
+            ((CriticalityProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((CriticalityProperties)beanProperties).setCriticalityLevel(converter.removeCriticalityLevel(elementProperties));
 
-            return relationshipProperties;
-        }
+            return beanProperties;
+        });
 
-        return null;
-    }
+        dispatchTable.register(OpenMetadataType.CYBER_LOCATION_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new CyberLocationProperties();
 
+            ((CyberLocationProperties)beanProperties).setNetworkAddress(converter.removeNetworkAddress(elementProperties));
 
-    /**
-     * Retrieve the relationship bean properties from a relationship's element properties.
-     *
-     * @param relationshipProperties element properties
-     *
-     * @return relationship bean properties
-     */
-    public RelationshipBeanProperties getRelationshipProperties(ElementControlHeader relationshipHeader,
-                                                                ElementProperties    relationshipProperties)
-    {
-        if (relationshipHeader != null)
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_ASSET_ENCODING_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
         {
-            RelationshipBeanProperties relationshipBeanProperties;
+            ClassificationBeanProperties beanProperties = new DataAssetEncodingProperties();
 
-            /*
-             * The initial set of values come from the attributes - the bean properties object to use is
-             * determined by its type.  Attributes are removed from element properties as the bean properties
-             * object is filled.  Any remaining properties are added to extended properties so none are lost.
-             * The properties added to extended properties should be from subtypes that are not part of the
-             * open metadata type standard.  However, there may also be properties that are not (yet) explicitly
-             * mapped to the converter process below.
-             */
-            ElementProperties elementProperties = new ElementProperties(relationshipProperties);
+            ((DataAssetEncodingProperties)beanProperties).setEncodingType(converter.removeEncodingType(elementProperties));
+            ((DataAssetEncodingProperties)beanProperties).setEncodingLanguage(converter.removeEncodingLanguage(elementProperties));
+            ((DataAssetEncodingProperties)beanProperties).setEncodingDescription(converter.removeEncodingDescription(elementProperties));
+            ((DataAssetEncodingProperties)beanProperties).setEncodingProperties(converter.removeEncodingProperties(elementProperties));
 
-            if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ACCEPTED_ANSWER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AcceptedAnswerProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ACTION_REQUESTER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ActionRequesterProperties();
+            return beanProperties;
+        });
 
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ACTIONS_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ActionsProperties();
+        dispatchTable.register(OpenMetadataType.DATA_SCOPE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new DataScopeProperties();
 
-                ((ActionsProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ActionsProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ACTION_TARGET_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ActionTargetProperties();
+            ((DataScopeProperties)beanProperties).setMinLongitude(converter.removeMinLongitude(elementProperties));
+            ((DataScopeProperties)beanProperties).setMinLatitude(converter.removeMinLatitude(elementProperties));
+            ((DataScopeProperties)beanProperties).setMaxLongitude(converter.removeMaxLongitude(elementProperties));
+            ((DataScopeProperties)beanProperties).setMaxLatitude(converter.removeMaxLatitude(elementProperties));
+            ((DataScopeProperties)beanProperties).setMinHeight(converter.removeMinHeight(elementProperties));
+            ((DataScopeProperties)beanProperties).setMaxHeight(converter.removeMaxHeight(elementProperties));
+            ((DataScopeProperties)beanProperties).setDataCollectionStartTime(converter.removeDataCollectionStartTime(elementProperties));
+            ((DataScopeProperties)beanProperties).setDataCollectionEndTime(converter.removeDataCollectionEndTime(elementProperties));
+            ((DataScopeProperties)beanProperties).setScopeElements(converter.removeScopeElements(elementProperties));
+            ((DataScopeProperties)beanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
 
-                ((ActionTargetProperties)relationshipBeanProperties).setActionTargetName(this.removeActionTargetName(elementProperties));
-                ((ActionTargetProperties)relationshipBeanProperties).setActivityStatus(this.removeActivityStatus(elementProperties));
-                ((ActionTargetProperties)relationshipBeanProperties).setStartTime(this.removeStartTime(elementProperties));
-                ((ActionTargetProperties)relationshipBeanProperties).setCompletionTime(this.removeCompletionTime(elementProperties));
-                ((ActionTargetProperties)relationshipBeanProperties).setCompletionMessage(this.removeCompletionMessage(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ADJACENT_LOCATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AdjacentLocationProperties();
+            return beanProperties;
+        });
 
-                ((AdjacentLocationProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((AdjacentLocationProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.AGREEMENT_ACTOR_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AgreementActorProperties();
+        dispatchTable.register(OpenMetadataType.DATA_VALUE_MEANING_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new DataValueMeaningProperties();
 
-                ((AgreementActorProperties)relationshipBeanProperties).setAgreementPartyName(this.removeAgreementPartyName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.AGREEMENT_ITEM_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AgreementItemProperties();
-
-                ((AgreementItemProperties)relationshipBeanProperties).setAgreementItemId(this.removeAgreementItemId(elementProperties));
-                ((AgreementItemProperties)relationshipBeanProperties).setAgreementStart(this.removeAgreementStart(elementProperties));
-                ((AgreementItemProperties)relationshipBeanProperties).setAgreementEnd(this.removeAgreementEnd(elementProperties));
-                ((AgreementItemProperties)relationshipBeanProperties).setEntitlements(this.removeEntitlements(elementProperties));
-                ((AgreementItemProperties)relationshipBeanProperties).setRestrictions(this.removeRestrictions(elementProperties));
-                ((AgreementItemProperties)relationshipBeanProperties).setObligations(this.removeObligations(elementProperties));
-                ((AgreementItemProperties)relationshipBeanProperties).setUsageMeasurements(this.removeUsageMeasurements(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ANNOTATION_EXTENSION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AnnotationExtensionProperties();
+            return beanProperties;
+        });
 
-                ((AnnotationExtensionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((AnnotationExtensionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
+        dispatchTable.register(OpenMetadataType.DIGITAL_RESOURCE_ORIGIN_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new DigitalResourceOriginProperties();
 
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ANNOTATION_MATCH_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AnnotationMatchProperties();
+            ((DigitalResourceOriginProperties)beanProperties).setOrganization(converter.removeOrganization(elementProperties));
+            ((DigitalResourceOriginProperties)beanProperties).setOrganizationPropertyName(converter.removeOrganizationPropertyName(elementProperties));
+            ((DigitalResourceOriginProperties)beanProperties).setBusinessCapability(converter.removeBusinessCapability(elementProperties));
+            ((DigitalResourceOriginProperties)beanProperties).setBusinessCapabilityPropertyName(converter.removeBusinessCapabilityPropertyName(elementProperties));
+            ((DigitalResourceOriginProperties)beanProperties).setOtherOriginValues(converter.removeOtherOriginValues(elementProperties));
 
-                ((AnnotationMatchProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((AnnotationMatchProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((AnnotationMatchProperties)relationshipBeanProperties).setMethod(this.removeMethod(elementProperties));
-                ((AnnotationMatchProperties)relationshipBeanProperties).setThreshold(this.removeThreshold(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ANTONYM_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AntonymProperties();
-
-                ((AntonymProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((AntonymProperties)relationshipBeanProperties).setExpression(this.removeExpression(elementProperties));
-                ((AntonymProperties)relationshipBeanProperties).setTermRelationshipStatus(this.removeTermRelationshipStatus(elementProperties));
-                ((AntonymProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((AntonymProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((AntonymProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.API_ENDPOINT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new APIEndpointProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.API_HEADER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new APIHeaderProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.API_OPERATIONS_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new APIOperationsProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.API_HEADER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new APIHeaderProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.API_REQUEST_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new APIRequestProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.API_RESPONSE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new APIResponseProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.APPROVED_PURPOSE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ApprovedPurposeProperties();
+            return beanProperties;
+        });
 
-                ((ApprovedPurposeProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ApprovedPurposeProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ARCHIVE_CONTENTS_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ArchiveContentsProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ASSET_CONNECTION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AssetConnectionProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ASSIGNMENT_SCOPE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AssignmentScopeProperties();
+        dispatchTable.register(OpenMetadataType.ELEMENT_SUPPLEMENT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ElementSupplementProperties();
 
-                ((AssignmentScopeProperties)relationshipBeanProperties).setAssignmentType(this.removeAssignmentType(elementProperties));
-                ((AssignmentScopeProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ASSOCIATED_ANNOTATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AssociatedAnnotationProperties();
+            return beanProperties;
+        });
 
-                ((AssociatedAnnotationProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((AssociatedAnnotationProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ASSOCIATED_SKILL_SET_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AssociatedSkillSetProperties();
+        dispatchTable.register(OpenMetadataType.EXCEPTION_BACKLOG_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ExceptionBacklogProperties();
 
-                ((AssociatedSkillSetProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((AssociatedSkillSetProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ASSOCIATED_LOG_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AssociatedLogProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ASSOCIATED_SECURITY_LIST_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AssociatedSecurityListProperties();
+            ((ExceptionBacklogProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((ExceptionBacklogProperties)beanProperties).setProcess(converter.removeProcess(elementProperties));
+            ((ExceptionBacklogProperties)beanProperties).setSource(converter.removeSource(elementProperties));
+            ((ExceptionBacklogProperties)beanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ExceptionBacklogProperties)beanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((ExceptionBacklogProperties)beanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
 
-                ((AssociatedSecurityListProperties)relationshipBeanProperties).setOperationName(this.removeOperationName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ATTACHED_COMMENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AttachedCommentProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ATTACHED_LIKE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AttachedLikeProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ATTACHED_NOTE_LOG_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AttachedNoteLogProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ATTACHED_NOTE_LOG_ENTRY_RELATIONSHIP.typeName))
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.EXECUTION_POINT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties;
+
+            if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.CONTROL_POINT_CLASSIFICATION.typeName))
             {
-                relationshipBeanProperties = new AttachedNoteLogEntryProperties();
+                beanProperties = new ControlPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ATTACHED_RATING_RELATIONSHIP.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.ENFORCEMENT_POINT_CLASSIFICATION.typeName))
             {
-                relationshipBeanProperties = new AttachedRatingProperties();
+                beanProperties = new EnforcementPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ATTACHED_STORAGE_RELATIONSHIP.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.VERIFICATION_POINT_CLASSIFICATION.typeName))
             {
-                relationshipBeanProperties = new AttachedStorageProperties();
+                beanProperties = new VerificationPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ATTACHED_TAG_RELATIONSHIP.typeName))
+            else
             {
-                relationshipBeanProperties = new AttachedTagProperties();
+                beanProperties = new ExecutionPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ATTRIBUTE_FOR_SCHEMA_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new AttributeForSchemaProperties();
 
-                ((AttributeForSchemaProperties)relationshipBeanProperties).setPosition(this.removePosition(elementProperties));
-                ((AttributeForSchemaProperties)relationshipBeanProperties).setMaxCardinality(this.removeMaxCardinality(elementProperties));
-                ((AttributeForSchemaProperties)relationshipBeanProperties).setMinCardinality(this.removeMinCardinality(elementProperties));
-                ((AttributeForSchemaProperties)relationshipBeanProperties).setCoverageCategory(this.removeCoverageCategory(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.BUSINESS_CAPABILITY_DEPENDENCY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new BusinessCapabilityDependencyProperties();
+            ((ExecutionPointProperties)beanProperties).setQualifiedName(converter.removeQualifiedName(elementProperties));
 
-                ((BusinessCapabilityDependencyProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((BusinessCapabilityDependencyProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CAPABILITY_ASSET_USE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new CapabilityAssetUseProperties();
+            return beanProperties;
+        });
 
-                ((CapabilityAssetUseProperties)relationshipBeanProperties).setUseType(this.removeUseType(elementProperties));
-                ((CapabilityAssetUseProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((CapabilityAssetUseProperties)relationshipBeanProperties).setMinimumInstances(this.removeMinimumInstances(elementProperties));
-                ((CapabilityAssetUseProperties)relationshipBeanProperties).setMaximumInstances(this.removeMaximumInstances(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CATALOG_TARGET_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new CatalogTargetProperties();
-
-                ((CatalogTargetProperties)relationshipBeanProperties).setCatalogTargetName(this.removeCatalogTargetName(elementProperties));
-                ((CatalogTargetProperties)relationshipBeanProperties).setMetadataCollectionQualifiedName(this.removeMetadataCollectionQualifiedName(elementProperties));
-                ((CatalogTargetProperties)relationshipBeanProperties).setMetadataSourceQualifiedName(this.removeMetadataSourceQualifiedName(elementProperties));
-                ((CatalogTargetProperties)relationshipBeanProperties).setConnectionName(this.removeConnectionName(elementProperties));
-                ((CatalogTargetProperties)relationshipBeanProperties).setConfigurationProperties(this.removeConfigurationProperties(elementProperties));
-                ((CatalogTargetProperties)relationshipBeanProperties).setTemplates(this.removeTemplates(elementProperties));
-                ((CatalogTargetProperties)relationshipBeanProperties).setPermittedSynchronization(this.removePermittedSynchronization(elementProperties));
-                ((CatalogTargetProperties)relationshipBeanProperties).setDeleteMethod(this.removeDeleteMethod(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CATALOG_TEMPLATE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new CatalogTemplateProperties();
+        dispatchTable.register(OpenMetadataType.EXPERIMENT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ExperimentProperties();
 
-                ((CatalogTemplateProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((CatalogTemplateProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CERTIFICATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new CertificationProperties();
-
-                ((CertificationProperties)relationshipBeanProperties).setCertificateId(this.removeCertificateGUID(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setCoverageStart(this.removeCoverageStart(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setCoverageEnd(this.removeCoverageEnd(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setConditions(this.removeConditions(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setCertifiedBy(this.removeCertifiedBy(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setCertifiedByTypeName(this.removeCertifiedByTypeName(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setCertifiedByPropertyName(this.removeCertifiedByPropertyName(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setCustodian(this.removeCustodian(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setCustodianTypeName(this.removeCustodianTypeName(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setCustodianPropertyName(this.removeCustodianPropertyName(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setRecipient(this.removeRecipient(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setRecipientTypeName(this.removeRecipientTypeName(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setRecipientPropertyName(this.removeRecipientPropertyName(elementProperties));
-                ((CertificationProperties)relationshipBeanProperties).setNotes(this.removeNotes(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CITED_DOCUMENT_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new CitedDocumentLinkProperties();
+            ((ExperimentProperties)beanProperties).setHypothesis(converter.removeHypothesis(elementProperties));
 
-                ((CitedDocumentLinkProperties)relationshipBeanProperties).setReferenceId(this.removeReferenceId(elementProperties));
-                ((CitedDocumentLinkProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((CitedDocumentLinkProperties)relationshipBeanProperties).setPages(this.removePages(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.COLLECTION_MEMBERSHIP_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new CollectionMembershipProperties();
-
-                ((CollectionMembershipProperties)relationshipBeanProperties).setMembershipType(this.removeMembershipType(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setMembershipRationale(this.removeMembershipRationale(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setExpression(this.removeExpression(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setMembershipStatus(this.removeMembershipStatus(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setUserDefinedStatus(this.removeUserDefinedStatus(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-                ((CollectionMembershipProperties)relationshipBeanProperties).setNotes(this.removeNotes(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONCEPT_BEAD_ATTRIBUTE_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ConceptBeadAttributeLinkProperties();
-
-                ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setPosition(this.removePosition(elementProperties));
-                ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setMinCardinality(this.removeMinCardinality(elementProperties));
-                ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setMaxCardinality(this.removeMaxCardinality(elementProperties));
-                ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setCoverageCategory(this.removeCoverageCategory(elementProperties));
-                ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setUniqueValues(this.removeUniqueValues(elementProperties));
-                ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setOrderedValues(this.removeOrderedValues(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONCEPT_BEAD_EXTENSION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ConceptBeadExtensionProperties();
+            return beanProperties;
+        });
 
-                ((ConceptBeadExtensionProperties)relationshipBeanProperties).setRole(this.removeRole(elementProperties));
-                ((ConceptBeadExtensionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONCEPT_BEAD_RELATIONSHIP_END_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ConceptBeadRelationshipEndProperties();
-
-                ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setAttributeName(this.removeAttributeName(elementProperties));
-                ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setDecoration(this.removeDecoration(elementProperties));
-                ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setPosition(this.removePosition(elementProperties));
-                ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setMinCardinality(this.removeMinCardinality(elementProperties));
-                ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setMaxCardinality(this.removeMaxCardinality(elementProperties));
-                ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setNavigable(this.removeNavigable(elementProperties));
-                ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setUniqueValues(this.removeUniqueValues(elementProperties));
-                ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setOrderedValues(this.removeOrderedValues(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONCEPT_DESIGN_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ConceptDesignProperties();
+        dispatchTable.register(OpenMetadataType.FIXED_LOCATION_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new FixedLocationProperties();
 
-                ((ConceptDesignProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ConceptDesignProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONNECTION_CONNECTOR_TYPE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ConnectionConnectorTypeProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONNECT_TO_ENDPOINT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ConnectToEndpointProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONSISTENT_VALID_VALUES_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ConsistentValidValuesProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONSOLIDATED_DUPLICATE_LINK.typeName))
-            {
-                relationshipBeanProperties = new ConsolidatedDuplicateLinkProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONTACT_THROUGH_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ContactThroughProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONTEXT_EVENT_EVIDENCE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ContextEventEvidenceProperties();
+            ((FixedLocationProperties)beanProperties).setCoordinates(converter.removeCoordinates(elementProperties));
+            ((FixedLocationProperties)beanProperties).setMapProjection(converter.removeMapProjection(elementProperties));
+            ((FixedLocationProperties)beanProperties).setPostalAddress(converter.removePostalAddress(elementProperties));
+            ((FixedLocationProperties)beanProperties).setTimeZone(converter.removeTimeZone(elementProperties));
 
-                ((ContextEventEvidenceProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ContextEventEvidenceProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONTEXT_EVENT_FOR_TIMELINE_EFFECTS_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ContextEventForTimelineEffectsProperties();
+            return beanProperties;
+        });
 
-                ((ContextEventForTimelineEffectsProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ContextEventForTimelineEffectsProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONTEXT_EVENT_IMPACT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ContextEventImpactProperties();
+        dispatchTable.register(OpenMetadataType.GLOSSARY_PROJECT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new GlossaryProjectProperties();
 
-                ((ContextEventImpactProperties)relationshipBeanProperties).setSeverityLevel(this.removeSeverityLevel(elementProperties));
-                ((ContextEventImpactProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ContextEventImpactProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONTRACT_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ContractLinkProperties();
+            return beanProperties;
+        });
 
-                ((ContractLinkProperties)relationshipBeanProperties).setContractId(this.removeContractId(elementProperties));
-                ((ContractLinkProperties)relationshipBeanProperties).setContractLiaison(this.removeContractLiaison(elementProperties));
-                ((ContractLinkProperties)relationshipBeanProperties).setContractLiaisonTypeName(this.removeContractLiaisonTypeName(elementProperties));
-                ((ContractLinkProperties)relationshipBeanProperties).setContractLiaisonPropertyName(this.removeContractLiaisonPropertyName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONTRIBUTION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ContributionProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CONTROL_FLOW_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ControlFlowProperties();
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_EXPECTATIONS_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new GovernanceExpectationsProperties();
 
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-                ((ControlFlowProperties)relationshipBeanProperties).setGuard(this.removeGuard(elementProperties));
-                ((ControlFlowProperties)relationshipBeanProperties).setMandatoryGuard(this.removeMandatoryGuard(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.CROWD_SOURCING_CONTRIBUTION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new CrowdSourcingContributionProperties();
+            ((GovernanceExpectationsProperties)beanProperties).setFlags(converter.removeFlags(elementProperties));
+            ((GovernanceExpectationsProperties)beanProperties).setValues(converter.removeValues(elementProperties));
+            ((GovernanceExpectationsProperties)beanProperties).setDates(converter.removeDates(elementProperties));
+            ((GovernanceExpectationsProperties)beanProperties).setCounts(converter.removeCounts(elementProperties));
 
-                ((CrowdSourcingContributionProperties)relationshipBeanProperties).setRoleType(this.removeRoleType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_CLASS_COMPOSITION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataClassCompositionProperties();
+            return beanProperties;
+        });
 
-                ((DataClassCompositionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DataClassCompositionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_VALUE_ASSIGNMENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataValueAssignmentProperties();
-
-                ((DataValueAssignmentProperties)relationshipBeanProperties).setMethod(this.removeMethod(elementProperties));
-                ((DataValueAssignmentProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-                ((DataValueAssignmentProperties)relationshipBeanProperties).setThreshold(this.removeThreshold(elementProperties));
-                ((DataValueAssignmentProperties)relationshipBeanProperties).setAssignmentStatus(this.removeDataValueAssignmentStatus(elementProperties));
-                ((DataValueAssignmentProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((DataValueAssignmentProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((DataValueAssignmentProperties)relationshipBeanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((DataValueAssignmentProperties)relationshipBeanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_VALUE_DEFINITION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataValueDefinitionProperties();
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_MEASUREMENTS_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new GovernanceMeasurementsProperties();
 
-                ((DataValueDefinitionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DataValueDefinitionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_VALUE_HIERARCHY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataValueHierarchyProperties();
+            ((GovernanceMeasurementsProperties)beanProperties).setDataCollectionStartTime(converter.removeDataCollectionStartTime(elementProperties));
+            ((GovernanceMeasurementsProperties)beanProperties).setDataCollectionEndTime(converter.removeDataCollectionEndTime(elementProperties));
+            ((GovernanceMeasurementsProperties)beanProperties).setFlags(converter.removeFlags(elementProperties));
+            ((GovernanceMeasurementsProperties)beanProperties).setValues(converter.removeValues(elementProperties));
+            ((GovernanceMeasurementsProperties)beanProperties).setDates(converter.removeDates(elementProperties));
+            ((GovernanceMeasurementsProperties)beanProperties).setCounts(converter.removeCounts(elementProperties));
 
-                ((DataValueHierarchyProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DataValueHierarchyProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_DESCRIPTION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataDescriptionProperties();
+            return beanProperties;
+        });
 
-                ((DataDescriptionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DataDescriptionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_FLOW_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataFlowProperties();
-
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(this.removeOneWay(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(this.removeIntegrationStyle(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(this.removeProtocol(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(this.removeFrequency(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(this.removeDataExchanged(elementProperties));
-                ((DataFlowProperties)relationshipBeanProperties).setFormula(this.removeFormula(elementProperties));
-                ((DataFlowProperties)relationshipBeanProperties).setFormulaType(this.removeFormulaType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_MAPPING_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataMappingProperties();
-
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-                ((DataMappingProperties)relationshipBeanProperties).setFormula(this.removeFormula(elementProperties));
-                ((DataMappingProperties)relationshipBeanProperties).setFormulaType(this.removeFormulaType(elementProperties));
-                ((DataMappingProperties)relationshipBeanProperties).setQueryType(this.removeQueryType(elementProperties));
-                ((DataMappingProperties)relationshipBeanProperties).setQuery(this.removeQuery(elementProperties));
-                ((DataMappingProperties)relationshipBeanProperties).setQueryId(this.removeQueryId(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_PROCESSING_SPECIFICATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataProcessingSpecificationProperties();
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_PROJECT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new GovernanceProjectProperties();
 
-                ((DataProcessingSpecificationProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DataProcessingSpecificationProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_PROCESSING_TARGET_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataProcessingTargetProperties();
+            return beanProperties;
+        });
 
-                ((DataProcessingTargetProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DataProcessingTargetProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_SET_CONTENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataSetContentProperties();
+        dispatchTable.register(OpenMetadataType.IMPACT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ImpactProperties();
 
-                ((DataSetContentProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-                ((DataSetContentProperties)relationshipBeanProperties).setQueryType(this.removeQueryType(elementProperties));
-                ((DataSetContentProperties)relationshipBeanProperties).setQuery(this.removeQuery(elementProperties));
-                ((DataSetContentProperties)relationshipBeanProperties).setQueryId(this.removeQueryId(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_STRUCTURE_DEFINITION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DataStructureDefinitionProperties();
+            ((ImpactProperties)beanProperties).setStatusIdentifier(converter.removeStatusIdentifier(elementProperties));
+            ((ImpactProperties)beanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((ImpactProperties)beanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ImpactProperties)beanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((ImpactProperties)beanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((ImpactProperties)beanProperties).setSource(converter.removeSource(elementProperties));
+            ((ImpactProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((ImpactProperties)beanProperties).setSeverityLevel(converter.removeSeverityLevel(elementProperties));
 
-                ((DataStructureDefinitionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DataStructureDefinitionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DEPENDENT_CONTEXT_EVENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DependentContextEventProperties();
+            return beanProperties;
+        });
 
-                ((DependentContextEventProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DependentContextEventProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DEPLOYED_ON_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DeployedOnProperties();
+        dispatchTable.register(OpenMetadataType.INCOMPLETE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new IncompleteProperties();
 
-                ((DeployedOnProperties)relationshipBeanProperties).setDeploymentTime(this.removeDeploymentTime(elementProperties));
-                ((DeployedOnProperties)relationshipBeanProperties).setDeployer(this.removeDeployer(elementProperties));
-                ((DeployedOnProperties)relationshipBeanProperties).setDeployerTypeName(this.removeDeployerTypeName(elementProperties));
-                ((DeployedOnProperties)relationshipBeanProperties).setDeployerPropertyName(this.removeDeployerPropertyName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DERIVED_SCHEMA_TYPE_QUERY_TARGET_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DerivedSchemaTypeQueryTargetProperties();
+            return beanProperties;
+        });
 
-                ((DerivedSchemaTypeQueryTargetProperties)relationshipBeanProperties).setQueryId(this.removeQueryId(elementProperties));
-                ((DerivedSchemaTypeQueryTargetProperties)relationshipBeanProperties).setQuery(this.removeQuery(elementProperties));
-                ((DerivedSchemaTypeQueryTargetProperties)relationshipBeanProperties).setQueryType(this.removeQueryType(elementProperties));
-                ((DerivedSchemaTypeQueryTargetProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DETAILED_PROCESSING_ACTION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DetailedProcessingActionProperties();
+        dispatchTable.register(OpenMetadataType.INSTANCE_METADATA_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new InstanceMetadataProperties();
 
-                ((DetailedProcessingActionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DetailedProcessingActionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DIGITAL_PRODUCT_DEPENDENCY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DigitalProductDependencyProperties();
+            ((InstanceMetadataProperties)beanProperties).setInstanceMetadataTypeName(converter.removeInstanceMetadataTypeName(elementProperties));
+            ((InstanceMetadataProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((InstanceMetadataProperties)beanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
 
-                ((DigitalProductDependencyProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DigitalProductDependencyProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DIGITAL_SUBSCRIBER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DigitalSubscriberProperties();
+            return beanProperties;
+        });
 
-                ((DigitalSubscriberProperties)relationshipBeanProperties).setSubscriberId(this.removeSubscriberId(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DIGITAL_SUPPORT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new DigitalSupportProperties();
+        dispatchTable.register(OpenMetadataType.KNOWN_DUPLICATE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new KnownDuplicateProperties();
 
-                ((DigitalSupportProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((DigitalSupportProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
+            return beanProperties;
+        });
 
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.EMBEDDED_CONNECTION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new EmbeddedConnectionProperties();
+        dispatchTable.register(OpenMetadataType.LISTENER_INTERFACE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ListenerInterfaceProperties();
 
-                ((EmbeddedConnectionProperties)relationshipBeanProperties).setPosition(this.removePosition(elementProperties));
-                ((EmbeddedConnectionProperties)relationshipBeanProperties).setDisplayName(this.removeDisplayName(elementProperties));
-                ((EmbeddedConnectionProperties)relationshipBeanProperties).setArguments(this.removeArguments(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.EXCEPTION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ExceptionProperties();
-
-                ((ExceptionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ExceptionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((ExceptionProperties)relationshipBeanProperties).setLastReviewTime(this.removeLastReviewTime(elementProperties));
-                ((ExceptionProperties)relationshipBeanProperties).setReviewDate(this.removeReviewDate(elementProperties));
-                ((ExceptionProperties)relationshipBeanProperties).setConditions(this.removeConditions(elementProperties));
-                ((ExceptionProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ExceptionProperties)relationshipBeanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((ExceptionProperties)relationshipBeanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((ExceptionProperties)relationshipBeanProperties).setNotes(this.removeNotes(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.EXTERNAL_ID_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ExternalIdLinkProperties();
+            return beanProperties;
+        });
 
-                ((ExternalIdLinkProperties)relationshipBeanProperties).setUsage(this.removeUsage(elementProperties));
-                ((ExternalIdLinkProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-                ((ExternalIdLinkProperties)relationshipBeanProperties).setLastSynchronized(this.removeLastSynchronized(elementProperties));
-                ((ExternalIdLinkProperties)relationshipBeanProperties).setMappingProperties(this.removeMappingProperties(elementProperties));
-                ((ExternalIdLinkProperties)relationshipBeanProperties).setPermittedSynchronization(this.removePermittedSynchronization(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.EXTERNAL_REFERENCE_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ExternalReferenceLinkProperties();
+        dispatchTable.register(OpenMetadataType.LINEAGE_LOG_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new LineageLogProperties();
 
-                ((ExternalReferenceLinkProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ExternalReferenceLinkProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.FOLDER_HIERARCHY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new FolderHierarchyProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GOVERNANCE_ACTION_EXECUTOR_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GovernanceActionExecutorProperties();
-
-                ((GovernanceActionExecutorProperties)relationshipBeanProperties).setRequestType(this.removeRequestType(elementProperties));
-                ((GovernanceActionExecutorProperties)relationshipBeanProperties).setRequestParameters(this.removeRequestParameters(elementProperties));
-                ((GovernanceActionExecutorProperties)relationshipBeanProperties).setRequestParameterFilter(this.removeRequestParameterFilter(elementProperties));
-                ((GovernanceActionExecutorProperties)relationshipBeanProperties).setRequestParameterMap(this.removeRequestParameterMap(elementProperties));
-                ((GovernanceActionExecutorProperties)relationshipBeanProperties).setActionTargetFilter(this.removeActionTargetFilter(elementProperties));
-                ((GovernanceActionExecutorProperties)relationshipBeanProperties).setActionTargetMap(this.removeActionTargetMap(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GOVERNANCE_ACTION_PROCESS_FLOW_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GovernanceActionProcessFlowProperties();
+            ((LineageLogProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((LineageLogProperties)beanProperties).setProcess(converter.removeProcess(elementProperties));
+            ((LineageLogProperties)beanProperties).setSource(converter.removeSource(elementProperties));
 
-                ((GovernanceActionProcessFlowProperties)relationshipBeanProperties).setGuard(this.removeGuard(elementProperties));
-                ((GovernanceActionProcessFlowProperties)relationshipBeanProperties).setRequestParameters(this.removeRequestParameters(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GOVERNANCE_CONTROL_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GovernanceControlLinkProperties();
+            return beanProperties;
+        });
 
-                ((GovernanceControlLinkProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((GovernanceControlLinkProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GOVERNANCE_DRIVER_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GovernanceDriverLinkProperties();
+        dispatchTable.register(OpenMetadataType.LOG_ANALYSIS_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new LogAnalysisProperties();
 
-                ((GovernanceDriverLinkProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((GovernanceDriverLinkProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GOVERNANCE_POLICY_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GovernancePolicyLinkProperties();
+            ((LogAnalysisProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((LogAnalysisProperties)beanProperties).setProcess(converter.removeProcess(elementProperties));
+            ((LogAnalysisProperties)beanProperties).setSource(converter.removeSource(elementProperties));
+            ((LogAnalysisProperties)beanProperties).setDataCollectionStartTime(converter.removeDataCollectionStartTime(elementProperties));
+            ((LogAnalysisProperties)beanProperties).setDataCollectionEndTime(converter.removeDataCollectionEndTime(elementProperties));
+            ((LogAnalysisProperties)beanProperties).setValues(converter.removeValues(elementProperties));
+            ((LogAnalysisProperties)beanProperties).setCounts(converter.removeCounts(elementProperties));
+            ((LogAnalysisProperties)beanProperties).setFlags(converter.removeFlags(elementProperties));
+            ((LogAnalysisProperties)beanProperties).setDates(converter.removeDates(elementProperties));
 
-                ((GovernancePolicyLinkProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((GovernancePolicyLinkProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GOVERNANCE_MECHANISM_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GovernanceMechanismProperties();
+            return beanProperties;
+        });
 
-                ((GovernanceMechanismProperties)relationshipBeanProperties).setRationale(this.removeRationale(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GOVERNANCE_RESPONSE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GovernanceResponseProperties();
+        dispatchTable.register(OpenMetadataType.MEMENTO_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new MementoProperties();
 
-                ((GovernanceResponseProperties)relationshipBeanProperties).setRationale(this.removeRationale(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GOVERNANCE_RESULTS_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GovernanceResultsProperties();
+            ((MementoProperties)beanProperties).setArchiveDate(converter.removeArchiveDate(elementProperties));
+            ((MementoProperties)beanProperties).setArchiveUser(converter.removeArchiveUser(elementProperties));
+            ((MementoProperties)beanProperties).setArchiveProcess(converter.removeArchiveProcess(elementProperties));
+            ((MementoProperties)beanProperties).setArchiveService(converter.removeArchiveService(elementProperties));
+            ((MementoProperties)beanProperties).setArchiveMethod(converter.removeArchiveMethod(elementProperties));
+            ((MementoProperties)beanProperties).setArchiveProperties(converter.removeArchiveProperties(elementProperties));
 
-                ((GovernanceResultsProperties)relationshipBeanProperties).setQuery(this.removeQuery(elementProperties));
-                ((GovernanceResultsProperties)relationshipBeanProperties).setQueryType(this.removeQueryType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GOVERNED_BY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GovernedByProperties();
+            return beanProperties;
+        });
 
-                ((GovernedByProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((GovernedByProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.GRAPH_EDGE_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new GraphEdgeLinkProperties();
-
-                ((GraphEdgeLinkProperties)relationshipBeanProperties).setLinkTypeName(this.removeLinkTypeName(elementProperties));
-                ((GraphEdgeLinkProperties)relationshipBeanProperties).setRelationshipEnd(this.removeRelationshipEnd(elementProperties));
-                ((GraphEdgeLinkProperties)relationshipBeanProperties).setRelationshipEndName(this.removeRelationshipEndName(elementProperties));
-                ((GraphEdgeLinkProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((GraphEdgeLinkProperties)relationshipBeanProperties).setMinCardinality(this.removeMinCardinality(elementProperties));
-                ((GraphEdgeLinkProperties)relationshipBeanProperties).setMaxCardinality(this.removeMaxCardinality(elementProperties));
-                ((GraphEdgeLinkProperties)relationshipBeanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.FOREIGN_KEY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ForeignKeyProperties();
+        dispatchTable.register(OpenMetadataType.METAMODEL_INSTANCE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new MetamodelInstanceProperties();
 
-                ((ForeignKeyProperties)relationshipBeanProperties).setDisplayName(this.removeDisplayName(elementProperties));
-                ((ForeignKeyProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((ForeignKeyProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((ForeignKeyProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ForeignKeyProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.HOST_CLUSTER_MEMBER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new HostClusterMemberProperties();
+            ((MetamodelInstanceProperties)beanProperties).setMetamodelElementGUID(converter.removeMetamodelElementGUID(elementProperties));
 
-                ((HostClusterMemberProperties)relationshipBeanProperties).setMemberRole(this.removeMemberRole(elementProperties));
-                ((HostClusterMemberProperties)relationshipBeanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.IMPACTED_RESOURCE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ImpactedResourceProperties();
+            return beanProperties;
+        });
 
-                ((ImpactedResourceProperties)relationshipBeanProperties).setSeverityLevel(this.removeSeverityLevel(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.IMPLEMENTATION_RESOURCE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ImplementationResourceProperties();
+        dispatchTable.register(OpenMetadataType.METERING_LOG_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new MeteringLogProperties();
 
-                ((ImplementationResourceProperties)relationshipBeanProperties).setRole(this.removeRole(elementProperties));
-                ((ImplementationResourceProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.IMPLEMENTED_BY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ImplementedByProperties();
+            ((MeteringLogProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((MeteringLogProperties)beanProperties).setProcess(converter.removeProcess(elementProperties));
+            ((MeteringLogProperties)beanProperties).setSource(converter.removeSource(elementProperties));
 
-                ((ImplementedByProperties)relationshipBeanProperties).setRole(this.removeRole(elementProperties));
-                ((ImplementedByProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((ImplementedByProperties)relationshipBeanProperties).setDesignStep(this.removeDesignStep(elementProperties));
-                ((ImplementedByProperties)relationshipBeanProperties).setTransformation(this.removeTransformation(elementProperties));
-                ((ImplementedByProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.INFORMATION_SUPPLY_CHAIN_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new InformationSupplyChainLinkProperties();
+            return beanProperties;
+        });
 
-                ((InformationSupplyChainLinkProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((InformationSupplyChainLinkProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ISA_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ISARelationshipProperties();
-
-                ((ISARelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((ISARelationshipProperties)relationshipBeanProperties).setExpression(this.removeExpression(elementProperties));
-                ((ISARelationshipProperties)relationshipBeanProperties).setTermRelationshipStatus(this.removeTermRelationshipStatus(elementProperties));
-                ((ISARelationshipProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((ISARelationshipProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ISARelationshipProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.IS_A_CONCEPT_BEAD_RELATIONSHIP.typeName))
+        dispatchTable.register(OpenMetadataType.MOBILE_RESOURCE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new MobileResourceProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.MODIFIER_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ModifierProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.OBJECT_IDENTIFIER_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ObjectIdentifierProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.OWNERSHIP_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new OwnershipProperties();
+
+            ((OwnershipProperties)beanProperties).setOwner(converter.removeOwner(elementProperties));
+            ((OwnershipProperties)beanProperties).setOwnerTypeName(converter.removeOwnerTypeName(elementProperties));
+            ((OwnershipProperties)beanProperties).setOwnerPropertyName(converter.removeOwnerPropertyName(elementProperties));
+            ((OwnershipProperties)beanProperties).setUserIds(converter.removeUserIds(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PERSONAL_PROJECT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new PersonalProjectProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.POLICY_MANAGEMENT_POINT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties;
+
+            if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_ADMINISTRATION_POINT_CLASSIFICATION.typeName))
             {
-                relationshipBeanProperties = new IsAConceptBeadProperties();
+                beanProperties = new PolicyAdministrationPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.IT_INFRASTRUCTURE_PROFILE_RELATIONSHIP.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_DECISION_POINT_CLASSIFICATION.typeName))
             {
-                relationshipBeanProperties = new ITInfrastructureProfileProperties();
+                beanProperties = new PolicyDecisionPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.IT_PROFILE_ROLE_APPOINTMENT_RELATIONSHIP.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_ENFORCEMENT_POINT_CLASSIFICATION.typeName))
             {
-                relationshipBeanProperties = new ITProfileRoleAppointmentProperties();
+                beanProperties = new PolicyEnforcementPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.KNOWN_LOCATION_RELATIONSHIP.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_INFORMATION_POINT_CLASSIFICATION.typeName))
             {
-                relationshipBeanProperties = new KnownLocationProperties();
-
-                ((KnownLocationProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((KnownLocationProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
+                beanProperties = new PolicyInformationPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.LICENSE_RELATIONSHIP.typeName))
+            else if (converter.propertyHelper.isTypeOf(attachedClassification, OpenMetadataType.POLICY_RETRIEVAL_POINT_CLASSIFICATION.typeName))
             {
-                relationshipBeanProperties = new LicenseProperties();
-
-                ((LicenseProperties)relationshipBeanProperties).setLicenseId(this.removeLicenseGUID(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setCoverageStart(this.removeCoverageStart(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setCoverageEnd(this.removeCoverageEnd(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setConditions(this.removeConditions(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setLicensedBy(this.removeLicensedBy(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setLicensedByTypeName(this.removeLicensedByTypeName(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setLicensedByPropertyName(this.removeLicensedByPropertyName(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setCustodian(this.removeCustodian(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setCustodianTypeName(this.removeCustodianTypeName(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setCustodianPropertyName(this.removeCustodianPropertyName(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setLicensee(this.removeLicensee(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setLicenseeTypeName(this.removeLicenseeTypeName(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setLicenseePropertyName(this.removeLicenseePropertyName(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setEntitlements(this.removeEntitlements(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setRestrictions(this.removeRestrictions(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setObligations(this.removeObligations(elementProperties));
-                ((LicenseProperties)relationshipBeanProperties).setNotes(this.removeNotes(elementProperties));
+                beanProperties = new PolicyRetrievalPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.LINEAGE_MAPPING_RELATIONSHIP.typeName))
+            else
             {
-                relationshipBeanProperties = new LineageMappingProperties();
-
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(this.removeOneWay(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(this.removeIntegrationStyle(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(this.removeProtocol(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(this.removeFrequency(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(this.removeDataExchanged(elementProperties));
+                beanProperties = new PolicyManagementPointProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.LINKED_DATA_FIELD_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new LinkedDataFieldProperties();
 
-                ((LinkedDataFieldProperties)relationshipBeanProperties).setRelationshipTypeName(this.removeRelationshipTypeName(elementProperties));
-                ((LinkedDataFieldProperties)relationshipBeanProperties).setRelationshipEnd(this.removeRelationshipEnd(elementProperties));
-                ((LinkedDataFieldProperties)relationshipBeanProperties).setDisplayName(this.removeDisplayName(elementProperties));
-                ((LinkedDataFieldProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LinkedDataFieldProperties)relationshipBeanProperties).setMaxCardinality(this.removeMaxCardinality(elementProperties));
-                ((LinkedDataFieldProperties)relationshipBeanProperties).setMinCardinality(this.removeMinCardinality(elementProperties));
-                ((LinkedDataFieldProperties)relationshipBeanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
+            ((PolicyManagementPointProperties)beanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((PolicyManagementPointProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((PolicyManagementPointProperties)beanProperties).setPointType(converter.removePointType(elementProperties));
 
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.LINKED_EXTERNAL_SCHEMA_TYPE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new LinkedExternalSchemaTypeProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.LINKED_FILE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new LinkedFileProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.LINKED_MEDIA_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new LinkedMediaProperties();
+            return beanProperties;
+        });
 
-                ((LinkedMediaProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LinkedMediaProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.MAP_FROM_ELEMENT_TYPE_RELATIONSHIP.typeName))
+        dispatchTable.register(OpenMetadataType.PRIMARY_KEY_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new PrimaryKeyProperties();
+
+            ((PrimaryKeyProperties)beanProperties).setDisplayName(converter.removeDisplayName(elementProperties));
+            ((PrimaryKeyProperties)beanProperties).setKeyPattern(converter.removeKeyPattern(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PRIME_WORD_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new PrimeWordProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PROJECT_CLASSIFICATION_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ProjectClassificationProperties();
+
+            ((ProjectClassificationProperties)beanProperties).setApproach(converter.removeApproach(elementProperties));
+            ((ProjectClassificationProperties)beanProperties).setManagementStyle(converter.removeManagementStyle(elementProperties));
+            ((ProjectClassificationProperties)beanProperties).setResultsUsage(converter.removeResultsUsage(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PUBLISHER_INTERFACE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new PublisherInterfaceProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.QUESTION_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new QuestionProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REFERENCE_DATA_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ReferenceDataProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REQUEST_RESPONSE_INTERFACE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new RequestResponseInterfaceProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.RETENTION_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new RetentionProperties();
+
+            ((RetentionProperties)beanProperties).setStatusIdentifier(converter.removeStatusIdentifier(elementProperties));
+            ((RetentionProperties)beanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((RetentionProperties)beanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((RetentionProperties)beanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((RetentionProperties)beanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((RetentionProperties)beanProperties).setSource(converter.removeSource(elementProperties));
+            ((RetentionProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((RetentionProperties)beanProperties).setRetentionBasis(converter.removeRetentionBasis(elementProperties));
+            ((RetentionProperties)beanProperties).setAssociatedGUID(converter.removeAssociatedGUID(elementProperties));
+            ((RetentionProperties)beanProperties).setArchiveAfter(converter.removeArchiveAfter(elementProperties));
+            ((RetentionProperties)beanProperties).setDeleteAfter(converter.removeDeleteAfter(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SECURE_LOCATION_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new SecureLocationProperties();
+
+            ((SecureLocationProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((SecureLocationProperties)beanProperties).setLevel(converter.removeLevel(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SECURITY_LIST_MEMBERSHIP_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new SecurityListMembershipProperties();
+
+            ((SecurityListMembershipProperties)beanProperties).setSecurityGroups(converter.removeGroups(elementProperties));
+            ((SecurityListMembershipProperties)beanProperties).setSecurityRoles(converter.removeRoles(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SECURITY_LOG_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new SecurityLogProperties();
+
+            ((SecurityLogProperties)beanProperties).setNotes(converter.removeNotes(elementProperties));
+            ((SecurityLogProperties)beanProperties).setProcess(converter.removeProcess(elementProperties));
+            ((SecurityLogProperties)beanProperties).setSource(converter.removeSource(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SECURITY_TAGS_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new SecurityTagsProperties();
+
+            ((SecurityTagsProperties)beanProperties).setSecurityLabels(converter.removeSecurityLabels(elementProperties));
+            ((SecurityTagsProperties)beanProperties).setSecurityProperties(converter.removeSecurityProperties(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SOFTWARE_PACKAGE_MANIFEST_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new SoftwarePackageManifestProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.STUDY_PROJECT_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new StudyProjectProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.TASK_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new TaskProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PROJECT_KIND_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ProjectKindProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.TEMPLATE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new TemplateProperties();
+
+            ((TemplateProperties)beanProperties).setDisplayName(converter.removeDisplayName(elementProperties));
+            ((TemplateProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((TemplateProperties)beanProperties).setVersionIdentifier(converter.removeVersionIdentifier(elementProperties));
+            ((TemplateProperties)beanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.TEMPLATE_SUBSTITUTE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new TemplateSubstituteProperties();
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.TYPE_EMBEDDED_ATTRIBUTE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new TypeEmbeddedAttributeProperties();
+
+            ((TypeEmbeddedAttributeProperties)beanProperties).setSchemaTypeName(converter.removeSchemaTypeName(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setQualifiedName(converter.removeQualifiedName(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setDisplayName(converter.removeDisplayName(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setVersionIdentifier(converter.removeVersionIdentifier(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setCategory(converter.removeCategory(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setUsage(converter.removeUsage(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setEncodingStandard(converter.removeEncodingStandard(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setNamespacePath(converter.removeNamespacePath(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setDataType(converter.removeDataType(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setDefaultValue(converter.removeDefaultValue(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setFixedValue(converter.removeFixedValue(elementProperties));
+            ((TypeEmbeddedAttributeProperties)beanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.USER_ACCOUNT_PROFILE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new UserAccountProfileProperties();
+
+            ((UserAccountProfileProperties)beanProperties).setUserAccountCount(converter.removeUserAccountCount(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setEmployeeAccountCount(converter.removeEmployeeAccountCount(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setContractorAccountCount(converter.removeContractorAccountCount(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setExternalAccountCount(converter.removeExternalAccountCount(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setDigitalAccountCount(converter.removeDigitalAccountCount(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setActiveAccountCount(converter.removeActiveAccountCount(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setExpiredAccountCount(converter.removeExpiredAccountCount(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setLockedAccountCount(converter.removeLockedAccountCount(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setDisabledAccountCount(converter.removeDisabledAccountCount(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setUserAccountTypes(converter.removeUserAccountTypes(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setUserAccountStatuses(converter.removeUserAccountStatuses(elementProperties));
+            ((UserAccountProfileProperties)beanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ZONE_MEMBERSHIP_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ZoneMembershipProperties();
+
+            ((ZoneMembershipProperties)beanProperties).setZoneMembership(converter.removeZoneMembership(elementProperties));
+
+            return beanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ZONE_MEMBERSHIP_PROFILE_CLASSIFICATION.typeName, (converter, attachedClassification, elementProperties) ->
+        {
+            ClassificationBeanProperties beanProperties = new ZoneMembershipProfileProperties();
+
+            ((ZoneMembershipProfileProperties)beanProperties).setTotalMembership(converter.removeTotalMembership(elementProperties));
+            ((ZoneMembershipProfileProperties)beanProperties).setTypeMembership(converter.removeTypeMembership(elementProperties));
+            ((ZoneMembershipProfileProperties)beanProperties).setAnchoredTotalMembership(converter.removeAnchoredTotalMembership(elementProperties));
+            ((ZoneMembershipProfileProperties)beanProperties).setAnchoredTypeMembership(converter.removeAnchoredTypeMembership(elementProperties));
+            ((ZoneMembershipProfileProperties)beanProperties).setAllTotalMembership(converter.removeAllTotalMembership(elementProperties));
+            ((ZoneMembershipProfileProperties)beanProperties).setAllTypeMembership(converter.removeAllTypeMembership(elementProperties));
+            ((ZoneMembershipProfileProperties)beanProperties).setAnalysisTime(converter.removeAnalysisTime(elementProperties));
+
+            return beanProperties;
+        });
+
+        return dispatchTable;
+    }
+
+
+    /**
+     * Retrieve the relationship bean properties from a relationship.
+     *
+     * @param relatedMetadataElement related element
+     *
+     * @return relationship bean properties
+     */
+    public RelationshipBeanProperties getRelationshipProperties(RelatedMetadataElement relatedMetadataElement)
+    {
+        if (relatedMetadataElement != null)
+        {
+            RelationshipBeanProperties relationshipProperties = getRelationshipProperties(relatedMetadataElement,
+                                                                                          relatedMetadataElement.getRelationshipProperties());
+
+            relationshipProperties.setEffectiveFrom(relatedMetadataElement.getEffectiveFromTime());
+            relationshipProperties.setEffectiveTo(relatedMetadataElement.getEffectiveToTime());
+
+            return relationshipProperties;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve the relationship bean properties from a relationship.
+     *
+     * @param openMetadataRelationship relationship element
+     *
+     * @return relationship bean properties
+     */
+    public RelationshipBeanProperties getRelationshipProperties(OpenMetadataRelationship openMetadataRelationship)
+    {
+        if (openMetadataRelationship != null)
+        {
+            RelationshipBeanProperties relationshipProperties = getRelationshipProperties(openMetadataRelationship,
+                                                                                              openMetadataRelationship.getRelationshipProperties());
+
+            relationshipProperties.setEffectiveFrom(openMetadataRelationship.getEffectiveFromTime());
+            relationshipProperties.setEffectiveTo(openMetadataRelationship.getEffectiveToTime());
+
+            return relationshipProperties;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve the relationship bean properties from a relationship's element properties.
+     *
+     * @param relationshipProperties element properties
+     *
+     * @return relationship bean properties
+     */
+    public RelationshipBeanProperties getRelationshipProperties(ElementControlHeader relationshipHeader,
+                                                                ElementProperties    relationshipProperties)
+    {
+        if (relationshipHeader != null)
+        {
+            RelationshipBeanProperties relationshipBeanProperties;
+
+            /*
+             * The initial set of values come from the attributes - the bean properties object to use is
+             * determined by its type.  Attributes are removed from element properties as the bean properties
+             * object is filled.  Any remaining properties are added to extended properties so none are lost.
+             * The properties added to extended properties should be from subtypes that are not part of the
+             * open metadata type standard.  However, there may also be properties that are not (yet) explicitly
+             * mapped to the converter process below.
+             */
+            ElementProperties elementProperties = new ElementProperties(relationshipProperties);
+
+            BeanPropertiesConverter<ElementControlHeader, RelationshipBeanProperties> propertiesConverter = relationshipPropertiesConverters.getConverter(relationshipHeader);
+
+            if (propertiesConverter != null)
             {
-                relationshipBeanProperties = new MapFromElementTypeProperties();
+                relationshipBeanProperties = propertiesConverter.getBeanProperties(this, relationshipHeader, elementProperties);
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.MAP_TO_ELEMENT_TYPE_RELATIONSHIP.typeName))
+            else
             {
-                relationshipBeanProperties = new MapToElementTypeProperties();
+                relationshipBeanProperties = new RelationshipBeanProperties();
             }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.MEDIA_REFERENCE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new MediaReferenceProperties();
 
-                ((MediaReferenceProperties)relationshipBeanProperties).setMediaId(this.removeMediaId(elementProperties));
-                ((MediaReferenceProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                if (((MediaReferenceProperties)relationshipBeanProperties).getMediaUsage() != null)
-                {
-                    ((MediaReferenceProperties)relationshipBeanProperties).setMediaUsage(this.removeMediaUsage(elementProperties));
-                }
-                ((MediaReferenceProperties)relationshipBeanProperties).setMediaUsageOtherId(this.removeMediaUsageOtherId(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.MEMBER_DATA_FIELD_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new MemberDataFieldProperties();
+            /*
+             * Any remaining properties are returned in the extended properties.  They are
+             * assumed to be defined in a subtype that we don't know about - but it also helps to catch
+             * missing mappings in the code above.
+             */
+            relationshipBeanProperties.setTypeName(relationshipHeader.getType().getTypeName());
+            relationshipBeanProperties.setExtendedProperties(this.getRemainingExtendedProperties(elementProperties));
+
+            return relationshipBeanProperties;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Build the dispatch table that selects the relationship bean properties for an element's type.  The types are
+     * registered in priority order - an element is converted by the first registered type that it is an instance of.
+     *
+     * @return dispatch table
+     */
+    private static OpenMetadataTypeDispatchTable<BeanPropertiesConverter<ElementControlHeader, RelationshipBeanProperties>> getRelationshipPropertiesConverters()
+    {
+        OpenMetadataTypeDispatchTable<BeanPropertiesConverter<ElementControlHeader, RelationshipBeanProperties>> dispatchTable = new OpenMetadataTypeDispatchTable<>();
+
+        dispatchTable.register(OpenMetadataType.ACCEPTED_ANSWER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AcceptedAnswerProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ACTION_REQUESTER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ActionRequesterProperties();
+
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ACTIONS_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ActionsProperties();
+
+            ((ActionsProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ActionsProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ACTION_TARGET_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ActionTargetProperties();
+
+            ((ActionTargetProperties)relationshipBeanProperties).setActionTargetName(converter.removeActionTargetName(elementProperties));
+            ((ActionTargetProperties)relationshipBeanProperties).setActivityStatus(converter.removeActivityStatus(elementProperties));
+            ((ActionTargetProperties)relationshipBeanProperties).setStartTime(converter.removeStartTime(elementProperties));
+            ((ActionTargetProperties)relationshipBeanProperties).setCompletionTime(converter.removeCompletionTime(elementProperties));
+            ((ActionTargetProperties)relationshipBeanProperties).setCompletionMessage(converter.removeCompletionMessage(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ADJACENT_LOCATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AdjacentLocationProperties();
+
+            ((AdjacentLocationProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((AdjacentLocationProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.AGREEMENT_ACTOR_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AgreementActorProperties();
+
+            ((AgreementActorProperties)relationshipBeanProperties).setAgreementPartyName(converter.removeAgreementPartyName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.AGREEMENT_ITEM_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AgreementItemProperties();
+
+            ((AgreementItemProperties)relationshipBeanProperties).setAgreementItemId(converter.removeAgreementItemId(elementProperties));
+            ((AgreementItemProperties)relationshipBeanProperties).setAgreementStart(converter.removeAgreementStart(elementProperties));
+            ((AgreementItemProperties)relationshipBeanProperties).setAgreementEnd(converter.removeAgreementEnd(elementProperties));
+            ((AgreementItemProperties)relationshipBeanProperties).setEntitlements(converter.removeEntitlements(elementProperties));
+            ((AgreementItemProperties)relationshipBeanProperties).setRestrictions(converter.removeRestrictions(elementProperties));
+            ((AgreementItemProperties)relationshipBeanProperties).setObligations(converter.removeObligations(elementProperties));
+            ((AgreementItemProperties)relationshipBeanProperties).setUsageMeasurements(converter.removeUsageMeasurements(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ANNOTATION_EXTENSION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AnnotationExtensionProperties();
+
+            ((AnnotationExtensionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((AnnotationExtensionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ANNOTATION_MATCH_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AnnotationMatchProperties();
+
+            ((AnnotationMatchProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((AnnotationMatchProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((AnnotationMatchProperties)relationshipBeanProperties).setMethod(converter.removeMethod(elementProperties));
+            ((AnnotationMatchProperties)relationshipBeanProperties).setThreshold(converter.removeThreshold(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ANTONYM_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AntonymProperties();
+
+            ((AntonymProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((AntonymProperties)relationshipBeanProperties).setExpression(converter.removeExpression(elementProperties));
+            ((AntonymProperties)relationshipBeanProperties).setTermRelationshipStatus(converter.removeTermRelationshipStatus(elementProperties));
+            ((AntonymProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((AntonymProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((AntonymProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.API_ENDPOINT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new APIEndpointProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.API_HEADER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new APIHeaderProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.API_OPERATIONS_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new APIOperationsProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.API_HEADER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new APIHeaderProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.API_REQUEST_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new APIRequestProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.API_RESPONSE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new APIResponseProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.APPROVED_PURPOSE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ApprovedPurposeProperties();
+
+            ((ApprovedPurposeProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ApprovedPurposeProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ARCHIVE_CONTENTS_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ArchiveContentsProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ASSET_CONNECTION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AssetConnectionProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ASSIGNMENT_SCOPE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AssignmentScopeProperties();
+
+            ((AssignmentScopeProperties)relationshipBeanProperties).setAssignmentType(converter.removeAssignmentType(elementProperties));
+            ((AssignmentScopeProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ASSOCIATED_ANNOTATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AssociatedAnnotationProperties();
+
+            ((AssociatedAnnotationProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((AssociatedAnnotationProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ASSOCIATED_SKILL_SET_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AssociatedSkillSetProperties();
+
+            ((AssociatedSkillSetProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((AssociatedSkillSetProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ASSOCIATED_LOG_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AssociatedLogProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ASSOCIATED_SECURITY_LIST_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AssociatedSecurityListProperties();
+
+            ((AssociatedSecurityListProperties)relationshipBeanProperties).setOperationName(converter.removeOperationName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ATTACHED_COMMENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AttachedCommentProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ATTACHED_LIKE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AttachedLikeProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ATTACHED_NOTE_LOG_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AttachedNoteLogProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ATTACHED_NOTE_LOG_ENTRY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AttachedNoteLogEntryProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ATTACHED_RATING_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AttachedRatingProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ATTACHED_STORAGE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AttachedStorageProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ATTACHED_TAG_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AttachedTagProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ATTRIBUTE_FOR_SCHEMA_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new AttributeForSchemaProperties();
+
+            ((AttributeForSchemaProperties)relationshipBeanProperties).setPosition(converter.removePosition(elementProperties));
+            ((AttributeForSchemaProperties)relationshipBeanProperties).setMaxCardinality(converter.removeMaxCardinality(elementProperties));
+            ((AttributeForSchemaProperties)relationshipBeanProperties).setMinCardinality(converter.removeMinCardinality(elementProperties));
+            ((AttributeForSchemaProperties)relationshipBeanProperties).setCoverageCategory(converter.removeCoverageCategory(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.BUSINESS_CAPABILITY_DEPENDENCY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new BusinessCapabilityDependencyProperties();
+
+            ((BusinessCapabilityDependencyProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((BusinessCapabilityDependencyProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CAPABILITY_ASSET_USE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new CapabilityAssetUseProperties();
+
+            ((CapabilityAssetUseProperties)relationshipBeanProperties).setUseType(converter.removeUseType(elementProperties));
+            ((CapabilityAssetUseProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((CapabilityAssetUseProperties)relationshipBeanProperties).setMinimumInstances(converter.removeMinimumInstances(elementProperties));
+            ((CapabilityAssetUseProperties)relationshipBeanProperties).setMaximumInstances(converter.removeMaximumInstances(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CATALOG_TARGET_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new CatalogTargetProperties();
+
+            ((CatalogTargetProperties)relationshipBeanProperties).setCatalogTargetName(converter.removeCatalogTargetName(elementProperties));
+            ((CatalogTargetProperties)relationshipBeanProperties).setMetadataCollectionQualifiedName(converter.removeMetadataCollectionQualifiedName(elementProperties));
+            ((CatalogTargetProperties)relationshipBeanProperties).setMetadataSourceQualifiedName(converter.removeMetadataSourceQualifiedName(elementProperties));
+            ((CatalogTargetProperties)relationshipBeanProperties).setConnectionName(converter.removeConnectionName(elementProperties));
+            ((CatalogTargetProperties)relationshipBeanProperties).setConfigurationProperties(converter.removeConfigurationProperties(elementProperties));
+            ((CatalogTargetProperties)relationshipBeanProperties).setTemplates(converter.removeTemplates(elementProperties));
+            ((CatalogTargetProperties)relationshipBeanProperties).setPermittedSynchronization(converter.removePermittedSynchronization(elementProperties));
+            ((CatalogTargetProperties)relationshipBeanProperties).setDeleteMethod(converter.removeDeleteMethod(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CATALOG_TEMPLATE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new CatalogTemplateProperties();
+
+            ((CatalogTemplateProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((CatalogTemplateProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CERTIFICATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new CertificationProperties();
+
+            ((CertificationProperties)relationshipBeanProperties).setCertificateId(converter.removeCertificateGUID(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setCoverageStart(converter.removeCoverageStart(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setCoverageEnd(converter.removeCoverageEnd(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setConditions(converter.removeConditions(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setCertifiedBy(converter.removeCertifiedBy(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setCertifiedByTypeName(converter.removeCertifiedByTypeName(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setCertifiedByPropertyName(converter.removeCertifiedByPropertyName(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setCustodian(converter.removeCustodian(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setCustodianTypeName(converter.removeCustodianTypeName(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setCustodianPropertyName(converter.removeCustodianPropertyName(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setRecipient(converter.removeRecipient(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setRecipientTypeName(converter.removeRecipientTypeName(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setRecipientPropertyName(converter.removeRecipientPropertyName(elementProperties));
+            ((CertificationProperties)relationshipBeanProperties).setNotes(converter.removeNotes(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CITED_DOCUMENT_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new CitedDocumentLinkProperties();
+
+            ((CitedDocumentLinkProperties)relationshipBeanProperties).setReferenceId(converter.removeReferenceId(elementProperties));
+            ((CitedDocumentLinkProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((CitedDocumentLinkProperties)relationshipBeanProperties).setPages(converter.removePages(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.COLLECTION_MEMBERSHIP_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new CollectionMembershipProperties();
+
+            ((CollectionMembershipProperties)relationshipBeanProperties).setMembershipType(converter.removeMembershipType(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setMembershipRationale(converter.removeMembershipRationale(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setExpression(converter.removeExpression(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setMembershipStatus(converter.removeMembershipStatus(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setUserDefinedStatus(converter.removeUserDefinedStatus(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+            ((CollectionMembershipProperties)relationshipBeanProperties).setNotes(converter.removeNotes(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONCEPT_BEAD_ATTRIBUTE_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ConceptBeadAttributeLinkProperties();
+
+            ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setPosition(converter.removePosition(elementProperties));
+            ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setMinCardinality(converter.removeMinCardinality(elementProperties));
+            ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setMaxCardinality(converter.removeMaxCardinality(elementProperties));
+            ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setCoverageCategory(converter.removeCoverageCategory(elementProperties));
+            ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setUniqueValues(converter.removeUniqueValues(elementProperties));
+            ((ConceptBeadAttributeLinkProperties)relationshipBeanProperties).setOrderedValues(converter.removeOrderedValues(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONCEPT_BEAD_EXTENSION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ConceptBeadExtensionProperties();
+
+            ((ConceptBeadExtensionProperties)relationshipBeanProperties).setRole(converter.removeRole(elementProperties));
+            ((ConceptBeadExtensionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONCEPT_BEAD_RELATIONSHIP_END_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ConceptBeadRelationshipEndProperties();
+
+            ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setAttributeName(converter.removeAttributeName(elementProperties));
+            ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setDecoration(converter.removeDecoration(elementProperties));
+            ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setPosition(converter.removePosition(elementProperties));
+            ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setMinCardinality(converter.removeMinCardinality(elementProperties));
+            ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setMaxCardinality(converter.removeMaxCardinality(elementProperties));
+            ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setNavigable(converter.removeNavigable(elementProperties));
+            ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setUniqueValues(converter.removeUniqueValues(elementProperties));
+            ((ConceptBeadRelationshipEndProperties)relationshipBeanProperties).setOrderedValues(converter.removeOrderedValues(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONCEPT_DESIGN_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ConceptDesignProperties();
+
+            ((ConceptDesignProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ConceptDesignProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONNECTION_CONNECTOR_TYPE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ConnectionConnectorTypeProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONNECT_TO_ENDPOINT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ConnectToEndpointProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONSISTENT_VALID_VALUES_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ConsistentValidValuesProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONSOLIDATED_DUPLICATE_LINK.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ConsolidatedDuplicateLinkProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONTACT_THROUGH_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ContactThroughProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONTEXT_EVENT_EVIDENCE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ContextEventEvidenceProperties();
+
+            ((ContextEventEvidenceProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ContextEventEvidenceProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONTEXT_EVENT_FOR_TIMELINE_EFFECTS_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ContextEventForTimelineEffectsProperties();
+
+            ((ContextEventForTimelineEffectsProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ContextEventForTimelineEffectsProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONTEXT_EVENT_IMPACT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ContextEventImpactProperties();
+
+            ((ContextEventImpactProperties)relationshipBeanProperties).setSeverityLevel(converter.removeSeverityLevel(elementProperties));
+            ((ContextEventImpactProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ContextEventImpactProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONTRACT_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ContractLinkProperties();
+
+            ((ContractLinkProperties)relationshipBeanProperties).setContractId(converter.removeContractId(elementProperties));
+            ((ContractLinkProperties)relationshipBeanProperties).setContractLiaison(converter.removeContractLiaison(elementProperties));
+            ((ContractLinkProperties)relationshipBeanProperties).setContractLiaisonTypeName(converter.removeContractLiaisonTypeName(elementProperties));
+            ((ContractLinkProperties)relationshipBeanProperties).setContractLiaisonPropertyName(converter.removeContractLiaisonPropertyName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONTRIBUTION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ContributionProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CONTROL_FLOW_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ControlFlowProperties();
+
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+            ((ControlFlowProperties)relationshipBeanProperties).setGuard(converter.removeGuard(elementProperties));
+            ((ControlFlowProperties)relationshipBeanProperties).setMandatoryGuard(converter.removeMandatoryGuard(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.CROWD_SOURCING_CONTRIBUTION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new CrowdSourcingContributionProperties();
+
+            ((CrowdSourcingContributionProperties)relationshipBeanProperties).setRoleType(converter.removeRoleType(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_CLASS_COMPOSITION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataClassCompositionProperties();
+
+            ((DataClassCompositionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DataClassCompositionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_VALUE_ASSIGNMENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataValueAssignmentProperties();
+
+            ((DataValueAssignmentProperties)relationshipBeanProperties).setMethod(converter.removeMethod(elementProperties));
+            ((DataValueAssignmentProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+            ((DataValueAssignmentProperties)relationshipBeanProperties).setThreshold(converter.removeThreshold(elementProperties));
+            ((DataValueAssignmentProperties)relationshipBeanProperties).setAssignmentStatus(converter.removeDataValueAssignmentStatus(elementProperties));
+            ((DataValueAssignmentProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((DataValueAssignmentProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((DataValueAssignmentProperties)relationshipBeanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((DataValueAssignmentProperties)relationshipBeanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_VALUE_DEFINITION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataValueDefinitionProperties();
+
+            ((DataValueDefinitionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DataValueDefinitionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_VALUE_HIERARCHY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataValueHierarchyProperties();
+
+            ((DataValueHierarchyProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DataValueHierarchyProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_DESCRIPTION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataDescriptionProperties();
+
+            ((DataDescriptionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DataDescriptionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_FLOW_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataFlowProperties();
+
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(converter.removeOneWay(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(converter.removeIntegrationStyle(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(converter.removeProtocol(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(converter.removeFrequency(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(converter.removeDataExchanged(elementProperties));
+            ((DataFlowProperties)relationshipBeanProperties).setFormula(converter.removeFormula(elementProperties));
+            ((DataFlowProperties)relationshipBeanProperties).setFormulaType(converter.removeFormulaType(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_MAPPING_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataMappingProperties();
+
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+            ((DataMappingProperties)relationshipBeanProperties).setFormula(converter.removeFormula(elementProperties));
+            ((DataMappingProperties)relationshipBeanProperties).setFormulaType(converter.removeFormulaType(elementProperties));
+            ((DataMappingProperties)relationshipBeanProperties).setQueryType(converter.removeQueryType(elementProperties));
+            ((DataMappingProperties)relationshipBeanProperties).setQuery(converter.removeQuery(elementProperties));
+            ((DataMappingProperties)relationshipBeanProperties).setQueryId(converter.removeQueryId(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_PROCESSING_SPECIFICATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataProcessingSpecificationProperties();
+
+            ((DataProcessingSpecificationProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DataProcessingSpecificationProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_PROCESSING_TARGET_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataProcessingTargetProperties();
+
+            ((DataProcessingTargetProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DataProcessingTargetProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_SET_CONTENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataSetContentProperties();
+
+            ((DataSetContentProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+            ((DataSetContentProperties)relationshipBeanProperties).setQueryType(converter.removeQueryType(elementProperties));
+            ((DataSetContentProperties)relationshipBeanProperties).setQuery(converter.removeQuery(elementProperties));
+            ((DataSetContentProperties)relationshipBeanProperties).setQueryId(converter.removeQueryId(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DATA_STRUCTURE_DEFINITION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DataStructureDefinitionProperties();
+
+            ((DataStructureDefinitionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DataStructureDefinitionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DEPENDENT_CONTEXT_EVENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DependentContextEventProperties();
+
+            ((DependentContextEventProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DependentContextEventProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DEPLOYED_ON_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DeployedOnProperties();
+
+            ((DeployedOnProperties)relationshipBeanProperties).setDeploymentTime(converter.removeDeploymentTime(elementProperties));
+            ((DeployedOnProperties)relationshipBeanProperties).setDeployer(converter.removeDeployer(elementProperties));
+            ((DeployedOnProperties)relationshipBeanProperties).setDeployerTypeName(converter.removeDeployerTypeName(elementProperties));
+            ((DeployedOnProperties)relationshipBeanProperties).setDeployerPropertyName(converter.removeDeployerPropertyName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DERIVED_SCHEMA_TYPE_QUERY_TARGET_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DerivedSchemaTypeQueryTargetProperties();
+
+            ((DerivedSchemaTypeQueryTargetProperties)relationshipBeanProperties).setQueryId(converter.removeQueryId(elementProperties));
+            ((DerivedSchemaTypeQueryTargetProperties)relationshipBeanProperties).setQuery(converter.removeQuery(elementProperties));
+            ((DerivedSchemaTypeQueryTargetProperties)relationshipBeanProperties).setQueryType(converter.removeQueryType(elementProperties));
+            ((DerivedSchemaTypeQueryTargetProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DETAILED_PROCESSING_ACTION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DetailedProcessingActionProperties();
+
+            ((DetailedProcessingActionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DetailedProcessingActionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DIGITAL_PRODUCT_DEPENDENCY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DigitalProductDependencyProperties();
+
+            ((DigitalProductDependencyProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DigitalProductDependencyProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DIGITAL_SUBSCRIBER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DigitalSubscriberProperties();
+
+            ((DigitalSubscriberProperties)relationshipBeanProperties).setSubscriberId(converter.removeSubscriberId(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.DIGITAL_SUPPORT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new DigitalSupportProperties();
+
+            ((DigitalSupportProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((DigitalSupportProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.EMBEDDED_CONNECTION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new EmbeddedConnectionProperties();
+
+            ((EmbeddedConnectionProperties)relationshipBeanProperties).setPosition(converter.removePosition(elementProperties));
+            ((EmbeddedConnectionProperties)relationshipBeanProperties).setDisplayName(converter.removeDisplayName(elementProperties));
+            ((EmbeddedConnectionProperties)relationshipBeanProperties).setArguments(converter.removeArguments(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.EXCEPTION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ExceptionProperties();
+
+            ((ExceptionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ExceptionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((ExceptionProperties)relationshipBeanProperties).setLastReviewTime(converter.removeLastReviewTime(elementProperties));
+            ((ExceptionProperties)relationshipBeanProperties).setReviewDate(converter.removeReviewDate(elementProperties));
+            ((ExceptionProperties)relationshipBeanProperties).setConditions(converter.removeConditions(elementProperties));
+            ((ExceptionProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ExceptionProperties)relationshipBeanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((ExceptionProperties)relationshipBeanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((ExceptionProperties)relationshipBeanProperties).setNotes(converter.removeNotes(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.EXTERNAL_ID_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ExternalIdLinkProperties();
+
+            ((ExternalIdLinkProperties)relationshipBeanProperties).setUsage(converter.removeUsage(elementProperties));
+            ((ExternalIdLinkProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+            ((ExternalIdLinkProperties)relationshipBeanProperties).setLastSynchronized(converter.removeLastSynchronized(elementProperties));
+            ((ExternalIdLinkProperties)relationshipBeanProperties).setMappingProperties(converter.removeMappingProperties(elementProperties));
+            ((ExternalIdLinkProperties)relationshipBeanProperties).setPermittedSynchronization(converter.removePermittedSynchronization(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.EXTERNAL_REFERENCE_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ExternalReferenceLinkProperties();
+
+            ((ExternalReferenceLinkProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ExternalReferenceLinkProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.FOLDER_HIERARCHY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new FolderHierarchyProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_ACTION_EXECUTOR_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GovernanceActionExecutorProperties();
+
+            ((GovernanceActionExecutorProperties)relationshipBeanProperties).setRequestType(converter.removeRequestType(elementProperties));
+            ((GovernanceActionExecutorProperties)relationshipBeanProperties).setRequestParameters(converter.removeRequestParameters(elementProperties));
+            ((GovernanceActionExecutorProperties)relationshipBeanProperties).setRequestParameterFilter(converter.removeRequestParameterFilter(elementProperties));
+            ((GovernanceActionExecutorProperties)relationshipBeanProperties).setRequestParameterMap(converter.removeRequestParameterMap(elementProperties));
+            ((GovernanceActionExecutorProperties)relationshipBeanProperties).setActionTargetFilter(converter.removeActionTargetFilter(elementProperties));
+            ((GovernanceActionExecutorProperties)relationshipBeanProperties).setActionTargetMap(converter.removeActionTargetMap(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_ACTION_PROCESS_FLOW_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GovernanceActionProcessFlowProperties();
+
+            ((GovernanceActionProcessFlowProperties)relationshipBeanProperties).setGuard(converter.removeGuard(elementProperties));
+            ((GovernanceActionProcessFlowProperties)relationshipBeanProperties).setRequestParameters(converter.removeRequestParameters(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_CONTROL_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GovernanceControlLinkProperties();
+
+            ((GovernanceControlLinkProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((GovernanceControlLinkProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_DRIVER_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GovernanceDriverLinkProperties();
+
+            ((GovernanceDriverLinkProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((GovernanceDriverLinkProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_POLICY_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GovernancePolicyLinkProperties();
+
+            ((GovernancePolicyLinkProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((GovernancePolicyLinkProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_MECHANISM_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GovernanceMechanismProperties();
+
+            ((GovernanceMechanismProperties)relationshipBeanProperties).setRationale(converter.removeRationale(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_RESPONSE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GovernanceResponseProperties();
+
+            ((GovernanceResponseProperties)relationshipBeanProperties).setRationale(converter.removeRationale(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GOVERNANCE_RESULTS_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GovernanceResultsProperties();
+
+            ((GovernanceResultsProperties)relationshipBeanProperties).setQuery(converter.removeQuery(elementProperties));
+            ((GovernanceResultsProperties)relationshipBeanProperties).setQueryType(converter.removeQueryType(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GOVERNED_BY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GovernedByProperties();
+
+            ((GovernedByProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((GovernedByProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.GRAPH_EDGE_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new GraphEdgeLinkProperties();
+
+            ((GraphEdgeLinkProperties)relationshipBeanProperties).setLinkTypeName(converter.removeLinkTypeName(elementProperties));
+            ((GraphEdgeLinkProperties)relationshipBeanProperties).setRelationshipEnd(converter.removeRelationshipEnd(elementProperties));
+            ((GraphEdgeLinkProperties)relationshipBeanProperties).setRelationshipEndName(converter.removeRelationshipEndName(elementProperties));
+            ((GraphEdgeLinkProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((GraphEdgeLinkProperties)relationshipBeanProperties).setMinCardinality(converter.removeMinCardinality(elementProperties));
+            ((GraphEdgeLinkProperties)relationshipBeanProperties).setMaxCardinality(converter.removeMaxCardinality(elementProperties));
+            ((GraphEdgeLinkProperties)relationshipBeanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.FOREIGN_KEY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ForeignKeyProperties();
+
+            ((ForeignKeyProperties)relationshipBeanProperties).setDisplayName(converter.removeDisplayName(elementProperties));
+            ((ForeignKeyProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((ForeignKeyProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((ForeignKeyProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ForeignKeyProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.HOST_CLUSTER_MEMBER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new HostClusterMemberProperties();
+
+            ((HostClusterMemberProperties)relationshipBeanProperties).setMemberRole(converter.removeMemberRole(elementProperties));
+            ((HostClusterMemberProperties)relationshipBeanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.IMPACTED_RESOURCE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ImpactedResourceProperties();
+
+            ((ImpactedResourceProperties)relationshipBeanProperties).setSeverityLevel(converter.removeSeverityLevel(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.IMPLEMENTATION_RESOURCE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ImplementationResourceProperties();
+
+            ((ImplementationResourceProperties)relationshipBeanProperties).setRole(converter.removeRole(elementProperties));
+            ((ImplementationResourceProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.IMPLEMENTED_BY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ImplementedByProperties();
+
+            ((ImplementedByProperties)relationshipBeanProperties).setRole(converter.removeRole(elementProperties));
+            ((ImplementedByProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((ImplementedByProperties)relationshipBeanProperties).setDesignStep(converter.removeDesignStep(elementProperties));
+            ((ImplementedByProperties)relationshipBeanProperties).setTransformation(converter.removeTransformation(elementProperties));
+            ((ImplementedByProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.INFORMATION_SUPPLY_CHAIN_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new InformationSupplyChainLinkProperties();
+
+            ((InformationSupplyChainLinkProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((InformationSupplyChainLinkProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ISA_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ISARelationshipProperties();
+
+            ((ISARelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((ISARelationshipProperties)relationshipBeanProperties).setExpression(converter.removeExpression(elementProperties));
+            ((ISARelationshipProperties)relationshipBeanProperties).setTermRelationshipStatus(converter.removeTermRelationshipStatus(elementProperties));
+            ((ISARelationshipProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((ISARelationshipProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ISARelationshipProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.IS_A_CONCEPT_BEAD_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new IsAConceptBeadProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.IT_INFRASTRUCTURE_PROFILE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ITInfrastructureProfileProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.IT_PROFILE_ROLE_APPOINTMENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ITProfileRoleAppointmentProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.KNOWN_LOCATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new KnownLocationProperties();
+
+            ((KnownLocationProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((KnownLocationProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.LICENSE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new LicenseProperties();
+
+            ((LicenseProperties)relationshipBeanProperties).setLicenseId(converter.removeLicenseGUID(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setCoverageStart(converter.removeCoverageStart(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setCoverageEnd(converter.removeCoverageEnd(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setConditions(converter.removeConditions(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setLicensedBy(converter.removeLicensedBy(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setLicensedByTypeName(converter.removeLicensedByTypeName(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setLicensedByPropertyName(converter.removeLicensedByPropertyName(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setCustodian(converter.removeCustodian(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setCustodianTypeName(converter.removeCustodianTypeName(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setCustodianPropertyName(converter.removeCustodianPropertyName(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setLicensee(converter.removeLicensee(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setLicenseeTypeName(converter.removeLicenseeTypeName(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setLicenseePropertyName(converter.removeLicenseePropertyName(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setEntitlements(converter.removeEntitlements(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setRestrictions(converter.removeRestrictions(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setObligations(converter.removeObligations(elementProperties));
+            ((LicenseProperties)relationshipBeanProperties).setNotes(converter.removeNotes(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.LINEAGE_MAPPING_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new LineageMappingProperties();
+
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(converter.removeOneWay(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(converter.removeIntegrationStyle(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(converter.removeProtocol(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(converter.removeFrequency(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(converter.removeDataExchanged(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.LINKED_DATA_FIELD_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new LinkedDataFieldProperties();
+
+            ((LinkedDataFieldProperties)relationshipBeanProperties).setRelationshipTypeName(converter.removeRelationshipTypeName(elementProperties));
+            ((LinkedDataFieldProperties)relationshipBeanProperties).setRelationshipEnd(converter.removeRelationshipEnd(elementProperties));
+            ((LinkedDataFieldProperties)relationshipBeanProperties).setDisplayName(converter.removeDisplayName(elementProperties));
+            ((LinkedDataFieldProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LinkedDataFieldProperties)relationshipBeanProperties).setMaxCardinality(converter.removeMaxCardinality(elementProperties));
+            ((LinkedDataFieldProperties)relationshipBeanProperties).setMinCardinality(converter.removeMinCardinality(elementProperties));
+            ((LinkedDataFieldProperties)relationshipBeanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.LINKED_EXTERNAL_SCHEMA_TYPE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new LinkedExternalSchemaTypeProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.LINKED_FILE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new LinkedFileProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.LINKED_MEDIA_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new LinkedMediaProperties();
+
+            ((LinkedMediaProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LinkedMediaProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.MAP_FROM_ELEMENT_TYPE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new MapFromElementTypeProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.MAP_TO_ELEMENT_TYPE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new MapToElementTypeProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.MEDIA_REFERENCE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new MediaReferenceProperties();
+
+            ((MediaReferenceProperties)relationshipBeanProperties).setMediaId(converter.removeMediaId(elementProperties));
+            ((MediaReferenceProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            if (((MediaReferenceProperties)relationshipBeanProperties).getMediaUsage() != null)
+            {
+                ((MediaReferenceProperties)relationshipBeanProperties).setMediaUsage(converter.removeMediaUsage(elementProperties));
+            }
+            ((MediaReferenceProperties)relationshipBeanProperties).setMediaUsageOtherId(converter.removeMediaUsageOtherId(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.MEMBER_DATA_FIELD_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new MemberDataFieldProperties();
+
+            ((MemberDataFieldProperties)relationshipBeanProperties).setCoverageCategory(converter.removeCoverageCategory(elementProperties));
+            ((MemberDataFieldProperties)relationshipBeanProperties).setPosition(converter.removePosition(elementProperties));
+            ((MemberDataFieldProperties)relationshipBeanProperties).setMaxCardinality(converter.removeMaxCardinality(elementProperties));
+            ((MemberDataFieldProperties)relationshipBeanProperties).setMinCardinality(converter.removeMinCardinality(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.METADATA_COHORT_PEER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new MetadataCohortPeerProperties();
+
+            ((MetadataCohortPeerProperties)relationshipBeanProperties).setRegistrationDate(converter.removeRegistrationDate(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.MONITORED_RESOURCE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new MonitoredResourceProperties();
+
+            ((MonitoredResourceProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((MonitoredResourceProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.MORE_INFORMATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new MoreInformationProperties();
+
+            ((MoreInformationProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((MoreInformationProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.NESTED_DATA_FIELD_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new NestedDataFieldProperties();
+
+            ((NestedDataFieldProperties)relationshipBeanProperties).setCoverageCategory(converter.removeCoverageCategory(elementProperties));
+            ((NestedDataFieldProperties)relationshipBeanProperties).setPosition(converter.removePosition(elementProperties));
+            ((NestedDataFieldProperties)relationshipBeanProperties).setMaxCardinality(converter.removeMaxCardinality(elementProperties));
+            ((NestedDataFieldProperties)relationshipBeanProperties).setMinCardinality(converter.removeMinCardinality(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.NESTED_DESIGN_PATTERN_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new NestedDesignPatternProperties();
+
+            ((NestedDesignPatternProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((NestedDesignPatternProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.NESTED_FILE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new NestedFileProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.NESTED_LOCATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new NestedLocationProperties();
+
+            ((NestedLocationProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((NestedLocationProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.NESTED_SCHEMA_ATTRIBUTE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new NestedSchemaAttributeProperties();
+
+            ((NestedSchemaAttributeProperties)relationshipBeanProperties).setCoverageCategory(converter.removeCoverageCategory(elementProperties));
+            ((NestedSchemaAttributeProperties)relationshipBeanProperties).setPosition(converter.removePosition(elementProperties));
+            ((NestedSchemaAttributeProperties)relationshipBeanProperties).setMaxCardinality(converter.removeMaxCardinality(elementProperties));
+            ((NestedSchemaAttributeProperties)relationshipBeanProperties).setMinCardinality(converter.removeMinCardinality(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.NETWORK_GATEWAY_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new NetworkGatewayLinkProperties();
+
+            ((NetworkGatewayLinkProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((NetworkGatewayLinkProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((NetworkGatewayLinkProperties)relationshipBeanProperties).setInternalEndpointAddress(converter.removeInternalEndpointAddress(elementProperties));
+            ((NetworkGatewayLinkProperties)relationshipBeanProperties).setExternalEndpointAddress(converter.removeExternalEndpointAddress(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.NEXT_GOVERNANCE_ACTION_PROCESS_STEP_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new NextGovernanceActionProcessStepProperties();
+
+            ((NextGovernanceActionProcessStepProperties)relationshipBeanProperties).setGuard(converter.removeGuard(elementProperties));
+            ((NextGovernanceActionProcessStepProperties)relationshipBeanProperties).setMandatoryGuard(converter.removeMandatoryGuard(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.NOTIFICATION_SUBSCRIBER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new NotificationSubscriberProperties();
+
+            ((NotificationSubscriberProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((NotificationSubscriberProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((NotificationSubscriberProperties)relationshipBeanProperties).setActivityStatus(converter.removeActivityStatus(elementProperties));
+            ((NotificationSubscriberProperties)relationshipBeanProperties).setZoneMembership(converter.removeZoneMembership(elementProperties));
+            ((NotificationSubscriberProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+            ((NotificationSubscriberProperties)relationshipBeanProperties).setLastNotification(converter.removeLastNotification(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.OPERATING_PLATFORM_MANIFEST_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new OperatingPlatformManifestProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.OPERATING_PLATFORM_USE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new OperatingPlatformUseProperties();
+
+            ((OperatingPlatformUseProperties)relationshipBeanProperties).setInstallTime(converter.removeInstallTime(elementProperties));
+            ((OperatingPlatformUseProperties)relationshipBeanProperties).setDeployer(converter.removeDeployer(elementProperties));
+            ((OperatingPlatformUseProperties)relationshipBeanProperties).setDeployerTypeName(converter.removeDeployerTypeName(elementProperties));
+            ((OperatingPlatformUseProperties)relationshipBeanProperties).setDeployerPropertyName(converter.removeDeployerPropertyName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PEER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new PeerProperties();
+
+            ((PeerProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((PeerProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PEER_DUPLICATE_LINK.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new PeerDuplicateLinkProperties();
+
+            ((PeerDuplicateLinkProperties)relationshipBeanProperties).setStatusIdentifier(converter.removeStatusIdentifier(elementProperties));
+            ((PeerDuplicateLinkProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((PeerDuplicateLinkProperties)relationshipBeanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((PeerDuplicateLinkProperties)relationshipBeanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((PeerDuplicateLinkProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+            ((PeerDuplicateLinkProperties)relationshipBeanProperties).setNotes(converter.removeNotes(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PERMITTED_PROCESSING_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new PermittedProcessingProperties();
+
+            ((PermittedProcessingProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((PermittedProcessingProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PERSON_ROLE_APPOINTMENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new PersonRoleAppointmentProperties();
+
+            ((PersonRoleAppointmentProperties)relationshipBeanProperties).setExpectedTimeAllocationPercent(converter.removeExpectedTimeAllocationPercent(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PORT_DELEGATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new PortDelegationProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PREFERRED_TERM_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new PreferredTermProperties();
+
+            ((PreferredTermProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((PreferredTermProperties)relationshipBeanProperties).setExpression(converter.removeExpression(elementProperties));
+            ((PreferredTermProperties)relationshipBeanProperties).setTermRelationshipStatus(converter.removeTermRelationshipStatus(elementProperties));
+            ((PreferredTermProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((PreferredTermProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((PreferredTermProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PROCESS_CALL_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ProcessCallProperties();
+
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(converter.removeOneWay(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(converter.removeIntegrationStyle(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(converter.removeProtocol(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(converter.removeFrequency(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(converter.removeDataExchanged(elementProperties));
+            ((ProcessCallProperties)relationshipBeanProperties).setFormula(converter.removeFormula(elementProperties));
+            ((ProcessCallProperties)relationshipBeanProperties).setFormulaType(converter.removeFormulaType(elementProperties));
+            ((ProcessCallProperties)relationshipBeanProperties).setLineNumber(converter.removeLineNumber(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PROCESS_HIERARCHY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ProcessHierarchyProperties();
+
+            ((ProcessHierarchyProperties)relationshipBeanProperties).setContainmentType(converter.removeContainmentType(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PROCESS_PORT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ProcessPortProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PROFILE_IDENTITY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ProfileIdentityProperties();
+
+            ((ProfileIdentityProperties)relationshipBeanProperties).setRoleTypeName(converter.removeRoleTypeName(elementProperties));
+            ((ProfileIdentityProperties)relationshipBeanProperties).setRoleGUID(converter.removeRoleGUID(elementProperties));
+            ((ProfileIdentityProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PROJECT_DEPENDENCY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ProjectDependencyProperties();
+
+            ((ProjectDependencyProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ProjectDependencyProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.PROJECT_HIERARCHY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ProjectHierarchyProperties();
+
+            ((ProjectHierarchyProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ProjectHierarchyProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REFERENCEABLE_FACET_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ReferenceableFacetProperties();
+
+            ((ReferenceableFacetProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+            ((ReferenceableFacetProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ReferenceableFacetProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REFERENCE_VALUE_ASSIGNMENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ReferenceValueAssignmentProperties();
+
+            ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setAttributeName(converter.removeAttributeName(elementProperties));
+            ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setNotes(converter.removeNotes(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REGISTERED_INTEGRATION_CONNECTOR_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RegisteredIntegrationConnectorProperties();
+
+            ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setConnectorName(converter.removeConnectorName(elementProperties));
+            ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setConnectorUserId(converter.removeConnectorUserId(elementProperties));
+            ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setMetadataSourceQualifiedName(converter.removeMetadataSourceQualifiedName(elementProperties));
+            ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setMetadataCollectionQualifiedName(converter.removeMetadataCollectionQualifiedName(elementProperties));
+            ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setStartDate(converter.removeStartDate(elementProperties));
+            ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setRefreshTimeInterval(converter.removeRefreshTimeInterval(elementProperties));
+            ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setConnectorShutdownDate(converter.removeConnectorShutdownDate(elementProperties));
+            ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setPermittedSynchronization(converter.removePermittedSynchronization(elementProperties));
+            ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setGenerateConnectorActivityReports(converter.removeGenerateConnectorActivityReports(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REGULATION_CERTIFICATION_TYPE.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RegulationCertificationTypeProperties();
+
+            ((RegulationCertificationTypeProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((RegulationCertificationTypeProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REGULATOR_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RegulatorProperties();
+
+            ((RegulatorProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((RegulatorProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((RegulatorProperties)relationshipBeanProperties).setScope(converter.removeScope(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.RELATED_CONTEXT_EVENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RelatedContextEventProperties();
+
+            ((RelatedContextEventProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((RelatedContextEventProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((RelatedContextEventProperties)relationshipBeanProperties).setStatusIdentifier(converter.removeStatusIdentifier(elementProperties));
+            ((RelatedContextEventProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((RelatedContextEventProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((RelatedContextEventProperties)relationshipBeanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((RelatedContextEventProperties)relationshipBeanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((RelatedContextEventProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+            ((RelatedContextEventProperties)relationshipBeanProperties).setNotes(converter.removeNotes(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.RELATED_DESIGN_PATTERN_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RelatedDesignPatternProperties();
+
+            ((RelatedDesignPatternProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((RelatedDesignPatternProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.RELATED_TERM_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RelatedTermProperties();
+
+            ((RelatedTermProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((RelatedTermProperties)relationshipBeanProperties).setExpression(converter.removeExpression(elementProperties));
+            ((RelatedTermProperties)relationshipBeanProperties).setTermRelationshipStatus(converter.removeTermRelationshipStatus(elementProperties));
+            ((RelatedTermProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((RelatedTermProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((RelatedTermProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.RELATIONAL_DB_SCHEMA.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RelationalDBSchemaProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REPLACEMENT_TERM_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ReplacementTermProperties();
+
+            ((ReplacementTermProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((ReplacementTermProperties)relationshipBeanProperties).setExpression(converter.removeExpression(elementProperties));
+            ((ReplacementTermProperties)relationshipBeanProperties).setTermRelationshipStatus(converter.removeTermRelationshipStatus(elementProperties));
+            ((ReplacementTermProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((ReplacementTermProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ReplacementTermProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REPORTED_ANNOTATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ReportedAnnotationProperties();
+
+            ((ReportedAnnotationProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ReportedAnnotationProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REPORT_DEPENDENCY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ReportDependencyProperties();
+
+            ((ReportDependencyProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ReportDependencyProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REPORT_ORIGINATOR_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ReportOriginatorProperties();
+
+            ((ReportOriginatorProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ReportOriginatorProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REPORT_SUBJECT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ReportSubjectProperties();
+
+            ((ReportSubjectProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ReportSubjectProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.REQUEST_FOR_ACTION_TARGET_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RequestForActionTargetProperties();
+
+            ((RequestForActionTargetProperties)relationshipBeanProperties).setActionTargetName(converter.removeActionTargetName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.RESOURCE_LIST_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ResourceListProperties();
+
+            ((ResourceListProperties)relationshipBeanProperties).setResourceUse(converter.removeResourceUse(elementProperties));
+            ((ResourceListProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            String label = converter.removeLabel(elementProperties);
+            if (label == null)
+            {
+                label = converter.removeDisplayName(elementProperties);
+            }
+            ((ResourceListProperties)relationshipBeanProperties).setLabel(label);
+            ((ResourceListProperties)relationshipBeanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.RESOURCE_PERMISSIONS_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ResourcePermissionsProperties();
+
+            ((ResourcePermissionsProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((ResourcePermissionsProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.RESOURCE_PROFILE_DATA_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ResourceProfileDataProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.ROLED_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RoledRelationshipProperties();
+
+            ((RoledRelationshipProperties)relationshipBeanProperties).setRole(converter.removeRole(elementProperties));
+            ((RoledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SAMPLE_DATA_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SampleDataProperties();
+
+            ((SampleDataProperties)relationshipBeanProperties).setSamplingMethod(converter.removeSamplingMethod(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SCHEMA_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SchemaProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SCHEMA_ATTRIBUTE_DEFINITION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SchemaAttributeDefinitionProperties();
+
+            ((SchemaAttributeDefinitionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((SchemaAttributeDefinitionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SCHEMA_TYPE_DEFINITION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SchemaTypeDefinitionProperties();
+
+            ((SchemaTypeDefinitionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((SchemaTypeDefinitionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SCHEMA_TYPE_OPTION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SchemaTypeOptionProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SCOPED_BY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ScopedByProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SEARCH_KEYWORD_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SearchKeywordLinkProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SECRETS_COLLECTION_SECURITY_LIST_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SecretsCollectionSecurityListProperties();
+
+            ((SecretsCollectionSecurityListProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((SecretsCollectionSecurityListProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SEMANTIC_ASSIGNMENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SemanticAssignmentProperties();
+
+            ((SemanticAssignmentProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((SemanticAssignmentProperties)relationshipBeanProperties).setExpression(converter.removeExpression(elementProperties));
+            ((SemanticAssignmentProperties)relationshipBeanProperties).setTermAssignmentStatus(converter.removeTermAssignmentStatus(elementProperties));
+            ((SemanticAssignmentProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((SemanticAssignmentProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((SemanticAssignmentProperties)relationshipBeanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((SemanticAssignmentProperties)relationshipBeanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((SemanticAssignmentProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
+            ((SemanticAssignmentProperties)relationshipBeanProperties).setNotes(converter.removeNotes(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SEMANTIC_DEFINITION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SemanticDefinitionProperties();
+
+            ((SemanticDefinitionProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((SemanticDefinitionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SERVER_ENDPOINT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ServerEndpointProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SOLUTION_COMPONENT_ACTOR_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SolutionComponentActorProperties();
+
+            ((SolutionComponentActorProperties)relationshipBeanProperties).setRole(converter.removeRole(elementProperties));
+            ((SolutionComponentActorProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SOLUTION_COMPONENT_PORT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SolutionComponentPortProperties();
+
+            ((SolutionComponentPortProperties)relationshipBeanProperties).setRole(converter.removeRole(elementProperties));
+            ((SolutionComponentPortProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SOLUTION_COMPOSITION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SolutionCompositionProperties();
+
+            ((SolutionCompositionProperties)relationshipBeanProperties).setRole(converter.removeRole(elementProperties));
+            ((SolutionCompositionProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SOLUTION_DESIGN_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SolutionDesignProperties();
+
+            ((SolutionDesignProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((SolutionDesignProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SOLUTION_LINKING_WIRE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SolutionLinkingWireProperties();
+
+            ((SolutionLinkingWireProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((SolutionLinkingWireProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((SolutionLinkingWireProperties)relationshipBeanProperties).setISCQualifiedNames(converter.removeISCQualifiedNames(elementProperties));
+            ((SolutionLinkingWireProperties)relationshipBeanProperties).setOneWay(converter.removeOneWay(elementProperties));
+            ((SolutionLinkingWireProperties)relationshipBeanProperties).setIntegrationStyle(converter.removeIntegrationStyle(elementProperties));
+            ((SolutionLinkingWireProperties)relationshipBeanProperties).setProtocol(converter.removeProtocol(elementProperties));
+            ((SolutionLinkingWireProperties)relationshipBeanProperties).setFrequency(converter.removeFrequency(elementProperties));
+            ((SolutionLinkingWireProperties)relationshipBeanProperties).setDataExchanged(converter.removeDataExchanged(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SOLUTION_PORT_DELEGATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SolutionPortDelegationProperties();
+
+            ((SolutionPortDelegationProperties)relationshipBeanProperties).setRole(converter.removeRole(elementProperties));
+            ((SolutionPortDelegationProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SOURCED_FROM_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SourcedFromProperties();
+
+            ((SourcedFromProperties)relationshipBeanProperties).setSourceVersionNumber(converter.removeSourceVersionNumber(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SPECIALIZED_DESIGN_PATTERN_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SpecializedDesignPatternProperties();
+
+            ((SpecializedDesignPatternProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((SpecializedDesignPatternProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SPECIFICATION_PROPERTY_ASSIGNMENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SpecificationPropertyAssignmentProperties();
+
+            ((SpecificationPropertyAssignmentProperties)relationshipBeanProperties).setPropertyName(converter.removePropertyName(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SOFTWARE_PACKAGE_DEPENDENCY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SoftwarePackageDependencyProperties();
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.SMART_QUERY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SmartQueryProperties();
+
+            ((SmartQueryProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((SmartQueryProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        dispatchTable.register(OpenMetadataType.STORED_ON_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new StoredOnProperties();
+
+            ((StoredOnProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((StoredOnProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
 
-                ((MemberDataFieldProperties)relationshipBeanProperties).setCoverageCategory(this.removeCoverageCategory(elementProperties));
-                ((MemberDataFieldProperties)relationshipBeanProperties).setPosition(this.removePosition(elementProperties));
-                ((MemberDataFieldProperties)relationshipBeanProperties).setMaxCardinality(this.removeMaxCardinality(elementProperties));
-                ((MemberDataFieldProperties)relationshipBeanProperties).setMinCardinality(this.removeMinCardinality(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.METADATA_COHORT_PEER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new MetadataCohortPeerProperties();
+        dispatchTable.register(OpenMetadataType.SUBJECT_AREA_HIERARCHY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SubjectAreaHierarchyProperties();
 
-                ((MetadataCohortPeerProperties)relationshipBeanProperties).setRegistrationDate(this.removeRegistrationDate(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.MONITORED_RESOURCE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new MonitoredResourceProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((MonitoredResourceProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((MonitoredResourceProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.MORE_INFORMATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new MoreInformationProperties();
+        dispatchTable.register(OpenMetadataType.SUPPORTED_GOVERNANCE_SERVICE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SupportedGovernanceServiceProperties();
 
-                ((MoreInformationProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((MoreInformationProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.NESTED_DATA_FIELD_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new NestedDataFieldProperties();
+            ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setRequestType(converter.removeRequestType(elementProperties));
+            ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setServiceRequestType(converter.removeServiceRequestType(elementProperties));
+            ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setRequestParameters(converter.removeRequestParameters(elementProperties));
+            ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setGenerateConnectorActivityReports(converter.removeGenerateConnectorActivityReports(elementProperties));
+            ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setDeleteMethod(converter.removeDeleteMethod(elementProperties));
 
-                ((NestedDataFieldProperties)relationshipBeanProperties).setCoverageCategory(this.removeCoverageCategory(elementProperties));
-                ((NestedDataFieldProperties)relationshipBeanProperties).setPosition(this.removePosition(elementProperties));
-                ((NestedDataFieldProperties)relationshipBeanProperties).setMaxCardinality(this.removeMaxCardinality(elementProperties));
-                ((NestedDataFieldProperties)relationshipBeanProperties).setMinCardinality(this.removeMinCardinality(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.NESTED_DESIGN_PATTERN_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new NestedDesignPatternProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((NestedDesignPatternProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((NestedDesignPatternProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.NESTED_FILE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new NestedFileProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.NESTED_LOCATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new NestedLocationProperties();
+        dispatchTable.register(OpenMetadataType.SUPPORTED_SOFTWARE_CAPABILITY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SupportedSoftwareCapabilityProperties();
 
-                ((NestedLocationProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((NestedLocationProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.NESTED_SCHEMA_ATTRIBUTE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new NestedSchemaAttributeProperties();
+            ((SupportedSoftwareCapabilityProperties)relationshipBeanProperties).setDeployer(converter.removeDeployer(elementProperties));
+            ((SupportedSoftwareCapabilityProperties)relationshipBeanProperties).setDeployerTypeName(converter.removeDeployerTypeName(elementProperties));
+            ((SupportedSoftwareCapabilityProperties)relationshipBeanProperties).setDeployerPropertyName(converter.removeDeployerPropertyName(elementProperties));
+            ((SupportedSoftwareCapabilityProperties)relationshipBeanProperties).setDeploymentTime(converter.removeDeploymentTime(elementProperties));
 
-                ((NestedSchemaAttributeProperties)relationshipBeanProperties).setCoverageCategory(this.removeCoverageCategory(elementProperties));
-                ((NestedSchemaAttributeProperties)relationshipBeanProperties).setPosition(this.removePosition(elementProperties));
-                ((NestedSchemaAttributeProperties)relationshipBeanProperties).setMaxCardinality(this.removeMaxCardinality(elementProperties));
-                ((NestedSchemaAttributeProperties)relationshipBeanProperties).setMinCardinality(this.removeMinCardinality(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.NETWORK_GATEWAY_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new NetworkGatewayLinkProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((NetworkGatewayLinkProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((NetworkGatewayLinkProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((NetworkGatewayLinkProperties)relationshipBeanProperties).setInternalEndpointAddress(this.removeInternalEndpointAddress(elementProperties));
-                ((NetworkGatewayLinkProperties)relationshipBeanProperties).setExternalEndpointAddress(this.removeExternalEndpointAddress(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.NEXT_GOVERNANCE_ACTION_PROCESS_STEP_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new NextGovernanceActionProcessStepProperties();
+        dispatchTable.register(OpenMetadataType.SUPPLEMENTARY_PROPERTIES_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SupplementaryPropertiesProperties();
 
-                ((NextGovernanceActionProcessStepProperties)relationshipBeanProperties).setGuard(this.removeGuard(elementProperties));
-                ((NextGovernanceActionProcessStepProperties)relationshipBeanProperties).setMandatoryGuard(this.removeMandatoryGuard(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.NOTIFICATION_SUBSCRIBER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new NotificationSubscriberProperties();
-
-                ((NotificationSubscriberProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((NotificationSubscriberProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((NotificationSubscriberProperties)relationshipBeanProperties).setActivityStatus(this.removeActivityStatus(elementProperties));
-                ((NotificationSubscriberProperties)relationshipBeanProperties).setZoneMembership(this.removeZoneMembership(elementProperties));
-                ((NotificationSubscriberProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-                ((NotificationSubscriberProperties)relationshipBeanProperties).setLastNotification(this.removeLastNotification(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.OPERATING_PLATFORM_MANIFEST_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new OperatingPlatformManifestProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.OPERATING_PLATFORM_USE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new OperatingPlatformUseProperties();
+            ((SupplementaryPropertiesProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((SupplementaryPropertiesProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
 
-                ((OperatingPlatformUseProperties)relationshipBeanProperties).setInstallTime(this.removeInstallTime(elementProperties));
-                ((OperatingPlatformUseProperties)relationshipBeanProperties).setDeployer(this.removeDeployer(elementProperties));
-                ((OperatingPlatformUseProperties)relationshipBeanProperties).setDeployerTypeName(this.removeDeployerTypeName(elementProperties));
-                ((OperatingPlatformUseProperties)relationshipBeanProperties).setDeployerPropertyName(this.removeDeployerPropertyName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PEER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new PeerProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((PeerProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((PeerProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PEER_DUPLICATE_LINK.typeName))
-            {
-                relationshipBeanProperties = new PeerDuplicateLinkProperties();
-
-                ((PeerDuplicateLinkProperties)relationshipBeanProperties).setStatusIdentifier(this.removeStatusIdentifier(elementProperties));
-                ((PeerDuplicateLinkProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((PeerDuplicateLinkProperties)relationshipBeanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((PeerDuplicateLinkProperties)relationshipBeanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((PeerDuplicateLinkProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-                ((PeerDuplicateLinkProperties)relationshipBeanProperties).setNotes(this.removeNotes(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PERMITTED_PROCESSING_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new PermittedProcessingProperties();
+        dispatchTable.register(OpenMetadataType.SYNONYM_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new SynonymProperties();
 
-                ((PermittedProcessingProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((PermittedProcessingProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PERSON_ROLE_APPOINTMENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new PersonRoleAppointmentProperties();
+            ((SynonymProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((SynonymProperties)relationshipBeanProperties).setExpression(converter.removeExpression(elementProperties));
+            ((SynonymProperties)relationshipBeanProperties).setTermRelationshipStatus(converter.removeTermRelationshipStatus(elementProperties));
+            ((SynonymProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((SynonymProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((SynonymProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
 
-                ((PersonRoleAppointmentProperties)relationshipBeanProperties).setExpectedTimeAllocationPercent(this.removeExpectedTimeAllocationPercent(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PORT_DELEGATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new PortDelegationProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PREFERRED_TERM_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new PreferredTermProperties();
-
-                ((PreferredTermProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((PreferredTermProperties)relationshipBeanProperties).setExpression(this.removeExpression(elementProperties));
-                ((PreferredTermProperties)relationshipBeanProperties).setTermRelationshipStatus(this.removeTermRelationshipStatus(elementProperties));
-                ((PreferredTermProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((PreferredTermProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((PreferredTermProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PROCESS_CALL_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ProcessCallProperties();
-
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(this.removeOneWay(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(this.removeIntegrationStyle(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(this.removeProtocol(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(this.removeFrequency(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(this.removeDataExchanged(elementProperties));
-                ((ProcessCallProperties)relationshipBeanProperties).setFormula(this.removeFormula(elementProperties));
-                ((ProcessCallProperties)relationshipBeanProperties).setFormulaType(this.removeFormulaType(elementProperties));
-                ((ProcessCallProperties)relationshipBeanProperties).setLineNumber(this.removeLineNumber(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PROCESS_HIERARCHY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ProcessHierarchyProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((ProcessHierarchyProperties)relationshipBeanProperties).setContainmentType(this.removeContainmentType(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PROCESS_PORT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ProcessPortProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PROFILE_IDENTITY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ProfileIdentityProperties();
+        dispatchTable.register(OpenMetadataType.TARGET_FOR_GOVERNANCE_ACTION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new TargetForGovernanceActionProperties();
 
-                ((ProfileIdentityProperties)relationshipBeanProperties).setRoleTypeName(this.removeRoleTypeName(elementProperties));
-                ((ProfileIdentityProperties)relationshipBeanProperties).setRoleGUID(this.removeRoleGUID(elementProperties));
-                ((ProfileIdentityProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PROJECT_DEPENDENCY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ProjectDependencyProperties();
+            ((TargetForGovernanceActionProperties)relationshipBeanProperties).setActionTargetName(converter.removeActionTargetName(elementProperties));
 
-                ((ProjectDependencyProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ProjectDependencyProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.PROJECT_HIERARCHY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ProjectHierarchyProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((ProjectHierarchyProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ProjectHierarchyProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REFERENCEABLE_FACET_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ReferenceableFacetProperties();
+        dispatchTable.register(OpenMetadataType.TEAM_ROLE_APPOINTMENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new TeamRoleAppointmentProperties();
 
-                ((ReferenceableFacetProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-                ((ReferenceableFacetProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ReferenceableFacetProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REFERENCE_VALUE_ASSIGNMENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ReferenceValueAssignmentProperties();
-
-                ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setAttributeName(this.removeAttributeName(elementProperties));
-                ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((ReferenceValueAssignmentProperties)relationshipBeanProperties).setNotes(this.removeNotes(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REGISTERED_INTEGRATION_CONNECTOR_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new RegisteredIntegrationConnectorProperties();
-
-                ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setConnectorName(this.removeConnectorName(elementProperties));
-                ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setConnectorUserId(this.removeConnectorUserId(elementProperties));
-                ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setMetadataSourceQualifiedName(this.removeMetadataSourceQualifiedName(elementProperties));
-                ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setMetadataCollectionQualifiedName(this.removeMetadataCollectionQualifiedName(elementProperties));
-                ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setStartDate(this.removeStartDate(elementProperties));
-                ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setRefreshTimeInterval(this.removeRefreshTimeInterval(elementProperties));
-                ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setConnectorShutdownDate(this.removeConnectorShutdownDate(elementProperties));
-                ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setPermittedSynchronization(this.removePermittedSynchronization(elementProperties));
-                ((RegisteredIntegrationConnectorProperties)relationshipBeanProperties).setGenerateConnectorActivityReports(this.removeGenerateConnectorActivityReports(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REGULATION_CERTIFICATION_TYPE.typeName))
-            {
-                relationshipBeanProperties = new RegulationCertificationTypeProperties();
+            ((TeamRoleAppointmentProperties)relationshipBeanProperties).setExpectedTimeAllocationPercent(converter.removeExpectedTimeAllocationPercent(elementProperties));
 
-                ((RegulationCertificationTypeProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((RegulationCertificationTypeProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REGULATOR_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new RegulatorProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((RegulatorProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((RegulatorProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((RegulatorProperties)relationshipBeanProperties).setScope(this.removeScope(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.RELATED_CONTEXT_EVENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new RelatedContextEventProperties();
-
-                ((RelatedContextEventProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((RelatedContextEventProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((RelatedContextEventProperties)relationshipBeanProperties).setStatusIdentifier(this.removeStatusIdentifier(elementProperties));
-                ((RelatedContextEventProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((RelatedContextEventProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((RelatedContextEventProperties)relationshipBeanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((RelatedContextEventProperties)relationshipBeanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((RelatedContextEventProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-                ((RelatedContextEventProperties)relationshipBeanProperties).setNotes(this.removeNotes(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.RELATED_DESIGN_PATTERN_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new RelatedDesignPatternProperties();
+        dispatchTable.register(OpenMetadataType.TEAM_STRUCTURE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new TeamStructureProperties();
 
-                ((RelatedDesignPatternProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((RelatedDesignPatternProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.RELATED_TERM_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new RelatedTermProperties();
-
-                ((RelatedTermProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((RelatedTermProperties)relationshipBeanProperties).setExpression(this.removeExpression(elementProperties));
-                ((RelatedTermProperties)relationshipBeanProperties).setTermRelationshipStatus(this.removeTermRelationshipStatus(elementProperties));
-                ((RelatedTermProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((RelatedTermProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((RelatedTermProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.RELATIONAL_DB_SCHEMA.typeName))
-            {
-                relationshipBeanProperties = new RelationalDBSchemaProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REPLACEMENT_TERM_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ReplacementTermProperties();
-
-                ((ReplacementTermProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((ReplacementTermProperties)relationshipBeanProperties).setExpression(this.removeExpression(elementProperties));
-                ((ReplacementTermProperties)relationshipBeanProperties).setTermRelationshipStatus(this.removeTermRelationshipStatus(elementProperties));
-                ((ReplacementTermProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((ReplacementTermProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ReplacementTermProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REPORTED_ANNOTATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ReportedAnnotationProperties();
+            ((TeamStructureProperties)relationshipBeanProperties).setDelegationEscalationAuthority(converter.removeDelegationEscalationAuthority(elementProperties));
 
-                ((ReportedAnnotationProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ReportedAnnotationProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REPORT_DEPENDENCY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ReportDependencyProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((ReportDependencyProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ReportDependencyProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REPORT_ORIGINATOR_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ReportOriginatorProperties();
+        dispatchTable.register(OpenMetadataType.TRANSLATION_LINK_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new TranslationLinkProperties();
 
-                ((ReportOriginatorProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ReportOriginatorProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REPORT_SUBJECT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ReportSubjectProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((ReportSubjectProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ReportSubjectProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.REQUEST_FOR_ACTION_TARGET_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new RequestForActionTargetProperties();
+        dispatchTable.register(OpenMetadataType.TYPED_BY_CONCEPT_BEAD_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new TypedByConceptBeadProperties();
 
-                ((RequestForActionTargetProperties)relationshipBeanProperties).setActionTargetName(this.removeActionTargetName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.RESOURCE_LIST_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ResourceListProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((ResourceListProperties)relationshipBeanProperties).setResourceUse(this.removeResourceUse(elementProperties));
-                ((ResourceListProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
+        dispatchTable.register(OpenMetadataType.ULTIMATE_DESTINATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new UltimateDestinationProperties();
 
-                String label = this.removeLabel(elementProperties);
-                if (label == null)
-                {
-                    label = this.removeDisplayName(elementProperties);
-                }
-                ((ResourceListProperties)relationshipBeanProperties).setLabel(label);
-                ((ResourceListProperties)relationshipBeanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.RESOURCE_PERMISSIONS_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ResourcePermissionsProperties();
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(converter.removeOneWay(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(converter.removeIntegrationStyle(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(converter.removeProtocol(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(converter.removeFrequency(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(converter.removeDataExchanged(elementProperties));
+            ((LineageBoundaryProperties)relationshipBeanProperties).setHops(converter.removeHops(elementProperties));
 
-                ((ResourcePermissionsProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((ResourcePermissionsProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
+            return relationshipBeanProperties;
+        });
 
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.RESOURCE_PROFILE_DATA_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ResourceProfileDataProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ROLED_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new RoledRelationshipProperties();
+        dispatchTable.register(OpenMetadataType.ULTIMATE_SOURCE_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new UltimateSourceProperties();
 
-                ((RoledRelationshipProperties)relationshipBeanProperties).setRole(this.removeRole(elementProperties));
-                ((RoledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SAMPLE_DATA_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SampleDataProperties();
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(converter.removeOneWay(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(converter.removeIntegrationStyle(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(converter.removeProtocol(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(converter.removeFrequency(elementProperties));
+            ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(converter.removeDataExchanged(elementProperties));
+            ((LineageBoundaryProperties)relationshipBeanProperties).setHops(converter.removeHops(elementProperties));
 
-                ((SampleDataProperties)relationshipBeanProperties).setSamplingMethod(this.removeSamplingMethod(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SCHEMA_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SchemaProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SCHEMA_ATTRIBUTE_DEFINITION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SchemaAttributeDefinitionProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((SchemaAttributeDefinitionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((SchemaAttributeDefinitionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SCHEMA_TYPE_DEFINITION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SchemaTypeDefinitionProperties();
+        dispatchTable.register(OpenMetadataType.USED_IN_CONTEXT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new UsedInContextProperties();
 
-                ((SchemaTypeDefinitionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((SchemaTypeDefinitionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SCHEMA_TYPE_OPTION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SchemaTypeOptionProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SCOPED_BY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ScopedByProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SEARCH_KEYWORD_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SearchKeywordLinkProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SECRETS_COLLECTION_SECURITY_LIST_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SecretsCollectionSecurityListProperties();
+            ((UsedInContextProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+            ((UsedInContextProperties)relationshipBeanProperties).setExpression(converter.removeExpression(elementProperties));
+            ((UsedInContextProperties)relationshipBeanProperties).setTermRelationshipStatus(converter.removeTermRelationshipStatus(elementProperties));
+            ((UsedInContextProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((UsedInContextProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((UsedInContextProperties)relationshipBeanProperties).setSource(converter.removeSource(elementProperties));
 
-                ((SecretsCollectionSecurityListProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((SecretsCollectionSecurityListProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
+            return relationshipBeanProperties;
+        });
 
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SEMANTIC_ASSIGNMENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SemanticAssignmentProperties();
-
-                ((SemanticAssignmentProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((SemanticAssignmentProperties)relationshipBeanProperties).setExpression(this.removeExpression(elementProperties));
-                ((SemanticAssignmentProperties)relationshipBeanProperties).setTermAssignmentStatus(this.removeTermAssignmentStatus(elementProperties));
-                ((SemanticAssignmentProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((SemanticAssignmentProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((SemanticAssignmentProperties)relationshipBeanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((SemanticAssignmentProperties)relationshipBeanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((SemanticAssignmentProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-                ((SemanticAssignmentProperties)relationshipBeanProperties).setNotes(this.removeNotes(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SEMANTIC_DEFINITION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SemanticDefinitionProperties();
+        dispatchTable.register(OpenMetadataType.USER_ACCOUNT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new UserAccountProperties();
 
-                ((SemanticDefinitionProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((SemanticDefinitionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SERVER_ENDPOINT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ServerEndpointProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SOLUTION_COMPONENT_ACTOR_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SolutionComponentActorProperties();
+            ((UserAccountProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((UserAccountProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
 
-                ((SolutionComponentActorProperties)relationshipBeanProperties).setRole(this.removeRole(elementProperties));
-                ((SolutionComponentActorProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SOLUTION_COMPONENT_PORT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SolutionComponentPortProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((SolutionComponentPortProperties)relationshipBeanProperties).setRole(this.removeRole(elementProperties));
-                ((SolutionComponentPortProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SOLUTION_COMPOSITION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SolutionCompositionProperties();
+        dispatchTable.register(OpenMetadataType.VALID_VALUE_ASSOCIATION_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ValidValueAssociationProperties();
 
-                ((SolutionCompositionProperties)relationshipBeanProperties).setRole(this.removeRole(elementProperties));
-                ((SolutionCompositionProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SOLUTION_DESIGN_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SolutionDesignProperties();
+            ((ValidValueAssociationProperties)relationshipBeanProperties).setAssociationName(converter.removeAssociationName(elementProperties));
+            ((ValidValueAssociationProperties)relationshipBeanProperties).setAssociationType(converter.removeAssociationType(elementProperties));
+            ((ValidValueAssociationProperties)relationshipBeanProperties).setAdditionalProperties(converter.removeAdditionalProperties(elementProperties));
 
-                ((SolutionDesignProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((SolutionDesignProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SOLUTION_LINKING_WIRE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SolutionLinkingWireProperties();
-
-                ((SolutionLinkingWireProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((SolutionLinkingWireProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((SolutionLinkingWireProperties)relationshipBeanProperties).setISCQualifiedNames(this.removeISCQualifiedNames(elementProperties));
-                ((SolutionLinkingWireProperties)relationshipBeanProperties).setOneWay(this.removeOneWay(elementProperties));
-                ((SolutionLinkingWireProperties)relationshipBeanProperties).setIntegrationStyle(this.removeIntegrationStyle(elementProperties));
-                ((SolutionLinkingWireProperties)relationshipBeanProperties).setProtocol(this.removeProtocol(elementProperties));
-                ((SolutionLinkingWireProperties)relationshipBeanProperties).setFrequency(this.removeFrequency(elementProperties));
-                ((SolutionLinkingWireProperties)relationshipBeanProperties).setDataExchanged(this.removeDataExchanged(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SOLUTION_PORT_DELEGATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SolutionPortDelegationProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((SolutionPortDelegationProperties)relationshipBeanProperties).setRole(this.removeRole(elementProperties));
-                ((SolutionPortDelegationProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SOURCED_FROM_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SourcedFromProperties();
+        dispatchTable.register(OpenMetadataType.VALID_VALUE_MEMBER_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ValidValueMemberProperties();
 
-                ((SourcedFromProperties)relationshipBeanProperties).setSourceVersionNumber(this.removeSourceVersionNumber(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SPECIALIZED_DESIGN_PATTERN_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SpecializedDesignPatternProperties();
+            ((ValidValueMemberProperties)relationshipBeanProperties).setOrdinal(converter.removeOrdinal(elementProperties));
+            ((ValidValueMemberProperties)relationshipBeanProperties).setIsDefaultValue(converter.removeIsDefaultValue(elementProperties));
 
-                ((SpecializedDesignPatternProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((SpecializedDesignPatternProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SPECIFICATION_PROPERTY_ASSIGNMENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SpecificationPropertyAssignmentProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((SpecificationPropertyAssignmentProperties)relationshipBeanProperties).setPropertyName(this.removePropertyName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SOFTWARE_PACKAGE_DEPENDENCY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SoftwarePackageDependencyProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SMART_QUERY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SmartQueryProperties();
+        dispatchTable.register(OpenMetadataType.VALID_VALUES_ASSIGNMENT_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ValidValuesAssignmentProperties();
 
-                ((SmartQueryProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((SmartQueryProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.STORED_ON_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new StoredOnProperties();
+            ((ValidValuesAssignmentProperties)relationshipBeanProperties).setStrictRequirement(converter.removeStrictRequirement(elementProperties));
 
-                ((StoredOnProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((StoredOnProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SUBJECT_AREA_HIERARCHY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SubjectAreaHierarchyProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SUPPORTED_GOVERNANCE_SERVICE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SupportedGovernanceServiceProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setRequestType(this.removeRequestType(elementProperties));
-                ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setServiceRequestType(this.removeServiceRequestType(elementProperties));
-                ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setRequestParameters(this.removeRequestParameters(elementProperties));
-                ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setGenerateConnectorActivityReports(this.removeGenerateConnectorActivityReports(elementProperties));
-                ((SupportedGovernanceServiceProperties)relationshipBeanProperties).setDeleteMethod(this.removeDeleteMethod(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SUPPORTED_SOFTWARE_CAPABILITY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SupportedSoftwareCapabilityProperties();
+        dispatchTable.register(OpenMetadataType.VALID_VALUES_IMPL_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ValidValuesImplementationProperties();
 
-                ((SupportedSoftwareCapabilityProperties)relationshipBeanProperties).setDeployer(this.removeDeployer(elementProperties));
-                ((SupportedSoftwareCapabilityProperties)relationshipBeanProperties).setDeployerTypeName(this.removeDeployerTypeName(elementProperties));
-                ((SupportedSoftwareCapabilityProperties)relationshipBeanProperties).setDeployerPropertyName(this.removeDeployerPropertyName(elementProperties));
-                ((SupportedSoftwareCapabilityProperties)relationshipBeanProperties).setDeploymentTime(this.removeDeploymentTime(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SUPPLEMENTARY_PROPERTIES_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SupplementaryPropertiesProperties();
+            ((ValidValuesImplementationProperties)relationshipBeanProperties).setSymbolicName(converter.removeSymbolicName(elementProperties));
+            ((ValidValuesImplementationProperties)relationshipBeanProperties).setImplementationValue(converter.removeImplementationValue(elementProperties));
+            ((ValidValuesImplementationProperties)relationshipBeanProperties).setAdditionalValues(converter.removeAdditionalValues(elementProperties));
 
-                ((SupplementaryPropertiesProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((SupplementaryPropertiesProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.SYNONYM_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new SynonymProperties();
-
-                ((SynonymProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((SynonymProperties)relationshipBeanProperties).setExpression(this.removeExpression(elementProperties));
-                ((SynonymProperties)relationshipBeanProperties).setTermRelationshipStatus(this.removeTermRelationshipStatus(elementProperties));
-                ((SynonymProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((SynonymProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((SynonymProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.TARGET_FOR_GOVERNANCE_ACTION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new TargetForGovernanceActionProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((TargetForGovernanceActionProperties)relationshipBeanProperties).setActionTargetName(this.removeActionTargetName(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.TEAM_ROLE_APPOINTMENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new TeamRoleAppointmentProperties();
+        dispatchTable.register(OpenMetadataType.VALID_VALUES_MAPPING_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ValidValuesMappingProperties();
 
-                ((TeamRoleAppointmentProperties)relationshipBeanProperties).setExpectedTimeAllocationPercent(this.removeExpectedTimeAllocationPercent(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.TEAM_STRUCTURE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new TeamStructureProperties();
+            ((ValidValuesMappingProperties)relationshipBeanProperties).setAssociationDescription(converter.removeAssociationDescription(elementProperties));
+            ((ValidValuesMappingProperties)relationshipBeanProperties).setConfidence(converter.removeConfidence(elementProperties));
+            ((ValidValuesMappingProperties)relationshipBeanProperties).setSteward(converter.removeSteward(elementProperties));
+            ((ValidValuesMappingProperties)relationshipBeanProperties).setStewardTypeName(converter.removeStewardTypeName(elementProperties));
+            ((ValidValuesMappingProperties)relationshipBeanProperties).setStewardPropertyName(converter.removeStewardPropertyName(elementProperties));
+            ((ValidValuesMappingProperties)relationshipBeanProperties).setNotes(converter.removeNotes(elementProperties));
 
-                ((TeamStructureProperties)relationshipBeanProperties).setDelegationEscalationAuthority(this.removeDelegationEscalationAuthority(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.TRANSLATION_LINK_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new TranslationLinkProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.TYPED_BY_CONCEPT_BEAD_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new TypedByConceptBeadProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ULTIMATE_DESTINATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new UltimateDestinationProperties();
-
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(this.removeOneWay(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(this.removeIntegrationStyle(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(this.removeProtocol(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(this.removeFrequency(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(this.removeDataExchanged(elementProperties));
-                ((LineageBoundaryProperties)relationshipBeanProperties).setHops(this.removeHops(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ULTIMATE_SOURCE_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new UltimateSourceProperties();
-
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(this.removeOneWay(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(this.removeIntegrationStyle(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(this.removeProtocol(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(this.removeFrequency(elementProperties));
-                ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(this.removeDataExchanged(elementProperties));
-                ((LineageBoundaryProperties)relationshipBeanProperties).setHops(this.removeHops(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.USED_IN_CONTEXT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new UsedInContextProperties();
-
-                ((UsedInContextProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-                ((UsedInContextProperties)relationshipBeanProperties).setExpression(this.removeExpression(elementProperties));
-                ((UsedInContextProperties)relationshipBeanProperties).setTermRelationshipStatus(this.removeTermRelationshipStatus(elementProperties));
-                ((UsedInContextProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((UsedInContextProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((UsedInContextProperties)relationshipBeanProperties).setSource(this.removeSource(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.USER_ACCOUNT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new UserAccountProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((UserAccountProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((UserAccountProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
+        dispatchTable.register(OpenMetadataType.VISIBLE_ENDPOINT.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new VisibleEndpointProperties();
 
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.VALID_VALUE_ASSOCIATION_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ValidValueAssociationProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((ValidValueAssociationProperties)relationshipBeanProperties).setAssociationName(this.removeAssociationName(elementProperties));
-                ((ValidValueAssociationProperties)relationshipBeanProperties).setAssociationType(this.removeAssociationType(elementProperties));
-                ((ValidValueAssociationProperties)relationshipBeanProperties).setAdditionalProperties(this.removeAdditionalProperties(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.VALID_VALUE_MEMBER_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ValidValueMemberProperties();
+        dispatchTable.register(OpenMetadataType.ZONE_HIERARCHY_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new ZoneHierarchyProperties();
 
-                ((ValidValueMemberProperties)relationshipBeanProperties).setOrdinal(this.removeOrdinal(elementProperties));
-                ((ValidValueMemberProperties)relationshipBeanProperties).setIsDefaultValue(this.removeIsDefaultValue(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.VALID_VALUES_ASSIGNMENT_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ValidValuesAssignmentProperties();
+            return relationshipBeanProperties;
+        });
 
-                ((ValidValuesAssignmentProperties)relationshipBeanProperties).setStrictRequirement(this.removeStrictRequirement(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.VALID_VALUES_IMPL_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ValidValuesImplementationProperties();
+        dispatchTable.register(OpenMetadataType.LABELED_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties;
 
-                ((ValidValuesImplementationProperties)relationshipBeanProperties).setSymbolicName(this.removeSymbolicName(elementProperties));
-                ((ValidValuesImplementationProperties)relationshipBeanProperties).setImplementationValue(this.removeImplementationValue(elementProperties));
-                ((ValidValuesImplementationProperties)relationshipBeanProperties).setAdditionalValues(this.removeAdditionalValues(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.VALID_VALUES_MAPPING_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ValidValuesMappingProperties();
-
-                ((ValidValuesMappingProperties)relationshipBeanProperties).setAssociationDescription(this.removeAssociationDescription(elementProperties));
-                ((ValidValuesMappingProperties)relationshipBeanProperties).setConfidence(this.removeConfidence(elementProperties));
-                ((ValidValuesMappingProperties)relationshipBeanProperties).setSteward(this.removeSteward(elementProperties));
-                ((ValidValuesMappingProperties)relationshipBeanProperties).setStewardTypeName(this.removeStewardTypeName(elementProperties));
-                ((ValidValuesMappingProperties)relationshipBeanProperties).setStewardPropertyName(this.removeStewardPropertyName(elementProperties));
-                ((ValidValuesMappingProperties)relationshipBeanProperties).setNotes(this.removeNotes(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.VISIBLE_ENDPOINT.typeName))
-            {
-                relationshipBeanProperties = new VisibleEndpointProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ZONE_HIERARCHY_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new ZoneHierarchyProperties();
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.LABELED_RELATIONSHIP.typeName))
+            if (converter.propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.LINEAGE_RELATIONSHIP.typeName))
             {
-                if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.LINEAGE_RELATIONSHIP.typeName))
+                if (converter.propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_LINEAGE_RELATIONSHIP.typeName))
                 {
-                    if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.DATA_LINEAGE_RELATIONSHIP.typeName))
-                    {
-                        relationshipBeanProperties = new DataLineageRelationshipProperties();
+                    relationshipBeanProperties = new DataLineageRelationshipProperties();
 
-                        ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(this.removeOneWay(elementProperties));
-                        ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(this.removeIntegrationStyle(elementProperties));
-                        ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(this.removeProtocol(elementProperties));
-                        ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(this.removeFrequency(elementProperties));
-                        ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(this.removeDataExchanged(elementProperties));
-                    }
-                    else
-                    {
-                        relationshipBeanProperties = new LineageRelationshipProperties();
-                    }
-
-                    ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(this.removeISCQualifiedName(elementProperties));
+                    ((DataLineageRelationshipProperties)relationshipBeanProperties).setOneWay(converter.removeOneWay(elementProperties));
+                    ((DataLineageRelationshipProperties)relationshipBeanProperties).setIntegrationStyle(converter.removeIntegrationStyle(elementProperties));
+                    ((DataLineageRelationshipProperties)relationshipBeanProperties).setProtocol(converter.removeProtocol(elementProperties));
+                    ((DataLineageRelationshipProperties)relationshipBeanProperties).setFrequency(converter.removeFrequency(elementProperties));
+                    ((DataLineageRelationshipProperties)relationshipBeanProperties).setDataExchanged(converter.removeDataExchanged(elementProperties));
                 }
                 else
                 {
-                    relationshipBeanProperties = new LabeledRelationshipProperties();
+                    relationshipBeanProperties = new LineageRelationshipProperties();
                 }
 
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(this.removeLabel(elementProperties));
-                ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-            }
-            else if (propertyHelper.isTypeOf(relationshipHeader, OpenMetadataType.ROLED_RELATIONSHIP.typeName))
-            {
-                relationshipBeanProperties = new RoledRelationshipProperties();
-
-                ((RoledRelationshipProperties)relationshipBeanProperties).setRole(this.removeRole(elementProperties));
-                ((RoledRelationshipProperties)relationshipBeanProperties).setDescription(this.removeDescription(elementProperties));
-
+                ((LineageRelationshipProperties)relationshipBeanProperties).setISCQualifiedName(converter.removeISCQualifiedName(elementProperties));
             }
             else
             {
-                relationshipBeanProperties = new RelationshipBeanProperties();
+                relationshipBeanProperties = new LabeledRelationshipProperties();
             }
 
-            /*
-             * Any remaining properties are returned in the extended properties.  They are
-             * assumed to be defined in a subtype that we don't know about - but it also helps to catch
-             * missing mappings in the code above.
-             */
-            relationshipBeanProperties.setTypeName(relationshipHeader.getType().getTypeName());
-            relationshipBeanProperties.setExtendedProperties(this.getRemainingExtendedProperties(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setLabel(converter.removeLabel(elementProperties));
+            ((LabeledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
 
             return relationshipBeanProperties;
-        }
+        });
 
-        return null;
+        dispatchTable.register(OpenMetadataType.ROLED_RELATIONSHIP.typeName, (converter, relationshipHeader, elementProperties) ->
+        {
+            RelationshipBeanProperties relationshipBeanProperties = new RoledRelationshipProperties();
+
+            ((RoledRelationshipProperties)relationshipBeanProperties).setRole(converter.removeRole(elementProperties));
+            ((RoledRelationshipProperties)relationshipBeanProperties).setDescription(converter.removeDescription(elementProperties));
+
+            return relationshipBeanProperties;
+        });
+
+        return dispatchTable;
     }
 
 
@@ -17493,5 +18345,28 @@ public class OpenMetadataPropertyConverterBase
     }
 
 
-}
 
+
+    /**
+     * BeanPropertiesConverter creates the bean properties for a particular type of element.  Each converter removes
+     * the properties it maps from the element properties.
+     *
+     * @param <H> type of element header
+     * @param <B> type of bean properties
+     */
+    @FunctionalInterface
+    private interface BeanPropertiesConverter<H extends ElementControlHeader, B>
+    {
+        /**
+         * Create and fill the bean properties.
+         *
+         * @param converter converter supplying the property extraction methods
+         * @param elementHeader header of the element
+         * @param elementProperties properties from the element (updated)
+         * @return bean properties
+         */
+        B getBeanProperties(OpenMetadataPropertyConverterBase converter,
+                            H                                 elementHeader,
+                            ElementProperties                 elementProperties);
+    }
+}
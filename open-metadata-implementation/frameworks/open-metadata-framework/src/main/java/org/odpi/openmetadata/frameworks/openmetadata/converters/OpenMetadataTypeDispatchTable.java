@@ -0,0 +1,114 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.openmetadata.converters;
+
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementControlHeader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OpenMetadataTypeDispatchTable selects the converter to use for an element from its type.  Converters are registered
+ * against open metadata type names in priority order.  The converter for an element is the first registered
+ * converter whose type is the element's type or one of its supertypes - which is the same answer as a chain of
+ * isTypeOf() tests in the same order.  The answer is remembered for each element type name, so after the first
+ * element of a type, selecting the converter is a single lookup.
+ *
+ * @param <C> type of converter
+ */
+class OpenMetadataTypeDispatchTable<C>
+{
+    private static final int noConverter = -1;
+
+    private final Map<String, Integer> registeredTypeNames = new HashMap<>();
+    private final List<C>              converters          = new ArrayList<>();
+    private final Map<String, Integer> resolvedTypeNames   = new ConcurrentHashMap<>();
+
+
+    /**
+     * Register a converter for a type.  This is only called while the table is being built.  If the type is
+     * already registered, the original converter is kept.
+     *
+     * @param typeName name of the open metadata type
+     * @param converter converter for elements of this type (and its subtypes)
+     */
+    void register(String typeName,
+                  C      converter)
+    {
+        if (! registeredTypeNames.containsKey(typeName))
+        {
+            registeredTypeNames.put(typeName, converters.size());
+            converters.add(converter);
+        }
+    }
+
+
+    /**
+     * Return the converter for the supplied element.
+     *
+     * @param elementControlHeader header of the element
+     * @return converter or null if none of the registered types match
+     */
+    C getConverter(ElementControlHeader elementControlHeader)
+    {
+        if ((elementControlHeader == null) || (elementControlHeader.getType() == null) || (elementControlHeader.getType().getTypeName() == null))
+        {
+            return null;
+        }
+
+        String  typeName       = elementControlHeader.getType().getTypeName();
+        Integer converterIndex = resolvedTypeNames.get(typeName);
+
+        if (converterIndex == null)
+        {
+            converterIndex = this.resolveConverterIndex(typeName, elementControlHeader.getType().getSuperTypeNames());
+
+            resolvedTypeNames.put(typeName, converterIndex);
+        }
+
+        if (converterIndex == noConverter)
+        {
+            return null;
+        }
+
+        return converters.get(converterIndex);
+    }
+
+
+    /**
+     * Find the highest priority converter registered for the type or one of its supertypes.
+     *
+     * @param typeName name of the element's type
+     * @param superTypeNames names of the element type's supertypes
+     * @return index of the converter or noConverter
+     */
+    private int resolveConverterIndex(String       typeName,
+                                      List<String> superTypeNames)
+    {
+        int     converterIndex = noConverter;
+        Integer typeIndex      = registeredTypeNames.get(typeName);
+
+        if (typeIndex != null)
+        {
+            converterIndex = typeIndex;
+        }
+
+        if (superTypeNames != null)
+        {
+            for (String superTypeName : superTypeNames)
+            {
+                Integer superTypeIndex = registeredTypeNames.get(superTypeName);
+
+                if ((superTypeIndex != null) && ((converterIndex == noConverter) || (superTypeIndex < converterIndex)))
+                {
+                    converterIndex = superTypeIndex;
+                }
+            }
+        }
+
+        return converterIndex;
+    }
+}
@@ -3361,6 +3361,38 @@ public class AssetHandler extends OpenMetadataHandlerBase
                                                   QueryOptions suppliedQueryOptions) throws InvalidParameterException,
                                                                                             PropertyServerException,
                                                                                             UserNotAuthorizedException
+    {
+        LineageTraversalOptions traversalOptions = new LineageTraversalOptions(suppliedQueryOptions);
+
+        traversalOptions.setLimitToISCQualifiedName(limitToISCQualifiedName);
+        traversalOptions.setAllAnchors(allAnchors);
+
+        return this.getAssetLineageGraph(userId, assetGUID, highlightISCQualifiedName, traversalOptions);
+    }
+
+
+    /**
+     * Return all the elements that are linked to an asset using lineage relationships.  The relationships are
+     * retrieved both from the asset, and the anchored schema elements.  The lineage graph is traversed by the
+     * metadata store in a single request.  The traversal options can limit the depth, number of elements and
+     * time taken by the traversal.
+     *
+     * @param userId the userId of the requesting user
+     * @param assetGUID  unique identifier for the asset
+     * @param highlightISCQualifiedName Return whether a particular information supply chain should be highlighted.
+     * @param suppliedTraversalOptions options to control the traversal and the query
+     *
+     * @return graph of elements or
+     * @throws InvalidParameterException - one of the parameters is null or invalid or
+     * @throws PropertyServerException - a problem retrieving the connected asset properties from the property server or
+     * @throws UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public AssetLineageGraph getAssetLineageGraph(String                  userId,
+                                                  String                  assetGUID,
+                                                  String                  highlightISCQualifiedName,
+                                                  LineageTraversalOptions suppliedTraversalOptions) throws InvalidParameterException,
+                                                                                                           PropertyServerException,
+                                                                                                           UserNotAuthorizedException
     {
         final String methodName    = "getAssetLineageGraph";
         final String guidParameter = "assetGUID";
@@ -3368,29 +3400,46 @@ public class AssetHandler extends OpenMetadataHandlerBase
         propertyHelper.validateUserId(userId, methodName);
         propertyHelper.validateGUID(assetGUID, guidParameter, methodName);
 
-        List<AssetLineageGraphNode>         linkedAssets              = new ArrayList<>();
-        List<AssetLineageGraphRelationship> lineageRelationships      = new ArrayList<>();
-        Set<String>                         upstreamProcessedAssets   = new HashSet<>();
-        Set<String>                         downstreamProcessedAssets = new HashSet<>();
+        LineageTraversalOptions traversalOptions = new LineageTraversalOptions(suppliedTraversalOptions);
 
-        QueryOptions queryOptions = new QueryOptions(suppliedQueryOptions);
+        traversalOptions.setIncludeOnlyRelationships(getLineageRelationshipTypeNames(traversalOptions.getIncludeOnlyRelationships()));
 
-        queryOptions.setIncludeOnlyRelationships(getLineageRelationshipTypeNames(queryOptions.getIncludeOnlyRelationships()));
-
-        this.getAssetLineageGraphNodes(userId,
-                                       assetGUID,
-                                       allAnchors,
-                                       0,
-                                       queryOptions.getIncludeOnlyRelationships(),
-                                       limitToISCQualifiedName,
-                                       queryOptions,
-                                       linkedAssets,
-                                       lineageRelationships,
-                                       upstreamProcessedAssets,
-                                       downstreamProcessedAssets);
-
-        if (! linkedAssets.isEmpty())
+        OpenMetadataLineageGraph lineageGraph = openMetadataClient.getLineageGraph(userId, assetGUID, traversalOptions);
+
+        if ((lineageGraph != null) && (lineageGraph.getLineageNodes() != null) && (! lineageGraph.getLineageNodes().isEmpty()))
         {
+            List<AssetLineageGraphNode>         linkedAssets         = new ArrayList<>();
+            List<AssetLineageGraphRelationship> lineageRelationships = new ArrayList<>();
+            QueryOptions                        queryOptions         = new QueryOptions(traversalOptions);
+
+            /*
+             * The lineage links for each node are returned with the graph.  The nodes are converted without
+             * retrieving their other related elements since this would cost a request to the metadata store
+             * for every node in the graph.
+             */
+            queryOptions.setGraphQueryDepth(0);
+
+            for (OpenMetadataLineageNode lineageNode : lineageGraph.getLineageNodes())
+            {
+                AssetLineageGraphNode assetLineageGraphNode = this.getAssetLineageGraphNode(userId,
+                                                                                            lineageNode,
+                                                                                            queryOptions,
+                                                                                            lineageRelationships,
+                                                                                            methodName);
+
+                if (assetLineageGraphNode != null)
+                {
+                    linkedAssets.add(assetLineageGraphNode);
+                }
+                else if (linkedAssets.isEmpty())
+                {
+                    /*
+                     * The starting asset is not visible.
+                     */
+                    return null;
+                }
+            }
+
             AssetLineageGraph assetLineageGraph = new AssetLineageGraph(linkedAssets.get(0));
 
             if (linkedAssets.size() > 1)
@@ -3478,236 +3527,117 @@ public class AssetHandler extends OpenMetadataHandlerBase
 
 
     /**
-     * Retrieve the asset and its lineage relationships.
+     * Convert a node returned from the lineage traversal into an asset lineage graph node and add the
+     * relationships that link it to the other nodes in the graph.
      *
      * @param userId calling user
-     * @param elementGUID unique identifier of the asset
-     * @param allAnchors should anchored elements be included
-     * @param direction is this asset upstream or downstream of the asset (or either direction, 0, to start)
-     * @param lineageRelationshipTypeNames list of requested type names
-     * @param limitToInformationSupplyChain qualified name to control retrieval
+     * @param lineageNode node returned from the metadata store
      * @param queryOptions options for the query
-     * @param linkedAssets set of assets that are upstream of this asset
      * @param lineageRelationships relationships that link the assets together in the lineage graph
-     * @param upstreamProcessedAssets list of assets covered so far upstream of the asset
-     * @param downstreamProcessedAssets list of assets covered so far downstream of the asset
-     * @throws InvalidParameterException invalid parameter - not expected
-     * @throws PropertyServerException problem accessing the repository
-     * @throws UserNotAuthorizedException security problem
+     * @param methodName calling method
+     * @return asset lineage node or null if the element is filtered out
+     * @throws PropertyServerException problem converting the element
      */
-    void getAssetLineageGraphNodes(String                                                userId,
-                                   String                                                elementGUID,
-                                   boolean                                               allAnchors,
-                                   int                                                   direction,
-                                   List<String>                                          lineageRelationshipTypeNames,
-                                   String                                                limitToInformationSupplyChain,
-                                   QueryOptions                                          queryOptions,
-                                   List<AssetLineageGraphNode>                           linkedAssets,
-                                   List<AssetLineageGraphRelationship>                   lineageRelationships,
-                                   Set<String>                                           upstreamProcessedAssets,
-                                   Set<String>                                           downstreamProcessedAssets) throws InvalidParameterException,
-                                                                                                                           PropertyServerException,
-                                                                                                                           UserNotAuthorizedException
+    private AssetLineageGraphNode getAssetLineageGraphNode(String                              userId,
+                                                           OpenMetadataLineageNode             lineageNode,
+                                                           QueryOptions                        queryOptions,
+                                                           List<AssetLineageGraphRelationship> lineageRelationships,
+                                                           String                              methodName) throws PropertyServerException
     {
-        Map<String, LineageLink> upstreamAssets   = new HashMap<>();
-        Map<String, LineageLink> downstreamAssets = new HashMap<>();
-
-        AssetLineageGraphNode asset = this.getAssetLineageGraphNode(userId,
-                                                                    elementGUID,
-                                                                    allAnchors,
-                                                                    direction,
-                                                                    lineageRelationshipTypeNames,
-                                                                    limitToInformationSupplyChain,
-                                                                    queryOptions,
-                                                                    upstreamAssets,
-                                                                    downstreamAssets);
+        OpenMetadataRootElement asset = super.convertRootElement(userId, lineageNode, queryOptions, methodName);
 
         if (asset != null)
         {
-            if ((direction == 0) || (direction == 1))
-            {
-                downstreamProcessedAssets.add(asset.getElementHeader().getGUID());
-            }
-            if ((direction == 0) || (direction == 2))
-            {
-                upstreamProcessedAssets.add(asset.getElementHeader().getGUID());
-            }
-
-            linkedAssets.add(asset);
+            AssetLineageGraphNode assetLineageGraphNode = new AssetLineageGraphNode(asset);
+            String                assetGUID             = lineageNode.getElementGUID();
 
-            /*
-             * Process upstream assets
-             */
-            for (String linkedAssetGUID : upstreamAssets.keySet())
+            if (lineageNode.getLineageLinks() != null)
             {
-                AssetLineageGraphRelationship assetLineageGraphRelationship = new AssetLineageGraphRelationship();
-
-                LineageLink lineageLink = upstreamAssets.get(linkedAssetGUID);
+                Map<String, LineageLink>         upstreamAssets          = new HashMap<>();
+                Map<String, LineageLink>         downstreamAssets        = new HashMap<>();
+                List<RelatedMetadataNodeSummary> upstreamRelationships   = new ArrayList<>();
+                List<RelatedMetadataNodeSummary> downstreamRelationships = new ArrayList<>();
+                List<RelatedMetadataNodeSummary> internalRelationship    = new ArrayList<>();
 
-                if (lineageLink != null)
+                for (OpenMetadataLineageLink lineageLink : lineageNode.getLineageLinks())
                 {
-                    if (lineageLink.relationshipTypes != null)
-                    {
-                        assetLineageGraphRelationship.setRelationshipTypes(new ArrayList<>(lineageLink.relationshipTypes));
-                    }
-                    if (lineageLink.informationSupplyChains != null)
+                    RelatedMetadataNodeSummary relationship = propertyHelper.getRelatedNodeSummary(assetGUID, lineageLink);
+
+                    if (relationship != null)
                     {
-                        assetLineageGraphRelationship.setInformationSupplyChains(new ArrayList<>(lineageLink.informationSupplyChains));
+                        if (assetGUID.equals(lineageLink.getLinkedElementGUID()))
+                        {
+                            internalRelationship.add(relationship);
+                        }
+                        else if (relationship.getRelatedElementAtEnd1())
+                        {
+                            // Upstream asset
+                            setupLineageAsset(relationship, upstreamAssets, upstreamRelationships);
+                        }
+                        else
+                        {
+                            // Downstream asset
+                            setupLineageAsset(relationship, downstreamAssets, downstreamRelationships);
+                        }
                     }
                 }
 
-                assetLineageGraphRelationship.setEnd1AssetGUID(linkedAssetGUID);
-                assetLineageGraphRelationship.setEnd2AssetGUID(asset.getElementHeader().getGUID());
-
-                lineageRelationships.add(assetLineageGraphRelationship);
-
-                if (! upstreamProcessedAssets.contains(linkedAssetGUID))
-                {
-                    this.getAssetLineageGraphNodes(userId,
-                                                   linkedAssetGUID,
-                                                   allAnchors,
-                                                   2,
-                                                   lineageRelationshipTypeNames,
-                                                   limitToInformationSupplyChain,
-                                                   queryOptions,
-                                                   linkedAssets,
-                                                   lineageRelationships,
-                                                   upstreamProcessedAssets,
-                                                   downstreamProcessedAssets);
-                }
-            }
-
-            /*
-             * Process downstream assets
-             */
-            for (String linkedAssetGUID : downstreamAssets.keySet())
-            {
-                AssetLineageGraphRelationship assetLineageGraphRelationship = new AssetLineageGraphRelationship();
-
-                LineageLink lineageLink = downstreamAssets.get(linkedAssetGUID);
+                assetLineageGraphNode.setUpstreamRelationships(upstreamRelationships);
+                assetLineageGraphNode.setDownstreamRelationships(downstreamRelationships);
+                assetLineageGraphNode.setInternalRelationships(internalRelationship);
 
-                if (lineageLink != null)
+                for (String linkedAssetGUID : upstreamAssets.keySet())
                 {
-                    if (lineageLink.relationshipTypes != null)
-                    {
-                        assetLineageGraphRelationship.setRelationshipTypes(new ArrayList<>(lineageLink.relationshipTypes));
-                    }
-                    if (lineageLink.informationSupplyChains != null)
-                    {
-                        assetLineageGraphRelationship.setInformationSupplyChains(new ArrayList<>(lineageLink.informationSupplyChains));
-                    }
+                    lineageRelationships.add(this.getAssetLineageGraphRelationship(upstreamAssets.get(linkedAssetGUID),
+                                                                                   linkedAssetGUID,
+                                                                                   assetGUID));
                 }
 
-                assetLineageGraphRelationship.setEnd1AssetGUID(asset.getElementHeader().getGUID());
-                assetLineageGraphRelationship.setEnd2AssetGUID(linkedAssetGUID);
-
-                lineageRelationships.add(assetLineageGraphRelationship);
-
-                if (! downstreamProcessedAssets.contains(linkedAssetGUID))
+                for (String linkedAssetGUID : downstreamAssets.keySet())
                 {
-                    this.getAssetLineageGraphNodes(userId,
-                                                   linkedAssetGUID,
-                                                   allAnchors,
-                                                   1,
-                                                   lineageRelationshipTypeNames,
-                                                   limitToInformationSupplyChain,
-                                                   queryOptions,
-                                                   linkedAssets,
-                                                   lineageRelationships,
-                                                   upstreamProcessedAssets,
-                                                   downstreamProcessedAssets);
+                    lineageRelationships.add(this.getAssetLineageGraphRelationship(downstreamAssets.get(linkedAssetGUID),
+                                                                                   assetGUID,
+                                                                                   linkedAssetGUID));
                 }
             }
+
+            return assetLineageGraphNode;
         }
-    }
 
+        return null;
+    }
 
 
     /**
-     * Retrieve the asset and its lineage relationships.
+     * Build the relationship between two assets in the lineage graph.
      *
-     * @param userId calling user
-     * @param assetGUID unique identifier of the asset
-     * @param allAnchors
-     * @param direction is this asset upstream or downstream of the asset (or either direction, 0, to start)
-     * @param lineageRelationshipTypeNames list of requested type names
-     * @param limitToInformationSupplyChain qualified name to control retrieval
-     * @param queryOptions options for query
-     * @param upstreamAssets set of assets that are upstream of this asset
-     * @param downstreamAssets set of assets that are downstream of this asset
-     * @return asset lineage node
-     * @throws InvalidParameterException invalid parameter - not expected
-     * @throws PropertyServerException problem accessing the repository
-     * @throws UserNotAuthorizedException security problem
+     * @param lineageLink relationship types and supply chains that link the assets
+     * @param end1AssetGUID upstream asset
+     * @param end2AssetGUID downstream asset
+     * @return relationship
      */
-    AssetLineageGraphNode getAssetLineageGraphNode(String                    userId,
-                                                   String                    assetGUID,
-                                                   boolean                   allAnchors,
-                                                   int                       direction,
-                                                   List<String>              lineageRelationshipTypeNames,
-                                                   String                    limitToInformationSupplyChain,
-                                                   QueryOptions              queryOptions,
-                                                   Map<String, LineageLink>  upstreamAssets,
-                                                   Map<String, LineageLink>  downstreamAssets) throws InvalidParameterException,
-                                                                                                      PropertyServerException,
-                                                                                                      UserNotAuthorizedException
+    private AssetLineageGraphRelationship getAssetLineageGraphRelationship(LineageLink lineageLink,
+                                                                           String      end1AssetGUID,
+                                                                           String      end2AssetGUID)
     {
-        OpenMetadataRootElement asset = this.getAssetByGUID(userId, assetGUID, queryOptions);
+        AssetLineageGraphRelationship assetLineageGraphRelationship = new AssetLineageGraphRelationship();
 
-        if (asset != null)
+        if (lineageLink != null)
         {
-            AssetLineageGraphNode assetLineageGraphNode = new AssetLineageGraphNode(asset);
-
-            /*
-             * Retrieve all the lineage relationships for the asset.
-             */
-            List<RelatedMetadataNodeSummary> relationships = this.getAssetLineageRelationships(userId,
-                                                                                               asset.getElementHeader().getGUID(),
-                                                                                               allAnchors,
-                                                                                               direction,
-                                                                                               lineageRelationshipTypeNames,
-                                                                                               limitToInformationSupplyChain,
-                                                                                               queryOptions);
-
-            if (relationships != null)
+            if (lineageLink.relationshipTypes != null)
             {
-                List<RelatedMetadataNodeSummary> upstreamRelationships   = new ArrayList<>();
-                List<RelatedMetadataNodeSummary> downstreamRelationships = new ArrayList<>();
-                List<RelatedMetadataNodeSummary> internalRelationship    = new ArrayList<>();
-
-                for (RelatedMetadataNodeSummary relationship : relationships)
-                {
-                    if (relationship != null)
-                    {
-                        if (lineageRelationshipTypeNames.contains(relationship.getRelationshipHeader().getType().getTypeName()))
-                        {
-                            if (! assetGUID.equals(relationship.getStartingElementGUID()))
-                            {
-                                internalRelationship.add(relationship);
-                            }
-                            else if (relationship.getRelatedElementAtEnd1())
-                            {
-                                // Upstream asset
-                                setupLineageAsset(relationship, upstreamAssets, upstreamRelationships);
-                            }
-                            else
-                            {
-                                // Downstream asset
-                                setupLineageAsset(relationship, downstreamAssets, downstreamRelationships);
-                            }
-                        }
-                    }
-                }
-
-                assetLineageGraphNode.setUpstreamRelationships(upstreamRelationships);
-                assetLineageGraphNode.setDownstreamRelationships(downstreamRelationships);
-                assetLineageGraphNode.setInternalRelationships(internalRelationship);
+                assetLineageGraphRelationship.setRelationshipTypes(new ArrayList<>(lineageLink.relationshipTypes));
+            }
+            if (lineageLink.informationSupplyChains != null)
+            {
+                assetLineageGraphRelationship.setInformationSupplyChains(new ArrayList<>(lineageLink.informationSupplyChains));
             }
-
-            return assetLineageGraphNode;
         }
 
-        return null;
+        assetLineageGraphRelationship.setEnd1AssetGUID(end1AssetGUID);
+        assetLineageGraphRelationship.setEnd2AssetGUID(end2AssetGUID);
+
+        return assetLineageGraphRelationship;
     }
 
 
@@ -3795,186 +3725,6 @@ public class AssetHandler extends OpenMetadataHandlerBase
     }
 
 
-    /**
-     * Retrieve all the relevant lineage relationships for an asset.  This considers relationships from the
-     * asst itself and any of its schema elements.
-     *
-     * @param userId calling user
-     * @param assetGUID unique identifier of the asset
-     * @param direction is this asset upstream or downstream of the asset (or either direction, 0, to start)
-     * @param allAnchors Return whether all anchored elements should be returned, or just the ones that are connected to the asset.
-     * @param lineageRelationshipTypeNames list of requested type names
-     * @param limitToInformationSupplyChain qualified name to control retrieval
-     * @param queryOptions options for the query
-     * @return list for relationships - may be empty
-     * @throws InvalidParameterException invalid parameter - not expected
-     * @throws PropertyServerException problem accessing the repository
-     * @throws UserNotAuthorizedException security problem
-     */
-    private List<RelatedMetadataNodeSummary> getAssetLineageRelationships(String       userId,
-                                                                          String       assetGUID,
-                                                                          boolean      allAnchors,
-                                                                          int          direction,
-                                                                          List<String> lineageRelationshipTypeNames,
-                                                                          String       limitToInformationSupplyChain,
-                                                                          QueryOptions queryOptions) throws InvalidParameterException,
-                                                                                                            PropertyServerException,
-                                                                                                            UserNotAuthorizedException
-    {
-        List<RelatedMetadataNodeSummary> lineageRelationships = new ArrayList<>();
-
-       /*
-        * Begin by retrieving all the relationships for the asset and filtering out the lineage relationships.
-        */
-        List<RelatedMetadataElement> assetRelationships = this.getLineageRelationshipsForElement(userId,
-                                                                                                 assetGUID,
-                                                                                                 direction,
-                                                                                                 lineageRelationshipTypeNames,
-                                                                                                 limitToInformationSupplyChain,
-                                                                                                 queryOptions);
-
-        if (assetRelationships != null)
-        {
-            lineageRelationships.addAll(propertyHelper.getRelatedNodeSummaries(assetGUID, assetRelationships));
-        }
-
-        if (allAnchors)
-        {
-            /*
-             * Now find the SchemaElements that belong to the asset.
-             */
-            SearchClassifications         searchClassifications    = new SearchClassifications();
-            List<ClassificationCondition> classificationConditions = new ArrayList<>();
-            ClassificationCondition       classificationCondition  = new ClassificationCondition();
-            SearchProperties              searchProperties         = new SearchProperties();
-            List<PropertyCondition>       propertyConditions       = new ArrayList<>();
-            PropertyCondition             propertyCondition        = new PropertyCondition();
-            PrimitiveTypePropertyValue    primitivePropertyValue   = new PrimitiveTypePropertyValue();
-
-            primitivePropertyValue.setPrimitiveTypeCategory(PrimitiveTypeCategory.OM_PRIMITIVE_TYPE_STRING);
-            primitivePropertyValue.setPrimitiveValue(assetGUID);
-            primitivePropertyValue.setTypeName(PrimitiveTypeCategory.OM_PRIMITIVE_TYPE_STRING.getDisplayName());
-
-            propertyCondition.setProperty(OpenMetadataProperty.ANCHOR_GUID.name);
-            propertyCondition.setOperator(PropertyComparisonOperator.EQ);
-            propertyCondition.setValue(primitivePropertyValue);
-            propertyConditions.add(propertyCondition);
-            searchProperties.setMatchCriteria(MatchCriteria.ALL);
-            searchProperties.setConditions(propertyConditions);
-
-            classificationCondition.setName(OpenMetadataType.ANCHORS_CLASSIFICATION.typeName);
-            classificationCondition.setSearchProperties(searchProperties);
-            classificationConditions.add(classificationCondition);
-            searchClassifications.setMatchCriteria(MatchCriteria.ALL);
-            searchClassifications.setConditions(classificationConditions);
-
-            QueryOptions schemaQueryOptions = new QueryOptions(queryOptions);
-
-            schemaQueryOptions.setMetadataElementTypeName(OpenMetadataType.SCHEMA_ELEMENT.typeName);
-
-            List<OpenMetadataElement> anchoredElements = openMetadataClient.findMetadataElements(userId,
-                                                                                                 null,
-                                                                                                 searchClassifications,
-                                                                                                 schemaQueryOptions);
-
-            /*
-             * For each schema element in the asset, retrieve its lineage relationships
-             */
-            if (anchoredElements != null)
-            {
-                for (OpenMetadataElement anchoredElement : anchoredElements)
-                {
-                    List<RelatedMetadataElement> schemaRelationships = this.getLineageRelationshipsForElement(userId,
-                                                                                                              anchoredElement.getElementGUID(),
-                                                                                                              direction,
-                                                                                                              lineageRelationshipTypeNames,
-                                                                                                              limitToInformationSupplyChain,
-                                                                                                              queryOptions);
-
-                    if (schemaRelationships != null)
-                    {
-                        lineageRelationships.addAll(propertyHelper.getRelatedNodeSummaries(assetGUID, schemaRelationships));
-                    }
-                }
-            }
-        }
-
-        if (! lineageRelationships.isEmpty())
-        {
-            return lineageRelationships;
-        }
-
-        return null;
-    }
-
-
-    /**
-     * Return the lineage relationships for a particular element.
-     *
-     * @param userId calling user
-     * @param elementGUID starting element
-     * @param direction is this asset upstream or downstream of the asset (or either direction, 0, to start)
-     * @param lineageRelationshipTypeNames list of requested type names
-     * @param limitToInformationSupplyChain qualified name to control retrieval
-     * @param queryOptions options for the query
-     * @return list for relationships - may be empty
-     * @throws InvalidParameterException invalid parameter - not expected
-     * @throws PropertyServerException problem accessing the repository
-     * @throws UserNotAuthorizedException security problem
-     */
-    List<RelatedMetadataElement> getLineageRelationshipsForElement(String       userId,
-                                                                   String       elementGUID,
-                                                                   int          direction,
-                                                                   List<String> lineageRelationshipTypeNames,
-                                                                   String       limitToInformationSupplyChain,
-                                                                   QueryOptions queryOptions) throws InvalidParameterException,
-                                                                                                         PropertyServerException,
-                                                                                                         UserNotAuthorizedException
-    {
-        final String methodName = "getLineageRelationshipsForElement";
-
-        List<RelatedMetadataElement> lineageRelationships = new ArrayList<>();
-
-        /*
-         * Begin by retrieving all the relationships for the asset and filtering out the lineage relationships.
-         */
-        RelatedMetadataElementList relationships = openMetadataClient.getRelatedMetadataElements(userId,
-                                                                                                 elementGUID,
-                                                                                                 direction,
-                                                                                                 null,
-                                                                                                 queryOptions);
-
-        if ((relationships != null) && (relationships.getElementList() != null))
-        {
-            for (RelatedMetadataElement relationship : relationships.getElementList())
-            {
-                if ((relationship != null) &&
-                        (lineageRelationshipTypeNames.contains(relationship.getType().getTypeName())))
-                {
-                    if (limitToInformationSupplyChain != null)
-                    {
-                        String relationshipSupplyChain = propertyHelper.getStringProperty(localServiceName,
-                                                                                          OpenMetadataProperty.ISC_QUALIFIED_NAME.name,
-                                                                                          relationship.getRelationshipProperties(),
-                                                                                          methodName);
-
-                        if (limitToInformationSupplyChain.equals(relationshipSupplyChain))
-                        {
-                            lineageRelationships.add(relationship);
-                        }
-                    }
-                    else
-                    {
-                        lineageRelationships.add(relationship);
-                    }
-                }
-            }
-        }
-
-        return lineageRelationships;
-    }
-
-
     /**
      * Return all the elements that are anchored to an asset plus relationships between these elements and to other elements.
      *
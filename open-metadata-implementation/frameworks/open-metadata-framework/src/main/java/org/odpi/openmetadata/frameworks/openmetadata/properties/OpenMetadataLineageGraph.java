@@ -0,0 +1,138 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.openmetadata.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * OpenMetadataLineageGraph returns the elements linked to a starting element through lineage relationships.
+ * The starting element is the first in the list.  The other elements are in the order that they were found.
+ * Upstream elements are only followed upstream and downstream elements are only followed downstream.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class OpenMetadataLineageGraph
+{
+    private List<OpenMetadataLineageNode> lineageNodes = null;
+    private boolean                       truncated    = false;
+
+
+    /**
+     * Default constructor
+     */
+    public OpenMetadataLineageGraph()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template graph to copy
+     */
+    public OpenMetadataLineageGraph(OpenMetadataLineageGraph template)
+    {
+        if (template != null)
+        {
+            lineageNodes = template.getLineageNodes();
+            truncated    = template.getTruncated();
+        }
+    }
+
+
+    /**
+     * Return the elements in the lineage graph, starting element first.
+     *
+     * @return list of nodes
+     */
+    public List<OpenMetadataLineageNode> getLineageNodes()
+    {
+        return lineageNodes;
+    }
+
+
+    /**
+     * Set up the elements in the lineage graph, starting element first.
+     *
+     * @param lineageNodes list of nodes
+     */
+    public void setLineageNodes(List<OpenMetadataLineageNode> lineageNodes)
+    {
+        this.lineageNodes = lineageNodes;
+    }
+
+
+    /**
+     * Return whether the traversal stopped because one of its budgets ran out before the whole graph was found.
+     *
+     * @return boolean flag
+     */
+    public boolean getTruncated()
+    {
+        return truncated;
+    }
+
+
+    /**
+     * Set up whether the traversal stopped because one of its budgets ran out before the whole graph was found.
+     *
+     * @param truncated boolean flag
+     */
+    public void setTruncated(boolean truncated)
+    {
+        this.truncated = truncated;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "OpenMetadataLineageGraph{" +
+                "lineageNodes=" + lineageNodes +
+                ", truncated=" + truncated +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare) return true;
+        if (objectToCompare == null || getClass() != objectToCompare.getClass()) return false;
+        OpenMetadataLineageGraph that = (OpenMetadataLineageGraph) objectToCompare;
+        return truncated == that.truncated &&
+                Objects.equals(lineageNodes, that.lineageNodes);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(lineageNodes, truncated);
+    }
+}
@@ -0,0 +1,128 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.openmetadata.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * OpenMetadataLineageLink describes a lineage relationship found for an element in a lineage graph.  The relationship
+ * may be attached to the element itself, or to one of the schema elements anchored to it.  The related element is the
+ * element at the other end of the relationship.  The linked element is the element in the lineage graph that the
+ * relationship leads to.  This is the related element, unless the related element is part of the element that owns
+ * the link (that is, it is the element itself or is anchored to it), in which case the link is internal to the element
+ * and the linked element is the owning element.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class OpenMetadataLineageLink extends RelatedMetadataElement
+{
+    private String linkedElementGUID = null;
+
+
+    /**
+     * Typical Constructor
+     */
+    public OpenMetadataLineageLink()
+    {
+    }
+
+
+    /**
+     * Copy/clone Constructor
+     *
+     * @param template object being copied
+     */
+    public OpenMetadataLineageLink(RelatedMetadataElement template)
+    {
+        super(template);
+    }
+
+
+    /**
+     * Copy/clone Constructor
+     *
+     * @param template object being copied
+     */
+    public OpenMetadataLineageLink(OpenMetadataLineageLink template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            linkedElementGUID = template.getLinkedElementGUID();
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the element in the lineage graph at the other end of this link.
+     *
+     * @return string guid
+     */
+    public String getLinkedElementGUID()
+    {
+        return linkedElementGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the element in the lineage graph at the other end of this link.
+     *
+     * @param linkedElementGUID string guid
+     */
+    public void setLinkedElementGUID(String linkedElementGUID)
+    {
+        this.linkedElementGUID = linkedElementGUID;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "OpenMetadataLineageLink{" +
+                "linkedElementGUID='" + linkedElementGUID + '\'' +
+                "} " + super.toString();
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare) return true;
+        if (objectToCompare == null || getClass() != objectToCompare.getClass()) return false;
+        if (!super.equals(objectToCompare)) return false;
+        OpenMetadataLineageLink that = (OpenMetadataLineageLink) objectToCompare;
+        return Objects.equals(linkedElementGUID, that.linkedElementGUID);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), linkedElementGUID);
+    }
+}
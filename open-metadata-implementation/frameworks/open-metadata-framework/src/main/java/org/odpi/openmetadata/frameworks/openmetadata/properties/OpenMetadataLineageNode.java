@@ -0,0 +1,178 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.openmetadata.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * OpenMetadataLineageNode is an element in a lineage graph along with the lineage relationships that were
+ * followed from it.  The lineage links are only filled out for the elements that were expanded during the traversal.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class OpenMetadataLineageNode extends OpenMetadataElement
+{
+    private int                           depth        = 0;
+    private boolean                       expanded     = false;
+    private List<OpenMetadataLineageLink> lineageLinks = null;
+
+
+    /**
+     * Default constructor
+     */
+    public OpenMetadataLineageNode()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template element to copy
+     */
+    public OpenMetadataLineageNode(OpenMetadataElement template)
+    {
+        super(template);
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template node to copy
+     */
+    public OpenMetadataLineageNode(OpenMetadataLineageNode template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            depth        = template.getDepth();
+            expanded     = template.getExpanded();
+            lineageLinks = template.getLineageLinks();
+        }
+    }
+
+
+    /**
+     * Return the number of lineage relationships between the starting element and this element.
+     *
+     * @return int
+     */
+    public int getDepth()
+    {
+        return depth;
+    }
+
+
+    /**
+     * Set up the number of lineage relationships between the starting element and this element.
+     *
+     * @param depth int
+     */
+    public void setDepth(int depth)
+    {
+        this.depth = depth;
+    }
+
+
+    /**
+     * Return whether the lineage relationships of this element were retrieved.  This is false for the elements
+     * at the edge of the graph when one of the traversal budgets ran out.
+     *
+     * @return boolean flag
+     */
+    public boolean getExpanded()
+    {
+        return expanded;
+    }
+
+
+    /**
+     * Set up whether the lineage relationships of this element were retrieved.
+     *
+     * @param expanded boolean flag
+     */
+    public void setExpanded(boolean expanded)
+    {
+        this.expanded = expanded;
+    }
+
+
+    /**
+     * Return the lineage relationships followed from this element.
+     *
+     * @return list of links
+     */
+    public List<OpenMetadataLineageLink> getLineageLinks()
+    {
+        return lineageLinks;
+    }
+
+
+    /**
+     * Set up the lineage relationships followed from this element.
+     *
+     * @param lineageLinks list of links
+     */
+    public void setLineageLinks(List<OpenMetadataLineageLink> lineageLinks)
+    {
+        this.lineageLinks = lineageLinks;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "OpenMetadataLineageNode{" +
+                "depth=" + depth +
+                ", expanded=" + expanded +
+                ", lineageLinks=" + lineageLinks +
+                "} " + super.toString();
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare) return true;
+        if (objectToCompare == null || getClass() != objectToCompare.getClass()) return false;
+        if (!super.equals(objectToCompare)) return false;
+        OpenMetadataLineageNode that = (OpenMetadataLineageNode) objectToCompare;
+        return depth == that.depth &&
+                expanded == that.expanded &&
+                Objects.equals(lineageLinks, that.lineageLinks);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), depth, expanded, lineageLinks);
+    }
+}
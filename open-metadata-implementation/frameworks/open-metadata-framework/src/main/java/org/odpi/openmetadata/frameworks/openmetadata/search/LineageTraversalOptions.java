@@ -0,0 +1,256 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.openmetadata.search;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * LineageTraversalOptions controls the retrieval of a lineage graph.  The lineage relationships to follow are
+ * listed in includeOnlyRelationships.  The traversal stops when any of its budgets (depth, number of elements
+ * or elapsed time) are used up.  A budget of zero means no limit.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class LineageTraversalOptions extends QueryOptions
+{
+    private String  limitToISCQualifiedName = null;
+    private boolean allAnchors              = false;
+    private int     maxDepth                = 0;
+    private int     maxElementCount         = 0;
+    private long    maxTraversalTime        = 0L;
+    private boolean parallelExpansion       = false;
+
+
+    /**
+     * Default constructor
+     */
+    public LineageTraversalOptions()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public LineageTraversalOptions(QueryOptions template)
+    {
+        super(template);
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public LineageTraversalOptions(LineageTraversalOptions template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            limitToISCQualifiedName = template.getLimitToISCQualifiedName();
+            allAnchors              = template.getAllAnchors();
+            maxDepth                = template.getMaxDepth();
+            maxElementCount         = template.getMaxElementCount();
+            maxTraversalTime        = template.getMaxTraversalTime();
+            parallelExpansion       = template.getParallelExpansion();
+        }
+    }
+
+
+    /**
+     * Return the qualified name of the information supply chain that the lineage relationships must belong to.
+     *
+     * @return qualified name or null for all lineage relationships
+     */
+    public String getLimitToISCQualifiedName()
+    {
+        return limitToISCQualifiedName;
+    }
+
+
+    /**
+     * Set up the qualified name of the information supply chain that the lineage relationships must belong to.
+     *
+     * @param limitToISCQualifiedName qualified name or null for all lineage relationships
+     */
+    public void setLimitToISCQualifiedName(String limitToISCQualifiedName)
+    {
+        this.limitToISCQualifiedName = limitToISCQualifiedName;
+    }
+
+
+    /**
+     * Return whether the lineage relationships of the schema elements anchored to each element should be followed.
+     *
+     * @return boolean flag
+     */
+    public boolean getAllAnchors()
+    {
+        return allAnchors;
+    }
+
+
+    /**
+     * Set up whether the lineage relationships of the schema elements anchored to each element should be followed.
+     *
+     * @param allAnchors boolean flag
+     */
+    public void setAllAnchors(boolean allAnchors)
+    {
+        this.allAnchors = allAnchors;
+    }
+
+
+    /**
+     * Return the maximum number of lineage relationships between the starting element and the elements returned.
+     *
+     * @return number of levels (0 means no limit)
+     */
+    public int getMaxDepth()
+    {
+        return maxDepth;
+    }
+
+
+    /**
+     * Set up the maximum number of lineage relationships between the starting element and the elements returned.
+     *
+     * @param maxDepth number of levels (0 means no limit)
+     */
+    public void setMaxDepth(int maxDepth)
+    {
+        this.maxDepth = maxDepth;
+    }
+
+
+    /**
+     * Return the maximum number of elements to return in the lineage graph.
+     *
+     * @return count (0 means no limit)
+     */
+    public int getMaxElementCount()
+    {
+        return maxElementCount;
+    }
+
+
+    /**
+     * Set up the maximum number of elements to return in the lineage graph.
+     *
+     * @param maxElementCount count (0 means no limit)
+     */
+    public void setMaxElementCount(int maxElementCount)
+    {
+        this.maxElementCount = maxElementCount;
+    }
+
+
+    /**
+     * Return the time allowed for the traversal.  The graph built up to that point is returned.
+     *
+     * @return time in milliseconds (0 means no limit)
+     */
+    public long getMaxTraversalTime()
+    {
+        return maxTraversalTime;
+    }
+
+
+    /**
+     * Set up the time allowed for the traversal.  The graph built up to that point is returned.
+     *
+     * @param maxTraversalTime time in milliseconds (0 means no limit)
+     */
+    public void setMaxTraversalTime(long maxTraversalTime)
+    {
+        this.maxTraversalTime = maxTraversalTime;
+    }
+
+
+    /**
+     * Return whether the elements at each level of the traversal should be expanded in parallel.
+     *
+     * @return boolean flag
+     */
+    public boolean getParallelExpansion()
+    {
+        return parallelExpansion;
+    }
+
+
+    /**
+     * Set up whether the elements at each level of the traversal should be expanded in parallel.
+     *
+     * @param parallelExpansion boolean flag
+     */
+    public void setParallelExpansion(boolean parallelExpansion)
+    {
+        this.parallelExpansion = parallelExpansion;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "LineageTraversalOptions{" +
+                "limitToISCQualifiedName='" + limitToISCQualifiedName + '\'' +
+                ", allAnchors=" + allAnchors +
+                ", maxDepth=" + maxDepth +
+                ", maxElementCount=" + maxElementCount +
+                ", maxTraversalTime=" + maxTraversalTime +
+                ", parallelExpansion=" + parallelExpansion +
+                "} " + super.toString();
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare) return true;
+        if (objectToCompare == null || getClass() != objectToCompare.getClass()) return false;
+        if (!super.equals(objectToCompare)) return false;
+        LineageTraversalOptions that = (LineageTraversalOptions) objectToCompare;
+        return allAnchors == that.allAnchors &&
+                maxDepth == that.maxDepth &&
+                maxElementCount == that.maxElementCount &&
+                maxTraversalTime == that.maxTraversalTime &&
+                parallelExpansion == that.parallelExpansion &&
+                Objects.equals(limitToISCQualifiedName, that.limitToISCQualifiedName);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), limitToISCQualifiedName, allAnchors, maxDepth, maxElementCount, maxTraversalTime, parallelExpansion);
+    }
+}
@@ -298,20 +298,14 @@ public class PropertyHelper
 
         if ((elementControlHeader != null) && (elementControlHeader.getType() != null))
         {
-            List<String> typeList;
-
-            if (elementControlHeader.getType().getSuperTypeNames() == null)
+            if (expectedType.equals(elementControlHeader.getType().getTypeName()))
             {
-                typeList = new ArrayList<>();
-            }
-            else
-            {
-                typeList = new ArrayList<>(elementControlHeader.getType().getSuperTypeNames());
+                return true;
             }
 
-            typeList.add(elementControlHeader.getType().getTypeName());
+            List<String> superTypeNames = elementControlHeader.getType().getSuperTypeNames();
 
-            return typeList.contains(expectedType);
+            return (superTypeNames != null) && (superTypeNames.contains(expectedType));
         }
 
         return false;
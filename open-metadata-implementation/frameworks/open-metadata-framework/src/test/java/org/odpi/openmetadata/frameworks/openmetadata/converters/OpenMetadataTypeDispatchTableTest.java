@@ -0,0 +1,154 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.openmetadata.converters;
+
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementControlHeader;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Verify that the dispatch table selects the same converter as a chain of isTypeOf() tests.
+ */
+public class OpenMetadataTypeDispatchTableTest
+{
+    /*
+     * Registered types in priority order.  The converter for each type is its name.  Asset is registered twice
+     * to show that the first registration is kept.
+     */
+    private static final List<String> registeredTypeNames = Arrays.asList("DataSet",
+                                                                          "Asset",
+                                                                          "DataFile",
+                                                                          "Referenceable",
+                                                                          "Asset");
+
+
+    /**
+     * Return a dispatch table with the registered types.
+     *
+     * @return new dispatch table
+     */
+    private OpenMetadataTypeDispatchTable<String> getDispatchTable()
+    {
+        OpenMetadataTypeDispatchTable<String> dispatchTable = new OpenMetadataTypeDispatchTable<>();
+
+        for (String typeName : registeredTypeNames)
+        {
+            dispatchTable.register(typeName, typeName + "Converter");
+        }
+
+        return dispatchTable;
+    }
+
+
+    /**
+     * Return the header of an element.
+     *
+     * @param typeName name of the element's type
+     * @param superTypeNames names of the element type's supertypes
+     * @return header
+     */
+    private ElementControlHeader getElementHeader(String    typeName,
+                                                  String... superTypeNames)
+    {
+        ElementType elementType = new ElementType();
+
+        elementType.setTypeName(typeName);
+        elementType.setSuperTypeNames(new ArrayList<>(Arrays.asList(superTypeNames)));
+
+        ElementControlHeader elementControlHeader = new ElementControlHeader();
+
+        elementControlHeader.setType(elementType);
+
+        return elementControlHeader;
+    }
+
+
+    /**
+     * Select the converter with a chain of isTypeOf() tests in registration order.
+     *
+     * @param elementControlHeader header of the element
+     * @return converter or null
+     */
+    private String getConverterFromTypeTests(ElementControlHeader elementControlHeader)
+    {
+        ElementType elementType = elementControlHeader.getType();
+
+        for (String typeName : registeredTypeNames)
+        {
+            if ((typeName.equals(elementType.getTypeName())) || (elementType.getSuperTypeNames().contains(typeName)))
+            {
+                return typeName + "Converter";
+            }
+        }
+
+        return null;
+    }
+
+
+    @Test
+    public void testFirstRegisteredSupertypeWins()
+    {
+        OpenMetadataTypeDispatchTable<String> dispatchTable = this.getDispatchTable();
+
+        /*
+         * Asset and Referenceable both match; Asset was registered first.
+         */
+        assertEquals(dispatchTable.getConverter(this.getElementHeader("Process", "Asset", "Referenceable", "OpenMetadataRoot")),
+                     "AssetConverter");
+
+        /*
+         * The order of the supertypes in the element type does not change the answer.
+         */
+        assertEquals(dispatchTable.getConverter(this.getElementHeader("DeployedSoftwareComponent", "Referenceable", "Asset")),
+                     "AssetConverter");
+
+        /*
+         * The element's own type is registered, but after one of its supertypes.
+         */
+        assertEquals(dispatchTable.getConverter(this.getElementHeader("DataFile", "Asset", "Referenceable")),
+                     "AssetConverter");
+
+        /*
+         * DataSet is registered before Asset.
+         */
+        assertEquals(dispatchTable.getConverter(this.getElementHeader("TabularDataSet", "DataSet", "Asset", "Referenceable")),
+                     "DataSetConverter");
+
+        assertNull(dispatchTable.getConverter(this.getElementHeader("Comment", "OpenMetadataRoot")));
+        assertNull(dispatchTable.getConverter(null));
+        assertNull(dispatchTable.getConverter(new ElementControlHeader()));
+    }
+
+
+    @Test
+    public void testCachedResolutionMatchesFreshLookup()
+    {
+        List<ElementControlHeader> elementHeaders = Arrays.asList(this.getElementHeader("Process", "Asset", "Referenceable", "OpenMetadataRoot"),
+                                                                  this.getElementHeader("DeployedSoftwareComponent", "Referenceable", "Asset"),
+                                                                  this.getElementHeader("DataFile", "Asset", "Referenceable"),
+                                                                  this.getElementHeader("CSVFile", "DataFile", "Asset", "Referenceable"),
+                                                                  this.getElementHeader("TabularDataSet", "DataSet", "Asset", "Referenceable"),
+                                                                  this.getElementHeader("Referenceable", "OpenMetadataRoot"),
+                                                                  this.getElementHeader("Comment", "OpenMetadataRoot"));
+
+        OpenMetadataTypeDispatchTable<String> cachingDispatchTable = this.getDispatchTable();
+
+        for (int pass = 0; pass < 3; pass++)
+        {
+            for (ElementControlHeader elementHeader : elementHeaders)
+            {
+                String cachedConverter = cachingDispatchTable.getConverter(elementHeader);
+                String freshConverter  = this.getDispatchTable().getConverter(elementHeader);
+
+                assertEquals(cachedConverter, freshConverter, elementHeader.getType().getTypeName());
+                assertEquals(cachedConverter, this.getConverterFromTypeTests(elementHeader), elementHeader.getType().getTypeName());
+            }
+        }
+    }
+}
@@ -0,0 +1,477 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * EngineActionExecutionPool runs the governance services for a governance engine's engine actions.  It limits the
+ * number of governance services running at the same time.  Engine actions that can not start yet wait in a queue
+ * ordered by their requested start time and then the order that they arrived.  An engine action with a requested start
+ * time in the future stays in the queue until that time, rather than holding a thread while it waits.
+ * <br><br>
+ * The governance engine handler asks the pool whether it has capacity before claiming an engine action.  This leaves
+ * the engine actions that it can not run for other engine hosts.  If an engine action was passed over, the pool calls
+ * back to the handler when a governance service completes so that it can look for waiting engine actions again.
+ */
+class EngineActionExecutionPool
+{
+    private static final Logger log = LoggerFactory.getLogger(EngineActionExecutionPool.class);
+
+    private final String        governanceEngineName;
+    private final int           maxConcurrency;
+    private final ThreadFactory virtualThreadFactory;
+    private final Runnable      capacityAvailableListener;
+
+    private final Map<String, EngineActionExecution>   engineActionExecutions  = new HashMap<>();
+    private final PriorityQueue<EngineActionExecution> waitingExecutions       = new PriorityQueue<>(new ExecutionOrder());
+    private final AtomicBoolean                        engineActionsPassedOver = new AtomicBoolean(false);
+
+    private int   runningCount     = 0;
+    private int   reservedCount    = 0;
+    private long  nextSequence     = 0L;
+    private Timer startTimer       = null;
+    private long  nextStartTimerAt = Long.MAX_VALUE;
+
+
+    /**
+     * Constructor supplies the limits of the pool.
+     *
+     * @param governanceEngineName name of the governance engine (for messages)
+     * @param maxConcurrency maximum number of governance services running at once; zero means no limit
+     * @param useVirtualThreads should the governance services run on virtual threads if the runtime supports them?
+     * @param capacityAvailableListener called when a governance service completes after an engine action was passed over
+     */
+    EngineActionExecutionPool(String   governanceEngineName,
+                              int      maxConcurrency,
+                              boolean  useVirtualThreads,
+                              Runnable capacityAvailableListener)
+    {
+        this.governanceEngineName      = governanceEngineName;
+        this.maxConcurrency            = Math.max(maxConcurrency, 0);
+        this.capacityAvailableListener = capacityAvailableListener;
+
+        if (useVirtualThreads)
+        {
+            this.virtualThreadFactory = getVirtualThreadFactory();
+        }
+        else
+        {
+            this.virtualThreadFactory = null;
+        }
+    }
+
+
+    /**
+     * Return a factory for virtual threads.  Virtual threads are only available from Java 21 onwards and this module
+     * is compiled for an earlier release, so the factory is located reflectively.
+     *
+     * @return thread factory or null if virtual threads are not supported
+     */
+    private static ThreadFactory getVirtualThreadFactory()
+    {
+        try
+        {
+            Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(threadBuilder);
+        }
+        catch (Exception unsupported)
+        {
+            log.debug("Virtual threads are not supported by this runtime; using platform threads");
+            return null;
+        }
+    }
+
+
+    /**
+     * Return whether another engine action can be claimed.  Waiting engine actions only take up capacity once their
+     * requested start time has been reached.  Until then, they do not hold a thread so other engine actions can run.
+     *
+     * @return boolean flag
+     */
+    synchronized boolean hasCapacity()
+    {
+        return (maxConcurrency == 0) || (runningCount + this.getDueWaitingCount() + reservedCount < maxConcurrency);
+    }
+
+
+    /**
+     * Return the number of waiting engine actions whose requested start time has been reached.
+     *
+     * @return count
+     */
+    private int getDueWaitingCount()
+    {
+        long now      = System.currentTimeMillis();
+        int  dueCount = 0;
+
+        for (EngineActionExecution waitingExecution : waitingExecutions)
+        {
+            if (waitingExecution.startTime <= now)
+            {
+                dueCount++;
+            }
+        }
+
+        return dueCount;
+    }
+
+
+    /**
+     * Reserve capacity for an engine action that is about to be claimed.  The reservation is held until
+     * {@link #releaseReservation()} is called, by which time the engine action has either been submitted or failed.
+     *
+     * @return true if there is capacity; false if the engine action should be left for someone else
+     */
+    synchronized boolean reserveCapacity()
+    {
+        if (this.hasCapacity())
+        {
+            reservedCount++;
+            return true;
+        }
+
+        engineActionsPassedOver.set(true);
+        return false;
+    }
+
+
+    /**
+     * Release a reservation made by {@link #reserveCapacity()}.
+     */
+    synchronized void releaseReservation()
+    {
+        if (reservedCount > 0)
+        {
+            reservedCount--;
+        }
+    }
+
+
+    /**
+     * Record that waiting engine actions were not claimed because the pool was full.
+     */
+    void recordPassedOverEngineActions()
+    {
+        engineActionsPassedOver.set(true);
+    }
+
+
+    /**
+     * Accept a governance service to run for an engine action.  It starts straight away if there is capacity and its
+     * requested start time has been reached.  Otherwise, it waits in the queue.
+     *
+     * @param engineActionGUID unique identifier of the engine action
+     * @param governanceServiceHandler handler that runs the governance service
+     * @param threadName name for the thread that runs the governance service
+     */
+    synchronized void submit(String                   engineActionGUID,
+                             GovernanceServiceHandler governanceServiceHandler,
+                             String                   threadName)
+    {
+        EngineActionExecution engineActionExecution = new EngineActionExecution(engineActionGUID,
+                                                                                governanceServiceHandler,
+                                                                                threadName,
+                                                                                nextSequence++);
+
+        engineActionExecutions.put(engineActionGUID, engineActionExecution);
+        waitingExecutions.add(engineActionExecution);
+
+        this.startWaitingExecutions();
+    }
+
+
+    /**
+     * Return the execution for an engine action.
+     *
+     * @param engineActionGUID unique identifier of the engine action
+     * @return execution or null if the engine action is not known to the pool
+     */
+    synchronized EngineActionExecution getExecution(String engineActionGUID)
+    {
+        return engineActionExecutions.get(engineActionGUID);
+    }
+
+
+    /**
+     * Remove an engine action that has not started yet.
+     *
+     * @param engineActionGUID unique identifier of the engine action
+     * @return true if the engine action was waiting and has been removed
+     */
+    synchronized boolean removeWaitingExecution(String engineActionGUID)
+    {
+        EngineActionExecution engineActionExecution = engineActionExecutions.get(engineActionGUID);
+
+        if ((engineActionExecution != null) && (waitingExecutions.remove(engineActionExecution)))
+        {
+            engineActionExecutions.remove(engineActionGUID);
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the number of governance services that are running.
+     *
+     * @return count
+     */
+    synchronized int getRunningCount()
+    {
+        return runningCount;
+    }
+
+
+    /**
+     * Return the number of engine actions waiting to start.
+     *
+     * @return count
+     */
+    synchronized int getWaitingCount()
+    {
+        return waitingExecutions.size();
+    }
+
+
+    /**
+     * Stop starting governance services.  The governance services that are running are left to complete.
+     */
+    synchronized void shutdown()
+    {
+        for (EngineActionExecution waitingExecution : waitingExecutions)
+        {
+            engineActionExecutions.remove(waitingExecution.engineActionGUID);
+        }
+
+        waitingExecutions.clear();
+        engineActionsPassedOver.set(false);
+
+        if (startTimer != null)
+        {
+            startTimer.cancel();
+            startTimer       = null;
+            nextStartTimerAt = Long.MAX_VALUE;
+        }
+    }
+
+
+    /**
+     * Start the waiting engine actions whose requested start time has been reached, in queue order, until the pool
+     * is full.  If the first engine action in the queue is not due yet, a timer is set for its start time.
+     */
+    private void startWaitingExecutions()
+    {
+        long now = System.currentTimeMillis();
+
+        while ((! waitingExecutions.isEmpty()) && ((maxConcurrency == 0) || (runningCount < maxConcurrency)))
+        {
+            EngineActionExecution nextExecution = waitingExecutions.peek();
+
+            if (nextExecution.startTime > now)
+            {
+                this.setStartTimer(nextExecution.startTime);
+                return;
+            }
+
+            waitingExecutions.poll();
+            this.startExecution(nextExecution);
+        }
+    }
+
+
+    /**
+     * Start the thread for an engine action.
+     *
+     * @param engineActionExecution execution to start
+     */
+    private void startExecution(EngineActionExecution engineActionExecution)
+    {
+        Runnable runnable = () ->
+        {
+            try
+            {
+                engineActionExecution.governanceServiceHandler.run();
+            }
+            finally
+            {
+                executionComplete(engineActionExecution);
+            }
+        };
+
+        Thread thread;
+
+        if (virtualThreadFactory != null)
+        {
+            thread = virtualThreadFactory.newThread(runnable);
+            thread.setName(engineActionExecution.threadName);
+        }
+        else
+        {
+            thread = new Thread(runnable, engineActionExecution.threadName);
+        }
+
+        engineActionExecution.executionThread = thread;
+        runningCount++;
+
+        thread.start();
+    }
+
+
+    /**
+     * Remove a completed engine action and start the next.  If engine actions were passed over because the pool was
+     * full, the listener is called so that they can be claimed.
+     *
+     * @param engineActionExecution execution that has finished
+     */
+    private void executionComplete(EngineActionExecution engineActionExecution)
+    {
+        synchronized (this)
+        {
+            runningCount--;
+            engineActionExecutions.remove(engineActionExecution.engineActionGUID, engineActionExecution);
+
+            this.startWaitingExecutions();
+        }
+
+        if ((capacityAvailableListener != null) && (this.hasCapacity()) && (engineActionsPassedOver.compareAndSet(true, false)))
+        {
+            try
+            {
+                capacityAvailableListener.run();
+            }
+            catch (Exception error)
+            {
+                log.error("Unable to look for waiting engine actions for governance engine " + governanceEngineName, error);
+            }
+        }
+    }
+
+
+    /**
+     * Make sure that the waiting executions are checked again at the requested time.
+     *
+     * @param startTime time in milliseconds
+     */
+    private void setStartTimer(long startTime)
+    {
+        if (startTime >= nextStartTimerAt)
+        {
+            return;
+        }
+
+        if (startTimer == null)
+        {
+            startTimer = new Timer("Engine action start timer: " + governanceEngineName, true);
+        }
+
+        nextStartTimerAt = startTime;
+
+        startTimer.schedule(new TimerTask()
+        {
+            /**
+             * Start the engine actions that are now due.
+             */
+            @Override
+            public void run()
+            {
+                synchronized (EngineActionExecutionPool.this)
+                {
+                    if (nextStartTimerAt == startTime)
+                    {
+                        nextStartTimerAt = Long.MAX_VALUE;
+                    }
+
+                    startWaitingExecutions();
+                }
+            }
+        }, new Date(startTime));
+    }
+
+
+    /**
+     * EngineActionExecution captures the execution environment for an engine action.  The thread is null until the
+     * governance service starts.
+     */
+    static class EngineActionExecution
+    {
+        final String                   engineActionGUID;
+        final GovernanceServiceHandler governanceServiceHandler;
+        final String                   threadName;
+        final long                     startTime;
+        final long                     sequence;
+        volatile Thread                executionThread = null;
+
+
+        /**
+         * Constructor supplies the details of the engine action.
+         *
+         * @param engineActionGUID unique identifier of the engine action
+         * @param governanceServiceHandler handler that runs the governance service
+         * @param threadName name for the thread that runs the governance service
+         * @param sequence order that the engine action arrived
+         */
+        EngineActionExecution(String                   engineActionGUID,
+                              GovernanceServiceHandler governanceServiceHandler,
+                              String                   threadName,
+                              long                     sequence)
+        {
+            this.engineActionGUID         = engineActionGUID;
+            this.governanceServiceHandler = governanceServiceHandler;
+            this.threadName               = threadName;
+            this.sequence                 = sequence;
+
+            Date requestedStartDate = governanceServiceHandler.getRequestedStartDate();
+
+            if (requestedStartDate == null)
+            {
+                this.startTime = 0L;
+            }
+            else
+            {
+                this.startTime = requestedStartDate.getTime();
+            }
+        }
+    }
+
+
+    /**
+     * ExecutionOrder orders the waiting engine actions by requested start time and then by arrival.
+     */
+    private static class ExecutionOrder implements Comparator<EngineActionExecution>
+    {
+        /**
+         * Compare two engine actions.
+         *
+         * @param first first engine action
+         * @param second second engine action
+         * @return negative if the first engine action should start before the second
+         */
+        @Override
+        public int compare(EngineActionExecution first,
+                           EngineActionExecution second)
+        {
+            int result = Long.compare(first.startTime, second.startTime);
+
+            if (result == 0)
+            {
+                result = Long.compare(first.sequence, second.sequence);
+            }
+
+            return result;
+        }
+    }
+}
@@ -44,7 +44,7 @@ public abstract class GovernanceEngineHandler
     private String        governanceEngineTypeName = null;
     private List<String>  governanceEngineSuperTypeNames = null;
 
-    private final Map<String, EngineActionExecution> engineActionThreadMap = new HashMap<>();
+    private final EngineActionExecutionPool engineActionPool;
 
     protected final GovernanceConfigurationClient configurationClient;        /* Initialized in constructor */
 
@@ -86,6 +86,10 @@ public abstract class GovernanceEngineHandler
         this.engineActionClient      = engineActionClient;
         this.auditLog                = auditLog;
         this.maxPageSize             = maxPageSize;
+        this.engineActionPool        = new EngineActionExecutionPool(governanceEngineName,
+                                                                     engineConfig.getMaxConcurrentEngineActions(),
+                                                                     engineConfig.getEngineActionVirtualThreads(),
+                                                                     this::startMissedEngineActions);
     }
 
     /**
@@ -501,7 +505,8 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * Look for engine actions that were skipped - typically because the events were missed.
+     * Look for engine actions that were skipped - typically because the events were missed, or because
+     * the governance engine was already running as many engine actions as it is allowed to.
      */
     public void startMissedEngineActions()
     {
@@ -520,6 +525,16 @@ public abstract class GovernanceEngineHandler
             {
                 for (EngineActionElement engineActionElement : activeEngineActions)
                 {
+                    if (! engineActionPool.hasCapacity())
+                    {
+                        /*
+                         * The remaining engine actions are left for other engine hosts, or until a running
+                         * engine action completes.
+                         */
+                        engineActionPool.recordPassedOverEngineActions();
+                        return;
+                    }
+
                     if ((engineActionElement != null) &&
                             (engineActionElement.getActionStatus() == ActivityStatus.APPROVED) &&
                             (governanceEngineGUID.equals(engineActionElement.getGovernanceEngineGUID())))
@@ -651,15 +666,29 @@ public abstract class GovernanceEngineHandler
                  */
                 if (latestEngineActionElement.getActionStatus() == ActivityStatus.APPROVED)
                 {
-                    engineActionClient.claimEngineAction(engineUserId, engineActionGUID);
-
-                    runGovernanceService(engineActionGUID,
-                                         latestEngineActionElement.getRequestType(),
-                                         latestEngineActionElement.getRequesterUserId(),
-                                         latestEngineActionElement.getRequestedStartTime(),
-                                         latestEngineActionElement.getRequestParameters(),
-                                         latestEngineActionElement.getRequestSourceElements(),
-                                         latestEngineActionElement.getActionTargetElements());
+                    /*
+                     * The engine action is only claimed if this engine has capacity to run it.  Otherwise, it is
+                     * left for another engine host, or picked up when one of the running engine actions completes.
+                     */
+                    if (engineActionPool.reserveCapacity())
+                    {
+                        try
+                        {
+                            engineActionClient.claimEngineAction(engineUserId, engineActionGUID);
+
+                            runGovernanceService(engineActionGUID,
+                                                 latestEngineActionElement.getRequestType(),
+                                                 latestEngineActionElement.getRequesterUserId(),
+                                                 latestEngineActionElement.getRequestedStartTime(),
+                                                 latestEngineActionElement.getRequestParameters(),
+                                                 latestEngineActionElement.getRequestSourceElements(),
+                                                 latestEngineActionElement.getActionTargetElements());
+                        }
+                        finally
+                        {
+                            engineActionPool.releaseReservation();
+                        }
+                    }
                 }
                 else if ((latestEngineActionElement.getActionStatus() == ActivityStatus.CANCELLED) &&
                         (engineUserId.equals(latestEngineActionElement.getProcessingEngineUserId())))
@@ -739,7 +768,9 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * Start the execution of the governance service on a new thread.
+     * Start the execution of the governance service on a new thread.  The governance service is passed to the
+     * governance engine's execution pool, which starts it once its requested start time has been reached and
+     * the number of running governance services is below the configured limit.
      *
      * @param engineActionGUID unique identifier of the engine action that initiated this request.
      * @param serviceToRun runnable packed with details of the governance service
@@ -754,16 +785,7 @@ public abstract class GovernanceEngineHandler
                                                                                                          PropertyServerException,
                                                                                                          UserNotAuthorizedException
     {
-        Thread thread = new Thread(serviceToRun, threadName);
-
-        EngineActionExecution engineActionExecution = new EngineActionExecution();
-
-        engineActionExecution.executionThread = thread;
-        engineActionExecution.governanceServiceHandler = serviceToRun;
-
-        engineActionThreadMap.put(engineActionGUID, engineActionExecution);
-
-        thread.start();
+        engineActionPool.submit(engineActionGUID, serviceToRun, threadName);
     }
 
 
@@ -777,9 +799,26 @@ public abstract class GovernanceEngineHandler
     {
         final String methodName = "cancelGovernanceService";
 
-        EngineActionExecution engineActionExecution = engineActionThreadMap.get(engineActionGUID);
+        EngineActionExecutionPool.EngineActionExecution engineActionExecution = engineActionPool.getExecution(engineActionGUID);
 
-        if (engineActionExecution.executionThread != null)
+        if (engineActionExecution == null)
+        {
+            return;
+        }
+
+        if (engineActionPool.removeWaitingExecution(engineActionGUID))
+        {
+            /*
+             * The governance service had not started, so it only needs to be disconnected.
+             */
+            auditLog.logMessage(methodName,
+                                EngineHostServicesAuditCode.ENGINE_ACTION_CANCELLED.getMessageDefinition(governanceEngineName,
+                                                                                                         engineActionGUID,
+                                                                                                         engineActionExecution.threadName));
+
+            engineActionExecution.governanceServiceHandler.disconnect();
+        }
+        else if (engineActionExecution.executionThread != null)
         {
             auditLog.logMessage(methodName,
                                 EngineHostServicesAuditCode.ENGINE_ACTION_CANCELLED.getMessageDefinition(governanceEngineName,
@@ -801,17 +840,8 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * A class to capture the execution environment.
-     */
-    static class EngineActionExecution
-    {
-        GovernanceServiceHandler governanceServiceHandler;
-        Thread                   executionThread;
-    }
-
-
-    /**
-     * Confirms termination of the governance engine.
+     * Confirms termination of the governance engine.  Engine actions that have not started are left claimed so
+     * that they are restarted with the engine host.
      */
     public void terminate()
     {
@@ -824,5 +854,6 @@ public abstract class GovernanceEngineHandler
         governanceEngineGUID = null;
         governanceEngineProperties = null;
         governanceServiceLookupTable.clear();
+        engineActionPool.shutdown();
     }
 }
@@ -123,6 +123,17 @@ public abstract class GovernanceServiceHandler implements Runnable
     }
 
 
+    /**
+     * Return the date/time that the governance service should start executing.  Null means as soon as possible.
+     *
+     * @return date or null
+     */
+    public Date getRequestedStartDate()
+    {
+        return requestedStartDate;
+    }
+
+
     /**
      * If the service request has a start time in the future, wait for the start time.
      * Once the service is ready to run, its status is updated to IN_PROGRESS,
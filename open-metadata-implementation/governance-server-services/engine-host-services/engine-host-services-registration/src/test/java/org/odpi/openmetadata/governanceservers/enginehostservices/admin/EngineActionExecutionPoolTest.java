@@ -0,0 +1,248 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link EngineActionExecutionPool}
+ */
+public class EngineActionExecutionPoolTest
+{
+    private static final String governanceEngineName = "testGovernanceEngine";
+
+    private static final long longDelay = 30000L;
+
+
+    /**
+     * Governance service handler that records when it starts and then waits to be released.
+     */
+    private static class TestGovernanceServiceHandler extends GovernanceServiceHandler
+    {
+        private final List<String>   startOrder;
+        private final CountDownLatch release;
+        private final CountDownLatch finished;
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private volatile long startTime = 0L;
+
+
+        /**
+         * Constructor
+         *
+         * @param engineActionGUID unique identifier of the engine action
+         * @param requestedStartDate date/time that the governance service should start executing
+         * @param startOrder list of the engine actions in the order that they started
+         * @param release latch that must be counted down before the governance service completes
+         * @param finished latch counted down when the governance service completes
+         */
+        TestGovernanceServiceHandler(String         engineActionGUID,
+                                     Date           requestedStartDate,
+                                     List<String>   startOrder,
+                                     CountDownLatch release,
+                                     CountDownLatch finished)
+        {
+            super(null,
+                  "testGovernanceEngineGUID",
+                  "testUser",
+                  engineActionGUID,
+                  null,
+                  "testRequestType",
+                  "testGovernanceServiceGUID",
+                  "testGovernanceService",
+                  null,
+                  requestedStartDate,
+                  null);
+
+            this.startOrder = startOrder;
+            this.release    = release;
+            this.finished   = finished;
+        }
+
+
+        /**
+         * Record the start and wait to be released.
+         */
+        @Override
+        public void run()
+        {
+            startTime = System.currentTimeMillis();
+            startOrder.add(engineActionGUID);
+            started.countDown();
+
+            try
+            {
+                release.await(longDelay, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+            finally
+            {
+                finished.countDown();
+            }
+        }
+    }
+
+
+    /**
+     * Submit an engine action to the pool.
+     *
+     * @param pool pool to submit to
+     * @param engineActionGUID unique identifier of the engine action
+     * @param requestedStartDate date/time that the governance service should start executing
+     * @param startOrder list of the engine actions in the order that they started
+     * @param release latch that must be counted down before the governance service completes
+     * @param finished latch counted down when the governance service completes
+     * @return handler for the engine action
+     */
+    private TestGovernanceServiceHandler submit(EngineActionExecutionPool pool,
+                                                String                    engineActionGUID,
+                                                Date                      requestedStartDate,
+                                                List<String>              startOrder,
+                                                CountDownLatch            release,
+                                                CountDownLatch            finished)
+    {
+        TestGovernanceServiceHandler handler = new TestGovernanceServiceHandler(engineActionGUID,
+                                                                                requestedStartDate,
+                                                                                startOrder,
+                                                                                release,
+                                                                                finished);
+
+        pool.submit(engineActionGUID, handler, "test-" + engineActionGUID);
+
+        return handler;
+    }
+
+
+    @Test
+    public void testWaitingEngineActionsStartInPriorityOrder() throws Exception
+    {
+        EngineActionExecutionPool pool       = new EngineActionExecutionPool(governanceEngineName, 1, false, null);
+        List<String>              startOrder = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch            release    = new CountDownLatch(1);
+        CountDownLatch            finished   = new CountDownLatch(5);
+        long                      now        = System.currentTimeMillis();
+
+        TestGovernanceServiceHandler blocker = this.submit(pool, "blocker", null, startOrder, release, finished);
+
+        Assert.assertTrue(blocker.started.await(longDelay, TimeUnit.MILLISECONDS));
+
+        /*
+         * The pool is full so these engine actions wait.  They are ordered by requested start time and then
+         * by arrival.
+         */
+        this.submit(pool, "late", new Date(now - 1000L), startOrder, release, finished);
+        this.submit(pool, "none1", null, startOrder, release, finished);
+        this.submit(pool, "early", new Date(now - 2000L), startOrder, release, finished);
+        this.submit(pool, "none2", null, startOrder, release, finished);
+
+        Assert.assertEquals(pool.getRunningCount(), 1);
+        Assert.assertEquals(pool.getWaitingCount(), 4);
+
+        release.countDown();
+
+        Assert.assertTrue(finished.await(longDelay, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(startOrder, List.of("blocker", "none1", "none2", "early", "late"));
+    }
+
+
+    @Test
+    public void testFutureStartTimer() throws Exception
+    {
+        EngineActionExecutionPool pool       = new EngineActionExecutionPool(governanceEngineName, 1, false, null);
+        List<String>              startOrder = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch            release    = new CountDownLatch(0);
+        CountDownLatch            finished   = new CountDownLatch(1);
+        long                      startTime  = System.currentTimeMillis() + 300L;
+
+        try
+        {
+            TestGovernanceServiceHandler handler = this.submit(pool, "future", new Date(startTime), startOrder, release, finished);
+
+            /*
+             * The engine action waits in the queue without a thread until its start time.
+             */
+            Assert.assertEquals(pool.getRunningCount(), 0);
+            Assert.assertEquals(pool.getWaitingCount(), 1);
+
+            Assert.assertTrue(handler.started.await(longDelay, TimeUnit.MILLISECONDS));
+            Assert.assertTrue(handler.startTime >= startTime);
+            Assert.assertTrue(finished.await(longDelay, TimeUnit.MILLISECONDS));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+
+    @Test
+    public void testCapacity() throws Exception
+    {
+        EngineActionExecutionPool pool       = new EngineActionExecutionPool(governanceEngineName, 2, false, null);
+        List<String>              startOrder = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch            release    = new CountDownLatch(1);
+        CountDownLatch            finished   = new CountDownLatch(3);
+
+        try
+        {
+            /*
+             * An engine action that is not due yet does not use any capacity.
+             */
+            this.submit(pool, "future", new Date(System.currentTimeMillis() + longDelay), startOrder, release, finished);
+
+            Assert.assertEquals(pool.getWaitingCount(), 1);
+            Assert.assertTrue(pool.hasCapacity());
+
+            /*
+             * Reservations and running engine actions use capacity.
+             */
+            Assert.assertTrue(pool.reserveCapacity());
+
+            TestGovernanceServiceHandler running = this.submit(pool, "running", null, startOrder, release, finished);
+
+            Assert.assertTrue(running.started.await(longDelay, TimeUnit.MILLISECONDS));
+            Assert.assertFalse(pool.hasCapacity());
+            Assert.assertFalse(pool.reserveCapacity());
+
+            pool.releaseReservation();
+
+            Assert.assertTrue(pool.hasCapacity());
+            Assert.assertTrue(pool.reserveCapacity());
+
+            pool.releaseReservation();
+
+            /*
+             * Once the pool is full, a due engine action waits for a thread.
+             */
+            TestGovernanceServiceHandler second = this.submit(pool, "second", null, startOrder, release, finished);
+
+            Assert.assertTrue(second.started.await(longDelay, TimeUnit.MILLISECONDS));
+
+            this.submit(pool, "due", null, startOrder, release, finished);
+
+            Assert.assertEquals(pool.getRunningCount(), 2);
+            Assert.assertEquals(pool.getWaitingCount(), 2);
+            Assert.assertFalse(pool.hasCapacity());
+
+            release.countDown();
+
+            Assert.assertTrue(finished.await(longDelay, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(startOrder, List.of("running", "second", "due"));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+}
@@ -8,8 +8,6 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecordOriginator;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -17,14 +15,19 @@ import java.util.List;
 
 /**
  * OMRSAuditLogDestination provides information needed to log records to the configured audit log destinations
- * for a specific server instance.
+ * for a specific server instance.  Each audit log store is fed through its own pipeline, with a bounded queue and
+ * a thread that passes the log records to the store.  This means that a slow store, such as one writing to a
+ * database or event topic, does not hold up the caller or the faster stores such as the console.
  */
 public class OMRSAuditLogDestination extends AuditLogDestination
 {
-    private final OMRSAuditLogRecordOriginator omrsOriginator = new OMRSAuditLogRecordOriginator();
-    private       List<OMRSAuditLogStore>      auditLogStores = null;
+    /**
+     * Default number of log records that may wait for each audit log store.
+     */
+    public static final int defaultQueueCapacity = 10000;
 
-    private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogDestination.class);
+    private final OMRSAuditLogRecordOriginator    omrsOriginator         = new OMRSAuditLogRecordOriginator();
+    private       List<OMRSAuditLogStorePipeline> auditLogStorePipelines = null;
 
 
     /**
@@ -40,6 +43,25 @@ public class OMRSAuditLogDestination extends AuditLogDestination
                                    String                  localServerType,
                                    String                  localOrganizationName,
                                    List<OMRSAuditLogStore> auditLogStores)
+    {
+        this(localServerName, localServerType, localOrganizationName, auditLogStores, defaultQueueCapacity);
+    }
+
+
+    /**
+     * Initialize the static values used in all log records and the size of the queue for each audit log store.
+     *
+     * @param localServerName name of the local server
+     * @param localServerType type of the local server
+     * @param localOrganizationName name of the organization that owns the local server
+     * @param auditLogStores list of destinations for the audit log records
+     * @param queueCapacity maximum number of log records waiting for each audit log store
+     */
+    public OMRSAuditLogDestination(String                  localServerName,
+                                   String                  localServerType,
+                                   String                  localOrganizationName,
+                                   List<OMRSAuditLogStore> auditLogStores,
+                                   int                     queueCapacity)
     {
         super();
 
@@ -63,7 +85,19 @@ public class OMRSAuditLogDestination extends AuditLogDestination
 
         if (auditLogStores != null)
         {
-            this.auditLogStores = new ArrayList<>(auditLogStores);
+            this.auditLogStorePipelines = new ArrayList<>();
+
+            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            {
+                if (auditLogStore != null)
+                {
+                    OMRSAuditLogStorePipeline auditLogStorePipeline = new OMRSAuditLogStorePipeline(auditLogStore,
+                                                                                                    localServerName,
+                                                                                                    queueCapacity);
+                    auditLogStorePipeline.start();
+                    this.auditLogStorePipelines.add(auditLogStorePipeline);
+                }
+            }
         }
     }
 
@@ -105,27 +139,33 @@ public class OMRSAuditLogDestination extends AuditLogDestination
 
     /**
      * Log an audit log record for an event, decision, error, or exception detected by the
-     * open metadata services.
+     * open metadata services.  The log record is queued for each audit log store that supports its severity.
      *
      * @param logRecord the log record
      */
     void addLogRecord(OMRSAuditLogRecord logRecord)
     {
-        if (auditLogStores != null)
+        if (auditLogStorePipelines != null)
         {
-            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            for (OMRSAuditLogStorePipeline auditLogStorePipeline : auditLogStorePipelines)
             {
-                if (auditLogStore != null)
-                {
-                    try
-                    {
-                        auditLogStore.storeLogRecord(new OMRSAuditLogRecord(logRecord));
-                    }
-                    catch (Exception error)
-                    {
-                        log.error("Error: " + error + " writing audit log: " + logRecord + " to destination " + auditLogStore.getClass().getName());
-                    }
-                }
+                auditLogStorePipeline.addLogRecord(logRecord);
+            }
+        }
+    }
+
+
+    /**
+     * Pass the queued log records to the audit log stores, stop the pipeline threads and disconnect the audit log
+     * store connectors.  Any log records added after this call are discarded.
+     */
+    public void disconnect()
+    {
+        if (auditLogStorePipelines != null)
+        {
+            for (OMRSAuditLogStorePipeline auditLogStorePipeline : auditLogStorePipelines)
+            {
+                auditLogStorePipeline.disconnect();
             }
         }
     }
@@ -140,26 +180,27 @@ public class OMRSAuditLogDestination extends AuditLogDestination
     {
         OMRSAuditLogDestinationsReport report = null;
 
-        if (auditLogStores != null)
+        if (auditLogStorePipelines != null)
         {
             report = new OMRSAuditLogDestinationsReport();
 
-            List<OMRSAuditLogStoreReport>  storeReportList = new ArrayList<>();
+            List<OMRSAuditLogStoreReport>  storeReportList    = new ArrayList<>();
+            long                           droppedRecordCount = 0L;
+            long                           maxStoreLag        = 0L;
 
-            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            for (OMRSAuditLogStorePipeline auditLogStorePipeline : auditLogStorePipelines)
             {
-                if (auditLogStore != null)
-                {
-                    OMRSAuditLogStoreReport auditLogStoreReport = new OMRSAuditLogStoreReport();
+                OMRSAuditLogStoreReport auditLogStoreReport = auditLogStorePipeline.getStoreReport();
 
-                    auditLogStoreReport.setDestinationName(auditLogStore.getDestinationName());
-                    auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
-                    auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
+                droppedRecordCount += auditLogStoreReport.getDroppedRecordCount();
+                maxStoreLag = Math.max(maxStoreLag, auditLogStoreReport.getMaxStoreLag());
 
-                    storeReportList.add(auditLogStoreReport);
-                }
+                storeReportList.add(auditLogStoreReport);
             }
 
+            report.setDroppedRecordCount(droppedRecordCount);
+            report.setMaxStoreLag(maxStoreLag);
+
             if (! storeReportList.isEmpty())
             {
                 report.setLogStoreReports(storeReportList);
@@ -16,7 +16,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 
 /**
  * OMRSAuditLogDestinationReport is a container for properties about the logging destinations
- * supported by this audit log.
+ * supported by this audit log.  It includes totals of the log records dropped because an audit log store
+ * could not keep up, and the longest delay between a log record being created and stored.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -25,7 +26,9 @@ public class OMRSAuditLogDestinationsReport implements Serializable
 {
     private static final long    serialVersionUID = 1L;
 
-    private List<OMRSAuditLogStoreReport> logStoreReports = null;
+    private List<OMRSAuditLogStoreReport> logStoreReports    = null;
+    private long                          droppedRecordCount = 0L;
+    private long                          maxStoreLag        = 0L;
 
 
     /**
@@ -45,7 +48,9 @@ public class OMRSAuditLogDestinationsReport implements Serializable
     {
         if (template != null)
         {
-            logStoreReports = template.getLogStoreReports();
+            logStoreReports    = template.getLogStoreReports();
+            droppedRecordCount = template.getDroppedRecordCount();
+            maxStoreLag        = template.getMaxStoreLag();
         }
     }
 
@@ -81,6 +86,52 @@ public class OMRSAuditLogDestinationsReport implements Serializable
     }
 
 
+    /**
+     * Return the number of log records dropped across all audit log stores because their queue was full.
+     *
+     * @return count
+     */
+    public long getDroppedRecordCount()
+    {
+        return droppedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records dropped across all audit log stores because their queue was full.
+     *
+     * @param droppedRecordCount count
+     */
+    public void setDroppedRecordCount(long droppedRecordCount)
+    {
+        this.droppedRecordCount = droppedRecordCount;
+    }
+
+
+    /**
+     * Return the longest time in milliseconds between a log record being created and it being stored by any
+     * audit log store.
+     *
+     * @return milliseconds
+     */
+    public long getMaxStoreLag()
+    {
+        return maxStoreLag;
+    }
+
+
+    /**
+     * Set up the longest time in milliseconds between a log record being created and it being stored by any
+     * audit log store.
+     *
+     * @param maxStoreLag milliseconds
+     */
+    public void setMaxStoreLag(long maxStoreLag)
+    {
+        this.maxStoreLag = maxStoreLag;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -91,6 +142,8 @@ public class OMRSAuditLogDestinationsReport implements Serializable
     {
         return "OMRSAuditLogDestinationsReport{" +
                 "logStoreReports=" + logStoreReports +
+                ", droppedRecordCount=" + droppedRecordCount +
+                ", maxStoreLag=" + maxStoreLag +
                 '}';
     }
 
@@ -113,7 +166,9 @@ public class OMRSAuditLogDestinationsReport implements Serializable
             return false;
         }
         OMRSAuditLogDestinationsReport that = (OMRSAuditLogDestinationsReport) objectToCompare;
-        return Objects.equals(logStoreReports, that.logStoreReports);
+        return droppedRecordCount == that.droppedRecordCount &&
+                maxStoreLag == that.maxStoreLag &&
+                Objects.equals(logStoreReports, that.logStoreReports);
     }
 
 
@@ -125,6 +180,6 @@ public class OMRSAuditLogDestinationsReport implements Serializable
     @Override
     public int hashCode()
     {
-        return Objects.hash(logStoreReports);
+        return Objects.hash(logStoreReports, droppedRecordCount, maxStoreLag);
     }
 }
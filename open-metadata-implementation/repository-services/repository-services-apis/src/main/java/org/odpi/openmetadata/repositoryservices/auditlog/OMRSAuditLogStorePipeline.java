@@ -0,0 +1,279 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OMRSAuditLogStorePipeline passes log records to a single audit log store on its own thread.  The log records
+ * wait in a bounded queue, so a slow store does not delay the components writing to the audit log, or the other
+ * stores.  Log records with a severity that the store does not support are discarded before they are queued.
+ * If the queue is full, the log record is dropped and counted rather than blocking the caller.
+ * <br><br>
+ * Once the pipeline is stopped, log records are passed to the store on the caller's thread so that
+ * the messages logged while the server shuts down are not lost.  When the pipeline is disconnected, the store's
+ * connector is disconnected too and any later log records are dropped.
+ */
+class OMRSAuditLogStorePipeline implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogStorePipeline.class);
+
+    private static final long pollInterval       = 1000L;
+    private static final long stopTimeout        = 10000L;
+    private static final long dropReportInterval = 1000L;
+
+    private final OMRSAuditLogStore                      auditLogStore;
+    private final String                                 threadName;
+    private final Set<String>                            supportedSeverities;
+    private final int                                    queueCapacity;
+    private final ArrayBlockingQueue<OMRSAuditLogRecord> logRecordQueue;
+
+    private final AtomicLong storedRecordCount  = new AtomicLong(0L);
+    private final AtomicLong droppedRecordCount = new AtomicLong(0L);
+    private final AtomicLong failedRecordCount  = new AtomicLong(0L);
+
+    private volatile long    lastStoreLag   = 0L;
+    private volatile long    maxStoreLag    = 0L;
+    private volatile boolean running        = false;
+    private volatile boolean disconnected   = false;
+    private Thread           consumerThread = null;
+
+
+    /**
+     * Constructor supplies the store and the size of its queue.
+     *
+     * @param auditLogStore store to pass the log records to
+     * @param localServerName name of the local server (for the thread name)
+     * @param queueCapacity maximum number of log records waiting for the store
+     */
+    OMRSAuditLogStorePipeline(OMRSAuditLogStore auditLogStore,
+                              String            localServerName,
+                              int               queueCapacity)
+    {
+        this.auditLogStore  = auditLogStore;
+        this.threadName     = "Audit Log Store: " + localServerName + ": " + auditLogStore.getDestinationName();
+        this.queueCapacity  = queueCapacity;
+        this.logRecordQueue = new ArrayBlockingQueue<>(queueCapacity);
+
+        List<String> storeSeverities = auditLogStore.getSupportedSeverities();
+
+        if ((storeSeverities == null) || (storeSeverities.isEmpty()))
+        {
+            this.supportedSeverities = null;
+        }
+        else
+        {
+            this.supportedSeverities = new HashSet<>(storeSeverities);
+        }
+    }
+
+
+    /**
+     * Start the consumer thread.
+     */
+    synchronized void start()
+    {
+        if (consumerThread == null)
+        {
+            running = true;
+
+            consumerThread = new Thread(this, threadName);
+            consumerThread.setDaemon(true);
+            consumerThread.start();
+        }
+    }
+
+
+    /**
+     * Stop the consumer thread once it has passed the queued log records to the store.  Log records added after
+     * this call are passed to the store on the caller's thread.
+     */
+    synchronized void stop()
+    {
+        if (consumerThread != null)
+        {
+            running = false;
+
+            try
+            {
+                consumerThread.join(stopTimeout);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (! consumerThread.isAlive())
+            {
+                /*
+                 * Catch any log records that were queued after the consumer thread saw an empty queue.
+                 */
+                OMRSAuditLogRecord logRecord;
+
+                while ((logRecord = logRecordQueue.poll()) != null)
+                {
+                    this.storeLogRecord(logRecord);
+                }
+            }
+            else
+            {
+                log.warn("Audit log store " + auditLogStore.getDestinationName() + " did not finish within " + stopTimeout +
+                                 "ms; " + logRecordQueue.size() + " log records have not been stored");
+            }
+
+            consumerThread = null;
+        }
+    }
+
+
+    /**
+     * Stop the consumer thread and then disconnect the store's connector so that it can release its resources
+     * (such as its own threads and database connections) and write any log records it is holding.
+     */
+    synchronized void disconnect()
+    {
+        this.stop();
+
+        disconnected = true;
+
+        if (auditLogStore instanceof Connector connector)
+        {
+            try
+            {
+                connector.disconnect();
+            }
+            catch (Exception error)
+            {
+                log.error("Error: " + error + " disconnecting audit log store " + auditLogStore.getDestinationName(), error);
+            }
+        }
+    }
+
+
+    /**
+     * Queue a log record for the store if the store supports its severity.
+     *
+     * @param logRecord log record
+     */
+    void addLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        if ((supportedSeverities != null) && (! supportedSeverities.contains(logRecord.getSeverity())))
+        {
+            return;
+        }
+
+        if (disconnected)
+        {
+            droppedRecordCount.incrementAndGet();
+        }
+        else if (! running)
+        {
+            this.storeLogRecord(new OMRSAuditLogRecord(logRecord));
+        }
+        else if (! logRecordQueue.offer(new OMRSAuditLogRecord(logRecord)))
+        {
+            long droppedCount = droppedRecordCount.incrementAndGet();
+
+            if (droppedCount % dropReportInterval == 1)
+            {
+                log.warn("The queue for audit log store " + auditLogStore.getDestinationName() + " is full; " + droppedCount +
+                                 " log records have been dropped, including " + logRecord);
+            }
+        }
+    }
+
+
+    /**
+     * Pass the queued log records to the store until the pipeline is stopped and the queue is empty.
+     */
+    @Override
+    public void run()
+    {
+        while ((running) || (! logRecordQueue.isEmpty()))
+        {
+            try
+            {
+                OMRSAuditLogRecord logRecord = logRecordQueue.poll(pollInterval, TimeUnit.MILLISECONDS);
+
+                if (logRecord != null)
+                {
+                    this.storeLogRecord(logRecord);
+                }
+            }
+            catch (InterruptedException interrupted)
+            {
+                log.debug("Audit log store pipeline " + threadName + " interrupted");
+            }
+        }
+    }
+
+
+    /**
+     * Pass a log record to the store and record how long after it was created it was stored.
+     *
+     * @param logRecord log record
+     */
+    private void storeLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        try
+        {
+            auditLogStore.storeLogRecord(logRecord);
+            storedRecordCount.incrementAndGet();
+
+            Date timeStamp = logRecord.getTimeStamp();
+
+            if (timeStamp != null)
+            {
+                long storeLag = Math.max(0L, System.currentTimeMillis() - timeStamp.getTime());
+
+                lastStoreLag = storeLag;
+
+                if (storeLag > maxStoreLag)
+                {
+                    maxStoreLag = storeLag;
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            failedRecordCount.incrementAndGet();
+            log.error("Error: " + error + " writing audit log: " + logRecord + " to destination " + auditLogStore.getClass().getName());
+        }
+    }
+
+
+    /**
+     * Return a report describing the store and the state of its queue.
+     *
+     * @return report
+     */
+    OMRSAuditLogStoreReport getStoreReport()
+    {
+        OMRSAuditLogStoreReport auditLogStoreReport = new OMRSAuditLogStoreReport();
+
+        auditLogStoreReport.setDestinationName(auditLogStore.getDestinationName());
+        auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
+        auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
+        auditLogStoreReport.setQueueCapacity(queueCapacity);
+        auditLogStoreReport.setQueuedRecordCount(logRecordQueue.size());
+        auditLogStoreReport.setStoredRecordCount(storedRecordCount.get());
+        auditLogStoreReport.setDroppedRecordCount(droppedRecordCount.get());
+        auditLogStoreReport.setFailedRecordCount(failedRecordCount.get());
+        auditLogStoreReport.setLastStoreLag(lastStoreLag);
+        auditLogStoreReport.setMaxStoreLag(maxStoreLag);
+
+        return auditLogStoreReport;
+    }
+}
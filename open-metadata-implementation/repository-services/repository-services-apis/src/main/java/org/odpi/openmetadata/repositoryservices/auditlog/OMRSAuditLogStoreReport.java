@@ -16,7 +16,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 /**
- * OMRSAuditLogStoreReport is a bean to describe one of the audit log store connectors registered with a server.
+ * OMRSAuditLogStoreReport is a bean to describe one of the audit log store connectors registered with a server,
+ * along with the state of the queue of log records waiting to be passed to it.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -28,6 +29,13 @@ public class OMRSAuditLogStoreReport implements Serializable
     private String       destinationName     = null;
     private List<String> supportedSeverities = null;
     private String       implementationClass = null;
+    private int          queueCapacity       = 0;
+    private int          queuedRecordCount   = 0;
+    private long         storedRecordCount   = 0L;
+    private long         droppedRecordCount  = 0L;
+    private long         failedRecordCount   = 0L;
+    private long         lastStoreLag        = 0L;
+    private long         maxStoreLag         = 0L;
 
 
     /**
@@ -50,6 +58,13 @@ public class OMRSAuditLogStoreReport implements Serializable
             destinationName = template.getDestinationName();
             supportedSeverities = template.getSupportedSeverities();
             implementationClass = template.getImplementationClass();
+            queueCapacity = template.getQueueCapacity();
+            queuedRecordCount = template.getQueuedRecordCount();
+            storedRecordCount = template.getStoredRecordCount();
+            droppedRecordCount = template.getDroppedRecordCount();
+            failedRecordCount = template.getFailedRecordCount();
+            lastStoreLag = template.getLastStoreLag();
+            maxStoreLag = template.getMaxStoreLag();
         }
     }
 
@@ -129,6 +144,160 @@ public class OMRSAuditLogStoreReport implements Serializable
     }
 
 
+    /**
+     * Return the maximum number of log records that may wait for this audit log store.
+     *
+     * @return count
+     */
+    public int getQueueCapacity()
+    {
+        return queueCapacity;
+    }
+
+
+    /**
+     * Set up the maximum number of log records that may wait for this audit log store.
+     *
+     * @param queueCapacity count
+     */
+    public void setQueueCapacity(int queueCapacity)
+    {
+        this.queueCapacity = queueCapacity;
+    }
+
+
+    /**
+     * Return the number of log records waiting to be passed to this audit log store.
+     *
+     * @return count
+     */
+    public int getQueuedRecordCount()
+    {
+        return queuedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records waiting to be passed to this audit log store.
+     *
+     * @param queuedRecordCount count
+     */
+    public void setQueuedRecordCount(int queuedRecordCount)
+    {
+        this.queuedRecordCount = queuedRecordCount;
+    }
+
+
+    /**
+     * Return the number of log records passed to this audit log store.
+     *
+     * @return count
+     */
+    public long getStoredRecordCount()
+    {
+        return storedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records passed to this audit log store.
+     *
+     * @param storedRecordCount count
+     */
+    public void setStoredRecordCount(long storedRecordCount)
+    {
+        this.storedRecordCount = storedRecordCount;
+    }
+
+
+    /**
+     * Return the number of log records dropped because the queue for this audit log store was full.
+     *
+     * @return count
+     */
+    public long getDroppedRecordCount()
+    {
+        return droppedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records dropped because the queue for this audit log store was full.
+     *
+     * @param droppedRecordCount count
+     */
+    public void setDroppedRecordCount(long droppedRecordCount)
+    {
+        this.droppedRecordCount = droppedRecordCount;
+    }
+
+
+    /**
+     * Return the number of log records that this audit log store rejected with an exception.
+     *
+     * @return count
+     */
+    public long getFailedRecordCount()
+    {
+        return failedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records that this audit log store rejected with an exception.
+     *
+     * @param failedRecordCount count
+     */
+    public void setFailedRecordCount(long failedRecordCount)
+    {
+        this.failedRecordCount = failedRecordCount;
+    }
+
+
+    /**
+     * Return the time in milliseconds between the most recently stored log record being created and it being stored.
+     *
+     * @return milliseconds
+     */
+    public long getLastStoreLag()
+    {
+        return lastStoreLag;
+    }
+
+
+    /**
+     * Set up the time in milliseconds between the most recently stored log record being created and it being stored.
+     *
+     * @param lastStoreLag milliseconds
+     */
+    public void setLastStoreLag(long lastStoreLag)
+    {
+        this.lastStoreLag = lastStoreLag;
+    }
+
+
+    /**
+     * Return the longest time in milliseconds between a log record being created and it being stored.
+     *
+     * @return milliseconds
+     */
+    public long getMaxStoreLag()
+    {
+        return maxStoreLag;
+    }
+
+
+    /**
+     * Set up the longest time in milliseconds between a log record being created and it being stored.
+     *
+     * @param maxStoreLag milliseconds
+     */
+    public void setMaxStoreLag(long maxStoreLag)
+    {
+        this.maxStoreLag = maxStoreLag;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -141,6 +310,13 @@ public class OMRSAuditLogStoreReport implements Serializable
                 "destinationName='" + destinationName + '\'' +
                 ", supportedSeverities=" + supportedSeverities +
                 ", implementationClass='" + implementationClass + '\'' +
+                ", queueCapacity=" + queueCapacity +
+                ", queuedRecordCount=" + queuedRecordCount +
+                ", storedRecordCount=" + storedRecordCount +
+                ", droppedRecordCount=" + droppedRecordCount +
+                ", failedRecordCount=" + failedRecordCount +
+                ", lastStoreLag=" + lastStoreLag +
+                ", maxStoreLag=" + maxStoreLag +
                 '}';
     }
 
@@ -163,7 +339,14 @@ public class OMRSAuditLogStoreReport implements Serializable
             return false;
         }
         OMRSAuditLogStoreReport that = (OMRSAuditLogStoreReport) objectToCompare;
-        return Objects.equals(destinationName, that.destinationName) &&
+        return queueCapacity == that.queueCapacity &&
+                queuedRecordCount == that.queuedRecordCount &&
+                storedRecordCount == that.storedRecordCount &&
+                droppedRecordCount == that.droppedRecordCount &&
+                failedRecordCount == that.failedRecordCount &&
+                lastStoreLag == that.lastStoreLag &&
+                maxStoreLag == that.maxStoreLag &&
+                Objects.equals(destinationName, that.destinationName) &&
                 Objects.equals(supportedSeverities, that.supportedSeverities) &&
                 Objects.equals(implementationClass, that.implementationClass);
     }
@@ -177,6 +360,7 @@ public class OMRSAuditLogStoreReport implements Serializable
     @Override
     public int hashCode()
     {
-        return Objects.hash(destinationName, supportedSeverities, implementationClass);
+        return Objects.hash(destinationName, supportedSeverities, implementationClass, queueCapacity, queuedRecordCount,
+                            storedRecordCount, droppedRecordCount, failedRecordCount, lastStoreLag, maxStoreLag);
     }
 }
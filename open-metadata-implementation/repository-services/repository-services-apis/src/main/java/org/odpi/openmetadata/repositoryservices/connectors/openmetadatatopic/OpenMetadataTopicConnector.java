@@ -2,11 +2,27 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDescription;
@@ -27,7 +43,15 @@ import org.slf4j.LoggerFactory;
  * extend this class to include the interaction with the eventing/messaging layer.
  * <ul>
  *     <li>
- *         For inbound events it should call the protected distributeEvents() method.
+ *         Setting the dispatchLanes configuration property to a number greater than one spreads the events over that
+ *         many worker threads.  Events for the same metadata instance always go to the same worker thread so they are
+ *         processed in the order they were received.  Events that are not about a single instance wait for all the
+ *         worker threads to finish their work and are then processed on the listener thread.
+ *     </li>
+ *     <li>
+ *         For inbound events it should either return them from checkForIncomingEvents(), which is polled by the
+ *         listener thread, or hand them to queueIncomingEvent(), which wakes the listener thread immediately.
+ *         The queue is bounded so a producer that gets ahead of the listeners is held back until there is space.
  *     </li>
  *     <li>
  *         For outbound events, callers will invoke the sendEvent() method.
@@ -52,6 +76,31 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     private String                                listenerThreadName = defaultThreadName;
     private String                                topicName          = defaultTopicName;
     private int                                   sleepTime          = 100;
+    private int                                   eventQueueCapacity = 1000;
+    private volatile Thread                       listenerThread     = null;
+    private ThreadPoolExecutor[]                  dispatchLanes      = null;
+    private Future<?>[]                           dispatchLaneTails  = null;
+    private final Set<Thread>                     dispatchLaneThreads = ConcurrentHashMap.newKeySet();
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    /*
+     * Events handed over by subclasses.  Events queued by the listener thread or a dispatch lane thread (for example,
+     * a listener that sends an event on the same topic) or before the listener thread has started go to the unbounded
+     * overflow queue, since waiting for space would never end.
+     */
+    private volatile BlockingQueue<QueuedEvent>   incomingEventQueue = new LinkedBlockingQueue<>(eventQueueCapacity);
+    private final Queue<QueuedEvent>              overflowEventQueue = new ConcurrentLinkedQueue<>();
+
+    /*
+     * Metrics for queued events.
+     */
+    private final AtomicLong maxEventQueueDepth   = new AtomicLong(0);
+    private final AtomicLong queuedEventCount     = new AtomicLong(0);
+    private final AtomicLong dispatchedEventCount = new AtomicLong(0);
+    private final AtomicLong backpressureCount    = new AtomicLong(0);
+    private final AtomicLong totalDispatchLatency = new AtomicLong(0);
+    private final AtomicLong maxDispatchLatency   = new AtomicLong(0);
 
     protected AuditLog auditLog = null;
 
@@ -120,7 +169,7 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                         {
                             if (event != null)
                             {
-                                this.distributeEvent(event);
+                                this.dispatchEvent(new QueuedEvent(event, System.nanoTime()));
                             }
                         }
                     }
@@ -130,7 +179,11 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                     log.error("Bad exception from checkForEvents", error);
                 }
 
-                Thread.sleep(sleepTime);
+                /*
+                 * Rather than sleeping, wait for a queued event.  The listener thread wakes as soon as one arrives,
+                 * or after the sleep time so that checkForIncomingEvents() is polled again.
+                 */
+                this.distributeQueuedEvents(incomingEventQueue.poll(sleepTime, TimeUnit.MILLISECONDS));
             }
             catch (InterruptedException   wakeUp)
             {
@@ -140,6 +193,15 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
         if (auditLog != null)
         {
+            auditLog.logMessage(listenerThreadName,
+                                OMRSAuditCode.OPEN_METADATA_TOPIC_QUEUE_STATISTICS.getMessageDefinition(topicName,
+                                                                                                     Long.toString(this.getQueuedEventCount()),
+                                                                                                     Long.toString(this.getDispatchedEventCount()),
+                                                                                                     Long.toString(this.getMaxEventQueueDepth()),
+                                                                                                     Integer.toString(eventQueueCapacity),
+                                                                                                     Long.toString(this.getBackpressureCount()),
+                                                                                                     Long.toString(this.getAverageDispatchLatency()),
+                                                                                                     Long.toString(this.getMaxDispatchLatency())));
             auditLog.logMessage(listenerThreadName,
                                 OMRSAuditCode.OPEN_METADATA_TOPIC_LISTENER_SHUTDOWN.getMessageDefinition(topicName),
                                 this.getConnection().toString());
@@ -147,6 +209,265 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Distribute the supplied queued event, followed by any other events that are waiting in the queues.
+     *
+     * @param queuedEvent event returned from the queue or null if the queue was empty
+     */
+    private void distributeQueuedEvents(QueuedEvent queuedEvent)
+    {
+        QueuedEvent nextEvent = queuedEvent;
+
+        while (nextEvent != null)
+        {
+            this.dispatchEvent(nextEvent);
+
+            nextEvent = overflowEventQueue.poll();
+
+            if (nextEvent == null)
+            {
+                nextEvent = incomingEventQueue.poll();
+            }
+        }
+
+        QueuedEvent overflowEvent = overflowEventQueue.poll();
+
+        while (overflowEvent != null)
+        {
+            this.dispatchEvent(overflowEvent);
+
+            overflowEvent = overflowEventQueue.poll();
+        }
+    }
+
+
+    /**
+     * Pass an event to the listeners.  If dispatch lanes are configured, an event about a single metadata instance is
+     * handed to the lane for that instance.  Any other event waits until the lanes have caught up so that, for example,
+     * a new type is not processed ahead of the instance events received before it.
+     *
+     * @param queuedEvent event to distribute
+     */
+    private void dispatchEvent(QueuedEvent queuedEvent)
+    {
+        if (dispatchLanes == null)
+        {
+            this.distributeQueuedEvent(queuedEvent);
+            return;
+        }
+
+        String orderingKey = this.getOrderingKey(queuedEvent.event());
+
+        if (orderingKey == null)
+        {
+            this.awaitDispatchLanes();
+            this.distributeQueuedEvent(queuedEvent);
+        }
+        else
+        {
+            int lane = Math.floorMod(orderingKey.hashCode(), dispatchLanes.length);
+
+            try
+            {
+                dispatchLaneTails[lane] = dispatchLanes[lane].submit(() -> this.distributeQueuedEvent(queuedEvent));
+            }
+            catch (RejectedExecutionException shutdown)
+            {
+                log.debug("Event {} not dispatched because the connector is shutting down", queuedEvent.event().getMessageId());
+            }
+        }
+    }
+
+
+    /**
+     * Wait for all the events already handed to the dispatch lanes to be distributed.
+     */
+    private void awaitDispatchLanes()
+    {
+        for (int lane = 0; lane < dispatchLaneTails.length; lane++)
+        {
+            if (dispatchLaneTails[lane] != null)
+            {
+                try
+                {
+                    dispatchLaneTails[lane].get();
+                }
+                catch (ExecutionException error)
+                {
+                    log.error("Bad exception from dispatch lane", error);
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                dispatchLaneTails[lane] = null;
+            }
+        }
+    }
+
+
+    /**
+     * Return the key that determines which dispatch lane an event is processed on.  Events with the same key are
+     * distributed in the order they were received.  The default implementation returns the unique identifier of the
+     * metadata instance for OMRS instance events.  Null is returned for all other events, and for events that
+     * affect more than one instance (such as batch and re-identify events), so they are processed once all earlier
+     * events have been distributed.
+     *
+     * @param event incoming event
+     * @return ordering key or null
+     */
+    protected String getOrderingKey(IncomingEvent event)
+    {
+        String json = event.getJson();
+
+        if ((json == null) || (! json.contains("\"instanceEventSection\"")))
+        {
+            return null;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(json))
+        {
+            if (parser.nextToken() == JsonToken.START_OBJECT)
+            {
+                while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String    fieldName  = parser.getCurrentName();
+                    JsonToken fieldValue = parser.nextToken();
+
+                    if (("instanceEventSection".equals(fieldName)) && (fieldValue == JsonToken.START_OBJECT))
+                    {
+                        return this.getInstanceGUID(parser);
+                    }
+
+                    parser.skipChildren();
+                }
+            }
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to extract the instance GUID from event {}", event.getMessageId(), error);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Extract the unique identifier of the instance that an OMRS instance event is about.  The parser is
+     * positioned at the start of the instance event section.
+     *
+     * @param parser JSON parser
+     * @return instance GUID or null if the event is not about a single instance
+     * @throws IOException badly formed JSON
+     */
+    private String getInstanceGUID(JsonParser parser) throws IOException
+    {
+        String instanceGUID = null;
+        String elementGUID  = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String    fieldName  = parser.getCurrentName();
+            JsonToken fieldValue = parser.nextToken();
+
+            switch (fieldName)
+            {
+                case "originalInstanceGUID", "instanceBatch" ->
+                {
+                    if (fieldValue != JsonToken.VALUE_NULL)
+                    {
+                        return null;
+                    }
+                }
+                case "instanceGUID" ->
+                {
+                    if (fieldValue == JsonToken.VALUE_STRING)
+                    {
+                        instanceGUID = parser.getText();
+                    }
+                }
+                case "entity", "entityProxy", "relationship" ->
+                {
+                    if (fieldValue == JsonToken.START_OBJECT)
+                    {
+                        String guid = this.getElementGUID(parser);
+
+                        if (elementGUID == null)
+                        {
+                            elementGUID = guid;
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (instanceGUID != null)
+        {
+            return instanceGUID;
+        }
+
+        return elementGUID;
+    }
+
+
+    /**
+     * Extract the guid property from an instance.  The parser is positioned at the start of the instance and
+     * is left at the end of it.
+     *
+     * @param parser JSON parser
+     * @return guid or null
+     * @throws IOException badly formed JSON
+     */
+    private String getElementGUID(JsonParser parser) throws IOException
+    {
+        String guid = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String    fieldName  = parser.getCurrentName();
+            JsonToken fieldValue = parser.nextToken();
+
+            if (("guid".equals(fieldName)) && (fieldValue == JsonToken.VALUE_STRING))
+            {
+                guid = parser.getText();
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+
+        return guid;
+    }
+
+
+    /**
+     * Distribute an event and record how long it took to reach the listeners.
+     *
+     * @param queuedEvent event to distribute
+     */
+    private void distributeQueuedEvent(QueuedEvent queuedEvent)
+    {
+        try
+        {
+            this.distributeEvent(queuedEvent.event());
+        }
+        catch (Exception error)
+        {
+            log.error("Bad exception from distributeEvent", error);
+        }
+
+        long dispatchLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedEvent.queuedTime());
+
+        dispatchedEventCount.incrementAndGet();
+        totalDispatchLatency.addAndGet(dispatchLatency);
+        maxDispatchLatency.accumulateAndGet(dispatchLatency, Math::max);
+    }
+
+
     /**
      * Pass an event that has been received on the topic to each of the registered listeners.
      *
@@ -190,6 +511,151 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Hand an incoming event to the listener thread.  The listener thread is woken immediately.  If the queue is
+     * full because the listeners are falling behind, the caller waits until there is space (backpressure).
+     *
+     * @param event event to distribute
+     */
+    protected void queueIncomingEvent(IncomingEvent event)
+    {
+        if (event != null)
+        {
+            QueuedEvent queuedEvent = new QueuedEvent(event, System.nanoTime());
+
+            queuedEventCount.incrementAndGet();
+
+            if ((! keepRunning) || (this.isDispatchThread(Thread.currentThread())))
+            {
+                overflowEventQueue.add(queuedEvent);
+            }
+            else if (! incomingEventQueue.offer(queuedEvent))
+            {
+                backpressureCount.incrementAndGet();
+
+                try
+                {
+                    while (! incomingEventQueue.offer(queuedEvent, sleepTime, TimeUnit.MILLISECONDS))
+                    {
+                        if (! keepRunning)
+                        {
+                            overflowEventQueue.add(queuedEvent);
+                            break;
+                        }
+                    }
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                    overflowEventQueue.add(queuedEvent);
+                }
+            }
+
+            maxEventQueueDepth.accumulateAndGet(this.getEventQueueDepth(), Math::max);
+        }
+    }
+
+
+    /**
+     * Determine whether a thread is distributing events to the listeners.  These threads must never wait for space
+     * in the incoming event queue because only they can empty it.
+     *
+     * @param thread thread to test
+     * @return boolean flag
+     */
+    private boolean isDispatchThread(Thread thread)
+    {
+        return (thread == listenerThread) || (dispatchLaneThreads.contains(thread));
+    }
+
+
+    /**
+     * Return the number of queued events waiting to be distributed to the listeners.
+     *
+     * @return event count
+     */
+    public int getEventQueueDepth()
+    {
+        return incomingEventQueue.size() + overflowEventQueue.size();
+    }
+
+
+    /**
+     * Return the largest number of queued events that have been waiting to be distributed at the same time.
+     *
+     * @return event count
+     */
+    public long getMaxEventQueueDepth()
+    {
+        return maxEventQueueDepth.get();
+    }
+
+
+    /**
+     * Return the number of events that have been queued for distribution.
+     *
+     * @return event count
+     */
+    public long getQueuedEventCount()
+    {
+        return queuedEventCount.get();
+    }
+
+
+    /**
+     * Return the number of events that have been distributed to the listeners, whether they were queued or
+     * returned from checkForIncomingEvents().
+     *
+     * @return event count
+     */
+    public long getDispatchedEventCount()
+    {
+        return dispatchedEventCount.get();
+    }
+
+
+    /**
+     * Return the number of times that a producer had to wait because the queue was full.
+     *
+     * @return wait count
+     */
+    public long getBackpressureCount()
+    {
+        return backpressureCount.get();
+    }
+
+
+    /**
+     * Return the average time in milliseconds between an event being received by the listener thread (or queued)
+     * and all the listeners receiving it.
+     *
+     * @return milliseconds
+     */
+    public long getAverageDispatchLatency()
+    {
+        long eventCount = dispatchedEventCount.get();
+
+        if (eventCount > 0)
+        {
+            return totalDispatchLatency.get() / eventCount;
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Return the longest time in milliseconds between an event being received by the listener thread (or queued)
+     * and all the listeners receiving it.
+     *
+     * @return milliseconds
+     */
+    public long getMaxDispatchLatency()
+    {
+        return maxDispatchLatency.get();
+    }
+
+
     /**
      * Look to see if there is one of more new events to process.
      *
@@ -286,14 +752,95 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                 {
                     this.sleepTime = (Integer)sleepTime;
                 }
+
+                Object   eventQueueCapacity = configurationProperties.get("eventQueueCapacity");
+
+                if ((eventQueueCapacity instanceof Integer) && ((Integer)eventQueueCapacity > 0))
+                {
+                    this.eventQueueCapacity = (Integer)eventQueueCapacity;
+
+                    BlockingQueue<QueuedEvent> newEventQueue = new LinkedBlockingQueue<>(this.eventQueueCapacity);
+
+                    incomingEventQueue.drainTo(overflowEventQueue);
+                    incomingEventQueue = newEventQueue;
+                }
+
+                Object   dispatchLaneCount = configurationProperties.get("dispatchLanes");
+
+                if ((dispatchLaneCount instanceof Integer) && ((Integer)dispatchLaneCount > 1))
+                {
+                    this.createDispatchLanes((Integer)dispatchLaneCount);
+                }
             }
         }
 
-        Thread listenerThread = new Thread(this, listenerThreadName);
+        listenerThread = new Thread(this, listenerThreadName);
         listenerThread.start();
     }
 
 
+    /**
+     * Create the worker threads that distribute events about different instances in parallel.  Each lane has
+     * a bounded queue - when it is full, the listener thread waits for space so it does not read ahead of the listeners.
+     * The lane threads are recorded so that events they send on the topic are queued without waiting.
+     *
+     * @param laneCount number of lanes
+     */
+    private void createDispatchLanes(int laneCount)
+    {
+        dispatchLanes     = new ThreadPoolExecutor[laneCount];
+        dispatchLaneTails = new Future<?>[laneCount];
+
+        for (int lane = 0; lane < laneCount; lane++)
+        {
+            final String laneThreadName = listenerThreadName + " (lane " + lane + ")";
+
+            dispatchLanes[lane] = new ThreadPoolExecutor(1,
+                                                         1,
+                                                         0L,
+                                                         TimeUnit.MILLISECONDS,
+                                                         new LinkedBlockingQueue<>(eventQueueCapacity),
+                                                         (Runnable runnable) ->
+                                                         {
+                                                             Thread thread = new Thread(() ->
+                                                                                        {
+                                                                                            try
+                                                                                            {
+                                                                                                runnable.run();
+                                                                                            }
+                                                                                            finally
+                                                                                            {
+                                                                                                dispatchLaneThreads.remove(Thread.currentThread());
+                                                                                            }
+                                                                                        },
+                                                                                        laneThreadName);
+
+                                                             thread.setDaemon(true);
+                                                             dispatchLaneThreads.add(thread);
+
+                                                             return thread;
+                                                         },
+                                                         (Runnable runnable, ThreadPoolExecutor executor) ->
+                                                         {
+                                                             if (executor.isShutdown())
+                                                             {
+                                                                 throw new RejectedExecutionException(laneThreadName);
+                                                             }
+
+                                                             try
+                                                             {
+                                                                 executor.getQueue().put(runnable);
+                                                             }
+                                                             catch (InterruptedException interrupted)
+                                                             {
+                                                                 Thread.currentThread().interrupt();
+                                                                 throw new RejectedExecutionException(laneThreadName, interrupted);
+                                                             }
+                                                         });
+        }
+    }
+
+
     /**
      * Free up any resources held since the connector is no longer needed.
      *
@@ -305,5 +852,29 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
         super.disconnect();
 
         keepRunning = false;
+
+        if (dispatchLanes != null)
+        {
+            /*
+             * Events still waiting in the lanes are not marked as distributed so event buses that track
+             * processing (such as Kafka without auto-commit) will deliver them again.
+             */
+            for (ThreadPoolExecutor dispatchLane : dispatchLanes)
+            {
+                dispatchLane.shutdownNow();
+            }
+        }
+    }
+
+
+    /**
+     * An event waiting to be distributed along with the time it was queued or received.
+     *
+     * @param event event to distribute
+     * @param queuedTime time the event was queued (from System.nanoTime())
+     */
+    private record QueuedEvent(IncomingEvent event,
+                               long          queuedTime)
+    {
     }
 }
@@ -0,0 +1,34 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+
+/**
+ * OpenMetadataArchiveContentHandler receives the contents of an open metadata archive from an
+ * OpenMetadataArchiveStreamingStore.  The archive header and type store are passed first, and then the
+ * instances are passed in segments as they are read from the archive.
+ */
+public interface OpenMetadataArchiveContentHandler
+{
+    /**
+     * Process the header of the archive.  This is called once, before any instance segments are passed.
+     *
+     * @param archiveProperties properties of the archive (may be null if the archive has no header)
+     * @param archiveTypeStore type definitions from the archive (may be null)
+     */
+    void processArchiveHeader(OpenMetadataArchiveProperties archiveProperties,
+                              OpenMetadataArchiveTypeStore  archiveTypeStore);
+
+
+    /**
+     * Process a segment of the instances from the archive.  Each segment holds a consecutive run of entities,
+     * relationships or classifications in the order that they appear in the archive.
+     *
+     * @param instanceSegment instances read from the archive
+     */
+    void processInstanceSegment(OpenMetadataArchiveInstanceStore instanceSegment);
+}
@@ -0,0 +1,23 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+
+/**
+ * OpenMetadataArchiveStreamingStore is an optional interface for an open metadata archive store connector
+ * that is able to pass the contents of its archive to the caller a piece at a time.  This means the whole
+ * archive does not need to be held in memory while it is loaded.
+ */
+public interface OpenMetadataArchiveStreamingStore extends OpenMetadataArchiveStore
+{
+    /**
+     * Read the archive, passing its header and type store, and then its instances in segments, to the content handler.
+     *
+     * @param contentHandler receiver of the archive contents
+     * @return false if the archive is empty
+     * @throws RepositoryErrorException a problem accessing the archive
+     */
+    boolean streamArchiveContents(OpenMetadataArchiveContentHandler contentHandler) throws RepositoryErrorException;
+}
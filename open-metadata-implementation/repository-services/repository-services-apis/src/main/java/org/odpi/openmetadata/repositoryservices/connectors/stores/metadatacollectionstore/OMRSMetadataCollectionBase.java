@@ -15,6 +15,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRegularExpressionMatcher;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
@@ -67,6 +68,9 @@ import java.util.*;
  */
 public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
 {
+    private static final OMRSRegularExpressionMatcher regexMatcher = OMRSRegularExpressionMatcher.getSharedMatcher();
+
+
     /**
      * Constructor ensures the metadata collection is linked to its connector and knows its metadata collection id.
      *
@@ -519,7 +523,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (typeDef != null)
                     {
-                        if (typeDef.getName().matches(typeDefName))
+                        if (regexMatcher.matches(typeDefName, typeDef.getName()))
                         {
                             matchedTypeDefs.add(typeDef);
                         }
@@ -535,7 +539,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (attributeTypeDef != null)
                     {
-                        if (attributeTypeDef.getName().matches(typeDefName))
+                        if (regexMatcher.matches(typeDefName, attributeTypeDef.getName()))
                         {
                             matchedAttributeTypeDefs.add(attributeTypeDef);
                         }
@@ -983,7 +987,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
             {
                 if (typeDef != null)
                 {
-                    if (typeDef.getName().matches(searchCriteria))
+                    if (regexMatcher.matches(searchCriteria, typeDef.getName()))
                     {
                         matchedTypeDefs.add(typeDef);
                     }
@@ -12,6 +12,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
@@ -904,6 +906,102 @@ public interface OMRSRepositoryHelper extends OMRSRepositoryPropertiesHelper
                                                                                        PropertyErrorException;
 
 
+    /**
+     * Return a comparator that orders entities in the same way as formatEntityResults.  This allows results that have
+     * already been sequenced (for example, by different repositories) to be merged without sorting them again.
+     * The default implementation uses compareProperties for the property-based sequencing orders.
+     *
+     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @return comparator (treats all entities as equal if there is no sequencing order)
+     */
+    default Comparator<EntityDetail> getEntityComparator(String          sequencingProperty,
+                                                         SequencingOrder sequencingOrder)
+    {
+        if ((sequencingOrder == SequencingOrder.PROPERTY_ASCENDING) || (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING))
+        {
+            return (one, two) -> this.compareProperties(one.getProperties(),
+                                                        two.getProperties(),
+                                                        sequencingProperty,
+                                                        sequencingOrder);
+        }
+
+        Comparator<InstanceHeader> instanceComparator = getInstanceComparator(sequencingOrder);
+
+        return instanceComparator::compare;
+    }
+
+
+    /**
+     * Return a comparator that orders relationships in the same way as formatRelationshipResults.  This allows results
+     * that have already been sequenced (for example, by different repositories) to be merged without sorting them again.
+     * The default implementation uses compareProperties for the property-based sequencing orders.
+     *
+     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @return comparator (treats all relationships as equal if there is no sequencing order)
+     */
+    default Comparator<Relationship> getRelationshipComparator(String          sequencingProperty,
+                                                               SequencingOrder sequencingOrder)
+    {
+        if ((sequencingOrder == SequencingOrder.PROPERTY_ASCENDING) || (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING))
+        {
+            return (one, two) -> this.compareProperties(one.getProperties(),
+                                                        two.getProperties(),
+                                                        sequencingProperty,
+                                                        sequencingOrder);
+        }
+
+        Comparator<InstanceHeader> instanceComparator = getInstanceComparator(sequencingOrder);
+
+        return instanceComparator::compare;
+    }
+
+
+    /**
+     * Return a comparator for the sequencing orders that are based on the instance header rather than its properties.
+     * Null values sort before non-null values, and the "recent" orders are the reverse of the "oldest" orders.
+     *
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @return comparator (treats all instances as equal for the other sequencing orders)
+     */
+    private static Comparator<InstanceHeader> getInstanceComparator(SequencingOrder sequencingOrder)
+    {
+        if (sequencingOrder == null)
+        {
+            return (one, two) -> 0;
+        }
+
+        switch (sequencingOrder)
+        {
+            case GUID:
+                return Comparator.nullsFirst(Comparator.comparing(InstanceHeader::getGUID,
+                                                                  Comparator.nullsFirst(Comparator.naturalOrder())));
+
+            case LAST_UPDATE_OLDEST:
+                return Comparator.nullsFirst(Comparator.comparing(InstanceHeader::getUpdateTime,
+                                                                  Comparator.nullsFirst(Comparator.naturalOrder())));
+
+            case LAST_UPDATE_RECENT:
+                return Comparator.nullsFirst(Comparator.comparing(InstanceHeader::getUpdateTime,
+                                                                  Comparator.nullsFirst(Comparator.<Date>naturalOrder())).reversed());
+
+            case CREATION_DATE_OLDEST:
+                return Comparator.nullsFirst(Comparator.comparing(InstanceHeader::getCreateTime,
+                                                                  Comparator.nullsFirst(Comparator.naturalOrder())));
+
+            case CREATION_DATE_RECENT:
+                return Comparator.nullsFirst(Comparator.comparing(InstanceHeader::getCreateTime,
+                                                                  Comparator.nullsFirst(Comparator.<Date>naturalOrder())).reversed());
+
+            default:
+                return (one, two) -> 0;
+        }
+    }
+
+
     /**
      * Compare the properties of two instances and determine the sort order based on the nominated property value and
      * sort order.
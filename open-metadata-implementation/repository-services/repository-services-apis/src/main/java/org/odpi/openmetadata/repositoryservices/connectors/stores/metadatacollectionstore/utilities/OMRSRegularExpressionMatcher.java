@@ -0,0 +1,350 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * OMRSRegularExpressionMatcher tests string values against the regular expressions used in open metadata searches.
+ * The same few expressions are tested against every property of every candidate instance, so compiling each one
+ * afresh (as String.matches() does) dominates the cost of a search.  The compiled expressions are therefore held
+ * in a bounded cache that is shared by all callers.
+ * <br><br>
+ * Most search expressions are built from a literal value (using Pattern.quote()) and only ask for an exact,
+ * starts with, ends with or contains match, possibly ignoring case.  These shapes are recognized and tested with
+ * plain string comparisons, without using the regular expression engine.  The result is always the same as
+ * String.matches() - where a plain comparison could give a different answer (for example, the value contains a
+ * line terminator that ".*" does not match) the compiled pattern is used instead.
+ * <p>
+ * This class is called simultaneously from different threads, so it must be thread-safe.
+ * </p>
+ */
+public class OMRSRegularExpressionMatcher
+{
+    private static final String caseInsensitiveFlag = "(?i)";
+    private static final String anyCharacters       = ".*";
+    private static final String quoteStart          = "\\Q";
+    private static final String quoteEnd            = "\\E";
+    private static final String metacharacters      = "\\^$.|?*+()[]{}";
+
+    private static final OMRSRegularExpressionMatcher sharedMatcher = new OMRSRegularExpressionMatcher(1000);
+
+    private final int                             maxExpressions;
+    private final Map<String, CompiledExpression> expressionCache = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor sets the maximum number of compiled expressions to keep.
+     *
+     * @param maxExpressions maximum number of compiled expressions
+     */
+    public OMRSRegularExpressionMatcher(int maxExpressions)
+    {
+        this.maxExpressions = maxExpressions;
+    }
+
+
+    /**
+     * Return the matcher that is shared by all the repository services components in this JVM.
+     *
+     * @return matcher
+     */
+    public static OMRSRegularExpressionMatcher getSharedMatcher()
+    {
+        return sharedMatcher;
+    }
+
+
+    /**
+     * Test whether the whole of the value matches the regular expression.  This gives the same result as
+     * value.matches(regex).
+     *
+     * @param regex regular expression
+     * @param value value to test
+     * @return boolean result
+     * @throws java.util.regex.PatternSyntaxException the regular expression is not valid
+     */
+    public boolean matches(String regex,
+                           String value)
+    {
+        CompiledExpression compiledExpression = expressionCache.get(regex);
+
+        if (compiledExpression == null)
+        {
+            compiledExpression = this.compile(regex);
+
+            /*
+             * The cache is bounded by starting again when it is full.  This is cheap and keeps lookups lock-free;
+             * in practice a server uses far fewer distinct expressions than the limit, so it rarely happens.
+             */
+            if (expressionCache.size() >= maxExpressions)
+            {
+                expressionCache.clear();
+            }
+
+            expressionCache.put(regex, compiledExpression);
+        }
+
+        return compiledExpression.matches(value);
+    }
+
+
+    /**
+     * Analyse the regular expression.  If it is a literal with optional ".*" at either end, and optionally
+     * case-insensitive, the literal is extracted.  Otherwise, the expression is compiled.
+     *
+     * @param regex regular expression
+     * @return compiled expression
+     * @throws java.util.regex.PatternSyntaxException the regular expression is not valid
+     */
+    private CompiledExpression compile(String regex)
+    {
+        String  remainder  = regex;
+        boolean ignoreCase = false;
+        boolean anyPrefix  = false;
+        boolean anySuffix  = false;
+        String  literal    = null;
+
+        if (remainder.startsWith(caseInsensitiveFlag))
+        {
+            ignoreCase = true;
+            remainder  = remainder.substring(caseInsensitiveFlag.length());
+        }
+
+        if (remainder.startsWith(anyCharacters))
+        {
+            anyPrefix = true;
+            remainder = remainder.substring(anyCharacters.length());
+        }
+
+        if (remainder.startsWith(quoteStart))
+        {
+            /*
+             * Quoted literal, as produced by Pattern.quote().  A literal that contains "\E" is quoted in several
+             * sections, which is left to the regular expression engine.
+             */
+            int endOfQuote = remainder.indexOf(quoteEnd, quoteStart.length());
+
+            if (endOfQuote != -1)
+            {
+                String afterQuote = remainder.substring(endOfQuote + quoteEnd.length());
+
+                if (afterQuote.isEmpty() || afterQuote.equals(anyCharacters))
+                {
+                    literal   = remainder.substring(quoteStart.length(), endOfQuote);
+                    anySuffix = ! afterQuote.isEmpty();
+                }
+            }
+        }
+        else
+        {
+            /*
+             * Unquoted literal - for example, a type name.
+             */
+            if (remainder.endsWith(anyCharacters))
+            {
+                anySuffix = true;
+                remainder = remainder.substring(0, remainder.length() - anyCharacters.length());
+            }
+
+            if (! this.containsMetacharacter(remainder))
+            {
+                literal = remainder;
+            }
+        }
+
+        if (literal == null)
+        {
+            return new CompiledExpression(Pattern.compile(regex));
+        }
+
+        return new CompiledExpression(regex, literal, ignoreCase, anyPrefix, anySuffix);
+    }
+
+
+    /**
+     * Return whether the string contains any characters that have a special meaning in a regular expression.
+     *
+     * @param string string to test
+     * @return boolean result
+     */
+    private boolean containsMetacharacter(String string)
+    {
+        for (int index = 0; index < string.length(); index++)
+        {
+            if (metacharacters.indexOf(string.charAt(index)) != -1)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * CompiledExpression holds either the literal extracted from a regular expression or the compiled pattern.
+     */
+    private static class CompiledExpression
+    {
+        private final String  regex;
+        private final String  literal;
+        private final boolean ignoreCase;
+        private final boolean anyPrefix;
+        private final boolean anySuffix;
+
+        private volatile Pattern pattern;
+
+
+        /**
+         * Constructor for an expression that is not a simple literal.
+         *
+         * @param pattern compiled pattern
+         */
+        CompiledExpression(Pattern pattern)
+        {
+            this.regex      = pattern.pattern();
+            this.literal    = null;
+            this.ignoreCase = false;
+            this.anyPrefix  = false;
+            this.anySuffix  = false;
+            this.pattern    = pattern;
+        }
+
+
+        /**
+         * Constructor for a literal expression.  The pattern is only compiled if it is needed.
+         *
+         * @param regex original regular expression
+         * @param literal literal value
+         * @param ignoreCase is the match case-insensitive?
+         * @param anyPrefix can any characters precede the literal?
+         * @param anySuffix can any characters follow the literal?
+         */
+        CompiledExpression(String  regex,
+                           String  literal,
+                           boolean ignoreCase,
+                           boolean anyPrefix,
+                           boolean anySuffix)
+        {
+            this.regex      = regex;
+            this.literal    = literal;
+            this.ignoreCase = ignoreCase;
+            this.anyPrefix  = anyPrefix;
+            this.anySuffix  = anySuffix;
+        }
+
+
+        /**
+         * Test whether the whole of the value matches the expression.
+         *
+         * @param value value to test
+         * @return boolean result
+         */
+        boolean matches(String value)
+        {
+            if ((literal == null) ||
+                (((anyPrefix) || (anySuffix)) && (containsLineTerminator(value))) ||
+                ((ignoreCase) && ((! isASCII(literal)) || (! isASCII(value)))))
+            {
+                /*
+                 * ".*" does not match line terminators, and "(?i)" only folds the case of ASCII characters, which
+                 * plain string comparisons do not reproduce.
+                 */
+                return this.getPattern().matcher(value).matches();
+            }
+
+            int literalLength = literal.length();
+
+            if ((! anyPrefix) && (! anySuffix))
+            {
+                return (value.length() == literalLength) && (value.regionMatches(ignoreCase, 0, literal, 0, literalLength));
+            }
+            else if (! anyPrefix)
+            {
+                return value.regionMatches(ignoreCase, 0, literal, 0, literalLength);
+            }
+            else if (! anySuffix)
+            {
+                return value.regionMatches(ignoreCase, value.length() - literalLength, literal, 0, literalLength);
+            }
+            else if (! ignoreCase)
+            {
+                return value.contains(literal);
+            }
+
+            for (int offset = 0; offset <= value.length() - literalLength; offset++)
+            {
+                if (value.regionMatches(true, offset, literal, 0, literalLength))
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+
+        /**
+         * Return the compiled pattern, compiling it if necessary.
+         *
+         * @return pattern
+         */
+        private Pattern getPattern()
+        {
+            Pattern compiledPattern = pattern;
+
+            if (compiledPattern == null)
+            {
+                compiledPattern = Pattern.compile(regex);
+                pattern = compiledPattern;
+            }
+
+            return compiledPattern;
+        }
+
+
+        /**
+         * Return whether the value contains a character that "." does not match.
+         *
+         * @param value value to test
+         * @return boolean result
+         */
+        private static boolean containsLineTerminator(String value)
+        {
+            for (int index = 0; index < value.length(); index++)
+            {
+                char character = value.charAt(index);
+
+                if ((character == '\n') || (character == '\r') || (character == '\u0085') || (character == '\u2028') || (character == '\u2029'))
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+
+        /**
+         * Return whether the value only contains ASCII characters.
+         *
+         * @param value value to test
+         * @return boolean result
+         */
+        private static boolean isASCII(String value)
+        {
+            for (int index = 0; index < value.length(); index++)
+            {
+                if (value.charAt(index) > 127)
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
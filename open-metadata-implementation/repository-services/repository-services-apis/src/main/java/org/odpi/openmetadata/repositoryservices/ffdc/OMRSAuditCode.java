@@ -619,6 +619,17 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                               "or a Repository Proxy that connects to a third party repository that supports this type of metadata.  " +
                               "Detail of the different types of servers are found in the admin guide."),
 
+    /**
+     * OMRS-AUDIT-0056 - The Open Metadata Repository Services (OMRS) has bulk loaded {0} entities and {1} relationships ({2} of them updates to existing instances) from open metadata archive {3} in {4} batches; {5} instances were rejected and {6} were shared with the cohort in {7} instance batch events
+     */
+    BULK_LOADED_ARCHIVE_INSTANCES("OMRS-AUDIT-0056",
+                      AuditLogRecordSeverityLevel.INFO,
+                      "The Open Metadata Repository Services (OMRS) has bulk loaded {0} entities and {1} relationships ({2} of them updates to existing instances) from open metadata archive {3} in {4} batches; {5} instances were rejected and {6} were shared with the cohort in {7} instance batch events",
+                      "The local server has validated the instances from the open metadata archive in parallel and saved them to the local repository in batches.  " +
+                              "No individual instance events were sent for these instances.  The counts are totals for the whole archive; " +
+                              "an archive that is streamed in segments sends at most one instance batch event for each segment.",
+                      "Verify that the expected content has loaded into the local repository.  If instances were rejected, the preceding messages in the audit log describe why."),
+
     /**
      * OMRS-AUDIT-0060 - Registering with open metadata repository cohort {0} using metadata collection id {1}
      */
@@ -698,6 +709,20 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                           "The OMRS Topic Connector was passed a null event by the event bus.",
                           "Review the exception to identify the source of the error and correct it."),
 
+    /**
+     * OMRS-AUDIT-0103 - The OMRS Topic Connector for topic {0} queued {1} events and distributed {2} events to its listeners; the maximum queue depth was {3} (capacity {4}), producers waited for space {5} times and the average and maximum dispatch latencies were {6} ms and {7} ms
+     */
+    OPEN_METADATA_TOPIC_QUEUE_STATISTICS("OMRS-AUDIT-0103",
+                                         AuditLogRecordSeverityLevel.INFO,
+                                         "The OMRS Topic Connector for topic {0} queued {1} events and distributed {2} events to its " +
+                                                 "listeners; the maximum queue depth was {3} (capacity {4}), producers waited for space {5} " +
+                                                 "times and the average and maximum dispatch latencies were {6} ms and {7} ms",
+                                         "The listener thread is shutting down and has reported how well the listeners kept up with " +
+                                                 "the events arriving on the topic.",
+                                         "If producers often waited for space or the dispatch latency is high, consider increasing the " +
+                                                 "eventQueueCapacity or dispatchLanes configuration properties of the topic connector, " +
+                                                 "or investigate why the listeners are slow."),
+
     /**
      * OMRS-AUDIT-0105 - Unable to send a registry event for cohort {0} due to an error in the OMRS Topic Connector
      */
@@ -1380,6 +1405,15 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                        "The local server is processing a federated query to all members of the connected cohorts.  However one of the members is not responding correctly and so it has been skipped from the call. The remote server is probably not running, or has been incorrectly configured.",
                                        "Validate the availability and configuration of the remote server.  It may be a temporary failure due to an outage in the network or the server itself.  However, if the remote server is not configured correctly, or has changed its metadata collection id, then this wil lbe a permanent error and this server will not be included in the federated query until it is fixed."),
 
+    /**
+     * OMRS-AUDIT-0402 - Abandoning call to repository {0} for federated request {1} since it did not respond within {2} milliseconds
+     */
+    FEDERATED_REQUEST_TIMEOUT("OMRS-AUDIT-0402",
+                              AuditLogRecordSeverityLevel.ACTION,
+                              "Abandoning call to repository {0} for federated request {1} since it did not respond within {2} milliseconds",
+                              "The local server is processing a federated query in parallel to all members of the connected cohorts.  However one of the members did not respond within the configured time limit and so its call has been cancelled and its results are not included.",
+                              "Validate the availability and performance of the remote server.  If the remote server is simply slow, increase the member timeout in the enterprise access configuration for this server."),
+
     /**
      * OMRS-AUDIT-8001 - Received unknown event: {0}
      */
@@ -1112,6 +1112,30 @@ public enum OMRSErrorCode implements ExceptionMessageSet
                                       "The system cannot load an open metadata archive because the archive manager is not active in this server.",
                                       "Redirect the load request to a metadata access store."),
 
+    /**
+     * OMRS-AUDIT-LOG-400-010 - A null {0} parameter has been passed on a {1} request to the Audit Log destination {2}
+     */
+    NULL_AUDIT_LOG_QUERY_PARAMETER(400, "OMRS-AUDIT-LOG-400-010",
+            "A null {0} parameter has been passed on a {1} request to the Audit Log destination {2}",
+            "The system cannot process the query because it does not know which log records to return.",
+            "The parameter is supplied by the caller to the API.  Correct the calling code and retry the request."),
+
+    /**
+     * OMRS-AUDIT-LOG-400-011 - A negative value of {0} has been passed on the {1} parameter of a {2} request to the Audit Log destination {3}
+     */
+    NEGATIVE_AUDIT_LOG_PAGING_PARAMETER(400, "OMRS-AUDIT-LOG-400-011",
+            "A negative value of {0} has been passed on the {1} parameter of a {2} request to the Audit Log destination {3}",
+            "The system cannot process the query because the paging parameters must be zero or greater.",
+            "The paging parameters are supplied by the caller to the API.  Correct the calling code and retry the request."),
+
+    /**
+     * OMRS-AUDIT-LOG-400-012 - The start date {0} is after the end date {1} on a {2} request to the Audit Log destination {3}
+     */
+    INVALID_AUDIT_LOG_TIME_PERIOD(400, "OMRS-AUDIT-LOG-400-012",
+            "The start date {0} is after the end date {1} on a {2} request to the Audit Log destination {3}",
+            "The system cannot process the query because the time period is empty.",
+            "The dates are supplied by the caller to the API.  Correct the calling code and retry the request."),
+
     /**
      * OMRS-REPOSITORY-404-001 - The open metadata repository connector for server {0} is not active and cannot service the {1} request
      */
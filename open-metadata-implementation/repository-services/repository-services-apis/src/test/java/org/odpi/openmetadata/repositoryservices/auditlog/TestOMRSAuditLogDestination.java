@@ -0,0 +1,424 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Verify that OMRSAuditLogDestination passes log records to each audit log store independently, filters them by
+ * severity, counts the log records it drops and disconnects the stores.
+ */
+public class TestOMRSAuditLogDestination
+{
+    /**
+     * Build a log record with the requested severity.
+     *
+     * @param severity severity name
+     * @return log record
+     */
+    private OMRSAuditLogRecord getLogRecord(String severity)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setGUID(Long.toString(System.nanoTime()));
+        logRecord.setTimeStamp(new Date());
+        logRecord.setSeverity(severity);
+
+        return logRecord;
+    }
+
+
+    /**
+     * Return the report for a named store.
+     *
+     * @param destination destination to query
+     * @param destinationName name of the store
+     * @return report
+     */
+    private OMRSAuditLogStoreReport getStoreReport(OMRSAuditLogDestination destination,
+                                                   String                  destinationName)
+    {
+        for (OMRSAuditLogStoreReport storeReport : destination.getDestinationsReport().getLogStoreReports())
+        {
+            if (destinationName.equals(storeReport.getDestinationName()))
+            {
+                return storeReport;
+            }
+        }
+
+        fail("No report for " + destinationName);
+        return null;
+    }
+
+
+    /**
+     * A store that is blocked does not stop log records reaching the other stores.
+     */
+    @Test public void testSlowStoreDoesNotBlockFastStore() throws Exception
+    {
+        CountDownLatch          releaseSlowStore = new CountDownLatch(1);
+        TestLogStore            slowStore        = new TestLogStore("slow", null, releaseSlowStore);
+        TestLogStore            fastStore        = new TestLogStore("fast", null, null);
+        List<OMRSAuditLogStore> stores           = new ArrayList<>();
+
+        stores.add(slowStore);
+        stores.add(fastStore);
+
+        OMRSAuditLogDestination destination = new OMRSAuditLogDestination("testServer", "testType", "testOrg", stores);
+
+        for (int count = 0; count < 10; count++)
+        {
+            destination.addLogRecord(this.getLogRecord("Information"));
+        }
+
+        assertTrue(fastStore.waitForLogRecords(10));
+        assertTrue(slowStore.getLogRecords().size() <= 1);
+
+        releaseSlowStore.countDown();
+        destination.disconnect();
+
+        assertEquals(slowStore.getLogRecords().size(), 10);
+        assertEquals(getStoreReport(destination, "slow").getStoredRecordCount(), 10);
+    }
+
+
+    /**
+     * Log records with severities that the store does not support are not passed to it.
+     */
+    @Test public void testSeverityFilter()
+    {
+        TestLogStore errorStore = new TestLogStore("errors", Collections.singletonList("Error"), null);
+
+        OMRSAuditLogDestination destination = new OMRSAuditLogDestination("testServer",
+                                                                          "testType",
+                                                                          "testOrg",
+                                                                          Collections.singletonList(errorStore));
+
+        destination.addLogRecord(this.getLogRecord("Information"));
+        destination.addLogRecord(this.getLogRecord("Error"));
+        destination.addLogRecord(this.getLogRecord("Activity"));
+        destination.disconnect();
+
+        assertEquals(errorStore.getLogRecords().size(), 1);
+        assertEquals(errorStore.getLogRecords().get(0).getSeverity(), "Error");
+    }
+
+
+    /**
+     * Log records that do not fit in a full queue are dropped and counted.
+     */
+    @Test public void testDroppedRecordsAreCounted() throws Exception
+    {
+        CountDownLatch releaseStore = new CountDownLatch(1);
+        TestLogStore   store        = new TestLogStore("blocked", null, releaseStore);
+
+        OMRSAuditLogDestination destination = new OMRSAuditLogDestination("testServer",
+                                                                          "testType",
+                                                                          "testOrg",
+                                                                          Collections.singletonList(store),
+                                                                          5);
+
+        destination.addLogRecord(this.getLogRecord("Information"));
+        assertTrue(store.waitForCall());
+
+        for (int count = 0; count < 10; count++)
+        {
+            destination.addLogRecord(this.getLogRecord("Information"));
+        }
+
+        OMRSAuditLogDestinationsReport report = destination.getDestinationsReport();
+
+        assertEquals(report.getDroppedRecordCount(), 5);
+        assertEquals(report.getLogStoreReports().get(0).getQueuedRecordCount(), 5);
+
+        releaseStore.countDown();
+        destination.disconnect();
+
+        assertEquals(store.getLogRecords().size(), 6);
+    }
+
+
+    /**
+     * Disconnecting the destination writes the queued log records and then disconnects the store connectors.
+     * Later log records are dropped rather than passed to a disconnected store.
+     */
+    @Test public void testDisconnectDisconnectsTheStores() throws Exception
+    {
+        TestLogStore store = new TestLogStore("store", null, null);
+
+        OMRSAuditLogDestination destination = new OMRSAuditLogDestination("testServer",
+                                                                          "testType",
+                                                                          "testOrg",
+                                                                          Collections.singletonList(store));
+
+        destination.addLogRecord(this.getLogRecord("Information"));
+        destination.disconnect();
+
+        assertTrue(store.isDisconnected());
+        assertEquals(store.getLogRecords().size(), 1);
+        assertEquals(store.getLogRecordCountAtDisconnect(), 1);
+
+        destination.addLogRecord(this.getLogRecord("Information"));
+
+        assertEquals(store.getLogRecords().size(), 1);
+        assertEquals(getStoreReport(destination, "store").getDroppedRecordCount(), 1);
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(new OMRSAuditLogDestinationsReport().toString().contains("OMRSAuditLogDestinationsReport"));
+        assertTrue(new OMRSAuditLogStoreReport().toString().contains("OMRSAuditLogStoreReport"));
+    }
+
+
+    /**
+     * TestLogStore records the log records it receives.  It can be made to wait on a latch to simulate a slow store.
+     */
+    private static class TestLogStore extends ConnectorBase implements OMRSAuditLogStore
+    {
+        private final String                   destinationName;
+        private final List<String>             supportedSeverities;
+        private final CountDownLatch           releaseLatch;
+        private final CountDownLatch           firstCallLatch = new CountDownLatch(1);
+        private final List<OMRSAuditLogRecord> logRecords     = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean               disconnected   = false;
+        private volatile int                   logRecordCountAtDisconnect = 0;
+
+
+        /**
+         * Constructor supplies the store's settings.
+         *
+         * @param destinationName name of the store
+         * @param supportedSeverities supported severities (null for all)
+         * @param releaseLatch latch to wait on before storing each log record (null for no wait)
+         */
+        TestLogStore(String         destinationName,
+                     List<String>   supportedSeverities,
+                     CountDownLatch releaseLatch)
+        {
+            this.destinationName     = destinationName;
+            this.supportedSeverities = supportedSeverities;
+            this.releaseLatch        = releaseLatch;
+        }
+
+
+        /**
+         * Wait for the store to receive the requested number of log records.
+         *
+         * @param count number of log records
+         * @return true if they arrived in time
+         * @throws InterruptedException interrupted while waiting
+         */
+        boolean waitForLogRecords(int count) throws InterruptedException
+        {
+            long deadline = System.currentTimeMillis() + 10000;
+
+            while ((logRecords.size() < count) && (System.currentTimeMillis() < deadline))
+            {
+                Thread.sleep(10);
+            }
+
+            return logRecords.size() >= count;
+        }
+
+
+        /**
+         * Wait for the first call to store a log record.
+         *
+         * @return true if the call happened in time
+         * @throws InterruptedException interrupted while waiting
+         */
+        boolean waitForCall() throws InterruptedException
+        {
+            return firstCallLatch.await(10, TimeUnit.SECONDS);
+        }
+
+
+        /**
+         * Return the log records received so far.
+         *
+         * @return list
+         */
+        List<OMRSAuditLogRecord> getLogRecords()
+        {
+            return new ArrayList<>(logRecords);
+        }
+
+
+        /**
+         * Return whether the store has been disconnected.
+         *
+         * @return boolean flag
+         */
+        boolean isDisconnected()
+        {
+            return disconnected;
+        }
+
+
+        /**
+         * Return the number of log records the store had received when it was disconnected.
+         *
+         * @return count
+         */
+        int getLogRecordCountAtDisconnect()
+        {
+            return logRecordCountAtDisconnect;
+        }
+
+
+        /**
+         * Record that the store has been disconnected.
+         *
+         * @throws ConnectorCheckedException not thrown
+         */
+        @Override
+        public void disconnect() throws ConnectorCheckedException
+        {
+            logRecordCountAtDisconnect = logRecords.size();
+            disconnected = true;
+
+            super.disconnect();
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDestinationName()
+        {
+            return destinationName;
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<String> getSupportedSeverities()
+        {
+            return supportedSeverities;
+        }
+
+
+        /**
+         * Record the log record, after waiting for the latch if there is one.
+         *
+         * @param logRecord log record to store
+         * @return guid of the log record
+         */
+        @Override
+        public String storeLogRecord(OMRSAuditLogRecord logRecord)
+        {
+            firstCallLatch.countDown();
+
+            if (releaseLatch != null)
+            {
+                try
+                {
+                    releaseLatch.await();
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            logRecords.add(logRecord);
+            return logRecord.getGUID();
+        }
+
+
+        /**
+         * Queries are not supported.
+         *
+         * @param logRecordId unique identifier for the log record
+         * @return null
+         */
+        @Override
+        public OMRSAuditLogRecord getAuditLogRecord(String logRecordId)
+        {
+            return null;
+        }
+
+
+        /**
+         * Queries are not supported.
+         *
+         * @param startDate start of time period
+         * @param endDate end of time period
+         * @param offset starting element
+         * @param maximumRecords page size
+         * @return null
+         */
+        @Override
+        public List<OMRSAuditLogRecord> getAuditLogRecordsByTimeStamp(Date startDate,
+                                                                      Date endDate,
+                                                                      int  offset,
+                                                                      int  maximumRecords)
+        {
+            return null;
+        }
+
+
+        /**
+         * Queries are not supported.
+         *
+         * @param severity severity of log records
+         * @param startDate start of time period
+         * @param endDate end of time period
+         * @param offset starting element
+         * @param maximumRecords page size
+         * @return null
+         */
+        @Override
+        public List<OMRSAuditLogRecord> getAuditLogRecordsBySeverity(String severity,
+                                                                     Date   startDate,
+                                                                     Date   endDate,
+                                                                     int    offset,
+                                                                     int    maximumRecords)
+        {
+            return null;
+        }
+
+
+        /**
+         * Queries are not supported.
+         *
+         * @param component component name
+         * @param startDate start of time period
+         * @param endDate end of time period
+         * @param offset starting element
+         * @param maximumRecords page size
+         * @return null
+         */
+        @Override
+        public List<OMRSAuditLogRecord> getAuditLogRecordsByComponent(String component,
+                                                                      Date   startDate,
+                                                                      Date   endDate,
+                                                                      int    offset,
+                                                                      int    maximumRecords)
+        {
+            return null;
+        }
+    }
+}
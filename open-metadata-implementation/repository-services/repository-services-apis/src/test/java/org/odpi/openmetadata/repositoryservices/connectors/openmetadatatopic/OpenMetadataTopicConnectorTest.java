@@ -0,0 +1,665 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the distribution of events by {@link OpenMetadataTopicConnector}
+ */
+public class OpenMetadataTopicConnectorTest
+{
+    private static final long waitTime = 10000L;
+
+
+    /**
+     * Topic connector that only receives events through queueIncomingEvent.
+     */
+    private static class TestTopicConnector extends OpenMetadataTopicConnector
+    {
+        /**
+         * Events are not sent in these tests.
+         *
+         * @param event event to send
+         */
+        @Override
+        public void sendEvent(String event)
+        {
+        }
+
+
+        /**
+         * Queue an event with the requested content.
+         *
+         * @param json event content
+         */
+        void queueEvent(String json)
+        {
+            super.queueIncomingEvent(new IncomingEvent(json, json));
+        }
+    }
+
+
+    /**
+     * Listener that records the events it receives.  Each event can be held until the test releases it.
+     */
+    private static class TestTopicListener implements OpenMetadataTopicListener
+    {
+        private final List<String>        receivedEvents     = new ArrayList<>();
+        private final Map<String, String> eventThreadNames   = new HashMap<>();
+        private final CountDownLatch      firstEventReceived = new CountDownLatch(1);
+        private final CountDownLatch      releaseEvents;
+        private       long                slowEventTime      = 0L;
+
+
+        /**
+         * Constructor
+         *
+         * @param holdEvents should each event wait until releaseEvents() is called?
+         */
+        TestTopicListener(boolean holdEvents)
+        {
+            this.releaseEvents = new CountDownLatch(holdEvents ? 1 : 0);
+        }
+
+
+        /**
+         * Set up the time taken to process the events that contain "slow".
+         *
+         * @param slowEventTime milliseconds
+         */
+        void setSlowEventTime(long slowEventTime)
+        {
+            this.slowEventTime = slowEventTime;
+        }
+
+
+        /**
+         * Record the event, waiting for the test to release it if requested.
+         *
+         * @param event inbound event
+         */
+        @Override
+        public void processEvent(String event)
+        {
+            firstEventReceived.countDown();
+
+            try
+            {
+                releaseEvents.await();
+
+                if (event.contains("slow"))
+                {
+                    Thread.sleep(slowEventTime);
+                }
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            synchronized (receivedEvents)
+            {
+                receivedEvents.add(event);
+                eventThreadNames.put(event, Thread.currentThread().getName());
+                receivedEvents.notifyAll();
+            }
+        }
+
+
+        /**
+         * Allow the held events to be processed.
+         */
+        void releaseEvents()
+        {
+            releaseEvents.countDown();
+        }
+
+
+        /**
+         * Wait for the requested number of events to be received.
+         *
+         * @param eventCount number of events
+         * @return copy of the received events
+         * @throws InterruptedException interrupted while waiting
+         */
+        List<String> awaitEvents(int eventCount) throws InterruptedException
+        {
+            long deadline = System.currentTimeMillis() + waitTime;
+
+            synchronized (receivedEvents)
+            {
+                while ((receivedEvents.size() < eventCount) && (System.currentTimeMillis() < deadline))
+                {
+                    receivedEvents.wait(deadline - System.currentTimeMillis());
+                }
+
+                return new ArrayList<>(receivedEvents);
+            }
+        }
+
+
+        /**
+         * Return the name of the thread that processed an event.
+         *
+         * @param event event content
+         * @return thread name
+         */
+        String getEventThreadName(String event)
+        {
+            synchronized (receivedEvents)
+            {
+                return eventThreadNames.get(event);
+            }
+        }
+    }
+
+
+    /**
+     * Listener that sends a follow-on event for the same instance to its own topic, until each instance has
+     * received the requested number of events.
+     */
+    private static class RepublishingTopicListener extends TestTopicListener
+    {
+        private final TestTopicConnector connector;
+        private final int                eventsPerInstance;
+
+
+        /**
+         * Constructor
+         *
+         * @param connector topic connector to send the follow-on events to
+         * @param eventsPerInstance number of events to receive for each instance
+         */
+        RepublishingTopicListener(TestTopicConnector connector,
+                                  int                eventsPerInstance)
+        {
+            super(false);
+
+            this.connector         = connector;
+            this.eventsPerInstance = eventsPerInstance;
+        }
+
+
+        /**
+         * Record the event and send the next one for the instance.
+         *
+         * @param event inbound event
+         */
+        @Override
+        public void processEvent(String event)
+        {
+            super.processEvent(event);
+
+            String instanceGUID = event.substring(event.indexOf("\"instanceGUID\":\"") + 16, event.indexOf("\"},"));
+            int    eventNumber  = Integer.parseInt(event.substring(event.indexOf("\"eventNumber\":") + 14, event.length() - 1));
+
+            if (eventNumber + 1 < eventsPerInstance)
+            {
+                connector.queueEvent("{\"instanceEventSection\":{\"eventType\":\"UPDATED_ENTITY_EVENT\",\"instanceGUID\":\"" +
+                                             instanceGUID + "\"},\"eventNumber\":" + (eventNumber + 1) + "}");
+            }
+        }
+    }
+
+
+    /**
+     * Return a connector with the requested configuration properties.
+     *
+     * @param configurationProperties configuration properties
+     * @return initialized connector (not started)
+     * @throws Exception problem initializing the connector
+     */
+    private TestTopicConnector getConnector(Map<String, Object> configurationProperties) throws Exception
+    {
+        Endpoint   endpoint   = new Endpoint();
+        Connection connection = new Connection();
+
+        endpoint.setNetworkAddress("TestTopic");
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        TestTopicConnector connector = new TestTopicConnector();
+
+        connector.initialize("TestConnectorId", connection);
+
+        return connector;
+    }
+
+
+    /**
+     * Return the configuration properties for a small event queue.
+     *
+     * @param eventQueueCapacity capacity of the queue
+     * @return configuration properties
+     */
+    private Map<String, Object> getQueueProperties(int eventQueueCapacity)
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put("eventQueueCapacity", eventQueueCapacity);
+        configurationProperties.put("sleepTime", 10);
+
+        return configurationProperties;
+    }
+
+
+    /**
+     * Return the configuration properties for dispatch lanes.
+     *
+     * @param laneCount number of lanes
+     * @return configuration properties
+     */
+    private Map<String, Object> getLaneProperties(int laneCount)
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put("dispatchLanes", laneCount);
+        configurationProperties.put("sleepTime", 10);
+
+        return configurationProperties;
+    }
+
+
+    /**
+     * Return the content of an instance event.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @param eventNumber sequence number of the event
+     * @return JSON event
+     */
+    private String getInstanceEvent(String instanceGUID,
+                                    int    eventNumber)
+    {
+        return "{\"instanceEventSection\":{\"eventType\":\"UPDATED_ENTITY_EVENT\",\"instanceGUID\":\"" + instanceGUID +
+                       "\"},\"eventNumber\":" + eventNumber + "}";
+    }
+
+
+    /**
+     * Return the number of live threads that are running a dispatch lane.
+     *
+     * @return thread count
+     */
+    private int getLaneThreadCount()
+    {
+        int laneThreadCount = 0;
+
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+        {
+            if ((thread.isAlive()) && (thread.getName().contains("(lane ")))
+            {
+                laneThreadCount++;
+            }
+        }
+
+        return laneThreadCount;
+    }
+
+
+    /**
+     * Wait for a thread to block.
+     *
+     * @param thread thread to test
+     * @return boolean true if the thread is waiting
+     * @throws InterruptedException interrupted while waiting
+     */
+    private boolean awaitBlocked(Thread thread) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + waitTime;
+
+        while (System.currentTimeMillis() < deadline)
+        {
+            Thread.State state = thread.getState();
+
+            if ((state == Thread.State.WAITING) || (state == Thread.State.TIMED_WAITING))
+            {
+                return true;
+            }
+
+            Thread.sleep(10);
+        }
+
+        return false;
+    }
+
+
+    @Test
+    public void testProducerWaitsWhenQueueIsFull() throws Exception
+    {
+        TestTopicConnector connector = getConnector(getQueueProperties(2));
+        TestTopicListener  listener  = new TestTopicListener(true);
+
+        connector.registerListener(listener);
+        connector.start();
+
+        try
+        {
+            /*
+             * The first event is taken by the listener thread and held by the listener.  The next two fill the queue.
+             */
+            connector.queueEvent("event1");
+            Assert.assertTrue(listener.firstEventReceived.await(waitTime, TimeUnit.MILLISECONDS));
+
+            connector.queueEvent("event2");
+            connector.queueEvent("event3");
+
+            Assert.assertEquals(connector.getEventQueueDepth(), 2);
+            Assert.assertEquals(connector.getBackpressureCount(), 0L);
+
+            Thread producer = new Thread(() -> connector.queueEvent("event4"));
+
+            producer.start();
+
+            Assert.assertTrue(awaitBlocked(producer));
+            Assert.assertTrue(producer.isAlive());
+            Assert.assertEquals(connector.getBackpressureCount(), 1L);
+
+            listener.releaseEvents();
+            producer.join(waitTime);
+
+            Assert.assertFalse(producer.isAlive());
+            Assert.assertEquals(listener.awaitEvents(4), List.of("event1", "event2", "event3", "event4"));
+            Assert.assertEquals(connector.getQueuedEventCount(), 4L);
+            Assert.assertEquals(connector.getMaxEventQueueDepth(), 2L);
+        }
+        finally
+        {
+            listener.releaseEvents();
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testEventsQueuedBeforeStartAreNotLimited() throws Exception
+    {
+        TestTopicConnector connector = getConnector(getQueueProperties(2));
+        TestTopicListener  listener  = new TestTopicListener(false);
+
+        connector.registerListener(listener);
+
+        /*
+         * No listener thread is running yet so the events are held without waiting for space.
+         */
+        for (int eventNumber = 1; eventNumber <= 5; eventNumber++)
+        {
+            connector.queueEvent("event" + eventNumber);
+        }
+
+        Assert.assertEquals(connector.getEventQueueDepth(), 5);
+        Assert.assertEquals(connector.getBackpressureCount(), 0L);
+
+        connector.start();
+
+        try
+        {
+            Assert.assertEquals(listener.awaitEvents(5), List.of("event1", "event2", "event3", "event4", "event5"));
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testWaitingProducerIsReleasedByDisconnect() throws Exception
+    {
+        TestTopicConnector connector = getConnector(getQueueProperties(1));
+        TestTopicListener  listener  = new TestTopicListener(true);
+
+        connector.registerListener(listener);
+        connector.start();
+
+        try
+        {
+            connector.queueEvent("event1");
+            Assert.assertTrue(listener.firstEventReceived.await(waitTime, TimeUnit.MILLISECONDS));
+
+            connector.queueEvent("event2");
+
+            Thread producer = new Thread(() -> connector.queueEvent("event3"));
+
+            producer.start();
+
+            Assert.assertTrue(awaitBlocked(producer));
+
+            connector.disconnect();
+            producer.join(waitTime);
+
+            /*
+             * The waiting event is kept rather than lost.
+             */
+            Assert.assertFalse(producer.isAlive());
+            Assert.assertEquals(connector.getEventQueueDepth(), 2);
+        }
+        finally
+        {
+            listener.releaseEvents();
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testOrderingKeys() throws Exception
+    {
+        TestTopicConnector connector = getConnector(null);
+
+        Assert.assertEquals(connector.getOrderingKey(new IncomingEvent(getInstanceEvent("guid1", 1), "1")), "guid1");
+        Assert.assertEquals(connector.getOrderingKey(new IncomingEvent("{\"instanceEventSection\":{\"entity\":{\"guid\":\"guid2\"}}}", "2")),
+                            "guid2");
+        Assert.assertNull(connector.getOrderingKey(new IncomingEvent("{\"instanceEventSection\":{\"instanceGUID\":\"guid3\",\"originalInstanceGUID\":\"guid4\"}}", "3")));
+        Assert.assertNull(connector.getOrderingKey(new IncomingEvent("{\"typeDefEventSection\":{\"typeDefGUID\":\"guid5\"}}", "4")));
+        Assert.assertNull(connector.getOrderingKey(new IncomingEvent("{\"instanceEventSection\":", "5")));
+    }
+
+
+    @Test
+    public void testEventsForAnInstanceStayInOrder() throws Exception
+    {
+        TestTopicConnector connector = getConnector(getLaneProperties(4));
+        TestTopicListener  listener  = new TestTopicListener(false);
+
+        listener.setSlowEventTime(2L);
+        connector.registerListener(listener);
+        connector.start();
+
+        try
+        {
+            String[] instanceGUIDs = new String[]{ "guid1", "guid2-slow", "guid3", "guid4-slow" };
+            int      eventCount    = 20;
+
+            for (int eventNumber = 0; eventNumber < eventCount; eventNumber++)
+            {
+                for (String instanceGUID : instanceGUIDs)
+                {
+                    connector.queueEvent(getInstanceEvent(instanceGUID, eventNumber));
+                }
+            }
+
+            List<String> receivedEvents = listener.awaitEvents(eventCount * instanceGUIDs.length);
+
+            Assert.assertEquals(receivedEvents.size(), eventCount * instanceGUIDs.length);
+
+            for (String instanceGUID : instanceGUIDs)
+            {
+                int    nextEventNumber = 0;
+                String laneThreadName  = listener.getEventThreadName(getInstanceEvent(instanceGUID, 0));
+
+                Assert.assertTrue(laneThreadName.contains("(lane "));
+
+                for (String receivedEvent : receivedEvents)
+                {
+                    if (receivedEvent.contains("\"" + instanceGUID + "\""))
+                    {
+                        Assert.assertEquals(receivedEvent, getInstanceEvent(instanceGUID, nextEventNumber));
+                        Assert.assertEquals(listener.getEventThreadName(receivedEvent), laneThreadName);
+                        nextEventNumber++;
+                    }
+                }
+
+                Assert.assertEquals(nextEventNumber, eventCount);
+            }
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testOtherEventsWaitForTheLanes() throws Exception
+    {
+        TestTopicConnector connector = getConnector(getLaneProperties(2));
+        TestTopicListener  listener  = new TestTopicListener(false);
+
+        listener.setSlowEventTime(20L);
+        connector.registerListener(listener);
+        connector.start();
+
+        try
+        {
+            String typeEvent = "{\"typeDefEventSection\":{\"typeDefGUID\":\"type1\"}}";
+
+            for (int eventNumber = 0; eventNumber < 5; eventNumber++)
+            {
+                connector.queueEvent(getInstanceEvent("guid-slow", eventNumber));
+            }
+
+            connector.queueEvent(typeEvent);
+            connector.queueEvent(getInstanceEvent("guid1", 0));
+
+            List<String> receivedEvents = listener.awaitEvents(7);
+
+            Assert.assertEquals(receivedEvents.size(), 7);
+            Assert.assertEquals(receivedEvents.get(5), typeEvent);
+            Assert.assertEquals(receivedEvents.get(6), getInstanceEvent("guid1", 0));
+            Assert.assertFalse(listener.getEventThreadName(typeEvent).contains("(lane "));
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testDisconnectShutsDownTheLanes() throws Exception
+    {
+        TestTopicConnector connector = getConnector(getLaneProperties(2));
+        TestTopicListener  listener  = new TestTopicListener(true);
+
+        connector.registerListener(listener);
+        connector.start();
+
+        try
+        {
+            /*
+             * The first event is held in its lane, so the others wait in the lane's queue.
+             */
+            connector.queueEvent(getInstanceEvent("guid1", 0));
+            Assert.assertTrue(listener.firstEventReceived.await(waitTime, TimeUnit.MILLISECONDS));
+
+            connector.queueEvent(getInstanceEvent("guid1", 1));
+            connector.queueEvent(getInstanceEvent("guid1", 2));
+
+            connector.disconnect();
+
+            long deadline = System.currentTimeMillis() + waitTime;
+
+            while ((getLaneThreadCount() > 0) && (System.currentTimeMillis() < deadline))
+            {
+                Thread.sleep(10);
+            }
+
+            Assert.assertEquals(getLaneThreadCount(), 0);
+
+            /*
+             * The held event was interrupted and the queued events were discarded rather than distributed.
+             */
+            listener.releaseEvents();
+
+            Assert.assertTrue(listener.awaitEvents(0).isEmpty());
+        }
+        finally
+        {
+            listener.releaseEvents();
+            connector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testListenerSendingToItsOwnTopicFromALane() throws Exception
+    {
+        Map<String, Object> configurationProperties = getLaneProperties(2);
+
+        configurationProperties.put("eventQueueCapacity", 1);
+
+        TestTopicConnector        connector = getConnector(configurationProperties);
+        RepublishingTopicListener listener  = new RepublishingTopicListener(connector, 5);
+
+        connector.registerListener(listener);
+        connector.start();
+
+        try
+        {
+            int instanceCount = 10;
+
+            /*
+             * The queues hold a single event so the lane threads would wait for space while the listener thread
+             * waits for the lanes, unless the events sent from the lanes are queued without waiting.
+             */
+            Thread producer = new Thread(() ->
+                                         {
+                                             for (int instance = 0; instance < instanceCount; instance++)
+                                             {
+                                                 connector.queueEvent(getInstanceEvent("guid" + instance, 0));
+                                             }
+                                         });
+
+            producer.start();
+            producer.join(waitTime);
+
+            Assert.assertFalse(producer.isAlive());
+
+            List<String> receivedEvents = listener.awaitEvents(instanceCount * 5);
+
+            Assert.assertEquals(receivedEvents.size(), instanceCount * 5);
+
+            for (int instance = 0; instance < instanceCount; instance++)
+            {
+                int nextEventNumber = 0;
+
+                for (String receivedEvent : receivedEvents)
+                {
+                    if (receivedEvent.contains("\"guid" + instance + "\""))
+                    {
+                        Assert.assertEquals(receivedEvent, getInstanceEvent("guid" + instance, nextEventNumber));
+                        nextEventNumber++;
+                    }
+                }
+
+                Assert.assertEquals(nextEventNumber, 5);
+            }
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that OMRSRegularExpressionMatcher gives the same results as String.matches() for the shapes of
+ * regular expression it matches without the regular expression engine, and for those it does not.
+ */
+public class OMRSRegularExpressionMatcherTest
+{
+    private final String[] literals = { "", "Asset", "asset", "DataFile", "a.b", "x\\Ey", "Ça", "line" };
+
+    private final String[] values = { "", "Asset", "asset", "ASSET", "MyAsset", "AssetFile", "MyAssetFile",
+                                      "DataFile", "datafile", "a.b", "axb", "x\\Ey", "ça", "Ça", "ÇA",
+                                      "first\nline", "line\r", "line next", "Ass" };
+
+
+    /**
+     * Test the value against the regular expression and check the result is the same as String.matches().
+     *
+     * @param matcher matcher under test
+     * @param regex regular expression
+     * @param value value to test
+     */
+    private void validateMatch(OMRSRegularExpressionMatcher matcher,
+                               String                       regex,
+                               String                       value)
+    {
+        assertEquals(matcher.matches(regex, value), value.matches(regex), "regex=" + regex + " value=" + value);
+    }
+
+
+    /**
+     * Validate the quoted literals produced by the repository helper for exact, starts with, ends with and
+     * contains searches, with and without case-sensitivity.
+     */
+    @Test public void testQuotedLiterals()
+    {
+        OMRSRegularExpressionMatcher matcher = new OMRSRegularExpressionMatcher(100);
+
+        for (String literal : literals)
+        {
+            String quoted = Pattern.quote(literal);
+
+            String[] regexes = { quoted, quoted + ".*", ".*" + quoted, ".*" + quoted + ".*" };
+
+            for (String regex : regexes)
+            {
+                for (String value : values)
+                {
+                    validateMatch(matcher, regex, value);
+                    validateMatch(matcher, "(?i)" + regex, value);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Validate unquoted literals and general regular expressions.
+     */
+    @Test public void testUnquotedExpressions()
+    {
+        OMRSRegularExpressionMatcher matcher = new OMRSRegularExpressionMatcher(2);
+
+        String[] regexes = { "Asset", "Asset.*", ".*File", ".*", "(?i)asset", "(?i).*file.*", "a.b", "Da.*File",
+                             "[A-Z].*", "A?sset", ".*.*", ".**", "(?i)", "(?iu)ça" };
+
+        for (String regex : regexes)
+        {
+            for (String value : values)
+            {
+                validateMatch(matcher, regex, value);
+            }
+        }
+    }
+
+
+    /**
+     * Validate that invalid regular expressions are still rejected.
+     */
+    @Test public void testInvalidExpression()
+    {
+        OMRSRegularExpressionMatcher matcher = new OMRSRegularExpressionMatcher(100);
+
+        for (int attempt = 0; attempt < 2; attempt++)
+        {
+            try
+            {
+                matcher.matches(".*[Asset", "Asset");
+                fail("Invalid regular expression accepted");
+            }
+            catch (PatternSyntaxException expectedError)
+            {
+                // Expected
+            }
+        }
+    }
+}
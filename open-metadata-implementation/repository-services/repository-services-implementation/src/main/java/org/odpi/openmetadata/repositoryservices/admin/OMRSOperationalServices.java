@@ -33,6 +33,7 @@ import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRS
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSEnterpriseConnectorManager;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSConnection;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.ParallelFederationControl;
 import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
 import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSConfigErrorException;
@@ -49,6 +50,7 @@ import org.odpi.openmetadata.repositoryservices.rest.server.OMRSRepositoryRESTSe
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 
 /**
@@ -93,6 +95,9 @@ public class OMRSOperationalServices
     private OMRSEnterpriseConnectorManager enterpriseConnectorManager          = null;
     private String                         enterpriseMetadataCollectionId      = null;
     private String                         enterpriseMetadataCollectionName    = null;
+    private ExecutorService                federationExecutor                  = null;
+    private long                           federationMemberTimeout             = 0L;
+    private int                            federationPagingCursors             = 0;
     private OMRSTopicConnector             enterpriseOMRSTopicConnector        = null;
     private OMRSTopicConnector             remoteEnterpriseOMRSTopicConnector  = null;
     private LocalOMRSRepositoryConnector   localRepositoryConnector            = null;
@@ -181,6 +186,8 @@ public class OMRSOperationalServices
 
                 omrsRepositoryConnector.setCallingServiceName(callingServiceName);
                 omrsRepositoryConnector.setMaxPageSize(maxPageSize);
+                omrsRepositoryConnector.setFederationExecutor(federationExecutor, federationMemberTimeout);
+                omrsRepositoryConnector.setMaxPagingCursors(federationPagingCursors);
 
                 auditLog.logMessage(actionDescription, OMRSAuditCode.NEW_ENTERPRISE_CONNECTOR.getMessageDefinition(callingServiceName));
 
@@ -367,7 +374,8 @@ public class OMRSOperationalServices
         /*
          * The archive manager loads pre-defined types and instances that are stored in open metadata archives.
          */
-        archiveManager = initializeOpenMetadataArchives(repositoryServicesConfig.getOpenMetadataArchiveConnections());
+        archiveManager = initializeOpenMetadataArchives(repositoryServicesConfig.getOpenMetadataArchiveConnections(),
+                                                        repositoryServicesConfig.getArchiveBulkLoadBatchSize());
 
         /*
          * Start up the local repository if one is configured.
@@ -784,6 +792,20 @@ public class OMRSOperationalServices
              */
             enterpriseMetadataCollectionId = enterpriseAccessConfig.getEnterpriseMetadataCollectionId();
             enterpriseMetadataCollectionName = enterpriseAccessConfig.getEnterpriseMetadataCollectionName();
+
+            /*
+             * The worker threads for parallel federated queries are shared by all the enterprise connectors in the server.
+             * If no threads are configured, the federated queries call each repository in turn.
+             */
+            if (enterpriseAccessConfig.getFederationThreadCount() > 0)
+            {
+                federationExecutor = ParallelFederationControl.createFederationExecutor(localServerName,
+                                                                                        enterpriseAccessConfig.getFederationThreadCount(),
+                                                                                        enterpriseAccessConfig.getFederationVirtualThreads());
+                federationMemberTimeout = enterpriseAccessConfig.getFederationMemberTimeout();
+            }
+
+            federationPagingCursors = enterpriseAccessConfig.getFederationPagingCursors();
         }
 
         return enterpriseConnectorManager;
@@ -857,9 +879,11 @@ public class OMRSOperationalServices
      * Return an OMRS archive manager configured with the list of Open Metadata Archive Stores to use.
      *
      * @param openMetadataArchiveConnections connections to the open metadata archive stores
+     * @param archiveBulkLoadBatchSize number of archive instances saved in each batch; zero means each instance is processed as a separate event
      * @return OMRS archive manager
      */
-    private OMRSArchiveManager initializeOpenMetadataArchives(List<Connection>    openMetadataArchiveConnections)
+    private OMRSArchiveManager initializeOpenMetadataArchives(List<Connection>    openMetadataArchiveConnections,
+                                                              int                 archiveBulkLoadBatchSize)
     {
         ArrayList<OpenMetadataArchiveStoreConnector> openMetadataArchives = null;
 
@@ -880,7 +904,8 @@ public class OMRSOperationalServices
         }
 
         return new OMRSArchiveManager(openMetadataArchives,
-                                      auditLog.createNewAuditLog(OMRSAuditingComponent.ARCHIVE_MANAGER));
+                                      auditLog.createNewAuditLog(OMRSAuditingComponent.ARCHIVE_MANAGER),
+                                      archiveBulkLoadBatchSize);
     }
 
 
@@ -1099,6 +1124,11 @@ public class OMRSOperationalServices
             }
         }
 
+        if (federationExecutor != null)
+        {
+            federationExecutor.shutdownNow();
+        }
+
         if (archiveManager != null)
         {
             archiveManager.close();
@@ -1106,6 +1136,14 @@ public class OMRSOperationalServices
 
         auditLog.logMessage(actionDescription, OMRSAuditCode.OMRS_DISCONNECTED.getMessageDefinition());
 
+        /*
+         * Flush the log records waiting for the audit log stores and disconnect the stores.
+         */
+        if (auditLogDestination != null)
+        {
+            auditLogDestination.disconnect();
+        }
+
         return true;
     }
 
@@ -3,9 +3,11 @@
 package org.odpi.openmetadata.repositoryservices.archivemanager;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesSnapshot;
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStreamingStore;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorClassificationExtension;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
@@ -19,6 +21,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessorInterface;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.ArchiveInstanceLoadSummary;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSInstanceEventProcessor;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 
@@ -29,6 +32,12 @@ import java.util.List;
 /**
  * OMRSArchiveManager manages the loading and unloading of open metadata archives from the local OMRS repository.
  * An open metadata archive provides pre-built definitions for types and metadata instances.
+ * <br><br>
+ * By default, each instance in an archive is passed to the local repository as a separate instance event.
+ * If a bulk load batch size is configured, the entities and relationships are instead validated in parallel
+ * and saved to the local repository in batches (see LocalOMRSInstanceEventProcessor.processArchiveInstances).
+ * Archive stores that implement OpenMetadataArchiveStreamingStore pass their instances in segments as they
+ * are read, so a large archive does not need to be held in memory while it is loaded.
  */
 public class OMRSArchiveManager
 {
@@ -36,6 +45,7 @@ public class OMRSArchiveManager
     private List<OpenMetadataArchiveStore>          openMetadataArchiveStores   = new ArrayList<>();
     private OMRSRepositoryContentManager            repositoryContentManager    = null;
     private LocalOMRSInstanceEventProcessor         localInstanceEventProcessor = null;
+    private final int                               bulkLoadBatchSize;
 
 
     /*
@@ -54,7 +64,25 @@ public class OMRSArchiveManager
     public OMRSArchiveManager(List<OpenMetadataArchiveStoreConnector>    startUpOpenMetadataArchives,
                               AuditLog                                   auditLog)
     {
-        this.auditLog = auditLog;
+        this(startUpOpenMetadataArchives, auditLog, 0);
+    }
+
+
+    /**
+     * Constructor to save the initial list of open metadata archives from the server startup configuration
+     * along with the batch size for bulk loading their instances.
+     * These will be processed as soon as the event processors are supplied from the local repository.
+     *
+     * @param startUpOpenMetadataArchives  initial list of open metadata archives provided in startup configuration
+     * @param auditLog audit log for this component.
+     * @param bulkLoadBatchSize number of instances saved in each batch; zero means each instance is processed as a separate event
+     */
+    public OMRSArchiveManager(List<OpenMetadataArchiveStoreConnector>    startUpOpenMetadataArchives,
+                              AuditLog                                   auditLog,
+                              int                                        bulkLoadBatchSize)
+    {
+        this.auditLog          = auditLog;
+        this.bulkLoadBatchSize = bulkLoadBatchSize;
 
         if (startUpOpenMetadataArchives != null)
         {
@@ -138,21 +166,21 @@ public class OMRSArchiveManager
 
     /**
      * Unpack and process the contents an open metadata archive store, passing its contents to the local
-     * repository (if it exists).
+     * repository (if it exists).  The types are taken from the snapshot shared by the servers in this JVM.
      */
     private void processOpenMetadataTypes()
     {
-        OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
-        OpenMetadataArchive      openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
+        OpenMetadataArchive openMetadataTypes = OpenMetadataTypesSnapshot.getOpenMetadataArchive();
 
-        repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
+        repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypes.getArchiveProperties().getArchiveGUID());
         processOpenMetadataArchive(openMetadataTypes, "Open Metadata Types", repositoryContentManager, localInstanceEventProcessor);
     }
 
 
     /**
      * Unpack and process the contents an open metadata archive , passing its contents to the local
-     * repository (if it exists).
+     * repository (if it exists).  If the archive store is able to stream its contents, the instances are
+     * processed in segments as they are read rather than after the whole archive is in memory.
      *
      * @param archiveStore open metadata archive  to process
      * @param archiveSource source of the archive - such as file name
@@ -165,7 +193,22 @@ public class OMRSArchiveManager
                                                  OMRSTypeDefEventProcessorInterface   typeDefProcessor,
                                                  OMRSInstanceEventProcessorInterface  instanceProcessor) throws RepositoryErrorException
     {
-        if (archiveStore != null)
+        final String     actionDescription = "Process Open Metadata Archive";
+
+        if (archiveStore instanceof OpenMetadataArchiveStreamingStore streamingArchiveStore)
+        {
+            ArchiveContentProcessor archiveContentProcessor = new ArchiveContentProcessor(archiveSource, typeDefProcessor, instanceProcessor);
+
+            if (streamingArchiveStore.streamArchiveContents(archiveContentProcessor))
+            {
+                archiveContentProcessor.completeArchive();
+            }
+            else
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
+            }
+        }
+        else if (archiveStore != null)
         {
             /*
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
@@ -175,8 +218,6 @@ public class OMRSArchiveManager
 
             if (archiveContent == null)
             {
-                final String     actionDescription = "Process Open Metadata Archive";
-
                 auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
             }
             else
@@ -201,41 +242,11 @@ public class OMRSArchiveManager
                                             OMRSTypeDefEventProcessorInterface    typeDefProcessor,
                                             OMRSInstanceEventProcessorInterface   instanceProcessor)
     {
-        final String     actionDescription = "Process Open Metadata Archive";
-
-        OpenMetadataArchiveProperties archiveProperties = archiveContent.getArchiveProperties();
-
-        if (archiveProperties != null)
-        {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
-
-
-            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
-            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
-
-            int                              typeCount            = 0;
-            int                              instanceCount        = 0;
+        ArchiveContentProcessor archiveContentProcessor = new ArchiveContentProcessor(archiveSource, typeDefProcessor, instanceProcessor);
 
-
-            if (archiveTypeStore != null)
-            {
-                typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
-            }
-
-            if (archiveInstanceStore != null)
-            {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
-            }
-
-            auditLog.logMessage(actionDescription,
-                                OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
-                                                                                     Integer.toString(instanceCount),
-                                                                                     archiveProperties.getArchiveName()));
-        }
-        else
-        {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
-        }
+        archiveContentProcessor.processArchiveHeader(archiveContent.getArchiveProperties(), archiveContent.getArchiveTypeStore());
+        archiveContentProcessor.processInstanceSegment(archiveContent.getArchiveInstanceStore());
+        archiveContentProcessor.completeArchive();
     }
 
 
@@ -358,11 +369,13 @@ public class OMRSArchiveManager
      * @param archiveInstanceStore the instance store to process
      * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
      *                          if there is no local repository configured for this server.
+     * @param loadSummary accumulated counts from bulk loading the archive
      * @return instance count
      */
     private int  processInstanceStore(OpenMetadataArchiveProperties             archiveProperties,
                                       OpenMetadataArchiveInstanceStore          archiveInstanceStore,
-                                      OMRSInstanceEventProcessorInterface       instanceProcessor)
+                                      OMRSInstanceEventProcessorInterface       instanceProcessor,
+                                      ArchiveInstanceLoadSummary                loadSummary)
     {
         List<EntityDetail>                  entities        = archiveInstanceStore.getEntities();
         List<Relationship>                  relationships   = archiveInstanceStore.getRelationships();
@@ -394,90 +407,148 @@ public class OMRSArchiveManager
                 originatorServerType = OpenMetadataArchiveType.REPOSITORY_BACKUP.getName();
             }
 
-            if (entities != null)
+            if ((bulkLoadBatchSize > 0) && (instanceProcessor instanceof LocalOMRSInstanceEventProcessor bulkInstanceProcessor))
             {
-                for (EntityDetail entity : entities)
+                List<EntityDetail> archiveEntities      = new ArrayList<>();
+                List<Relationship> archiveRelationships = new ArrayList<>();
+
+                if (entities != null)
                 {
-                    if (entity != null)
+                    for (EntityDetail entity : entities)
                     {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    entity);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (entity.getVersion() == 1L)
+                        if (entity != null)
                         {
-                            instanceProcessor.processNewEntityEvent(archiveId,
-                                                                    homeMetadataCollectionId,
-                                                                    archiveName,
-                                                                    originatorServerType,
-                                                                    originatorOrganizationName,
-                                                                    entity);
+                            this.setInstanceAuditHeader(localMetadataCollectionId,
+                                                        homeMetadataCollectionId,
+                                                        archiveName,
+                                                        originatorName,
+                                                        archiveCreationTime,
+                                                        provenanceType,
+                                                        originatorLicense,
+                                                        entity);
+                            archiveEntities.add(entity);
+                        }
+                    }
+                }
+
+                if (relationships != null)
+                {
+                    for (Relationship relationship : relationships)
+                    {
+                        if (relationship != null)
+                        {
+                            this.setInstanceAuditHeader(localMetadataCollectionId,
+                                                        homeMetadataCollectionId,
+                                                        archiveName,
+                                                        originatorName,
+                                                        archiveCreationTime,
+                                                        provenanceType,
+                                                        originatorLicense,
+                                                        relationship);
+                            archiveRelationships.add(relationship);
                         }
-                        else
+                    }
+                }
+
+                bulkInstanceProcessor.processArchiveInstances(archiveId,
+                                                              homeMetadataCollectionId,
+                                                              archiveName,
+                                                              originatorServerType,
+                                                              originatorOrganizationName,
+                                                              archiveEntities,
+                                                              archiveRelationships,
+                                                              bulkLoadBatchSize,
+                                                              loadSummary);
+
+                instanceCount = archiveEntities.size() + archiveRelationships.size();
+            }
+            else
+            {
+                if (entities != null)
+                {
+                    for (EntityDetail entity : entities)
+                    {
+                        if (entity != null)
                         {
-                            instanceProcessor.processUpdatedEntityEvent(archiveId,
+                            this.setInstanceAuditHeader(localMetadataCollectionId,
+                                                        homeMetadataCollectionId,
+                                                        archiveName,
+                                                        originatorName,
+                                                        archiveCreationTime,
+                                                        provenanceType,
+                                                        originatorLicense,
+                                                        entity);
+
+                            /*
+                             * There is no need to support delete in archive because the elements are
+                             * reference copies and can be deleted from the receiving repositories.
+                             */
+                            if (entity.getVersion() == 1L)
+                            {
+                                instanceProcessor.processNewEntityEvent(archiveId,
                                                                         homeMetadataCollectionId,
                                                                         archiveName,
                                                                         originatorServerType,
                                                                         originatorOrganizationName,
-                                                                        null,
                                                                         entity);
-                        }
+                            }
+                            else
+                            {
+                                instanceProcessor.processUpdatedEntityEvent(archiveId,
+                                                                            homeMetadataCollectionId,
+                                                                            archiveName,
+                                                                            originatorServerType,
+                                                                            originatorOrganizationName,
+                                                                            null,
+                                                                            entity);
+                            }
 
-                        instanceCount++;
+                            instanceCount++;
+                        }
                     }
                 }
-            }
 
-            if (relationships != null)
-            {
-                for (Relationship relationship : relationships)
+                if (relationships != null)
                 {
-                    if (relationship != null)
+                    for (Relationship relationship : relationships)
                     {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    relationship);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (relationship.getVersion() == 1L)
-                        {
-                            instanceProcessor.processNewRelationshipEvent(archiveId,
-                                                                          homeMetadataCollectionId,
-                                                                          archiveName,
-                                                                          originatorServerType,
-                                                                          originatorOrganizationName,
-                                                                          relationship);
-                        }
-                        else
+                        if (relationship != null)
                         {
-                            instanceProcessor.processUpdatedRelationshipEvent(archiveId,
+                            this.setInstanceAuditHeader(localMetadataCollectionId,
+                                                        homeMetadataCollectionId,
+                                                        archiveName,
+                                                        originatorName,
+                                                        archiveCreationTime,
+                                                        provenanceType,
+                                                        originatorLicense,
+                                                        relationship);
+
+                            /*
+                             * There is no need to support delete in archive because the elements are
+                             * reference copies and can be deleted from the receiving repositories.
+                             */
+                            if (relationship.getVersion() == 1L)
+                            {
+                                instanceProcessor.processNewRelationshipEvent(archiveId,
                                                                               homeMetadataCollectionId,
                                                                               archiveName,
                                                                               originatorServerType,
                                                                               originatorOrganizationName,
-                                                                              null,
                                                                               relationship);
-                        }
+                            }
+                            else
+                            {
+                                instanceProcessor.processUpdatedRelationshipEvent(archiveId,
+                                                                                  homeMetadataCollectionId,
+                                                                                  archiveName,
+                                                                                  originatorServerType,
+                                                                                  originatorOrganizationName,
+                                                                                  null,
+                                                                                  relationship);
+                            }
 
-                        instanceCount ++;
+                            instanceCount ++;
+                        }
                     }
                 }
             }
@@ -622,4 +693,113 @@ public class OMRSArchiveManager
             instance.setVersion(1L);
         }
     }
+
+
+    /**
+     * ArchiveContentProcessor passes the contents of a single open metadata archive to the local repository.
+     * The header and type store are processed first, then each segment of instances as it arrives.
+     */
+    private class ArchiveContentProcessor implements OpenMetadataArchiveContentHandler
+    {
+        private static final String actionDescription = "Process Open Metadata Archive";
+
+        private final String                              archiveSource;
+        private final OMRSTypeDefEventProcessorInterface  typeDefProcessor;
+        private final OMRSInstanceEventProcessorInterface instanceProcessor;
+
+        private final ArchiveInstanceLoadSummary loadSummary = new ArchiveInstanceLoadSummary();
+
+        private OpenMetadataArchiveProperties archiveProperties = null;
+        private int                           typeCount         = 0;
+        private int                           instanceCount     = 0;
+
+
+        /**
+         * Constructor supplies the destinations for the archive contents.
+         *
+         * @param archiveSource source of the archive - such as file name
+         * @param typeDefProcessor processor of type definitions found in the archive
+         * @param instanceProcessor processor of instances that have been found in the archive
+         */
+        ArchiveContentProcessor(String                              archiveSource,
+                                OMRSTypeDefEventProcessorInterface  typeDefProcessor,
+                                OMRSInstanceEventProcessorInterface instanceProcessor)
+        {
+            this.archiveSource     = archiveSource;
+            this.typeDefProcessor  = typeDefProcessor;
+            this.instanceProcessor = instanceProcessor;
+        }
+
+
+        /**
+         * Process the header of the archive.  An archive without properties is reported and its contents are ignored.
+         *
+         * @param archiveProperties properties of the archive (may be null if the archive has no header)
+         * @param archiveTypeStore type definitions from the archive (may be null)
+         */
+        @Override
+        public void processArchiveHeader(OpenMetadataArchiveProperties archiveProperties,
+                                         OpenMetadataArchiveTypeStore  archiveTypeStore)
+        {
+            this.archiveProperties = archiveProperties;
+
+            if (archiveProperties != null)
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
+
+                if (archiveTypeStore != null)
+                {
+                    typeCount = processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
+                }
+            }
+            else
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+            }
+        }
+
+
+        /**
+         * Process a segment of the instances from the archive.
+         *
+         * @param instanceSegment instances read from the archive
+         */
+        @Override
+        public void processInstanceSegment(OpenMetadataArchiveInstanceStore instanceSegment)
+        {
+            if ((archiveProperties != null) && (instanceSegment != null))
+            {
+                instanceCount += processInstanceStore(archiveProperties, instanceSegment, instanceProcessor, loadSummary);
+            }
+        }
+
+
+        /**
+         * Record that the whole archive has been processed.  If the instances were bulk loaded, the counts from
+         * all the segments are reported in a single message.
+         */
+        void completeArchive()
+        {
+            if (archiveProperties != null)
+            {
+                if (loadSummary.getSegmentCount() > 0)
+                {
+                    auditLog.logMessage(actionDescription,
+                                        OMRSAuditCode.BULK_LOADED_ARCHIVE_INSTANCES.getMessageDefinition(Integer.toString(loadSummary.getSavedEntityCount()),
+                                                                                                         Integer.toString(loadSummary.getSavedRelationshipCount()),
+                                                                                                         Integer.toString(loadSummary.getUpdatedCount()),
+                                                                                                         archiveProperties.getArchiveName(),
+                                                                                                         Integer.toString(loadSummary.getBatchCount()),
+                                                                                                         Integer.toString(loadSummary.getRejectedCount()),
+                                                                                                         Integer.toString(loadSummary.getSharedCount()),
+                                                                                                         Integer.toString(loadSummary.getBatchEventCount())));
+                }
+
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
+                                                                                         Integer.toString(instanceCount),
+                                                                                         archiveProperties.getArchiveName()));
+            }
+        }
+    }
 }
@@ -2,6 +2,9 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.openmetadata.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.openmetadata.ffdc.UserNotAuthorizedException;
@@ -27,6 +30,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 
 
 /**
@@ -66,6 +70,13 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     private final String                            localMetadataCollectionId;
     private final AuditLog                          auditLog;
 
+    /*
+     * Used to build the identifiers of paged queries.  Map entries are sorted so that property values supplied
+     * in a different order produce the same identifier, and dates are written as milliseconds.
+     */
+    private static final ObjectMapper queryKeyMapper = new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+                                                                         .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
+
 
     /**
      * Constructor ensures the metadata collection is linked to its connector and knows its metadata collection id.
@@ -137,7 +148,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetAllTypesExecutor executor = new GetAllTypesExecutor(userId,
                                                                methodName,
                                                                localMetadataCollectionId,
@@ -897,7 +908,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, auditLog, methodName);
 
         /*
@@ -946,7 +957,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl        federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl        federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetEntitySummaryExecutor executor          = new GetEntitySummaryExecutor(userId, guid, auditLog, methodName);
 
         /*
@@ -996,7 +1007,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, auditLog, methodName);
 
         federationControl.executeCommand(executor);
@@ -1046,7 +1057,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, asOfTime, auditLog, methodName);
 
         /*
@@ -1068,7 +1079,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
             {
                 cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-                federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+                federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
                 executor          = new GetEntityDetailExecutor(userId, guid, asOfTime, auditLog, methodName);
 
                 retryCount ++;
@@ -1133,7 +1144,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl              federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl              federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetEntityDetailHistoryExecutor executor          = new GetEntityDetailHistoryExecutor(userId,
                                                                                               guid,
                                                                                               fromTime,
@@ -1208,7 +1219,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetClassificationHistoryExecutor executor          = new GetClassificationHistoryExecutor(userId,
                                                                                                   guid,
                                                                                                   classificationName,
@@ -1305,7 +1316,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                 federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetRelationshipsForEntityExecutor executor          = new GetRelationshipsForEntityExecutor(userId,
                                                                                                     entityGUID,
                                                                                                     relationshipTypeGUID,
@@ -1320,6 +1331,17 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                     repositoryValidator,
                                                                                                     methodName);
 
+        executor.usePagingCursors(enterpriseParentConnector.getPagingCursors(),
+                                  this.getQueryKey(methodName,
+                                                   userId,
+                                                   entityGUID,
+                                                   relationshipTypeGUID,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize));
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1424,7 +1446,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl              federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl              federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesByPropertyExecutor executor          = new FindEntitiesByPropertyExecutor(userId,
                                                                                               entityTypeGUID,
                                                                                               matchProperties,
@@ -1441,6 +1463,19 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                               repositoryValidator,
                                                                                               methodName);
 
+        executor.usePagingCursors(enterpriseParentConnector.getPagingCursors(),
+                                  this.getQueryKey(methodName,
+                                                   userId,
+                                                   entityTypeGUID,
+                                                   matchProperties,
+                                                   matchCriteria,
+                                                   limitResultsByStatus,
+                                                   limitResultsByClassification,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize));
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1533,7 +1568,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl    federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl    federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesExecutor executor          = new FindEntitiesExecutor(userId,
                                                                           entityTypeGUID,
                                                                           entitySubtypeGUIDs,
@@ -1551,6 +1586,20 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                           repositoryValidator,
                                                                           methodName);
 
+        executor.usePagingCursors(enterpriseParentConnector.getPagingCursors(),
+                                  this.getQueryKey(methodName,
+                                                   userId,
+                                                   entityTypeGUID,
+                                                   entitySubtypeGUIDs,
+                                                   skipSubtypes,
+                                                   searchProperties,
+                                                   limitResultsByStatus,
+                                                   searchClassifications,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize));
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1643,7 +1692,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl     federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl     federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         CountEntitiesExecutor executor          = new CountEntitiesExecutor(userId,
                                                                              entityTypeGUID,
                                                                              entitySubtypeGUIDs,
@@ -1754,7 +1803,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                    federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                    federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesByClassificationExecutor executor          = new FindEntitiesByClassificationExecutor(userId,
                                                                                                           entityTypeGUID,
                                                                                                           classificationName,
@@ -1771,6 +1820,19 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                           repositoryValidator,
                                                                                                           methodName);
 
+        executor.usePagingCursors(enterpriseParentConnector.getPagingCursors(),
+                                  this.getQueryKey(methodName,
+                                                   userId,
+                                                   entityTypeGUID,
+                                                   classificationName,
+                                                   matchClassificationProperties,
+                                                   matchCriteria,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize));
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1868,7 +1930,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                   federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesByPropertyValueExecutor executor          = new FindEntitiesByPropertyValueExecutor(userId,
                                                                                                         entityTypeGUID,
                                                                                                         searchString,
@@ -1887,6 +1949,21 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         repositoryValidator,
                                                                                                         methodName);
 
+        executor.usePagingCursors(enterpriseParentConnector.getPagingCursors(),
+                                  this.getQueryKey(methodName,
+                                                   userId,
+                                                   entityTypeGUID,
+                                                   searchString,
+                                                   startsWith,
+                                                   endsWith,
+                                                   ignoreCase,
+                                                   limitResultsByStatus,
+                                                   limitResultsByClassification,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize));
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -2097,7 +2174,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl              federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl              federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetRelationshipHistoryExecutor executor          = new GetRelationshipHistoryExecutor(userId,
                                                                                               guid,
                                                                                               fromTime,
@@ -2212,7 +2289,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl         federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl         federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindRelationshipsExecutor executor          = new FindRelationshipsExecutor(userId,
                                                                                     relationshipTypeGUID,
                                                                                     relationshipSubtypeGUIDs,
@@ -2232,6 +2309,22 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                     repositoryValidator,
                                                                                     methodName);
 
+        executor.usePagingCursors(enterpriseParentConnector.getPagingCursors(),
+                                  this.getQueryKey(methodName,
+                                                   userId,
+                                                   relationshipTypeGUID,
+                                                   relationshipSubtypeGUIDs,
+                                                   skipSubtypes,
+                                                   end1EntityGUIDs,
+                                                   end2EntityGUIDs,
+                                                   endMatchCriteria,
+                                                   matchProperties,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize));
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -2333,7 +2426,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl          federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl          federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         CountRelationshipsExecutor executor          = new CountRelationshipsExecutor(userId,
                                                                                        relationshipTypeGUID,
                                                                                        relationshipSubtypeGUIDs,
@@ -2440,7 +2533,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                   federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindRelationshipsByPropertyExecutor executor          = new FindRelationshipsByPropertyExecutor(userId,
                                                                                                         relationshipTypeGUID,
                                                                                                         matchProperties,
@@ -2456,6 +2549,18 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         repositoryValidator,
                                                                                                         methodName);
 
+        executor.usePagingCursors(enterpriseParentConnector.getPagingCursors(),
+                                  this.getQueryKey(methodName,
+                                                   userId,
+                                                   relationshipTypeGUID,
+                                                   matchProperties,
+                                                   matchCriteria,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize));
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -2550,7 +2655,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                        federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindRelationshipsByPropertyValueExecutor executor          = new FindRelationshipsByPropertyValueExecutor(userId,
                                                                                                                   relationshipTypeGUID,
                                                                                                                   searchString,
@@ -2568,6 +2673,20 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                                   repositoryValidator,
                                                                                                                   methodName);
 
+        executor.usePagingCursors(enterpriseParentConnector.getPagingCursors(),
+                                  this.getQueryKey(methodName,
+                                                   userId,
+                                                   relationshipTypeGUID,
+                                                   searchString,
+                                                   startsWith,
+                                                   endsWith,
+                                                   ignoreCase,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize));
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -4614,6 +4733,63 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
      */
 
 
+    /**
+     * Return the federation control for a request that may be issued to the cohort members in parallel.
+     * Parallel federation is only used if the server has been configured with a federation executor;
+     * otherwise the cohort members are called in turn.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param methodName calling method
+     * @return federation control
+     */
+    private FederationControl getParallelFederationControl(String                        userId,
+                                                           List<OMRSRepositoryConnector> cohortConnectors,
+                                                           String                        methodName)
+    {
+        ExecutorService federationExecutor = enterpriseParentConnector.getFederationExecutor();
+
+        if (federationExecutor == null)
+        {
+            return new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        }
+
+        return new ParallelFederationControl(userId,
+                                             cohortConnectors,
+                                             auditLog,
+                                             methodName,
+                                             federationExecutor,
+                                             enterpriseParentConnector.getFederationMemberTimeout());
+    }
+
+
+    /**
+     * Build the identifier of a paged query from its parameters.  Requests for different pages of the same query
+     * have the same identifier so that each repository can continue from where it got to on the previous page.
+     * The starting element of the page must not be included in the parameters.  The parameters are serialized
+     * as JSON rather than relying on their toString() methods so that each property value (including the
+     * milliseconds of dates) is part of the identifier.
+     *
+     * @param methodName calling method
+     * @param userId calling user
+     * @param queryParameters parameters that select and order the results
+     * @return query identifier or null if the parameters can not be serialized (paging cursors are then not used)
+     */
+    private String getQueryKey(String    methodName,
+                               String    userId,
+                               Object... queryParameters)
+    {
+        try
+        {
+            return methodName + ":" + userId + ":" + queryKeyMapper.writeValueAsString(queryParameters);
+        }
+        catch (JsonProcessingException error)
+        {
+            return null;
+        }
+    }
+
+
     /**
      * Indicates to the caller that the method called is not supported by the enterprise connector.
      *
@@ -14,6 +14,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorConsumer;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.FederatedPagingCursors;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
@@ -21,6 +22,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeExcept
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * EnterpriseOMRSRepositoryConnector supports federating calls to multiple metadata repositories.  As a result,
@@ -46,7 +48,10 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     private String                              localMetadataCollectionId = null;
     private List<FederatedConnector>            remoteCohortConnectors    = new ArrayList<>();
 
-    private String callingServiceName = null;
+    private String                 callingServiceName      = null;
+    private ExecutorService        federationExecutor      = null;
+    private long                   federationMemberTimeout = 0L;
+    private FederatedPagingCursors pagingCursors           = null;
 
     private static final Logger log = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
 
@@ -107,6 +112,74 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * Set up the executor service used to issue federated requests to the cohort members in parallel.
+     * If this is not set, the federated requests are issued to each cohort member in turn.
+     *
+     * @param federationExecutor executor service shared by the enterprise connectors of the server
+     * @param federationMemberTimeout maximum time in milliseconds to wait for a cohort member to respond (0 means no limit)
+     */
+    public void setFederationExecutor(ExecutorService federationExecutor,
+                                      long            federationMemberTimeout)
+    {
+        this.federationExecutor      = federationExecutor;
+        this.federationMemberTimeout = federationMemberTimeout;
+    }
+
+
+    /**
+     * Return the executor service used to issue federated requests to the cohort members in parallel.
+     *
+     * @return executor service or null if federated requests are to be issued sequentially
+     */
+    ExecutorService getFederationExecutor()
+    {
+        return federationExecutor;
+    }
+
+
+    /**
+     * Return the maximum time in milliseconds to wait for a cohort member to respond to a parallel federated request.
+     *
+     * @return milliseconds (0 means no limit)
+     */
+    long getFederationMemberTimeout()
+    {
+        return federationMemberTimeout;
+    }
+
+
+    /**
+     * Set up the maximum number of paging cursors to keep.  A paging cursor remembers where each repository got to
+     * when a page of federated results was returned, so the next page of the query can continue from there rather
+     * than retrieving every result up to the requested starting element.
+     *
+     * @param maxPagingCursors maximum number of cursors (0 means paging cursors are not used)
+     */
+    public void setMaxPagingCursors(int maxPagingCursors)
+    {
+        if (maxPagingCursors > 0)
+        {
+            this.pagingCursors = new FederatedPagingCursors(maxPagingCursors);
+        }
+        else
+        {
+            this.pagingCursors = null;
+        }
+    }
+
+
+    /**
+     * Return the paging cursors for federated queries.
+     *
+     * @return paging cursors or null if they are not in use
+     */
+    FederatedPagingCursors getPagingCursors()
+    {
+        return pagingCursors;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -35,6 +36,7 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
     private final Map<String, EntityDetail>         accumulatedEntities        = new LinkedHashMap<>();
     private final Map<String, List<Classification>> accumulatedClassifications = new HashMap<>();
     private final Map<String, List<String>>         accumulatedEntitySources   = new HashMap<>();
+    private final Map<String, List<EntityDetail>>   accumulatedMemberResults   = new HashMap<>();
 
 
     /**
@@ -82,6 +84,11 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
 
             accumulatedEntitySources.put(entityGUID, contributingMetadataCollections);
 
+            /*
+             * Remember the order that this metadata collection returned its entities in case the results are merged.
+             */
+            accumulatedMemberResults.computeIfAbsent(metadataCollectionId, k -> new ArrayList<>()).add(incomingEntity);
+
             /*
              * This incoming instance is ignored if we already have a later version.
              */
@@ -271,11 +278,7 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
                 {
                     if (accumulatedEntity != null)
                     {
-                        EntityDetail resultEntity = new EntityDetail(accumulatedEntity);
-
-                        resultEntity.setClassifications(accumulatedClassifications.get(accumulatedEntity.getGUID()));
-
-                        results.add(resultEntity);
+                        results.add(this.getResultEntity(accumulatedEntity));
                     }
                 }
             }
@@ -292,6 +295,76 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
     }
 
 
+    /**
+     * Extract a page of results by merging the ordered results from each repository.  This is used when each repository
+     * was asked to continue from its own position in the results rather than from the caller's starting element.
+     * It should be called once all the executors have completed processing their request(s).
+     *
+     * @param repositoryConnector enterprise connector
+     * @param metadataCollection enterprise metadata collection
+     * @param comparator ordering requested by the caller
+     * @param pageSize maximum number of results to return
+     * @param memberStartingElements starting element of each repository - advanced past the entities consumed by this page
+     * @param requester requests more entities from a repository that runs out before the page is full
+     * @return list of entities
+     */
+    public synchronized List<EntityDetail> getResults(EnterpriseOMRSRepositoryConnector repositoryConnector,
+                                                      OMRSMetadataCollection            metadataCollection,
+                                                      Comparator<EntityDetail>          comparator,
+                                                      int                               pageSize,
+                                                      Map<String, Integer>              memberStartingElements,
+                                                      MemberResultsRequester            requester)
+    {
+        if (accumulatedEntities.isEmpty())
+        {
+            return null;
+        }
+
+        List<EntityDetail>  results = new ArrayList<>();
+
+        if (metadataCollection != null)
+        {
+            for (String entityGUID : super.mergeMemberResults(accumulatedMemberResults, comparator, pageSize, memberStartingElements, requester))
+            {
+                EntityDetail accumulatedEntity = accumulatedEntities.get(entityGUID);
+
+                if (accumulatedEntity != null)
+                {
+                    results.add(this.getResultEntity(accumulatedEntity));
+                }
+            }
+        }
+
+        /*
+         * The merge may have requested more entities so the recommendations are made afterwards.
+         */
+        this.makeRefreshRecommendations(repositoryConnector);
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a copy of the accumulated entity with the best of the accumulated classifications attached.
+     *
+     * @param accumulatedEntity entity selected from the repositories
+     * @return entity to return to the caller
+     */
+    private EntityDetail getResultEntity(EntityDetail accumulatedEntity)
+    {
+        EntityDetail resultEntity = new EntityDetail(accumulatedEntity);
+
+        resultEntity.setClassifications(accumulatedClassifications.get(accumulatedEntity.getGUID()));
+
+        return resultEntity;
+    }
+
+
     /**
      * Return the list of entities that where retrieved from other repositories and not stored in the local repository.
      * The local repository may use this list to send out refresh requests on the OMRS Topic.  If the rules allow, and
@@ -0,0 +1,21 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+/**
+ * MemberResultsRequester is implemented by the executors that can request more results from a cohort member
+ * while a page of merged results is being assembled.  The additional results are passed to the accumulator
+ * in the same way as the results from the original request.
+ */
+public interface MemberResultsRequester
+{
+    /**
+     * Request the next results from a cohort member.  They follow on from the results that the member has
+     * already returned for this page.
+     *
+     * @param metadataCollectionId identifier of the member's metadata collection
+     * @param resultsReceived number of results the member has returned so far for this page
+     */
+    void requestMoreResults(String metadataCollectionId,
+                            int    resultsReceived);
+}
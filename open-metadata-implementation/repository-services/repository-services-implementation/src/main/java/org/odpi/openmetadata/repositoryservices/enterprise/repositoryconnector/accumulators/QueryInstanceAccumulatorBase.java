@@ -4,10 +4,16 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 /**
  * QueryAccumulatorBase acts as a base class to the accumulators that need to visit each repository and
@@ -54,4 +60,157 @@ public class QueryInstanceAccumulatorBase extends QueryAccumulatorBase
     {
         return ! (locallyStoredInstancesGUIDs.contains(instanceGUID));
     }
+
+
+    /**
+     * Merge the results returned by each cohort member into a single page of results.  Each member returns its
+     * results in the requested sequence so the page is built by repeatedly taking the lowest instance at the
+     * head of any member's results (a k-way merge).  Instances returned by more than one member only appear once,
+     * including copies that follow the last instance in the page.
+     * The starting element of each member is advanced past the instances that were consumed, so the next page can
+     * continue from there.
+     * <p>
+     * If a member that may have more results runs out of instances before the page is full, its next results are
+     * requested through the requester and added to its list of results before merging continues.  This means
+     * duplicate instances do not leave the page short.  A member is assumed to have more results while each of
+     * its responses is a full page.  Without a requester, merging stops at this point because the position of the
+     * member's next instance is not known.
+     * </p>
+     *
+     * @param memberResults map of metadata collection id to the instances it returned (in order)
+     * @param comparator ordering requested by the caller
+     * @param pageSize maximum number of results in the page
+     * @param memberStartingElements map of metadata collection id to starting element - updated by this method
+     * @param requester requests more results from a member that runs out - null means no more results can be requested
+     * @param <T> type of instance
+     * @return ordered list of the unique identifiers of the instances in the page
+     */
+    <T extends InstanceHeader> List<String> mergeMemberResults(Map<String, List<T>>   memberResults,
+                                                               Comparator<T>          comparator,
+                                                               int                    pageSize,
+                                                               Map<String, Integer>   memberStartingElements,
+                                                               MemberResultsRequester requester)
+    {
+        PriorityQueue<MemberPosition<T>> memberPositions = new PriorityQueue<>((one, two) -> comparator.compare(one.getCurrent(), two.getCurrent()));
+
+        for (String metadataCollectionId : memberResults.keySet())
+        {
+            List<T> results = memberResults.get(metadataCollectionId);
+
+            if ((results != null) && (! results.isEmpty()))
+            {
+                memberPositions.add(new MemberPosition<>(metadataCollectionId, results, results.size() >= pageSize));
+            }
+        }
+
+        Set<String> pageGUIDs = new LinkedHashSet<>();
+
+        while ((pageGUIDs.size() < pageSize) && (! memberPositions.isEmpty()))
+        {
+            MemberPosition<T> memberPosition = memberPositions.poll();
+            T                 instance       = memberPosition.getCurrent();
+
+            pageGUIDs.add(instance.getGUID());
+            memberStartingElements.merge(memberPosition.metadataCollectionId, 1, Integer::sum);
+
+            if (memberPosition.advance())
+            {
+                memberPositions.add(memberPosition);
+            }
+            else if ((memberPosition.mayHaveMore) && (pageGUIDs.size() < pageSize))
+            {
+                /*
+                 * This member may have more results that would sort before the remaining instances of the other members.
+                 */
+                if (requester == null)
+                {
+                    break;
+                }
+
+                int resultsReceived = memberPosition.results.size();
+
+                requester.requestMoreResults(memberPosition.metadataCollectionId, resultsReceived);
+
+                int moreResults = memberPosition.results.size() - resultsReceived;
+
+                if (moreResults > 0)
+                {
+                    memberPosition.mayHaveMore = (moreResults >= pageSize);
+                    memberPositions.add(memberPosition);
+                }
+            }
+        }
+
+        /*
+         * Copies of instances already in the page are skipped so they do not reappear at the start of the next page.
+         */
+        while ((! memberPositions.isEmpty()) && (pageGUIDs.contains(memberPositions.peek().getCurrent().getGUID())))
+        {
+            MemberPosition<T> memberPosition = memberPositions.poll();
+
+            memberStartingElements.merge(memberPosition.metadataCollectionId, 1, Integer::sum);
+
+            if (memberPosition.advance())
+            {
+                memberPositions.add(memberPosition);
+            }
+        }
+
+        return new ArrayList<>(pageGUIDs);
+    }
+
+
+    /**
+     * MemberPosition tracks how far the merge has progressed through one cohort member's results.
+     *
+     * @param <T> type of instance
+     */
+    private static class MemberPosition<T>
+    {
+        private final String  metadataCollectionId;
+        private final List<T> results;
+        private       int     nextElement = 0;
+        private       boolean mayHaveMore;
+
+
+        /**
+         * Constructor.
+         *
+         * @param metadataCollectionId identifier of the member's metadata collection
+         * @param results instances returned by the member - more results are appended to this list
+         * @param mayHaveMore the member may have more results than it has returned
+         */
+        MemberPosition(String  metadataCollectionId,
+                       List<T> results,
+                       boolean mayHaveMore)
+        {
+            this.metadataCollectionId = metadataCollectionId;
+            this.results              = results;
+            this.mayHaveMore          = mayHaveMore;
+        }
+
+
+        /**
+         * Return the instance at the head of the member's remaining results.
+         *
+         * @return instance
+         */
+        T getCurrent()
+        {
+            return results.get(nextElement);
+        }
+
+
+        /**
+         * Move to the next instance.
+         *
+         * @return boolean true if there is another instance
+         */
+        boolean advance()
+        {
+            nextElement++;
+
+            return nextElement < results.size();
+        }
+    }
 }
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -23,7 +24,8 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
     // LinkedHashMap (not HashMap) so that getResults() - which iterates accumulatedRelationships.values() -
     // preserves the order relationships were added in, matching the ordering the originating query requested
     // (see the equivalent comment in EntitiesAccumulator).
-    private final Map<String, Relationship> accumulatedRelationships   = new LinkedHashMap<>();
+    private final Map<String, Relationship>       accumulatedRelationships = new LinkedHashMap<>();
+    private final Map<String, List<Relationship>> accumulatedMemberResults = new HashMap<>();
 
 
     /**
@@ -57,6 +59,11 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
             String        relationshipGUID = incomingRelationship.getGUID();
             Relationship  currentSavedRelationship = accumulatedRelationships.get(relationshipGUID);
 
+            /*
+             * Remember the order that this metadata collection returned its relationships in case the results are merged.
+             */
+            accumulatedMemberResults.computeIfAbsent(metadataCollectionId, k -> new ArrayList<>()).add(incomingRelationship);
+
             /*
              * This incoming instance is ignored if we already have a later version.
              */
@@ -132,6 +139,55 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
     }
 
 
+    /**
+     * Extract a page of results by merging the ordered results from each repository.  This is used when each repository
+     * was asked to continue from its own position in the results rather than from the caller's starting element.
+     * It should be called once all the executors have completed processing their request(s).
+     *
+     * @param repositoryConnector enterprise connector
+     * @param comparator ordering requested by the caller
+     * @param pageSize maximum number of results to return
+     * @param memberStartingElements starting element of each repository - advanced past the relationships consumed by this page
+     * @param requester requests more relationships from a repository that runs out before the page is full
+     * @return list of relationships
+     */
+    public synchronized List<Relationship>  getResults(EnterpriseOMRSRepositoryConnector repositoryConnector,
+                                                       Comparator<Relationship>          comparator,
+                                                       int                               pageSize,
+                                                       Map<String, Integer>              memberStartingElements,
+                                                       MemberResultsRequester            requester)
+    {
+        if (accumulatedRelationships.isEmpty())
+        {
+            return null;
+        }
+
+        List<Relationship> results = new ArrayList<>();
+
+        for (String relationshipGUID : super.mergeMemberResults(accumulatedMemberResults, comparator, pageSize, memberStartingElements, requester))
+        {
+            Relationship accumulatedRelationship = accumulatedRelationships.get(relationshipGUID);
+
+            if (accumulatedRelationship != null)
+            {
+                results.add(accumulatedRelationship);
+            }
+        }
+
+        /*
+         * The merge may have requested more relationships so the recommendations are made afterwards.
+         */
+        this.makeRefreshRecommendations(repositoryConnector);
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Return the list of relationships that where retrieved from other repositories and not stored in the local repository.
      * The local repository may use this list to send out refresh requests on the OMRS Topic.  If the rules allow, and
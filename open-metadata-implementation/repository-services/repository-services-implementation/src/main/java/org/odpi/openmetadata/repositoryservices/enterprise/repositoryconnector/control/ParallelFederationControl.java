@@ -3,19 +3,57 @@
 package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ParallelFederationControl uses multiple worker threads to perform the calls to different systems in parallel.
+ * The worker threads come from an executor service that is shared by all the federated requests issued by a server.
+ * This means the latency of a federated request is governed by the slowest cohort member rather than the sum of
+ * all of them.  The executors feed their results into thread-safe accumulators so no additional locking is needed here.
+ * <p>
+ *     If a member does not respond within the member timeout, its call is cancelled (the worker thread is interrupted,
+ *     or the call is removed from the queue if it has not started), the timeout is logged, and the request continues
+ *     with the results from the other members.  Each member's timeout is measured from when its call is submitted,
+ *     so time spent waiting for a free worker thread counts against it and the caller waits no longer than the
+ *     member timeout.
+ * </p>
+ * <p>
+ *     The queue of calls waiting for a worker thread is bounded.  If the executor service rejects a call because its
+ *     queue is full, the call runs on the calling thread instead.  This slows down the caller rather than allowing
+ *     the backlog to grow without limit.  A call that runs on the calling thread cannot be cancelled by the member
+ *     timeout.
+ * </p>
  */
 public class ParallelFederationControl extends FederationControlBase
 {
-    // todo at this point the parallel federation control uses the sequential federation control since the worker threads are not implemented.
-    private final SequentialFederationControl sequentialFederationControl;
+    private static final int queuedCallsPerThread = 10;
+
+    private final Executor federationExecutor;
+    private final long     memberTimeout;
+
 
     /**
      * Constructor for a federated query
@@ -24,15 +62,89 @@ public class ParallelFederationControl extends FederationControlBase
      * @param cohortConnectors list of connectors to call
      * @param auditLog logging destination
      * @param methodName calling method
+     * @param federationExecutor executor service supplying the worker threads
+     * @param memberTimeout maximum time in milliseconds to wait for a cohort member to respond (0 means wait indefinitely)
      */
     public ParallelFederationControl(String                        userId,
                                      List<OMRSRepositoryConnector> cohortConnectors,
                                      AuditLog                      auditLog,
-                                     String                        methodName)
+                                     String                        methodName,
+                                     ExecutorService               federationExecutor,
+                                     long                          memberTimeout)
     {
         super(userId, cohortConnectors, auditLog, methodName);
 
-        sequentialFederationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        this.federationExecutor = (Runnable call) ->
+        {
+            try
+            {
+                federationExecutor.execute(call);
+            }
+            catch (RejectedExecutionException rejected)
+            {
+                /*
+                 * The executor service cannot accept the call (typically because its queue is full) so it runs
+                 * on the calling thread.
+                 */
+                call.run();
+            }
+        };
+
+        this.memberTimeout = memberTimeout;
+    }
+
+
+    /**
+     * Create the executor service that supplies the worker threads for parallel federation.  This is created once for
+     * each server and shared by all of its enterprise repository connectors.  When virtual threads are requested and
+     * the runtime supports them, each request to a cohort member runs on its own virtual thread.  Otherwise, a
+     * fixed pool of daemon threads is used.  Its queue holds a limited number of calls for each thread and rejects
+     * further calls until there is space.
+     *
+     * @param serverName name of the server (used to name the threads)
+     * @param threadCount maximum number of platform threads to use
+     * @param useVirtualThreads should virtual threads be used if the runtime supports them?
+     * @return new executor service
+     */
+    public static ExecutorService createFederationExecutor(String  serverName,
+                                                           int     threadCount,
+                                                           boolean useVirtualThreads)
+    {
+        if (useVirtualThreads)
+        {
+            /*
+             * Virtual threads are only available from Java 21 onwards and this module is compiled for an earlier
+             * release, so the factory method is located reflectively.
+             */
+            try
+            {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            }
+            catch (Exception unsupported)
+            {
+                // Fall back to platform threads.
+            }
+        }
+
+        final AtomicInteger threadNumber = new AtomicInteger(0);
+
+        ThreadFactory threadFactory = (Runnable runnable) ->
+        {
+            Thread thread = new Thread(runnable, serverName + "-federation-" + threadNumber.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+
+        int poolSize = Math.max(threadCount, 1);
+
+        return new ThreadPoolExecutor(poolSize,
+                                      poolSize,
+                                      0L,
+                                      TimeUnit.MILLISECONDS,
+                                      new ArrayBlockingQueue<>(poolSize * queuedCallsPerThread),
+                                      threadFactory);
     }
 
 
@@ -45,6 +157,319 @@ public class ParallelFederationControl extends FederationControlBase
      */
     public void executeCommand(RepositoryExecutor executor) throws RepositoryErrorException
     {
-        sequentialFederationControl.executeCommand(executor);
+        if (super.cohortConnectors != null)
+        {
+            /*
+             * This is the first sweep of the repositories - used to gather the results.  A request is submitted for
+             * each cohort member and the responses are processed in the order that they complete.
+             */
+            CompletionService<Boolean>       completionService = new ExecutorCompletionService<>(federationExecutor);
+            Map<Future<Boolean>, MemberCall> outstandingCalls  = new HashMap<>();
+
+            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            {
+                if (cohortConnector != null)
+                {
+                    MemberCall memberCall = new MemberCall(cohortConnector);
+
+                    outstandingCalls.put(completionService.submit(() -> this.issueRequest(cohortConnector, executor)),
+                                         memberCall);
+                }
+            }
+
+            this.awaitResponses(completionService, outstandingCalls, true);
+
+            /*
+             * All repositories have been called.
+             * The executor may choose to augment each result element by making another sweep of the repositories.
+             * Each repository receives the augmentation requests for all results on a single worker thread.
+             */
+            List<String> resultGUIDs = executor.getResultsForAugmentation();
+
+            if ((resultGUIDs != null) && (! resultGUIDs.isEmpty()))
+            {
+                completionService = new ExecutorCompletionService<>(federationExecutor);
+                outstandingCalls  = new HashMap<>();
+
+                for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+                {
+                    if (cohortConnector != null)
+                    {
+                        MemberCall memberCall = new MemberCall(cohortConnector);
+
+                        outstandingCalls.put(completionService.submit(() -> this.augmentResults(cohortConnector, executor, resultGUIDs)),
+                                             memberCall);
+                    }
+                }
+
+                this.awaitResponses(completionService, outstandingCalls, false);
+            }
+        }
+    }
+
+
+    /**
+     * Issue the request to a single cohort member.  This runs on a worker thread.
+     *
+     * @param cohortConnector connector to the cohort member
+     * @param executor command to execute
+     * @return boolean true if the executor has all the results it needs
+     * @throws RepositoryErrorException the cohort member has no metadata collection
+     */
+    private Boolean issueRequest(OMRSRepositoryConnector cohortConnector,
+                                 RepositoryExecutor      executor) throws RepositoryErrorException
+    {
+        OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+        String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+
+        if (metadataCollectionId != null)
+        {
+            return executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Pass each of the results to a single cohort member for augmentation.  This runs on a worker thread.
+     *
+     * @param cohortConnector connector to the cohort member
+     * @param executor command to execute
+     * @param resultGUIDs unique identifiers of the results to augment
+     * @return boolean false since augmentation never completes the request
+     * @throws RepositoryErrorException the cohort member has no metadata collection
+     */
+    private Boolean augmentResults(OMRSRepositoryConnector cohortConnector,
+                                   RepositoryExecutor      executor,
+                                   List<String>            resultGUIDs) throws RepositoryErrorException
+    {
+        OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+        String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+
+        if (metadataCollectionId != null)
+        {
+            for (String resultGUID : resultGUIDs)
+            {
+                if (Thread.currentThread().isInterrupted())
+                {
+                    break;
+                }
+
+                executor.augmentResultFromRepository(resultGUID, metadataCollectionId, metadataCollection);
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Wait for the outstanding calls to complete.  Each call is given the member timeout from when it was submitted.
+     * Calls that have not completed when their timeout expires are cancelled, and the wait continues for the other calls.
+     *
+     * @param completionService source of completed calls
+     * @param outstandingCalls map of calls that have not yet completed to the cohort member they are calling
+     * @param stopWhenComplete should the remaining calls be cancelled once one call reports that the results are complete?
+     * @throws RepositoryErrorException one of the cohort members is not set up correctly, or the calling thread is interrupted
+     */
+    private void awaitResponses(CompletionService<Boolean>       completionService,
+                                Map<Future<Boolean>, MemberCall> outstandingCalls,
+                                boolean                          stopWhenComplete) throws RepositoryErrorException
+    {
+        try
+        {
+            while (! outstandingCalls.isEmpty())
+            {
+                Future<Boolean> completedCall;
+
+                if (memberTimeout > 0)
+                {
+                    long waitTime = this.cancelExpiredCalls(outstandingCalls);
+
+                    if (outstandingCalls.isEmpty())
+                    {
+                        break;
+                    }
+
+                    completedCall = completionService.poll(waitTime, TimeUnit.NANOSECONDS);
+                }
+                else
+                {
+                    completedCall = completionService.take();
+                }
+
+                if (completedCall != null)
+                {
+                    /*
+                     * Calls that have been cancelled are also returned by the completion service.  They have already
+                     * been removed from the outstanding calls.
+                     */
+                    MemberCall memberCall = outstandingCalls.remove(completedCall);
+
+                    if ((memberCall != null) && (this.getResponse(completedCall, memberCall.getCohortConnector())) && (stopWhenComplete))
+                    {
+                        /*
+                         * The executor returns true if it has all the results it needs.
+                         * If it returns false it means it needs more info from another repository.
+                         */
+                        break;
+                    }
+                }
+            }
+        }
+        catch (InterruptedException interrupted)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RepositoryErrorException(OMRSErrorCode.UNEXPECTED_EXCEPTION_FROM_COHORT.getMessageDefinition(interrupted.getClass().getName(),
+                                                                                                                  methodName,
+                                                                                                                  interrupted.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               interrupted);
+        }
+        finally
+        {
+            /*
+             * Any calls still running are no longer needed.
+             */
+            for (Future<Boolean> outstandingCall : outstandingCalls.keySet())
+            {
+                outstandingCall.cancel(true);
+            }
+        }
+    }
+
+
+    /**
+     * Cancel the calls that were submitted longer ago than the member timeout and log the timeout for each of them.
+     * Calls that have finished but not yet been retrieved from the completion service are left for processing.
+     *
+     * @param outstandingCalls map of calls that have not yet completed to the cohort member they are calling
+     * @return time in nanoseconds until the next call reaches its timeout (or a full member timeout if all calls have finished)
+     */
+    private long cancelExpiredCalls(Map<Future<Boolean>, MemberCall> outstandingCalls)
+    {
+        long                  timeoutNanos = TimeUnit.MILLISECONDS.toNanos(memberTimeout);
+        long                  currentTime  = System.nanoTime();
+        long                  waitTime     = timeoutNanos;
+        List<Future<Boolean>> expiredCalls = new ArrayList<>();
+
+        for (Map.Entry<Future<Boolean>, MemberCall> outstandingCall : outstandingCalls.entrySet())
+        {
+            MemberCall memberCall = outstandingCall.getValue();
+
+            if (! outstandingCall.getKey().isDone())
+            {
+                long remainingTime = memberCall.getSubmitTime() + timeoutNanos - currentTime;
+
+                if (remainingTime <= 0)
+                {
+                    expiredCalls.add(outstandingCall.getKey());
+                }
+                else if (remainingTime < waitTime)
+                {
+                    waitTime = remainingTime;
+                }
+            }
+        }
+
+        for (Future<Boolean> expiredCall : expiredCalls)
+        {
+            MemberCall memberCall = outstandingCalls.remove(expiredCall);
+
+            expiredCall.cancel(true);
+
+            auditLog.logMessage(methodName,
+                                OMRSAuditCode.FEDERATED_REQUEST_TIMEOUT.getMessageDefinition(memberCall.getCohortConnector().getRepositoryName(),
+                                                                                             methodName,
+                                                                                             Long.toString(memberTimeout)));
+        }
+
+        return waitTime;
+    }
+
+
+    /**
+     * Extract the response from a completed call.  Exceptions from the cohort member have already been
+     * captured by the executor's accumulator so only problems with the set-up of the member are passed on.
+     *
+     * @param completedCall call that has finished
+     * @param cohortConnector connector for the cohort member that was called
+     * @return boolean true if the executor has all the results it needs
+     * @throws RepositoryErrorException one of the cohort members is not set up correctly
+     */
+    private boolean getResponse(Future<Boolean>         completedCall,
+                                OMRSRepositoryConnector cohortConnector) throws RepositoryErrorException
+    {
+        try
+        {
+            return Boolean.TRUE.equals(completedCall.get());
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof RepositoryErrorException repositoryErrorException)
+            {
+                throw repositoryErrorException;
+            }
+
+            auditLog.logException(methodName,
+                                  OMRSAuditCode.SKIPPING_METADATA_COLLECTION.getMessageDefinition(cohortConnector.getRepositoryName(),
+                                                                                                  error.getCause().getClass().getName(),
+                                                                                                  error.getCause().getMessage()),
+                                  error.getCause());
+        }
+        catch (InterruptedException interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        return false;
+    }
+
+
+    /**
+     * MemberCall records the cohort member that a call is for, and when the call was submitted.
+     */
+    private static class MemberCall
+    {
+        private final OMRSRepositoryConnector cohortConnector;
+        private final long                    submitTime = System.nanoTime();
+
+
+        /**
+         * Constructor for a call that is about to be submitted.
+         *
+         * @param cohortConnector connector to the cohort member
+         */
+        MemberCall(OMRSRepositoryConnector cohortConnector)
+        {
+            this.cohortConnector = cohortConnector;
+        }
+
+
+        /**
+         * Return the connector to the cohort member.
+         *
+         * @return connector
+         */
+        OMRSRepositoryConnector getCohortConnector()
+        {
+            return cohortConnector;
+        }
+
+
+        /**
+         * Return the time (from System.nanoTime()) when the call was submitted.
+         *
+         * @return nanosecond time
+         */
+        long getSubmitTime()
+        {
+            return submitTime;
+        }
     }
 }
@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FederatedPagingCursors remembers where each cohort member got to when a page of federated results was assembled.
+ * When the caller asks for the next page of the same query, each member continues from its own position rather than
+ * returning everything up to the requested starting element.  The cursors are held in a bounded least-recently-used
+ * map so abandoned queries are eventually discarded.
+ * <p>
+ * This class is called simultaneously from different threads, so it must be thread-safe.
+ * </p>
+ */
+public class FederatedPagingCursors
+{
+    private final Map<String, Map<String, Integer>> cursors;
+
+
+    /**
+     * Constructor sets the maximum number of cursors to keep.
+     *
+     * @param maxCursors maximum number of cursors
+     */
+    public FederatedPagingCursors(int maxCursors)
+    {
+        this.cursors = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Integer>> eldest)
+            {
+                return size() > maxCursors;
+            }
+        };
+    }
+
+
+    /**
+     * Return the starting element for each cohort member for the requested page of a query.
+     * The first page of a query always starts at the beginning of each member's results.
+     *
+     * @param queryKey identifier of the query (all parameters except the starting element)
+     * @param startingElement starting element of the page requested by the caller
+     * @return map of metadata collection id to starting element, or null if the position of the members is not known
+     */
+    synchronized Map<String, Integer> getMemberStartingElements(String queryKey,
+                                                                int    startingElement)
+    {
+        if (startingElement == 0)
+        {
+            return new HashMap<>();
+        }
+
+        Map<String, Integer> memberStartingElements = cursors.get(queryKey + "@" + startingElement);
+
+        if (memberStartingElements != null)
+        {
+            return new HashMap<>(memberStartingElements);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remember the starting element for each cohort member for the next page of a query.
+     *
+     * @param queryKey identifier of the query (all parameters except the starting element)
+     * @param startingElement starting element of the next page
+     * @param memberStartingElements map of metadata collection id to starting element
+     */
+    synchronized void saveMemberStartingElements(String               queryKey,
+                                                 int                  startingElement,
+                                                 Map<String, Integer> memberStartingElements)
+    {
+        cursors.put(queryKey + "@" + startingElement, memberStartingElements);
+    }
+}
@@ -188,7 +188,7 @@ public class FindEntitiesByClassificationExecutor extends PageableEntityReposito
                                                                                          classificationName,
                                                                                          matchClassificationProperties,
                                                                                          matchCriteria,
-                                                                                         startingElement,
+                                                                                         this.getStartingElement(metadataCollectionId, metadataCollection),
                                                                                          limitResultsByStatus,
                                                                                          asOfTime,
                                                                                          sequencingProperty,
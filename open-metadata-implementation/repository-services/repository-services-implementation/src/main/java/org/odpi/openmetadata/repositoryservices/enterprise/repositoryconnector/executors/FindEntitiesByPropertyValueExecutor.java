@@ -206,7 +206,7 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
                                                                                         startsWith,
                                                                                         endsWith,
                                                                                         ignoreCase,
-                                                                                        startingElement,
+                                                                                        this.getStartingElement(metadataCollectionId, metadataCollection),
                                                                                         limitResultsByStatus,
                                                                                         limitResultsByClassification,
                                                                                         asOfTime,
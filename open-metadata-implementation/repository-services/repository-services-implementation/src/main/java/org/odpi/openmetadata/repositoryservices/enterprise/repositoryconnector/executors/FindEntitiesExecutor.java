@@ -200,7 +200,7 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
                                                                          instanceSubtypeGUIDs,
                                                                          skipSubtypes,
                                                                          matchProperties,
-                                                                         startingElement,
+                                                                         this.getStartingElement(metadataCollectionId, metadataCollection),
                                                                          limitResultsByStatus,
                                                                          matchClassifications,
                                                                          asOfTime,
@@ -190,7 +190,7 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
                                                                                         instanceTypeGUID,
                                                                                         matchProperties,
                                                                                         matchCriteria,
-                                                                                        startingElement,
+                                                                                        this.getStartingElement(metadataCollectionId, metadataCollection),
                                                                                         limitResultsByStatus,
                                                                                         asOfTime,
                                                                                         sequencingProperty,
@@ -262,7 +262,7 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
     {
         if (accumulator.resultsReturned())
         {
-            return accumulator.getResults(repositoryConnector);
+            return super.getRelationshipResults(accumulator, repositoryConnector);
         }
 
         handleCommonPagingRequestExceptions();
@@ -205,7 +205,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
                                                                                              startsWith,
                                                                                              endsWith,
                                                                                              ignoreCase,
-                                                                                             startingElement,
+                                                                                             this.getStartingElement(metadataCollectionId, metadataCollection),
                                                                                              limitResultsByStatus,
                                                                                              asOfTime,
                                                                                              sequencingProperty,
@@ -277,7 +277,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
     {
         if (accumulator.resultsReturned())
         {
-            return accumulator.getResults(repositoryConnector);
+            return super.getRelationshipResults(accumulator, repositoryConnector);
         }
 
         handleCommonPagingRequestExceptions();
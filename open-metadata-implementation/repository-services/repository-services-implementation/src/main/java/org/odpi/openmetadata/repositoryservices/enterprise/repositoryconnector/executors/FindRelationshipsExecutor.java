@@ -228,7 +228,7 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
                                                                               end2EntityGUIDs,
                                                                               endMatchCriteria,
                                                                               matchProperties,
-                                                                              startingElement,
+                                                                              this.getStartingElement(metadataCollectionId, metadataCollection),
                                                                               limitResultsByStatus,
                                                                               asOfTime,
                                                                               sequencingProperty,
@@ -300,7 +300,7 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
     {
         if (accumulator.resultsReturned())
         {
-            return accumulator.getResults(repositoryConnector);
+            return super.getRelationshipResults(accumulator, repositoryConnector);
         }
 
         handleCommonPagingRequestExceptions();
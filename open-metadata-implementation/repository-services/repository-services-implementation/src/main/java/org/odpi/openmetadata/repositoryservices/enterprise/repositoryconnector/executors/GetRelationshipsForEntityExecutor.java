@@ -173,7 +173,7 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
             List<Relationship> results = metadataCollection.getRelationshipsForEntity(userId,
                                                                                       entityGUID,
                                                                                       instanceTypeGUID,
-                                                                                      startingElement,
+                                                                                      this.getStartingElement(metadataCollectionId, metadataCollection),
                                                                                       limitResultsByStatus,
                                                                                       asOfTime,
                                                                                       sequencingProperty,
@@ -253,7 +253,7 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
     {
         if (accumulator.resultsReturned())
         {
-            return accumulator.getResults(repositoryConnector);
+            return super.getRelationshipResults(accumulator, repositoryConnector);
         }
 
         handleCommonPagingRequestExceptions();
@@ -151,7 +151,28 @@ public abstract class PageableEntityRepositoryExecutorBase extends PageableRepos
     {
         if (accumulator.resultsReturned())
         {
-            return accumulator.getResults(repositoryConnector, metadataCollection);
+            if (super.getMemberStartingElements() == null)
+            {
+                return accumulator.getResults(repositoryConnector, metadataCollection);
+            }
+
+            /*
+             * Paging cursors are in use so the results from each repository are merged into a single page.
+             */
+            List<EntityDetail> results = accumulator.getResults(repositoryConnector,
+                                                                metadataCollection,
+                                                                repositoryConnector.getRepositoryHelper().getEntityComparator(sequencingProperty,
+                                                                                                                              sequencingOrder),
+                                                                pageSize,
+                                                                super.getMemberStartingElements(),
+                                                                this);
+
+            if (results != null)
+            {
+                super.saveMemberStartingElements(results.size());
+            }
+
+            return results;
         }
 
         handleCommonPagingRequestExceptions();
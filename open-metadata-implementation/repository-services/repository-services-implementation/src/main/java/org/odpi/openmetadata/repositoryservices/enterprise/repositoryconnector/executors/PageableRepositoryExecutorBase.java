@@ -5,19 +5,27 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.frameworks.openmetadata.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.openmetadata.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MemberResultsRequester;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.QueryInstanceAccumulatorBase;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipsAccumulator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CloneableRepositoryExecutorBase provides a base class for executors that can be cloned and run in
  * parallel so the call to each repository runs in a different thread.
  */
-abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecutorBase
+abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecutorBase implements MemberResultsRequester
 {
     private final QueryInstanceAccumulatorBase queryInstanceAccumulator;
 
@@ -30,6 +38,14 @@ abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecuto
     SequencingOrder      sequencingOrder;
     Date                 asOfTime;
 
+    private FederatedPagingCursors pagingCursors          = null;
+    private String                 queryKey               = null;
+    private Map<String, Integer>   memberStartingElements = null;
+    private Map<String, Integer>   pageStartingElements   = null;
+
+    private final Map<String, OMRSMetadataCollection> memberMetadataCollections   = new ConcurrentHashMap<>();
+    private final Map<String, Integer>                moreResultsStartingElements = new ConcurrentHashMap<>();
+
 
     /**
      * Create the executor.  The parameters provide the parameters for issuing the requests and
@@ -71,6 +87,148 @@ abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecuto
     }
 
 
+    /**
+     * Request that each cohort member continues from where it got to on the previous page of this query.
+     * This is only possible if the previous page was assembled using the same cursors.  Otherwise, the starting
+     * element supplied by the caller is passed to each member and the results are combined as before.
+     *
+     * @param pagingCursors cursors for the enterprise connector (null means cursors are not in use)
+     * @param queryKey identifier of the query (all parameters except the starting element) - null means cursors are not in use
+     */
+    public void usePagingCursors(FederatedPagingCursors pagingCursors,
+                                 String                 queryKey)
+    {
+        if ((pagingCursors != null) && (queryKey != null) && (pageSize > 0))
+        {
+            this.memberStartingElements = pagingCursors.getMemberStartingElements(queryKey, startingElement);
+
+            if (memberStartingElements != null)
+            {
+                this.pagingCursors        = pagingCursors;
+                this.queryKey             = queryKey;
+                this.pageStartingElements = new HashMap<>(memberStartingElements);
+            }
+        }
+    }
+
+
+    /**
+     * Return the starting element to request from a specific cohort member.  The member's metadata collection
+     * is remembered so more results can be requested from it if the merged page runs short.
+     *
+     * @param metadataCollectionId identifier for the cohort member's metadata collection
+     * @param metadataCollection metadata collection object for the repository
+     * @return starting element
+     */
+    int getStartingElement(String                 metadataCollectionId,
+                           OMRSMetadataCollection metadataCollection)
+    {
+        if (memberStartingElements != null)
+        {
+            memberMetadataCollections.put(metadataCollectionId, metadataCollection);
+
+            Integer moreResultsStartingElement = moreResultsStartingElements.get(metadataCollectionId);
+
+            if (moreResultsStartingElement != null)
+            {
+                return moreResultsStartingElement;
+            }
+
+            Integer memberStartingElement = memberStartingElements.get(metadataCollectionId);
+
+            if (memberStartingElement != null)
+            {
+                return memberStartingElement;
+            }
+
+            return 0;
+        }
+
+        return startingElement;
+    }
+
+
+    /**
+     * Return the starting element of each cohort member for this page, or null if paging cursors are not in use.
+     * The accumulator advances these positions as it merges the results.
+     *
+     * @return map of metadata collection id to starting element
+     */
+    Map<String, Integer> getMemberStartingElements()
+    {
+        return memberStartingElements;
+    }
+
+
+    /**
+     * Request the next results from a cohort member while its results are being merged into a page.
+     * The results are passed to the accumulator by the same request that retrieved the member's first results.
+     *
+     * @param metadataCollectionId identifier of the member's metadata collection
+     * @param resultsReceived number of results the member has returned so far for this page
+     */
+    @Override
+    public void requestMoreResults(String metadataCollectionId,
+                                   int    resultsReceived)
+    {
+        OMRSMetadataCollection metadataCollection = memberMetadataCollections.get(metadataCollectionId);
+
+        if ((metadataCollection != null) && (pageStartingElements != null))
+        {
+            moreResultsStartingElements.put(metadataCollectionId,
+                                            pageStartingElements.getOrDefault(metadataCollectionId, 0) + resultsReceived);
+
+            this.issueRequestToRepository(metadataCollectionId, metadataCollection);
+        }
+    }
+
+
+    /**
+     * Remember where each cohort member got to so that the next page of the query can continue from there.
+     *
+     * @param returnedCount number of results returned to the caller for this page
+     */
+    void saveMemberStartingElements(int returnedCount)
+    {
+        if ((pagingCursors != null) && (returnedCount > 0))
+        {
+            pagingCursors.saveMemberStartingElements(queryKey, startingElement + returnedCount, memberStartingElements);
+        }
+    }
+
+
+    /**
+     * Return the relationships from the accumulator.  If paging cursors are in use, the results from each repository
+     * are merged into a single page and the position of each repository is saved for the next page.
+     *
+     * @param accumulator accumulator holding the results
+     * @param repositoryConnector enterprise connector
+     * @return list of relationships
+     */
+    List<Relationship> getRelationshipResults(RelationshipsAccumulator          accumulator,
+                                              EnterpriseOMRSRepositoryConnector repositoryConnector)
+    {
+        if (memberStartingElements == null)
+        {
+            return accumulator.getResults(repositoryConnector);
+        }
+
+        List<Relationship> results = accumulator.getResults(repositoryConnector,
+                                                            repositoryConnector.getRepositoryHelper().getRelationshipComparator(sequencingProperty,
+                                                                                                                                sequencingOrder),
+                                                            pageSize,
+                                                            memberStartingElements,
+                                                            this);
+
+        if (results != null)
+        {
+            this.saveMemberStartingElements(results.size());
+        }
+
+        return results;
+    }
+
+
     /**
      * Return any of the exceptions that are common to paging requests.
      *
@@ -0,0 +1,168 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+
+/**
+ * ArchiveInstanceLoadSummary accumulates the results of bulk loading the instances from an open metadata archive.
+ * A streamed archive is passed to LocalOMRSInstanceEventProcessor.processArchiveInstances one segment at a time,
+ * so the same summary is passed with each segment and reported once the whole archive has been processed.
+ */
+public class ArchiveInstanceLoadSummary
+{
+    private int segmentCount           = 0;
+    private int savedEntityCount       = 0;
+    private int savedRelationshipCount = 0;
+    private int updatedCount           = 0;
+    private int batchCount             = 0;
+    private int rejectedCount          = 0;
+    private int sharedCount            = 0;
+    private int batchEventCount        = 0;
+
+
+    /**
+     * Default constructor.
+     */
+    public ArchiveInstanceLoadSummary()
+    {
+    }
+
+
+    /**
+     * Add the results of loading one segment of the archive.
+     *
+     * @param savedEntityCount number of entities saved
+     * @param savedRelationshipCount number of relationships saved
+     * @param updatedCount number of saved instances that updated a stored instance
+     * @param batchCount number of batches saved to the repository
+     * @param rejectedCount number of instances rejected
+     * @param sharedCount number of instances shared with the cohort
+     * @param batchEventCount number of instance batch events sent to the cohort
+     */
+    synchronized void addSegment(int savedEntityCount,
+                                 int savedRelationshipCount,
+                                 int updatedCount,
+                                 int batchCount,
+                                 int rejectedCount,
+                                 int sharedCount,
+                                 int batchEventCount)
+    {
+        this.segmentCount           += 1;
+        this.savedEntityCount       += savedEntityCount;
+        this.savedRelationshipCount += savedRelationshipCount;
+        this.updatedCount           += updatedCount;
+        this.batchCount             += batchCount;
+        this.rejectedCount          += rejectedCount;
+        this.sharedCount            += sharedCount;
+        this.batchEventCount        += batchEventCount;
+    }
+
+
+    /**
+     * Return the number of segments of the archive that have been loaded.
+     *
+     * @return count
+     */
+    public synchronized int getSegmentCount()
+    {
+        return segmentCount;
+    }
+
+
+    /**
+     * Return the number of entities saved to the repository.
+     *
+     * @return count
+     */
+    public synchronized int getSavedEntityCount()
+    {
+        return savedEntityCount;
+    }
+
+
+    /**
+     * Return the number of relationships saved to the repository.
+     *
+     * @return count
+     */
+    public synchronized int getSavedRelationshipCount()
+    {
+        return savedRelationshipCount;
+    }
+
+
+    /**
+     * Return the number of saved instances that were updates to instances already stored.
+     *
+     * @return count
+     */
+    public synchronized int getUpdatedCount()
+    {
+        return updatedCount;
+    }
+
+
+    /**
+     * Return the number of batches saved to the repository.
+     *
+     * @return count
+     */
+    public synchronized int getBatchCount()
+    {
+        return batchCount;
+    }
+
+
+    /**
+     * Return the number of instances that were rejected.
+     *
+     * @return count
+     */
+    public synchronized int getRejectedCount()
+    {
+        return rejectedCount;
+    }
+
+
+    /**
+     * Return the number of saved instances that were shared with the cohort.
+     *
+     * @return count
+     */
+    public synchronized int getSharedCount()
+    {
+        return sharedCount;
+    }
+
+
+    /**
+     * Return the number of instance batch events sent to the cohort.  There is at most one for each segment.
+     *
+     * @return count
+     */
+    public synchronized int getBatchEventCount()
+    {
+        return batchEventCount;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public synchronized String toString()
+    {
+        return "ArchiveInstanceLoadSummary{" +
+                       "segmentCount=" + segmentCount +
+                       ", savedEntityCount=" + savedEntityCount +
+                       ", savedRelationshipCount=" + savedRelationshipCount +
+                       ", updatedCount=" + updatedCount +
+                       ", batchCount=" + batchCount +
+                       ", rejectedCount=" + rejectedCount +
+                       ", sharedCount=" + sharedCount +
+                       ", batchEventCount=" + batchEventCount +
+                       '}';
+    }
+}
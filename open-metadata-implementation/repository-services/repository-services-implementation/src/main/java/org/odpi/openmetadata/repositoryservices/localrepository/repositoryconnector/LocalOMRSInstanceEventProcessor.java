@@ -24,7 +24,13 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
@@ -2473,6 +2479,508 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /*
+     * ==============================
+     * Open metadata archive bulk load
+     * ==============================
+     */
+
+
+    /**
+     * Save the entities and relationships from an open metadata archive in batches.  This is an alternative to
+     * passing each instance through processNewEntityEvent/processNewRelationshipEvent.  The instances are checked
+     * in the same way: the header is validated and the instance is compared with any stored copy.  These checks
+     * run in parallel, and the exchange rules are then applied one instance at a time.  The instances that pass
+     * are saved through saveInstanceReferenceCopies so that the repository connector can store each batch in a
+     * single operation.  If a batch fails, its instances are saved one at a time so that only the bad instances
+     * are rejected.
+     * <br><br>
+     * Saved instances that this repository replicates are sent to the cohort in a single instance batch event rather
+     * than an event for each instance.  The counts from the load are added to the load summary.  A streamed archive
+     * calls this method once for each segment with the same load summary, which the caller reports in the audit log
+     * once the whole archive has been processed.
+     *
+     * @param sourceName                     name of the source of the instances
+     * @param originatorMetadataCollectionId unique identifier of the archive
+     * @param originatorServerName           name of the archive
+     * @param originatorServerType           type of archive
+     * @param originatorOrganizationName     name of the organization that created the archive
+     * @param entities                       entities from the archive (the instance headers are already set up)
+     * @param relationships                  relationships from the archive (the instance headers are already set up)
+     * @param batchSize                      maximum number of instances saved in each call to the repository
+     * @param loadSummary                    accumulated counts for the archive
+     */
+    public void processArchiveInstances(String                     sourceName,
+                                        String                     originatorMetadataCollectionId,
+                                        String                     originatorServerName,
+                                        String                     originatorServerType,
+                                        String                     originatorOrganizationName,
+                                        List<EntityDetail>         entities,
+                                        List<Relationship>         relationships,
+                                        int                        batchSize,
+                                        ArchiveInstanceLoadSummary loadSummary)
+    {
+        final String methodName = "processArchiveInstances";
+
+        try
+        {
+            verifyEventProcessor(methodName);
+
+            /*
+             * As with the instance events, version 1 of an instance is validated as a new instance and later
+             * versions are validated as updates.
+             */
+            List<EntityDetail> validEntities      = this.validateReferenceInstances(sourceName,
+                                                                                    methodName,
+                                                                                    originatorMetadataCollectionId,
+                                                                                    originatorServerName,
+                                                                                    entities,
+                                                                                    OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                    OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+            List<Relationship> validRelationships = this.validateReferenceInstances(sourceName,
+                                                                                    methodName,
+                                                                                    originatorMetadataCollectionId,
+                                                                                    originatorServerName,
+                                                                                    relationships,
+                                                                                    OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                                    OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT);
+
+            /*
+             * The exchange rule may learn new types as it goes, so it is applied in sequence.
+             */
+            List<EntityDetail> entitiesToSave = new ArrayList<>();
+            for (EntityDetail entity : validEntities)
+            {
+                if ((verifyEventToSave(sourceName, entity)) || (verifyEventToLearn(sourceName, entity)))
+                {
+                    entitiesToSave.add(entity);
+                }
+            }
+
+            List<Relationship> relationshipsToSave = new ArrayList<>();
+            for (Relationship relationship : validRelationships)
+            {
+                if ((verifyEventToSave(sourceName, relationship)) || (verifyEventToLearn(sourceName, relationship)))
+                {
+                    relationshipsToSave.add(relationship);
+                }
+            }
+
+            int notSelectedCount = validEntities.size() - entitiesToSave.size() + validRelationships.size() - relationshipsToSave.size();
+
+            /*
+             * The entities are saved first so that the relationships find the full entities rather than creating
+             * proxies for them.  Only the instances that were actually stored are returned - the repository's
+             * security verifier may have filtered some out.
+             */
+            List<EntityDetail> savedEntities      = new ArrayList<>();
+            List<Relationship> savedRelationships = new ArrayList<>();
+            int                batchCount         = 0;
+
+            for (int start = 0; start < entitiesToSave.size(); start = start + batchSize)
+            {
+                List<EntityDetail> entityBatch = new ArrayList<>(entitiesToSave.subList(start, Math.min(start + batchSize, entitiesToSave.size())));
+
+                savedEntities.addAll(this.saveEntityBatch(methodName, originatorServerName, originatorMetadataCollectionId, entityBatch));
+                batchCount++;
+            }
+
+            for (int start = 0; start < relationshipsToSave.size(); start = start + batchSize)
+            {
+                List<Relationship> relationshipBatch = new ArrayList<>(relationshipsToSave.subList(start, Math.min(start + batchSize, relationshipsToSave.size())));
+
+                savedRelationships.addAll(this.saveRelationshipBatch(methodName, originatorServerName, originatorMetadataCollectionId, relationshipBatch));
+                batchCount++;
+            }
+
+            /*
+             * The saved instances that this repository replicates are shared with the cohort in one event.
+             */
+            List<EntityDetail> entitiesToShare = new ArrayList<>();
+            for (EntityDetail entity : savedEntities)
+            {
+                if (localMetadataCollectionId.equals(entity.getReplicatedBy()))
+                {
+                    entitiesToShare.add(entity);
+                }
+            }
+
+            List<Relationship> relationshipsToShare = new ArrayList<>();
+            for (Relationship relationship : savedRelationships)
+            {
+                if (localMetadataCollectionId.equals(relationship.getReplicatedBy()))
+                {
+                    relationshipsToShare.add(relationship);
+                }
+            }
+
+            int batchEventCount = 0;
+
+            if ((! entitiesToShare.isEmpty()) || (! relationshipsToShare.isEmpty()))
+            {
+                InstanceGraph sharedInstances = new InstanceGraph();
+
+                sharedInstances.setEntities(entitiesToShare);
+                sharedInstances.setRelationships(relationshipsToShare);
+
+                outboundRepositoryEventProcessor.processInstanceBatchEvent(sourceName,
+                                                                           originatorMetadataCollectionId,
+                                                                           originatorServerName,
+                                                                           originatorServerType,
+                                                                           originatorOrganizationName,
+                                                                           sharedInstances);
+                batchEventCount++;
+            }
+
+            int updatedCount = 0;
+
+            for (EntityDetail entity : savedEntities)
+            {
+                if (entity.getVersion() != 1L)
+                {
+                    updatedCount++;
+                }
+            }
+
+            for (Relationship relationship : savedRelationships)
+            {
+                if (relationship.getVersion() != 1L)
+                {
+                    updatedCount++;
+                }
+            }
+
+            int rejectedCount = entities.size() + relationships.size() - savedEntities.size() - savedRelationships.size() - notSelectedCount;
+
+            loadSummary.addSegment(savedEntities.size(),
+                                   savedRelationships.size(),
+                                   updatedCount,
+                                   batchCount,
+                                   rejectedCount,
+                                   entitiesToShare.size() + relationshipsToShare.size(),
+                                   batchEventCount);
+        }
+        catch (Exception error)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           methodName,
+                                           originatorServerName,
+                                           originatorMetadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Check the instances from an archive in parallel.  Each instance must have a valid reference copy header and
+     * be compatible with (and a later version than) any copy already stored.  The order of the instances is kept.
+     *
+     * @param sourceName                     name of the source of the instances
+     * @param methodName                     calling method
+     * @param originatorMetadataCollectionId unique identifier of the archive
+     * @param originatorServerName           name of the archive
+     * @param instances                      instances to check
+     * @param newEventType                   event type used when comparing version 1 of an instance with the stored instance
+     * @param updatedEventType               event type used when comparing later versions of an instance with the stored instance
+     * @param <T>                            entity or relationship
+     * @return the instances that passed the checks
+     * @throws InterruptedException interrupted while waiting for the checks to complete
+     */
+    private <T extends InstanceHeader> List<T> validateReferenceInstances(String                sourceName,
+                                                                          String                methodName,
+                                                                          String                originatorMetadataCollectionId,
+                                                                          String                originatorServerName,
+                                                                          List<T>               instances,
+                                                                          OMRSInstanceEventType newEventType,
+                                                                          OMRSInstanceEventType updatedEventType) throws InterruptedException
+    {
+        final int minimumInstancesPerThread = 100;
+
+        boolean[] validInstances = new boolean[instances.size()];
+        int       parallelism    = Math.min(Runtime.getRuntime().availableProcessors(),
+                                            (instances.size() + minimumInstancesPerThread - 1) / minimumInstancesPerThread);
+
+        if (parallelism <= 1)
+        {
+            for (int index = 0; index < instances.size(); index++)
+            {
+                validInstances[index] = this.validateReferenceInstance(sourceName,
+                                                                       methodName,
+                                                                       originatorMetadataCollectionId,
+                                                                       originatorServerName,
+                                                                       instances.get(index),
+                                                                       newEventType,
+                                                                       updatedEventType);
+            }
+        }
+        else
+        {
+            ExecutorService       executorService = Executors.newFixedThreadPool(parallelism);
+            List<Callable<Void>>  validationTasks = new ArrayList<>();
+            int                   chunkSize       = (instances.size() + parallelism - 1) / parallelism;
+
+            for (int chunkStart = 0; chunkStart < instances.size(); chunkStart = chunkStart + chunkSize)
+            {
+                final int start = chunkStart;
+                final int end   = Math.min(chunkStart + chunkSize, instances.size());
+
+                validationTasks.add(() ->
+                {
+                    for (int index = start; index < end; index++)
+                    {
+                        validInstances[index] = validateReferenceInstance(sourceName,
+                                                                          methodName,
+                                                                          originatorMetadataCollectionId,
+                                                                          originatorServerName,
+                                                                          instances.get(index),
+                                                                          newEventType,
+                                                                          updatedEventType);
+                    }
+
+                    return null;
+                });
+            }
+
+            try
+            {
+                executorService.invokeAll(validationTasks);
+            }
+            finally
+            {
+                executorService.shutdown();
+            }
+        }
+
+        List<T> results = new ArrayList<>();
+
+        for (int index = 0; index < instances.size(); index++)
+        {
+            if (validInstances[index])
+            {
+                results.add(instances.get(index));
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Check that an instance from an archive has a valid reference copy header and is compatible with
+     * (and a later version than) any copy already stored.  Any problem is logged.
+     *
+     * @param sourceName                     name of the source of the instance
+     * @param methodName                     calling method
+     * @param originatorMetadataCollectionId unique identifier of the archive
+     * @param originatorServerName           name of the archive
+     * @param instance                       entity or relationship to check
+     * @param newEventType                   event type used if this is version 1 of the instance
+     * @param updatedEventType               event type used for later versions of the instance
+     * @return boolean flag to say whether the instance is valid
+     */
+    private boolean validateReferenceInstance(String                sourceName,
+                                              String                methodName,
+                                              String                originatorMetadataCollectionId,
+                                              String                originatorServerName,
+                                              InstanceHeader        instance,
+                                              OMRSInstanceEventType newEventType,
+                                              OMRSInstanceEventType updatedEventType)
+    {
+        final String instanceParameterName = "instance";
+
+        try
+        {
+            if (instance == null)
+            {
+                return false;
+            }
+
+            repositoryValidator.validateReferenceInstanceHeader(sourceName,
+                                                                localMetadataCollectionId,
+                                                                instanceParameterName,
+                                                                instance,
+                                                                auditLog,
+                                                                methodName);
+
+            InstanceHeader storedInstance;
+
+            if (instance instanceof Relationship)
+            {
+                storedInstance = localMetadataCollection.isRelationshipKnown(localRepositoryConnector.getServerUserId(), instance.getGUID());
+            }
+            else
+            {
+                storedInstance = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(), instance.getGUID());
+            }
+
+            return compareAndValidateReferenceInstance(originatorServerName,
+                                                       instance,
+                                                       storedInstance,
+                                                       (instance.getVersion() == 1L) ? newEventType : updatedEventType,
+                                                       methodName);
+        }
+        catch (Exception error)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           methodName,
+                                           originatorServerName,
+                                           originatorMetadataCollectionId);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Save a batch of entities as reference copies.  If the batch fails, the entities are saved one at a time
+     * so that only the ones that fail are rejected.
+     *
+     * @param methodName                     calling method
+     * @param originatorServerName           name of the archive
+     * @param originatorMetadataCollectionId unique identifier of the archive
+     * @param entities                       entities to save
+     * @return the entities that were stored
+     */
+    private List<EntityDetail> saveEntityBatch(String             methodName,
+                                               String             originatorServerName,
+                                               String             originatorMetadataCollectionId,
+                                               List<EntityDetail> entities)
+    {
+        List<EntityDetail> savedEntities = new ArrayList<>();
+        InstanceGraph      batch         = new InstanceGraph();
+
+        batch.setEntities(entities);
+
+        try
+        {
+            this.addSavedInstances(this.saveReferenceCopies(batch).getEntities(), savedEntities);
+        }
+        catch (Exception batchError)
+        {
+            log.debug("Entity batch failed; saving entities individually", batchError);
+
+            for (EntityDetail entity : entities)
+            {
+                InstanceGraph singleEntity = new InstanceGraph();
+
+                singleEntity.setEntities(Collections.singletonList(entity));
+
+                try
+                {
+                    this.addSavedInstances(this.saveReferenceCopies(singleEntity).getEntities(), savedEntities);
+                }
+                catch (Exception error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   methodName,
+                                                   originatorServerName,
+                                                   originatorMetadataCollectionId);
+                }
+            }
+        }
+
+        return savedEntities;
+    }
+
+
+    /**
+     * Save a batch of relationships as reference copies.  If the batch fails, the relationships are saved one at
+     * a time so that only the ones that fail are rejected.
+     *
+     * @param methodName                     calling method
+     * @param originatorServerName           name of the archive
+     * @param originatorMetadataCollectionId unique identifier of the archive
+     * @param relationships                  relationships to save
+     * @return the relationships that were stored
+     */
+    private List<Relationship> saveRelationshipBatch(String             methodName,
+                                                     String             originatorServerName,
+                                                     String             originatorMetadataCollectionId,
+                                                     List<Relationship> relationships)
+    {
+        List<Relationship> savedRelationships = new ArrayList<>();
+        InstanceGraph      batch              = new InstanceGraph();
+
+        batch.setRelationships(relationships);
+
+        try
+        {
+            this.addSavedInstances(this.saveReferenceCopies(batch).getRelationships(), savedRelationships);
+        }
+        catch (Exception batchError)
+        {
+            log.debug("Relationship batch failed; saving relationships individually", batchError);
+
+            for (Relationship relationship : relationships)
+            {
+                InstanceGraph singleRelationship = new InstanceGraph();
+
+                singleRelationship.setRelationships(Collections.singletonList(relationship));
+
+                try
+                {
+                    this.addSavedInstances(this.saveReferenceCopies(singleRelationship).getRelationships(), savedRelationships);
+                }
+                catch (Exception error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   methodName,
+                                                   originatorServerName,
+                                                   originatorMetadataCollectionId);
+                }
+            }
+        }
+
+        return savedRelationships;
+    }
+
+
+    /**
+     * Save reference copies of the supplied instances.  When the local metadata collection is the
+     * LocalOMRSMetadataCollection, it returns the instances that passed its security checks and were stored.
+     * Otherwise, all the instances are assumed to be stored.
+     *
+     * @param instances instances to save
+     * @return instances that were stored
+     * @throws Exception the repository rejected the instances
+     */
+    private InstanceGraph saveReferenceCopies(InstanceGraph instances) throws Exception
+    {
+        if (localMetadataCollection instanceof LocalOMRSMetadataCollection localOMRSMetadataCollection)
+        {
+            InstanceGraph savedInstances = localOMRSMetadataCollection.saveAuthorizedInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
+                                                                                                             instances);
+
+            if (savedInstances == null)
+            {
+                return new InstanceGraph();
+            }
+
+            return savedInstances;
+        }
+
+        localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(), instances);
+
+        return instances;
+    }
+
+
+    /**
+     * Add the instances returned from a save to the list of saved instances.
+     *
+     * @param instances instances that were saved (may be null)
+     * @param savedInstances list of all the saved instances
+     * @param <T> entity or relationship
+     */
+    private <T extends InstanceHeader> void addSavedInstances(List<T> instances,
+                                                              List<T> savedInstances)
+    {
+        if (instances != null)
+        {
+            savedInstances.addAll(instances);
+        }
+    }
+
+
     /*
      * ==============================
      * Private methods
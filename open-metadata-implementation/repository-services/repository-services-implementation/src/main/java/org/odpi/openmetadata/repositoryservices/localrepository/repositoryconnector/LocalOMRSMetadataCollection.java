@@ -7134,11 +7134,54 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                               InvalidRelationshipException,
                                                                               UserNotAuthorizedException,
                                                                               FunctionNotSupportedException
+    {
+        this.saveAuthorizedInstanceReferenceCopies(userId, instances);
+    }
+
+
+    /**
+     * Save the reference copies of the supplied instances that pass the security checks, and return the
+     * instances that were passed to the real repository connector.  This lets the bulk archive load know
+     * which instances were actually stored.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances instances to save
+     * @return instances passed to the real repository connector or null if none passed the checks
+     *
+     * @throws InvalidParameterException the relationship is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    InstanceGraph saveAuthorizedInstanceReferenceCopies(String          userId,
+                                                        InstanceGraph   instances) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          EntityNotKnownException,
+                                                                                          PropertyErrorException,
+                                                                                          EntityConflictException,
+                                                                                          RelationshipConflictException,
+                                                                                          InvalidEntityException,
+                                                                                          InvalidRelationshipException,
+                                                                                          UserNotAuthorizedException,
+                                                                                          FunctionNotSupportedException
     {
         /*
          * It is necessary to filter out all the instances that should not be saved before passing the
-         * instances to the real connector.  The validated instances are packed back into an instance graph to
-         * pass on the batch so that the real repository connector can benefit from the batch.
+         * instances to the real connector.  As with the single instance methods, this includes instances with
+         * header versions from a later version of the OMRS.  The validated instances are packed back into an
+         * instance graph to pass on the batch so that the real repository connector can benefit from the batch.
          */
         if (instances != null)
         {
@@ -7154,7 +7197,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                 {
                     try
                     {
-                        if ((entity != null) && (securityVerifier.validateEntityReferenceCopySave(userId, entity)))
+                        if ((entity != null) &&
+                                (entity.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION) &&
+                                (securityVerifier.validateEntityReferenceCopySave(userId, entity)))
                         {
                             validatedEntities.add(entity);
                         }
@@ -7183,7 +7228,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                 {
                     try
                     {
-                        if ((relationship != null) && (securityVerifier.validateRelationshipReferenceCopySave(userId, relationship)))
+                        if ((relationship != null) &&
+                                (relationship.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION) &&
+                                (securityVerifier.validateRelationshipReferenceCopySave(userId, relationship)))
                         {
                             validatedRelationships.add(relationship);
                         }
@@ -7212,6 +7259,10 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                  */
                 realMetadataCollection.saveInstanceReferenceCopies(userId, validatedInstances);
             }
+
+            return validatedInstances;
         }
+
+        return null;
     }
 }
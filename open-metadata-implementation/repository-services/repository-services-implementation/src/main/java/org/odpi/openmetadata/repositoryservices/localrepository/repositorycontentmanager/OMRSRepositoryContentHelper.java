@@ -600,64 +600,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
 
         validateRepositoryContentManager(methodName);
 
-        List<String>  subTypeNames = new ArrayList<>();
-        List<TypeDef> typeDefs = repositoryContentManager.getKnownTypeDefs();
-
-        if ((typeDefs != null) && (superTypeName != null))
-        {
-            /*
-             * There are types to check - step through is one
-             */
-            for (TypeDef typeDef : typeDefs)
-            {
-                if ((typeDef != null) && (typeDef.getSuperType() != null))
-                {
-                    /*
-                     * Does the super type name match?
-                     */
-                    if (superTypeName.equals(typeDef.getSuperType().getName()))
-                    {
-                        /*
-                         * This type is a direct descendent of the requested type
-                         */
-                        subTypeNames.add(typeDef.getName());
-                    }
-                    else
-                    {
-                        /*
-                         * Each type definition only contains the immediate super type.  We need
-                         * to check the super type's super types.
-                         */
-                        List<TypeDefLink> superTypes = repositoryContentManager.getSuperTypes(sourceName,
-                                                                                              typeDef.getSuperType().getName(),
-                                                                                              methodName);
-
-                        if (superTypes != null)
-                        {
-                            for (TypeDefLink typeDefLink : superTypes)
-                            {
-                                if (typeDefLink != null)
-                                {
-                                    if (superTypeName.equals(typeDefLink.getName()))
-                                    {
-                                        subTypeNames.add(typeDef.getName());
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        if (subTypeNames.isEmpty())
-        {
-            return null;
-        }
-        else
-        {
-            return subTypeNames;
-        }
+        return repositoryContentManager.getSubTypesOf(superTypeName);
     }
 
 
@@ -2284,19 +2227,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
         // If there is no sequencing order, or it is defined as 'ANY', there is no sorting to do
         if (sequencingOrder != null && !sequencingOrder.equals(SequencingOrder.ANY))
         {
-            if (sequencingOrder.equals(SequencingOrder.PROPERTY_ASCENDING) || sequencingOrder.equals(SequencingOrder.PROPERTY_DESCENDING))
-            {
-                // If the sequencing is property-based, handover to the property comparator
-                fullResults.sort((one, two) -> this.compareProperties(one.getProperties(),
-                                                                      two.getProperties(),
-                                                                      sequencingProperty,
-                                                                      sequencingOrder));
-            }
-            else
-            {
-                // Otherwise, handover to the instance comparator
-                fullResults.sort((one, two) -> OMRSRepositoryContentHelper.compareInstances(one, two, sequencingOrder));
-            }
+            fullResults.sort(this.getEntityComparator(sequencingProperty, sequencingOrder));
         }
 
         if ((fromElement == 0) && (pageSize > fullResultsSize))
@@ -2354,19 +2285,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
         // If there is no sequencing order, or it is defined as 'ANY', there is no sorting to do
         if (sequencingOrder != null && !sequencingOrder.equals(SequencingOrder.ANY))
         {
-            if (sequencingOrder.equals(SequencingOrder.PROPERTY_ASCENDING) || sequencingOrder.equals(SequencingOrder.PROPERTY_DESCENDING))
-            {
-                // If the sequencing is property-based, handover to the property comparator
-                fullResults.sort((one, two) -> this.compareProperties(one.getProperties(),
-                                                                      two.getProperties(),
-                                                                      sequencingProperty,
-                                                                      sequencingOrder));
-            }
-            else
-            {
-                // Otherwise, handover to the instance comparator
-                fullResults.sort((one, two) -> OMRSRepositoryContentHelper.compareInstances(one, two, sequencingOrder));
-            }
+            fullResults.sort(this.getRelationshipComparator(sequencingProperty, sequencingOrder));
         }
 
         if ((fromElement == 0) && (pageSize == 0 || pageSize > fullResultsSize))
@@ -2383,123 +2302,6 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     }
 
 
-    /**
-     * Compare the two instances and determine the sort order based on the nominated non-property sort order.
-     *
-     * @param one the first instance
-     * @param two the second instance
-     * @param sequencingOrder nominated non-property sort order
-     * @return sort result
-     */
-    private static int  compareInstances(InstanceHeader  one,
-                                         InstanceHeader  two,
-                                         SequencingOrder sequencingOrder)
-    {
-
-        int sortResult;
-
-        if (one == null && two == null)
-        {
-            sortResult = 0;
-        }
-        else if (one != null && two == null)
-        {
-            sortResult = 1;
-        }
-        else if (one == null)
-        {
-            sortResult = -1;
-        }
-        else
-        {
-            // Both are now non-null...
-            switch (sequencingOrder)
-            {
-                case GUID:
-                    String guidOne = one.getGUID();
-                    String guidTwo = two.getGUID();
-                    if (guidOne == null && guidTwo == null)
-                    {
-                        sortResult = 0;
-                    }
-                    else if (guidOne != null && guidTwo == null)
-                    {
-                        sortResult = 1;
-                    }
-                    else if (guidOne == null)
-                    {
-                        sortResult = -1;
-                    }
-                    else
-                    {
-                        sortResult = guidOne.compareTo(guidTwo);
-                    }
-                    break;
-                case LAST_UPDATE_RECENT:
-                case LAST_UPDATE_OLDEST:
-                    Date updateOne = one.getUpdateTime();
-                    Date updateTwo = two.getUpdateTime();
-                    if (updateOne == null && updateTwo == null)
-                    {
-                        sortResult = 0;
-                    }
-                    else if (updateOne != null && updateTwo == null)
-                    {
-                        sortResult = 1;
-                    }
-                    else if (updateOne == null)
-                    {
-                        sortResult = -1;
-                    }
-                    else
-                    {
-                        sortResult = updateOne.compareTo(updateTwo);
-                    }
-                    if (sequencingOrder.equals(SequencingOrder.LAST_UPDATE_RECENT))
-                    {
-                        // invert the result
-                        sortResult = -sortResult;
-                    }
-                    break;
-                case CREATION_DATE_RECENT:
-                case CREATION_DATE_OLDEST:
-                    Date createOne = one.getCreateTime();
-                    Date createTwo = two.getCreateTime();
-                    if (createOne == null && createTwo == null)
-                    {
-                        sortResult = 0;
-                    }
-                    else if (createOne != null && createTwo == null)
-                    {
-                        sortResult = 1;
-                    }
-                    else if (createOne == null)
-                    {
-                        sortResult = -1;
-                    }
-                    else
-                    {
-                        sortResult = createOne.compareTo(createTwo);
-                    }
-                    if (sequencingOrder.equals(SequencingOrder.CREATION_DATE_RECENT))
-                    {
-                        // invert the result
-                        sortResult = -sortResult;
-                    }
-                    break;
-                case ANY:
-                default:
-                    // No differentiation in search, so consider them equivalent regardless
-                    sortResult = 0;
-                    break;
-            }
-        }
-
-        return sortResult;
-
-    }
-
-
     /**
      * Compare the properties of two instances and determine the sort order based on the nominated property value and
      * sort order.
@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMRSRepositoryContentManager supports an in-memory cache of TypeDefs for the local server.  It is used by the OMRS
@@ -54,18 +55,15 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private OMRSRepositoryEventManager      outboundRepositoryEventManager = null;
     private String                          openTypesOriginGUID            = null;
 
-    private final Map<String, TypeDef>            knownTypeDefGUIDs              = new HashMap<>();
-    private final Map<String, TypeDef>            knownTypeDefNames              = new HashMap<>();
-    private final Map<String, AttributeTypeDef>   knownAttributeTypeDefGUIDs     = new HashMap<>();
-    private final Map<String, AttributeTypeDef>   knownAttributeTypeDefNames     = new HashMap<>();
-    private final Map<String, TypeDef>            activeTypeDefGUIDs             = new HashMap<>();
-    private final Map<String, TypeDef>            activeTypeDefNames             = new HashMap<>();
-    private final Map<String, AttributeTypeDef>   activeAttributeTypeDefGUIDs    = new HashMap<>();
-    private final Map<String, AttributeTypeDef>   activeAttributeTypeDefNames    = new HashMap<>();
-    private final Map<String, List<TypeDefLink>>  typeDefSuperTypes              = new HashMap<>();
-    private final Map<String, InstanceType>       knownInstanceTypes             = new HashMap<>();
-    private final Map<String, String>             metadataCollectionNames        = new HashMap<>();
-    private final Map<String, Set<String>>        knownPropertyToTypeDefNames    = new HashMap<>();
+    private final Map<String, String>             metadataCollectionNames        = new ConcurrentHashMap<>();
+
+    /*
+     * The cached types are read by every request thread.  Readers dereference the current snapshot; writers
+     * (which are synchronized) copy it, update the copy and then publish it.  The type hierarchy is rebuilt
+     * from the current snapshot when it is next needed after the types change.
+     */
+    private volatile TypeDefCache                 typeDefCache                   = new TypeDefCache();
+    private volatile OMRSTypeDefHierarchy         typeDefHierarchy               = null;
 
 
     /*
@@ -152,15 +150,17 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param newTypeDef TypeDef structure describing the new TypeDef.
      * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
      */
-    private void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
+    private synchronized void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
     {
-        knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
-        knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+        TypeDefCache updatedCache = new TypeDefCache(typeDefCache);
+
+        updatedCache.knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
+        updatedCache.knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
 
         if (isLocallySupported)
         {
-            activeTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
-            activeTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+            updatedCache.activeTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
+            updatedCache.activeTypeDefNames.put(newTypeDef.getName(), newTypeDef);
 
             log.debug("New Active Type {} from {}. Full TypeDef: {}", newTypeDef.getName(), sourceName, newTypeDef);
         }
@@ -168,7 +168,9 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         {
             log.debug("New Known Type {} from {}. Full TypeDef: {}", newTypeDef.getName(), sourceName, newTypeDef);
         }
-        cacheTypeDefPropertyLookup(sourceName, newTypeDef);
+        cacheTypeDefPropertyLookup(sourceName, updatedCache, newTypeDef);
+
+        typeDefCache = updatedCache;
     }
 
 
@@ -203,9 +205,10 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * that name is defined.
      *
      * @param sourceName source of the request (used for logging)
+     * @param updatedCache unpublished copy of the type cache
      * @param typeDef TypeDef structure describing the new TypeDef.
      */
-    private void cacheTypeDefPropertyLookup(String sourceName, TypeDef typeDef)
+    private void cacheTypeDefPropertyLookup(String sourceName, TypeDefCache updatedCache, TypeDef typeDef)
     {
         // retrieve all properties on the newTypeDef
         String                     typeDefName                   = typeDef.getName();
@@ -217,8 +220,9 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             for (TypeDefAttribute property : propertiesDefinition)
             {
                 String propertyName = property.getAttributeName();
-                knownPropertyToTypeDefNames.computeIfAbsent(propertyName, k -> new HashSet<>());
-                knownPropertyToTypeDefNames.get(propertyName).add(typeDefName);
+                Set<String> typeDefNames = new HashSet<>(updatedCache.knownPropertyToTypeDefNames.getOrDefault(propertyName, Collections.emptySet()));
+                typeDefNames.add(typeDefName);
+                updatedCache.knownPropertyToTypeDefNames.put(propertyName, typeDefNames);
                 log.debug("Cached property '{}' from {}, for lookup under TypeDef: {}", propertyName, sourceName, typeDefName);
             }
         }
@@ -233,22 +237,26 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param obsoleteTypeDefName unique name for the type.
      * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
      */
-    private void uncacheTypeDef(String  sourceName,
-                                String  obsoleteTypeDefGUID,
-                                String  obsoleteTypeDefName,
-                                boolean isLocallySupported)
+    private synchronized void uncacheTypeDef(String  sourceName,
+                                             String  obsoleteTypeDefGUID,
+                                             String  obsoleteTypeDefName,
+                                             boolean isLocallySupported)
     {
-        knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
-        knownTypeDefNames.remove(obsoleteTypeDefName);
+        TypeDefCache updatedCache = new TypeDefCache(typeDefCache);
+
+        updatedCache.knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
+        updatedCache.knownTypeDefNames.remove(obsoleteTypeDefName);
 
         if (isLocallySupported)
         {
-            activeTypeDefGUIDs.remove(obsoleteTypeDefGUID);
-            activeTypeDefNames.remove(obsoleteTypeDefName);
+            updatedCache.activeTypeDefGUIDs.remove(obsoleteTypeDefGUID);
+            updatedCache.activeTypeDefNames.remove(obsoleteTypeDefName);
         }
 
         log.debug("Removed Type {} from {}", obsoleteTypeDefName, sourceName);
-        uncacheTypeDefPropertyLookup(sourceName, obsoleteTypeDefName);
+        uncacheTypeDefPropertyLookup(sourceName, updatedCache, obsoleteTypeDefName);
+
+        typeDefCache = updatedCache;
     }
 
 
@@ -256,17 +264,21 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * Remove a TypeDef from the reverse property lookup.
      *
      * @param sourceName source of the request (used for logging)
+     * @param updatedCache unpublished copy of the type cache
      * @param typeDefName unique name for the type.
      */
-    private void uncacheTypeDefPropertyLookup(String sourceName, String typeDefName)
+    private void uncacheTypeDefPropertyLookup(String sourceName, TypeDefCache updatedCache, String typeDefName)
     {
         // Not much choice but to iterate through the entire Map...
-        for (String propertyName : knownPropertyToTypeDefNames.keySet())
+        for (Map.Entry<String, Set<String>> propertyLookup : updatedCache.knownPropertyToTypeDefNames.entrySet())
         {
-            // ... but the removal operation at least is idempotent (no need to first check it is present in the Set)
-            boolean removed = knownPropertyToTypeDefNames.get(propertyName).remove(typeDefName);
-            if (removed)
+            // ... the sets are shared with the published snapshot, so a set is copied before it is changed
+            String propertyName = propertyLookup.getKey();
+            if (propertyLookup.getValue().contains(typeDefName))
             {
+                Set<String> typeDefNames = new HashSet<>(propertyLookup.getValue());
+                typeDefNames.remove(typeDefName);
+                propertyLookup.setValue(typeDefNames);
                 log.debug("Removed Type {} from {}, from reverse-lookup of property: {}", typeDefName, sourceName, propertyName);
             }
         }
@@ -293,17 +305,19 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param newAttributeTypeDef AttributeTypeDef structure describing the new TypeDef.
      * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
      */
-    private void cacheAttributeTypeDef(String           sourceName,
-                                       AttributeTypeDef newAttributeTypeDef,
-                                       boolean          isLocallySupported)
+    private synchronized void cacheAttributeTypeDef(String           sourceName,
+                                                    AttributeTypeDef newAttributeTypeDef,
+                                                    boolean          isLocallySupported)
     {
-        knownAttributeTypeDefGUIDs.put(newAttributeTypeDef.getGUID(), newAttributeTypeDef);
-        knownAttributeTypeDefNames.put(newAttributeTypeDef.getName(), newAttributeTypeDef);
+        TypeDefCache updatedCache = new TypeDefCache(typeDefCache);
+
+        updatedCache.knownAttributeTypeDefGUIDs.put(newAttributeTypeDef.getGUID(), newAttributeTypeDef);
+        updatedCache.knownAttributeTypeDefNames.put(newAttributeTypeDef.getName(), newAttributeTypeDef);
 
         if (isLocallySupported)
         {
-            activeAttributeTypeDefGUIDs.put(newAttributeTypeDef.getGUID(), newAttributeTypeDef);
-            activeAttributeTypeDefNames.put(newAttributeTypeDef.getName(), newAttributeTypeDef);
+            updatedCache.activeAttributeTypeDefGUIDs.put(newAttributeTypeDef.getGUID(), newAttributeTypeDef);
+            updatedCache.activeAttributeTypeDefNames.put(newAttributeTypeDef.getName(), newAttributeTypeDef);
 
             if (log.isDebugEnabled())
             {
@@ -314,6 +328,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 log.debug("New Known Attribute Type " + newAttributeTypeDef.getName() + " from " + sourceName+ ". Full AttributeTypeDef: " + newAttributeTypeDef);
             }
         }
+
+        typeDefCache = updatedCache;
     }
 
 
@@ -339,22 +355,26 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param obsoleteTypeDefName String unique name for the TypeDef.
      */
     @Override
-    public void deleteTypeDef(String    sourceName,
-                              String    obsoleteTypeDefGUID,
-                              String    obsoleteTypeDefName)
+    public synchronized void deleteTypeDef(String    sourceName,
+                                           String    obsoleteTypeDefGUID,
+                                           String    obsoleteTypeDefName)
     {
         if (this.validTypeId(sourceName, obsoleteTypeDefGUID, obsoleteTypeDefName))
         {
-            knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
-            knownTypeDefNames.remove(obsoleteTypeDefName);
+            TypeDefCache updatedCache = new TypeDefCache(typeDefCache);
+
+            updatedCache.knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
+            updatedCache.knownTypeDefNames.remove(obsoleteTypeDefName);
 
             if (localRepositoryConnector != null)
             {
-                activeTypeDefGUIDs.remove(obsoleteTypeDefGUID);
-                activeTypeDefNames.remove(obsoleteTypeDefName);
+                updatedCache.activeTypeDefGUIDs.remove(obsoleteTypeDefGUID);
+                updatedCache.activeTypeDefNames.remove(obsoleteTypeDefName);
 
                 log.debug("Deleted Active TypeDef " + obsoleteTypeDefName + " from " + sourceName);
             }
+
+            typeDefCache = updatedCache;
         }
     }
 
@@ -367,25 +387,29 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param obsoleteAttributeTypeDefName String unique name for the AttributeTypeDef.
      */
     @Override
-    public void deleteAttributeTypeDef(String    sourceName,
-                                       String    obsoleteAttributeTypeDefGUID,
-                                       String    obsoleteAttributeTypeDefName)
+    public synchronized void deleteAttributeTypeDef(String    sourceName,
+                                                    String    obsoleteAttributeTypeDefGUID,
+                                                    String    obsoleteAttributeTypeDefName)
     {
         if (this.validTypeId(sourceName, obsoleteAttributeTypeDefGUID, obsoleteAttributeTypeDefName))
         {
-            knownAttributeTypeDefGUIDs.remove(obsoleteAttributeTypeDefGUID);
-            knownAttributeTypeDefNames.remove(obsoleteAttributeTypeDefName);
+            TypeDefCache updatedCache = new TypeDefCache(typeDefCache);
+
+            updatedCache.knownAttributeTypeDefGUIDs.remove(obsoleteAttributeTypeDefGUID);
+            updatedCache.knownAttributeTypeDefNames.remove(obsoleteAttributeTypeDefName);
 
             if (localRepositoryConnector != null)
             {
-                activeAttributeTypeDefGUIDs.remove(obsoleteAttributeTypeDefGUID);
-                activeAttributeTypeDefNames.remove(obsoleteAttributeTypeDefName);
+                updatedCache.activeAttributeTypeDefGUIDs.remove(obsoleteAttributeTypeDefGUID);
+                updatedCache.activeAttributeTypeDefNames.remove(obsoleteAttributeTypeDefName);
 
                 if (log.isDebugEnabled())
                 {
                     log.debug("Deleted Active AttributeTypeDef " + obsoleteAttributeTypeDefName + " from " + sourceName);
                 }
             }
+
+            typeDefCache = updatedCache;
         }
     }
 
@@ -503,7 +527,29 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
 
     /**
-     * Evaluate the superTypes for a type.  The results are cached in typeDefSuperTypes.
+     * Return the hierarchy of the known TypeDefs.  It is rebuilt if the TypeDefs have changed since it was last built.
+     *
+     * @return type hierarchy
+     */
+    private OMRSTypeDefHierarchy getTypeDefHierarchy()
+    {
+        TypeDefCache         currentCache   = typeDefCache;
+        OMRSTypeDefHierarchy typeHierarchy  = typeDefHierarchy;
+
+        if ((typeHierarchy == null) || (typeHierarchy.getTypeDefVersion() != currentCache.version))
+        {
+            typeHierarchy = new OMRSTypeDefHierarchy(currentCache.version,
+                                                     currentCache.knownTypeDefGUIDs.values(),
+                                                     currentCache.knownTypeDefNames);
+            typeDefHierarchy = typeHierarchy;
+        }
+
+        return typeHierarchy;
+    }
+
+
+    /**
+     * Return the superTypes for a type.  These are taken from the type hierarchy.
      *
      * @param sourceName source of the request (used for logging)
      * @param typeName name of type to process
@@ -516,65 +562,19 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String  thisMethodName = "getSuperTypes";
 
-        List<TypeDefLink>   typeHierarchy = typeDefSuperTypes.get(typeName);
+        List<TypeDefLink>   typeHierarchy = this.getTypeDefHierarchy().getSuperTypes(typeName);
 
         if (typeHierarchy == null)
         {
-            /*
-             * The type hierarchy is not known at this time (it is evaluated lazily).
-             */
-            typeHierarchy = new ArrayList<>();
-
-            TypeDef typeDef = knownTypeDefNames.get(typeName);
-
-            if (typeDef != null)
+            if (typeDefCache.knownTypeDefNames.get(typeName) == null)
             {
-                TypeDefLink superTypeLink = typeDef.getSuperType();
-
-                while (superTypeLink != null)
-                {
-                    String superTypeName = superTypeLink.getName();
-
-                    if (superTypeName != null)
-                    {
-                        log.debug(typeName + " has super type " + superTypeName);
-
-                        typeHierarchy.add(superTypeLink);
-
-                        /*
-                         * Retrieve the TypeDef for this super type
-                         */
-                        TypeDef superTypeDef = knownTypeDefNames.get(superTypeName);
-
-                        if (superTypeDef != null)
-                        {
-                            /*
-                             * Retrieve the super type for this super typeDef.  It will be null if the type is top-level.
-                             */
-                            superTypeLink = superTypeDef.getSuperType();
-                        }
-                        else
-                        {
-                            log.error(superTypeName + " supertype is not known in TypeDef cache");
-                            throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                        }
-                    }
-                    else
-                    {
-                        log.error("Corrupted TypeDef cache, no name for " + superTypeLink);
-                        throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                    }
-                }
-
-                /*
-                 * Cache the resulting superType list
-                 */
-                typeDefSuperTypes.put(typeName, typeHierarchy);
+                log.error("{} type is not known in TypeDef cache", typeName);
+                throwContentManagerLogicError(sourceName, methodName, thisMethodName + "(" + typeName + ")");
             }
             else
             {
-                log.error(typeName + " type is not known in TypeDef cache");
-                throwContentManagerLogicError(sourceName, methodName, thisMethodName + "(" + typeName + ")");
+                log.error("A supertype of {} is not known in TypeDef cache", typeName);
+                throwContentManagerLogicError(sourceName, methodName, thisMethodName);
             }
         }
 
@@ -595,6 +595,23 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     }
 
 
+    /**
+     * Return the list of type names for all the subtypes of a type.
+     *
+     * @param superTypeName name of the super type - this value is not included in the result.
+     * @return list of type names (a null means the type is not known, or it has no subtypes)
+     */
+    List<String>  getSubTypesOf(String superTypeName)
+    {
+        if (superTypeName == null)
+        {
+            return null;
+        }
+
+        return this.getTypeDefHierarchy().getSubTypeNames(superTypeName);
+    }
+
+
     /**
      * Validate that the entity's type is of the expected/desired value.  The actual entity may be a subtype
      * of the expected type of course.
@@ -610,7 +627,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOf";
 
-        log.debug("isTypeOf: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeName = " + expectedTypeName);
+        log.debug("isTypeOf: sourceName = {}; actualTypeName = {}; expectedTypeName = {}", sourceName, actualTypeName, expectedTypeName);
 
         if (expectedTypeName == null)
         {
@@ -639,31 +656,16 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         }
 
         /*
-         * Looking for a match in the superTypes.
+         * Looking for a match in the superTypes.  An unknown actual type is reported as a logic error.
          */
-        List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+        OMRSTypeDefHierarchy typeHierarchy = this.getTypeDefHierarchy();
 
-        if (typeHierarchy != null)
+        if (typeHierarchy.getSuperTypes(actualTypeName) == null)
         {
-            for (TypeDefLink superType : typeHierarchy)
-            {
-                if (superType != null)
-                {
-                    if (expectedTypeName.equals(superType.getName()))
-                    {
-                        log.debug("SuperType match success");
-                        return true;
-                    }
-
-                    log.debug("No match with " + superType.getName());
-                }
-            }
+            this.getSuperTypes(sourceName, actualTypeName, methodName);
         }
 
-        /*
-         * No match found
-         */
-        return false;
+        return typeHierarchy.isTypeOf(actualTypeName, expectedTypeName);
     }
 
 
@@ -684,7 +686,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOfByGUID";
 
-        log.debug("IsTypeOfByGUID: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeGUID = " + expectedTypeGUID);
+        log.debug("IsTypeOfByGUID: sourceName = {}; actualTypeName = {}; expectedTypeGUID = {}", sourceName, actualTypeName, expectedTypeGUID);
 
         if (expectedTypeGUID == null)
         {
@@ -730,7 +732,6 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                         log.debug("SuperType match success");
                         return true;
                     }
-                    log.debug("No match with " + superType.getGUID());
                 }
             }
         }
@@ -762,7 +763,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         if (isValidTypeCategory(sourceName, category, typeName, methodName))
         {
-            InstanceType    instanceType = knownInstanceTypes.get(typeName);
+            TypeDefCache    currentCache = typeDefCache;
+            InstanceType    instanceType = currentCache.knownInstanceTypes.get(typeName);
 
             if (instanceType != null)
             {
@@ -772,7 +774,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             /*
              * The instance type has not yet been created. (They are created lazily.)
              */
-            TypeDef typeDef = knownTypeDefNames.get(typeName);
+            TypeDef typeDef = currentCache.knownTypeDefNames.get(typeName);
 
             if (typeDef != null)
             {
@@ -815,7 +817,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                         /*
                          * Retrieve the TypeDef for this super type
                          */
-                        TypeDef         superTypeDef  = knownTypeDefNames.get(superTypeName);
+                        TypeDef         superTypeDef  = currentCache.knownTypeDefNames.get(superTypeName);
 
                         if (superTypeDef != null)
                         {
@@ -853,7 +855,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 /*
                  * Cache the instance type for next time
                  */
-                knownInstanceTypes.put(typeName, instanceType);
+                currentCache.knownInstanceTypes.put(typeName, instanceType);
 
                 return instanceType;
             }
@@ -906,7 +908,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return false;
         }
 
-        TypeDef   typeDef = knownTypeDefNames.get(typeName);
+        TypeDef   typeDef = typeDefCache.knownTypeDefNames.get(typeName);
 
         if (typeDef != null)
         {
@@ -958,7 +960,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             if ((isValidTypeCategory(sourceName, TypeDefCategory.CLASSIFICATION_DEF, classificationTypeName, methodName)) &&
                 (isValidTypeCategory(sourceName, TypeDefCategory.ENTITY_DEF, entityTypeName, methodName)))
             {
-                ClassificationDef  classificationTypeDef = (ClassificationDef) knownTypeDefNames.get(classificationTypeName);
+                ClassificationDef  classificationTypeDef = (ClassificationDef) typeDefCache.knownTypeDefNames.get(classificationTypeName);
 
                 if (classificationTypeDef != null)
                 {
@@ -991,7 +993,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                             TypeDefLink superTypeLink=typeDef.getSuperType();
                             String parentName= superTypeLink.getName();
                             entityTypes.add(parentName);
-                            typeDef  = this.knownTypeDefGUIDs.get(superTypeLink.getGUID());
+                            typeDef  = typeDefCache.knownTypeDefGUIDs.get(superTypeLink.getGUID());
                         }
 
                         for (TypeDefLink  allowedEntityDefLink : entityDefs)
@@ -1048,7 +1050,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             this.throwContentManagerLogicError(sourceName, thisMethodName, originalMethodName);
         }
 
-        TypeDef   typeDef = knownTypeDefNames.get(typeName);
+        TypeDef   typeDef = typeDefCache.knownTypeDefNames.get(typeName);
 
         if (typeDef == null)
         {
@@ -1092,15 +1094,16 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     TypeDefGallery   getActiveTypeDefGallery()
     {
         TypeDefGallery               typeDefGallery               = new TypeDefGallery();
+        TypeDefCache                 currentCache                 = typeDefCache;
 
-        if (! activeAttributeTypeDefNames.isEmpty())
+        if (! currentCache.activeAttributeTypeDefNames.isEmpty())
         {
-            typeDefGallery.setAttributeTypeDefs(new ArrayList<>(activeAttributeTypeDefNames.values()));
+            typeDefGallery.setAttributeTypeDefs(new ArrayList<>(currentCache.activeAttributeTypeDefNames.values()));
         }
 
-        if (! activeTypeDefNames.isEmpty())
+        if (! currentCache.activeTypeDefNames.isEmpty())
         {
-            typeDefGallery.setTypeDefs(new ArrayList<>(activeTypeDefNames.values()));
+            typeDefGallery.setTypeDefs(new ArrayList<>(currentCache.activeTypeDefNames.values()));
         }
 
         return typeDefGallery;
@@ -1114,11 +1117,12 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      */
     List<TypeDef>  getActiveTypeDefs()
     {
-        List<TypeDef> results = null;
+        List<TypeDef> results      = null;
+        TypeDefCache  currentCache = typeDefCache;
 
-        if (! activeTypeDefGUIDs.isEmpty())
+        if (! currentCache.activeTypeDefGUIDs.isEmpty())
         {
-            results = new ArrayList<>(activeTypeDefGUIDs.values());
+            results = new ArrayList<>(currentCache.activeTypeDefGUIDs.values());
         }
 
         return results;
@@ -1132,11 +1136,12 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      */
     List<AttributeTypeDef>  getActiveAttributeTypeDefs()
     {
-        List<AttributeTypeDef> results = null;
+        List<AttributeTypeDef> results      = null;
+        TypeDefCache           currentCache = typeDefCache;
 
-        if (! activeAttributeTypeDefGUIDs.isEmpty())
+        if (! currentCache.activeAttributeTypeDefGUIDs.isEmpty())
         {
-            results = new ArrayList<>(activeAttributeTypeDefGUIDs.values());
+            results = new ArrayList<>(currentCache.activeAttributeTypeDefGUIDs.values());
         }
 
         return results;
@@ -1151,15 +1156,16 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     TypeDefGallery   getKnownTypeDefGallery()
     {
         TypeDefGallery               typeDefGallery               = new TypeDefGallery();
+        TypeDefCache                 currentCache                 = typeDefCache;
 
-        if (! knownAttributeTypeDefNames.isEmpty())
+        if (! currentCache.knownAttributeTypeDefNames.isEmpty())
         {
-            typeDefGallery.setAttributeTypeDefs(new ArrayList<>(knownAttributeTypeDefNames.values()));
+            typeDefGallery.setAttributeTypeDefs(new ArrayList<>(currentCache.knownAttributeTypeDefNames.values()));
         }
 
-        if (! knownTypeDefNames.isEmpty())
+        if (! currentCache.knownTypeDefNames.isEmpty())
         {
-            typeDefGallery.setTypeDefs(new ArrayList<>(knownTypeDefNames.values()));
+            typeDefGallery.setTypeDefs(new ArrayList<>(currentCache.knownTypeDefNames.values()));
         }
 
         return typeDefGallery;
@@ -1173,11 +1179,12 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      */
     List<TypeDef>  getKnownTypeDefs()
     {
-        List<TypeDef> results = null;
+        List<TypeDef> results      = null;
+        TypeDefCache  currentCache = typeDefCache;
 
-        if (! knownTypeDefGUIDs.isEmpty())
+        if (! currentCache.knownTypeDefGUIDs.isEmpty())
         {
-            results = new ArrayList<>(knownTypeDefGUIDs.values());
+            results = new ArrayList<>(currentCache.knownTypeDefGUIDs.values());
         }
 
         return results;
@@ -1191,11 +1198,12 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      */
     List<AttributeTypeDef>  getKnownAttributeTypeDefs()
     {
-        List<AttributeTypeDef> results = null;
+        List<AttributeTypeDef> results      = null;
+        TypeDefCache           currentCache = typeDefCache;
 
-        if (! knownAttributeTypeDefGUIDs.isEmpty())
+        if (! currentCache.knownAttributeTypeDefGUIDs.isEmpty())
         {
-            results = new ArrayList<>(knownAttributeTypeDefGUIDs.values());
+            results = new ArrayList<>(currentCache.knownAttributeTypeDefGUIDs.values());
         }
 
         return results;
@@ -1212,7 +1220,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      */
     TypeDef  getTypeDefByName(String    typeDefName)
     {
-        return knownTypeDefNames.get(typeDefName);
+        return typeDefCache.knownTypeDefNames.get(typeDefName);
     }
 
 
@@ -1226,7 +1234,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      */
     AttributeTypeDef getAttributeTypeDefByName(String    attributeTypeDefName)
     {
-        return knownAttributeTypeDefNames.get(attributeTypeDefName);
+        return typeDefCache.knownAttributeTypeDefNames.get(attributeTypeDefName);
     }
 
 
@@ -1251,7 +1259,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         if (typeDefGUID != null)
         {
-            TypeDef typeDef = knownTypeDefGUIDs.get(typeDefGUID);
+            TypeDef typeDef = typeDefCache.knownTypeDefGUIDs.get(typeDefGUID);
 
             if (typeDef == null)
             {
@@ -1289,7 +1297,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         if (attributeTypeDefGUID != null)
         {
-            AttributeTypeDef attributeTypeDef = knownAttributeTypeDefGUIDs.get(attributeTypeDefGUID);
+            AttributeTypeDef attributeTypeDef = typeDefCache.knownAttributeTypeDefGUIDs.get(attributeTypeDefGUID);
 
             if (attributeTypeDef == null)
             {
@@ -1331,7 +1339,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (validTypeId(sourceName, typeDefGUID, typeDefName))
         {
-            return knownTypeDefNames.get(typeDefName);
+            return typeDefCache.knownTypeDefNames.get(typeDefName);
         }
         else
         {
@@ -1368,7 +1376,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         if (validTypeId(sourceName, attributeTypeDefGUID, attributeTypeDefName))
         {
-            return knownAttributeTypeDefNames.get(attributeTypeDefName);
+            return typeDefCache.knownAttributeTypeDefNames.get(attributeTypeDefName);
         }
         else
         {
@@ -1499,7 +1507,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         while (superTypeLink != null)
         {
-            TypeDef                superTypeDef                  = this.knownTypeDefGUIDs.get(superTypeLink.getGUID());
+            TypeDef                superTypeDef                  = typeDefCache.knownTypeDefGUIDs.get(superTypeLink.getGUID());
             List<TypeDefAttribute> superTypePropertiesDefinition = superTypeDef.getPropertiesDefinition();
 
             if (superTypePropertiesDefinition != null)
@@ -1534,7 +1542,14 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return null;
         }
 
-        return knownPropertyToTypeDefNames.getOrDefault(propertyName, null);
+        Set<String> typeDefNames = typeDefCache.knownPropertyToTypeDefNames.get(propertyName);
+
+        if (typeDefNames == null)
+        {
+            return null;
+        }
+
+        return Collections.unmodifiableSet(typeDefNames);
     }
 
 
@@ -1550,9 +1565,9 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param methodName name of calling method
      * @throws RepositoryErrorException a conflicting or invalid TypeDef has been returned
      */
-    void   validateEnterpriseTypeDefs(String        sourceName,
-                                      List<TypeDef> typeDefs,
-                                      String        methodName) throws RepositoryErrorException
+    synchronized void   validateEnterpriseTypeDefs(String        sourceName,
+                                                   List<TypeDef> typeDefs,
+                                                   String        methodName) throws RepositoryErrorException
     {
         for (TypeDef typeDef : typeDefs)
         {
@@ -1560,7 +1575,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             {
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
-                    knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    TypeDefCache updatedCache = new TypeDefCache(typeDefCache);
+
+                    updatedCache.knownTypeDefNames.put(typeDef.getName(), typeDef);
+
+                    typeDefCache = updatedCache;
                 }
             }
             else
@@ -1585,9 +1604,9 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param methodName name of calling method
      * @throws RepositoryErrorException a conflicting or invalid AttributeTypeDef has been returned
      */
-    void   validateEnterpriseAttributeTypeDefs(String                 sourceName,
-                                               List<AttributeTypeDef> attributeTypeDefs,
-                                               String                 methodName) throws RepositoryErrorException
+    synchronized void   validateEnterpriseAttributeTypeDefs(String                 sourceName,
+                                                            List<AttributeTypeDef> attributeTypeDefs,
+                                                            String                 methodName) throws RepositoryErrorException
     {
         for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
         {
@@ -1595,7 +1614,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             {
                 if (!isKnownType(sourceName, attributeTypeDef.getGUID(), attributeTypeDef.getName()))
                 {
-                    knownAttributeTypeDefNames.put(attributeTypeDef.getName(), attributeTypeDef);
+                    TypeDefCache updatedCache = new TypeDefCache(typeDefCache);
+
+                    updatedCache.knownAttributeTypeDefNames.put(attributeTypeDef.getName(), attributeTypeDef);
+
+                    typeDefCache = updatedCache;
                 }
             }
             else
@@ -1620,7 +1643,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (validTypeId(sourceName, typeGUID, typeName))
         {
-            TypeDef typeDef = knownTypeDefNames.get(typeName);
+            TypeDef typeDef = typeDefCache.knownTypeDefNames.get(typeName);
 
             if (typeDef == null)
             {
@@ -1655,7 +1678,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (typeGUID != null)
         {
-            TypeDef typeDef = knownTypeDefGUIDs.get(typeGUID);
+            TypeDef typeDef = typeDefCache.knownTypeDefGUIDs.get(typeGUID);
             if (typeDef != null)
             {
                 String originGUID = typeDef.getOrigin();
@@ -1681,11 +1704,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (this.validTypeId(sourceName, typeGUID, typeName))
         {
-            TypeDef  typeDef = knownTypeDefNames.get(typeName);
+            TypeDef  typeDef = typeDefCache.knownTypeDefNames.get(typeName);
 
             if (typeDef == null)
             {
-                AttributeTypeDef  attributeTypeDef = knownAttributeTypeDefNames.get(typeName);
+                AttributeTypeDef  attributeTypeDef = typeDefCache.knownAttributeTypeDefNames.get(typeName);
 
                 if (attributeTypeDef == null)
                 {
@@ -1723,12 +1746,12 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (typeGUID != null)
         {
-            if (knownTypeDefGUIDs.get(typeGUID) != null)
+            if (typeDefCache.knownTypeDefGUIDs.get(typeGUID) != null)
             {
                 return true;
             }
 
-            return knownAttributeTypeDefGUIDs.get(typeGUID) != null;
+            return typeDefCache.knownAttributeTypeDefGUIDs.get(typeGUID) != null;
         }
 
         return false;
@@ -1747,11 +1770,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (this.validTypeId(sourceName, typeGUID, typeName))
         {
-            TypeDef  typeDef = activeTypeDefNames.get(typeName);
+            TypeDef  typeDef = typeDefCache.activeTypeDefNames.get(typeName);
 
             if (typeDef == null)
             {
-                AttributeTypeDef  attributeTypeDef = activeAttributeTypeDefNames.get(typeName);
+                AttributeTypeDef  attributeTypeDef = typeDefCache.activeAttributeTypeDefNames.get(typeName);
 
                 if (attributeTypeDef == null)
                 {
@@ -1788,12 +1811,12 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (typeGUID != null)
         {
-            if (activeTypeDefGUIDs.get(typeGUID) != null)
+            if (typeDefCache.activeTypeDefGUIDs.get(typeGUID) != null)
             {
                 return true;
             }
 
-            return activeAttributeTypeDefGUIDs.get(typeGUID) != null;
+            return typeDefCache.activeAttributeTypeDefGUIDs.get(typeGUID) != null;
         }
 
         return false;
@@ -1830,7 +1853,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return false;
         }
 
-        TypeDef typeDef = knownTypeDefNames.get(typeName);
+        TypeDef typeDef = typeDefCache.knownTypeDefNames.get(typeName);
 
         if (typeDef != null)
         {
@@ -1853,7 +1876,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             /*
              * This TypeDef is unknown so see if it is an AttributeTypeDef
              */
-            AttributeTypeDef   attributeTypeDef = knownAttributeTypeDefNames.get(typeName);
+            AttributeTypeDef   attributeTypeDef = typeDefCache.knownAttributeTypeDefNames.get(typeName);
 
             if (attributeTypeDef == null)
             {
@@ -2031,7 +2054,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return false;
         }
 
-        TypeDef typeDef = knownTypeDefNames.get(typeDefName);
+        TypeDef typeDef = typeDefCache.knownTypeDefNames.get(typeDefName);
 
         if (typeDef != null)
         {
@@ -2196,7 +2219,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return false;
         }
 
-        AttributeTypeDef          attributeTypeDef = knownAttributeTypeDefNames.get(attributeTypeDefName);
+        AttributeTypeDef          attributeTypeDef = typeDefCache.knownAttributeTypeDefNames.get(attributeTypeDefName);
 
         if (attributeTypeDef != null)
         {
@@ -2239,7 +2262,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return false;
         }
 
-        TypeDef   typeDef = knownTypeDefNames.get(typeDefName);
+        TypeDef   typeDef = typeDefCache.knownTypeDefNames.get(typeDefName);
 
         if (typeDef == null)
         {
@@ -2284,7 +2307,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return false;
         }
 
-        AttributeTypeDef   attributeTypeDef = knownAttributeTypeDefNames.get(attributeTypeDefName);
+        AttributeTypeDef   attributeTypeDef = typeDefCache.knownAttributeTypeDefNames.get(attributeTypeDefName);
 
         if (attributeTypeDef == null)
         {
@@ -2626,7 +2649,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
             if (metadataCollection != null)
             {
-                TypeDef currentTypeDef = activeTypeDefNames.get(typeDef.getName());
+                TypeDef currentTypeDef = typeDefCache.activeTypeDefNames.get(typeDef.getName());
 
                 /*
                  * If we have already processed this type then the incoming event is an obsolete one.
@@ -2747,7 +2770,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                                                                        localRepositoryConnector.getOrganizationName(),
                                                                        typeDef,
                                                                        originatorMetadataCollectionId,
-                                                                       knownTypeDefNames.get(typeDef.getName()),
+                                                                       typeDefCache.knownTypeDefNames.get(typeDef.getName()),
                                                                        error.getReportedErrorMessage());
         }
         catch (InvalidTypeDefException error)
@@ -2837,8 +2860,6 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                      */
                     this.cacheAttributeTypeDef(sourceName, attributeTypeDef, true);
 
-                    activeAttributeTypeDefNames.put(attributeTypeDef.getName(), attributeTypeDef);
-
                     auditLog.logMessage(actionDescription,
                                         OMRSAuditCode.NEW_TYPE_ADDED.getMessageDefinition(attributeTypeDef.getName(),
                                                                                           attributeTypeDef.getGUID(),
@@ -2929,7 +2950,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                                                                                 localRepositoryConnector.getOrganizationName(),
                                                                                 attributeTypeDef,
                                                                                 originatorMetadataCollectionId,
-                                                                                knownAttributeTypeDefNames.get(
+                                                                                typeDefCache.knownAttributeTypeDefNames.get(
                                                                                         attributeTypeDef.getName()),
                                                                                 null);
         }
@@ -3009,7 +3030,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 /*
                  * There is a valid local repository
                  */
-                TypeDef currentTypeDef = activeTypeDefNames.get(typeDefPatch.getTypeDefName());
+                TypeDef currentTypeDef = typeDefCache.activeTypeDefNames.get(typeDefPatch.getTypeDefName());
 
                 if (currentTypeDef != null)
                 {
@@ -3660,12 +3681,19 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param metadataCollectionId unique identifier (guid) for the metadata collection.
      * @param metadataCollectionName display name for the metadata collection (can be null).
      */
-    synchronized void registerMetadataCollection(String    metadataCollectionId,
-                                                 String    metadataCollectionName)
+    void registerMetadataCollection(String    metadataCollectionId,
+                                    String    metadataCollectionName)
     {
         if (metadataCollectionId != null)
         {
-            metadataCollectionNames.put(metadataCollectionId, metadataCollectionName);
+            if (metadataCollectionName != null)
+            {
+                metadataCollectionNames.put(metadataCollectionId, metadataCollectionName);
+            }
+            else
+            {
+                metadataCollectionNames.remove(metadataCollectionId);
+            }
         }
     }
 
@@ -3676,7 +3704,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param metadataCollectionId unique identifier (guid) for the metadata collection.
      * @return display name
      */
-    public synchronized String getMetadataCollectionName(String    metadataCollectionId)
+    public String getMetadataCollectionName(String    metadataCollectionId)
     {
         if (metadataCollectionId != null)
         {
@@ -3712,4 +3740,65 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                                           this.getClass().getName(),
                                           localMethodName);
     }
+
+
+    /**
+     * TypeDefCache is a snapshot of the known and active types.  Once a snapshot is published it is not changed
+     * (apart from the instance types that are created lazily from its TypeDefs).  Instead, a writer copies it,
+     * updates the copy and publishes the copy in place of the original.
+     */
+    private static class TypeDefCache
+    {
+        private final long                           version;
+        private final Map<String, TypeDef>           knownTypeDefGUIDs;
+        private final Map<String, TypeDef>           knownTypeDefNames;
+        private final Map<String, AttributeTypeDef>  knownAttributeTypeDefGUIDs;
+        private final Map<String, AttributeTypeDef>  knownAttributeTypeDefNames;
+        private final Map<String, TypeDef>           activeTypeDefGUIDs;
+        private final Map<String, TypeDef>           activeTypeDefNames;
+        private final Map<String, AttributeTypeDef>  activeAttributeTypeDefGUIDs;
+        private final Map<String, AttributeTypeDef>  activeAttributeTypeDefNames;
+        private final Map<String, Set<String>>       knownPropertyToTypeDefNames;
+        private final Map<String, InstanceType>      knownInstanceTypes           = new ConcurrentHashMap<>();
+
+
+        /**
+         * Constructor for an empty cache.
+         */
+        TypeDefCache()
+        {
+            this.version                     = 0;
+            this.knownTypeDefGUIDs           = new HashMap<>();
+            this.knownTypeDefNames           = new HashMap<>();
+            this.knownAttributeTypeDefGUIDs  = new HashMap<>();
+            this.knownAttributeTypeDefNames  = new HashMap<>();
+            this.activeTypeDefGUIDs          = new HashMap<>();
+            this.activeTypeDefNames          = new HashMap<>();
+            this.activeAttributeTypeDefGUIDs = new HashMap<>();
+            this.activeAttributeTypeDefNames = new HashMap<>();
+            this.knownPropertyToTypeDefNames = new HashMap<>();
+        }
+
+
+        /**
+         * Copy constructor.  The sets in the property lookup are shared with the template, so they must be
+         * replaced rather than updated.  The instance types are not copied since they may depend on the TypeDefs
+         * that are about to change.
+         *
+         * @param template snapshot to copy
+         */
+        TypeDefCache(TypeDefCache template)
+        {
+            this.version                     = template.version + 1;
+            this.knownTypeDefGUIDs           = new HashMap<>(template.knownTypeDefGUIDs);
+            this.knownTypeDefNames           = new HashMap<>(template.knownTypeDefNames);
+            this.knownAttributeTypeDefGUIDs  = new HashMap<>(template.knownAttributeTypeDefGUIDs);
+            this.knownAttributeTypeDefNames  = new HashMap<>(template.knownAttributeTypeDefNames);
+            this.activeTypeDefGUIDs          = new HashMap<>(template.activeTypeDefGUIDs);
+            this.activeTypeDefNames          = new HashMap<>(template.activeTypeDefNames);
+            this.activeAttributeTypeDefGUIDs = new HashMap<>(template.activeAttributeTypeDefGUIDs);
+            this.activeAttributeTypeDefNames = new HashMap<>(template.activeAttributeTypeDefNames);
+            this.knownPropertyToTypeDefNames = new HashMap<>(template.knownPropertyToTypeDefNames);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.openmetadata.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataProperty;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRegularExpressionMatcher;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.slf4j.Logger;
@@ -34,6 +35,8 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 {
     private static final Logger log = LoggerFactory.getLogger(OMRSRepositoryContentValidator.class);
 
+    private static final OMRSRegularExpressionMatcher regexMatcher = OMRSRegularExpressionMatcher.getSharedMatcher();
+
     private final OMRSRepositoryContentManager    repositoryContentManager;
 
 
@@ -3903,7 +3906,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                     if (matchValue != null)
                     {
-                        if (expectedValue.matches(matchValue))
+                        if (regexMatcher.matches(matchValue, expectedValue))
                         {
                             result = true;
                         }
@@ -4542,7 +4545,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             else
             {
                 String actualString = actualValue.valueAsString();
-                return actualString.matches(regExString);
+                return regexMatcher.matches(regExString, actualString);
             }
         }
         else
@@ -4841,7 +4844,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                             if (stringProperty != null)
                             {
-                                if (stringProperty.matches(searchCriteria))
+                                if (regexMatcher.matches(searchCriteria, stringProperty))
                                 {
                                     return true;
                                 }
@@ -4855,7 +4858,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         String  enumValue = enumPropertyValue.getSymbolicName();
                         if (enumValue != null)
                         {
-                            if (enumValue.matches(searchCriteria))
+                            if (regexMatcher.matches(searchCriteria, enumValue))
                             {
                                 return true;
                             }
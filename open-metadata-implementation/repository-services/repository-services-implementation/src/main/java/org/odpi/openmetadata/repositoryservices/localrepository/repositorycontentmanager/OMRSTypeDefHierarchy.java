@@ -0,0 +1,194 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OMRSTypeDefHierarchy is an immutable snapshot of the supertype/subtype relationships between the known TypeDefs.
+ * Each type is given a dense identifier and the set of its ancestors and descendants is held as a BitSet,
+ * so testing whether one type is a subtype of another is a single lookup and listing the subtypes of a type
+ * only touches the results.
+ * <br><br>
+ * The repository content manager builds a new snapshot whenever its TypeDefs change, and replaces the old one
+ * in a single assignment, so a caller always sees a consistent hierarchy.  A type whose chain of supertypes
+ * refers to an unknown type is left out of the snapshot.
+ */
+class OMRSTypeDefHierarchy
+{
+    private final long                    typeDefVersion;
+    private final Map<String, Integer>    typeIds        = new HashMap<>();
+    private final List<String>            typeNames      = new ArrayList<>();
+    private final List<List<TypeDefLink>> superTypes     = new ArrayList<>();
+    private final List<BitSet>            ancestors      = new ArrayList<>();
+    private final List<BitSet>            descendants    = new ArrayList<>();
+
+
+    /**
+     * Build the hierarchy from the known TypeDefs.
+     *
+     * @param typeDefVersion version of the TypeDef cache that this hierarchy reflects
+     * @param typeDefs known TypeDefs in the order that subtypes should be returned
+     * @param typeDefsByName known TypeDefs indexed by name
+     */
+    OMRSTypeDefHierarchy(long                 typeDefVersion,
+                         Collection<TypeDef>  typeDefs,
+                         Map<String, TypeDef> typeDefsByName)
+    {
+        this.typeDefVersion = typeDefVersion;
+
+        /*
+         * Allocate the dense identifiers.
+         */
+        for (TypeDef typeDef : typeDefs)
+        {
+            if ((typeDef != null) && (typeDef.getName() != null) && (! typeIds.containsKey(typeDef.getName())))
+            {
+                typeIds.put(typeDef.getName(), typeNames.size());
+                typeNames.add(typeDef.getName());
+                superTypes.add(null);
+                ancestors.add(new BitSet());
+                descendants.add(new BitSet());
+            }
+        }
+
+        /*
+         * Walk the supertype chain of each type.  The chain is limited to the number of types to guard against
+         * a loop in the TypeDefs.
+         */
+        for (int typeId = 0; typeId < typeNames.size(); typeId++)
+        {
+            TypeDef           typeDef        = typeDefsByName.get(typeNames.get(typeId));
+            List<TypeDefLink> typeHierarchy  = new ArrayList<>();
+            BitSet            typeAncestors  = ancestors.get(typeId);
+            boolean           isResolved     = (typeDef != null);
+            TypeDefLink       superTypeLink  = (typeDef == null) ? null : typeDef.getSuperType();
+
+            while ((isResolved) && (superTypeLink != null))
+            {
+                Integer superTypeId  = typeIds.get(superTypeLink.getName());
+                TypeDef superTypeDef = typeDefsByName.get(superTypeLink.getName());
+
+                if ((superTypeId == null) || (superTypeDef == null) || (typeHierarchy.size() >= typeNames.size()))
+                {
+                    isResolved = false;
+                }
+                else
+                {
+                    typeHierarchy.add(superTypeLink);
+                    typeAncestors.set(superTypeId);
+
+                    superTypeLink = superTypeDef.getSuperType();
+                }
+            }
+
+            if (isResolved)
+            {
+                superTypes.set(typeId, typeHierarchy);
+
+                for (int ancestorId = typeAncestors.nextSetBit(0); ancestorId >= 0; ancestorId = typeAncestors.nextSetBit(ancestorId + 1))
+                {
+                    descendants.get(ancestorId).set(typeId);
+                }
+            }
+            else
+            {
+                typeAncestors.clear();
+            }
+        }
+    }
+
+
+    /**
+     * Return the version of the TypeDef cache that this hierarchy reflects.
+     *
+     * @return version number
+     */
+    long getTypeDefVersion()
+    {
+        return typeDefVersion;
+    }
+
+
+    /**
+     * Return the supertypes of a type, starting with its immediate supertype.
+     *
+     * @param typeName name of the type
+     * @return list of supertype links (empty if the type is top-level) or null if the type, or one of its
+     * supertypes, is not known
+     */
+    List<TypeDefLink> getSuperTypes(String typeName)
+    {
+        Integer typeId = typeIds.get(typeName);
+
+        if (typeId == null)
+        {
+            return null;
+        }
+
+        return superTypes.get(typeId);
+    }
+
+
+    /**
+     * Return whether one type is the same as, or a subtype of, another.
+     *
+     * @param actualTypeName name of the type to test
+     * @param expectedTypeName name of the type it should be
+     * @return boolean result
+     */
+    boolean isTypeOf(String actualTypeName,
+                     String expectedTypeName)
+    {
+        if (actualTypeName.equals(expectedTypeName))
+        {
+            return true;
+        }
+
+        Integer actualTypeId   = typeIds.get(actualTypeName);
+        Integer expectedTypeId = typeIds.get(expectedTypeName);
+
+        return (actualTypeId != null) && (expectedTypeId != null) && (ancestors.get(actualTypeId).get(expectedTypeId));
+    }
+
+
+    /**
+     * Return the names of all the subtypes of a type.
+     *
+     * @param superTypeName name of the super type - this value is not included in the result
+     * @return list of type names (a null means the type is not known, or it has no subtypes)
+     */
+    List<String> getSubTypeNames(String superTypeName)
+    {
+        Integer superTypeId = typeIds.get(superTypeName);
+
+        if (superTypeId == null)
+        {
+            return null;
+        }
+
+        BitSet typeDescendants = descendants.get(superTypeId);
+
+        if (typeDescendants.isEmpty())
+        {
+            return null;
+        }
+
+        List<String> subTypeNames = new ArrayList<>(typeDescendants.cardinality());
+
+        for (int typeId = typeDescendants.nextSetBit(0); typeId >= 0; typeId = typeDescendants.nextSetBit(typeId + 1))
+        {
+            subTypeNames.add(typeNames.get(typeId));
+        }
+
+        return subTypeNames;
+    }
+}
@@ -0,0 +1,285 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the merging of member results in {@link QueryInstanceAccumulatorBase}
+ */
+public class QueryInstanceAccumulatorBaseTest
+{
+    private static final String memberOne = "member1";
+    private static final String memberTwo = "member2";
+
+    private static final Comparator<EntityDetail> guidOrder = Comparator.comparing(EntityDetail::getGUID);
+
+
+    /**
+     * Return entities with the requested unique identifiers, in the order supplied.
+     *
+     * @param guids unique identifiers
+     * @return list of entities
+     */
+    private List<EntityDetail> getEntities(String... guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the results of two members.
+     *
+     * @param memberOneResults results from the first member
+     * @param memberTwoResults results from the second member
+     * @return map of metadata collection id to results
+     */
+    private Map<String, List<EntityDetail>> getMemberResults(List<EntityDetail> memberOneResults,
+                                                             List<EntityDetail> memberTwoResults)
+    {
+        Map<String, List<EntityDetail>> memberResults = new LinkedHashMap<>();
+
+        memberResults.put(memberOne, memberOneResults);
+        memberResults.put(memberTwo, memberTwoResults);
+
+        return memberResults;
+    }
+
+
+    @Test
+    public void testInterleavedMemberResults()
+    {
+        QueryInstanceAccumulatorBase accumulator            = new QueryInstanceAccumulatorBase(null, null, null);
+        Map<String, Integer>         memberStartingElements = new HashMap<>();
+
+        List<String> page = accumulator.mergeMemberResults(getMemberResults(getEntities("g01", "g03", "g05"),
+                                                                            getEntities("g02", "g04", "g06")),
+                                                           guidOrder,
+                                                           4,
+                                                           memberStartingElements,
+                                                           null);
+
+        Assert.assertEquals(page, List.of("g01", "g02", "g03", "g04"));
+        Assert.assertEquals(memberStartingElements.get(memberOne), Integer.valueOf(2));
+        Assert.assertEquals(memberStartingElements.get(memberTwo), Integer.valueOf(2));
+    }
+
+
+    @Test
+    public void testDuplicateGUIDsAcrossMembers()
+    {
+        QueryInstanceAccumulatorBase accumulator            = new QueryInstanceAccumulatorBase(null, null, null);
+        Map<String, Integer>         memberStartingElements = new HashMap<>();
+
+        List<String> page = accumulator.mergeMemberResults(getMemberResults(getEntities("g01", "g02", "g03"),
+                                                                            getEntities("g02", "g03", "g04")),
+                                                           guidOrder,
+                                                           10,
+                                                           memberStartingElements,
+                                                           null);
+
+        /*
+         * Each copy is consumed from its member, but only appears once in the page.
+         */
+        Assert.assertEquals(page, List.of("g01", "g02", "g03", "g04"));
+        Assert.assertEquals(memberStartingElements.get(memberOne), Integer.valueOf(3));
+        Assert.assertEquals(memberStartingElements.get(memberTwo), Integer.valueOf(3));
+    }
+
+
+    @Test
+    public void testDuplicateGUIDsAtEndOfPage()
+    {
+        QueryInstanceAccumulatorBase accumulator            = new QueryInstanceAccumulatorBase(null, null, null);
+        Map<String, Integer>         memberStartingElements = new HashMap<>();
+
+        List<String> page = accumulator.mergeMemberResults(getMemberResults(getEntities("g01", "g02", "g03"),
+                                                                            getEntities("g02", "g03", "g04")),
+                                                           guidOrder,
+                                                           3,
+                                                           memberStartingElements,
+                                                           null);
+
+        /*
+         * The second copy of the last instance in the page is consumed so the next page starts with g04.
+         */
+        Assert.assertEquals(page, List.of("g01", "g02", "g03"));
+        Assert.assertEquals(memberStartingElements.get(memberOne), Integer.valueOf(3));
+        Assert.assertEquals(memberStartingElements.get(memberTwo), Integer.valueOf(2));
+    }
+
+
+    @Test
+    public void testMoreResultsRequestedToFillPage()
+    {
+        List<EntityDetail> memberOneInstances = getEntities("g01", "g01", "g02", "g04", "g05");
+
+        final int pageSize = 3;
+
+        /*
+         * The first member returned a duplicate so its full page only holds two unique instances.
+         */
+        Map<String, List<EntityDetail>> memberResults = getMemberResults(getMemberPage(memberOneInstances, 0, pageSize),
+                                                                         getEntities("g01", "g03"));
+        List<String>                    requests      = new ArrayList<>();
+
+        QueryInstanceAccumulatorBase accumulator            = new QueryInstanceAccumulatorBase(null, null, null);
+        Map<String, Integer>         memberStartingElements = new HashMap<>();
+
+        List<String> page = accumulator.mergeMemberResults(memberResults,
+                                                           guidOrder,
+                                                           pageSize,
+                                                           memberStartingElements,
+                                                           (metadataCollectionId, resultsReceived) ->
+                                                           {
+                                                               requests.add(metadataCollectionId + ":" + resultsReceived);
+                                                               memberResults.get(metadataCollectionId).addAll(getMemberPage(memberOneInstances,
+                                                                                                                            resultsReceived,
+                                                                                                                            pageSize));
+                                                           });
+
+        Assert.assertEquals(page, List.of("g01", "g02", "g03"));
+        Assert.assertEquals(requests, List.of(memberOne + ":3"));
+        Assert.assertEquals(memberStartingElements.get(memberOne), Integer.valueOf(3));
+        Assert.assertEquals(memberStartingElements.get(memberTwo), Integer.valueOf(2));
+
+        /*
+         * Without a requester, the page stops where the first member's results run out.
+         */
+        memberStartingElements.clear();
+
+        page = accumulator.mergeMemberResults(getMemberResults(getMemberPage(memberOneInstances, 0, pageSize),
+                                                               getEntities("g01", "g03")),
+                                              guidOrder,
+                                              pageSize,
+                                              memberStartingElements,
+                                              null);
+
+        Assert.assertEquals(page, List.of("g01", "g02"));
+    }
+
+
+    @Test
+    public void testMemberRunsOutEarly()
+    {
+        QueryInstanceAccumulatorBase accumulator            = new QueryInstanceAccumulatorBase(null, null, null);
+        Map<String, Integer>         memberStartingElements = new HashMap<>();
+
+        /*
+         * The second member returned less than a page, so it has no more results and the merge continues without it.
+         */
+        List<String> page = accumulator.mergeMemberResults(getMemberResults(getEntities("g01", "g05", "g06", "g07"),
+                                                                            getEntities("g02")),
+                                                           guidOrder,
+                                                           4,
+                                                           memberStartingElements,
+                                                           null);
+
+        Assert.assertEquals(page, List.of("g01", "g02", "g05", "g06"));
+        Assert.assertEquals(memberStartingElements.get(memberOne), Integer.valueOf(3));
+        Assert.assertEquals(memberStartingElements.get(memberTwo), Integer.valueOf(1));
+    }
+
+
+    @Test
+    public void testEmptyAndMissingMemberResults()
+    {
+        QueryInstanceAccumulatorBase accumulator            = new QueryInstanceAccumulatorBase(null, null, null);
+        Map<String, Integer>         memberStartingElements = new HashMap<>();
+
+        List<String> page = accumulator.mergeMemberResults(getMemberResults(getEntities(), null),
+                                                           guidOrder,
+                                                           4,
+                                                           memberStartingElements,
+                                                           null);
+
+        Assert.assertTrue(page.isEmpty());
+        Assert.assertTrue(memberStartingElements.isEmpty());
+    }
+
+
+    @Test
+    public void testPagingAcrossCalls()
+    {
+        QueryInstanceAccumulatorBase accumulator = new QueryInstanceAccumulatorBase(null, null, null);
+
+        List<EntityDetail> memberOneInstances = getEntities("g01", "g03", "g04", "g07", "g09");
+        List<EntityDetail> memberTwoInstances = getEntities("g02", "g04", "g05", "g06", "g08", "g10");
+
+        final int pageSize = 3;
+
+        Map<String, Integer> memberStartingElements = new HashMap<>();
+        List<String>         allResults             = new ArrayList<>();
+        int                  pageCount              = 0;
+
+        while (pageCount < 10)
+        {
+            /*
+             * Each member returns a page of results from its own starting element.
+             */
+            List<EntityDetail> memberOneResults = getMemberPage(memberOneInstances, memberStartingElements.getOrDefault(memberOne, 0), pageSize);
+            List<EntityDetail> memberTwoResults = getMemberPage(memberTwoInstances, memberStartingElements.getOrDefault(memberTwo, 0), pageSize);
+
+            List<String> page = accumulator.mergeMemberResults(getMemberResults(memberOneResults, memberTwoResults),
+                                                               guidOrder,
+                                                               pageSize,
+                                                               memberStartingElements,
+                                                           null);
+
+            if (page.isEmpty())
+            {
+                break;
+            }
+
+            Assert.assertTrue(page.size() <= pageSize);
+
+            allResults.addAll(page);
+            pageCount++;
+        }
+
+        Assert.assertEquals(allResults, List.of("g01", "g02", "g03", "g04", "g05", "g06", "g07", "g08", "g09", "g10"));
+        Assert.assertEquals(pageCount, 4);
+        Assert.assertEquals(memberStartingElements.get(memberOne), Integer.valueOf(memberOneInstances.size()));
+        Assert.assertEquals(memberStartingElements.get(memberTwo), Integer.valueOf(memberTwoInstances.size()));
+    }
+
+
+    /**
+     * Return the page of a member's results that starts at the requested element.
+     *
+     * @param instances all the member's instances in order
+     * @param startingElement first element to return
+     * @param pageSize maximum number of elements to return
+     * @return page of results
+     */
+    private List<EntityDetail> getMemberPage(List<EntityDetail> instances,
+                                             int                startingElement,
+                                             int                pageSize)
+    {
+        if (startingElement >= instances.size())
+        {
+            return new ArrayList<>();
+        }
+
+        return new ArrayList<>(instances.subList(startingElement, Math.min(startingElement + pageSize, instances.size())));
+    }
+}
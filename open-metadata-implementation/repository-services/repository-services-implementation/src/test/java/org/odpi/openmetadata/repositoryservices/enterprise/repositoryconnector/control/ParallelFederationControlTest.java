@@ -0,0 +1,467 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for {@link ParallelFederationControl}
+ */
+public class ParallelFederationControlTest
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "testMethod";
+
+    private static final long shortDelay = 200L;
+    private static final long longDelay  = 30000L;
+
+
+    /**
+     * Behaviour of a cohort member when it is called.
+     */
+    private enum MemberBehaviour
+    {
+        /**
+         * Return saying the results are complete once the hanging members have started.
+         */
+        COMPLETE,
+
+        /**
+         * Return after a short delay saying more results are needed.
+         */
+        SLOW,
+
+        /**
+         * Block until interrupted.
+         */
+        HANG
+    }
+
+
+    /**
+     * Executor that behaves differently for each cohort member and records what happened to each call.
+     */
+    private static class TestExecutor implements RepositoryExecutor
+    {
+        private final Map<String, MemberBehaviour> behaviours = new ConcurrentHashMap<>();
+        private final Map<String, String>          outcomes   = new ConcurrentHashMap<>();
+        private final Map<String, Thread>          threads    = new ConcurrentHashMap<>();
+        private final CountDownLatch               hangsStarted;
+        private final CountDownLatch               hangsEnded;
+
+
+        /**
+         * Constructor
+         *
+         * @param behaviours behaviour of each cohort member
+         */
+        TestExecutor(Map<String, MemberBehaviour> behaviours)
+        {
+            int hangCount = 0;
+
+            for (MemberBehaviour behaviour : behaviours.values())
+            {
+                if (behaviour == MemberBehaviour.HANG)
+                {
+                    hangCount++;
+                }
+            }
+
+            this.behaviours.putAll(behaviours);
+            this.hangsStarted = new CountDownLatch(hangCount);
+            this.hangsEnded   = new CountDownLatch(hangCount);
+        }
+
+
+        /**
+         * Perform the behaviour requested for the cohort member.
+         *
+         * @param metadataCollectionId identifier for the metadata collection
+         * @param metadataCollection metadata collection object for the repository
+         * @return boolean true means that the required results have been achieved
+         */
+        @Override
+        public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                                OMRSMetadataCollection metadataCollection)
+        {
+            MemberBehaviour behaviour = behaviours.get(metadataCollectionId);
+
+            threads.put(metadataCollectionId, Thread.currentThread());
+
+            try
+            {
+                switch (behaviour)
+                {
+                    case COMPLETE:
+                        hangsStarted.await(longDelay, TimeUnit.MILLISECONDS);
+                        outcomes.put(metadataCollectionId, "complete");
+                        return true;
+
+                    case SLOW:
+                        Thread.sleep(shortDelay);
+                        outcomes.put(metadataCollectionId, "complete");
+                        return false;
+
+                    default:
+                        hangsStarted.countDown();
+                        Thread.sleep(longDelay);
+                        outcomes.put(metadataCollectionId, "complete");
+                        return false;
+                }
+            }
+            catch (InterruptedException interrupted)
+            {
+                outcomes.put(metadataCollectionId, "interrupted");
+                return false;
+            }
+            finally
+            {
+                if (behaviour == MemberBehaviour.HANG)
+                {
+                    hangsEnded.countDown();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Audit log destination that saves the message identifiers of the log records.
+     */
+    private static class TestAuditLogDestination extends AuditLogDestination
+    {
+        private final List<String> messageIds = new ArrayList<>();
+
+
+        /**
+         * Constructor
+         */
+        TestAuditLogDestination()
+        {
+            super(null);
+        }
+
+
+        /**
+         * Save the message identifier.
+         *
+         * @param logRecord log record
+         */
+        @Override
+        public synchronized void addLogRecord(AuditLogRecord logRecord)
+        {
+            messageIds.add(logRecord.getMessageId());
+        }
+
+
+        /**
+         * Return the number of records with the requested message identifier.
+         *
+         * @param messageId message identifier
+         * @return count
+         */
+        synchronized int getMessageCount(String messageId)
+        {
+            int count = 0;
+
+            for (String loggedMessageId : messageIds)
+            {
+                if (messageId.equals(loggedMessageId))
+                {
+                    count++;
+                }
+            }
+
+            return count;
+        }
+    }
+
+
+    /**
+     * Return a connector to a cohort member.  The metadata collection id is the same as the repository name.
+     *
+     * @param memberName name of the cohort member
+     * @return connector
+     */
+    private OMRSRepositoryConnector getCohortConnector(String memberName)
+    {
+        OMRSMetadataCollection memberMetadataCollection = new OMRSMetadataCollectionBase(null, memberName, null, null, memberName)
+        {
+            @Override
+            public String getMetadataCollectionId(String userId)
+            {
+                return memberName;
+            }
+        };
+
+        OMRSRepositoryConnector cohortConnector = new OMRSRepositoryConnector()
+        {
+            @Override
+            public OMRSMetadataCollection getMetadataCollection()
+            {
+                return memberMetadataCollection;
+            }
+        };
+
+        cohortConnector.setRepositoryName(memberName);
+
+        return cohortConnector;
+    }
+
+
+    /**
+     * Return the connectors for the cohort members.
+     *
+     * @param memberNames names of the cohort members
+     * @return list of connectors
+     */
+    private List<OMRSRepositoryConnector> getCohortConnectors(String... memberNames)
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        for (String memberName : memberNames)
+        {
+            cohortConnectors.add(getCohortConnector(memberName));
+        }
+
+        return cohortConnectors;
+    }
+
+
+    @Test
+    public void testStopWhenCompleteCancelsOtherMembers() throws Exception
+    {
+        ExecutorService federationExecutor = ParallelFederationControl.createFederationExecutor("testServer", 3, false);
+
+        try
+        {
+            TestExecutor executor = new TestExecutor(Map.of("member1", MemberBehaviour.HANG,
+                                                            "member2", MemberBehaviour.HANG,
+                                                            "member3", MemberBehaviour.COMPLETE));
+
+            AuditLog auditLog = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+
+            /*
+             * No member timeout so only the complete result can end the request early.
+             */
+            ParallelFederationControl control = new ParallelFederationControl(userId,
+                                                                              getCohortConnectors("member1", "member2", "member3"),
+                                                                              auditLog,
+                                                                              methodName,
+                                                                              federationExecutor,
+                                                                              0L);
+
+            long startTime = System.currentTimeMillis();
+
+            control.executeCommand(executor);
+
+            Assert.assertTrue(System.currentTimeMillis() - startTime < longDelay);
+            Assert.assertEquals(executor.outcomes.get("member3"), "complete");
+
+            Assert.assertTrue(executor.hangsEnded.await(longDelay, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(executor.outcomes.get("member1"), "interrupted");
+            Assert.assertEquals(executor.outcomes.get("member2"), "interrupted");
+        }
+        finally
+        {
+            federationExecutor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    public void testMemberTimeoutCancelsSlowMember() throws Exception
+    {
+        ExecutorService federationExecutor = ParallelFederationControl.createFederationExecutor("testServer", 2, false);
+
+        try
+        {
+            TestExecutor            executor    = new TestExecutor(Map.of("member1", MemberBehaviour.SLOW,
+                                                                          "member2", MemberBehaviour.HANG));
+            TestAuditLogDestination destination = new TestAuditLogDestination();
+            AuditLog                auditLog    = new AuditLog(destination, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+
+            ParallelFederationControl control = new ParallelFederationControl(userId,
+                                                                              getCohortConnectors("member1", "member2"),
+                                                                              auditLog,
+                                                                              methodName,
+                                                                              federationExecutor,
+                                                                              shortDelay * 3);
+
+            long startTime = System.currentTimeMillis();
+
+            control.executeCommand(executor);
+
+            Assert.assertTrue(System.currentTimeMillis() - startTime < longDelay);
+            Assert.assertTrue(executor.hangsEnded.await(longDelay, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(executor.outcomes.get("member1"), "complete");
+            Assert.assertEquals(executor.outcomes.get("member2"), "interrupted");
+
+            String timeoutMessageId = OMRSAuditCode.FEDERATED_REQUEST_TIMEOUT.getMessageDefinition("member2", methodName, "0").getMessageId();
+
+            Assert.assertEquals(destination.getMessageCount(timeoutMessageId), 1);
+        }
+        finally
+        {
+            federationExecutor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    public void testQueuedMembersUseTheirTimeout() throws Exception
+    {
+        /*
+         * A single worker thread means the members run one after another.  The timeout is measured from when
+         * the calls are submitted, so only the first member completes.
+         */
+        ExecutorService federationExecutor = ParallelFederationControl.createFederationExecutor("testServer", 1, false);
+
+        try
+        {
+            TestExecutor            executor    = new TestExecutor(Map.of("member1", MemberBehaviour.SLOW,
+                                                                          "member2", MemberBehaviour.SLOW,
+                                                                          "member3", MemberBehaviour.SLOW));
+            TestAuditLogDestination destination = new TestAuditLogDestination();
+            AuditLog                auditLog    = new AuditLog(destination, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+
+            ParallelFederationControl control = new ParallelFederationControl(userId,
+                                                                              getCohortConnectors("member1", "member2", "member3"),
+                                                                              auditLog,
+                                                                              methodName,
+                                                                              federationExecutor,
+                                                                              shortDelay * 3 / 2);
+
+            long startTime = System.currentTimeMillis();
+
+            control.executeCommand(executor);
+
+            Assert.assertTrue(System.currentTimeMillis() - startTime < shortDelay * 2);
+            Assert.assertEquals(executor.outcomes.get("member1"), "complete");
+            Assert.assertNotEquals(executor.outcomes.get("member2"), "complete");
+            Assert.assertNull(executor.outcomes.get("member3"));
+
+            String timeoutMessageId = OMRSAuditCode.FEDERATED_REQUEST_TIMEOUT.getMessageDefinition("member1", methodName, "0").getMessageId();
+
+            Assert.assertEquals(destination.getMessageCount(timeoutMessageId), 2);
+        }
+        finally
+        {
+            federationExecutor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    public void testRejectedCallRunsOnCallingThread() throws Exception
+    {
+        /*
+         * The executor service has one worker thread and no queue, so the second call is rejected while the
+         * first is running.
+         */
+        ExecutorService federationExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+
+        try
+        {
+            TestExecutor executor = new TestExecutor(Map.of("member1", MemberBehaviour.SLOW,
+                                                            "member2", MemberBehaviour.SLOW));
+            AuditLog     auditLog = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+
+            ParallelFederationControl control = new ParallelFederationControl(userId,
+                                                                              getCohortConnectors("member1", "member2"),
+                                                                              auditLog,
+                                                                              methodName,
+                                                                              federationExecutor,
+                                                                              0L);
+
+            control.executeCommand(executor);
+
+            Assert.assertEquals(executor.outcomes.get("member1"), "complete");
+            Assert.assertEquals(executor.outcomes.get("member2"), "complete");
+            Assert.assertNotEquals(executor.threads.get("member1"), Thread.currentThread());
+            Assert.assertEquals(executor.threads.get("member2"), Thread.currentThread());
+        }
+        finally
+        {
+            federationExecutor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    public void testInterruptedCallerCancelsMembers() throws Exception
+    {
+        ExecutorService federationExecutor = ParallelFederationControl.createFederationExecutor("testServer", 2, false);
+
+        try
+        {
+            TestExecutor executor = new TestExecutor(Map.of("member1", MemberBehaviour.HANG,
+                                                            "member2", MemberBehaviour.HANG));
+            AuditLog     auditLog = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+
+            ParallelFederationControl control = new ParallelFederationControl(userId,
+                                                                              getCohortConnectors("member1", "member2"),
+                                                                              auditLog,
+                                                                              methodName,
+                                                                              federationExecutor,
+                                                                              0L);
+
+            AtomicReference<Throwable> callerError       = new AtomicReference<>();
+            AtomicReference<Boolean>   callerInterrupted = new AtomicReference<>();
+
+            Thread caller = new Thread(() ->
+            {
+                try
+                {
+                    control.executeCommand(executor);
+                }
+                catch (Throwable error)
+                {
+                    callerError.set(error);
+                }
+
+                callerInterrupted.set(Thread.currentThread().isInterrupted());
+            });
+
+            caller.start();
+
+            Assert.assertTrue(executor.hangsStarted.await(longDelay, TimeUnit.MILLISECONDS));
+
+            caller.interrupt();
+            caller.join(longDelay);
+
+            Assert.assertFalse(caller.isAlive());
+            Assert.assertTrue(callerError.get() instanceof RepositoryErrorException);
+            Assert.assertEquals(callerInterrupted.get(), Boolean.TRUE);
+            Assert.assertTrue(executor.hangsEnded.await(longDelay, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(executor.outcomes.get("member1"), "interrupted");
+            Assert.assertEquals(executor.outcomes.get("member2"), "interrupted");
+        }
+        finally
+        {
+            federationExecutor.shutdownNow();
+        }
+    }
+}
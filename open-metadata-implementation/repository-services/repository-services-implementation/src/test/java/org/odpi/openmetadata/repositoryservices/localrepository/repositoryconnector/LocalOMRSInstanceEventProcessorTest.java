@@ -0,0 +1,665 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.openmetadata.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventPublisher;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test the bulk load of the instances from an open metadata archive through
+ * LocalOMRSInstanceEventProcessor.processArchiveInstances.
+ */
+public class LocalOMRSInstanceEventProcessorTest
+{
+    private static final String sourceName                = "unittest";
+    private static final String localMetadataCollectionId = "localMetadataCollectionId";
+    private static final String archiveGUID               = "archiveGUID";
+    private static final String archiveName               = "TestArchive";
+
+    private EntityDef       selectedEntityDef;
+    private EntityDef       otherEntityDef;
+    private RelationshipDef relationshipDef;
+
+    private OMRSRepositoryContentManager   contentManager;
+    private OMRSRepositoryContentHelper    repositoryHelper;
+    private OMRSRepositoryContentValidator repositoryValidator;
+    private TestMetadataCollection         metadataCollection;
+    private TestRepositoryConnector        repositoryConnector;
+    private TestEventPublisher             eventPublisher;
+    private TestAuditLogDestination        auditLogDestination;
+    private AuditLog                       auditLog;
+
+
+    /**
+     * Set up the types and a repository that stores the reference copies in memory.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        auditLogDestination = new TestAuditLogDestination();
+        auditLog = new AuditLog(auditLogDestination, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+        contentManager = new OMRSRepositoryContentManager("testserver", auditLog);
+
+        selectedEntityDef = new EntityDef();
+        this.setUpTypeDef(selectedEntityDef, "SelectedEntityType");
+
+        otherEntityDef = new EntityDef();
+        this.setUpTypeDef(otherEntityDef, "OtherEntityType");
+
+        relationshipDef = new RelationshipDef();
+        this.setUpTypeDef(relationshipDef, "TestRelationshipType");
+
+        repositoryHelper = new OMRSRepositoryContentHelper(contentManager);
+        repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+
+        repositoryConnector = new TestRepositoryConnector();
+        metadataCollection = new TestMetadataCollection(repositoryConnector, repositoryHelper, repositoryValidator);
+        repositoryConnector.setTestMetadataCollection(metadataCollection);
+
+        eventPublisher = new TestEventPublisher(auditLog);
+    }
+
+
+    /**
+     * A bad instance in a batch causes the batch to be saved one instance at a time.  Only the bad
+     * instance is rejected, and it is not shared with the cohort.
+     */
+    @Test
+    public void testBatchFallbackRejectsOnlyTheBadInstance()
+    {
+        LocalOMRSInstanceEventProcessor eventProcessor = this.getEventProcessor(OpenMetadataExchangeRule.ALL, null);
+        ArchiveInstanceLoadSummary      loadSummary    = new ArchiveInstanceLoadSummary();
+
+        List<EntityDetail> entities = new ArrayList<>();
+        entities.add(this.getEntity(selectedEntityDef, "goodEntity1", 1L, localMetadataCollectionId));
+        entities.add(this.getEntity(selectedEntityDef, "badEntity", 1L, localMetadataCollectionId));
+        entities.add(this.getEntity(selectedEntityDef, "goodEntity2", 1L, localMetadataCollectionId));
+
+        List<Relationship> relationships = new ArrayList<>();
+        relationships.add(this.getRelationship("goodRelationship", localMetadataCollectionId));
+        relationships.add(this.getRelationship("badRelationship", localMetadataCollectionId));
+
+        metadataCollection.rejectInstance("badEntity");
+        metadataCollection.rejectInstance("badRelationship");
+
+        eventProcessor.processArchiveInstances(sourceName,
+                                               archiveGUID,
+                                               archiveName,
+                                               null,
+                                               null,
+                                               entities,
+                                               relationships,
+                                               10,
+                                               loadSummary);
+
+        assertEquals(metadataCollection.storedEntities.keySet(), Set.of("goodEntity1", "goodEntity2"));
+        assertEquals(metadataCollection.storedRelationships.keySet(), Set.of("goodRelationship"));
+
+        /*
+         * One call for each batch and then one call for each instance in the failed batches.
+         */
+        assertEquals(metadataCollection.saveCount, 7);
+
+        assertEquals(eventPublisher.batchEvents.size(), 1);
+        assertEquals(this.getGUIDs(eventPublisher.batchEvents.get(0).getEntities()), Set.of("goodEntity1", "goodEntity2"));
+        assertEquals(this.getGUIDs(eventPublisher.batchEvents.get(0).getRelationships()), Set.of("goodRelationship"));
+
+        assertEquals(loadSummary.getSegmentCount(), 1);
+        assertEquals(loadSummary.getSavedEntityCount(), 2);
+        assertEquals(loadSummary.getSavedRelationshipCount(), 1);
+        assertEquals(loadSummary.getBatchCount(), 2);
+        assertEquals(loadSummary.getRejectedCount(), 2);
+        assertEquals(loadSummary.getSharedCount(), 3);
+        assertEquals(loadSummary.getBatchEventCount(), 1);
+    }
+
+
+    /**
+     * Instances that the exchange rule does not select are neither saved nor counted as rejected.
+     * An update to a stored instance is saved and counted as an update.
+     */
+    @Test
+    public void testExchangeRuleFiltering()
+    {
+        List<TypeDefSummary> selectedTypes = new ArrayList<>();
+        selectedTypes.add(selectedEntityDef);
+
+        LocalOMRSInstanceEventProcessor eventProcessor = this.getEventProcessor(OpenMetadataExchangeRule.SELECTED_TYPES, selectedTypes);
+        ArchiveInstanceLoadSummary      loadSummary    = new ArchiveInstanceLoadSummary();
+
+        EntityDetail storedEntity = this.getEntity(selectedEntityDef, "updatedEntity", 1L, null);
+        metadataCollection.storedEntities.put(storedEntity.getGUID(), storedEntity);
+
+        EntityDetail updatedEntity = this.getEntity(selectedEntityDef, "updatedEntity", 2L, null);
+        updatedEntity.setCreateTime(storedEntity.getCreateTime());
+
+        List<EntityDetail> entities = new ArrayList<>();
+        entities.add(this.getEntity(selectedEntityDef, "selectedEntity", 1L, null));
+        entities.add(this.getEntity(otherEntityDef, "otherEntity", 1L, null));
+        entities.add(updatedEntity);
+
+        List<Relationship> relationships = new ArrayList<>();
+        relationships.add(this.getRelationship("otherRelationship", null));
+
+        eventProcessor.processArchiveInstances(sourceName,
+                                               archiveGUID,
+                                               archiveName,
+                                               null,
+                                               null,
+                                               entities,
+                                               relationships,
+                                               10,
+                                               loadSummary);
+
+        assertEquals(metadataCollection.storedEntities.keySet(), Set.of("selectedEntity", "updatedEntity"));
+        assertEquals(metadataCollection.storedEntities.get("updatedEntity").getVersion(), 2L);
+        assertTrue(metadataCollection.storedRelationships.isEmpty());
+
+        /*
+         * None of the instances are replicated by the local repository.
+         */
+        assertTrue(eventPublisher.batchEvents.isEmpty());
+
+        assertEquals(loadSummary.getSegmentCount(), 1);
+        assertEquals(loadSummary.getSavedEntityCount(), 2);
+        assertEquals(loadSummary.getSavedRelationshipCount(), 0);
+        assertEquals(loadSummary.getUpdatedCount(), 1);
+        assertEquals(loadSummary.getBatchCount(), 1);
+        assertEquals(loadSummary.getRejectedCount(), 0);
+        assertEquals(loadSummary.getSharedCount(), 0);
+        assertEquals(loadSummary.getBatchEventCount(), 0);
+    }
+
+
+    /**
+     * Only the saved instances that the local repository replicates are shared with the cohort.
+     * The instances are saved in batches of the requested size.
+     */
+    @Test
+    public void testOnlySavedReplicatedInstancesAreShared()
+    {
+        LocalOMRSInstanceEventProcessor eventProcessor = this.getEventProcessor(OpenMetadataExchangeRule.ALL, null);
+        ArchiveInstanceLoadSummary      loadSummary    = new ArchiveInstanceLoadSummary();
+
+        List<EntityDetail> entities = new ArrayList<>();
+        entities.add(this.getEntity(selectedEntityDef, "replicatedEntity", 1L, localMetadataCollectionId));
+        entities.add(this.getEntity(selectedEntityDef, "otherReplicatorEntity", 1L, "otherMetadataCollectionId"));
+        entities.add(this.getEntity(selectedEntityDef, "notReplicatedEntity", 1L, null));
+        entities.add(this.getEntity(selectedEntityDef, "rejectedEntity", 1L, localMetadataCollectionId));
+
+        List<Relationship> relationships = new ArrayList<>();
+        relationships.add(this.getRelationship("replicatedRelationship", localMetadataCollectionId));
+        relationships.add(this.getRelationship("notReplicatedRelationship", null));
+
+        metadataCollection.rejectInstance("rejectedEntity");
+
+        eventProcessor.processArchiveInstances(sourceName,
+                                               archiveGUID,
+                                               archiveName,
+                                               null,
+                                               null,
+                                               entities,
+                                               relationships,
+                                               2,
+                                               loadSummary);
+
+        assertEquals(metadataCollection.storedEntities.size(), 3);
+        assertFalse(metadataCollection.storedEntities.containsKey("rejectedEntity"));
+        assertEquals(metadataCollection.storedRelationships.size(), 2);
+
+        assertEquals(eventPublisher.batchEvents.size(), 1);
+        assertEquals(this.getGUIDs(eventPublisher.batchEvents.get(0).getEntities()), Set.of("replicatedEntity"));
+        assertEquals(this.getGUIDs(eventPublisher.batchEvents.get(0).getRelationships()), Set.of("replicatedRelationship"));
+
+        assertEquals(loadSummary.getSegmentCount(), 1);
+        assertEquals(loadSummary.getBatchCount(), 3);
+        assertEquals(loadSummary.getRejectedCount(), 1);
+        assertEquals(loadSummary.getSharedCount(), 2);
+        assertEquals(loadSummary.getBatchEventCount(), 1);
+    }
+
+
+    /**
+     * A streamed archive is loaded one segment at a time with the same load summary.  The summary holds the
+     * totals for all the segments, and each segment with saved replicated instances sends its own batch event.
+     */
+    @Test
+    public void testSegmentCountsAreAccumulated()
+    {
+        LocalOMRSInstanceEventProcessor eventProcessor = this.getEventProcessor(OpenMetadataExchangeRule.ALL, null);
+        ArchiveInstanceLoadSummary      loadSummary    = new ArchiveInstanceLoadSummary();
+
+        metadataCollection.rejectInstance("rejectedEntity");
+
+        List<EntityDetail> firstSegmentEntities = new ArrayList<>();
+        firstSegmentEntities.add(this.getEntity(selectedEntityDef, "firstEntity", 1L, localMetadataCollectionId));
+        firstSegmentEntities.add(this.getEntity(selectedEntityDef, "rejectedEntity", 1L, localMetadataCollectionId));
+
+        eventProcessor.processArchiveInstances(sourceName,
+                                               archiveGUID,
+                                               archiveName,
+                                               null,
+                                               null,
+                                               firstSegmentEntities,
+                                               new ArrayList<>(),
+                                               10,
+                                               loadSummary);
+
+        List<EntityDetail> secondSegmentEntities = new ArrayList<>();
+        secondSegmentEntities.add(this.getEntity(selectedEntityDef, "secondEntity", 1L, localMetadataCollectionId));
+
+        List<Relationship> secondSegmentRelationships = new ArrayList<>();
+        secondSegmentRelationships.add(this.getRelationship("secondRelationship", null));
+
+        eventProcessor.processArchiveInstances(sourceName,
+                                               archiveGUID,
+                                               archiveName,
+                                               null,
+                                               null,
+                                               secondSegmentEntities,
+                                               secondSegmentRelationships,
+                                               10,
+                                               loadSummary);
+
+        assertEquals(metadataCollection.storedEntities.keySet(), Set.of("firstEntity", "secondEntity"));
+        assertEquals(metadataCollection.storedRelationships.keySet(), Set.of("secondRelationship"));
+
+        assertEquals(eventPublisher.batchEvents.size(), 2);
+        assertEquals(this.getGUIDs(eventPublisher.batchEvents.get(0).getEntities()), Set.of("firstEntity"));
+        assertEquals(this.getGUIDs(eventPublisher.batchEvents.get(1).getEntities()), Set.of("secondEntity"));
+
+        assertEquals(loadSummary.getSegmentCount(), 2);
+        assertEquals(loadSummary.getSavedEntityCount(), 2);
+        assertEquals(loadSummary.getSavedRelationshipCount(), 1);
+        assertEquals(loadSummary.getUpdatedCount(), 0);
+        assertEquals(loadSummary.getBatchCount(), 3);
+        assertEquals(loadSummary.getRejectedCount(), 1);
+        assertEquals(loadSummary.getSharedCount(), 2);
+        assertEquals(loadSummary.getBatchEventCount(), 2);
+    }
+
+
+    /**
+     * Create an event processor for the test repository.
+     *
+     * @param exchangeRule rule for selecting the instances to save
+     * @param selectedTypes types used by the rule
+     * @return event processor
+     */
+    private LocalOMRSInstanceEventProcessor getEventProcessor(OpenMetadataExchangeRule exchangeRule,
+                                                              List<TypeDefSummary>     selectedTypes)
+    {
+        OMRSRepositoryEventExchangeRule saveExchangeRule = new OMRSRepositoryEventExchangeRule(exchangeRule,
+                                                                                               selectedTypes,
+                                                                                               null,
+                                                                                               null,
+                                                                                               null,
+                                                                                               sourceName);
+
+        return new LocalOMRSInstanceEventProcessor(localMetadataCollectionId,
+                                                   "testserver",
+                                                   repositoryConnector,
+                                                   repositoryHelper,
+                                                   repositoryValidator,
+                                                   saveExchangeRule,
+                                                   false,
+                                                   eventPublisher,
+                                                   auditLog);
+    }
+
+
+    /**
+     * Fill out a type definition and add it to the active types.
+     *
+     * @param typeDef new type
+     * @param typeName name of the type
+     */
+    private void setUpTypeDef(TypeDef typeDef, String typeName)
+    {
+        typeDef.setName(typeName);
+        typeDef.setGUID(UUID.randomUUID().toString());
+        typeDef.setVersion(1);
+        typeDef.setVersionName("1.0");
+
+        contentManager.addTypeDef(sourceName, typeDef);
+    }
+
+
+    /**
+     * Fill out the header of an instance from the archive.
+     *
+     * @param instance instance to fill out
+     * @param typeDef type of the instance
+     * @param guid unique identifier of the instance
+     * @param version version of the instance
+     * @param replicatedBy metadata collection that replicates the instance
+     */
+    private void setUpInstanceHeader(InstanceHeader instance,
+                                     TypeDef        typeDef,
+                                     String         guid,
+                                     long           version,
+                                     String         replicatedBy)
+    {
+        instance.setType(new InstanceType(typeDef.getCategory(), typeDef.getGUID(), typeDef.getName(), typeDef.getVersion()));
+        instance.setGUID(guid);
+        instance.setVersion(version);
+        instance.setStatus(InstanceStatus.ACTIVE);
+        instance.setInstanceProvenanceType(InstanceProvenanceType.CONTENT_PACK);
+        instance.setMetadataCollectionId(archiveGUID);
+        instance.setMetadataCollectionName(archiveName);
+        instance.setReplicatedBy(replicatedBy);
+        instance.setCreatedBy(sourceName);
+        instance.setCreateTime(new Date());
+    }
+
+
+    /**
+     * Create an entity from the archive.
+     *
+     * @param entityDef type of the entity
+     * @param guid unique identifier of the entity
+     * @param version version of the entity
+     * @param replicatedBy metadata collection that replicates the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(EntityDef entityDef,
+                                   String    guid,
+                                   long      version,
+                                   String    replicatedBy)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        this.setUpInstanceHeader(entity, entityDef, guid, version, replicatedBy);
+
+        return entity;
+    }
+
+
+    /**
+     * Create a relationship from the archive.
+     *
+     * @param guid unique identifier of the relationship
+     * @param replicatedBy metadata collection that replicates the relationship
+     * @return relationship
+     */
+    private Relationship getRelationship(String guid,
+                                         String replicatedBy)
+    {
+        Relationship relationship = new Relationship();
+
+        this.setUpInstanceHeader(relationship, relationshipDef, guid, 1L, replicatedBy);
+
+        return relationship;
+    }
+
+
+    /**
+     * Return the unique identifiers of a list of instances.
+     *
+     * @param instances instances (may be null)
+     * @return set of unique identifiers
+     */
+    private Set<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        Set<String> guids = new HashSet<>();
+
+        if (instances != null)
+        {
+            for (InstanceHeader instance : instances)
+            {
+                guids.add(instance.getGUID());
+            }
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Repository connector that returns the test metadata collection.
+     */
+    private static class TestRepositoryConnector extends OMRSRepositoryConnector
+    {
+        /**
+         * Set up the metadata collection.
+         *
+         * @param metadataCollection test metadata collection
+         */
+        void setTestMetadataCollection(TestMetadataCollection metadataCollection)
+        {
+            super.metadataCollectionId = localMetadataCollectionId;
+            super.metadataCollection = metadataCollection;
+        }
+    }
+
+
+    /**
+     * Metadata collection that stores reference copies in maps.  A call to saveInstanceReferenceCopies
+     * fails if any of its instances are in the rejected list.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        final Map<String, EntityDetail> storedEntities      = new ConcurrentHashMap<>();
+        final Map<String, Relationship> storedRelationships = new ConcurrentHashMap<>();
+        final Set<String>               rejectedGUIDs       = new HashSet<>();
+        int                             saveCount           = 0;
+
+
+        /**
+         * Constructor.
+         *
+         * @param parentConnector connector that owns the collection
+         * @param repositoryHelper helper for building instances
+         * @param repositoryValidator validator for instances
+         */
+        TestMetadataCollection(OMRSRepositoryConnector        parentConnector,
+                               OMRSRepositoryContentHelper    repositoryHelper,
+                               OMRSRepositoryContentValidator repositoryValidator)
+        {
+            super(parentConnector, "TestRepository", repositoryHelper, repositoryValidator, localMetadataCollectionId);
+        }
+
+
+        /**
+         * Set up an instance that the repository will not store.
+         *
+         * @param guid unique identifier of the instance
+         */
+        void rejectInstance(String guid)
+        {
+            rejectedGUIDs.add(guid);
+        }
+
+
+        /**
+         * Return the stored entity.
+         *
+         * @param userId calling user
+         * @param guid unique identifier of the entity
+         * @return entity or null
+         */
+        @Override
+        public EntityDetail isEntityKnown(String userId,
+                                          String guid)
+        {
+            return storedEntities.get(guid);
+        }
+
+
+        /**
+         * Return the stored relationship.
+         *
+         * @param userId calling user
+         * @param guid unique identifier of the relationship
+         * @return relationship or null
+         */
+        @Override
+        public Relationship isRelationshipKnown(String userId,
+                                                String guid)
+        {
+            return storedRelationships.get(guid);
+        }
+
+
+        /**
+         * Store all the instances or none of them.
+         *
+         * @param userId calling user
+         * @param instances instances to save
+         * @throws InvalidParameterException one of the instances is in the rejected list
+         */
+        @Override
+        public synchronized void saveInstanceReferenceCopies(String        userId,
+                                                             InstanceGraph instances) throws InvalidParameterException
+        {
+            final String methodName = "saveInstanceReferenceCopies";
+
+            saveCount++;
+
+            List<EntityDetail> entities      = instances.getEntities() == null ? Collections.emptyList() : instances.getEntities();
+            List<Relationship> relationships = instances.getRelationships() == null ? Collections.emptyList() : instances.getRelationships();
+
+            for (InstanceHeader instance : entities)
+            {
+                this.validateInstance(instance, methodName);
+            }
+
+            for (InstanceHeader instance : relationships)
+            {
+                this.validateInstance(instance, methodName);
+            }
+
+            for (EntityDetail entity : entities)
+            {
+                storedEntities.put(entity.getGUID(), entity);
+            }
+
+            for (Relationship relationship : relationships)
+            {
+                storedRelationships.put(relationship.getGUID(), relationship);
+            }
+        }
+
+
+        /**
+         * Throw an exception if the instance is in the rejected list.
+         *
+         * @param instance instance to test
+         * @param methodName calling method
+         * @throws InvalidParameterException the instance is rejected
+         */
+        private void validateInstance(InstanceHeader instance,
+                                      String         methodName) throws InvalidParameterException
+        {
+            if (rejectedGUIDs.contains(instance.getGUID()))
+            {
+                throw new InvalidParameterException(OMRSErrorCode.NULL_REFERENCE_INSTANCE.getMessageDefinition(instance.getGUID(), methodName, "instances"),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    "instances");
+            }
+        }
+    }
+
+
+    /**
+     * Event publisher that captures the instance batch events rather than sending them.
+     */
+    private static class TestEventPublisher extends OMRSRepositoryEventPublisher
+    {
+        final List<InstanceGraph> batchEvents = new ArrayList<>();
+
+
+        /**
+         * Constructor.  The topic connectors are never called.
+         *
+         * @param auditLog audit log
+         */
+        TestEventPublisher(AuditLog auditLog)
+        {
+            super("TestCohort",
+                  Collections.singletonList((OMRSTopicConnector) null),
+                  Collections.singletonList((OMRSTopicConnector) null),
+                  auditLog);
+        }
+
+
+        /**
+         * Capture the instance batch events.
+         *
+         * @param sourceName name of caller
+         * @param instanceEvent properties of the event to send
+         */
+        @Override
+        public void sendInstanceEvent(String            sourceName,
+                                      OMRSInstanceEvent instanceEvent)
+        {
+            if (instanceEvent.getInstanceBatch() != null)
+            {
+                batchEvents.add(instanceEvent.getInstanceBatch());
+            }
+        }
+    }
+
+
+    /**
+     * Audit log destination that keeps the log records in memory.
+     */
+    private static class TestAuditLogDestination extends AuditLogDestination
+    {
+        private final List<AuditLogRecord> logRecords = Collections.synchronizedList(new ArrayList<>());
+
+
+        /**
+         * Save the log record.
+         *
+         * @param logRecord log record
+         */
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+            logRecords.add(logRecord);
+        }
+    }
+}
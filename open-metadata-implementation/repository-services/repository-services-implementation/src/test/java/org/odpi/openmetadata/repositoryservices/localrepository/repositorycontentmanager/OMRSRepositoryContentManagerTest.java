@@ -8,6 +8,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 import org.testng.annotations.Test;
 
@@ -16,6 +17,9 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 public class OMRSRepositoryContentManagerTest
 {
@@ -45,4 +49,63 @@ public class OMRSRepositoryContentManagerTest
         assertEquals(instanceType.getTypeDefName(), "EntityType1");
         assertEquals(instanceType.getTypeDefGUID(), entityDefGUID);
     }
+
+
+    private EntityDef getEntityDef(String name, EntityDef superType)
+    {
+        EntityDef entityDef = new EntityDef();
+        entityDef.setName(name);
+        entityDef.setVersion(1);
+        entityDef.setVersionName("1.0");
+        entityDef.setGUID(UUID.randomUUID().toString());
+
+        if (superType != null)
+        {
+            TypeDefLink superTypeLink = new TypeDefLink();
+            superTypeLink.setGUID(superType.getGUID());
+            superTypeLink.setName(superType.getName());
+            entityDef.setSuperType(superTypeLink);
+        }
+
+        return entityDef;
+    }
+
+
+    @Test
+    public void testTypeHierarchy()
+    {
+        AuditLog auditLog = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+        OMRSRepositoryContentManager testSubject = new OMRSRepositoryContentManager("testserver", auditLog);
+
+        EntityDef referenceable = getEntityDef("Referenceable", null);
+        EntityDef asset = getEntityDef("Asset", referenceable);
+        EntityDef dataFile = getEntityDef("DataFile", asset);
+
+        testSubject.addTypeDef("unittest", referenceable);
+        testSubject.addTypeDef("unittest", asset);
+        testSubject.addTypeDef("unittest", dataFile);
+
+        assertTrue(testSubject.isTypeOf("unittest", "DataFile", "Referenceable"));
+        assertTrue(testSubject.isTypeOf("unittest", "DataFile", "Asset"));
+        assertTrue(testSubject.isTypeOf("unittest", "Asset", "Asset"));
+        assertFalse(testSubject.isTypeOf("unittest", "Asset", "DataFile"));
+        assertTrue(testSubject.isTypeOfByGUID("unittest", dataFile.getGUID(), "DataFile", referenceable.getGUID()));
+
+        assertNull(testSubject.getSuperTypes("unittest", "Referenceable", "testTypeHierarchy"));
+        assertEquals(testSubject.getSuperTypes("unittest", "DataFile", "testTypeHierarchy").size(), 2);
+        assertEquals(testSubject.getSuperTypes("unittest", "DataFile", "testTypeHierarchy").get(0).getName(), "Asset");
+
+        assertEquals(testSubject.getSubTypesOf("Asset"), List.of("DataFile"));
+        assertNull(testSubject.getSubTypesOf("DataFile"));
+
+        /*
+         * The hierarchy reflects types added later.
+         */
+        EntityDef dataSet = getEntityDef("DataSet", asset);
+
+        testSubject.addTypeDef("unittest", dataSet);
+
+        assertTrue(testSubject.isTypeOf("unittest", "DataSet", "Referenceable"));
+        assertEquals(testSubject.getSubTypesOf("Referenceable").size(), 3);
+    }
 }
@@ -89,8 +89,7 @@ public class AssetCatalogRESTServices extends TokenController
      *
      * @param serverName name of the server instances for this request
      * @param assetGUID  unique identifier for the asset
-     * @param requestBody list of relationship type names to use in the search
-
+     * @param requestBody list of relationship type names to use in the search, plus the traversal budgets
      *
      * @return graph of elements or
      * InvalidParameterException - one of the parameters is null or invalid or
@@ -122,9 +121,7 @@ public class AssetCatalogRESTServices extends TokenController
             {
                 response.setElement(handler.getAssetLineageGraph(userId,
                                                                  assetGUID,
-                                                                 requestBody.getLimitToISCQualifiedName(),
                                                                  requestBody.getHighlightISCQualifiedName(),
-                                                                 requestBody.getAllAnchors(),
                                                                  requestBody));
             }
             else
@@ -37,7 +37,7 @@ public class OpenMetadataTypesArchiveAccessor
     {
         if (instance == null)
         {
-            instance = new OpenMetadataTypesArchiveAccessor(new OpenMetadataTypesArchive().getOpenMetadataArchive());
+            instance = new OpenMetadataTypesArchiveAccessor(OpenMetadataTypesSnapshot.getOpenMetadataArchive());
         }
 
         return instance;
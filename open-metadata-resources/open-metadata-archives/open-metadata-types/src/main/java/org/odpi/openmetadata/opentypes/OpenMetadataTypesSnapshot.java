@@ -0,0 +1,354 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * OpenMetadataTypesSnapshot provides the open metadata types archive from a serialized snapshot rather than
+ * building it in code each time it is needed.  The snapshot is written into the jar at build time by the
+ * main method of this class.  It is loaded once per JVM and each caller receives its own copy of the archive,
+ * since the servers that load the archive update the objects it contains.
+ * <br><br>
+ * The snapshot starts with a header holding the snapshot format version, the version of the open metadata
+ * types archive and a fingerprint of the name, GUID and version of each type in the archive.  When the snapshot
+ * is loaded, the archive is built in code once and its fingerprint must match both the header and the types
+ * in the snapshot.  If the snapshot is missing, or does not match, the archive built in code is used as the
+ * snapshot for the rest of the life of the JVM.
+ */
+public class OpenMetadataTypesSnapshot
+{
+    private static final Logger log = LoggerFactory.getLogger(OpenMetadataTypesSnapshot.class);
+
+    /**
+     * Name of the snapshot resource.  It is located in the same package as this class.
+     */
+    static final String snapshotResourceName = "OpenMetadataTypes.snapshot";
+
+    /**
+     * Version of the layout of the snapshot.  Change this if the header or encoding changes.
+     */
+    private static final int snapshotFormatVersion = 2;
+
+    private static volatile byte[] snapshot = null;
+
+
+    /**
+     * Return a copy of the open metadata types archive.
+     *
+     * @return populated open metadata archive object
+     */
+    public static OpenMetadataArchive getOpenMetadataArchive()
+    {
+        byte[] currentSnapshot = snapshot;
+
+        if (currentSnapshot == null)
+        {
+            return loadSnapshot();
+        }
+
+        try
+        {
+            return readSnapshot(currentSnapshot);
+        }
+        catch (IOException | ClassNotFoundException error)
+        {
+            /*
+             * The snapshot was validated when it was loaded, so this is unexpected.  The archive is still
+             * available from the code.
+             */
+            log.error("Unable to read the open metadata types snapshot; building the types in code", error);
+
+            return new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        }
+    }
+
+
+    /**
+     * Set up the snapshot for this JVM on first use.  The snapshot in the jar is used if it matches the archive
+     * built from this version of the code.  Otherwise, the archive built from the code is serialized to form
+     * the snapshot.
+     *
+     * @return populated open metadata archive object
+     */
+    private static synchronized OpenMetadataArchive loadSnapshot()
+    {
+        if (snapshot != null)
+        {
+            return getOpenMetadataArchive();
+        }
+
+        OpenMetadataArchive openMetadataArchive = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+
+        try
+        {
+            byte[] resourceSnapshot = readSnapshotResource();
+
+            if (resourceSnapshot == null)
+            {
+                log.debug("No open metadata types snapshot resource; using the types built in code");
+            }
+            else
+            {
+                String expectedFingerprint = getTypesFingerprint(openMetadataArchive);
+
+                checkSnapshotHeader(resourceSnapshot, expectedFingerprint);
+
+                if (! expectedFingerprint.equals(getTypesFingerprint(readSnapshot(resourceSnapshot))))
+                {
+                    throw new IOException("Open metadata types snapshot content does not match its fingerprint " + expectedFingerprint);
+                }
+
+                snapshot = resourceSnapshot;
+                return openMetadataArchive;
+            }
+        }
+        catch (IOException | ClassNotFoundException error)
+        {
+            log.warn("Open metadata types snapshot rejected; using the types built in code", error);
+        }
+
+        try
+        {
+            snapshot = writeSnapshot(openMetadataArchive);
+        }
+        catch (IOException error)
+        {
+            /*
+             * Without a snapshot, the next caller builds the archive from code again.
+             */
+            log.error("Unable to create the open metadata types snapshot", error);
+        }
+
+        return openMetadataArchive;
+    }
+
+
+    /**
+     * Return the contents of the snapshot resource packaged with this class.
+     *
+     * @return serialized archive with header or null if there is no snapshot resource
+     * @throws IOException the resource is not readable
+     */
+    static byte[] readSnapshotResource() throws IOException
+    {
+        try (InputStream resourceStream = OpenMetadataTypesSnapshot.class.getResourceAsStream(snapshotResourceName))
+        {
+            if (resourceStream != null)
+            {
+                return resourceStream.readAllBytes();
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Check that the header of a snapshot matches this code.
+     *
+     * @param snapshotBytes serialized archive with header
+     * @param expectedFingerprint fingerprint of the types built in code
+     * @throws IOException the header does not match this code or the snapshot is not readable
+     */
+    static void checkSnapshotHeader(byte[] snapshotBytes, String expectedFingerprint) throws IOException
+    {
+        try (DataInputStream snapshotStream = new DataInputStream(new ByteArrayInputStream(snapshotBytes)))
+        {
+            int    formatVersion  = snapshotStream.readInt();
+            String archiveVersion = snapshotStream.readUTF();
+            String fingerprint    = snapshotStream.readUTF();
+
+            if ((formatVersion != snapshotFormatVersion) || (! new OpenMetadataTypesArchive().getArchiveVersion().equals(archiveVersion)))
+            {
+                throw new IOException("Open metadata types snapshot version " + formatVersion + "/" + archiveVersion + " does not match this code");
+            }
+
+            if (! fingerprint.equals(expectedFingerprint))
+            {
+                throw new IOException("Open metadata types snapshot fingerprint " + fingerprint + " does not match the types in this code " + expectedFingerprint);
+            }
+        }
+    }
+
+
+    /**
+     * Deserialize an archive from a snapshot.
+     *
+     * @param snapshotBytes serialized archive with header
+     * @return archive
+     * @throws IOException the snapshot is not readable
+     * @throws ClassNotFoundException the snapshot refers to a class that is not available
+     */
+    static OpenMetadataArchive readSnapshot(byte[] snapshotBytes) throws IOException, ClassNotFoundException
+    {
+        try (DataInputStream snapshotStream = new DataInputStream(new ByteArrayInputStream(snapshotBytes)))
+        {
+            /*
+             * Skip the header.  It is checked when the snapshot is loaded.
+             */
+            snapshotStream.readInt();
+            snapshotStream.readUTF();
+            snapshotStream.readUTF();
+
+            try (ObjectInputStream objectStream = new ObjectInputStream(snapshotStream))
+            {
+                return (OpenMetadataArchive) objectStream.readObject();
+            }
+        }
+    }
+
+
+    /**
+     * Serialize an archive into a snapshot.
+     *
+     * @param openMetadataArchive archive built from code
+     * @return serialized archive with header
+     * @throws IOException the archive is not serializable
+     */
+    static byte[] writeSnapshot(OpenMetadataArchive openMetadataArchive) throws IOException
+    {
+        ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream snapshotStream = new DataOutputStream(snapshotBytes))
+        {
+            snapshotStream.writeInt(snapshotFormatVersion);
+            snapshotStream.writeUTF(new OpenMetadataTypesArchive().getArchiveVersion());
+            snapshotStream.writeUTF(getTypesFingerprint(openMetadataArchive));
+
+            try (ObjectOutputStream objectStream = new ObjectOutputStream(snapshotStream))
+            {
+                objectStream.writeObject(openMetadataArchive);
+            }
+        }
+
+        return snapshotBytes.toByteArray();
+    }
+
+
+    /**
+     * Calculate a fingerprint from the name, GUID and version of each type and type patch in an archive.
+     * The types are taken in the order they are stored in the archive since that is the order they are loaded.
+     *
+     * @param openMetadataArchive archive
+     * @return hex encoded SHA-256 digest
+     */
+    static String getTypesFingerprint(OpenMetadataArchive openMetadataArchive)
+    {
+        MessageDigest messageDigest;
+
+        try
+        {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException error)
+        {
+            /*
+             * Every Java platform supports SHA-256.
+             */
+            throw new IllegalStateException(error);
+        }
+
+        OpenMetadataArchiveTypeStore typeStore = openMetadataArchive.getArchiveTypeStore();
+
+        if (typeStore != null)
+        {
+            List<AttributeTypeDef> attributeTypeDefs = typeStore.getAttributeTypeDefs();
+            List<TypeDef>          newTypeDefs       = typeStore.getNewTypeDefs();
+            List<TypeDefPatch>     typeDefPatches    = typeStore.getTypeDefPatches();
+
+            if (attributeTypeDefs != null)
+            {
+                for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+                {
+                    updateFingerprint(messageDigest, "A", attributeTypeDef.getName(), attributeTypeDef.getGUID(), attributeTypeDef.getVersion());
+                }
+            }
+
+            if (newTypeDefs != null)
+            {
+                for (TypeDef typeDef : newTypeDefs)
+                {
+                    updateFingerprint(messageDigest, "T", typeDef.getName(), typeDef.getGUID(), typeDef.getVersion());
+                }
+            }
+
+            if (typeDefPatches != null)
+            {
+                for (TypeDefPatch typeDefPatch : typeDefPatches)
+                {
+                    updateFingerprint(messageDigest, "P", typeDefPatch.getTypeDefName(), typeDefPatch.getTypeDefGUID(), typeDefPatch.getUpdateToVersion());
+                }
+            }
+        }
+
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+
+    /**
+     * Add the identity of a type to the fingerprint.  Each value is terminated so that values that run
+     * together cannot produce the same digest.
+     *
+     * @param messageDigest digest being calculated
+     * @param kind kind of type
+     * @param name name of the type
+     * @param guid unique identifier of the type
+     * @param version version of the type
+     */
+    private static void updateFingerprint(MessageDigest messageDigest,
+                                          String        kind,
+                                          String        name,
+                                          String        guid,
+                                          long          version)
+    {
+        String identity = kind + '\u0000' + name + '\u0000' + guid + '\u0000' + version + '\n';
+
+        messageDigest.update(identity.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Write the snapshot file.  This is called by the build.
+     *
+     * @param args name of the file to write
+     * @throws IOException unable to write the file
+     */
+    public static void main(String[] args) throws IOException
+    {
+        File snapshotFile = new File(args[0]);
+
+        if ((snapshotFile.getParentFile() != null) && (! snapshotFile.getParentFile().exists()) && (! snapshotFile.getParentFile().mkdirs()))
+        {
+            throw new IOException("Unable to create folder for " + snapshotFile);
+        }
+
+        try (OutputStream fileStream = new FileOutputStream(snapshotFile))
+        {
+            fileStream.write(writeSnapshot(new OpenMetadataTypesArchive().getOpenMetadataArchive()));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.opentypes;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the open metadata types snapshot matches the archive built in code.
+ */
+public class TestOpenMetadataTypesSnapshot
+{
+    /**
+     * The snapshot packaged by the build is accepted and has the same types as the archive built in code.
+     *
+     * @throws Exception the snapshot is not readable
+     */
+    @Test
+    public void testSnapshotResourceMatchesCode() throws Exception
+    {
+        OpenMetadataArchive fromCode         = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        byte[]              resourceSnapshot = OpenMetadataTypesSnapshot.readSnapshotResource();
+
+        assertNotNull(resourceSnapshot, "The build did not package the open metadata types snapshot");
+
+        OpenMetadataTypesSnapshot.checkSnapshotHeader(resourceSnapshot, OpenMetadataTypesSnapshot.getTypesFingerprint(fromCode));
+
+        OpenMetadataArchive fromSnapshot = OpenMetadataTypesSnapshot.readSnapshot(resourceSnapshot);
+
+        OpenMetadataArchiveTypeStore codeTypes     = fromCode.getArchiveTypeStore();
+        OpenMetadataArchiveTypeStore snapshotTypes = fromSnapshot.getArchiveTypeStore();
+
+        List<AttributeTypeDef> codeAttributeTypeDefs     = codeTypes.getAttributeTypeDefs();
+        List<AttributeTypeDef> snapshotAttributeTypeDefs = snapshotTypes.getAttributeTypeDefs();
+
+        assertEquals(snapshotAttributeTypeDefs.size(), codeAttributeTypeDefs.size());
+
+        for (int index = 0; index < codeAttributeTypeDefs.size(); index++)
+        {
+            assertEquals(snapshotAttributeTypeDefs.get(index), codeAttributeTypeDefs.get(index), codeAttributeTypeDefs.get(index).getName());
+        }
+
+        List<TypeDef> codeTypeDefs     = codeTypes.getNewTypeDefs();
+        List<TypeDef> snapshotTypeDefs = snapshotTypes.getNewTypeDefs();
+
+        assertEquals(snapshotTypeDefs.size(), codeTypeDefs.size());
+
+        for (int index = 0; index < codeTypeDefs.size(); index++)
+        {
+            assertEquals(snapshotTypeDefs.get(index), codeTypeDefs.get(index), codeTypeDefs.get(index).getName());
+        }
+
+        List<TypeDefPatch> codeTypeDefPatches     = codeTypes.getTypeDefPatches();
+        List<TypeDefPatch> snapshotTypeDefPatches = snapshotTypes.getTypeDefPatches();
+
+        if (codeTypeDefPatches == null)
+        {
+            assertNull(snapshotTypeDefPatches);
+        }
+        else
+        {
+            assertEquals(snapshotTypeDefPatches.size(), codeTypeDefPatches.size());
+
+            for (int index = 0; index < codeTypeDefPatches.size(); index++)
+            {
+                assertEquals(snapshotTypeDefPatches.get(index), codeTypeDefPatches.get(index), codeTypeDefPatches.get(index).getTypeDefName());
+            }
+        }
+
+        assertEquals(fromSnapshot, fromCode);
+        assertEquals(OpenMetadataTypesSnapshot.getOpenMetadataArchive(), fromCode);
+    }
+
+
+    /**
+     * A snapshot of different types with the same archive version is rejected.
+     *
+     * @throws Exception the snapshot is not writable
+     */
+    @Test
+    public void testChangedTypesAreRejected() throws Exception
+    {
+        OpenMetadataArchive fromCode        = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        String              codeFingerprint = OpenMetadataTypesSnapshot.getTypesFingerprint(fromCode);
+
+        OpenMetadataArchive          changedTypes = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        OpenMetadataArchiveTypeStore typeStore    = changedTypes.getArchiveTypeStore();
+        List<TypeDef>                typeDefs     = typeStore.getNewTypeDefs();
+
+        typeDefs.get(0).setVersion(typeDefs.get(0).getVersion() + 1);
+        typeStore.setNewTypeDefs(typeDefs);
+        changedTypes.setArchiveTypeStore(typeStore);
+
+        byte[] changedSnapshot = OpenMetadataTypesSnapshot.writeSnapshot(changedTypes);
+
+        try
+        {
+            OpenMetadataTypesSnapshot.checkSnapshotHeader(changedSnapshot, codeFingerprint);
+            fail("Snapshot of changed types accepted");
+        }
+        catch (IOException expected)
+        {
+            // expected
+        }
+
+        OpenMetadataTypesSnapshot.checkSnapshotHeader(OpenMetadataTypesSnapshot.writeSnapshot(fromCode), codeFingerprint);
+    }
+
+
+    /**
+     * Each caller receives its own copy of the archive.
+     */
+    @Test
+    public void testSnapshotCopiesAreIndependent()
+    {
+        OpenMetadataArchive firstCopy  = OpenMetadataTypesSnapshot.getOpenMetadataArchive();
+        OpenMetadataArchive secondCopy = OpenMetadataTypesSnapshot.getOpenMetadataArchive();
+
+        assertNotSame(firstCopy, secondCopy);
+        assertNotSame(firstCopy.getArchiveTypeStore().getNewTypeDefs().get(0), secondCopy.getArchiveTypeStore().getNewTypeDefs().get(0));
+
+        firstCopy.getArchiveTypeStore().getNewTypeDefs().get(0).setDescription("Changed");
+
+        assertNotEquals(secondCopy.getArchiveTypeStore().getNewTypeDefs().get(0).getDescription(), "Changed");
+    }
+}